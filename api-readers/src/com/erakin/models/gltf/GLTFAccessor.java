@@ -0,0 +1,334 @@
+package com.erakin.models.gltf;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.resources.model.ModelException;
+
+/**
+ * <h1>Acessor glTF</h1>
+ *
+ * <p>Um acessor descreve como interpretar parte de uma visualização do buffer binário: quantos elementos
+ * existem, quantos componentes cada elemento possui, o tipo dos componentes e a distância entre elementos.
+ * Esse objeto mantém um trecho do buffer binário (sem copiá-lo) já limitado aos bytes do acessor.</p>
+ *
+ * <p>Quando os componentes já estão no formato esperado pelo OpenGL (flutuantes ou inteiros sem sinal de 32 bits),
+ * compactados (sem intervalo entre elementos) e o sistema usa a mesma ordem de bytes do glTF (little-endian),
+ * os dados são expostos diretamente como <code>FloatBuffer</code> ou <code>IntBuffer</code> sobre o próprio arquivo.
+ * Caso contrário os valores são convertidos para um novo buffer.</p>
+ *
+ * @see ModelReaderGLB
+ *
+ * @author Andrew
+ */
+
+public class GLTFAccessor
+{
+	/**
+	 * Tipo de componente inteiro de 8 bits com sinal.
+	 */
+	public static final int COMPONENT_BYTE = 5120;
+
+	/**
+	 * Tipo de componente inteiro de 8 bits sem sinal.
+	 */
+	public static final int COMPONENT_UNSIGNED_BYTE = 5121;
+
+	/**
+	 * Tipo de componente inteiro de 16 bits com sinal.
+	 */
+	public static final int COMPONENT_SHORT = 5122;
+
+	/**
+	 * Tipo de componente inteiro de 16 bits sem sinal.
+	 */
+	public static final int COMPONENT_UNSIGNED_SHORT = 5123;
+
+	/**
+	 * Tipo de componente inteiro de 32 bits sem sinal.
+	 */
+	public static final int COMPONENT_UNSIGNED_INT = 5125;
+
+	/**
+	 * Tipo de componente flutuante de 32 bits.
+	 */
+	public static final int COMPONENT_FLOAT = 5126;
+
+	/**
+	 * Trecho do buffer binário iniciado no primeiro elemento do acessor.
+	 */
+	private final ByteBuffer data;
+
+	/**
+	 * Quantidade de elementos do acessor.
+	 */
+	private final int count;
+
+	/**
+	 * Quantidade de componentes por elemento (1 para SCALAR, 2 para VEC2...).
+	 */
+	private final int components;
+
+	/**
+	 * Tipo dos componentes, ver constantes <code>COMPONENT_*</code>.
+	 */
+	private final int componentType;
+
+	/**
+	 * Componentes inteiros devem ser convertidos para o intervalo [0, 1] ou [-1, 1].
+	 */
+	private final boolean normalized;
+
+	/**
+	 * Distância em bytes entre o início de dois elementos consecutivos.
+	 */
+	private final int stride;
+
+	/**
+	 * Cria um novo acessor sobre um trecho do buffer binário, verificando se o trecho comporta todos os elementos.
+	 * @param view trecho do buffer binário referente a visualização do acessor (bufferView).
+	 * @param offset posição do primeiro elemento dentro da visualização (byteOffset do acessor).
+	 * @param count quantidade de elementos do acessor.
+	 * @param components quantidade de componentes por elemento.
+	 * @param componentType tipo dos componentes, ver constantes <code>COMPONENT_*</code>.
+	 * @param normalized componentes inteiros devem ser normalizados.
+	 * @param stride distância em bytes entre elementos ou zero se estiverem compactados.
+	 * @throws ModelException tipo de componente desconhecido ou elementos fora da visualização.
+	 */
+
+	public GLTFAccessor(ByteBuffer view, int offset, int count, int components, int componentType, boolean normalized, int stride) throws ModelException
+	{
+		if (components <= 0 || count < 0)
+			throw new ModelException("acessor inválido (count: %d, components: %d)", count, components);
+
+		int elementSize;
+
+		try {
+			elementSize = getComponentSize(componentType) * components;
+		} catch (IllegalArgumentException e) {
+			throw new ModelException(e.getMessage());
+		}
+
+		this.count = count;
+		this.components = components;
+		this.componentType = componentType;
+		this.normalized = normalized;
+		this.stride = stride == 0 ? elementSize : stride;
+
+		if (stride != 0 && stride < elementSize)
+			throw new ModelException("intervalo de elementos menor que o elemento (stride: %d, size: %d)", stride, elementSize);
+
+		long length = count == 0 ? 0 : (long) (count - 1) * this.stride + elementSize;
+
+		if (offset < 0 || offset + length > view.remaining())
+			throw new ModelException("acessor fora da visualização (offset: %d, length: %d, view: %d)", offset, length, view.remaining());
+
+		ByteBuffer data = view.duplicate();
+		data.position(view.position() + offset);
+		data.limit(view.position() + offset + (int) length);
+
+		this.data = data.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * @return aquisição da quantidade de elementos do acessor.
+	 */
+
+	public int getCount()
+	{
+		return count;
+	}
+
+	/**
+	 * @return aquisição da quantidade de componentes por elemento.
+	 */
+
+	public int getComponents()
+	{
+		return components;
+	}
+
+	/**
+	 * @return aquisição do tipo dos componentes, ver constantes <code>COMPONENT_*</code>.
+	 */
+
+	public int getComponentType()
+	{
+		return componentType;
+	}
+
+	/**
+	 * Os dados podem ser expostos diretamente quando não há intervalo entre elementos
+	 * e o sistema utiliza a mesma ordem de bytes do glTF.
+	 * @param componentType tipo de componente esperado.
+	 * @return true se os dados puderem ser usados sem conversão ou false caso contrário.
+	 */
+
+	private boolean isDirect(int componentType)
+	{
+		return this.componentType == componentType && stride == getComponentSize(componentType) * components && ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN && data.isDirect();
+	}
+
+	/**
+	 * Obtém os componentes do acessor como números flutuantes, usado pelos atributos dos vértices.
+	 * Componentes inteiros normalizados são convertidos para o intervalo [0, 1] ou [-1, 1].
+	 * @return aquisição de um buffer com os componentes do acessor, o próprio trecho do arquivo se possível.
+	 */
+
+	public FloatBuffer asFloatBuffer()
+	{
+		if (isDirect(COMPONENT_FLOAT))
+			return data.asFloatBuffer();
+
+		FloatBuffer buffer = BufferUtils.createFloatBuffer(count * components);
+
+		for (int i = 0; i < count; i++)
+			for (int c = 0; c < components; c++)
+				buffer.put(getFloat(i, c));
+
+		buffer.flip();
+
+		return buffer;
+	}
+
+	/**
+	 * Obtém os componentes do acessor como números inteiros, usado pelos índices.
+	 * Índices de 8 ou 16 bits são convertidos para 32 bits.
+	 * @return aquisição de um buffer com os componentes do acessor, o próprio trecho do arquivo se possível.
+	 */
+
+	public IntBuffer asIntBuffer()
+	{
+		if (isDirect(COMPONENT_UNSIGNED_INT))
+			return data.asIntBuffer();
+
+		IntBuffer buffer = BufferUtils.createIntBuffer(count * components);
+
+		for (int i = 0; i < count; i++)
+			for (int c = 0; c < components; c++)
+				buffer.put(getInt(i, c));
+
+		buffer.flip();
+
+		return buffer;
+	}
+
+	/**
+	 * Obtém um componente de um elemento como número inteiro, sem normalização.
+	 * @param index índice do elemento.
+	 * @param component índice do componente no elemento.
+	 * @return aquisição do valor do componente.
+	 */
+
+	public int getInt(int index, int component)
+	{
+		int offset = index * stride + component * getComponentSize(componentType);
+
+		switch (componentType)
+		{
+			case COMPONENT_BYTE: return data.get(offset);
+			case COMPONENT_UNSIGNED_BYTE: return data.get(offset) & 0xFF;
+			case COMPONENT_SHORT: return data.getShort(offset);
+			case COMPONENT_UNSIGNED_SHORT: return data.getShort(offset) & 0xFFFF;
+			case COMPONENT_FLOAT: return (int) data.getFloat(offset);
+		}
+
+		return data.getInt(offset);
+	}
+
+	/**
+	 * Obtém um componente de um elemento como número flutuante, normalizando se necessário.
+	 * @param index índice do elemento.
+	 * @param component índice do componente no elemento.
+	 * @return aquisição do valor do componente.
+	 */
+
+	public float getFloat(int index, int component)
+	{
+		if (componentType == COMPONENT_FLOAT)
+			return data.getFloat(index * stride + component * Float.BYTES);
+
+		int value = getInt(index, component);
+
+		if (!normalized)
+			return componentType == COMPONENT_UNSIGNED_INT ? value & 0xFFFFFFFFL : value;
+
+		switch (componentType)
+		{
+			case COMPONENT_BYTE: return Math.max(value / 127f, -1f);
+			case COMPONENT_UNSIGNED_BYTE: return value / 255f;
+			case COMPONENT_SHORT: return Math.max(value / 32767f, -1f);
+			case COMPONENT_UNSIGNED_SHORT: return value / 65535f;
+		}
+
+		return (value & 0xFFFFFFFFL) / 4294967295f;
+	}
+
+	/**
+	 * Determina quantos bytes ocupa cada componente de acordo com o seu tipo.
+	 * @param componentType tipo do componente, ver constantes <code>COMPONENT_*</code>.
+	 * @return aquisição do tamanho do componente em bytes.
+	 * @throws IllegalArgumentException tipo de componente desconhecido.
+	 */
+
+	public static int getComponentSize(int componentType)
+	{
+		switch (componentType)
+		{
+			case COMPONENT_BYTE:
+			case COMPONENT_UNSIGNED_BYTE:
+				return 1;
+
+			case COMPONENT_SHORT:
+			case COMPONENT_UNSIGNED_SHORT:
+				return 2;
+
+			case COMPONENT_UNSIGNED_INT:
+			case COMPONENT_FLOAT:
+				return 4;
+		}
+
+		throw new IllegalArgumentException("tipo de componente desconhecido: " + componentType);
+	}
+
+	/**
+	 * Determina quantos componentes possui cada elemento de acordo com o tipo do acessor.
+	 * @param type tipo do acessor (SCALAR, VEC2, VEC3, VEC4, MAT2, MAT3 ou MAT4).
+	 * @return aquisição da quantidade de componentes ou zero se o tipo for desconhecido.
+	 */
+
+	public static int getComponents(String type)
+	{
+		switch (type == null ? "" : type)
+		{
+			case "SCALAR": return 1;
+			case "VEC2": return 2;
+			case "VEC3": return 3;
+			case "VEC4": return 4;
+			case "MAT2": return 4;
+			case "MAT3": return 9;
+			case "MAT4": return 16;
+		}
+
+		return 0;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("count", count);
+		description.append("components", components);
+		description.append("componentType", componentType);
+		description.append("normalized", normalized);
+		description.append("stride", stride);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,427 @@
+package com.erakin.models.gltf;
+
+import org.diverproject.util.collection.List;
+import org.diverproject.util.collection.Map;
+import org.diverproject.util.collection.abstraction.DynamicList;
+import org.diverproject.util.collection.abstraction.StringSimpleMap;
+
+import com.erakin.api.resources.model.ModelException;
+
+/**
+ * <h1>Analisador JSON do glTF</h1>
+ *
+ * <p>Analisador simples para o conteúdo JSON de um arquivo glTF, que descreve as malhas, os acessores e as
+ * visualizações do buffer binário. Como esse conteúdo é pequeno em relação aos dados binários, é convertido
+ * por completo em objetos: mapas para objetos, listas para vetores, <code>Double</code> para números,
+ * <code>String</code>, <code>Boolean</code> e <code>null</code>.</p>
+ *
+ * <p>Também possui procedimentos estáticos para obter as propriedades de um objeto já verificando o tipo,
+ * de modo que propriedades com tipos inesperados resultem em <code>ModelException</code>.</p>
+ *
+ * @see ModelReaderGLB
+ *
+ * @author Andrew
+ */
+
+public class GLTFJson
+{
+	/**
+	 * Conteúdo JSON que está sendo analisado.
+	 */
+	private final String content;
+
+	/**
+	 * Posição do próximo caractere a ser analisado.
+	 */
+	private int offset;
+
+	/**
+	 * Cria um novo analisador para um conteúdo JSON.
+	 * @param content conteúdo JSON que será analisado.
+	 */
+
+	private GLTFJson(String content)
+	{
+		this.content = content;
+	}
+
+	/**
+	 * Analisa um conteúdo JSON por completo, não pode haver nada além de espaços após o valor.
+	 * @param content conteúdo JSON que será analisado.
+	 * @return aquisição do valor analisado.
+	 * @throws ModelException conteúdo JSON inválido.
+	 */
+
+	public static Object parse(String content) throws ModelException
+	{
+		GLTFJson json = new GLTFJson(content);
+		Object value = json.parseValue();
+		json.skipSpaces();
+
+		if (json.offset != content.length())
+			throw new ModelException("conteúdo inesperado no JSON (offset: %d)", json.offset);
+
+		return value;
+	}
+
+	/**
+	 * Analisa um conteúdo JSON por completo, onde o valor deve ser um objeto (raíz de um documento glTF).
+	 * @param content conteúdo JSON que será analisado.
+	 * @return aquisição do mapa contendo as propriedades do objeto.
+	 * @throws ModelException conteúdo JSON inválido ou não é um objeto.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> parseObject(String content) throws ModelException
+	{
+		Object value = parse(content);
+
+		if (!(value instanceof Map))
+			throw new ModelException("JSON deveria ser um objeto");
+
+		return (Map<String, Object>) value;
+	}
+
+	/**
+	 * Analisa o próximo valor de acordo com o seu primeiro caractere.
+	 * @return aquisição do valor analisado.
+	 * @throws ModelException valor inválido.
+	 */
+
+	private Object parseValue() throws ModelException
+	{
+		skipSpaces();
+
+		if (offset >= content.length())
+			throw new ModelException("fim inesperado do JSON");
+
+		switch (content.charAt(offset))
+		{
+			case '{': return parseObject();
+			case '[': return parseArray();
+			case '"': return parseString();
+			case 't': return parseLiteral("true", Boolean.TRUE);
+			case 'f': return parseLiteral("false", Boolean.FALSE);
+			case 'n': return parseLiteral("null", null);
+		}
+
+		return parseNumber();
+	}
+
+	/**
+	 * Analisa um objeto JSON, propriedades repetidas mantém o primeiro valor.
+	 * @return aquisição do mapa contendo as propriedades do objeto.
+	 * @throws ModelException objeto inválido.
+	 */
+
+	private Map<String, Object> parseObject() throws ModelException
+	{
+		Map<String, Object> object = new StringSimpleMap<Object>();
+
+		offset++;
+		skipSpaces();
+
+		if (next('}'))
+			return object;
+
+		do {
+
+			skipSpaces();
+
+			if (offset >= content.length() || content.charAt(offset) != '"')
+				throw new ModelException("nome de propriedade esperado no JSON (offset: %d)", offset);
+
+			String key = parseString();
+			skipSpaces();
+
+			if (!next(':'))
+				throw new ModelException("':' esperado no JSON (offset: %d)", offset);
+
+			Object value = parseValue();
+
+			if (value != null)
+				object.add(key, value);
+
+			skipSpaces();
+
+		} while (next(','));
+
+		if (!next('}'))
+			throw new ModelException("'}' esperado no JSON (offset: %d)", offset);
+
+		return object;
+	}
+
+	/**
+	 * Analisa um vetor JSON.
+	 * @return aquisição da lista contendo os valores do vetor.
+	 * @throws ModelException vetor inválido.
+	 */
+
+	private List<Object> parseArray() throws ModelException
+	{
+		List<Object> array = new DynamicList<Object>();
+
+		offset++;
+		skipSpaces();
+
+		if (next(']'))
+			return array;
+
+		do {
+
+			array.add(parseValue());
+			skipSpaces();
+
+		} while (next(','));
+
+		if (!next(']'))
+			throw new ModelException("']' esperado no JSON (offset: %d)", offset);
+
+		return array;
+	}
+
+	/**
+	 * Analisa uma string JSON, incluindo os caracteres de escape.
+	 * @return aquisição da string analisada.
+	 * @throws ModelException string inválida ou não terminada.
+	 */
+
+	private String parseString() throws ModelException
+	{
+		StringBuilder builder = new StringBuilder();
+
+		for (offset++; offset < content.length(); offset++)
+		{
+			char c = content.charAt(offset);
+
+			if (c == '"')
+			{
+				offset++;
+				return builder.toString();
+			}
+
+			if (c != '\\')
+			{
+				builder.append(c);
+				continue;
+			}
+
+			if (++offset >= content.length())
+				break;
+
+			switch (c = content.charAt(offset))
+			{
+				case 'b': builder.append('\b'); break;
+				case 'f': builder.append('\f'); break;
+				case 'n': builder.append('\n'); break;
+				case 'r': builder.append('\r'); break;
+				case 't': builder.append('\t'); break;
+
+				case 'u':
+					if (offset + 4 >= content.length())
+						throw new ModelException("escape inválido no JSON (offset: %d)", offset);
+
+					try {
+						builder.append((char) Integer.parseInt(content.substring(offset + 1, offset + 5), 16));
+					} catch (NumberFormatException e) {
+						throw new ModelException("escape inválido no JSON (offset: %d)", offset);
+					}
+
+					offset += 4;
+					break;
+
+				default:
+					builder.append(c);
+			}
+		}
+
+		throw new ModelException("string não terminada no JSON");
+	}
+
+	/**
+	 * Analisa um número JSON, sempre convertido para <code>Double</code>.
+	 * @return aquisição do número analisado.
+	 * @throws ModelException número inválido.
+	 */
+
+	private Double parseNumber() throws ModelException
+	{
+		int start = offset;
+
+		while (offset < content.length() && "+-0123456789.eE".indexOf(content.charAt(offset)) != -1)
+			offset++;
+
+		try {
+			return Double.valueOf(content.substring(start, offset));
+		} catch (NumberFormatException e) {
+			throw new ModelException("valor inválido no JSON (offset: %d)", start);
+		}
+	}
+
+	/**
+	 * Analisa um valor literal do JSON (true, false ou null).
+	 * @param literal texto esperado do literal.
+	 * @param value valor que o literal representa.
+	 * @return aquisição do valor que o literal representa.
+	 * @throws ModelException literal diferente do esperado.
+	 */
+
+	private Object parseLiteral(String literal, Object value) throws ModelException
+	{
+		if (!content.startsWith(literal, offset))
+			throw new ModelException("valor inválido no JSON (offset: %d)", offset);
+
+		offset += literal.length();
+
+		return value;
+	}
+
+	/**
+	 * Consome um caractere se este for o próximo no conteúdo.
+	 * @param c caractere esperado.
+	 * @return true se o caractere foi consumido ou false caso contrário.
+	 */
+
+	private boolean next(char c)
+	{
+		if (offset < content.length() && content.charAt(offset) == c)
+		{
+			offset++;
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Avança enquanto houver espaços, tabulações ou quebras de linha.
+	 */
+
+	private void skipSpaces()
+	{
+		while (offset < content.length() && Character.isWhitespace(content.charAt(offset)))
+			offset++;
+	}
+
+	/**
+	 * Obtém uma propriedade do tipo objeto.
+	 * @param object objeto do qual a propriedade será obtida.
+	 * @param key nome da propriedade.
+	 * @return aquisição do objeto ou null se a propriedade não existir.
+	 * @throws ModelException propriedade não é um objeto.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> getObject(Map<String, Object> object, String key) throws ModelException
+	{
+		Object value = object.get(key);
+
+		if (value != null && !(value instanceof Map))
+			throw new ModelException("propriedade '%s' deveria ser um objeto", key);
+
+		return (Map<String, Object>) value;
+	}
+
+	/**
+	 * Obtém um elemento do tipo objeto de uma propriedade do tipo vetor.
+	 * @param object objeto do qual a propriedade será obtida.
+	 * @param key nome da propriedade.
+	 * @param index índice do elemento no vetor.
+	 * @return aquisição do objeto no índice especificado.
+	 * @throws ModelException propriedade não é um vetor, ou elemento não existe ou não é um objeto.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> getObject(Map<String, Object> object, String key, int index) throws ModelException
+	{
+		List<Object> array = getArray(object, key);
+		Object value = array == null || index < 0 || index >= array.size() ? null : array.get(index);
+
+		if (!(value instanceof Map))
+			throw new ModelException("elemento %s[%d] não encontrado", key, index);
+
+		return (Map<String, Object>) value;
+	}
+
+	/**
+	 * Obtém uma propriedade do tipo vetor.
+	 * @param object objeto do qual a propriedade será obtida.
+	 * @param key nome da propriedade.
+	 * @return aquisição da lista com os valores ou null se a propriedade não existir.
+	 * @throws ModelException propriedade não é um vetor.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public static List<Object> getArray(Map<String, Object> object, String key) throws ModelException
+	{
+		Object value = object.get(key);
+
+		if (value != null && !(value instanceof List))
+			throw new ModelException("propriedade '%s' deveria ser um vetor", key);
+
+		return (List<Object>) value;
+	}
+
+	/**
+	 * Obtém uma propriedade do tipo string.
+	 * @param object objeto do qual a propriedade será obtida.
+	 * @param key nome da propriedade.
+	 * @return aquisição da string ou null se a propriedade não existir.
+	 * @throws ModelException propriedade não é uma string.
+	 */
+
+	public static String getString(Map<String, Object> object, String key) throws ModelException
+	{
+		Object value = object.get(key);
+
+		if (value != null && !(value instanceof String))
+			throw new ModelException("propriedade '%s' deveria ser uma string", key);
+
+		return (String) value;
+	}
+
+	/**
+	 * Obtém uma propriedade do tipo número inteiro.
+	 * @param object objeto do qual a propriedade será obtida.
+	 * @param key nome da propriedade.
+	 * @param defaultValue valor considerado caso a propriedade não exista.
+	 * @return aquisição do número inteiro.
+	 * @throws ModelException propriedade não é um número inteiro positivo ou zero.
+	 */
+
+	public static int getInt(Map<String, Object> object, String key, int defaultValue) throws ModelException
+	{
+		Object value = object.get(key);
+
+		if (value == null)
+			return defaultValue;
+
+		if (!(value instanceof Double) || (Double) value < 0 || (Double) value > Integer.MAX_VALUE || (Double) value % 1 != 0)
+			throw new ModelException("propriedade '%s' deveria ser um número inteiro", key);
+
+		return ((Double) value).intValue();
+	}
+
+	/**
+	 * Obtém uma propriedade do tipo booleano.
+	 * @param object objeto do qual a propriedade será obtida.
+	 * @param key nome da propriedade.
+	 * @param defaultValue valor considerado caso a propriedade não exista.
+	 * @return aquisição do valor booleano.
+	 * @throws ModelException propriedade não é um valor booleano.
+	 */
+
+	public static boolean getBoolean(Map<String, Object> object, String key, boolean defaultValue) throws ModelException
+	{
+		Object value = object.get(key);
+
+		if (value == null)
+			return defaultValue;
+
+		if (!(value instanceof Boolean))
+			throw new ModelException("propriedade '%s' deveria ser um booleano", key);
+
+		return (Boolean) value;
+	}
+}
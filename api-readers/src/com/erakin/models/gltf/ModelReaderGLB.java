@@ -0,0 +1,395 @@
+package com.erakin.models.gltf;
+
+import static com.erakin.models.gltf.GLTFJson.getArray;
+import static com.erakin.models.gltf.GLTFJson.getBoolean;
+import static com.erakin.models.gltf.GLTFJson.getInt;
+import static com.erakin.models.gltf.GLTFJson.getObject;
+import static com.erakin.models.gltf.GLTFJson.getString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.diverproject.util.collection.List;
+import org.diverproject.util.collection.Map;
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.resources.model.ModelDataDefault;
+import com.erakin.api.resources.model.ModelException;
+import com.erakin.api.resources.model.ModelReaderDefault;
+
+/**
+ * <h1>Leitor de Modelagem GLB</h1>
+ *
+ * <p>Lê modelagens no formato glTF 2.0 binário (.glb), composto por um cabeçalho, um trecho JSON descrevendo
+ * a cena e um trecho binário com os dados dos vértices e índices. Os bytes do arquivo são lidos de uma só vez
+ * em um buffer direto e os atributos são expostos como <code>FloatBuffer</code> e <code>IntBuffer</code> sobre o
+ * próprio trecho binário, de modo que os atributos da modelagem apenas envolvem esses trechos sem copiar valores.</p>
+ *
+ * <p>É lida a primeira malha do arquivo (posição, coordenada de textura 0 e normal), apenas com primitivas
+ * de triângulos. Uma malha com uma única primitiva é exposta sem cópias (se os tipos permitirem), enquanto
+ * malhas com várias primitivas são juntadas em novos buffers. Transformações dos nós, materiais, animações
+ * e buffers externos (uri) não são considerados.</p>
+ *
+ * @see ModelReaderDefault
+ * @see GLTFAccessor
+ * @see GLTFJson
+ *
+ * @author Andrew
+ */
+
+public class ModelReaderGLB extends ModelReaderDefault
+{
+	/**
+	 * Extensão dos arquivos que utilizarão este reader.
+	 */
+	public static final String FILE_EXTENSION = "glb";
+
+	/**
+	 * Código de identificação dos arquivos GLB ("glTF").
+	 */
+	private static final int MAGIC = 0x46546C67;
+
+	/**
+	 * Versão do formato glTF suportada.
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * Tipo do trecho contendo o JSON ("JSON").
+	 */
+	private static final int CHUNK_JSON = 0x4E4F534A;
+
+	/**
+	 * Tipo do trecho contendo os dados binários ("BIN").
+	 */
+	private static final int CHUNK_BIN = 0x004E4942;
+
+	/**
+	 * Modo de primitiva para triângulos.
+	 */
+	private static final int MODE_TRIANGLES = 4;
+
+	/**
+	 * Objeto raíz do JSON do arquivo que está sendo lido.
+	 */
+	private Map<String, Object> document;
+
+	/**
+	 * Trecho binário do arquivo que está sendo lido.
+	 */
+	private ByteBuffer binary;
+
+	@Override
+	public ModelDataDefault readModel(InputStream stream) throws ModelException
+	{
+		ModelDataDefault model = new ModelDataDefault();
+
+		try {
+
+			ByteBuffer file = readDirect(stream);
+			readChunks(file);
+
+			Map<String, Object> mesh = getObject(document, "meshes", 0);
+			List<Object> primitives = getArray(mesh, "primitives");
+
+			if (primitives == null || primitives.size() == 0)
+				throw new ModelException("malha sem primitivas");
+
+			if (primitives.size() == 1)
+				readPrimitive(model, getObject(mesh, "primitives", 0));
+			else
+				readPrimitives(model, mesh, primitives.size());
+
+		} catch (IOException e) {
+			throw new ModelException(e);
+		} finally {
+			document = null;
+			binary = null;
+		}
+
+		return model;
+	}
+
+	/**
+	 * Lê o cabeçalho e os trechos do arquivo, analisando o JSON e separando o trecho binário.
+	 * @param file buffer com todos os bytes do arquivo.
+	 * @throws ModelException cabeçalho inválido, trecho fora do arquivo ou JSON inválido.
+	 */
+
+	private void readChunks(ByteBuffer file) throws ModelException
+	{
+		if (file.remaining() < 12 || file.getInt(0) != MAGIC)
+			throw new ModelException("arquivo GLB inválido");
+
+		if (file.getInt(4) != VERSION)
+			throw new ModelException("versão glTF não suportada (version: %d)", file.getInt(4));
+
+		int length = Math.min(file.getInt(8), file.remaining());
+
+		for (int offset = 12; offset + 8 <= length; )
+		{
+			int chunkLength = file.getInt(offset);
+			int chunkType = file.getInt(offset + 4);
+
+			if (chunkLength < 0 || offset + 8 + chunkLength > length)
+				throw new ModelException("trecho fora do arquivo (offset: %d, length: %d)", offset, chunkLength);
+
+			ByteBuffer chunk = file.duplicate();
+			chunk.position(offset + 8);
+			chunk.limit(offset + 8 + chunkLength);
+
+			if (chunkType == CHUNK_JSON && document == null)
+			{
+				byte json[] = new byte[chunkLength];
+				chunk.get(json);
+
+				document = GLTFJson.parseObject(new String(json, StandardCharsets.UTF_8));
+			}
+
+			else if (chunkType == CHUNK_BIN && binary == null)
+				binary = chunk.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+			offset += 8 + ((chunkLength + 3) & ~3);
+		}
+
+		if (document == null)
+			throw new ModelException("trecho JSON não encontrado");
+	}
+
+	/**
+	 * Lê uma única primitiva, expondo os atributos e índices diretamente sobre o trecho binário se possível.
+	 * Primitivas sem índices recebem índices sequenciais, um para cada vértice.
+	 * @param model dados do modelo que receberão os atributos e índices.
+	 * @param primitive objeto JSON da primitiva.
+	 * @throws ModelException primitiva inválida ou não é de triângulos.
+	 */
+
+	private void readPrimitive(ModelDataDefault model, Map<String, Object> primitive) throws ModelException
+	{
+		Map<String, Object> attributes = getPrimitiveAttributes(primitive);
+		GLTFAccessor position = getAccessor(getInt(attributes, "POSITION", -1));
+		GLTFAccessor uvTexture = getAccessor(getInt(attributes, "TEXCOORD_0", -1));
+		GLTFAccessor normal = getAccessor(getInt(attributes, "NORMAL", -1));
+		GLTFAccessor indices = getAccessor(getInt(primitive, "indices", -1));
+
+		checkAttributes(position, uvTexture, normal);
+
+		model.initVertices(position.getComponents(), position.asFloatBuffer());
+
+		if (uvTexture != null)
+			model.initUVTextures(uvTexture.getComponents(), uvTexture.asFloatBuffer());
+
+		if (normal != null)
+			model.initNormals(normal.getComponents(), normal.asFloatBuffer());
+
+		if (indices != null)
+			model.initIndexes(indices.asIntBuffer());
+
+		else
+		{
+			IntBuffer buffer = BufferUtils.createIntBuffer(position.getCount());
+
+			for (int i = 0; i < position.getCount(); i++)
+				buffer.put(i);
+
+			buffer.flip();
+			model.initIndexes(buffer);
+		}
+	}
+
+	/**
+	 * Lê todas as primitivas de uma malha, juntando os atributos e os índices em novos buffers.
+	 * Atributos ausentes em apenas algumas das primitivas ficam zerados nos vértices destas.
+	 * @param model dados do modelo que receberão os atributos e índices.
+	 * @param mesh objeto JSON da malha.
+	 * @param count quantidade de primitivas da malha.
+	 * @throws ModelException alguma das primitivas é inválida ou não é de triângulos.
+	 */
+
+	private void readPrimitives(ModelDataDefault model, Map<String, Object> mesh, int count) throws ModelException
+	{
+		GLTFAccessor positions[] = new GLTFAccessor[count];
+		GLTFAccessor uvTextures[] = new GLTFAccessor[count];
+		GLTFAccessor normals[] = new GLTFAccessor[count];
+		GLTFAccessor indices[] = new GLTFAccessor[count];
+
+		int vertexCount = 0;
+		int indiceCount = 0;
+		boolean hasUVTexture = false;
+		boolean hasNormal = false;
+
+		for (int i = 0; i < count; i++)
+		{
+			Map<String, Object> primitive = getObject(mesh, "primitives", i);
+			Map<String, Object> attributes = getPrimitiveAttributes(primitive);
+
+			positions[i] = getAccessor(getInt(attributes, "POSITION", -1));
+			uvTextures[i] = getAccessor(getInt(attributes, "TEXCOORD_0", -1));
+			normals[i] = getAccessor(getInt(attributes, "NORMAL", -1));
+			indices[i] = getAccessor(getInt(primitive, "indices", -1));
+
+			checkAttributes(positions[i], uvTextures[i], normals[i]);
+
+			if (positions[i].getComponents() != positions[0].getComponents())
+				throw new ModelException("primitivas com posições de tamanhos diferentes");
+
+			vertexCount += positions[i].getCount();
+			indiceCount += indices[i] == null ? positions[i].getCount() : indices[i].getCount();
+			hasUVTexture |= uvTextures[i] != null;
+			hasNormal |= normals[i] != null;
+		}
+
+		FloatBuffer vertexBuffer = BufferUtils.createFloatBuffer(vertexCount * positions[0].getComponents());
+		FloatBuffer uvBuffer = hasUVTexture ? BufferUtils.createFloatBuffer(vertexCount * 2) : null;
+		FloatBuffer normalBuffer = hasNormal ? BufferUtils.createFloatBuffer(vertexCount * 3) : null;
+		IntBuffer indiceBuffer = BufferUtils.createIntBuffer(indiceCount);
+
+		for (int i = 0, base = 0; i < count; base += positions[i].getCount(), i++)
+		{
+			int length = positions[i].getCount();
+
+			vertexBuffer.put(positions[i].asFloatBuffer());
+
+			if (uvBuffer != null)
+				put(uvBuffer, uvTextures[i], length * 2);
+
+			if (normalBuffer != null)
+				put(normalBuffer, normals[i], length * 3);
+
+			if (indices[i] == null)
+				for (int j = 0; j < length; j++)
+					indiceBuffer.put(base + j);
+
+			else
+			{
+				IntBuffer source = indices[i].asIntBuffer();
+
+				while (source.hasRemaining())
+					indiceBuffer.put(base + source.get());
+			}
+		}
+
+		vertexBuffer.flip();
+		indiceBuffer.flip();
+
+		model.initVertices(positions[0].getComponents(), vertexBuffer);
+		model.initIndexes(indiceBuffer);
+
+		if (uvBuffer != null)
+		{
+			uvBuffer.flip();
+			model.initUVTextures(2, uvBuffer);
+		}
+
+		if (normalBuffer != null)
+		{
+			normalBuffer.flip();
+			model.initNormals(3, normalBuffer);
+		}
+	}
+
+	/**
+	 * Copia os valores de um acessor para o final de um buffer, ou avança o buffer se não houver acessor.
+	 * @param buffer buffer que irá receber os valores.
+	 * @param accessor acessor com os valores ou null se a primitiva não possuir o atributo.
+	 * @param length quantidade de valores ocupados pela primitiva no buffer.
+	 */
+
+	private void put(FloatBuffer buffer, GLTFAccessor accessor, int length)
+	{
+		if (accessor == null)
+			buffer.position(buffer.position() + length);
+		else
+			buffer.put(accessor.asFloatBuffer());
+	}
+
+	/**
+	 * Verifica o modo de uma primitiva e obtém o objeto com os seus atributos.
+	 * @param primitive objeto JSON da primitiva.
+	 * @return aquisição do objeto JSON com os índices dos acessores de cada atributo.
+	 * @throws ModelException primitiva não é de triângulos ou não possui atributos.
+	 */
+
+	private Map<String, Object> getPrimitiveAttributes(Map<String, Object> primitive) throws ModelException
+	{
+		int mode = getInt(primitive, "mode", MODE_TRIANGLES);
+
+		if (mode != MODE_TRIANGLES)
+			throw new ModelException("modo de primitiva não suportado (mode: %d)", mode);
+
+		Map<String, Object> attributes = getObject(primitive, "attributes");
+
+		if (attributes == null)
+			throw new ModelException("primitiva sem atributos");
+
+		return attributes;
+	}
+
+	/**
+	 * Verifica se os acessores dos atributos de uma primitiva são coerentes entre si.
+	 * @param position acessor das posições dos vértices.
+	 * @param uvTexture acessor das coordenadas de textura ou null se não houver.
+	 * @param normal acessor das normais ou null se não houver.
+	 * @throws ModelException posição ausente, tamanhos inválidos ou quantidade de elementos diferentes.
+	 */
+
+	private void checkAttributes(GLTFAccessor position, GLTFAccessor uvTexture, GLTFAccessor normal) throws ModelException
+	{
+		if (position == null)
+			throw new ModelException("primitiva sem posição dos vértices");
+
+		if (uvTexture != null && (uvTexture.getComponents() != 2 || uvTexture.getCount() != position.getCount()))
+			throw new ModelException("coordenadas de textura incompatíveis com os vértices");
+
+		if (normal != null && (normal.getComponents() != 3 || normal.getCount() != position.getCount()))
+			throw new ModelException("normais incompatíveis com os vértices");
+	}
+
+	/**
+	 * Cria um acessor a partir do seu índice, localizando a visualização e o trecho do buffer binário.
+	 * @param index índice do acessor no JSON ou -1 se o atributo não existir.
+	 * @return aquisição do acessor ou null se o índice for -1.
+	 * @throws ModelException acessor, visualização ou buffer inválidos ou não suportados.
+	 */
+
+	private GLTFAccessor getAccessor(int index) throws ModelException
+	{
+		if (index == -1)
+			return null;
+
+		Map<String, Object> accessor = getObject(document, "accessors", index);
+
+		if (accessor.containsKey("sparse"))
+			throw new ModelException("acessor esparso não suportado (accessor: %d)", index);
+
+		int viewIndex = getInt(accessor, "bufferView", -1);
+
+		if (viewIndex == -1)
+			throw new ModelException("acessor sem visualização não suportado (accessor: %d)", index);
+
+		Map<String, Object> view = getObject(document, "bufferViews", viewIndex);
+		Map<String, Object> buffer = getObject(document, "buffers", getInt(view, "buffer", 0));
+
+		if (getString(buffer, "uri") != null || binary == null)
+			throw new ModelException("buffer externo não suportado (bufferView: %d)", viewIndex);
+
+		int viewOffset = getInt(view, "byteOffset", 0);
+		int viewLength = getInt(view, "byteLength", 0);
+
+		if ((long) viewOffset + viewLength > binary.remaining())
+			throw new ModelException("visualização fora do buffer (bufferView: %d)", viewIndex);
+
+		ByteBuffer bytes = binary.duplicate();
+		bytes.position(viewOffset);
+		bytes.limit(viewOffset + viewLength);
+
+		return new GLTFAccessor(bytes.slice(), getInt(accessor, "byteOffset", 0), getInt(accessor, "count", 0),
+				GLTFAccessor.getComponents(getString(accessor, "type")), getInt(accessor, "componentType", 0),
+				getBoolean(accessor, "normalized", false), getInt(view, "byteStride", 0));
+	}
+}
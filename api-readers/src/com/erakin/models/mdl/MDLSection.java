@@ -0,0 +1,187 @@
+package com.erakin.models.mdl;
+
+import java.nio.ByteBuffer;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * <h1>Seção do MDL</h1>
+ *
+ * <p>Descrição de uma seção de dados de um arquivo MDL a partir da versão 2, armazenada na tabela de seções
+ * logo após o cabeçalho. Cada seção contém os valores de um atributo (posições, coordenadas UV, normais)
+ * ou os índices da modelagem, com o tipo OpenGL dos valores, a posição no arquivo e a compactação usada.</p>
+ *
+ * <p>Cada entrada da tabela ocupa <code>BYTES</code> bytes em little-endian:</p>
+ *
+ * <p><b>attribute</b> (1 byte): índice do atributo ou <code>INDICES</code> para os índices;<br>
+ * <b>size</b> (1 byte): quantidade de valores por vértice;<br>
+ * <b>normalized</b> (1 byte): valores inteiros devem ser normalizados pelo OpenGL;<br>
+ * <b>compression</b> (1 byte): compactação dos dados no arquivo;<br>
+ * <b>type</b> (4 bytes): tipo de dado OpenGL dos valores;<br>
+ * <b>count</b> (4 bytes): quantidade de vértices ou de índices;<br>
+ * <b>stride</b> (4 bytes): quantidade de bytes de cada vértice ou índice;<br>
+ * <b>offset</b> (4 bytes): posição dos dados a partir do início do arquivo, alinhada em <code>ALIGNMENT</code> bytes;<br>
+ * <b>length</b> (4 bytes): quantidade de bytes dos dados no arquivo, após a compactação.</p>
+ *
+ * <p>A partir da versão 2.1 as posições quantizadas possuem ao final dos seus dados o deslocamento e a escala
+ * usados na quantização (<code>QUANTIZATION_BYTES</code> bytes), que não dependem dos limites do cabeçalho.</p>
+ *
+ * @see ModelReaderMDL
+ * @see ModelWriterMDL
+ *
+ * @author Andrew
+ */
+
+public class MDLSection
+{
+	/**
+	 * Quantidade de bytes de cada entrada na tabela de seções.
+	 */
+	public static final int BYTES = 24;
+
+	/**
+	 * Alinhamento em bytes da posição dos dados de cada seção.
+	 */
+	public static final int ALIGNMENT = 4;
+
+	/**
+	 * Índice de atributo usado pela seção que contém os índices da modelagem.
+	 */
+	public static final int INDICES = 0xFF;
+
+	/**
+	 * Dados armazenados sem compactação, podem ser usados diretamente sobre o buffer do arquivo.
+	 */
+	public static final int COMPRESSION_NONE = 0;
+
+	/**
+	 * Dados compactados pelo algoritmo deflate (zlib).
+	 */
+	public static final int COMPRESSION_DEFLATE = 1;
+
+	/**
+	 * Quantidade de bytes do deslocamento e da escala ao final dos dados das posições quantizadas.
+	 */
+	public static final int QUANTIZATION_BYTES = 6 * Float.BYTES;
+
+	/**
+	 * Índice do atributo ou <code>INDICES</code> para os índices.
+	 */
+	int attribute;
+
+	/**
+	 * Quantidade de valores por vértice.
+	 */
+	int size;
+
+	/**
+	 * Valores inteiros devem ser normalizados pelo OpenGL.
+	 */
+	boolean normalized;
+
+	/**
+	 * Compactação dos dados no arquivo.
+	 */
+	int compression;
+
+	/**
+	 * Tipo de dado OpenGL dos valores.
+	 */
+	int type;
+
+	/**
+	 * Quantidade de vértices ou de índices.
+	 */
+	int count;
+
+	/**
+	 * Quantidade de bytes de cada vértice ou índice.
+	 */
+	int stride;
+
+	/**
+	 * Posição dos dados a partir do início do arquivo.
+	 */
+	int offset;
+
+	/**
+	 * Quantidade de bytes dos dados no arquivo, após a compactação.
+	 */
+	int length;
+
+	/**
+	 * Dados seguidos do deslocamento e da escala da quantização, não é armazenado na tabela de seções.
+	 */
+	boolean quantized;
+
+	/**
+	 * Lê uma entrada da tabela de seções.
+	 * @param buffer buffer com os bytes do arquivo em ordem little-endian.
+	 * @param position posição da entrada no buffer.
+	 */
+
+	void read(ByteBuffer buffer, int position)
+	{
+		attribute = buffer.get(position) & 0xFF;
+		size = buffer.get(position + 1) & 0xFF;
+		normalized = buffer.get(position + 2) != 0;
+		compression = buffer.get(position + 3) & 0xFF;
+		type = buffer.getInt(position + 4);
+		count = buffer.getInt(position + 8);
+		stride = buffer.getInt(position + 12);
+		offset = buffer.getInt(position + 16);
+		length = buffer.getInt(position + 20);
+	}
+
+	/**
+	 * Escreve uma entrada da tabela de seções.
+	 * @param buffer buffer com os bytes do arquivo em ordem little-endian.
+	 * @param position posição da entrada no buffer.
+	 */
+
+	void write(ByteBuffer buffer, int position)
+	{
+		buffer.put(position, (byte) attribute);
+		buffer.put(position + 1, (byte) size);
+		buffer.put(position + 2, (byte) (normalized ? 1 : 0));
+		buffer.put(position + 3, (byte) compression);
+		buffer.putInt(position + 4, type);
+		buffer.putInt(position + 8, count);
+		buffer.putInt(position + 12, stride);
+		buffer.putInt(position + 16, offset);
+		buffer.putInt(position + 20, length);
+	}
+
+	/**
+	 * @return aquisição da quantidade de bytes dos valores dos vértices ou índices.
+	 */
+
+	public int getDataLength()
+	{
+		return count * stride;
+	}
+
+	/**
+	 * @return aquisição da quantidade de bytes dos dados após serem descompactados.
+	 */
+
+	public int getRawLength()
+	{
+		return getDataLength() + (quantized ? QUANTIZATION_BYTES : 0);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("attribute", attribute);
+		description.append("size", size);
+		description.append("type", type);
+		description.append("count", count);
+		description.append("compression", compression);
+		description.append("length", length);
+
+		return description.toString();
+	}
+}
@@ -1,102 +1,439 @@
-package com.erakin.models.mdl;
-
-import java.io.InputStream;
-
-import com.erakin.api.buffer.Buffer;
-import com.erakin.api.buffer.BufferInput;
-import com.erakin.api.resources.model.ModelDataDefault;
-import com.erakin.api.resources.model.ModelException;
-import com.erakin.api.resources.model.ModelReaderDefault;
-
-/**
- * <h1>Leitor de Modelagem MDL</h1>
- *
- * <p>Tem como finalidade a implementao da forma de como ser feito a leitura.
- * Para este caso, a leitura  feito atravs de um Buffer que ir decodificar as
- * informaes de um InputStream contendo os bytes dos dados desse modelo.</p>
- *
- * @see ModelReaderDefault
- *
- * @author Andrew
- */
-
-public class ModelReaderMDL extends ModelReaderDefault
-{
-	/**
-	 * Extenso dos arquivos que utilizaro este reader.
-	 */
-	public static final String FILE_EXTENSION = "mdl";
-
-	@Override
-	public ModelDataDefault readModel(InputStream stream) throws ModelException
-	{
-		ModelDataDefault model = new ModelDataDefault();
-		Buffer buffer = new BufferInput(stream);
-
-		if (buffer.getChar() != 'M' || buffer.getChar() != 'D')
-		{
-			buffer.close();
-			throw new ModelException("formato invlido");
-		}
-
-		int vertexCount = buffer.getInt();
-		int uvTextureCount = buffer.getInt();
-		int normalCount = buffer.getInt();
-		int indexCount = buffer.getInt();
-
-		if (vertexCount > 0)
-		{
-			model.initVertices(vertexCount);
-
-			for (int i = 0; i < vertexCount; i++)
-			{
-				float x = buffer.getFloat();
-				float y = buffer.getFloat();
-				float z = buffer.getFloat();
-
-				model.setVertice(i, x, y, z);
-			}
-		}
-
-		if (uvTextureCount > 0)
-		{
-			model.initUVTextures(uvTextureCount);
-
-			for (int i = 0; i < uvTextureCount; i++)
-			{
-				float x = buffer.getFloat();
-				float y = buffer.getFloat();
-
-				model.setUVTexture(i, x, y);
-			}
-		}
-
-		if (normalCount > 0)
-		{
-			model.initNormals(normalCount);
-
-			for (int i = 0; i < normalCount; i++)
-			{
-				float x = buffer.getFloat();
-				float y = buffer.getFloat();
-				float z = buffer.getFloat();
-
-				model.setNormal(i, x, y, z);
-			}
-		}
-
-		if (indexCount > 0)
-		{
-			model.initIndexes(indexCount);
-
-			for (int i = 0; i < indexCount; i++)
-			{
-				int vertex = buffer.getInt();
-
-				model.setIndice(i, vertex);
-			}
-		}
-
-		return model;
-	}
-}
+package com.erakin.models.mdl;
+
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_NORMAL;
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_UV_TEXTURE;
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_VERTEX;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.files.FileVersion;
+import com.erakin.api.resources.model.ModelBounds;
+import com.erakin.api.resources.model.ModelDataDefault;
+import com.erakin.api.resources.model.ModelException;
+import com.erakin.api.resources.model.ModelPackedAttribute;
+import com.erakin.api.resources.model.ModelReaderDefault;
+
+/**
+ * <h1>Leitor de Modelagem MDL</h1>
+ *
+ * <p>Tem como finalidade a implementação da forma de como será feito a leitura.
+ * Para este caso, os bytes do arquivo são lidos de uma só vez em um buffer direto
+ * e decodificados de acordo com a versão do arquivo.</p>
+ *
+ * <p>A versão 1 possui a assinatura <b>MD</b> seguida da quantidade de vértices, coordenadas UV,
+ * normais e índices, e dos respectivos valores em big-endian, opcionalmente seguidos dos limites.</p>
+ *
+ * <p>A partir da versão 2 a assinatura <b>MD</b> é seguida pelo marcador <code>0xFF</code> (impossível na versão 1),
+ * um byte reservado, a versão do arquivo (<code>FileVersion</code>), a quantidade de seções e os limites do modelo,
+ * ocupando <code>HEADER_LENGTH</code> bytes. Em seguida vem a tabela de seções ({@link MDLSection}) e os dados
+ * de cada seção, alinhados e em little-endian. Seções sem compactação são usadas diretamente sobre o buffer
+ * do arquivo, enquanto seções compactadas são descompactadas para um novo buffer. Os atributos podem estar
+ * compactados (posições quantizadas em relação à caixa delimitadora, flutuantes de 16 bits, normais em 8 bits).
+ * A partir da versão 2.1 a seção das posições quantizadas armazena o deslocamento e a escala usados na quantização,
+ * nas versões anteriores são obtidos dos limites do cabeçalho.</p>
+ *
+ * @see ModelReaderDefault
+ * @see ModelWriterMDL
+ *
+ * @author Andrew
+ */
+
+public class ModelReaderMDL extends ModelReaderDefault
+{
+	/**
+	 * Extensão dos arquivos que utilizarão este reader.
+	 */
+	public static final String FILE_EXTENSION = "mdl";
+
+	/**
+	 * Marcador após a assinatura que identifica arquivos a partir da versão 2.
+	 */
+	public static final int VERSIONED_MARKER = 0xFF;
+
+	/**
+	 * Versão mais recente do formato, usada ao salvar arquivos.
+	 */
+	public static final FileVersion CURRENT_VERSION = new FileVersion(2, 1);
+
+	/**
+	 * Quantidade de bytes do cabeçalho a partir da versão 2, a tabela de seções vem logo em seguida.
+	 */
+	public static final int HEADER_LENGTH = 8 + 10 * Float.BYTES;
+
+	/**
+	 * Quantidade de bytes do bloco opcional com os limites do modelo (assinatura e dez números flutuantes).
+	 */
+	private static final int BOUNDS_LENGTH = 2 + 10 * Float.BYTES;
+
+	@Override
+	public ModelDataDefault readModel(InputStream stream) throws ModelException
+	{
+		ModelDataDefault model = new ModelDataDefault();
+
+		try {
+
+			ByteBuffer file = readDirect(stream);
+
+			if (file.remaining() < 3 || file.get(0) != 'M' || file.get(1) != 'D')
+				throw new ModelException("formato inválido");
+
+			if ((file.get(2) & 0xFF) == VERSIONED_MARKER)
+				readVersioned(file, model);
+			else
+				readVersion1(file.order(ByteOrder.BIG_ENDIAN), model);
+
+		} catch (IOException e) {
+			throw new ModelException(e);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new ModelException("arquivo incompleto");
+		}
+
+		return model;
+	}
+
+	/**
+	 * Lê um arquivo na versão 1, sem versão no cabeçalho e com os valores em big-endian.
+	 * @param file buffer com todos os bytes do arquivo em ordem big-endian.
+	 * @param model dados do modelo que receberão os valores lidos.
+	 */
+
+	private void readVersion1(ByteBuffer file, ModelDataDefault model)
+	{
+		file.position(2);
+
+		int vertexCount = file.getInt();
+		int uvTextureCount = file.getInt();
+		int normalCount = file.getInt();
+		int indexCount = file.getInt();
+
+		if (vertexCount > 0)
+			model.initVertices(3, readFloats(file, vertexCount * 3));
+
+		if (uvTextureCount > 0)
+			model.initUVTextures(2, readFloats(file, uvTextureCount * 2));
+
+		if (normalCount > 0)
+			model.initNormals(3, readFloats(file, normalCount * 3));
+
+		if (indexCount > 0)
+		{
+			IntBuffer indices = BufferUtils.createIntBuffer(indexCount);
+			indices.put(slice(file, indexCount * Integer.BYTES).asIntBuffer()).flip();
+
+			model.initIndexes(indices);
+		}
+
+		if (file.remaining() >= BOUNDS_LENGTH)
+			readBounds(file, model);
+	}
+
+	/**
+	 * Copia uma quantidade de números flutuantes do arquivo para um novo buffer direto na ordem nativa.
+	 * @param file buffer do arquivo posicionado no primeiro número flutuante.
+	 * @param count quantidade de números flutuantes que serão lidos.
+	 * @return aquisição do buffer com os números flutuantes lidos.
+	 */
+
+	private FloatBuffer readFloats(ByteBuffer file, int count)
+	{
+		FloatBuffer buffer = BufferUtils.createFloatBuffer(count);
+		buffer.put(slice(file, count * Float.BYTES).asFloatBuffer()).flip();
+
+		return buffer;
+	}
+
+	/**
+	 * Obtém uma parte do arquivo a partir da posição atual, avançando a posição do arquivo.
+	 * @param file buffer do arquivo posicionado no primeiro byte da parte.
+	 * @param length quantidade de bytes da parte.
+	 * @return aquisição de um buffer sobre os bytes da parte, na mesma ordem de bytes do arquivo.
+	 */
+
+	private ByteBuffer slice(ByteBuffer file, int length)
+	{
+		if (length < 0 || length > file.remaining())
+			throw new BufferUnderflowException();
+
+		ByteBuffer slice = file.slice().order(file.order());
+		slice.limit(length);
+		file.position(file.position() + length);
+
+		return slice;
+	}
+
+	/**
+	 * Lê os limites do modelo armazenados ao final do arquivo, após os índices, evitando que sejam calculados
+	 * a partir dos vértices. Arquivos sem os limites continuam válidos e terão os limites calculados.
+	 * O bloco é formado pela assinatura <b>BD</b> seguida do menor e maior ponto da caixa delimitadora,
+	 * do centro e do raio da esfera delimitadora, todos números flutuantes.
+	 * Dados ao final do arquivo sem a assinatura do bloco são desconhecidos e serão ignorados.
+	 * @param file buffer do arquivo posicionado ao final dos índices do modelo.
+	 * @param model dados do modelo que receberão os limites lidos.
+	 */
+
+	private void readBounds(ByteBuffer file, ModelDataDefault model)
+	{
+		if (file.get(file.position()) != 'B' || file.get(file.position() + 1) != 'D')
+			return;
+
+		file.position(file.position() + 2);
+		model.setBounds(readBoundsValues(file));
+	}
+
+	/**
+	 * Lê os dez números flutuantes que formam os limites do modelo a partir da posição atual.
+	 * @param file buffer do arquivo posicionado no primeiro número flutuante.
+	 * @return aquisição dos limites lidos.
+	 */
+
+	private ModelBounds readBoundsValues(ByteBuffer file)
+	{
+		Vector3f min = new Vector3f(file.getFloat(), file.getFloat(), file.getFloat());
+		Vector3f max = new Vector3f(file.getFloat(), file.getFloat(), file.getFloat());
+		Vector3f center = new Vector3f(file.getFloat(), file.getFloat(), file.getFloat());
+		float radius = file.getFloat();
+
+		return new ModelBounds(min, max, center, radius);
+	}
+
+	/**
+	 * Lê um arquivo a partir da versão 2, com cabeçalho versionado e tabela de seções em little-endian.
+	 * @param file buffer com todos os bytes do arquivo em ordem little-endian.
+	 * @param model dados do modelo que receberão os valores lidos.
+	 * @throws ModelException versão não suportada ou seção inválida.
+	 */
+
+	private void readVersioned(ByteBuffer file, ModelDataDefault model) throws ModelException
+	{
+		FileVersion version = new FileVersion(file.get(4), file.get(5));
+
+		if (version.getMajor() != CURRENT_VERSION.getMajor())
+			throw new ModelException("versão não suportada (version: %s)", version);
+
+		int sectionCount = file.getShort(6) & 0xFFFF;
+
+		file.position(8);
+		ModelBounds bounds = readBoundsValues(file);
+
+		for (int i = 0; i < sectionCount; i++)
+		{
+			MDLSection section = new MDLSection();
+			section.read(file, HEADER_LENGTH + i * MDLSection.BYTES);
+			section.quantized = version.getMinor() >= 1 && isQuantizedPosition(section);
+
+			ByteBuffer data = getSectionData(file, section);
+
+			if (section.attribute == MDLSection.INDICES)
+				readIndices(model, section, data);
+			else
+				readAttribute(model, section, data, bounds);
+		}
+
+		model.setBounds(bounds);
+	}
+
+	/**
+	 * Obtém os dados de uma seção, diretamente sobre o arquivo se não estiverem compactados.
+	 * @param file buffer com todos os bytes do arquivo em ordem little-endian.
+	 * @param section descrição da seção cujos dados serão obtidos.
+	 * @return aquisição de um buffer direto com os dados da seção na ordem de bytes nativa.
+	 * @throws ModelException seção fora do arquivo, compactação desconhecida ou dados corrompidos.
+	 */
+
+	private ByteBuffer getSectionData(ByteBuffer file, MDLSection section) throws ModelException
+	{
+		if (section.offset < 0 || section.length < 0 || (long) section.offset + section.length > file.limit())
+			throw new ModelException("seção fora do arquivo (offset: %d, length: %d)", section.offset, section.length);
+
+		ByteBuffer stored = file.duplicate();
+		stored.position(section.offset);
+		stored.limit(section.offset + section.length);
+		stored = stored.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+		switch (section.compression)
+		{
+			case MDLSection.COMPRESSION_NONE:
+				if (section.length != section.getRawLength())
+					throw new ModelException("seção com tamanho inválido (length: %d, expected: %d)", section.length, section.getRawLength());
+
+				return toNativeOrder(stored, section);
+
+			case MDLSection.COMPRESSION_DEFLATE:
+				return toNativeOrder(inflate(stored, section.getRawLength()), section);
+		}
+
+		throw new ModelException("compactação desconhecida (compression: %d)", section.compression);
+	}
+
+	/**
+	 * Descompacta os dados de uma seção compactada pelo algoritmo deflate.
+	 * @param stored buffer com os dados compactados.
+	 * @param length quantidade de bytes esperada após descompactar.
+	 * @return aquisição de um buffer direto com os dados descompactados em ordem little-endian.
+	 * @throws ModelException dados corrompidos ou com tamanho diferente do esperado.
+	 */
+
+	private ByteBuffer inflate(ByteBuffer stored, int length) throws ModelException
+	{
+		byte input[] = new byte[stored.remaining()];
+		byte output[] = new byte[length];
+		stored.get(input);
+
+		Inflater inflater = new Inflater();
+
+		try {
+
+			inflater.setInput(input);
+			int inflated = inflater.inflate(output);
+
+			if (inflated != length || !inflater.finished())
+				throw new ModelException("seção compactada com tamanho inválido (length: %d, expected: %d)", inflated, length);
+
+		} catch (DataFormatException e) {
+			throw new ModelException(e, "seção compactada corrompida");
+		} finally {
+			inflater.end();
+		}
+
+		ByteBuffer buffer = BufferUtils.createByteBuffer(length);
+		buffer.put(output).flip();
+
+		return buffer.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Garante que os dados de uma seção estejam em um buffer direto na ordem de bytes nativa, requisito do OpenGL.
+	 * Em sistemas little-endian o próprio buffer é usado, caso contrário os valores são copiados invertendo os bytes.
+	 * Os bytes após os valores (deslocamento e escala da quantização) são copiados mantendo o little-endian.
+	 * @param buffer buffer com os dados da seção em ordem little-endian.
+	 * @param section descrição da seção, usada para saber o tamanho de cada valor.
+	 * @return aquisição do buffer com os dados na ordem de bytes nativa.
+	 */
+
+	private ByteBuffer toNativeOrder(ByteBuffer buffer, MDLSection section)
+	{
+		if (buffer.isDirect() && ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN)
+			return buffer.order(ByteOrder.nativeOrder());
+
+		ByteBuffer copy = BufferUtils.createByteBuffer(buffer.remaining());
+		int component = ModelWriterMDL.getComponentBytes(section.type);
+
+		for (int i = 0; i + component <= section.getDataLength(); i += component)
+			switch (component)
+			{
+				case Short.BYTES: copy.putShort(i, buffer.getShort(i)); break;
+				case Integer.BYTES: copy.putInt(i, buffer.getInt(i)); break;
+				default: copy.put(i, buffer.get(i));
+			}
+
+		for (int i = section.getDataLength(); i < buffer.remaining(); i++)
+			copy.put(i, buffer.get(i));
+
+		return copy;
+	}
+
+	/**
+	 * Inicializa os índices do modelo a partir dos dados de uma seção de índices.
+	 * @param model dados do modelo que receberão os índices.
+	 * @param section descrição da seção de índices.
+	 * @param data dados da seção na ordem de bytes nativa.
+	 * @throws ModelException tipo de índice não suportado.
+	 */
+
+	private void readIndices(ModelDataDefault model, MDLSection section, ByteBuffer data) throws ModelException
+	{
+		if (section.type == GL_UNSIGNED_INT && section.stride == Integer.BYTES)
+			model.initIndexes(data.asIntBuffer());
+
+		else if (section.type == GL_UNSIGNED_SHORT && section.stride == Short.BYTES)
+			model.initIndexes(data.asShortBuffer());
+
+		else
+			throw new ModelException("tipo de índice não suportado (type: %d)", section.type);
+	}
+
+	/**
+	 * Inicializa um atributo do modelo a partir dos dados de uma seção. Atributos flutuantes conhecidos são usados
+	 * como atributos flutuantes, os demais como atributos compactados com o tipo definido na seção.
+	 * @param model dados do modelo que receberão o atributo.
+	 * @param section descrição da seção do atributo.
+	 * @param data dados da seção na ordem de bytes nativa.
+	 * @param bounds limites do modelo, usados pelas posições quantizadas de arquivos anteriores à versão 2.1.
+	 * @throws ModelException atributo com tamanho inválido.
+	 */
+
+	private void readAttribute(ModelDataDefault model, MDLSection section, ByteBuffer data, ModelBounds bounds) throws ModelException
+	{
+		if (section.size == 0 || section.stride == 0)
+			throw new ModelException("atributo com tamanho inválido (attribute: %d)", section.attribute);
+
+		if (section.type == GL_FLOAT && section.stride == section.size * Float.BYTES)
+		{
+			FloatBuffer values = data.asFloatBuffer();
+
+			switch (section.attribute)
+			{
+				case ATTRIB_VERTEX: model.initVertices(section.size, values); return;
+				case ATTRIB_UV_TEXTURE: model.initUVTextures(section.size, values); return;
+				case ATTRIB_NORMAL: model.initNormals(section.size, values); return;
+			}
+		}
+
+		ByteBuffer values = data;
+
+		if (section.quantized)
+		{
+			values = data.duplicate();
+			values.limit(section.getDataLength());
+			values = values.slice().order(data.order());
+		}
+
+		ModelPackedAttribute attribute = new ModelPackedAttribute(section.attribute, section.size, section.type, section.normalized, section.stride, values);
+
+		if (section.quantized)
+		{
+			ByteBuffer quantization = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+			quantization.position(section.getDataLength());
+
+			Vector3f offset = new Vector3f(quantization.getFloat(), quantization.getFloat(), quantization.getFloat());
+			Vector3f scale = new Vector3f(quantization.getFloat(), quantization.getFloat(), quantization.getFloat());
+
+			attribute.setQuantization(offset, scale);
+		}
+
+		else if (isQuantizedPosition(section))
+		{
+			Vector3f min = bounds.getMin();
+			Vector3f max = bounds.getMax();
+
+			attribute.setQuantization(new Vector3f(min), new Vector3f(max.x - min.x, max.y - min.y, max.z - min.z));
+		}
+
+		model.initPacked(attribute);
+	}
+
+	/**
+	 * Verifica se uma seção contém as posições dos vértices quantizadas em inteiros de 16 bits normalizados.
+	 * @param section descrição da seção que será verificada.
+	 * @return true se forem posições quantizadas ou false caso contrário.
+	 */
+
+	private boolean isQuantizedPosition(MDLSection section)
+	{
+		return section.attribute == ATTRIB_VERTEX && section.type == GL_UNSIGNED_SHORT && section.normalized;
+	}
+}
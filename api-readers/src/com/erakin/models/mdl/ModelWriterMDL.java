@@ -0,0 +1,364 @@
+package com.erakin.models.mdl;
+
+import static org.lwjgl.opengl.GL11.GL_BYTE;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_SHORT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL30.GL_HALF_FLOAT;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.resources.model.ModelAttribute;
+import com.erakin.api.resources.model.ModelBounds;
+import com.erakin.api.resources.model.ModelCompressionUtil;
+import com.erakin.api.resources.model.ModelData;
+import com.erakin.api.resources.model.ModelException;
+import com.erakin.api.resources.model.ModelFloatAttribute;
+import com.erakin.api.resources.model.ModelIndiceAttribute;
+import com.erakin.api.resources.model.ModelPackedAttribute;
+
+/**
+ * <h1>Escritor de Modelagem MDL</h1>
+ *
+ * <p>Salva os dados de uma modelagem no formato MDL mais recente ({@link ModelReaderMDL#CURRENT_VERSION}),
+ * permitindo converter modelagens de outros formatos em arquivos que são carregados sem interpretação de texto,
+ * apenas lendo o arquivo em um buffer direto e usando as seções diretamente como buffers do OpenGL.</p>
+ *
+ * <p>Opcionalmente os atributos podem ser quantizados antes de salvar ({@link ModelCompressionUtil})
+ * e os dados de cada seção compactados pelo algoritmo deflate, reduzindo o tamanho do arquivo
+ * em troca de um carregamento que precisa descompactar as seções.</p>
+ *
+ * @see ModelReaderMDL
+ * @see MDLSection
+ *
+ * @author Andrew
+ */
+
+public class ModelWriterMDL
+{
+	/**
+	 * Compactação que será usada nos dados das seções.
+	 */
+	private int compression;
+
+	/**
+	 * Quantizar os atributos e os índices antes de salvar.
+	 */
+	private boolean quantized;
+
+	/**
+	 * Cria um novo escritor de modelagens MDL, sem compactação e sem quantização.
+	 */
+
+	public ModelWriterMDL()
+	{
+		compression = MDLSection.COMPRESSION_NONE;
+	}
+
+	/**
+	 * Salva os dados de uma modelagem no formato MDL mais recente.
+	 * @param data dados da modelagem, os atributos devem ser flutuantes ou compactados (não intercalados).
+	 * @param stream stream onde os bytes do arquivo serão escritos, não será fechada.
+	 * @throws ModelException atributo não suportado ou falha ao escrever na stream.
+	 */
+
+	public void write(ModelData data, OutputStream stream) throws ModelException
+	{
+		ModelAttribute attributes[] = data.getAttributes();
+		ModelIndiceAttribute indices = data.getIndices();
+
+		if (quantized)
+		{
+			attributes = ModelCompressionUtil.compress(attributes);
+			indices = ModelCompressionUtil.compress(indices);
+		}
+
+		int sectionCount = attributes.length + (indices == null ? 0 : 1);
+		MDLSection sections[] = new MDLSection[sectionCount];
+		byte contents[][] = new byte[sectionCount][];
+
+		for (int i = 0; i < attributes.length; i++)
+		{
+			sections[i] = new MDLSection();
+			contents[i] = encodeAttribute(attributes[i], sections[i]);
+		}
+
+		if (indices != null)
+		{
+			sections[attributes.length] = new MDLSection();
+			contents[attributes.length] = encodeIndices(indices, sections[attributes.length]);
+		}
+
+		int offset = ModelReaderMDL.HEADER_LENGTH + sectionCount * MDLSection.BYTES;
+
+		for (int i = 0; i < sectionCount; i++)
+		{
+			if (compression == MDLSection.COMPRESSION_DEFLATE)
+				contents[i] = deflate(contents[i]);
+
+			offset = align(offset);
+
+			sections[i].compression = compression;
+			sections[i].offset = offset;
+			sections[i].length = contents[i].length;
+
+			offset += contents[i].length;
+		}
+
+		ByteBuffer file = ByteBuffer.allocate(offset).order(ByteOrder.LITTLE_ENDIAN);
+		file.put((byte) 'M').put((byte) 'D');
+		file.put((byte) ModelReaderMDL.VERSIONED_MARKER).put((byte) 0);
+		file.put(ModelReaderMDL.CURRENT_VERSION.getMajor()).put(ModelReaderMDL.CURRENT_VERSION.getMinor());
+		file.putShort((short) sectionCount);
+		writeBounds(file, data.getBounds());
+
+		for (int i = 0; i < sectionCount; i++)
+		{
+			sections[i].write(file, ModelReaderMDL.HEADER_LENGTH + i * MDLSection.BYTES);
+
+			file.position(sections[i].offset);
+			file.put(contents[i]);
+		}
+
+		try {
+			stream.write(file.array());
+		} catch (IOException e) {
+			throw new ModelException(e);
+		}
+	}
+
+	/**
+	 * Escreve os limites da modelagem no cabeçalho: menor e maior ponto, centro e raio.
+	 * Modelagens sem vértices não possuem limites e terão limites vazios (todos os valores zero).
+	 * @param file buffer do arquivo posicionado após a quantidade de seções.
+	 * @param bounds limites da modelagem que serão escritos ou null se não houver.
+	 */
+
+	private void writeBounds(ByteBuffer file, ModelBounds bounds)
+	{
+		if (bounds == null)
+			bounds = new ModelBounds(new Vector3f(), new Vector3f(), new Vector3f(), 0);
+
+		for (Vector3f vector : new Vector3f[] { bounds.getMin(), bounds.getMax(), bounds.getCenter() })
+			file.putFloat(vector.x).putFloat(vector.y).putFloat(vector.z);
+
+		file.putFloat(bounds.getRadius());
+	}
+
+	/**
+	 * Converte os valores de um atributo para os bytes de uma seção em little-endian.
+	 * @param attribute atributo flutuante ou compactado que será convertido.
+	 * @param section seção que terá a descrição do atributo definida.
+	 * @return aquisição dos bytes da seção antes da compactação.
+	 * @throws ModelException atributo de um tipo não suportado pelo formato.
+	 */
+
+	private byte[] encodeAttribute(ModelAttribute attribute, MDLSection section) throws ModelException
+	{
+		section.attribute = attribute.getIndex();
+		section.size = attribute.size();
+		section.normalized = attribute.isNormalized();
+		section.type = attribute.getType();
+		section.count = attribute.length();
+
+		if (attribute instanceof ModelFloatAttribute)
+		{
+			FloatBuffer values = ((ModelFloatAttribute) attribute).getBuffer();
+			section.stride = attribute.size() * Float.BYTES;
+
+			ByteBuffer bytes = ByteBuffer.allocate(section.getRawLength()).order(ByteOrder.LITTLE_ENDIAN);
+
+			for (int i = 0; i < section.count * section.size; i++)
+				bytes.putFloat(i * Float.BYTES, values.get(i));
+
+			return bytes.array();
+		}
+
+		if (attribute instanceof ModelPackedAttribute)
+		{
+			ModelPackedAttribute packed = (ModelPackedAttribute) attribute;
+			ByteBuffer values = packed.getBuffer();
+			section.stride = packed.getStride();
+			section.quantized = packed.getOffset() != null && packed.getScale() != null;
+
+			ByteBuffer bytes = ByteBuffer.allocate(section.getRawLength()).order(ByteOrder.LITTLE_ENDIAN);
+			int component = getComponentBytes(section.type);
+
+			for (int i = 0; i + component <= section.getDataLength(); i += component)
+				switch (component)
+				{
+					case Short.BYTES: bytes.putShort(i, values.getShort(i)); break;
+					case Integer.BYTES: bytes.putInt(i, values.getInt(i)); break;
+					default: bytes.put(i, values.get(i));
+				}
+
+			if (section.quantized)
+			{
+				bytes.position(section.getDataLength());
+
+				for (Vector3f vector : new Vector3f[] { packed.getOffset(), packed.getScale() })
+					bytes.putFloat(vector.x).putFloat(vector.y).putFloat(vector.z);
+			}
+
+			return bytes.array();
+		}
+
+		throw new ModelException("atributo não suportado (attribute: %s)", attribute.getClass().getSimpleName());
+	}
+
+	/**
+	 * Converte os índices para os bytes de uma seção em little-endian, mantendo o tipo dos índices (16 ou 32 bits).
+	 * @param indices atributo com os índices da modelagem.
+	 * @param section seção que terá a descrição dos índices definida.
+	 * @return aquisição dos bytes da seção antes da compactação.
+	 */
+
+	private byte[] encodeIndices(ModelIndiceAttribute indices, MDLSection section)
+	{
+		section.attribute = MDLSection.INDICES;
+		section.size = 1;
+		section.type = indices.getType();
+		section.count = indices.length();
+		section.stride = section.type == GL_UNSIGNED_SHORT ? Short.BYTES : Integer.BYTES;
+
+		ByteBuffer bytes = ByteBuffer.allocate(section.getRawLength()).order(ByteOrder.LITTLE_ENDIAN);
+
+		for (int i = 0; i < section.count; i++)
+			if (section.stride == Short.BYTES)
+				bytes.putShort(i * Short.BYTES, (short) indices.getValue(i));
+			else
+				bytes.putInt(i * Integer.BYTES, indices.getValue(i));
+
+		return bytes.array();
+	}
+
+	/**
+	 * Compacta os bytes de uma seção através do algoritmo deflate.
+	 * @param bytes bytes da seção sem compactação.
+	 * @return aquisição dos bytes compactados.
+	 */
+
+	private byte[] deflate(byte bytes[])
+	{
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+		try {
+
+			deflater.setInput(bytes);
+			deflater.finish();
+
+			byte buffer[] = new byte[bytes.length + 64];
+			int length = 0;
+
+			while (!deflater.finished())
+			{
+				if (length == buffer.length)
+					buffer = Arrays.copyOf(buffer, buffer.length * 2);
+
+				length += deflater.deflate(buffer, length, buffer.length - length);
+			}
+
+			return Arrays.copyOf(buffer, length);
+
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Alinha a posição dos dados de uma seção, permitindo acessá-los diretamente como buffer de números.
+	 * @param offset posição que será alinhada.
+	 * @return aquisição da próxima posição alinhada, a própria posição se já estiver alinhada.
+	 */
+
+	private static int align(int offset)
+	{
+		return (offset + MDLSection.ALIGNMENT - 1) & -MDLSection.ALIGNMENT;
+	}
+
+	/**
+	 * Obtém a quantidade de bytes de cada componente de um tipo de dado OpenGL, usado ao converter a ordem dos bytes.
+	 * @param type tipo de dado OpenGL dos valores.
+	 * @return aquisição da quantidade de bytes de cada componente do tipo.
+	 */
+
+	static int getComponentBytes(int type)
+	{
+		switch (type)
+		{
+			case GL_BYTE:
+			case GL_UNSIGNED_BYTE:
+				return Byte.BYTES;
+
+			case GL_SHORT:
+			case GL_UNSIGNED_SHORT:
+			case GL_HALF_FLOAT:
+				return Short.BYTES;
+
+			case GL_FLOAT:
+			case GL_UNSIGNED_INT:
+			default:
+				return Integer.BYTES;
+		}
+	}
+
+	/**
+	 * @return aquisição da compactação usada nos dados das seções.
+	 */
+
+	public int getCompression()
+	{
+		return compression;
+	}
+
+	/**
+	 * @param compression compactação usada nos dados das seções: <code>COMPRESSION_NONE</code> ou <code>COMPRESSION_DEFLATE</code>.
+	 */
+
+	public void setCompression(int compression)
+	{
+		if (compression == MDLSection.COMPRESSION_NONE || compression == MDLSection.COMPRESSION_DEFLATE)
+			this.compression = compression;
+	}
+
+	/**
+	 * @return true se os atributos e índices forem quantizados antes de salvar ou false caso contrário.
+	 */
+
+	public boolean isQuantized()
+	{
+		return quantized;
+	}
+
+	/**
+	 * @param quantized true para quantizar os atributos e índices antes de salvar ou false caso contrário.
+	 */
+
+	public void setQuantized(boolean quantized)
+	{
+		this.quantized = quantized;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("version", ModelReaderMDL.CURRENT_VERSION);
+		description.append("compression", compression);
+		description.append("quantized", quantized);
+
+		return description.toString();
+	}
+}
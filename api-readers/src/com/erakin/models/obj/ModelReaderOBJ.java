@@ -1,239 +1,352 @@
-package com.erakin.models.obj;
-
-import static com.erakin.api.ErakinAPIUtil.objectString;
-
-import java.io.InputStream;
-import java.util.Scanner;
-
-import org.diverproject.util.collection.List;
-import org.diverproject.util.collection.Queue;
-import org.diverproject.util.collection.abstraction.DynamicList;
-import org.diverproject.util.collection.abstraction.DynamicQueue;
-import org.lwjgl.util.vector.Vector2f;
-import org.lwjgl.util.vector.Vector3f;
-
-import com.erakin.api.lwjgl.math.Vector3i;
-import com.erakin.api.resources.model.ModelDataDefault;
-import com.erakin.api.resources.model.ModelException;
-import com.erakin.api.resources.model.ModelReaderDefault;
-
-/**
- * <h1>Leitor de Modelagem OBJ</h1>
- *
- * <p>Tem como finalidade a implementao da forma de como ser feito a leitura.
- * Para este caso, o carregamento  feito atravs de um Scanner que ir analisar as
- * informaes de um InputStream contendo os dados em strings (linhas).</p>
- *
- * @see ModelReaderDefault
- *
- * @author Andrew
- */
-
-public class ModelReaderOBJ extends ModelReaderDefault
-{
-	/**
-	 * Extenso dos arquivos que utilizaro este reader.
-	 */
-	public static final String FILE_EXTENSION = "obj";
-
-	/**
-	 * Contedo atual da linha que est sendo lida do arquivo.
-	 */
-	private String line;
-
-	/**
-	 * Lista contendo todos os vrtices que podem ser lidos.
-	 */
-	private List<Vector3f> vertices;
-
-	/**
-	 * Lista contendo todos as coordenadas de textura que podem ser lidas.
-	 */
-	private List<Vector2f> uvTextures;
-
-	/**
-	 * Lista contendo todos as normalizaes que podem ser lidos.
-	 */
-	private List<Vector3f> normals;
-
-	/**
-	 * Lista contendo todos os ndices para formar faces que podem ser lidos.
-	 */
-	private Queue<Vector3i> faces;
-
-	/**
-	 * Constri um novo leitor de modelagens armazenados em um arquivo OBJ.
-	 * Dever iniciar as listas para armazenar vrtices, coordenadas de textura,
-	 * normalizaes e faces para quando um arquivo OBJ for passado para se ler.
-	 */
-
-	public ModelReaderOBJ()
-	{
-		vertices = new DynamicList<Vector3f>();
-		uvTextures = new DynamicList<Vector2f>();
-		normals = new DynamicList<Vector3f>();
-		faces = new DynamicQueue<Vector3i>();
-	}
-
-	@Override
-	protected void subLoadModel(InputStream stream) throws ModelException
-	{
-		Scanner scanner = new Scanner(stream);
-
-		int i = 0;
-
-		try {
-
-			for (; scanner.hasNext(); i++)
-			{
-				line = scanner.nextLine();
-
-				if (line.startsWith("#") || line.startsWith("o"))
-					continue;
-
-				if (line.startsWith("v "))
-					parseVertice(line);
-
-				else if (line.startsWith("vt "))
-					parseTexturePosition(line);
-
-				else if (line.startsWith("vn "))
-					parseNormal(line);
-
-				else if (line.startsWith("f "))
-					parseFace(line);
-			}
-
-			scanner.close();
-			initiateModel();
-
-		} catch (ModelException e) {
-			throw e;
-		} catch (Exception e) {
-			scanner.close();
-			throw new ModelException("erro na linha %d (%s)", i, e.getMessage());
-		}
-	}
-
-	/**
-	 * Chamado sempre que uma linha lida do arquivo OBJ conter dados de um vrtice.
-	 * @param line string contendo todo o contedo da linha lida do arquivo.
-	 */
-
-	private void parseVertice(String line)
-	{
-		String columns[] = line.split(" ");
-
-		Vector3f vertice = new Vector3f();
-		vertice.x = Float.parseFloat(columns[1]);
-		vertice.y = Float.parseFloat(columns[2]);
-		vertice.z = Float.parseFloat(columns[3]);
-		vertices.add(vertice);
-	}
-
-	/**
-	 * Chamado sempre que uma linha lida do arquivo OBJ conter dados de uma coordenada de textura.
-	 * @param line string contendo todo o contedo da linha lida do arquivo.
-	 */
-
-	private void parseTexturePosition(String line)
-	{
-		String columns[] = line.split(" ");
-
-		Vector2f texture = new Vector2f();
-		texture.x = Float.parseFloat(columns[1]);
-		texture.y = Float.parseFloat(columns[2]);
-		uvTextures.add(texture);
-	}
-
-	/**
-	 * Chamado sempre que uma linha lida do arquivo OBJ conter dados de uma normalizao.
-	 * @param line string contendo todo o contedo da linha lida do arquivo.
-	 */
-
-	private void parseNormal(String line)
-	{
-		String columns[] = line.split(" ");
-
-		Vector3f normal = new Vector3f();
-		normal.x = Float.parseFloat(columns[1]);
-		normal.y = Float.parseFloat(columns[2]);
-		normal.z = Float.parseFloat(columns[3]);
-		normals.add(normal);
-	}
-
-	/**
-	 * Chamado sempre que uma linha lida do arquivo OBJ conter dados de uma face.
-	 * @param line string contendo todo o contedo da linha lida do arquivo.
-	 */
-
-	private void parseFace(String line)
-	{
-		String columns[] = line.split(" ");
-
-		for (int i = 1; i <= 3; i++)
-		{
-			String data[] = columns[i].split("/");
-
-			Vector3i vector = new Vector3i();
-			vector.x = Integer.parseInt(data[0]);
-			vector.y = Integer.parseInt(data[1]);
-			vector.z = Integer.parseInt(data[2]);
-
-			faces.offer(vector);
-		}
-	}
-
-	/**
-	 * Procedimento chamado somente aps o final da anlise do arquivo OBJ que foi lido.
-	 * Nesse momento todos os dados tero sido lidos e devem ser organizados em uma modelagem.
-	 * Para isso esse mtodo ir garantir a criao de um objeto para armazen-los e ajust-los.
-	 * @return aquisio de um objeto contendo os dados para se criar a modelagem lida.
-	 * @throws ModelException ocorre quando h dados incoerentes na textura, normalizao ou face.
-	 */
-
-	private ModelDataDefault initiateModel() throws ModelException
-	{
-		data.initVertices(vertices.size());
-		data.initUVTextures(vertices.size());
-		data.initNormals(vertices.size());
-		data.initIndexes(faces.size());
-
-		for (int i = 0; i < vertices.size(); i++)
-		{
-			Vector3f vertex = vertices.get(i);
-			data.setVertice(i, vertex.x, vertex.y, vertex.z);
-		}
-
-		for (int i = 0; faces.size() > 0; i++)
-		{
-			Vector3i face = faces.poll();
-
-			int vertexIndex = face.x - 1;
-			int textureIndex = face.y - 1;
-			int normalIndex = face.z - 1;
-
-			Vector2f texture = uvTextures.get(textureIndex);
-
-			if (texture == null)
-				throw new ModelException("coordenada de textura no encontrada (%d)", textureIndex);
-
-			Vector3f normal = normals.get(normalIndex);
-
-			if (normal == null)
-				throw new ModelException("normalizao no encontrada (%d)", normalIndex);
-
-			try {
-
-				data.setIndice(i, vertexIndex);
-				data.setUVTexture(vertexIndex, texture.x, 1 - texture.y);
-				data.setNormal(vertexIndex, normal.x, normal.y, normal.z);
-
-			} catch (Exception e) {
-				throw new ModelException("falha ao definir face (%s)", objectString(face));
-			}
-		}
-
-		return data;
-	}
-}
+package com.erakin.models.obj;
+
+import java.io.InputStream;
+import java.nio.FloatBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.buffer.BufferInput;
+import com.erakin.api.resources.model.ModelDataDefault;
+import com.erakin.api.resources.model.ModelException;
+import com.erakin.api.resources.model.ModelReaderDefault;
+
+/**
+ * <h1>Leitor de Modelagem OBJ</h1>
+ *
+ * <p>Tem como finalidade a implementação da forma de como será feito a leitura.
+ * Para este caso, o arquivo é carregado por completo em um buffer e os seus bytes são analisados
+ * diretamente por um analisador de símbolos, sem criar strings para as linhas ou para os valores.</p>
+ *
+ * <p>Os valores lidos são armazenados em vetores de tipos primitivos que são reaproveitados entre
+ * uma leitura e outra. Faces com mais de três vértices são divididas em triângulos (leque).</p>
+ *
+ * <p>Arquivos grandes podem ser lidos em paralelo (ver <code>setParallel</code>): o arquivo é dividido em
+ * trechos nas quebras de linha, cada trecho é analisado no pool de fork/join e os conteúdos são juntados
+ * depois, com os índices relativos corrigidos pela soma das quantidades de elementos dos trechos anteriores.</p>
+ *
+ * <p>Vértices são emitidos uma única vez para cada combinação de posição, coordenada de textura e normal,
+ * portanto cantos que compartilham a posição mas não a textura ou normal (costuras) ficam corretos.</p>
+ *
+ * @see ModelReaderDefault
+ * @see OBJChunk
+ * @see OBJTokenizer
+ * @see OBJContent
+ * @see OBJVertexMap
+ *
+ * @author Andrew
+ */
+
+public class ModelReaderOBJ extends ModelReaderDefault
+{
+	/**
+	 * Extensão dos arquivos que utilizarão este reader.
+	 */
+	public static final String FILE_EXTENSION = "obj";
+
+	/**
+	 * Tamanho mínimo em bytes de um arquivo para que seja usada a leitura paralela.
+	 */
+	public static final int PARALLEL_MIN_SIZE = 4 * 1024 * 1024;
+
+	/**
+	 * Tamanho mínimo em bytes de cada trecho analisado na leitura paralela.
+	 */
+	public static final int CHUNK_MIN_SIZE = 1024 * 1024;
+
+	/**
+	 * Quantidade de trechos por thread, permite equilibrar trechos com mais faces que outros.
+	 */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	/**
+	 * Conteúdo contendo todos os vértices, coordenadas de textura, normais e faces lidos.
+	 */
+	private OBJContent content;
+
+	/**
+	 * Mapa que atribui um vértice da modelagem para cada combinação de vértice, textura e normal.
+	 */
+	private OBJVertexMap welded;
+
+	/**
+	 * Habilitar a leitura paralela para arquivos grandes.
+	 */
+	private boolean parallel;
+
+	/**
+	 * Constrói um novo leitor de modelagens armazenados em um arquivo OBJ.
+	 * Deverá iniciar o conteúdo para armazenar vértices, coordenadas de textura,
+	 * normalizações e faces para quando um arquivo OBJ for passado para se ler.
+	 */
+
+	public ModelReaderOBJ()
+	{
+		content = new OBJContent();
+		welded = new OBJVertexMap();
+	}
+
+	/**
+	 * A leitura paralela só é usada em arquivos com pelo menos <code>PARALLEL_MIN_SIZE</code> bytes.
+	 * @return true se a leitura paralela estiver habilitada ou false caso contrário.
+	 */
+
+	public boolean isParallel()
+	{
+		return parallel;
+	}
+
+	/**
+	 * Permite habilitar a leitura paralela, onde o arquivo é dividido em trechos analisados ao mesmo tempo.
+	 * O resultado da leitura paralela é exatamente o mesmo da leitura em uma única thread.
+	 * @param parallel true para habilitar a leitura paralela ou false para desabilitar.
+	 */
+
+	public void setParallel(boolean parallel)
+	{
+		this.parallel = parallel;
+	}
+
+	@Override
+	protected void subLoadModel(InputStream stream) throws ModelException
+	{
+		Buffer buffer = new BufferInput(stream);
+		byte bytes[] = buffer.getDate();
+
+		try {
+
+			if (parallel && buffer.space() >= PARALLEL_MIN_SIZE)
+				parseParallel(bytes, buffer.offset(), buffer.length());
+
+			else
+			{
+				OBJChunk chunk = new OBJChunk(bytes, buffer.offset(), buffer.length(), content);
+				chunk.setBases(0, 0, 0);
+				chunk.parse();
+			}
+
+		} finally {
+			buffer.close();
+		}
+
+		initiateModel();
+	}
+
+	/**
+	 * Divide o arquivo em trechos terminados em quebras de linha e analisa cada trecho em paralelo.
+	 * Em seguida as quantidades de elementos de cada trecho são acumuladas (soma de prefixos), definindo
+	 * as bases de cada trecho. Os trechos com índices relativos são analisados novamente com as bases corretas,
+	 * e por fim todos os conteúdos são juntados na ordem do arquivo.
+	 * @param bytes vetor contendo os bytes do arquivo.
+	 * @param offset posição do primeiro byte do arquivo no vetor.
+	 * @param length posição final (exclusiva) do arquivo no vetor.
+	 * @throws ModelException registro inválido em algum dos trechos, informado o primeiro no arquivo.
+	 */
+
+	private void parseParallel(byte bytes[], int offset, int length) throws ModelException
+	{
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		long size = length - offset;
+		int count = (int) Math.max(1, Math.min(size / CHUNK_MIN_SIZE, pool.getParallelism() * CHUNKS_PER_THREAD));
+
+		OBJChunk chunks[] = new OBJChunk[count];
+		ModelException exceptions[] = new ModelException[count];
+
+		for (int i = 0, start = offset; i < count; i++)
+		{
+			int end = i == count - 1 ? length : nextLine(bytes, Math.max(start, offset + (int) (size * (i + 1) / count)), length);
+			chunks[i] = new OBJChunk(bytes, start, end, new OBJContent());
+			start = end;
+		}
+
+		chunks[0].setBases(0, 0, 0);
+		pool.invoke(new ParseTask(chunks, exceptions, 0, count));
+
+		int verticeBase = 0;
+		int uvTextureBase = 0;
+		int normalBase = 0;
+
+		for (int i = 0; i < count; i++)
+		{
+			OBJChunk chunk = chunks[i];
+
+			boolean reparse = chunk.hasRelative() && !chunk.isResolved();
+
+			if (exceptions[i] != null && !reparse)
+				throw exceptions[i];
+
+			chunk.setBases(verticeBase, uvTextureBase, normalBase);
+
+			if (reparse)
+				chunk.parse();
+
+			verticeBase += chunk.getContent().getVerticeCount();
+			uvTextureBase += chunk.getContent().getUVTextureCount();
+			normalBase += chunk.getContent().getNormalCount();
+		}
+
+		content.clear();
+
+		for (OBJChunk chunk : chunks)
+			content.addAll(chunk.getContent());
+	}
+
+	/**
+	 * Procura o início da próxima linha a partir de uma posição do arquivo.
+	 * @param bytes vetor contendo os bytes do arquivo.
+	 * @param offset posição a partir da qual será procurada a quebra de linha.
+	 * @param length posição final (exclusiva) do arquivo no vetor.
+	 * @return aquisição da posição após a quebra de linha ou o final do arquivo se não houver.
+	 */
+
+	private static int nextLine(byte bytes[], int offset, int length)
+	{
+		while (offset < length && bytes[offset] != '\n')
+			offset++;
+
+		return Math.min(offset + 1, length);
+	}
+
+
+	/**
+	 * Procedimento chamado somente após o final da análise do arquivo OBJ que foi lido.
+	 * Nesse momento todos os dados terão sido lidos e devem ser organizados em uma modelagem.
+	 * Cada combinação diferente de vértice, coordenada de textura e normal usada pelas faces
+	 * se torna um único vértice da modelagem, referenciado pelos índices de todas as faces que a usam.
+	 * @return aquisição de um objeto contendo os dados para se criar a modelagem lida.
+	 * @throws ModelException ocorre quando há dados incoerentes na textura, normalização ou face.
+	 */
+
+	private ModelDataDefault initiateModel() throws ModelException
+	{
+		int verticeCount = content.getVerticeCount();
+		int uvTextureCount = content.getUVTextureCount();
+		int normalCount = content.getNormalCount();
+		int cornerCount = content.getCornerCount();
+		int corners[] = content.getCorners();
+
+		data.initIndexes(cornerCount);
+		welded.clear(Math.max(verticeCount, Math.max(uvTextureCount, normalCount)));
+
+		for (int i = 0; i < cornerCount; i++)
+		{
+			int vertexIndex = corners[i * 3];
+			int textureIndex = corners[i * 3 + 1];
+			int normalIndex = corners[i * 3 + 2];
+
+			if (vertexIndex < 0 || vertexIndex >= verticeCount)
+				throw new ModelException("vértice não encontrado (%d)", vertexIndex);
+
+			if (textureIndex >= uvTextureCount)
+				throw new ModelException("coordenada de textura não encontrada (%d)", textureIndex);
+
+			if (normalIndex >= normalCount)
+				throw new ModelException("normalização não encontrada (%d)", normalIndex);
+
+			data.setIndice(i, welded.put(vertexIndex, textureIndex, normalIndex));
+		}
+
+		float vertices[] = content.getVertices();
+		float uvTextures[] = content.getUVTextures();
+		float normals[] = content.getNormals();
+		int entries[] = welded.getEntries();
+		int size = welded.size();
+
+		data.initVertices(size);
+		data.initUVTextures(size);
+		data.initNormals(size);
+
+		FloatBuffer vertexBuffer = data.getVertexBuffer();
+		FloatBuffer uvTextureBuffer = data.getUVTextureBuffer();
+		FloatBuffer normalBuffer = data.getNormalBuffer();
+
+		for (int i = 0; i < size; i++)
+		{
+			int vertexIndex = entries[i * 3];
+			int textureIndex = entries[i * 3 + 1];
+			int normalIndex = entries[i * 3 + 2];
+
+			for (int j = 0; j < 3; j++)
+				vertexBuffer.put(i * 3 + j, vertices[vertexIndex * 3 + j]);
+
+			if (textureIndex != -1)
+			{
+				uvTextureBuffer.put(i * 2, uvTextures[textureIndex * 2]);
+				uvTextureBuffer.put(i * 2 + 1, 1 - uvTextures[textureIndex * 2 + 1]);
+			}
+
+			if (normalIndex != -1)
+				for (int j = 0; j < 3; j++)
+					normalBuffer.put(i * 3 + j, normals[normalIndex * 3 + j]);
+		}
+
+		return data;
+	}
+
+	/**
+	 * <h1>Tarefa de Análise</h1>
+	 *
+	 * <p>Divide um intervalo de trechos pela metade até restar apenas um, que então é analisado.
+	 * Erros são guardados na posição do trecho para que o primeiro erro do arquivo seja informado.</p>
+	 */
+
+	private static class ParseTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Todos os trechos do arquivo.
+		 */
+		private final OBJChunk chunks[];
+
+		/**
+		 * Erros ocorridos na análise de cada trecho.
+		 */
+		private final ModelException exceptions[];
+
+		/**
+		 * Índice do primeiro trecho do intervalo.
+		 */
+		private final int first;
+
+		/**
+		 * Índice final (exclusivo) do intervalo.
+		 */
+		private final int last;
+
+		/**
+		 * Cria uma nova tarefa para analisar um intervalo de trechos.
+		 * @param chunks todos os trechos do arquivo.
+		 * @param exceptions vetor que irá guardar os erros de cada trecho.
+		 * @param first índice do primeiro trecho do intervalo.
+		 * @param last índice final (exclusivo) do intervalo.
+		 */
+
+		public ParseTask(OBJChunk chunks[], ModelException exceptions[], int first, int last)
+		{
+			this.chunks = chunks;
+			this.exceptions = exceptions;
+			this.first = first;
+			this.last = last;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (last - first > 1)
+			{
+				int middle = (first + last) >>> 1;
+				invokeAll(new ParseTask(chunks, exceptions, first, middle), new ParseTask(chunks, exceptions, middle, last));
+			}
+
+			else
+			{
+				try {
+					chunks[first].parse();
+				} catch (ModelException e) {
+					exceptions[first] = e;
+				}
+			}
+		}
+	}
+}
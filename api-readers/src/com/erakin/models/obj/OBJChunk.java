@@ -0,0 +1,338 @@
+package com.erakin.models.obj;
+
+import static com.erakin.models.obj.OBJTokenizer.RECORD_FACE;
+import static com.erakin.models.obj.OBJTokenizer.RECORD_NORMAL;
+import static com.erakin.models.obj.OBJTokenizer.RECORD_UV_TEXTURE;
+import static com.erakin.models.obj.OBJTokenizer.RECORD_VERTICE;
+
+import org.diverproject.util.ObjectDescription;
+
+import com.erakin.api.resources.model.ModelException;
+
+/**
+ * <h1>Trecho OBJ</h1>
+ *
+ * <p>Representa um intervalo de linhas de um arquivo OBJ já carregado em memória, responsável por analisar
+ * os registros de vértices, coordenadas de textura, normais e faces deste intervalo para um conteúdo próprio.
+ * O arquivo inteiro pode ser um único trecho, ou ser dividido em vários trechos analisados paralelamente.</p>
+ *
+ * <p>Índices positivos das faces são absolutos e não dependem dos trechos anteriores, já os índices negativos
+ * (relativos) dependem de quantos elementos foram lidos antes do trecho. Para isso são definidas as bases,
+ * e caso um trecho tenha sido analisado com bases diferentes das reais e possua índices relativos,
+ * deverá ser analisado novamente após definir as bases corretas.</p>
+ *
+ * @see ModelReaderOBJ
+ * @see OBJTokenizer
+ * @see OBJContent
+ *
+ * @author Andrew
+ */
+
+public class OBJChunk
+{
+	/**
+	 * Vetor contendo os bytes do arquivo.
+	 */
+	private final byte data[];
+
+	/**
+	 * Posição do primeiro byte do trecho, sempre o início de uma linha.
+	 */
+	private final int start;
+
+	/**
+	 * Posição final (exclusiva) do trecho.
+	 */
+	private final int end;
+
+	/**
+	 * Conteúdo que irá receber os elementos lidos no trecho.
+	 */
+	private final OBJContent content;
+
+	/**
+	 * Quantidade de vértices lidos antes do trecho.
+	 */
+	private int verticeBase;
+
+	/**
+	 * Quantidade de coordenadas de textura lidas antes do trecho.
+	 */
+	private int uvTextureBase;
+
+	/**
+	 * Quantidade de normais lidas antes do trecho.
+	 */
+	private int normalBase;
+
+	/**
+	 * Indica se alguma face do trecho usou índices relativos.
+	 */
+	private boolean relative;
+
+	/**
+	 * Indica se as bases foram definidas, caso contrário os índices relativos não podem ser resolvidos.
+	 */
+	private boolean resolved;
+
+	/**
+	 * Cria um novo trecho de um arquivo OBJ, as bases ainda não são conhecidas.
+	 * @param data vetor contendo os bytes do arquivo.
+	 * @param start posição do primeiro byte do trecho, deve ser o início de uma linha.
+	 * @param end posição final (exclusiva) do trecho.
+	 * @param content conteúdo que irá receber os elementos lidos no trecho.
+	 */
+
+	public OBJChunk(byte data[], int start, int end, OBJContent content)
+	{
+		this.data = data;
+		this.start = start;
+		this.end = end;
+		this.content = content;
+	}
+
+	/**
+	 * Define as quantidades de elementos lidos antes do trecho, usadas para resolver índices relativos.
+	 * @param verticeBase quantidade de vértices lidos antes do trecho.
+	 * @param uvTextureBase quantidade de coordenadas de textura lidas antes do trecho.
+	 * @param normalBase quantidade de normais lidas antes do trecho.
+	 */
+
+	public void setBases(int verticeBase, int uvTextureBase, int normalBase)
+	{
+		this.verticeBase = verticeBase;
+		this.uvTextureBase = uvTextureBase;
+		this.normalBase = normalBase;
+		this.resolved = true;
+	}
+
+	/**
+	 * Esvazia o conteúdo e analisa todas as linhas do trecho. Caso as bases não tenham sido definidas
+	 * e seja encontrado um índice relativo, erros deixam de ser considerados já que o trecho deverá
+	 * ser analisado novamente com as bases corretas, o que irá repetir o erro se ele for real.
+	 * @throws ModelException registro inválido, informa a linha considerando o arquivo inteiro.
+	 */
+
+	public void parse() throws ModelException
+	{
+		OBJTokenizer tokenizer = new OBJTokenizer(data, start, end);
+
+		content.clear();
+		relative = false;
+
+		try {
+
+			while (tokenizer.hasNext())
+			{
+				switch (tokenizer.nextRecord())
+				{
+					case RECORD_VERTICE:
+						parseVertice(tokenizer);
+						break;
+
+					case RECORD_UV_TEXTURE:
+						parseTexturePosition(tokenizer);
+						break;
+
+					case RECORD_NORMAL:
+						parseNormal(tokenizer);
+						break;
+
+					case RECORD_FACE:
+						parseFace(tokenizer);
+						break;
+				}
+
+				tokenizer.skipLine();
+			}
+
+		} catch (ModelException e) {
+
+			relative = tokenizer.hasRelative();
+
+			if (!resolved && relative)
+				return;
+
+			throw new ModelException("erro na linha %d (%s)", getFirstLine() + tokenizer.getLine() - 1, e.getMessage());
+		}
+
+		relative = tokenizer.hasRelative();
+	}
+
+	/**
+	 * Chamado sempre que uma linha lida do arquivo OBJ conter dados de um vértice.
+	 * @param tokenizer analisador de símbolos posicionado no primeiro valor do registro.
+	 * @throws ModelException valor não encontrado ou inválido.
+	 */
+
+	private void parseVertice(OBJTokenizer tokenizer) throws ModelException
+	{
+		float x = tokenizer.nextFloat();
+		float y = tokenizer.nextFloat();
+		float z = tokenizer.nextFloat();
+
+		content.addVertice(x, y, z);
+	}
+
+	/**
+	 * Chamado sempre que uma linha lida do arquivo OBJ conter dados de uma coordenada de textura.
+	 * A coordenada vertical é opcional no formato OBJ e será considerada zero quando omitida.
+	 * @param tokenizer analisador de símbolos posicionado no primeiro valor do registro.
+	 * @throws ModelException valor não encontrado ou inválido.
+	 */
+
+	private void parseTexturePosition(OBJTokenizer tokenizer) throws ModelException
+	{
+		float u = tokenizer.nextFloat();
+		float v = tokenizer.hasValue() ? tokenizer.nextFloat() : 0.0f;
+
+		content.addUVTexture(u, v);
+	}
+
+	/**
+	 * Chamado sempre que uma linha lida do arquivo OBJ conter dados de uma normalização.
+	 * @param tokenizer analisador de símbolos posicionado no primeiro valor do registro.
+	 * @throws ModelException valor não encontrado ou inválido.
+	 */
+
+	private void parseNormal(OBJTokenizer tokenizer) throws ModelException
+	{
+		float x = tokenizer.nextFloat();
+		float y = tokenizer.nextFloat();
+		float z = tokenizer.nextFloat();
+
+		content.addNormal(x, y, z);
+	}
+
+	/**
+	 * Chamado sempre que uma linha lida do arquivo OBJ conter dados de uma face.
+	 * Cada vértice da face pode ser especificado como v, v/vt, v//vn ou v/vt/vn.
+	 * Faces com mais de três vértices são divididas em triângulos a partir do primeiro vértice.
+	 * Índices relativos são resolvidos considerando os elementos dos trechos anteriores (bases).
+	 * @param tokenizer analisador de símbolos posicionado no primeiro valor do registro.
+	 * @throws ModelException índice não encontrado, inválido ou face com menos de três vértices.
+	 */
+
+	private void parseFace(OBJTokenizer tokenizer) throws ModelException
+	{
+		int firstVertice = 0, firstUV = 0, firstNormal = 0;
+		int lastVertice = 0, lastUV = 0, lastNormal = 0;
+		int corners = 0;
+
+		for (; tokenizer.hasValue(); corners++)
+		{
+			int vertice = tokenizer.nextIndex(verticeBase + content.getVerticeCount());
+			int uvTexture = -1;
+			int normal = -1;
+
+			if (tokenizer.nextSlash())
+			{
+				if (!tokenizer.nextSlash())
+				{
+					uvTexture = tokenizer.nextIndex(uvTextureBase + content.getUVTextureCount());
+
+					if (tokenizer.nextSlash())
+						normal = tokenizer.nextIndex(normalBase + content.getNormalCount());
+				}
+
+				else
+					normal = tokenizer.nextIndex(normalBase + content.getNormalCount());
+			}
+
+			if (corners == 0)
+			{
+				firstVertice = vertice;
+				firstUV = uvTexture;
+				firstNormal = normal;
+			}
+
+			else if (corners >= 2)
+			{
+				content.addCorner(firstVertice, firstUV, firstNormal);
+				content.addCorner(lastVertice, lastUV, lastNormal);
+				content.addCorner(vertice, uvTexture, normal);
+			}
+
+			lastVertice = vertice;
+			lastUV = uvTexture;
+			lastNormal = normal;
+		}
+
+		if (corners < 3)
+			throw new ModelException("face com apenas %d vértices", corners);
+	}
+
+	/**
+	 * Conta as quebras de linha anteriores ao trecho, usado apenas para informar erros.
+	 * @return aquisição do número da primeira linha do trecho no arquivo.
+	 */
+
+	private int getFirstLine()
+	{
+		int line = 1;
+
+		for (int i = 0; i < start; i++)
+			if (data[i] == '\n')
+				line++;
+
+		return line;
+	}
+
+	/**
+	 * @return aquisição da posição do primeiro byte do trecho.
+	 */
+
+	public int getStart()
+	{
+		return start;
+	}
+
+	/**
+	 * @return aquisição da posição final (exclusiva) do trecho.
+	 */
+
+	public int getEnd()
+	{
+		return end;
+	}
+
+	/**
+	 * @return true se as bases do trecho foram definidas ou false caso contrário.
+	 */
+
+	public boolean isResolved()
+	{
+		return resolved;
+	}
+
+	/**
+	 * @return aquisição do conteúdo com os elementos lidos no trecho.
+	 */
+
+	public OBJContent getContent()
+	{
+		return content;
+	}
+
+	/**
+	 * Trechos analisados sem as bases definidas e que possuem índices relativos devem ser analisados novamente.
+	 * @return true se alguma face do trecho usou índices relativos ou false caso contrário.
+	 */
+
+	public boolean hasRelative()
+	{
+		return relative;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("start", start);
+		description.append("end", end);
+		description.append("content", content);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,316 @@
+package com.erakin.models.obj;
+
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * <h1>Conteúdo OBJ</h1>
+ *
+ * <p>Armazena os valores lidos de um arquivo OBJ em vetores de tipos primitivos que crescem conforme
+ * a necessidade, evitando a criação de um objeto para cada vértice, coordenada, normal ou face lida.
+ * Os vetores são mantidos entre uma leitura e outra, sendo apenas esvaziados através de <code>clear()</code>.</p>
+ *
+ * <p>As faces são armazenadas já divididas em triângulos, onde cada canto do triângulo ocupa três
+ * índices na sequência: vértice, coordenada de textura e normal, todos a partir de zero.
+ * Quando a face não especifica uma coordenada de textura ou normal o índice correspondente será -1.</p>
+ *
+ * @see ModelReaderOBJ
+ * @see OBJTokenizer
+ *
+ * @author Andrew
+ */
+
+public class OBJContent
+{
+	/**
+	 * Capacidade inicial dos vetores em quantidade de valores.
+	 */
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Vetor com as coordenadas dos vértices lidos (x, y, z).
+	 */
+	private float vertices[];
+
+	/**
+	 * Quantidade de vértices lidos.
+	 */
+	private int verticeCount;
+
+	/**
+	 * Vetor com as coordenadas de textura lidas (u, v).
+	 */
+	private float uvTextures[];
+
+	/**
+	 * Quantidade de coordenadas de textura lidas.
+	 */
+	private int uvTextureCount;
+
+	/**
+	 * Vetor com as normais lidas (x, y, z).
+	 */
+	private float normals[];
+
+	/**
+	 * Quantidade de normais lidas.
+	 */
+	private int normalCount;
+
+	/**
+	 * Vetor com os índices dos cantos dos triângulos (vértice, textura, normal).
+	 */
+	private int corners[];
+
+	/**
+	 * Quantidade de cantos de triângulos lidos.
+	 */
+	private int cornerCount;
+
+	/**
+	 * Cria um novo conteúdo OBJ vazio iniciando os vetores com a capacidade inicial.
+	 */
+
+	public OBJContent()
+	{
+		vertices = new float[INITIAL_CAPACITY * 3];
+		uvTextures = new float[INITIAL_CAPACITY * 2];
+		normals = new float[INITIAL_CAPACITY * 3];
+		corners = new int[INITIAL_CAPACITY * 3];
+	}
+
+	/**
+	 * Esvazia o conteúdo para uma nova leitura, os vetores já alocados serão reaproveitados.
+	 */
+
+	public void clear()
+	{
+		verticeCount = 0;
+		uvTextureCount = 0;
+		normalCount = 0;
+		cornerCount = 0;
+	}
+
+	/**
+	 * Adiciona as coordenadas de um novo vértice lido.
+	 * @param x coordenada no eixo X do vértice.
+	 * @param y coordenada no eixo Y do vértice.
+	 * @param z coordenada no eixo Z do vértice.
+	 */
+
+	public void addVertice(float x, float y, float z)
+	{
+		int offset = verticeCount * 3;
+
+		if (offset + 3 > vertices.length)
+			vertices = grow(vertices, offset + 3);
+
+		vertices[offset] = x;
+		vertices[offset + 1] = y;
+		vertices[offset + 2] = z;
+		verticeCount++;
+	}
+
+	/**
+	 * Adiciona as coordenadas de uma nova coordenada de textura lida.
+	 * @param u coordenada horizontal da textura.
+	 * @param v coordenada vertical da textura.
+	 */
+
+	public void addUVTexture(float u, float v)
+	{
+		int offset = uvTextureCount * 2;
+
+		if (offset + 2 > uvTextures.length)
+			uvTextures = grow(uvTextures, offset + 2);
+
+		uvTextures[offset] = u;
+		uvTextures[offset + 1] = v;
+		uvTextureCount++;
+	}
+
+	/**
+	 * Adiciona as coordenadas de uma nova normal lida.
+	 * @param x coordenada no eixo X da normal.
+	 * @param y coordenada no eixo Y da normal.
+	 * @param z coordenada no eixo Z da normal.
+	 */
+
+	public void addNormal(float x, float y, float z)
+	{
+		int offset = normalCount * 3;
+
+		if (offset + 3 > normals.length)
+			normals = grow(normals, offset + 3);
+
+		normals[offset] = x;
+		normals[offset + 1] = y;
+		normals[offset + 2] = z;
+		normalCount++;
+	}
+
+	/**
+	 * Adiciona um novo canto de triângulo, a cada três cantos adicionados forma-se um triângulo.
+	 * @param vertice índice do vértice a partir de zero.
+	 * @param uvTexture índice da coordenada de textura a partir de zero ou -1 se não houver.
+	 * @param normal índice da normal a partir de zero ou -1 se não houver.
+	 */
+
+	public void addCorner(int vertice, int uvTexture, int normal)
+	{
+		int offset = cornerCount * 3;
+
+		if (offset + 3 > corners.length)
+			corners = grow(corners, offset + 3);
+
+		corners[offset] = vertice;
+		corners[offset + 1] = uvTexture;
+		corners[offset + 2] = normal;
+		cornerCount++;
+	}
+
+	/**
+	 * Adiciona ao final deste conteúdo todos os elementos de outro conteúdo, mantendo os índices dos cantos.
+	 * Usado para juntar os trechos analisados separadamente, onde os índices já consideram os trechos anteriores.
+	 * @param other conteúdo do qual os elementos serão copiados.
+	 */
+
+	public void addAll(OBJContent other)
+	{
+		if ((verticeCount + other.verticeCount) * 3 > vertices.length)
+			vertices = grow(vertices, (verticeCount + other.verticeCount) * 3);
+
+		if ((uvTextureCount + other.uvTextureCount) * 2 > uvTextures.length)
+			uvTextures = grow(uvTextures, (uvTextureCount + other.uvTextureCount) * 2);
+
+		if ((normalCount + other.normalCount) * 3 > normals.length)
+			normals = grow(normals, (normalCount + other.normalCount) * 3);
+
+		if ((cornerCount + other.cornerCount) * 3 > corners.length)
+			corners = grow(corners, (cornerCount + other.cornerCount) * 3);
+
+		System.arraycopy(other.vertices, 0, vertices, verticeCount * 3, other.verticeCount * 3);
+		System.arraycopy(other.uvTextures, 0, uvTextures, uvTextureCount * 2, other.uvTextureCount * 2);
+		System.arraycopy(other.normals, 0, normals, normalCount * 3, other.normalCount * 3);
+		System.arraycopy(other.corners, 0, corners, cornerCount * 3, other.cornerCount * 3);
+
+		verticeCount += other.verticeCount;
+		uvTextureCount += other.uvTextureCount;
+		normalCount += other.normalCount;
+		cornerCount += other.cornerCount;
+	}
+
+	/**
+	 * O vetor pode possuir mais espaço do que o necessário, apenas os primeiros valores são válidos.
+	 * @return aquisição do vetor com as coordenadas dos vértices (x, y, z).
+	 */
+
+	public float[] getVertices()
+	{
+		return vertices;
+	}
+
+	/**
+	 * @return aquisição da quantidade de vértices lidos.
+	 */
+
+	public int getVerticeCount()
+	{
+		return verticeCount;
+	}
+
+	/**
+	 * O vetor pode possuir mais espaço do que o necessário, apenas os primeiros valores são válidos.
+	 * @return aquisição do vetor com as coordenadas de textura (u, v).
+	 */
+
+	public float[] getUVTextures()
+	{
+		return uvTextures;
+	}
+
+	/**
+	 * @return aquisição da quantidade de coordenadas de textura lidas.
+	 */
+
+	public int getUVTextureCount()
+	{
+		return uvTextureCount;
+	}
+
+	/**
+	 * O vetor pode possuir mais espaço do que o necessário, apenas os primeiros valores são válidos.
+	 * @return aquisição do vetor com as normais (x, y, z).
+	 */
+
+	public float[] getNormals()
+	{
+		return normals;
+	}
+
+	/**
+	 * @return aquisição da quantidade de normais lidas.
+	 */
+
+	public int getNormalCount()
+	{
+		return normalCount;
+	}
+
+	/**
+	 * O vetor pode possuir mais espaço do que o necessário, apenas os primeiros valores são válidos.
+	 * @return aquisição do vetor com os índices dos cantos dos triângulos (vértice, textura, normal).
+	 */
+
+	public int[] getCorners()
+	{
+		return corners;
+	}
+
+	/**
+	 * @return aquisição da quantidade de cantos de triângulos lidos.
+	 */
+
+	public int getCornerCount()
+	{
+		return cornerCount;
+	}
+
+	/**
+	 * Aumenta a capacidade de um vetor de números flutuantes dobrando o seu tamanho.
+	 * @param array vetor atual que deverá ser aumentado.
+	 * @param minimum capacidade mínima que o novo vetor deverá possuir.
+	 * @return aquisição de um novo vetor contendo os valores do vetor atual.
+	 */
+
+	private static float[] grow(float array[], int minimum)
+	{
+		return Arrays.copyOf(array, Math.max(minimum, array.length * 2));
+	}
+
+	/**
+	 * Aumenta a capacidade de um vetor de números inteiros dobrando o seu tamanho.
+	 * @param array vetor atual que deverá ser aumentado.
+	 * @param minimum capacidade mínima que o novo vetor deverá possuir.
+	 * @return aquisição de um novo vetor contendo os valores do vetor atual.
+	 */
+
+	private static int[] grow(int array[], int minimum)
+	{
+		return Arrays.copyOf(array, Math.max(minimum, array.length * 2));
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("vertices", verticeCount);
+		description.append("uvTextures", uvTextureCount);
+		description.append("normals", normalCount);
+		description.append("triangles", cornerCount / 3);
+
+		return description.toString();
+	}
+}
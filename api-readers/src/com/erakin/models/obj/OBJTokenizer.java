@@ -0,0 +1,421 @@
+package com.erakin.models.obj;
+
+import java.nio.charset.StandardCharsets;
+
+import org.diverproject.util.ObjectDescription;
+
+import com.erakin.api.resources.model.ModelException;
+
+/**
+ * <h1>Analisador de Símbolos OBJ</h1>
+ *
+ * <p>Percorre diretamente os bytes de um arquivo OBJ já carregado em memória, identificando os registros
+ * de cada linha e convertendo os valores numéricos sem criar strings ou objetos intermediários.
+ * Trabalha sobre um intervalo do vetor de bytes, permitindo que apenas parte do arquivo seja analisada.</p>
+ *
+ * <p>Os números flutuantes são convertidos através de uma mantissa inteira e uma potência de 10,
+ * formato usado por todos os exportadores conhecidos. Valores fora deste formato (nan, inf ou hexadecimal)
+ * são repassados para <code>Float.parseFloat</code>, único caso onde uma string será criada.</p>
+ *
+ * @see ModelReaderOBJ
+ * @see OBJContent
+ *
+ * @author Andrew
+ */
+
+public class OBJTokenizer
+{
+	/**
+	 * Registro desconhecido ou sem importância para a modelagem (comentários, objetos, grupos, materiais).
+	 */
+	public static final int RECORD_NONE = 0;
+
+	/**
+	 * Registro de vértice (v).
+	 */
+	public static final int RECORD_VERTICE = 1;
+
+	/**
+	 * Registro de coordenada de textura (vt).
+	 */
+	public static final int RECORD_UV_TEXTURE = 2;
+
+	/**
+	 * Registro de normal (vn).
+	 */
+	public static final int RECORD_NORMAL = 3;
+
+	/**
+	 * Registro de face (f).
+	 */
+	public static final int RECORD_FACE = 4;
+
+	/**
+	 * Quantidade máxima de dígitos significativos considerados na mantissa.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * Potências de 10 que podem ser representadas de forma exata em um double.
+	 */
+	private static final double POWERS[] =
+	{
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/**
+	 * Vetor contendo os bytes do arquivo.
+	 */
+	private final byte data[];
+
+	/**
+	 * Posição do próximo byte a ser analisado.
+	 */
+	private int offset;
+
+	/**
+	 * Posição final (exclusiva) do intervalo analisado.
+	 */
+	private final int end;
+
+	/**
+	 * Número da linha que está sendo analisada.
+	 */
+	private int line;
+
+	/**
+	 * Indica se algum índice relativo (negativo) foi convertido.
+	 */
+	private boolean relative;
+
+	/**
+	 * Cria um novo analisador de símbolos para um intervalo de bytes de um arquivo OBJ.
+	 * @param data vetor contendo os bytes do arquivo.
+	 * @param offset posição do primeiro byte a ser analisado, deve ser o início de uma linha.
+	 * @param end posição final (exclusiva) do intervalo a ser analisado.
+	 */
+
+	public OBJTokenizer(byte data[], int offset, int end)
+	{
+		this.data = data;
+		this.offset = offset;
+		this.end = end;
+		this.line = 1;
+	}
+
+	/**
+	 * @return true se ainda houver bytes a serem analisados ou false caso contrário.
+	 */
+
+	public boolean hasNext()
+	{
+		return offset < end;
+	}
+
+	/**
+	 * @return aquisição do número da linha que está sendo analisada.
+	 */
+
+	public int getLine()
+	{
+		return line;
+	}
+
+	/**
+	 * Índices relativos dependem de quantos elementos foram lidos antes, inclusive fora do intervalo analisado.
+	 * @return true se algum índice relativo foi convertido ou false caso contrário.
+	 */
+
+	public boolean hasRelative()
+	{
+		return relative;
+	}
+
+	/**
+	 * Identifica o registro da linha atual, deve ser chamado no início de cada linha.
+	 * Após a identificação o analisador estará posicionado no primeiro valor do registro.
+	 * @return aquisição do tipo de registro identificado, ver constantes <code>RECORD_*</code>.
+	 */
+
+	public int nextRecord()
+	{
+		skipSpaces();
+
+		int start = offset;
+
+		while (offset < end && !isSeparator(data[offset]))
+			offset++;
+
+		int length = offset - start;
+
+		if (length == 1)
+		{
+			if (data[start] == 'v')
+				return RECORD_VERTICE;
+
+			if (data[start] == 'f')
+				return RECORD_FACE;
+		}
+
+		else if (length == 2 && data[start] == 'v')
+		{
+			if (data[start + 1] == 't')
+				return RECORD_UV_TEXTURE;
+
+			if (data[start + 1] == 'n')
+				return RECORD_NORMAL;
+		}
+
+		return RECORD_NONE;
+	}
+
+	/**
+	 * Avança o analisador até o início da próxima linha, ignorando o que restar da linha atual.
+	 */
+
+	public void skipLine()
+	{
+		while (offset < end && data[offset] != '\n')
+			offset++;
+
+		if (offset < end)
+		{
+			offset++;
+			line++;
+		}
+	}
+
+	/**
+	 * Verifica se ainda há algum valor na linha atual, ignorando os espaços antes dele.
+	 * @return true se houver um valor ou false se a linha terminou ou há apenas comentário.
+	 */
+
+	public boolean hasValue()
+	{
+		skipSpaces();
+
+		return offset < end && data[offset] != '\n' && data[offset] != '#';
+	}
+
+	/**
+	 * Consome uma barra de separação dos índices de uma face se esta for o próximo byte.
+	 * @return true se havia uma barra ou false caso contrário.
+	 */
+
+	public boolean nextSlash()
+	{
+		if (offset < end && data[offset] == '/')
+		{
+			offset++;
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Converte o próximo valor da linha atual em um número flutuante.
+	 * @return aquisição do número flutuante convertido.
+	 * @throws ModelException valor não encontrado ou não é um número válido.
+	 */
+
+	public float nextFloat() throws ModelException
+	{
+		if (!hasValue())
+			throw new ModelException("valor não encontrado");
+
+		int start = offset;
+		boolean negative = false;
+
+		if (data[offset] == '-' || data[offset] == '+')
+			negative = data[offset++] == '-';
+
+		long mantissa = 0;
+		int exponent = 0;
+		int digits = 0;
+		boolean found = false;
+
+		for (; offset < end && isDigit(data[offset]); offset++, found = true)
+		{
+			if (digits < MAX_DIGITS)
+			{
+				mantissa = mantissa * 10 + (data[offset] - '0');
+
+				if (mantissa != 0)
+					digits++;
+			}
+
+			else
+				exponent++;
+		}
+
+		if (offset < end && data[offset] == '.')
+			for (offset++; offset < end && isDigit(data[offset]); offset++, found = true)
+				if (digits < MAX_DIGITS)
+				{
+					mantissa = mantissa * 10 + (data[offset] - '0');
+					exponent--;
+
+					if (mantissa != 0)
+						digits++;
+				}
+
+		if (found && offset < end && (data[offset] == 'e' || data[offset] == 'E'))
+		{
+			int position = ++offset;
+			boolean negativeExponent = false;
+
+			if (offset < end && (data[offset] == '-' || data[offset] == '+'))
+				negativeExponent = data[offset++] == '-';
+
+			int value = 0;
+
+			for (; offset < end && isDigit(data[offset]); offset++)
+				if (value < 1000)
+					value = value * 10 + (data[offset] - '0');
+
+			if (offset == position || !isDigit(data[offset - 1]))
+				return parseFloat(start);
+
+			exponent += negativeExponent ? -value : value;
+		}
+
+		if (!found || (offset < end && !isSeparator(data[offset])))
+			return parseFloat(start);
+
+		double value = mantissa;
+
+		if (mantissa != 0 && exponent != 0)
+		{
+			if (exponent > 0 && exponent < POWERS.length)
+				value *= POWERS[exponent];
+			else if (exponent < 0 && -exponent < POWERS.length)
+				value /= POWERS[-exponent];
+			else
+				value *= Math.pow(10, exponent);
+		}
+
+		return (float) (negative ? -value : value);
+	}
+
+	/**
+	 * Converte o próximo valor da linha atual em um índice de face, terminando em espaço ou barra.
+	 * Índices negativos são relativos ao final da lista, conforme especificado pelo formato OBJ.
+	 * @param count quantidade de elementos já lidos na lista referenciada pelo índice.
+	 * @return aquisição do índice convertido a partir de zero.
+	 * @throws ModelException índice não encontrado ou não é um número válido.
+	 */
+
+	public int nextIndex(int count) throws ModelException
+	{
+		int start = offset;
+		boolean negative = false;
+
+		if (offset < end && data[offset] == '-')
+		{
+			negative = true;
+			relative = true;
+			offset++;
+		}
+
+		long value = 0;
+
+		for (; offset < end && isDigit(data[offset]); offset++)
+			if (value <= Integer.MAX_VALUE)
+				value = value * 10 + (data[offset] - '0');
+
+		if (offset == start || !isDigit(data[offset - 1]) || (offset < end && !isSeparator(data[offset]) && data[offset] != '/'))
+			throw new ModelException("índice inválido '%s'", getToken(start));
+
+		if (value == 0 || value > Integer.MAX_VALUE || (negative && value > count))
+			throw new ModelException("índice fora do limite '%s'", getToken(start));
+
+		return negative ? count - (int) value : (int) value - 1;
+	}
+
+	/**
+	 * Avança o analisador enquanto houver espaços ou tabulações.
+	 */
+
+	private void skipSpaces()
+	{
+		while (offset < end && (data[offset] == ' ' || data[offset] == '\t' || data[offset] == '\r'))
+			offset++;
+	}
+
+	/**
+	 * Converte um valor fora do formato comum através de <code>Float.parseFloat</code>.
+	 * Também aceita nan e inf como escritos pelas bibliotecas em C (minúsculos, com ou sem sinal).
+	 * @param start posição do primeiro byte do valor.
+	 * @return aquisição do número flutuante convertido.
+	 * @throws ModelException não é um número válido.
+	 */
+
+	private float parseFloat(int start) throws ModelException
+	{
+		String token = getToken(start);
+		String lower = token.toLowerCase();
+		String unsigned = lower.startsWith("-") || lower.startsWith("+") ? lower.substring(1) : lower;
+
+		if (unsigned.startsWith("nan"))
+			return Float.NaN;
+
+		if (unsigned.equals("inf") || unsigned.equals("infinity"))
+			return lower.startsWith("-") ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+
+		try {
+			return Float.parseFloat(token);
+		} catch (NumberFormatException e) {
+			throw new ModelException("valor inválido '%s'", token);
+		}
+	}
+
+	/**
+	 * Obtém o valor iniciado em uma posição até o próximo separador, posicionando o analisador após ele.
+	 * @param start posição do primeiro byte do valor.
+	 * @return aquisição de uma string contendo o valor.
+	 */
+
+	private String getToken(int start)
+	{
+		offset = start;
+
+		while (offset < end && !isSeparator(data[offset]))
+			offset++;
+
+		return new String(data, start, offset - start, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * @param b byte que será verificado.
+	 * @return true se for um dígito decimal ou false caso contrário.
+	 */
+
+	private static boolean isDigit(byte b)
+	{
+		return b >= '0' && b <= '9';
+	}
+
+	/**
+	 * @param b byte que será verificado.
+	 * @return true se for um espaço, tabulação, quebra de linha ou início de comentário.
+	 */
+
+	private static boolean isSeparator(byte b)
+	{
+		return b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '#';
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("line", line);
+		description.append("offset", offset);
+		description.append("end", end);
+
+		return description.toString();
+	}
+}
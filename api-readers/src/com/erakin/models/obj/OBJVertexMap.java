@@ -0,0 +1,200 @@
+package com.erakin.models.obj;
+
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * <h1>Mapa de Vértices OBJ</h1>
+ *
+ * <p>Em um arquivo OBJ cada canto de uma face referencia separadamente um vértice, uma coordenada de textura
+ * e uma normal, enquanto no OpenGL um índice referencia todos os atributos de uma só vez. Esse mapa atribui
+ * um novo índice para cada combinação (vértice, textura, normal) diferente, de modo que cantos iguais
+ * compartilhem o mesmo vértice e cantos com textura ou normal diferentes (costuras) recebam vértices próprios.</p>
+ *
+ * <p>Utiliza uma tabela de endereçamento aberto (sondagem linear) sobre vetores de inteiros, sem criar objetos
+ * por entrada. As combinações são mantidas na ordem em que foram adicionadas, que é a ordem dos novos índices.</p>
+ *
+ * @see ModelReaderOBJ
+ * @see OBJContent
+ *
+ * @author Andrew
+ */
+
+public class OBJVertexMap
+{
+	/**
+	 * Capacidade inicial da tabela, deve ser uma potência de 2.
+	 */
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Tabela de endereçamento contendo o índice da combinação mais um, zero para espaço vazio.
+	 */
+	private int slots[];
+
+	/**
+	 * Combinações adicionadas em ordem, três inteiros cada (vértice, textura, normal).
+	 */
+	private int entries[];
+
+	/**
+	 * Quantidade de combinações diferentes adicionadas.
+	 */
+	private int size;
+
+	/**
+	 * Cria um novo mapa de vértices vazio com a capacidade inicial.
+	 */
+
+	public OBJVertexMap()
+	{
+		slots = new int[INITIAL_CAPACITY];
+		entries = new int[INITIAL_CAPACITY * 3];
+	}
+
+	/**
+	 * Esvazia o mapa para uma nova modelagem, aumentando a tabela se necessário.
+	 * @param expected quantidade de combinações esperadas, usada para evitar redimensionamentos.
+	 */
+
+	public void clear(int expected)
+	{
+		size = 0;
+
+		int capacity = getCapacity(expected);
+
+		if (capacity > slots.length)
+		{
+			slots = new int[capacity];
+			entries = new int[capacity / 2 * 3];
+		}
+
+		else
+			Arrays.fill(slots, 0);
+	}
+
+	/**
+	 * Obtém o índice de uma combinação, adicionando-a ao final caso ainda não exista no mapa.
+	 * @param vertice índice do vértice a partir de zero.
+	 * @param uvTexture índice da coordenada de textura a partir de zero ou -1 se não houver.
+	 * @param normal índice da normal a partir de zero ou -1 se não houver.
+	 * @return aquisição do índice da combinação no mapa.
+	 */
+
+	public int put(int vertice, int uvTexture, int normal)
+	{
+		int mask = slots.length - 1;
+		int slot = hash(vertice, uvTexture, normal) & mask;
+
+		for (; slots[slot] != 0; slot = (slot + 1) & mask)
+		{
+			int offset = (slots[slot] - 1) * 3;
+
+			if (entries[offset] == vertice && entries[offset + 1] == uvTexture && entries[offset + 2] == normal)
+				return slots[slot] - 1;
+		}
+
+		int index = size++;
+		int offset = index * 3;
+
+		if (offset + 3 > entries.length)
+			entries = Arrays.copyOf(entries, entries.length * 2);
+
+		entries[offset] = vertice;
+		entries[offset + 1] = uvTexture;
+		entries[offset + 2] = normal;
+		slots[slot] = index + 1;
+
+		if (size * 2 > slots.length)
+			rehash(slots.length * 2);
+
+		return index;
+	}
+
+	/**
+	 * O vetor pode possuir mais espaço do que o necessário, apenas as primeiras combinações são válidas.
+	 * @return aquisição do vetor com as combinações (vértice, textura, normal) na ordem dos índices.
+	 */
+
+	public int[] getEntries()
+	{
+		return entries;
+	}
+
+	/**
+	 * @return aquisição da quantidade de combinações diferentes adicionadas.
+	 */
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Redistribui as combinações adicionadas em uma nova tabela de endereçamento.
+	 * @param capacity capacidade da nova tabela, deve ser uma potência de 2.
+	 */
+
+	private void rehash(int capacity)
+	{
+		int mask = capacity - 1;
+
+		slots = new int[capacity];
+
+		for (int index = 0; index < size; index++)
+		{
+			int offset = index * 3;
+			int slot = hash(entries[offset], entries[offset + 1], entries[offset + 2]) & mask;
+
+			while (slots[slot] != 0)
+				slot = (slot + 1) & mask;
+
+			slots[slot] = index + 1;
+		}
+	}
+
+	/**
+	 * Calcula a capacidade da tabela para que não ultrapasse a metade ocupada.
+	 * @param expected quantidade de combinações esperadas.
+	 * @return aquisição da menor potência de 2 que comporta as combinações.
+	 */
+
+	private static int getCapacity(int expected)
+	{
+		int capacity = INITIAL_CAPACITY;
+
+		while (capacity < expected * 2L && capacity < (1 << 30))
+			capacity <<= 1;
+
+		return capacity;
+	}
+
+	/**
+	 * Mistura os três índices de uma combinação de modo a espalhar combinações próximas pela tabela.
+	 * @param vertice índice do vértice.
+	 * @param uvTexture índice da coordenada de textura.
+	 * @param normal índice da normal.
+	 * @return aquisição do código de espalhamento da combinação.
+	 */
+
+	private static int hash(int vertice, int uvTexture, int normal)
+	{
+		int hash = vertice * 0x9E3779B1;
+		hash ^= uvTexture * 0x85EBCA77;
+		hash ^= normal * 0xC2B2AE3D;
+
+		return hash ^ (hash >>> 16);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size);
+		description.append("capacity", slots.length);
+
+		return description.toString();
+	}
+}
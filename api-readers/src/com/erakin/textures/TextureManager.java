@@ -1,29 +1,43 @@
-package com.erakin.textures;
-
-import com.erakin.api.resources.texture.TextureReaderFactory;
-import com.erakin.textures.bmp.TextureReaderBMP;
-import com.erakin.textures.png.TextureReaderPNG;
-
-public class TextureManager
-{
-	private TextureManager()
-	{
-		
-	}
-
-	public static void addAllNativeFormats()
-	{
-		addBMPFormat();
-		addPNGFormat();
-	}
-
-	public static void addBMPFormat()
-	{
-		TextureReaderFactory.getInstance().addTextureReader(TextureReaderBMP.FILE_EXTENSION, new TextureReaderBMP());
-	}
-
-	public static void addPNGFormat()
-	{
-		TextureReaderFactory.getInstance().addTextureReader(TextureReaderPNG.FILE_EXTENSION, new TextureReaderPNG());
-	}
-}
+package com.erakin.textures;
+
+import com.erakin.api.resources.texture.TextureReaderFactory;
+import com.erakin.textures.bmp.TextureReaderBMP;
+import com.erakin.textures.dds.TextureReaderDDS;
+import com.erakin.textures.ktx.TextureReaderKTX;
+import com.erakin.textures.png.TextureReaderPNG;
+
+public class TextureManager
+{
+	private TextureManager()
+	{
+		
+	}
+
+	public static void addAllNativeFormats()
+	{
+		addBMPFormat();
+		addPNGFormat();
+		addDDSFormat();
+		addKTXFormat();
+	}
+
+	public static void addBMPFormat()
+	{
+		TextureReaderFactory.getInstance().addTextureReader(TextureReaderBMP.FILE_EXTENSION, new TextureReaderBMP());
+	}
+
+	public static void addPNGFormat()
+	{
+		TextureReaderFactory.getInstance().addTextureReader(TextureReaderPNG.FILE_EXTENSION, new TextureReaderPNG());
+	}
+
+	public static void addDDSFormat()
+	{
+		TextureReaderFactory.getInstance().addTextureReader(TextureReaderDDS.FILE_EXTENSION, new TextureReaderDDS());
+	}
+
+	public static void addKTXFormat()
+	{
+		TextureReaderFactory.getInstance().addTextureReader(TextureReaderKTX.FILE_EXTENSION, new TextureReaderKTX());
+	}
+}
@@ -0,0 +1,422 @@
+package com.erakin.textures.dds;
+
+import static org.lwjgl.opengl.EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT1_EXT;
+import static org.lwjgl.opengl.EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT3_EXT;
+import static org.lwjgl.opengl.EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+import static org.lwjgl.opengl.EXTTextureCompressionS3TC.GL_COMPRESSED_RGB_S3TC_DXT1_EXT;
+import static org.lwjgl.opengl.EXTTextureSRGB.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT1_EXT;
+import static org.lwjgl.opengl.EXTTextureSRGB.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT3_EXT;
+import static org.lwjgl.opengl.EXTTextureSRGB.GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT5_EXT;
+import static org.lwjgl.opengl.GL30.GL_COMPRESSED_RED_RGTC1;
+import static org.lwjgl.opengl.GL30.GL_COMPRESSED_RG_RGTC2;
+import static org.lwjgl.opengl.GL42.GL_COMPRESSED_RGBA_BPTC_UNORM;
+import static org.lwjgl.opengl.GL42.GL_COMPRESSED_SRGB_ALPHA_BPTC_UNORM;
+
+import org.diverproject.util.ObjectDescription;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.resources.texture.MipmapUtil;
+import com.erakin.api.resources.texture.TextureReaderCompressed;
+import com.erakin.api.resources.texture.TextureRuntimeException;
+
+/**
+ * <h1>Leitor de Textura em DDS</h1>
+ *
+ * <p>Esse leitor permite ler arquivos DirectDraw Surface (DDS) que já possuem os dados prontos para a GPU.
+ * Os blocos compactados (DXT1, DXT3, DXT5, BC4, BC5 e BC7) e a cadeia de mipmaps exportada pelo artista
+ * são repassados para o carregador sem qualquer decodificação, sendo apenas copiados do arquivo.</p>
+ *
+ * <p>Além dos formatos compactados é aceito ainda o formato sem compactação de 32 bits na ordem RGBA.
+ * Texturas cúbicas, volumétricas ou vetores de texturas (DX10) não são suportados por este leitor.</p>
+ *
+ * @see TextureReaderCompressed
+ *
+ * @author Andrew
+ */
+
+public class TextureReaderDDS extends TextureReaderCompressed
+{
+	/**
+	 * Extensão dos arquivos que utilizarão este reader.
+	 */
+	public static final String FILE_EXTENSION = "dds";
+
+	/**
+	 * Assinatura "DDS " lida em little-endian.
+	 */
+	private static final int MAGIC = 0x20534444;
+
+	/**
+	 * Tamanho do cabeçalho DDS_HEADER em bytes.
+	 */
+	private static final int HEADER_SIZE = 124;
+
+	/**
+	 * Tamanho da estrutura DDS_PIXELFORMAT em bytes.
+	 */
+	private static final int PIXELFORMAT_SIZE = 32;
+
+	/**
+	 * Maior largura ou altura aceita, o limite de texturas do Direct3D 11. A leitura pode ocorrer fora da
+	 * thread do OpenGL, o limite real do GL_MAX_TEXTURE_SIZE é verificado pelo carregador ao enviar a textura.
+	 */
+	private static final int MAX_SIZE = 16384;
+
+	/**
+	 * Flag que indica a presença do campo com a quantidade de mipmaps.
+	 */
+	private static final int DDSD_MIPMAPCOUNT = 0x20000;
+
+	/**
+	 * Flag do formato de pixel que indica a presença do código FourCC.
+	 */
+	private static final int DDPF_FOURCC = 0x4;
+
+	/**
+	 * Flag do formato de pixel que indica dados RGB sem compactação.
+	 */
+	private static final int DDPF_RGB = 0x40;
+
+	/**
+	 * Flag de capacidade que indica uma textura cúbica.
+	 */
+	private static final int DDSCAPS2_CUBEMAP = 0x200;
+
+	/**
+	 * Flag de capacidade que indica uma textura volumétrica.
+	 */
+	private static final int DDSCAPS2_VOLUME = 0x200000;
+
+
+	/**
+	 * Código FourCC para compactação DXT1 (BC1).
+	 */
+	private static final int FOURCC_DXT1 = 0x31545844;
+
+	/**
+	 * Código FourCC para compactação DXT3 (BC2).
+	 */
+	private static final int FOURCC_DXT3 = 0x33545844;
+
+	/**
+	 * Código FourCC para compactação DXT5 (BC3).
+	 */
+	private static final int FOURCC_DXT5 = 0x35545844;
+
+	/**
+	 * Código FourCC para compactação ATI1 (BC4).
+	 */
+	private static final int FOURCC_ATI1 = 0x31495441;
+
+	/**
+	 * Código FourCC para compactação ATI2 (BC5).
+	 */
+	private static final int FOURCC_ATI2 = 0x32495441;
+
+	/**
+	 * Código FourCC que indica a presença do cabeçalho estendido DX10.
+	 */
+	private static final int FOURCC_DX10 = 0x30315844;
+
+
+	/**
+	 * Código DXGI para BC1 linear.
+	 */
+	private static final int DXGI_BC1_UNORM = 71;
+
+	/**
+	 * Código DXGI para BC1 em sRGB.
+	 */
+	private static final int DXGI_BC1_UNORM_SRGB = 72;
+
+	/**
+	 * Código DXGI para BC2 linear.
+	 */
+	private static final int DXGI_BC2_UNORM = 74;
+
+	/**
+	 * Código DXGI para BC2 em sRGB.
+	 */
+	private static final int DXGI_BC2_UNORM_SRGB = 75;
+
+	/**
+	 * Código DXGI para BC3 linear.
+	 */
+	private static final int DXGI_BC3_UNORM = 77;
+
+	/**
+	 * Código DXGI para BC3 em sRGB.
+	 */
+	private static final int DXGI_BC3_UNORM_SRGB = 78;
+
+	/**
+	 * Código DXGI para BC4 linear.
+	 */
+	private static final int DXGI_BC4_UNORM = 80;
+
+	/**
+	 * Código DXGI para BC5 linear.
+	 */
+	private static final int DXGI_BC5_UNORM = 83;
+
+	/**
+	 * Código DXGI para BC7 linear.
+	 */
+	private static final int DXGI_BC7_UNORM = 98;
+
+	/**
+	 * Código DXGI para BC7 em sRGB.
+	 */
+	private static final int DXGI_BC7_UNORM_SRGB = 99;
+
+
+	/**
+	 * Largura do nível base em pixels.
+	 */
+	private int width;
+
+	/**
+	 * Altura do nível base em pixels.
+	 */
+	private int height;
+
+	/**
+	 * Quantos bits cada pixel terá após ser descompactado.
+	 */
+	private int depth;
+
+	/**
+	 * Formato interno compactado do OpenGL.
+	 */
+	private int compressedFormat;
+
+	/**
+	 * Tamanho de cada bloco 4x4 em bytes (0 se não compactado).
+	 */
+	private int blockSize;
+
+	/**
+	 * Posição de cada nível de mipmap no arquivo.
+	 */
+	private int mipmapOffsets[];
+
+	/**
+	 * Tamanho de cada nível de mipmap em bytes.
+	 */
+	private int mipmapLengths[];
+
+	@Override
+	protected int getDepth()
+	{
+		return depth;
+	}
+
+	@Override
+	protected int getWidth()
+	{
+		return width;
+	}
+
+	@Override
+	protected int getHeight()
+	{
+		return height;
+	}
+
+	@Override
+	protected int getCompressedFormat()
+	{
+		return compressedFormat;
+	}
+
+	@Override
+	protected int getMipmapCount()
+	{
+		return mipmapOffsets.length;
+	}
+
+	@Override
+	protected int getMipmapOffset(int level)
+	{
+		return mipmapOffsets[level];
+	}
+
+	@Override
+	protected int getMipmapLength(int level)
+	{
+		return mipmapLengths[level];
+	}
+
+	@Override
+	protected void parseBuffer(Buffer buffer)
+	{
+		buffer.invert(true);
+
+		if (buffer.getInt() != MAGIC)
+			throw new TextureRuntimeException("não é um arquivo DDS válido");
+
+		if (buffer.getInt() != HEADER_SIZE)
+			throw new TextureRuntimeException("cabeçalho DDS inválido");
+
+		int flags = buffer.getInt();
+		height = buffer.getInt();
+		width = buffer.getInt();
+		buffer.skip(4);									// dwPitchOrLinearSize
+		buffer.skip(4);									// dwDepth
+		int mipmaps = buffer.getInt();
+		buffer.skip(11 * 4);							// dwReserved1
+
+		if (width < 1 || height < 1 || width > MAX_SIZE || height > MAX_SIZE)
+			throw new TextureRuntimeException("tamanho DDS inválido (%dx%d, máximo: %d)", width, height, MAX_SIZE);
+
+		if (buffer.getInt() != PIXELFORMAT_SIZE)
+			throw new TextureRuntimeException("formato de pixel DDS inválido");
+
+		int pixelFlags = buffer.getInt();
+		int fourCC = buffer.getInt();
+		int bitCount = buffer.getInt();
+		int maskRed = buffer.getInt();
+		int maskGreen = buffer.getInt();
+		int maskBlue = buffer.getInt();
+		int maskAlpha = buffer.getInt();
+
+		buffer.skip(4);									// dwCaps
+		int caps2 = buffer.getInt();
+		buffer.skip(3 * 4);								// dwCaps3, dwCaps4, dwReserved2
+
+		if ((caps2 & (DDSCAPS2_CUBEMAP | DDSCAPS2_VOLUME)) != 0)
+			throw new TextureRuntimeException("texturas DDS cúbicas ou volumétricas não suportadas");
+
+		if ((pixelFlags & DDPF_FOURCC) != 0)
+		{
+			if (fourCC == FOURCC_DX10)
+				readHeaderDX10(buffer);
+			else
+				selectFourCC(fourCC);
+		}
+
+		else if ((pixelFlags & DDPF_RGB) != 0 && bitCount == 32 && maskRed == 0x000000FF &&
+				maskGreen == 0x0000FF00 && maskBlue == 0x00FF0000 && maskAlpha == 0xFF000000)
+			select(0, 0, 32);
+
+		else
+			throw new TextureRuntimeException("formato DDS não suportado (flags: 0x%X, bits: %d)", pixelFlags, bitCount);
+
+		if ((flags & DDSD_MIPMAPCOUNT) == 0 || mipmaps < 1)
+			mipmaps = 1;
+		else
+			mipmaps = Math.min(mipmaps, MipmapUtil.countLevels(width, height));
+
+		mipmapOffsets = new int[mipmaps];
+		mipmapLengths = new int[mipmaps];
+
+		int offset = buffer.offset();
+
+		for (int level = 0; level < mipmaps; level++)
+		{
+			mipmapOffsets[level] = offset;
+			mipmapLengths[level] = levelSize(Math.max(1, width >> level), Math.max(1, height >> level));
+			offset += mipmapLengths[level];
+		}
+	}
+
+	/**
+	 * Procedimento que faz a leitura do cabeçalho estendido DX10 e seleciona o formato a partir do DXGI.
+	 * @param buffer referência do buffer posicionado logo após o cabeçalho principal.
+	 */
+
+	private void readHeaderDX10(Buffer buffer)
+	{
+		int dxgiFormat = buffer.getInt();
+		buffer.skip(4);									// resourceDimension
+		buffer.skip(4);									// miscFlag
+		int arraySize = buffer.getInt();
+		buffer.skip(4);									// miscFlags2
+
+		if (arraySize > 1)
+			throw new TextureRuntimeException("vetores de textura DDS não suportados (arraySize: %d)", arraySize);
+
+		switch (dxgiFormat)
+		{
+			case DXGI_BC1_UNORM:		select(GL_COMPRESSED_RGBA_S3TC_DXT1_EXT, 8, 32); break;
+			case DXGI_BC1_UNORM_SRGB:	select(GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT1_EXT, 8, 32); break;
+			case DXGI_BC2_UNORM:		select(GL_COMPRESSED_RGBA_S3TC_DXT3_EXT, 16, 32); break;
+			case DXGI_BC2_UNORM_SRGB:	select(GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT3_EXT, 16, 32); break;
+			case DXGI_BC3_UNORM:		select(GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, 16, 32); break;
+			case DXGI_BC3_UNORM_SRGB:	select(GL_COMPRESSED_SRGB_ALPHA_S3TC_DXT5_EXT, 16, 32); break;
+			case DXGI_BC4_UNORM:		select(GL_COMPRESSED_RED_RGTC1, 8, 24); break;
+			case DXGI_BC5_UNORM:		select(GL_COMPRESSED_RG_RGTC2, 16, 24); break;
+			case DXGI_BC7_UNORM:		select(GL_COMPRESSED_RGBA_BPTC_UNORM, 16, 32); break;
+			case DXGI_BC7_UNORM_SRGB:	select(GL_COMPRESSED_SRGB_ALPHA_BPTC_UNORM, 16, 32); break;
+
+			default:
+				throw new TextureRuntimeException("formato DXGI não suportado (format: %d)", dxgiFormat);
+		}
+	}
+
+	/**
+	 * Procedimento que seleciona o formato compactado de acordo com o código FourCC do cabeçalho.
+	 * @param fourCC código de quatro caracteres que identifica a compactação usada.
+	 */
+
+	private void selectFourCC(int fourCC)
+	{
+		switch (fourCC)
+		{
+			case FOURCC_DXT1:	select(GL_COMPRESSED_RGB_S3TC_DXT1_EXT, 8, 24); break;
+			case FOURCC_DXT3:	select(GL_COMPRESSED_RGBA_S3TC_DXT3_EXT, 16, 32); break;
+			case FOURCC_DXT5:	select(GL_COMPRESSED_RGBA_S3TC_DXT5_EXT, 16, 32); break;
+			case FOURCC_ATI1:	select(GL_COMPRESSED_RED_RGTC1, 8, 24); break;
+			case FOURCC_ATI2:	select(GL_COMPRESSED_RG_RGTC2, 16, 24); break;
+
+			default:
+				throw new TextureRuntimeException("compactação DDS não suportada (fourCC: 0x%08X)", fourCC);
+		}
+	}
+
+	/**
+	 * Define as propriedades do formato compactado que foi identificado no cabeçalho.
+	 * @param format código do formato interno compactado do OpenGL.
+	 * @param bytes quantidade de bytes ocupados por cada bloco de 4x4 pixels.
+	 * @param bits profundidade dos pixels após serem descompactados.
+	 */
+
+	private void select(int format, int bytes, int bits)
+	{
+		compressedFormat = format;
+		blockSize = bytes;
+		depth = bits;
+	}
+
+	/**
+	 * Calcula quantos bytes um nível de mipmap ocupa de acordo com as suas dimensões.
+	 * Formatos compactados são armazenados em blocos de 4x4 pixels, arredondados para cima.
+	 * @param width largura do nível de mipmap em pixels.
+	 * @param height altura do nível de mipmap em pixels.
+	 * @return aquisição do tamanho em bytes dos dados do nível.
+	 */
+
+	private int levelSize(int width, int height)
+	{
+		if (blockSize == 0)
+			return width * height * 4;
+
+		return Math.max(1, (width + 3) / 4) * Math.max(1, (height + 3) / 4) * blockSize;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("width", width);
+		description.append("height", height);
+		description.append("depth", depth);
+		description.append("compressedFormat", compressedFormat);
+
+		if (mipmapOffsets != null)
+			description.append("mipmaps", mipmapOffsets.length);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,230 @@
+package com.erakin.textures.ktx;
+
+import static org.lwjgl.opengl.GL11.GL_RGB;
+import static org.lwjgl.opengl.GL11.GL_RGBA;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+
+import org.diverproject.util.ObjectDescription;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.resources.texture.TextureReaderCompressed;
+import com.erakin.api.resources.texture.TextureRuntimeException;
+
+/**
+ * <h1>Leitor de Textura em KTX</h1>
+ *
+ * <p>Esse leitor permite ler arquivos Khronos Texture (KTX 1.1) que já possuem os dados prontos para a GPU.
+ * O próprio cabeçalho já informa o formato interno do OpenGL, portanto qualquer formato compactado
+ * suportado pelo driver (DXT, BC, ETC2, ASTC) será repassado ao carregador exatamente como se encontra.</p>
+ *
+ * <p>Dados sem compactação são aceitos apenas em bytes sem sinal nos formatos RGB e RGBA,
+ * o preenchimento de 4 bytes ao final de cada linha definido pelo formato é removido na leitura.
+ * Texturas cúbicas, volumétricas ou vetores de texturas não são suportados por este leitor.</p>
+ *
+ * @see TextureReaderCompressed
+ *
+ * @author Andrew
+ */
+
+public class TextureReaderKTX extends TextureReaderCompressed
+{
+	/**
+	 * Extensão dos arquivos que utilizarão este reader.
+	 */
+	public static final String FILE_EXTENSION = "ktx";
+
+	/**
+	 * Identificador KTX garante que o arquivo independente da extensão seja KTX.
+	 */
+	private static final byte IDENTIFIER[] = new byte[] { (byte) 0xAB, 0x4B, 0x54, 0x58, 0x20, 0x31, 0x31, (byte) 0xBB, 0x0D, 0x0A, 0x1A, 0x0A };
+
+	/**
+	 * Valor do campo de endianness quando lido na mesma ordem em que foi escrito.
+	 */
+	private static final int ENDIANNESS = 0x04030201;
+
+	/**
+	 * Valor do campo de endianness quando lido na ordem inversa em que foi escrito.
+	 */
+	private static final int ENDIANNESS_INVERTED = 0x01020304;
+
+
+	/**
+	 * Largura do nível base em pixels.
+	 */
+	private int width;
+
+	/**
+	 * Altura do nível base em pixels.
+	 */
+	private int height;
+
+	/**
+	 * Quantos bits cada pixel terá após ser descompactado.
+	 */
+	private int depth;
+
+	/**
+	 * Formato interno compactado do OpenGL.
+	 */
+	private int compressedFormat;
+
+	/**
+	 * Posição de cada nível de mipmap no arquivo.
+	 */
+	private int mipmapOffsets[];
+
+	/**
+	 * Tamanho de cada nível de mipmap em bytes.
+	 */
+	private int mipmapLengths[];
+
+	@Override
+	protected int getDepth()
+	{
+		return depth;
+	}
+
+	@Override
+	protected int getWidth()
+	{
+		return width;
+	}
+
+	@Override
+	protected int getHeight()
+	{
+		return height;
+	}
+
+	@Override
+	protected int getCompressedFormat()
+	{
+		return compressedFormat;
+	}
+
+	@Override
+	protected int getMipmapCount()
+	{
+		return mipmapOffsets.length;
+	}
+
+	@Override
+	protected int getMipmapOffset(int level)
+	{
+		return mipmapOffsets[level];
+	}
+
+	@Override
+	protected int getMipmapLength(int level)
+	{
+		return mipmapLengths[level];
+	}
+
+	@Override
+	protected int getRowAlignment()
+	{
+		return 4;
+	}
+
+	@Override
+	protected void parseBuffer(Buffer buffer)
+	{
+		if (!checkIdentifier(buffer))
+			throw new TextureRuntimeException("não é um arquivo KTX válido");
+
+		switch (buffer.getInt())
+		{
+			case ENDIANNESS:			break;
+			case ENDIANNESS_INVERTED:	buffer.invert(true); break;
+
+			default:
+				throw new TextureRuntimeException("endianness KTX inválido");
+		}
+
+		int glType = buffer.getInt();
+		buffer.skip(4);									// glTypeSize
+		int glFormat = buffer.getInt();
+		int glInternalFormat = buffer.getInt();
+		buffer.skip(4);									// glBaseInternalFormat
+		width = buffer.getInt();
+		height = buffer.getInt();
+		int pixelDepth = buffer.getInt();
+		int arrayElements = buffer.getInt();
+		int faces = buffer.getInt();
+		int mipmaps = buffer.getInt();
+		int keyValueBytes = buffer.getInt();
+
+		if (height == 0 || pixelDepth != 0 || arrayElements != 0 || faces != 1)
+			throw new TextureRuntimeException("apenas texturas KTX 2D são suportadas");
+
+		if (glType == 0)
+		{
+			compressedFormat = glInternalFormat;
+			depth = 32;
+		}
+
+		else if (glType == GL_UNSIGNED_BYTE && (glFormat == GL_RGBA || glFormat == GL_RGB))
+		{
+			compressedFormat = 0;
+			depth = glFormat == GL_RGBA ? 32 : 24;
+		}
+
+		else
+			throw new TextureRuntimeException("formato KTX não suportado (type: 0x%X, format: 0x%X)", glType, glFormat);
+
+		buffer.skip(keyValueBytes);
+
+		if (mipmaps < 1)
+			mipmaps = 1;
+
+		mipmapOffsets = new int[mipmaps];
+		mipmapLengths = new int[mipmaps];
+
+		for (int level = 0; level < mipmaps; level++)
+		{
+			int imageSize = buffer.getInt();
+
+			if (imageSize < 0 || imageSize > buffer.space())
+				throw new TextureRuntimeException("nível de mipmap KTX incompleto (level: %d)", level);
+
+			mipmapOffsets[level] = buffer.offset();
+			mipmapLengths[level] = imageSize;
+
+			buffer.skip(imageSize + (3 - ((imageSize + 3) % 4)));
+		}
+	}
+
+	/**
+	 * Deve verificar se um determinado buffer contem o identificador KTX.
+	 * O identificador deve se encontrar no inicio do arquivo como também
+	 * deverá possuir exatamente os mesmos bytes pré-definidos.
+	 * @param buffer referência do buffer que verificará o identificador.
+	 * @return true se o buffer possuir o identificador ou false caso contrário.
+	 */
+
+	private boolean checkIdentifier(Buffer buffer)
+	{
+		for (int i = 0; i < IDENTIFIER.length; i++)
+			if (buffer.read() != IDENTIFIER[i])
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("width", width);
+		description.append("height", height);
+		description.append("depth", depth);
+		description.append("compressedFormat", compressedFormat);
+
+		if (mipmapOffsets != null)
+			description.append("mipmaps", mipmapOffsets.length);
+
+		return description.toString();
+	}
+}
@@ -1,305 +1,377 @@
-package com.erakin.textures.png;
-
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_ABGR;
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_ALPHA;
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_BGRA;
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE;
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE_ALPHA;
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGB;
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
-import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGB;
-import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGBA_ABGR;
-import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGBA_BGRA;
-import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGBA_RGB;
-import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGBA_RGBA;
-import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGB_ABGR;
-import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGB_BGRA;
-import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGB_RGBA;
-import static com.erakin.textures.png.PixelExpandImpl.EXPAND1;
-import static com.erakin.textures.png.PixelExpandImpl.EXPAND2;
-import static com.erakin.textures.png.PixelExpandImpl.EXPAND4;
-import static com.erakin.textures.png.PixelPaletteCastImpl.CONVERT_PAL_ABGR;
-import static com.erakin.textures.png.PixelPaletteCastImpl.CONVERT_PAL_BGRA;
-import static com.erakin.textures.png.PixelPaletteCastImpl.CONVERT_PAL_RGBA;
-
-import java.nio.ByteBuffer;
-
-import com.erakin.api.files.FileRuntimeException;
-import com.erakin.api.resources.texture.PixelFormat;
-
-/**
- * <h1>PNG</h1>
- *
- * <p>Classe utilitria usada para realizar operaes que seguem o padro de dados dos arquivos PNG.
- * Deve permitir fazer algumas operaes a fim de converter os dados de um raster obtido do arquivo.
- * Alm disso dever permitir outras operaes como trabalhar com operaes de RLE comum para PNG.</p>
- *
- * @author Andrew Mello
- */
-
-public class PNGUtil
-{
-	/**
-	 * Decodifica uma quantidade de bytes especficos que estejam usando o formato RGB.
-	 * @param buffer referncia do buffer que ir armazenar os pixels decodificados em bytes.
-	 * @param output formato do qual deseja que os bytes sejam convertidos, sada de dados.
-	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial  imagem).
-	 * @param transparent vetor contendo o valor que ser considerado como pixel transparente.
-	 * @throws FileRuntimeException se o tipo de sada no for vlido para RGB.
-	 */
-
-	public static void decodeColorTrueColor(ByteBuffer buffer, PixelFormat output, byte[] line, byte[] transparent)
-	{
-		if (output == FORMAT_ABGR)
-			CONVERT_RGB_ABGR.read(buffer, line, transparent, 1, line.length);
-
-		else if (output == FORMAT_RGBA)
-			CONVERT_RGB_RGBA.read(buffer, line, transparent, 1, line.length);
-
-		else if (output == FORMAT_BGRA)
-			CONVERT_RGB_BGRA.read(buffer, line, transparent, 1, line.length);
-
-		else if (output == FORMAT_RGB)
-			CONVERT_RGB.read(buffer, line, transparent, 1, line.length);
-
-		else
-			throw new FileRuntimeException("tipo de cor no suportado");
-	}
-
-	/**
-	 * Decodifica uma quantidade de bytes especficos que estejam usando o formato RGBA.
-	 * @param buffer referncia do buffer que ir armazenar os pixels decodificados em bytes.
-	 * @param output formato do qual deseja que os bytes sejam convertidos, sada de dados.
-	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial  imagem).
-	 * @param transparent vetor contendo o valor que ser considerado como pixel transparente.
-	 * @throws FileRuntimeException se o tipo de sada no for vlido para RGBA.
-	 */
-
-	public static void decodeColorTrueAlpha(ByteBuffer buffer, PixelFormat output, byte[] line, byte[] transparent)
-	{
-		if (output == FORMAT_ABGR)
-			CONVERT_RGBA_ABGR.read(buffer, line, transparent, 1, line.length);
-
-		else if (output == FORMAT_RGBA)
-			CONVERT_RGBA_RGBA.read(buffer, line, transparent, 1, line.length);
-
-		else if (output == FORMAT_BGRA)
-			CONVERT_RGBA_BGRA.read(buffer, line, transparent, 1, line.length);
-
-		else if (output == FORMAT_RGB)
-			CONVERT_RGBA_RGB.read(buffer, line, transparent, 1, line.length);
-
-		else
-			throw new FileRuntimeException("tipo de cor no suportado");		
-	}
-
-	/**
-	 * Decodifica uma quantidade de bytes especficos que estejam usando o formato Luminance ou Alpha.
-	 * @param buffer referncia do buffer que ir armazenar os pixels decodificados em bytes.
-	 * @param output formato do qual deseja que os bytes sejam convertidos, sada de dados.
-	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial  imagem).
-	 * @throws FileRuntimeException se o tipo de sada no for vlido para Luminance ou Alpha.
-	 */
-
-	public static void decodeColorGrayScale(ByteBuffer buffer, PixelFormat output, byte[] line)
-	{
-		if (output != FORMAT_LUMINANCE && output != FORMAT_ALPHA)
-			throw new FileRuntimeException("tipo de cor no suportado");		
-
-		copy(buffer, line);
-	}
-
-	/**
-	 * Decodifica uma quantidade de bytes especficos que estejam usando o formato Escala Cinza.
-	 * @param buffer referncia do buffer que ir armazenar os pixels decodificados em bytes.
-	 * @param output formato do qual deseja que os bytes sejam convertidos, sada de dados.
-	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial  imagem).
-	 * @throws FileRuntimeException se o tipo de sada no for vlido para Escala Cinza.
-	 */
-
-	public static void decodeColorGrayAlpha(ByteBuffer buffer, PixelFormat output, byte[] line)
-	{
-		if (output != FORMAT_LUMINANCE_ALPHA)
-			throw new FileRuntimeException("tipo de cor no suportado");
-
-		copy(buffer, line);
-	}
-
-	/**
-	 * Decodifica uma quantidade de bytes especficos que estejam usando o formato Cor Indexada.
-	 * @param buffer referncia do buffer que ir armazenar os pixels decodificados em bytes.
-	 * @param output formato do qual deseja que os bytes sejam convertidos, sada de dados.
-	 * @param depth quantos bits sero usados da paleta para especificar um nico ndice.
-	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial  imagem).
-	 * @param pal paleta contendo as cores que sero consideradas para cada ndice encontrado.
-	 * @throws FileRuntimeException se o tipo de sada no for vlido para Cor Indexada.
-	 */
-
-	public static void decodeColorIndexed(ByteBuffer buffer, PixelFormat output, int depth, byte[] line, byte[] pal)
-	{
-		switch (depth)
-		{
-			case 8:
-				pal = line;
-				break;
-
-			case 4:
-				EXPAND4.parse(line, pal);
-				break;
-
-			case 2:
-				EXPAND2.parse(line, pal);
-				break;
-
-			case 1:
-				EXPAND1.parse(line, pal);
-				break;
-
-			default:
-				throw new FileRuntimeException("tipo de cor no suportado");
-		}
-	}
-
-	/**
-	 * Decodifica uma quantidade de bytes especficos que estejam usando o formato Paleta.
-	 * @param buffer referncia do buffer que ir armazenar os pixels decodificados em bytes.
-	 * @param output formato do qual deseja que os bytes sejam convertidos, sada de dados.
-	 * @param line referncia da linha de varredura contendo informaes dos pixels.
-	 * @param palette vetor contendo a lista de cores do qual ser considerada.
-	 * @param transparency vetor contendo a cor considerada como transparente.
-	 * @throws FileRuntimeException se o tipo de sada no for vlido para RGBA|ABGR|BGRA.
-	 */
-
-	public static void decodeColorIndexedSub(ByteBuffer buffer, PixelFormat output, byte[] line, byte[] palette, byte[] transparency)
-	{
-		if (output == FORMAT_ABGR)
-			CONVERT_PAL_ABGR.cast(buffer, line, palette, transparency);
-
-		else if (output == FORMAT_RGBA)
-			CONVERT_PAL_RGBA.cast(buffer, line, palette, transparency);
-
-		else if (output == FORMAT_BGRA)
-			CONVERT_PAL_BGRA.cast(buffer, line, palette, transparency);
-
-		else
-			throw new FileRuntimeException("tipo de cor no suportado");
-	}
-
-	/**
-	 * Procedimento que ir fazer uma cpia do contedo de uma linha de pixels
-	 * para dentro de um buffer especificado, sem fazer qualquer validao.
-	 * @param buffer referncia do buffer que ser armazenado os pixels.
-	 * @param line bytes respectivos de uma nica linha de pixels.
-	 */
-
-	public static void copy(ByteBuffer buffer, byte[] line)
-	{
-		buffer.put(line, 1, line.length - 1);
-	}
-
-
-	/**
-	 * PRocedimento que dever fazer a varredura dos pixels de cada linha da imagem.
-	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem.
-	 * @param current vetor correspondente aos pixels da linha para varredura atual.
-	 * @param previous linha de varredura dos pixels superiores a linha atual.
-	 */
-
-	public static void unfilter(int bpp, byte[] current, byte[] previous)
-	{
-		switch (current[0])
-		{
-			case 0:	break;
-			case 1: PNGUtil.unfilterSub(bpp, current); break;
-			case 2: PNGUtil.unfilterUp(current, previous); break;
-			case 3: PNGUtil.unfilterAverage(bpp, current, previous); break;
-			case 4: PNGUtil.unfilterPaeth(bpp, current, previous); break;
-
-			default:
-				PNGUtil.unfilterPaeth(bpp, current, previous);
-		}
-	}
-
-	/**
-	 * Filtro que transmite a diferena entre cada byte e o valor do byte correspondente ao
-	 * pixel anterior. Para cada byte da linha de varredura ser feito a filtragem.
-	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem.
-	 * @param current vetor contendo os bytes da atual linha de pixels.
-	 */
-
-	public static void unfilterSub(int bpp, byte[] current)
-	{
-		for (int i = bpp + 1; i < current.length; i++)
-			current[i] += current[i - bpp];
-	}
-
-	/**
-	 * Filtro superior  como o filtro inferior exceto que o pixel imediatamente acima do
-	 * pixel da imagem correspondente, em vez de apenas para o seu lado esquerdo. E para
-	 * cada byte da linha de varredura ser aplicado o mesmo clculo desse filtro.
-	 * @param current vetor contendo os bytes da atual linha de pixels.
-	 * @param previous vetor contendo os bytes da linha de pixels anterior.
-	 */
-
-	public static void unfilterUp(byte[] current, byte[] previous)
-	{
-		for (int i = 1; i < current.length; i++)
-			current[i] += previous[i];
-	}
-
-	/**
-	 * Filtro mdio utiliza uma mdia entre os dois pixels vizinhos (esquerda e cima) para prever o valor de um pixel.
-	 * E para cada byte da linha de varredura ser aplicado o mesmo clculo desse filtro.
-	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem.
-	 * @param current vetor contendo os bytes da atual linha de pixels.
-	 * @param previous vetor contendo os bytes da linha de pixels anterior.
-	 */
-
-	public static void unfilterAverage(int bpp, byte[] current, byte[] previous)
-	{
-		int i;
-
-		for (i = 1; i <= bpp; i++)
-			current[i] += (byte) ((previous[i] & 0xFF) >>> 1);
-
-		for (; i < current.length; i++)
-			current[i] += (byte) (((previous[i] & 0xFF) + (current[i - bpp] & 0xFF)) >>> 1);
-	}
-
-	/**
-	 * O filtro Paeth calcula uma funo linear simples dos trs pixels vizinhos,
-	 * em seguida, escolhe como preditor o pixel vizinho mais prximo do valor calculado.
-	 * E para cada byte da linha de varredura ser aplicado o mesmo clculo desse filtro.
-	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem.
-	 * @param current vetor contendo os bytes da atual linha de pixels.
-	 * @param previous vetor contendo os bytes da linha de pixels anterior.
-	 */
-
-	public static void unfilterPaeth(int bpp, byte[] current, byte[] previous)
-	{
-		int i;
-
-		for (i = 1; i <= bpp; i++)
-			current[i] += previous[i];
-
-		for (; i < current.length; i++)
-		{
-			int a = current[i - bpp] & 255;
-			int b = previous[i] & 255;
-			int c = previous[i - bpp] & 255;
-			int p = a + b - c;
-
-			int pa = p - a; if (pa < 0) pa = -pa;
-			int pb = p - b; if (pb < 0) pb = -pb;
-			int pc = p - c; if (pc < 0) pc = -pc;
-
-			if (pa <= pb && pa <= pc)
-				c = a;
-
-			else if (pb <= pc)
-				c = b;
-
-			current[i] += (byte) c;
-		}
-	}
-}
+package com.erakin.textures.png;
+
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_ABGR;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_ALPHA;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_BGRA;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE_ALPHA;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGB;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
+import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGB;
+import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGBA_ABGR;
+import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGBA_BGRA;
+import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGBA_RGB;
+import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGBA_RGBA;
+import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGB_ABGR;
+import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGB_BGRA;
+import static com.erakin.textures.png.PixelReadDirect.CONVERT_RGB_RGBA;
+import static com.erakin.textures.png.PixelExpandImpl.EXPAND1;
+import static com.erakin.textures.png.PixelExpandImpl.EXPAND2;
+import static com.erakin.textures.png.PixelExpandImpl.EXPAND4;
+import static com.erakin.textures.png.PixelPaletteCastImpl.CONVERT_PAL_ABGR;
+import static com.erakin.textures.png.PixelPaletteCastImpl.CONVERT_PAL_BGRA;
+import static com.erakin.textures.png.PixelPaletteCastImpl.CONVERT_PAL_RGBA;
+
+import java.nio.ByteBuffer;
+
+import com.erakin.api.files.FileRuntimeException;
+import com.erakin.api.resources.texture.PixelFormat;
+
+/**
+ * <h1>PNG</h1>
+ *
+ * <p>Classe utilitária usada para realizar operações que seguem o padrão de dados dos arquivos PNG.
+ * Deve permitir fazer algumas operações a fim de converter os dados de um raster obtido do arquivo.
+ * Além disso deverá permitir outras operações como trabalhar com operações de RLE comum para PNG.</p>
+ *
+ * @author Andrew Mello
+ */
+
+public class PNGUtil
+{
+	/**
+	 * Decodifica uma quantidade de bytes específicos que estejam usando o formato RGB.
+	 * @param buffer referência do buffer que irá armazenar os pixels decodificados em bytes.
+	 * @param output formato do qual deseja que os bytes sejam convertidos, saída de dados.
+	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial à imagem).
+	 * @param transparent vetor contendo o valor que será considerado como pixel transparente.
+	 * @throws FileRuntimeException se o tipo de saída não for válido para RGB.
+	 */
+
+	public static void decodeColorTrueColor(ByteBuffer buffer, PixelFormat output, byte[] line, byte[] transparent)
+	{
+		if (output == FORMAT_ABGR)
+			CONVERT_RGB_ABGR.read(buffer, line, transparent, 1, line.length);
+
+		else if (output == FORMAT_RGBA)
+			CONVERT_RGB_RGBA.read(buffer, line, transparent, 1, line.length);
+
+		else if (output == FORMAT_BGRA)
+			CONVERT_RGB_BGRA.read(buffer, line, transparent, 1, line.length);
+
+		else if (output == FORMAT_RGB)
+			CONVERT_RGB.read(buffer, line, transparent, 1, line.length);
+
+		else
+			throw new FileRuntimeException("tipo de cor não suportado");
+	}
+
+	/**
+	 * Decodifica uma quantidade de bytes específicos que estejam usando o formato RGBA.
+	 * @param buffer referência do buffer que irá armazenar os pixels decodificados em bytes.
+	 * @param output formato do qual deseja que os bytes sejam convertidos, saída de dados.
+	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial à imagem).
+	 * @param transparent vetor contendo o valor que será considerado como pixel transparente.
+	 * @throws FileRuntimeException se o tipo de saída não for válido para RGBA.
+	 */
+
+	public static void decodeColorTrueAlpha(ByteBuffer buffer, PixelFormat output, byte[] line, byte[] transparent)
+	{
+		if (output == FORMAT_ABGR)
+			CONVERT_RGBA_ABGR.read(buffer, line, transparent, 1, line.length);
+
+		else if (output == FORMAT_RGBA)
+			CONVERT_RGBA_RGBA.read(buffer, line, transparent, 1, line.length);
+
+		else if (output == FORMAT_BGRA)
+			CONVERT_RGBA_BGRA.read(buffer, line, transparent, 1, line.length);
+
+		else if (output == FORMAT_RGB)
+			CONVERT_RGBA_RGB.read(buffer, line, transparent, 1, line.length);
+
+		else
+			throw new FileRuntimeException("tipo de cor não suportado");		
+	}
+
+	/**
+	 * Decodifica uma quantidade de bytes específicos que estejam usando o formato Luminance ou Alpha.
+	 * @param buffer referência do buffer que irá armazenar os pixels decodificados em bytes.
+	 * @param output formato do qual deseja que os bytes sejam convertidos, saída de dados.
+	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial à imagem).
+	 * @throws FileRuntimeException se o tipo de saída não for válido para Luminance ou Alpha.
+	 */
+
+	public static void decodeColorGrayScale(ByteBuffer buffer, PixelFormat output, byte[] line)
+	{
+		if (output != FORMAT_LUMINANCE && output != FORMAT_ALPHA)
+			throw new FileRuntimeException("tipo de cor não suportado");		
+
+		copy(buffer, line);
+	}
+
+	/**
+	 * Decodifica uma quantidade de bytes específicos que estejam usando o formato Escala Cinza.
+	 * @param buffer referência do buffer que irá armazenar os pixels decodificados em bytes.
+	 * @param output formato do qual deseja que os bytes sejam convertidos, saída de dados.
+	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial à imagem).
+	 * @throws FileRuntimeException se o tipo de saída não for válido para Escala Cinza.
+	 */
+
+	public static void decodeColorGrayAlpha(ByteBuffer buffer, PixelFormat output, byte[] line)
+	{
+		if (output != FORMAT_LUMINANCE_ALPHA)
+			throw new FileRuntimeException("tipo de cor não suportado");
+
+		copy(buffer, line);
+	}
+
+	/**
+	 * Decodifica uma linha em escala cinza para luminância de 16 bits na ordem de bytes do buffer.
+	 * Amostras de 16 bits são mantidas com precisão completa e as de 8 bits são expandidas (v * 257).
+	 * @param buffer referência do buffer que irá armazenar os pixels decodificados em bytes.
+	 * @param line linha contendo as amostras (big-endian quando 16 bits) a partir do índice 1.
+	 * @param depth quantidade de bits de cada amostra na linha, 8 ou 16.
+	 */
+
+	public static void decodeColorGrayScale16(ByteBuffer buffer, byte[] line, int depth)
+	{
+		if (depth == 16)
+			for (int i = 1; i < line.length; i += 2)
+				buffer.putShort((short) (((line[i] & 0xFF) << 8) | (line[i + 1] & 0xFF)));
+		else
+			for (int i = 1; i < line.length; i++)
+				buffer.putShort((short) ((line[i] & 0xFF) * 257));
+	}
+
+	/**
+	 * Decodifica uma quantidade de bytes específicos que estejam usando o formato Cor Indexada.
+	 * @param buffer referência do buffer que irá armazenar os pixels decodificados em bytes.
+	 * @param output formato do qual deseja que os bytes sejam convertidos, saída de dados.
+	 * @param depth quantos bits serão usados da paleta para especificar um único índice.
+	 * @param line linha contendo os dados dos pixels a serem convertidos (parcial à imagem).
+	 * @param pal paleta contendo as cores que serão consideradas para cada índice encontrado.
+	 * @throws FileRuntimeException se o tipo de saída não for válido para Cor Indexada.
+	 */
+
+	public static void decodeColorIndexed(ByteBuffer buffer, PixelFormat output, int depth, byte[] line, byte[] pal)
+	{
+		switch (depth)
+		{
+			case 8:
+				pal = line;
+				break;
+
+			case 4:
+				EXPAND4.parse(line, pal);
+				break;
+
+			case 2:
+				EXPAND2.parse(line, pal);
+				break;
+
+			case 1:
+				EXPAND1.parse(line, pal);
+				break;
+
+			default:
+				throw new FileRuntimeException("tipo de cor não suportado");
+		}
+	}
+
+	/**
+	 * Decodifica uma quantidade de bytes específicos que estejam usando o formato Paleta.
+	 * @param buffer referência do buffer que irá armazenar os pixels decodificados em bytes.
+	 * @param output formato do qual deseja que os bytes sejam convertidos, saída de dados.
+	 * @param line referência da linha de varredura contendo informações dos pixels.
+	 * @param palette vetor contendo a lista de cores do qual será considerada.
+	 * @param transparency vetor contendo a cor considerada como transparente.
+	 * @throws FileRuntimeException se o tipo de saída não for válido para RGBA|ABGR|BGRA.
+	 */
+
+	public static void decodeColorIndexedSub(ByteBuffer buffer, PixelFormat output, byte[] line, byte[] palette, byte[] transparency)
+	{
+		if (output == FORMAT_ABGR)
+			CONVERT_PAL_ABGR.cast(buffer, line, palette, transparency);
+
+		else if (output == FORMAT_RGBA)
+			CONVERT_PAL_RGBA.cast(buffer, line, palette, transparency);
+
+		else if (output == FORMAT_BGRA)
+			CONVERT_PAL_BGRA.cast(buffer, line, palette, transparency);
+
+		else
+			throw new FileRuntimeException("tipo de cor não suportado");
+	}
+
+	/**
+	 * Procedimento que irá fazer uma cópia do conteúdo de uma linha de pixels
+	 * para dentro de um buffer especificado, sem fazer qualquer validação.
+	 * @param buffer referência do buffer que será armazenado os pixels.
+	 * @param line bytes respectivos de uma única linha de pixels.
+	 */
+
+	public static void copy(ByteBuffer buffer, byte[] line)
+	{
+		buffer.put(line, 1, line.length - 1);
+	}
+
+
+	/**
+	 * PRocedimento que deverá fazer a varredura dos pixels de cada linha da imagem.
+	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem.
+	 * @param current vetor correspondente aos pixels da linha para varredura atual.
+	 * @param previous linha de varredura dos pixels superiores a linha atual.
+	 */
+
+	public static void unfilter(int bpp, byte[] current, byte[] previous)
+	{
+		switch (current[0])
+		{
+			case 0:	break;
+			case 1: PNGUtil.unfilterSub(bpp, current); break;
+			case 2: PNGUtil.unfilterUp(current, previous); break;
+			case 3: PNGUtil.unfilterAverage(bpp, current, previous); break;
+			case 4: PNGUtil.unfilterPaeth(bpp, current, previous); break;
+
+			default:
+				PNGUtil.unfilterPaeth(bpp, current, previous);
+		}
+	}
+
+	/**
+	 * Filtro que transmite a diferença entre cada byte e o valor do byte correspondente ao
+	 * pixel anterior. Para cada byte da linha de varredura será feito a filtragem.
+	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem.
+	 * @param current vetor contendo os bytes da atual linha de pixels.
+	 */
+
+	public static void unfilterSub(int bpp, byte[] current)
+	{
+		for (int i = bpp + 1; i < current.length; i++)
+			current[i] += current[i - bpp];
+	}
+
+	/**
+	 * Filtro superior é como o filtro inferior exceto que o pixel imediatamente acima do
+	 * pixel da imagem correspondente, em vez de apenas para o seu lado esquerdo. E para
+	 * cada byte da linha de varredura será aplicado o mesmo cálculo desse filtro.
+	 * @param current vetor contendo os bytes da atual linha de pixels.
+	 * @param previous vetor contendo os bytes da linha de pixels anterior.
+	 */
+
+	public static void unfilterUp(byte[] current, byte[] previous)
+	{
+		for (int i = 1; i < current.length; i++)
+			current[i] += previous[i];
+	}
+
+	/**
+	 * Filtro médio utiliza uma média entre os dois pixels vizinhos (esquerda e cima) para prever o valor de um pixel.
+	 * E para cada byte da linha de varredura será aplicado o mesmo cálculo desse filtro.
+	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem.
+	 * @param current vetor contendo os bytes da atual linha de pixels.
+	 * @param previous vetor contendo os bytes da linha de pixels anterior.
+	 */
+
+	public static void unfilterAverage(int bpp, byte[] current, byte[] previous)
+	{
+		int i;
+
+		for (i = 1; i <= bpp; i++)
+			current[i] += (byte) ((previous[i] & 0xFF) >>> 1);
+
+		for (; i < current.length; i++)
+			current[i] += (byte) (((previous[i] & 0xFF) + (current[i - bpp] & 0xFF)) >>> 1);
+	}
+
+	/**
+	 * O filtro Paeth calcula uma função linear simples dos três pixels vizinhos,
+	 * em seguida, escolhe como preditor o pixel vizinho mais próximo do valor calculado.
+	 * E para cada byte da linha de varredura será aplicado o mesmo cálculo desse filtro.
+	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem.
+	 * @param current vetor contendo os bytes da atual linha de pixels.
+	 * @param previous vetor contendo os bytes da linha de pixels anterior.
+	 */
+
+	public static void unfilterPaeth(int bpp, byte[] current, byte[] previous)
+	{
+		int i;
+
+		for (i = 1; i <= bpp; i++)
+			current[i] += previous[i];
+
+		for (; i < current.length; i++)
+		{
+			int a = current[i - bpp] & 255;
+			int b = previous[i] & 255;
+			int c = previous[i - bpp] & 255;
+			int p = a + b - c;
+
+			int pa = p - a; if (pa < 0) pa = -pa;
+			int pb = p - b; if (pb < 0) pb = -pb;
+			int pc = p - c; if (pc < 0) pc = -pc;
+
+			if (pa <= pb && pa <= pc)
+				c = a;
+
+			else if (pb <= pc)
+				c = b;
+
+			current[i] += (byte) c;
+		}
+	}
+
+	/**
+	 * Remove a filtragem de uma linha com amostras de 16 bits e na mesma passagem reduz cada amostra
+	 * para 8 bits (byte mais significativo), evitando uma segunda passagem sobre a linha.
+	 * A linha atual continua com as amostras em 16 bits pois será usada como anterior na próxima.
+	 * @param bpp quantidade de bytes por pixel que foi usado durante a filtragem (2 por canal).
+	 * @param current vetor correspondente aos pixels da linha para varredura atual.
+	 * @param previous linha de varredura dos pixels superiores a linha atual.
+	 * @param narrow vetor que irá receber a linha em 8 bits, com metade do tamanho mais o byte de filtro.
+	 */
+
+	public static void unfilter16(int bpp, byte[] current, byte[] previous, byte[] narrow)
+	{
+		int filter = current[0];
+
+		for (int i = 1; i < current.length; i++)
+		{
+			int a = i > bpp ? current[i - bpp] & 255 : 0;
+			int b = previous[i] & 255;
+
+			switch (filter)
+			{
+				case 0:
+					break;
+
+				case 1:
+					current[i] += (byte) a;
+					break;
+
+				case 2:
+					current[i] += (byte) b;
+					break;
+
+				case 3:
+					current[i] += (byte) ((a + b) >>> 1);
+					break;
+
+				default:
+					int c = i > bpp ? previous[i - bpp] & 255 : 0;
+					int p = a + b - c;
+
+					int pa = p - a; if (pa < 0) pa = -pa;
+					int pb = p - b; if (pb < 0) pb = -pb;
+					int pc = p - c; if (pc < 0) pc = -pc;
+
+					current[i] += (byte) (pa <= pb && pa <= pc ? a : pb <= pc ? b : c);
+			}
+
+			if ((i & 1) == 1)
+				narrow[(i + 1) >> 1] = current[i];
+		}
+
+		narrow[0] = 0;
+	}
+}
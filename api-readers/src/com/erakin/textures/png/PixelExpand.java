@@ -1,35 +1,35 @@
-package com.erakin.textures.png;
-
-/**
- * <h1>Expanso de Pixels</h1>
- *
- * <p>Interface usada para determinar o padro de funcionalidades na expanso de pixels.
- * A expanso de pixels  feita de acordo com os bytes especificados de uma image.
- * Devendo considerar ainda algumas outras propriedades que iro determinar como  feito.</p>
- *
- * <p>Por padro, todas expanses devero possuir duas formas de anlise, onde a primeira
- * tem como finalidade verificar o pixel que ser analisado. Em quanto o segundo
- * ter a finalidade de obter o valor em byte respectivo a um pixel analisado.</p>
- *
- * @author Andrew
- */
-
-public interface PixelExpand
-{
-	/**
-	 * Procedimento que ir fazer a anlise para a expanso dos pixels.
-	 * @param line linha de varredura de pixels que est sendo analisada.
-	 * @param palette vetor contendo informaes da paleta de cores.
-	 */
-
-	void parse(byte[] line, byte[] palette);
-
-	/**
-	 * Procedimento que ir fazer a analise para a expanso de um pixel especifico.
-	 * @param index ndice do pixel do qual est sendo analisado para expandir.
-	 * @param value qual o valor que foi calculado pelo expansor (dado analisado).
-	 * @return byte respectivo ao valor e ndice passado da tonalidade do pixel.
-	 */
-
-	byte parse(int index, int value);
-}
+package com.erakin.textures.png;
+
+/**
+ * <h1>Expansão de Pixels</h1>
+ *
+ * <p>Interface usada para determinar o padrão de funcionalidades na expansão de pixels.
+ * A expansão de pixels é feita de acordo com os bytes especificados de uma image.
+ * Devendo considerar ainda algumas outras propriedades que irão determinar como é feito.</p>
+ *
+ * <p>Por padrão, todas expansões deverão possuir duas formas de análise, onde a primeira
+ * tem como finalidade verificar o pixel que será analisado. Em quanto o segundo
+ * terá a finalidade de obter o valor em byte respectivo a um pixel analisado.</p>
+ *
+ * @author Andrew
+ */
+
+public interface PixelExpand
+{
+	/**
+	 * Procedimento que irá fazer a análise para a expansão dos pixels.
+	 * @param line linha de varredura de pixels que está sendo analisada.
+	 * @param palette vetor contendo informações da paleta de cores.
+	 */
+
+	void parse(byte[] line, byte[] palette);
+
+	/**
+	 * Procedimento que irá fazer a analise para a expansão de um pixel especifico.
+	 * @param index índice do pixel do qual está sendo analisado para expandir.
+	 * @param value qual o valor que foi calculado pelo expansor (dado analisado).
+	 * @return byte respectivo ao valor e índice passado da tonalidade do pixel.
+	 */
+
+	byte parse(int index, int value);
+}
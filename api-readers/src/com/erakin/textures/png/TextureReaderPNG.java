@@ -1,603 +1,907 @@
-package com.erakin.textures.png;
-
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
-
-import java.nio.ByteBuffer;
-import java.util.zip.CRC32;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
-
-import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.lang.ByteUtil;
-import org.diverproject.util.lang.IntUtil;
-
-import com.erakin.api.buffer.Buffer;
-import com.erakin.api.resources.texture.PixelFormat;
-import com.erakin.api.resources.texture.TextureReaderDefault;
-import com.erakin.api.resources.texture.TextureRuntimeException;
-
-/**
- * <h1>Leitor de Textura em PNG</h1>
- *
- * <p>Esse leitor permite ler arquivos PNG e a partir da leitura criar um buffer apenas com os bytes dos pixels.
- * O formato padro para armazenamento desses dados  em RGBA como a prpria biblioteca LWJGL/OpenGL trabalha.
- * Sero lidos apenas os dados que realmente forem necessrios para a converso, ou seja alguns campos so ignorados.</p>
- *
- * <p>Utiliza procedimentos da classe PNG para que seja possvel tratar os bytes lidos adequadamente em pixels.
- * Esse tratamento  feito somente aps efetuar a leitura dos dados necessrios do arquivo, como cabealhos e paletas.
- * Assim, ser possvel fazer o tratamento adequado conforme os dados dos pixels foram armazenados no arquivo.</p>
- *
- * @see PNGUtil
- * @see Buffer
- * @see TextureReaderDefault
- *
- * @author Andrew Mello
- */
-
-public class TextureReaderPNG extends TextureReaderDefault
-{
-	/**
-	 * Extenso dos arquivos que utilizaro este reader.
-	 */
-	public static final String FILE_EXTENSION = "png";
-
-	/**
-	 * Assinatura PNG garante que o arquivo independente da extenso seja PNG.
-	 */
-	private static final byte SIGNATURE[] = new byte[] { (byte) 137, 80, 78, 71, 13, 10, 26, 10 };
-
-
-	/**
-	 * Cdigo para identificao de uma chunk Image Header (IHDR).
-	 */
-	private static final int IHDR = 0x49484452;
-
-	/**
-	 * Cdigo para identificao de uma chunk Palette (PLTE).
-	 */
-	private static final int PLTE = 0x504C5445;
-
-	/**
-	 * Cdigo para identificao de uma chunk Transparency (tRNS).
-	 */
-	private static final int tRNS = 0x74524E53;
-
-	/**
-	 * Cdigo para identificao de uma chunk Image Data (IDAT).
-	 */
-	private static final int IDAT = 0x49444154;
-
-
-	/**
-	 * Cdigo para cores do tipo escala cinza sem propriedade alpha.
-	 */
-	private static final byte COLOR_GREYSCALE = 0;
-
-	/**
-	 * Cdigo para cores do tipo simples: vermelho, verde e azul, sem propriedade alpha.
-	 */
-	private static final byte COLOR_TRUECOLOR = 2;
-
-	/**
-	 * Cdigo para cores do tipo indexada: uso de paleta.
-	 */
-	private static final byte COLOR_INDEXED = 3;
-
-	/**
-	 * Cdigo para cores do tipo escala cinza com propriedade alpha.
-	 */
-	private static final byte COLOR_GREYALPHA = 4;
-
-	/**
-	 * Cdigo para cores do tipo simples: vermelho, verde e azul com propriedade alpha.
-	 */
-	private static final byte COLOR_TRUEALPHA = 6;
-
-
-	/**
-	 * CRC que deve garantir integridade nos dados de uma chunk.
-	 */
-	private final CRC32 crc;
-
-	/**
-	 * Quantos bits cada pixel dever possuir.
-	 */
-	private int depth;
-
-	/**
-	 * Tamanho da largura da imagem em pixels.
-	 */
-	private int width;
-
-	/**
-	 * Tamanho da altura da imagem em pixels.
-	 */
-	private int height;
-
-	/**
-	 * Tipo de cor que ser usada pelos pixels.
-	 */
-	private int colorType;
-
-	/**
-	 * Quantidades de bytes por pixel.
-	 */
-	private int bpp;
-
-	/**
-	 * Bytes respectivos a paleta de cores.
-	 */
-	private byte palette[];
-
-	/**
-	 * Bytes respectivos a paleta de cores indexadas.
-	 */
-	private byte paletteA[];
-
-	/**
-	 * Bytes respectivos a transparncia.
-	 */
-	private byte transPixel[];
-
-
-	/**
-	 * Localizao do ponteiro ao ler a ltima chunk.
-	 */
-	private int lastChunkOffset;
-
-	/**
-	 * Quantos bytes tem a chunk que ser lida.
-	 */
-	private int lastChunkLength;
-
-	/**
-	 * Quantos bytes ainda podem ser lidos dos dados da chunk.
-	 */
-	private int lastChunkRemaing;
-
-	/**
-	 * Cdigo de identificao da ltima chunk aberta.
-	 */
-	private int lastChunkCode;
-
-	/**
-	 * Buffer contendo os dados da ltima chunk aberta.
-	 */
-	private Buffer buffer;
-
-	/**
-	 * Constri um novo decodificador de imagem iniciando a leitura dos dados.
-	 */
-
-	public TextureReaderPNG()
-	{
-		super(FORMAT_RGBA);
-
-		this.crc = new CRC32();
-	}
-
-	@Override
-	protected int getDepth()
-	{
-		return bpp * 8;
-	}
-
-	@Override
-	protected int getWidth()
-	{
-		return width;
-	}
-
-	@Override
-	protected int getHeight()
-	{
-		return height;
-	}
-
-	@Override
-	protected void parseBuffer(Buffer buffer)
-	{
-		this.buffer = buffer;
-
-		if (!checkSignature(buffer))
-			throw new TextureRuntimeException("no  um arquivo PNG vlido");
-
-		openChunk(IHDR);
-		readIHDR();
-		closeChunk();
-
-		searchIDAT: for (;;)
-		{
-			openChunk();
-
-			switch (lastChunkCode)
-			{
-				case IDAT:				break searchIDAT;
-				case PLTE:	readPLTE();	break;
-				case tRNS:	readtRNS(); break;
-
-				default:
-					buffer.skip(lastChunkLength);
-			}
-
-			closeChunk();
-		}
-
-		if (colorType == COLOR_INDEXED && palette == null)
-			throw new TextureRuntimeException("PLTE chunk no encontrada");
-	}
-
-	/**
-	 * Chamado sempre que o buffer tiver terminado de ler uma chunk.
-	 * Ir garantir que o CRC no seja verificado para chunks que foram puladas.
-	 */
-
-	private void afterReadBuffer()
-	{
-		lastChunkRemaing -= buffer.offset() - (lastChunkOffset + 8);
-	}
-
-	/**
-	 * Deve verificar se um determinado buffer contem a assinatura PNG.
-	 * A assinatura deve se encontrar no inicio do arquivo como tambm
-	 * dever possuir exatamente os mesmos bytes pr-definidos.
-	 * @param buffer referncia do buffer que verificar a assinatura.
-	 * @return true se o buffer possuir a assinatura ou false caso contrrio.
-	 */
-
-	private boolean checkSignature(Buffer buffer)
-	{
-		for (int i = 0; i < SIGNATURE.length; i++)
-			if (buffer.read() != SIGNATURE[i])
-				return false;
-
-		return true;
-	}
-
-	/**
-	 * Procedimento que dever fazer a leitura do cabealho da imagem PNG.
-	 * @throws TextureRuntimeException ocorre apenas quando algum dos dados lidos
-	 * forem invlidos de acordo com os padres definidos para essa chunk.
-	 */
-
-	private void readIHDR() throws TextureRuntimeException
-	{
-		buffer.save(lastChunkLength);
-
-		width = buffer.getInt();
-		height = buffer.getInt();
-		depth = buffer.read();
-		colorType = buffer.read();
-
-		switch (colorType)
-		{
-			case COLOR_GREYSCALE:
-				readColorType(1);
-				break;
-
-			case COLOR_GREYALPHA:
-				readColorType(2);
-				break;
-
-			case COLOR_TRUECOLOR:
-				readColorType(3);
-				break;
-
-			case COLOR_TRUEALPHA:
-				readColorType(4);
-				break;
-
-			case COLOR_INDEXED:
-				readColorTypeIndexed();
-				break;
-
-			default:
-				throw new TextureRuntimeException("formato de cor no suportado (format: %d)", colorType);
-		}
-
-		if (buffer.read() != 0)
-			throw new TextureRuntimeException("mtodo de compresso no suportado");
-
-		if (buffer.read() != 0)
-			throw new TextureRuntimeException("mtodo de filtragem no suportado");
-
-		if (buffer.read() != 0)
-			throw new TextureRuntimeException("mtodo de entrelaar no suportado");
-
-		afterReadBuffer();
-	}
-
-	/**
-	 * Procedimento que ir fazer a validao do tipo de cor utilizado.
-	 * @param bytePerPixel quantidade de bytes por pixel necessrios.
-	 * @throws TextureRuntimeException apenas se depth for invlido para tal.
-	 */
-
-	private void readColorType(int bytePerPixel) throws TextureRuntimeException
-	{
-		if (depth != 8)
-			throw new TextureRuntimeException("bit depth no suportado");
-
-		bpp = bytePerPixel;		
-	}
-
-	/**
-	 * Procedimento que ir fazer a validao quando for cor do tipo INDEXED.
-	 * @throws TextureRuntimeException apenas se depth for invlido para tal.
-	 */
-
-	private void readColorTypeIndexed() throws TextureRuntimeException
-	{
-		switch (depth)
-		{
-			case 8:
-			case 4:
-			case 2:
-			case 1:
-				bpp = 1;
-				return;
-		}
-
-		throw new TextureRuntimeException("bit depth no suportado");
-	}
-
-	/**
-	 * Procedimento que dever fazer a leitura do da paleta de cores.
-	 * @throws TextureRuntimeException ocorre apenas quando algum dos dados lidos
-	 * forem invlidos de acordo com os padres definidos para essa chunk.
-	 */
-
-	private void readPLTE() throws TextureRuntimeException
-	{
-		buffer.save(lastChunkLength);
-
-		if (lastChunkLength % 3 != 0)
-			throw new TextureRuntimeException("PLTE corrompido");
-
-		int entries = lastChunkLength / 3;
-
-		if (!IntUtil.interval(entries, 1, 255))
-			throw new TextureRuntimeException("PLT com tamanho invlido");
-
-		palette = new byte[lastChunkLength];
-		buffer.read(palette);
-
-		afterReadBuffer();
-	}
-
-	/**
-	 * Procedimento que dever fazer a leitura da paleta de transparncia.
-	 * @throws TextureRuntimeException ocorre apenas quando algum dos dados lidos
-	 * forem invlidos de acordo com os padres definidos para essa chunk.
-	 */
-
-	private void readtRNS() throws TextureRuntimeException
-	{
-		buffer.save(lastChunkLength);
-
-		switch (colorType)
-		{
-			case COLOR_GREYSCALE:
-				transPixel = new byte[2];
-				buffer.read(transPixel);
-				break;
-
-			case COLOR_TRUECOLOR:
-				transPixel = new byte[6];
-				buffer.read(transPixel);
-				break;
-
-			case COLOR_INDEXED:
-				if (palette == null)
-					throw new TextureRuntimeException("chunk tRNS sem chunk PLTE");
-				paletteA = new byte[palette.length / 3];
-				buffer.read(paletteA);
-		}
-
-		afterReadBuffer();
-	}
-
-	/**
-	 * Deve verificar se o buffer contendo os dados da imagem pode prosseguir
-	 * lendo uma nova chunk especificada de acordo com as informaes abaixo.
-	 * @param code cdigo da chunk do qual deve ser a prxima a ser lida.
-	 * @param lenght quantos bytes essa chunk deve possuir, menor que zero
-	 * determina que o tamanho dela no ser verificado se  correspondente.
-	 * @return buffer referncia do buffer contendo apenas os dados da chunk.
-	 * @throws TextureRuntimeException ocorre por tamanho da chunk invlido, tipo
-	 * da chunk inesperado ou ainda ento por dados insuficientes.
-	 */
-
-	private void openChunk() throws TextureRuntimeException
-	{
-		buffer.save(8);
-
-		lastChunkOffset = buffer.offset();
-		lastChunkLength = buffer.getInt();
-		lastChunkCode = buffer.getInt();
-		lastChunkRemaing = lastChunkLength;
-
-		crc.reset();
-		crc.update(buffer.getSaved(), 4, 4);
-	}
-
-	/**
-	 * Deve verificar se o buffer contendo os dados da imagem pode prosseguir
-	 * lendo uma nova chunk especificada de acordo com as informaes abaixo.
-	 * @param code cdigo da chunk do qual deve ser a prxima a ser lida.
-	 * @param lenght quantos bytes essa chunk deve possuir, menor que zero
-	 * determina que o tamanho dela no ser verificado se  correspondente.
-	 * @return buffer referncia do buffer contendo apenas os dados da chunk.
-	 * @throws TextureRuntimeException ocorre por tamanho da chunk invlido, tipo
-	 * da chunk inesperado ou ainda ento por dados insuficientes.
-	 */
-
-	private void openChunk(int code) throws TextureRuntimeException
-	{
-		openChunk();
-
-		if (code != lastChunkCode)
-			throw new TextureRuntimeException("chunk inesperada (chunk: %s)", new String(ByteUtil.parseInt(code)));
-	}
-
-	/**
-	 * Procedimento que deve ser chamado sempre uma chunk terminar de ser lida.
-	 * @throws TextureRuntimeException apenas se no houver integridade no CRC da chunk.
-	 */
-
-	private void closeChunk() throws TextureRuntimeException
-	{
-		if (lastChunkRemaing > 0)
-		{
-			lastChunkCode = 0;
-			lastChunkLength = 0;
-			lastChunkRemaing = 0;
-
-			buffer.skip(4);
-
-			return;
-		}
-
-		crc.update(buffer.getSaved());
-
-		int expected = buffer.getInt();
-		int computed = (int) crc.getValue();
-
-		if (computed != expected)
-			throw new TextureRuntimeException("CRC invlido (chunk: %s)", new String(ByteUtil.parseInt(lastChunkCode)));
-	}
-
-	@Override
-	protected void parsePixels(ByteBuffer buffer, PixelFormat output)
-	{
-		final int lineSize = ((width * depth + 7) / 8) * bpp;
-
-		byte current[] = new byte[lineSize + 1];
-		byte previous[] = new byte[lineSize + 1];
-		byte palLine[] = (depth < 8) ? new byte[width + 1] : null;
-
-		final Inflater inflater = new Inflater();
-
-		try {
-
-			for (int y = 0; y < height; y++)
-			{
-				readChunkUnzip(inflater, current);
-				PNGUtil.unfilter(bpp, current, previous);
-
-				switch (colorType)
-				{
-					case COLOR_TRUECOLOR:
-						PNGUtil.decodeColorTrueColor(buffer, output, current, transPixel);
-						break;
-
-					case COLOR_TRUEALPHA:
-						PNGUtil.decodeColorTrueAlpha(buffer, output, current, transPixel);
-						break;
-
-					case COLOR_GREYSCALE:
-						PNGUtil.decodeColorGrayScale(buffer, output, current);
-						break;
-
-					case COLOR_GREYALPHA:
-						PNGUtil.decodeColorGrayAlpha(buffer, output, current);
-						break;
-
-					case COLOR_INDEXED:
-						PNGUtil.decodeColorIndexed(buffer, output, depth, current, palLine);
-						PNGUtil.decodeColorIndexedSub(buffer, output, palLine, palette, paletteA);
-						break;
-
-					default:
-						throw new TextureRuntimeException("tipo de cor no suportado");
-				}
-
-				byte[] temp = current;
-				current = previous;
-				previous = temp;
-			}
-
-		} finally {
-			inflater.end();
-		}
-	}
-
-	/**
-	 * Ir fazer a leitura de uma chunk do qual tem seus dados dados como compactados.
-	 * Procedimento utilizado para descompactar os dados dos pixels da imagem (IDAT).
-	 * @param inflater referncia do objeto que ir descompactar dados em ZIP.
-	 * @param buffer referncia do buffer que ser armazenados os dados dos pixels.
-	 * @throws TextureRuntimeException apenas se houver falha no carregamento da chunk.
-	 */
-
-	private void readChunkUnzip(Inflater inflater, byte[] buffer) throws TextureRuntimeException
-	{
-		try {
-
-			int length = buffer.length;
-
-			do {
-
-				int read = inflater.inflate(buffer);
-
-				if (read > 0)
-					length -= read;
-
-				else
-				{
-					if (inflater.finished())
-						throw new TextureRuntimeException("fim do arquivo");
-
-					if (inflater.needsInput())
-						refillInflater(inflater);
-					else
-						throw new TextureRuntimeException("no pode descompactar %d bytes", length);
-				}
-
-			} while (length > 0);
-
-		} catch (DataFormatException e) {
-			throw new TextureRuntimeException(e, "falha ao descompactar");
-		}
-	}
-
-	/**
-	 * Reabastecer Inflater para descompactar os dados em ZIP de uma chunk.
-	 * @param inflater referncia do objeto que ir descompactar os dados.
-	 * @throws TextureRuntimeException apenas se houver falha na obteno dos
-	 * dados seguintes, tal como chunk incorreta ou fim da chunk anterior.
-	 */
-
-	private void refillInflater(Inflater inflater) throws TextureRuntimeException
-	{
-		if (lastChunkRemaing == 0)
-		{
-			do {
-
-				closeChunk();
-				openChunk();
-
-			} while (lastChunkCode != IDAT);
-		}
-
-		buffer.save(lastChunkRemaing);
-		buffer.skip(lastChunkRemaing);
-
-		inflater.setInput(buffer.getSaved());
-
-		afterReadBuffer();
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		description.append("colorType", colorType);
-		description.append("bpp", bpp);
-		description.append("palette", palette != null);
-		description.append("transparency", transPixel != null);
-
-		return description.toString();
-	}
-}
+package com.erakin.textures.png;
+
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE16;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.lang.ByteUtil;
+import org.diverproject.util.lang.IntUtil;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.resources.texture.PixelFormat;
+import com.erakin.api.resources.texture.TextureReaderDefault;
+import com.erakin.api.resources.texture.TextureReducer;
+import com.erakin.api.resources.texture.TextureRuntimeException;
+
+/**
+ * <h1>Leitor de Textura em PNG</h1>
+ *
+ * <p>Esse leitor permite ler arquivos PNG e a partir da leitura criar um buffer apenas com os bytes dos pixels.
+ * O formato padrão para armazenamento desses dados é em RGBA como a própria biblioteca LWJGL/OpenGL trabalha.
+ * Serão lidos apenas os dados que realmente forem necessários para a conversão, ou seja alguns campos são ignorados.</p>
+ *
+ * <p>Utiliza procedimentos da classe PNG para que seja possível tratar os bytes lidos adequadamente em pixels.
+ * Esse tratamento é feito somente após efetuar a leitura dos dados necessários do arquivo, como cabeçalhos e paletas.
+ * Assim, será possível fazer o tratamento adequado conforme os dados dos pixels foram armazenados no arquivo.</p>
+ *
+ * <p>Imagens entrelaçadas (Adam7) têm cada passagem decodificada e os pixels posicionados diretamente no buffer.
+ * Amostras de 16 bits são reduzidas para 8 bits na mesma passagem em que a filtragem é removida, exceto
+ * em escala cinza com saída <code>FORMAT_LUMINANCE16</code>, usada por mapas de altura com precisão completa.</p>
+ *
+ * @see PNGUtil
+ * @see Buffer
+ * @see TextureReaderDefault
+ *
+ * @author Andrew Mello
+ */
+
+public class TextureReaderPNG extends TextureReaderDefault
+{
+	/**
+	 * Extensão dos arquivos que utilizarão este reader.
+	 */
+	public static final String FILE_EXTENSION = "png";
+
+	/**
+	 * Assinatura PNG garante que o arquivo independente da extensão seja PNG.
+	 */
+	private static final byte SIGNATURE[] = new byte[] { (byte) 137, 80, 78, 71, 13, 10, 26, 10 };
+
+
+	/**
+	 * Código para identificação de uma chunk Image Header (IHDR).
+	 */
+	private static final int IHDR = 0x49484452;
+
+	/**
+	 * Código para identificação de uma chunk Palette (PLTE).
+	 */
+	private static final int PLTE = 0x504C5445;
+
+	/**
+	 * Código para identificação de uma chunk Transparency (tRNS).
+	 */
+	private static final int tRNS = 0x74524E53;
+
+	/**
+	 * Código para identificação de uma chunk Image Data (IDAT).
+	 */
+	private static final int IDAT = 0x49444154;
+
+
+	/**
+	 * Código para cores do tipo escala cinza sem propriedade alpha.
+	 */
+	private static final byte COLOR_GREYSCALE = 0;
+
+	/**
+	 * Código para cores do tipo simples: vermelho, verde e azul, sem propriedade alpha.
+	 */
+	private static final byte COLOR_TRUECOLOR = 2;
+
+	/**
+	 * Código para cores do tipo indexada: uso de paleta.
+	 */
+	private static final byte COLOR_INDEXED = 3;
+
+	/**
+	 * Código para cores do tipo escala cinza com propriedade alpha.
+	 */
+	private static final byte COLOR_GREYALPHA = 4;
+
+	/**
+	 * Código para cores do tipo simples: vermelho, verde e azul com propriedade alpha.
+	 */
+	private static final byte COLOR_TRUEALPHA = 6;
+
+
+	/**
+	 * Quantidade mínima de bytes descompactados de uma única vez na janela de linhas.
+	 */
+	private static final int WINDOW_SIZE = 64 * 1024;
+
+	/**
+	 * Coluna inicial dos pixels de cada passagem do entrelaçamento Adam7.
+	 */
+	private static final int ADAM7_X[] = new int[] { 0, 4, 0, 2, 0, 1, 0 };
+
+	/**
+	 * Linha inicial dos pixels de cada passagem do entrelaçamento Adam7.
+	 */
+	private static final int ADAM7_Y[] = new int[] { 0, 0, 4, 0, 2, 0, 1 };
+
+	/**
+	 * Distância entre as colunas dos pixels de cada passagem do entrelaçamento Adam7.
+	 */
+	private static final int ADAM7_DX[] = new int[] { 8, 8, 4, 4, 2, 2, 1 };
+
+	/**
+	 * Distância entre as linhas dos pixels de cada passagem do entrelaçamento Adam7.
+	 */
+	private static final int ADAM7_DY[] = new int[] { 8, 8, 8, 4, 4, 2, 2 };
+
+	/**
+	 * Descompactador de cada thread, reutilizado entre os arquivos para evitar alocar memória nativa.
+	 */
+	private static final ThreadLocal<Inflater> INFLATERS = new ThreadLocal<Inflater>()
+	{
+		@Override
+		protected Inflater initialValue()
+		{
+			return new Inflater();
+		}
+	};
+
+
+	/**
+	 * CRC que deve garantir integridade nos dados de uma chunk.
+	 */
+	private final CRC32 crc;
+
+	/**
+	 * Quantos bits cada pixel deverá possuir.
+	 */
+	private int depth;
+
+	/**
+	 * Tamanho da largura da imagem em pixels.
+	 */
+	private int width;
+
+	/**
+	 * Tamanho da altura da imagem em pixels.
+	 */
+	private int height;
+
+	/**
+	 * Tipo de cor que será usada pelos pixels.
+	 */
+	private int colorType;
+
+	/**
+	 * Método de entrelaçamento: 0 para nenhum ou 1 para Adam7.
+	 */
+	private int interlace;
+
+	/**
+	 * Quantidades de bytes por pixel.
+	 */
+	private int bpp;
+
+	/**
+	 * Bytes respectivos a paleta de cores.
+	 */
+	private byte palette[];
+
+	/**
+	 * Bytes respectivos a paleta de cores indexadas.
+	 */
+	private byte paletteA[];
+
+	/**
+	 * Bytes respectivos a transparência.
+	 */
+	private byte transPixel[];
+
+
+	/**
+	 * Localização do ponteiro ao ler a última chunk.
+	 */
+	private int lastChunkOffset;
+
+	/**
+	 * Quantos bytes tem a chunk que será lida.
+	 */
+	private int lastChunkLength;
+
+	/**
+	 * Quantos bytes ainda podem ser lidos dos dados da chunk.
+	 */
+	private int lastChunkRemaing;
+
+	/**
+	 * Código de identificação da última chunk aberta.
+	 */
+	private int lastChunkCode;
+
+	/**
+	 * Buffer contendo os dados da última chunk aberta.
+	 */
+	private Buffer buffer;
+
+	/**
+	 * Janela reutilizada onde diversas linhas são descompactadas de uma única vez.
+	 */
+	private byte window[];
+
+	/**
+	 * Posição da próxima linha a ser retirada da janela.
+	 */
+	private int windowOffset;
+
+	/**
+	 * Quantidade de bytes descompactados presentes na janela.
+	 */
+	private int windowLength;
+
+	/**
+	 * Quantidade de bytes que ainda precisam ser descompactados da imagem.
+	 */
+	private long pendingBytes;
+
+	/**
+	 * Constrói um novo decodificador de imagem iniciando a leitura dos dados.
+	 */
+
+	public TextureReaderPNG()
+	{
+		super(FORMAT_RGBA);
+
+		this.crc = new CRC32();
+	}
+
+	@Override
+	protected int getDepth()
+	{
+		return getOutputFormat() == FORMAT_LUMINANCE16 ? 16 : bpp * 8;
+	}
+
+	@Override
+	protected int getSkipLevels(int width, int height)
+	{
+		return getOutputFormat() == FORMAT_LUMINANCE16 ? 0 : super.getSkipLevels(width, height);
+	}
+
+	@Override
+	protected int getWidth()
+	{
+		return width;
+	}
+
+	@Override
+	protected int getHeight()
+	{
+		return height;
+	}
+
+	@Override
+	protected void parseBuffer(Buffer buffer)
+	{
+		this.buffer = buffer;
+
+		if (!checkSignature(buffer))
+			throw new TextureRuntimeException("não é um arquivo PNG válido");
+
+		openChunk(IHDR);
+		readIHDR();
+		closeChunk();
+
+		searchIDAT: for (;;)
+		{
+			openChunk();
+
+			switch (lastChunkCode)
+			{
+				case IDAT:				break searchIDAT;
+				case PLTE:	readPLTE();	break;
+				case tRNS:	readtRNS(); break;
+
+				default:
+					buffer.skip(lastChunkLength);
+			}
+
+			closeChunk();
+		}
+
+		if (colorType == COLOR_INDEXED && palette == null)
+			throw new TextureRuntimeException("PLTE chunk não encontrada");
+	}
+
+	/**
+	 * Chamado sempre que o buffer tiver terminado de ler uma chunk.
+	 * Irá garantir que o CRC não seja verificado para chunks que foram puladas.
+	 */
+
+	private void afterReadBuffer()
+	{
+		lastChunkRemaing -= buffer.offset() - (lastChunkOffset + 8);
+	}
+
+	/**
+	 * Deve verificar se um determinado buffer contem a assinatura PNG.
+	 * A assinatura deve se encontrar no inicio do arquivo como também
+	 * deverá possuir exatamente os mesmos bytes pré-definidos.
+	 * @param buffer referência do buffer que verificará a assinatura.
+	 * @return true se o buffer possuir a assinatura ou false caso contrário.
+	 */
+
+	private boolean checkSignature(Buffer buffer)
+	{
+		for (int i = 0; i < SIGNATURE.length; i++)
+			if (buffer.read() != SIGNATURE[i])
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Procedimento que deverá fazer a leitura do cabeçalho da imagem PNG.
+	 * @throws TextureRuntimeException ocorre apenas quando algum dos dados lidos
+	 * forem inválidos de acordo com os padrões definidos para essa chunk.
+	 */
+
+	private void readIHDR() throws TextureRuntimeException
+	{
+		width = buffer.getInt();
+		height = buffer.getInt();
+
+		if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE / 8)
+			throw new TextureRuntimeException("tamanho da imagem inválido (width: %d, height: %d)", width, height);
+
+		depth = buffer.read();
+		colorType = buffer.read();
+
+		switch (colorType)
+		{
+			case COLOR_GREYSCALE:
+				readColorType(1);
+				break;
+
+			case COLOR_GREYALPHA:
+				readColorType(2);
+				break;
+
+			case COLOR_TRUECOLOR:
+				readColorType(3);
+				break;
+
+			case COLOR_TRUEALPHA:
+				readColorType(4);
+				break;
+
+			case COLOR_INDEXED:
+				readColorTypeIndexed();
+				break;
+
+			default:
+				throw new TextureRuntimeException("formato de cor não suportado (format: %d)", colorType);
+		}
+
+		if (buffer.read() != 0)
+			throw new TextureRuntimeException("método de compressão não suportado");
+
+		if (buffer.read() != 0)
+			throw new TextureRuntimeException("método de filtragem não suportado");
+
+		interlace = buffer.read();
+
+		if (interlace != 0 && interlace != 1)
+			throw new TextureRuntimeException("método de entrelaçar não suportado");
+
+		afterReadBuffer();
+	}
+
+	/**
+	 * Procedimento que irá fazer a validação do tipo de cor utilizado.
+	 * @param bytePerPixel quantidade de bytes por pixel necessários.
+	 * @throws TextureRuntimeException apenas se depth for inválido para tal.
+	 */
+
+	private void readColorType(int bytePerPixel) throws TextureRuntimeException
+	{
+		if (depth != 8 && depth != 16)
+			throw new TextureRuntimeException("bit depth não suportado");
+
+		bpp = bytePerPixel;		
+	}
+
+	/**
+	 * Procedimento que irá fazer a validação quando for cor do tipo INDEXED.
+	 * @throws TextureRuntimeException apenas se depth for inválido para tal.
+	 */
+
+	private void readColorTypeIndexed() throws TextureRuntimeException
+	{
+		switch (depth)
+		{
+			case 8:
+			case 4:
+			case 2:
+			case 1:
+				bpp = 1;
+				return;
+		}
+
+		throw new TextureRuntimeException("bit depth não suportado");
+	}
+
+	/**
+	 * Procedimento que deverá fazer a leitura do da paleta de cores.
+	 * @throws TextureRuntimeException ocorre apenas quando algum dos dados lidos
+	 * forem inválidos de acordo com os padrões definidos para essa chunk.
+	 */
+
+	private void readPLTE() throws TextureRuntimeException
+	{
+		if (lastChunkLength % 3 != 0)
+			throw new TextureRuntimeException("PLTE corrompido");
+
+		int entries = lastChunkLength / 3;
+
+		if (!IntUtil.interval(entries, 1, 255))
+			throw new TextureRuntimeException("PLT com tamanho inválido");
+
+		palette = new byte[lastChunkLength];
+		buffer.read(palette);
+
+		afterReadBuffer();
+	}
+
+	/**
+	 * Procedimento que deverá fazer a leitura da paleta de transparência.
+	 * @throws TextureRuntimeException ocorre apenas quando algum dos dados lidos
+	 * forem inválidos de acordo com os padrões definidos para essa chunk.
+	 */
+
+	private void readtRNS() throws TextureRuntimeException
+	{
+		switch (colorType)
+		{
+			case COLOR_GREYSCALE:
+				transPixel = new byte[2];
+				buffer.read(transPixel);
+				break;
+
+			case COLOR_TRUECOLOR:
+				transPixel = new byte[6];
+				buffer.read(transPixel);
+				break;
+
+			case COLOR_INDEXED:
+				if (palette == null)
+					throw new TextureRuntimeException("chunk tRNS sem chunk PLTE");
+				paletteA = new byte[palette.length / 3];
+				buffer.read(paletteA);
+		}
+
+		if (transPixel != null && depth == 16)
+			for (int i = 0; i < transPixel.length; i += 2)
+				transPixel[i + 1] = transPixel[i];
+
+		afterReadBuffer();
+	}
+
+	/**
+	 * Deve verificar se o buffer contendo os dados da imagem pode prosseguir
+	 * lendo uma nova chunk especificada de acordo com as informações abaixo.
+	 * @param code código da chunk do qual deve ser a próxima a ser lida.
+	 * @param lenght quantos bytes essa chunk deve possuir, menor que zero
+	 * determina que o tamanho dela não será verificado se é correspondente.
+	 * @return buffer referência do buffer contendo apenas os dados da chunk.
+	 * @throws TextureRuntimeException ocorre por tamanho da chunk inválido, tipo
+	 * da chunk inesperado ou ainda então por dados insuficientes.
+	 */
+
+	private void openChunk() throws TextureRuntimeException
+	{
+		if (buffer.space() < 12)
+			throw new TextureRuntimeException("fim do arquivo");
+
+		lastChunkOffset = buffer.offset();
+		lastChunkLength = buffer.getInt();
+		lastChunkCode = buffer.getInt();
+		lastChunkRemaing = lastChunkLength;
+
+		if (lastChunkLength < 0 || lastChunkLength > buffer.space() - 4)
+			throw new TextureRuntimeException("chunk corrompida (chunk: %s, length: %d)", new String(ByteUtil.parseInt(lastChunkCode)), lastChunkLength);
+
+		if (!isTrusted())
+		{
+			crc.reset();
+			crc.update(buffer.getDate(), lastChunkOffset + 4, 4);
+		}
+	}
+
+	/**
+	 * Deve verificar se o buffer contendo os dados da imagem pode prosseguir
+	 * lendo uma nova chunk especificada de acordo com as informações abaixo.
+	 * @param code código da chunk do qual deve ser a próxima a ser lida.
+	 * @param lenght quantos bytes essa chunk deve possuir, menor que zero
+	 * determina que o tamanho dela não será verificado se é correspondente.
+	 * @return buffer referência do buffer contendo apenas os dados da chunk.
+	 * @throws TextureRuntimeException ocorre por tamanho da chunk inválido, tipo
+	 * da chunk inesperado ou ainda então por dados insuficientes.
+	 */
+
+	private void openChunk(int code) throws TextureRuntimeException
+	{
+		openChunk();
+
+		if (code != lastChunkCode)
+			throw new TextureRuntimeException("chunk inesperada (chunk: %s)", new String(ByteUtil.parseInt(code)));
+	}
+
+	/**
+	 * Procedimento que deve ser chamado sempre uma chunk terminar de ser lida.
+	 * Arquivos confiáveis não têm o CRC calculado, apenas o campo é pulado.
+	 * @throws TextureRuntimeException apenas se não houver integridade no CRC da chunk.
+	 */
+
+	private void closeChunk() throws TextureRuntimeException
+	{
+		if (lastChunkRemaing > 0 || isTrusted())
+		{
+			lastChunkCode = 0;
+			lastChunkLength = 0;
+			lastChunkRemaing = 0;
+
+			buffer.skip(4);
+
+			return;
+		}
+
+		crc.update(buffer.getDate(), lastChunkOffset + 8, lastChunkLength);
+
+		int expected = buffer.getInt();
+		int computed = (int) crc.getValue();
+
+		if (computed != expected)
+			throw new TextureRuntimeException("CRC inválido (chunk: %s)", new String(ByteUtil.parseInt(lastChunkCode)));
+	}
+
+	@Override
+	protected void parsePixels(ByteBuffer buffer, PixelFormat output)
+	{
+		if (interlace == 0)
+			decodeLines(buffer, null, output);
+		else
+			decodeInterlaced(buffer, output);
+	}
+
+	@Override
+	protected boolean parsePixels(TextureReducer reducer, PixelFormat output)
+	{
+		if (interlace != 0)
+			return false;
+
+		decodeLines(null, reducer, output);
+
+		return true;
+	}
+
+	/**
+	 * Descompacta e decodifica todas as linhas da imagem no formato de saída. As linhas são descompactadas
+	 * em blocos na janela de linhas e em seguida retiradas uma de cada vez para remover a filtragem.
+	 * Cada linha é escrita diretamente no buffer ou então repassada ao redutor se este for definido.
+	 * @param buffer referência do buffer que irá armazenar os pixels em resolução completa.
+	 * @param reducer referência do redutor que irá receber as linhas ou null para usar o buffer.
+	 * @param output formato em que os pixels deverão ser armazenados na análise da textura.
+	 */
+
+	private void decodeLines(ByteBuffer buffer, TextureReducer reducer, PixelFormat output)
+	{
+		final int rowSize = getRowSize(width);
+
+		byte current[] = new byte[rowSize];
+		byte previous[] = new byte[rowSize];
+		byte line[] = (depth == 16 && output != FORMAT_LUMINANCE16) ? new byte[width * bpp + 1] : null;
+		byte palLine[] = (depth < 8) ? new byte[width + 1] : null;
+
+		final Inflater inflater = startInflate((long) rowSize * height, rowSize);
+
+		try {
+
+			for (int y = 0; y < height; y++)
+			{
+				if (reducer != null)
+					buffer = reducer.getRow();
+
+				nextRow(inflater, current);
+				decodeRow(buffer, output, current, previous, line, palLine);
+
+				if (reducer != null)
+					reducer.pushRow();
+
+				byte[] temp = current;
+				current = previous;
+				previous = temp;
+			}
+
+		} finally {
+			inflater.reset();
+		}
+	}
+
+	/**
+	 * Descompacta e decodifica as sete passagens de uma imagem entrelaçada (Adam7) no formato de saída.
+	 * Cada linha de uma passagem é decodificada em uma única linha temporária e seus pixels são
+	 * posicionados diretamente no buffer, portanto nenhuma imagem intermediária é necessária.
+	 * @param buffer referência do buffer que irá armazenar os pixels em resolução completa.
+	 * @param output formato em que os pixels deverão ser armazenados na análise da textura.
+	 */
+
+	private void decodeInterlaced(ByteBuffer buffer, PixelFormat output)
+	{
+		final int pixelSize = output.BYTES;
+
+		long total = 0;
+
+		for (int pass = 0; pass < ADAM7_X.length; pass++)
+		{
+			int passWidth = getPassSize(width, ADAM7_X[pass], ADAM7_DX[pass]);
+			int passHeight = getPassSize(height, ADAM7_Y[pass], ADAM7_DY[pass]);
+
+			if (passWidth > 0)
+				total += (long) getRowSize(passWidth) * passHeight;
+		}
+
+		ByteBuffer row = ByteBuffer.allocate(width * pixelSize).order(buffer.order());
+		final Inflater inflater = startInflate(total, getRowSize(width));
+
+		try {
+
+			for (int pass = 0; pass < ADAM7_X.length; pass++)
+			{
+				int passWidth = getPassSize(width, ADAM7_X[pass], ADAM7_DX[pass]);
+				int passHeight = getPassSize(height, ADAM7_Y[pass], ADAM7_DY[pass]);
+
+				if (passWidth == 0 || passHeight == 0)
+					continue;
+
+				int rowSize = getRowSize(passWidth);
+
+				byte current[] = new byte[rowSize];
+				byte previous[] = new byte[rowSize];
+				byte line[] = (depth == 16 && output != FORMAT_LUMINANCE16) ? new byte[passWidth * bpp + 1] : null;
+				byte palLine[] = (depth < 8) ? new byte[passWidth + 1] : null;
+
+				for (int j = 0; j < passHeight; j++)
+				{
+					nextRow(inflater, current);
+
+					row.clear();
+					decodeRow(row, output, current, previous, line, palLine);
+
+					int y = ADAM7_Y[pass] + j * ADAM7_DY[pass];
+
+					for (int i = 0, source = 0; i < passWidth; i++)
+					{
+						int target = (y * width + ADAM7_X[pass] + i * ADAM7_DX[pass]) * pixelSize;
+
+						for (int k = 0; k < pixelSize; k++)
+							buffer.put(target + k, row.get(source++));
+					}
+
+					byte[] temp = current;
+					current = previous;
+					previous = temp;
+				}
+			}
+
+		} finally {
+			inflater.reset();
+		}
+
+		buffer.position(width * height * pixelSize);
+	}
+
+	/**
+	 * Remove a filtragem de uma linha e decodifica os seus pixels no formato de saída.
+	 * Amostras de 16 bits são reduzidas para 8 bits durante a remoção da filtragem.
+	 * @param buffer referência do buffer que irá armazenar os pixels decodificados.
+	 * @param output formato em que os pixels deverão ser armazenados na análise da textura.
+	 * @param current linha atual ainda filtrada, incluindo o byte do tipo de filtro.
+	 * @param previous linha anterior já sem filtragem (zerada na primeira linha).
+	 * @param line vetor que irá receber a linha reduzida para 8 bits ou null se não for necessário.
+	 * @param palLine vetor para expandir os índices de paletas com menos de 8 bits ou null.
+	 */
+
+	private void decodeRow(ByteBuffer buffer, PixelFormat output, byte current[], byte previous[], byte line[], byte palLine[])
+	{
+		int filterBpp = depth == 16 ? bpp * 2 : bpp;
+
+		if (line != null)
+			PNGUtil.unfilter16(filterBpp, current, previous, line);
+		else
+		{
+			PNGUtil.unfilter(filterBpp, current, previous);
+			line = current;
+		}
+
+		if (output == FORMAT_LUMINANCE16)
+		{
+			if (colorType != COLOR_GREYSCALE)
+				throw new TextureRuntimeException("tipo de cor não suportado");
+
+			PNGUtil.decodeColorGrayScale16(buffer, current, depth);
+			return;
+		}
+
+		switch (colorType)
+		{
+			case COLOR_TRUECOLOR:
+				PNGUtil.decodeColorTrueColor(buffer, output, line, transPixel);
+				break;
+
+			case COLOR_TRUEALPHA:
+				PNGUtil.decodeColorTrueAlpha(buffer, output, line, transPixel);
+				break;
+
+			case COLOR_GREYSCALE:
+				PNGUtil.decodeColorGrayScale(buffer, output, line);
+				break;
+
+			case COLOR_GREYALPHA:
+				PNGUtil.decodeColorGrayAlpha(buffer, output, line);
+				break;
+
+			case COLOR_INDEXED:
+				PNGUtil.decodeColorIndexed(buffer, output, depth, line, palLine);
+				PNGUtil.decodeColorIndexedSub(buffer, output, depth == 8 ? line : palLine, palette, paletteA);
+				break;
+
+			default:
+				throw new TextureRuntimeException("tipo de cor não suportado");
+		}
+	}
+
+	/**
+	 * Calcula quantos bytes uma linha filtrada possui, incluindo o byte do tipo de filtro.
+	 * @param pixels quantidade de pixels na linha.
+	 * @return aquisição do tamanho da linha em bytes.
+	 */
+
+	private int getRowSize(int pixels)
+	{
+		return ((pixels * depth + 7) / 8) * bpp + 1;
+	}
+
+	/**
+	 * Calcula a quantidade de pixels de uma passagem do entrelaçamento em um dos eixos.
+	 * @param size tamanho da imagem no eixo em pixels.
+	 * @param start posição inicial dos pixels da passagem no eixo.
+	 * @param step distância entre os pixels da passagem no eixo.
+	 * @return aquisição da quantidade de pixels da passagem no eixo.
+	 */
+
+	private int getPassSize(int size, int start, int step)
+	{
+		return size <= start ? 0 : (size - start + step - 1) / step;
+	}
+
+	/**
+	 * Prepara a janela de linhas e o descompactador da thread para uma nova decodificação.
+	 * @param total quantidade total de bytes descompactados esperados da imagem.
+	 * @param rowSize tamanho da maior linha da imagem em bytes.
+	 * @return aquisição do descompactador reiniciado da thread atual.
+	 */
+
+	private Inflater startInflate(long total, int rowSize)
+	{
+		int windowSize = Math.max(WINDOW_SIZE, rowSize);
+
+		if (window == null || window.length < windowSize)
+			window = new byte[windowSize];
+
+		windowOffset = 0;
+		windowLength = 0;
+		pendingBytes = total;
+
+		Inflater inflater = INFLATERS.get();
+		inflater.reset();
+
+		return inflater;
+	}
+
+	/**
+	 * Retira a próxima linha da janela, descompactando um novo bloco quando não houver bytes suficientes.
+	 * Os bytes restantes da janela são movidos para o início antes de descompactar o próximo bloco.
+	 * @param inflater referência do objeto que irá descompactar dados em ZIP.
+	 * @param row vetor que irá receber a linha, deve possuir exatamente o tamanho da linha.
+	 */
+
+	private void nextRow(Inflater inflater, byte row[])
+	{
+		if (windowLength - windowOffset < row.length)
+		{
+			int left = windowLength - windowOffset;
+			int fill = (int) Math.min(window.length - left, pendingBytes);
+
+			System.arraycopy(window, windowOffset, window, 0, left);
+			readChunkUnzip(inflater, window, left, fill);
+
+			windowOffset = 0;
+			windowLength = left + fill;
+			pendingBytes -= fill;
+		}
+
+		System.arraycopy(window, windowOffset, row, 0, row.length);
+		windowOffset += row.length;
+	}
+
+	/**
+	 * Irá fazer a leitura de uma chunk do qual tem seus dados dados como compactados.
+	 * Procedimento utilizado para descompactar os dados dos pixels da imagem (IDAT).
+	 * @param inflater referência do objeto que irá descompactar dados em ZIP.
+	 * @param buffer referência do vetor que será armazenados os dados dos pixels.
+	 * @param offset posição do vetor a partir da qual os dados serão armazenados.
+	 * @param length quantidade de bytes que devem ser descompactados.
+	 * @throws TextureRuntimeException apenas se houver falha no carregamento da chunk.
+	 */
+
+	private void readChunkUnzip(Inflater inflater, byte[] buffer, int offset, int length) throws TextureRuntimeException
+	{
+		try {
+
+			int end = offset + length;
+
+			while (offset < end)
+			{
+				int read = inflater.inflate(buffer, offset, end - offset);
+
+				if (read > 0)
+					offset += read;
+
+				else
+				{
+					if (inflater.finished())
+						throw new TextureRuntimeException("fim do arquivo");
+
+					if (inflater.needsInput())
+						refillInflater(inflater);
+					else
+						throw new TextureRuntimeException("não pode descompactar %d bytes", end - offset);
+				}
+			}
+
+		} catch (DataFormatException e) {
+			throw new TextureRuntimeException(e, "falha ao descompactar");
+		}
+	}
+
+	/**
+	 * Reabastecer Inflater para descompactar os dados em ZIP de uma chunk.
+	 * Os dados são lidos diretamente da região da chunk no buffer, sem serem copiados.
+	 * @param inflater referência do objeto que irá descompactar os dados.
+	 * @throws TextureRuntimeException apenas se houver falha na obtenção dos
+	 * dados seguintes, tal como chunk incorreta ou fim da chunk anterior.
+	 */
+
+	private void refillInflater(Inflater inflater) throws TextureRuntimeException
+	{
+		if (lastChunkRemaing == 0)
+		{
+			do {
+
+				closeChunk();
+				openChunk();
+
+			} while (lastChunkCode != IDAT);
+		}
+
+		inflater.setInput(buffer.getDate(), buffer.offset(), lastChunkRemaing);
+		buffer.skip(lastChunkRemaing);
+
+		afterReadBuffer();
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("colorType", colorType);
+		description.append("bpp", bpp);
+		description.append("depth", depth);
+		description.append("interlaced", interlace != 0);
+		description.append("palette", palette != null);
+		description.append("transparency", transPixel != null);
+
+		return description.toString();
+	}
+}
@@ -1,347 +1,379 @@
-package com.erakin.worlds.raw;
-
-import static org.diverproject.util.Util.format;
-
-import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.SizeUtil;
-import org.lwjgl.util.vector.Vector3f;
-
-import com.erakin.api.lwjgl.VAO;
-import com.erakin.api.lwjgl.math.enumeration.DrawElement;
-import com.erakin.api.render.ModelRender;
-import com.erakin.api.resources.model.Model;
-import com.erakin.api.resources.model.ModelAttribute;
-import com.erakin.api.resources.model.ModelData;
-import com.erakin.api.resources.model.ModelDataDefault;
-import com.erakin.api.resources.model.ModelLoader;
-import com.erakin.api.resources.texture.Texture;
-import com.erakin.api.resources.world.TerrainRuntimeException;
-
-/**
- * <h1>Modelo de Terreno Bruno</h1>
- *
- * <p>Classe usada para criar o modelo de um terreno bruno com base nas informaes do mesmo.
- * Aqui  feito o clculo para posicionar cada unidade do terreno conforme o seu tamanho.
- * Tambm registra o modelo para que fique salvo na engine e no OpenGL.</p>
- *
- * @see ModelRender
- * @see Model
- * @see RawTerrain
- * @see ModelLoader
- *
- * @author Andrew
- */
-
-public class RawTerrainModel implements ModelRender
-{
-	/**
-	 * Posicionamento relativo para o vrtice do sudoeste.
-	 */
-	public static final int OFFSET_SOUTH_WEST = 0;
-
-	/**
-	 * Posicionamento relativo para o vrtice do sudeste.
-	 */
-	public static final int OFFSET_SOUTH_EAST = 1;
-
-	/**
-	 * Posicionamento relativo para o vrtice do nordeste.
-	 */
-	public static final int OFFSET_NORTH_EAST = 2;
-
-	/**
-	 * Posicionamento relativo para o vrtice do noroeste.
-	 */
-	public static final int OFFSET_NORTH_WEST = 3;
-
-
-	/**
-	 * Quantidade de bytes do ltimo modelo gerado.
-	 */
-	private int sizeof;
-
-	/**
-	 * Referncia do ltimo modelo do terreno gerado.
-	 */
-	private Model model;
-
-	/**
-	 * Referncia do terreno bruno do qual o modelo deve ser gerado.
-	 */
-	private RawTerrain terrain;
-
-	/**
-	 * Cria uma nova instncia de um Modelo para Terreno Bruto.
-	 * Lembrando que  necessrio gerar o terreno por <code>generateullModel()</code>.
-	 * @param terrain referncia do terreno bruto do qual o modelo ser gerado.
-	 */
-
-	public RawTerrainModel(RawTerrain terrain)
-	{
-		this.terrain = terrain;
-	}
-
-	/**
-	 * Permite saber aproximadamente o tamanho de ocupao em memria do modelo gerado.
-	 * @return aquisio do tamanho em bytes do modelo de terreno gerado.
-	 */
-
-	public int sizeof()
-	{
-		return sizeof;
-	}
-
-	/**
-	 * Gera as informaes de vrtices, normalizaes e coordenadas de textura para o modelo do terreno.
-	 * Esse terreno gerado ir levar em considerao as informaes contidas em cada unidade do terreno.
-	 * Aps gerar os dados ir notificar a Engine para salvar o modelo no OpenGL.
-	 */
-
-	public void generateFullModel()
-	{
-		if (terrain.getWidth() < 1 || terrain.getLength() < 1)
-			return;
-
-		if (isGenerated())
-			throw new TerrainRuntimeException("modelo do terreno j foi gerado");
-
-		String path = format("%s/terrain_%d_%d", terrain.world.getPrefix(), terrain.getX(), terrain.getZ());
-
-		ModelData data = createModelData();
-		model = ModelLoader.getInstance().createModel(path, data);
-	}
-
-	/**
-	 * Procedimento interno utilizado criar adequadamente as informaes de modelo do terreno.
-	 * @return aquisio dos dados de modelo do terreno prontos para criar um modelo renderizvel.
-	 */
-
-	private ModelData createModelData()
-	{
-		int unitCount = terrain.getWidth() * terrain.getLength();
-		int faceCount = unitCount * 6;
-		int vertexCount = unitCount * 4;
-		int textureCount = unitCount * 4;
-		int normalCount = unitCount * 4;
-
-		ModelDataDefault data = new ModelDataDefault();
-		data.initVertices(vertexCount);
-		data.initUVTextures(textureCount);
-		data.initNormals(normalCount);
-		data.initIndexes(faceCount);
-		sizeof = data.sizeof();
-
-		generateCellVertex(data);
-		generateCellNormals(data);
-		generateCellTextures(data);
-		generateCellIndices(data);
-
-		return data;
-	}
-
-	/**
-	 * Procedimento interno que faz o calculo para gerar o posicionamento dos vrtices.
-	 * @param data referncia do objeto que ir armazenar os vrtices do modelo.
-	 */
-
-	private void generateCellVertex(ModelDataDefault data)
-	{
-		for (int z = 0; z < terrain.getLength(); z++)
-			for (int x = 0; x < terrain.getWidth(); x++)
-			{
-				int offset = terrain.offset(x, z) * 4;
-
-				RawTerrainUnit unit = terrain.getUnit(x, z);
-				data.setVertice(offset + OFFSET_SOUTH_WEST, unit.getSouthWest());
-				data.setVertice(offset + OFFSET_SOUTH_EAST, unit.getSouthEast());
-				data.setVertice(offset + OFFSET_NORTH_EAST, unit.getNorthEast());
-				data.setVertice(offset + OFFSET_NORTH_WEST, unit.getNorthWest());
-			}
-	}
-
-	/**
-	 * Procedimento interno que faz o calculo para gerar o posicionamento da normalizao.
-	 * @param data referncia do objeto que ir armazenar a normalizao do modelo.
-	 */
-
-	private void generateCellNormals(ModelDataDefault data)
-	{
-		int offset = 0;
-
-		for (int z = 0; z < terrain.getLength(); z++)
-			for (int x = 0; x < terrain.getWidth(); x++)
-			{
-				RawTerrainUnit unit = terrain.getUnit(x, z);
-
-				float defaultHeight = unit.avarageHeight();
-				float heightL = getHeight(x - 1, z, defaultHeight);
-				float heightR = getHeight(x + 1, z, defaultHeight);
-				float heightD = getHeight(x, z - 1, defaultHeight);
-				float heightU = getHeight(x, z + 1, defaultHeight);
-
-				Vector3f normal = new Vector3f(heightL - heightR, 2f, heightD - heightU);
-				normal.normalise();
-
-				data.setNormal(offset++, normal.x, normal.y, normal.z);
-				data.setNormal(offset++, normal.x, normal.y, normal.z);
-				data.setNormal(offset++, normal.x, normal.y, normal.z);
-				data.setNormal(offset++, normal.x, normal.y, normal.z);
-			}
-	}
-
-	private float getHeight(int x, int z, float defaultHeight)
-	{
-		try {
-
-			RawTerrainUnit unit = terrain.getUnit(x, z);
-			return unit.avarageHeight();
-
-		} catch (TerrainRuntimeException e) {
-			return defaultHeight;
-		}
-	}
-
-	/**
-	 * Procedimento interno que faz o calculo para gerar o posicionamento de coordenadas da textura.
-	 * @param data referncia do objeto que ir armazenar a normalizao de coordenadas da textura.
-	 */
-
-	private void generateCellTextures(ModelDataDefault data)
-	{
-		int offset = 0;
-
-		for (int z = 0; z < terrain.getLength(); z++)
-			for (int x = 0; x < terrain.getWidth(); x++)
-			{
-				data.setUVTexture(offset++, 1f, 1f);
-				data.setUVTexture(offset++, 0f, 1f);
-				data.setUVTexture(offset++, 0f, 0f);
-				data.setUVTexture(offset++, 1f, 0f);
-			}
-	}
-
-	/**
-	 * Procedimento interno que faz o calculo para gerar a conexo dos vrtices (ndices).
-	 * @param data referncia do objeto que ir armazenar a conexo dos vrtices (ndices).
-	 */
-
-	private void generateCellIndices(ModelDataDefault data)
-	{
-		int offset = 0;
-
-		for (int z = 0; z < terrain.getLength(); z++)
-			for (int x = 0; x < terrain.getWidth(); x++)
-			{
-				int vertexOffset = terrain.offset(x, z) * 4;
-
-				data.setIndice(offset++, vertexOffset + OFFSET_SOUTH_WEST);
-				data.setIndice(offset++, vertexOffset + OFFSET_NORTH_WEST);
-				data.setIndice(offset++, vertexOffset + OFFSET_SOUTH_EAST);
-				data.setIndice(offset++, vertexOffset + OFFSET_SOUTH_EAST);
-				data.setIndice(offset++, vertexOffset + OFFSET_NORTH_WEST);
-				data.setIndice(offset++, vertexOffset + OFFSET_NORTH_EAST);
-			}		
-	}
-
-	/**
-	 * Informa ao OpenGL novamente todos os dados de composio de modelo do terreno.
-	 * Ir iterar cada unidade do terreno calculando novamente vrtices e afins.
-	 */
-
-	public void updateFullModel()
-	{
-		ModelData data = createModelData();
-
-		VAO vao = new VAO(model.getID());
-		vao.bind();
-		{
-			data.getIndices().storeInVAO(vao);
-
-			for (ModelAttribute attribute : data.getAttributes())
-				attribute.storeInVAO(vao);
-		}
-		vao.unbind();
-	}
-
-	/**
-	 * Verifica se um modelo de terreno para ser renderizado j foi gerado.
-	 * @return true se j foi gerado ou false caso contrrio.
-	 */
-
-	public boolean isGenerated()
-	{
-		return model != null;
-	}
-
-	@Override
-	public int getID()
-	{
-		return model.getID();
-	}
-
-	@Override
-	public void bind()
-	{
-		model.bind();
-	}
-
-	@Override
-	public void unbind()
-	{
-		model.unbind();
-	}
-
-	@Override
-	public boolean valid()
-	{
-		return model.valid();
-	}
-
-	@Override
-	public void release()
-	{
-		model.release();
-	}
-
-	@Override
-	public void draw(DrawElement mode)
-	{
-		model.draw(mode);
-	}
-
-	@Override
-	public Texture getTexture()
-	{
-		return model == null ? null : model.getTexture();
-	}
-
-	@Override
-	public float getReflectivity()
-	{
-		return model.getReflectivity();
-	}
-
-	@Override
-	public float getShineDamping()
-	{
-		return model.getShineDamping();
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		description.append("width", terrain.getWidth());
-		description.append("length", terrain.getLength());
-
-		if (model != null)
-		{
-			description.append("model", model.getID());
-			description.append("vertexCount", model.getVertexCount());
-			description.append("sizeof", SizeUtil.toString(sizeof()));
-		}
-
-		return description.toString();
-	}
-}
+package com.erakin.worlds.raw;
+
+import static org.diverproject.util.Util.format;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.SizeUtil;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.lwjgl.VAO;
+import com.erakin.api.lwjgl.math.enumeration.DrawElement;
+import com.erakin.api.render.ModelRender;
+import com.erakin.api.resources.model.Model;
+import com.erakin.api.resources.model.ModelAttribute;
+import com.erakin.api.resources.model.ModelBounds;
+import com.erakin.api.resources.model.ModelData;
+import com.erakin.api.resources.model.ModelDataDefault;
+import com.erakin.api.resources.model.ModelLoader;
+import com.erakin.api.resources.texture.Texture;
+import com.erakin.api.resources.world.TerrainRuntimeException;
+
+/**
+ * <h1>Modelo de Terreno Bruno</h1>
+ *
+ * <p>Classe usada para criar o modelo de um terreno bruno com base nas informações do mesmo.
+ * Aqui é feito o cálculo para posicionar cada unidade do terreno conforme o seu tamanho.
+ * Também registra o modelo para que fique salvo na engine e no OpenGL.</p>
+ *
+ * @see ModelRender
+ * @see Model
+ * @see RawTerrain
+ * @see ModelLoader
+ *
+ * @author Andrew
+ */
+
+public class RawTerrainModel implements ModelRender
+{
+	/**
+	 * Posicionamento relativo para o vértice do sudoeste.
+	 */
+	public static final int OFFSET_SOUTH_WEST = 0;
+
+	/**
+	 * Posicionamento relativo para o vértice do sudeste.
+	 */
+	public static final int OFFSET_SOUTH_EAST = 1;
+
+	/**
+	 * Posicionamento relativo para o vértice do nordeste.
+	 */
+	public static final int OFFSET_NORTH_EAST = 2;
+
+	/**
+	 * Posicionamento relativo para o vértice do noroeste.
+	 */
+	public static final int OFFSET_NORTH_WEST = 3;
+
+	/**
+	 * Coordenadas de textura dos quatro vértices de cada unidade, na ordem dos posicionamentos relativos.
+	 */
+	private static final float CELL_UV_TEXTURES[] = new float[] { 1f, 1f, 0f, 1f, 0f, 0f, 1f, 0f };
+
+	/**
+	 * Quantidade de bytes do último modelo gerado.
+	 */
+	private int sizeof;
+
+	/**
+	 * Referência do último modelo do terreno gerado.
+	 */
+	private Model model;
+
+	/**
+	 * Referência do terreno bruno do qual o modelo deve ser gerado.
+	 */
+	private RawTerrain terrain;
+
+	/**
+	 * Cria uma nova instância de um Modelo para Terreno Bruto.
+	 * Lembrando que é necessário gerar o terreno por <code>generateullModel()</code>.
+	 * @param terrain referência do terreno bruto do qual o modelo será gerado.
+	 */
+
+	public RawTerrainModel(RawTerrain terrain)
+	{
+		this.terrain = terrain;
+	}
+
+	/**
+	 * Permite saber aproximadamente o tamanho de ocupação em memória do modelo gerado.
+	 * @return aquisição do tamanho em bytes do modelo de terreno gerado.
+	 */
+
+	public int sizeof()
+	{
+		return sizeof;
+	}
+
+	/**
+	 * Gera as informações de vértices, normalizações e coordenadas de textura para o modelo do terreno.
+	 * Esse terreno gerado irá levar em consideração as informações contidas em cada unidade do terreno.
+	 * Após gerar os dados irá notificar a Engine para salvar o modelo no OpenGL.
+	 */
+
+	public void generateFullModel()
+	{
+		if (terrain.getWidth() < 1 || terrain.getLength() < 1)
+			return;
+
+		if (isGenerated())
+			throw new TerrainRuntimeException("modelo do terreno já foi gerado");
+
+		String path = format("%s/terrain_%d_%d", terrain.world.getPrefix(), terrain.getX(), terrain.getZ());
+
+		ModelData data = createModelData();
+		model = ModelLoader.getInstance().createModel(path, data);
+	}
+
+	/**
+	 * Procedimento interno utilizado criar adequadamente as informações de modelo do terreno.
+	 * @return aquisição dos dados de modelo do terreno prontos para criar um modelo renderizável.
+	 */
+
+	private ModelData createModelData()
+	{
+		int unitCount = terrain.getWidth() * terrain.getLength();
+		int faceCount = unitCount * 6;
+		int vertexCount = unitCount * 4;
+		int textureCount = unitCount * 4;
+		int normalCount = unitCount * 4;
+
+		ModelDataDefault data = new ModelDataDefault();
+		data.initVertices(vertexCount);
+		data.initUVTextures(textureCount);
+		data.initNormals(normalCount);
+		data.initIndexes(faceCount);
+		sizeof = data.sizeof();
+
+		generateCellVertex(data);
+		generateCellNormals(data);
+		generateCellTextures(data);
+		generateCellIndices(data);
+
+		return data;
+	}
+
+	/**
+	 * Procedimento interno que faz o calculo para gerar o posicionamento dos vértices.
+	 * @param data referência do objeto que irá armazenar os vértices do modelo.
+	 */
+
+	private void generateCellVertex(ModelDataDefault data)
+	{
+		for (int z = 0; z < terrain.getLength(); z++)
+			for (int x = 0; x < terrain.getWidth(); x++)
+			{
+				int offset = terrain.offset(x, z) * 4;
+
+				RawTerrainUnit unit = terrain.getUnit(x, z);
+				data.setVertice(offset + OFFSET_SOUTH_WEST, unit.getSouthWest());
+				data.setVertice(offset + OFFSET_SOUTH_EAST, unit.getSouthEast());
+				data.setVertice(offset + OFFSET_NORTH_EAST, unit.getNorthEast());
+				data.setVertice(offset + OFFSET_NORTH_WEST, unit.getNorthWest());
+			}
+	}
+
+	/**
+	 * Procedimento interno que faz o calculo para gerar o posicionamento da normalização.
+	 * @param data referência do objeto que irá armazenar a normalização do modelo.
+	 */
+
+	private void generateCellNormals(ModelDataDefault data)
+	{
+		float normals[] = new float[12];
+		int offset = 0;
+
+		for (int z = 0; z < terrain.getLength(); z++)
+			for (int x = 0; x < terrain.getWidth(); x++)
+			{
+				RawTerrainUnit unit = terrain.getUnit(x, z);
+
+				float defaultHeight = unit.avarageHeight();
+				float heightL = getHeight(x - 1, z, defaultHeight);
+				float heightR = getHeight(x + 1, z, defaultHeight);
+				float heightD = getHeight(x, z - 1, defaultHeight);
+				float heightU = getHeight(x, z + 1, defaultHeight);
+
+				float normalX = heightL - heightR;
+				float normalZ = heightD - heightU;
+				float length = (float) Math.sqrt(normalX * normalX + 4f + normalZ * normalZ);
+
+				for (int i = 0; i < normals.length; i += 3)
+				{
+					normals[i] = normalX / length;
+					normals[i + 1] = 2f / length;
+					normals[i + 2] = normalZ / length;
+				}
+
+				data.setNormals(offset, normals, 0, normals.length);
+				offset += 4;
+			}
+	}
+
+	private float getHeight(int x, int z, float defaultHeight)
+	{
+		try {
+
+			RawTerrainUnit unit = terrain.getUnit(x, z);
+			return unit.avarageHeight();
+
+		} catch (TerrainRuntimeException e) {
+			return defaultHeight;
+		}
+	}
+
+	/**
+	 * Procedimento interno que faz o calculo para gerar o posicionamento de coordenadas da textura.
+	 * @param data referência do objeto que irá armazenar a normalização de coordenadas da textura.
+	 */
+
+	private void generateCellTextures(ModelDataDefault data)
+	{
+		int offset = 0;
+
+		for (int z = 0; z < terrain.getLength(); z++)
+			for (int x = 0; x < terrain.getWidth(); x++)
+			{
+				data.setUVTextures(offset, CELL_UV_TEXTURES, 0, CELL_UV_TEXTURES.length);
+				offset += 4;
+			}
+	}
+
+	/**
+	 * Procedimento interno que faz o calculo para gerar a conexão dos vértices (índices).
+	 * @param data referência do objeto que irá armazenar a conexão dos vértices (índices).
+	 */
+
+	private void generateCellIndices(ModelDataDefault data)
+	{
+		int cell[] = new int[6];
+		int offset = 0;
+
+		for (int z = 0; z < terrain.getLength(); z++)
+			for (int x = 0; x < terrain.getWidth(); x++)
+			{
+				int vertexOffset = terrain.offset(x, z) * 4;
+
+				cell[0] = vertexOffset + OFFSET_SOUTH_WEST;
+				cell[1] = vertexOffset + OFFSET_NORTH_WEST;
+				cell[2] = vertexOffset + OFFSET_SOUTH_EAST;
+				cell[3] = vertexOffset + OFFSET_SOUTH_EAST;
+				cell[4] = vertexOffset + OFFSET_NORTH_WEST;
+				cell[5] = vertexOffset + OFFSET_NORTH_EAST;
+
+				data.setIndices(offset, cell, 0, cell.length);
+				offset += cell.length;
+			}		
+	}
+
+	/**
+	 * Informa ao OpenGL novamente todos os dados de composição de modelo do terreno.
+	 * Irá iterar cada unidade do terreno calculando novamente vértices e afins.
+	 */
+
+	public void updateFullModel()
+	{
+		ModelData data = createModelData();
+
+		VAO vao = new VAO(model.getID());
+		vao.bind();
+		{
+			data.getIndices().storeInVAO(vao);
+
+			for (ModelAttribute attribute : data.getAttributes())
+				attribute.storeInVAO(vao);
+		}
+		vao.unbind();
+	}
+
+	/**
+	 * Verifica se um modelo de terreno para ser renderizado já foi gerado.
+	 * @return true se já foi gerado ou false caso contrário.
+	 */
+
+	public boolean isGenerated()
+	{
+		return model != null;
+	}
+
+	@Override
+	public int getID()
+	{
+		return model.getID();
+	}
+
+	@Override
+	public void bind()
+	{
+		model.bind();
+	}
+
+	@Override
+	public void unbind()
+	{
+		model.unbind();
+	}
+
+	@Override
+	public boolean valid()
+	{
+		return model.valid();
+	}
+
+	@Override
+	public void release()
+	{
+		model.release();
+	}
+
+	@Override
+	public void draw(DrawElement mode)
+	{
+		model.draw(mode);
+	}
+
+	@Override
+	public Texture getTexture()
+	{
+		return model == null ? null : model.getTexture();
+	}
+
+	@Override
+	public float getReflectivity()
+	{
+		return model.getReflectivity();
+	}
+
+	@Override
+	public float getShineDamping()
+	{
+		return model.getShineDamping();
+	}
+
+	@Override
+	public ModelBounds getBounds()
+	{
+		return model == null ? null : model.getBounds();
+	}
+
+	@Override
+	public Vector3f getPositionOffset()
+	{
+		return model == null ? new Vector3f(0, 0, 0) : model.getPositionOffset();
+	}
+
+	@Override
+	public Vector3f getPositionScale()
+	{
+		return model == null ? new Vector3f(1, 1, 1) : model.getPositionScale();
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("width", terrain.getWidth());
+		description.append("length", terrain.getLength());
+
+		if (model != null)
+		{
+			description.append("model", model.getID());
+			description.append("vertexCount", model.getVertexCount());
+			description.append("sizeof", SizeUtil.toString(sizeof()));
+		}
+
+		return description.toString();
+	}
+}
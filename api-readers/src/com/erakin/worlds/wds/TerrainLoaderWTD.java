@@ -1,116 +1,135 @@
-package com.erakin.worlds.wds;
-
-import java.awt.image.BufferedImage;
-import java.io.File;
-
-import com.erakin.api.buffer.Buffer;
-import com.erakin.api.buffer.BufferInput;
-import com.erakin.api.resources.model.Model;
-import com.erakin.api.resources.model.ModelDataDefault;
-import com.erakin.api.resources.model.ModelLoader;
-import com.erakin.api.resources.world.Terrain;
-import com.erakin.api.resources.world.TerrainLoader;
-import com.erakin.api.resources.world.World;
-import com.erakin.api.resources.world.WorldRuntimeException;
-
-/**
- * <h1>Carregador de Terreno com WTD</h1>
- *
- * <p>Os terrenos carregados em formatos de arquivos do tipo WTD so dados em bytes diretos.
- * Por serem dados diretos em bytes o carregamento do mundo se torna mais fcil atravs de stream.
- * A formatao do arquivo consiste em especificar os vrtices, texturas, normalizaes e faces.</p>
- *
- * <p>De uma forma mais detalhada os dados ficam da seguinte forma:<br>
- * {int|vertex_count}{int[]|vertices_array}{int|texture_coords_count}{float[]|texture_coords_array}
- * {int|normals_count}{float[]|normals_array}{int|face_count}{int[]|vertices_of_faces}</p>
- *
- * <p>Esse tipo de arquivo tende a ter um peso maior se comparado a terrenos em BMP por especificar
- * completamente a posio de cada vrtice, normalizao e face no mesmo, porm  carregada mais
- * rapidamente por no ser necessrio realizar qualquer operao de clculo para tal.</p>
- *
- * <p>TODO: atualizaes futuras devero implementar alguma forma de especificar a textura usada.</p>
- *
- * @see Terrain
- * @see TerrainLoader
- * @see BufferedImage
- * @see World
- *
- * @author Andrew
- */
-
-public class TerrainLoaderWTD implements TerrainLoader
-{
-	@Override
-	public Terrain load(World world, int xTerrain, int yTerrain)
-	{
-		String filepath = world.getTerrainFilepath();
-		File file = new File(filepath);
-
-		if (!file.isDirectory())
-			throw new WorldRuntimeException("terreno no encontrado (mundo: %d, %dx %y)", world.getID(), xTerrain, yTerrain);
-
-		String terrainPath = String.format("%s/terrain_%d-%d.wtd", filepath, xTerrain, yTerrain);
-
-		int width = world.getTerrainWidth();
-		int length = world.getTerrainLength();
-
-		File terrainFile = new File(terrainPath);
-		Buffer buffer = new BufferInput(terrainFile);
-		Terrain terrain = new Terrain(xTerrain, yTerrain, width, length);
-
-		Model model = createModel(terrain, buffer, terrainPath);
-		terrain.setModel(model);
-
-		return terrain;
-	}
-
-	/**
-	 * Procedimento interno para criar e salvar a modelagem do terreno tal como ler os dados.
-	 * @param terrain referncia do terreno que foi criado no mtodo principal do carregador.
-	 * @param buffer referncia do buffer contendo os dados do arquivo WTD que foi lido.
-	 * @param terrainPath caminho parcial ou completo do terreno para identificar no ModelLoader.
-	 * @return aquisio de uma modelagem criada para representar o terreno na renderizao.
-	 */
-
-	private Model createModel(Terrain terrain, Buffer buffer, String terrainPath)
-	{
-		int vertexCount = buffer.getInt();
-		float vertices[] = new float[vertexCount];
-		Buffer.load(buffer, vertices);
-
-		int textureCount = buffer.getInt();
-		float textures[] = new float[textureCount];
-		Buffer.load(buffer, textures);
-
-		int normalCount = buffer.getInt();
-		float normals[] = new float[normalCount];
-		Buffer.load(buffer, normals);
-
-		int faceCount = buffer.getInt();
-		int faces[] = new int[faceCount];
-		Buffer.load(buffer, faces);
-
-		ModelDataDefault data = new ModelDataDefault();
-		data.initIndexes(faceCount);
-		data.initVertices(vertexCount);
-		data.initUVTextures(textureCount);
-		data.initNormals(normalCount);
-
-		for (int vertex = 0, offset = 0; vertex < vertexCount; vertex++, offset += 3)
-			data.setVertice(vertexCount, vertices[offset], vertices[offset + 1], vertices[offset + 2]);
-
-		for (int vertex = 0, offset = 0; vertex < textureCount; vertex++, offset+= 2)
-			data.setUVTexture(vertex, textures[offset], textures[offset + 1]);
-
-		for (int vertex = 0, offset = 0; vertex < normalCount; vertex++, offset+= 3)
-			data.setNormal(vertexCount, normals[offset], normals[offset + 1], normals[offset + 2]);
-
-		for (int index = 0; index < faceCount; index++)
-			data.setIndice(index, faces[index]);
-
-		ModelLoader modelLoader = ModelLoader.getInstance();
-		Model model = modelLoader.createModel(terrainPath, data);
-
-		return model;
-	}
-}
+package com.erakin.worlds.wds;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.buffer.BufferInput;
+import com.erakin.api.resources.model.Model;
+import com.erakin.api.resources.model.ModelDataDefault;
+import com.erakin.api.resources.model.ModelLoader;
+import com.erakin.api.resources.world.Terrain;
+import com.erakin.api.resources.world.TerrainLoader;
+import com.erakin.api.resources.world.TerrainStreamLoader;
+import com.erakin.api.resources.world.World;
+import com.erakin.api.resources.world.WorldRuntimeException;
+
+/**
+ * <h1>Carregador de Terreno com WTD</h1>
+ *
+ * <p>Os terrenos carregados em formatos de arquivos do tipo WTD são dados em bytes diretos.
+ * Por serem dados diretos em bytes o carregamento do mundo se torna mais fácil através de stream.
+ * A formatação do arquivo consiste em especificar os vértices, texturas, normalizações e faces.</p>
+ *
+ * <p>De uma forma mais detalhada os dados ficam da seguinte forma:<br>
+ * {int|vertex_count}{int[]|vertices_array}{int|texture_coords_count}{float[]|texture_coords_array}
+ * {int|normals_count}{float[]|normals_array}{int|face_count}{int[]|vertices_of_faces}</p>
+ *
+ * <p>Esse tipo de arquivo tende a ter um peso maior se comparado a terrenos em BMP por especificar
+ * completamente a posição de cada vértice, normalização e face no mesmo, porém é carregada mais
+ * rapidamente por não ser necessário realizar qualquer operação de cálculo para tal.</p>
+ *
+ * <p>A leitura do arquivo não acessa o OpenGL, permitindo que seja feita em segundo plano pelo transmissor
+ * de terrenos, enquanto a modelagem é criada apenas na thread principal.</p>
+ *
+ * <p>TODO: atualizações futuras deverão implementar alguma forma de especificar a textura usada.</p>
+ *
+ * @see Terrain
+ * @see TerrainLoader
+ * @see TerrainStreamLoader
+ * @see BufferedImage
+ * @see World
+ *
+ * @author Andrew
+ */
+
+public class TerrainLoaderWTD implements TerrainStreamLoader<ModelDataDefault>
+{
+	@Override
+	public Terrain load(World world, int xTerrain, int yTerrain)
+	{
+		return create(world, xTerrain, yTerrain, read(world, xTerrain, yTerrain));
+	}
+
+	@Override
+	public ModelDataDefault read(World world, int xTerrain, int yTerrain)
+	{
+		String filepath = world.getTerrainFilepath();
+		File file = new File(filepath);
+
+		if (!file.isDirectory())
+			throw new WorldRuntimeException("terreno não encontrado (mundo: %d, %dx %y)", world.getID(), xTerrain, yTerrain);
+
+		Buffer buffer = new BufferInput(new File(getTerrainPath(filepath, xTerrain, yTerrain)));
+
+		return createData(buffer);
+	}
+
+	@Override
+	public Terrain create(World world, int xTerrain, int yTerrain, ModelDataDefault data)
+	{
+		String terrainPath = getTerrainPath(world.getTerrainFilepath(), xTerrain, yTerrain);
+
+		int width = world.getTerrainWidth();
+		int length = world.getTerrainLength();
+
+		Terrain terrain = new Terrain(xTerrain, yTerrain, width, length);
+
+		ModelLoader modelLoader = ModelLoader.getInstance();
+		Model model = modelLoader.createModel(terrainPath, data);
+		terrain.setModel(model);
+
+		return terrain;
+	}
+
+	/**
+	 * Determina o caminho do arquivo WTD de um terreno conforme as suas coordenadas.
+	 * @param filepath caminho da pasta contendo os arquivos dos terrenos do mundo.
+	 * @param xTerrain coordenada do terreno no eixo da longitude.
+	 * @param yTerrain coordenada do terreno no eixo da latitude.
+	 * @return aquisição do caminho do arquivo WTD do terreno.
+	 */
+
+	private String getTerrainPath(String filepath, int xTerrain, int yTerrain)
+	{
+		return String.format("%s/terrain_%d-%d.wtd", filepath, xTerrain, yTerrain);
+	}
+
+	/**
+	 * Procedimento interno para ler os dados do arquivo WTD e criar os dados da modelagem do terreno.
+	 * @param buffer referência do buffer contendo os dados do arquivo WTD que foi lido.
+	 * @return aquisição dos dados da modelagem que será criada para representar o terreno.
+	 */
+
+	private ModelDataDefault createData(Buffer buffer)
+	{
+		int vertexCount = buffer.getInt();
+		float vertices[] = new float[vertexCount];
+		Buffer.load(buffer, vertices);
+
+		int textureCount = buffer.getInt();
+		float textures[] = new float[textureCount];
+		Buffer.load(buffer, textures);
+
+		int normalCount = buffer.getInt();
+		float normals[] = new float[normalCount];
+		Buffer.load(buffer, normals);
+
+		int faceCount = buffer.getInt();
+		int faces[] = new int[faceCount];
+		Buffer.load(buffer, faces);
+
+		ModelDataDefault data = new ModelDataDefault();
+		data.initIndexes(faceCount);
+		data.initVertices(vertexCount / 3);
+		data.initUVTextures(textureCount / 2);
+		data.initNormals(normalCount / 3);
+
+		data.setVertices(0, vertices, 0, vertexCount / 3 * 3);
+		data.setUVTextures(0, textures, 0, textureCount / 2 * 2);
+		data.setNormals(0, normals, 0, normalCount / 3 * 3);
+		data.setIndices(0, faces, 0, faceCount);
+
+		return data;
+	}
+}
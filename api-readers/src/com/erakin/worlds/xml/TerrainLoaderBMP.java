@@ -1,320 +1,414 @@
-package com.erakin.worlds.xml;
-
-import java.awt.image.BufferedImage;
-import java.awt.image.DataBuffer;
-import java.awt.image.WritableRaster;
-import java.io.File;
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
-
-import org.lwjgl.util.vector.Vector3f;
-
-import com.erakin.api.resources.model.Model;
-import com.erakin.api.resources.model.ModelDataDefault;
-import com.erakin.api.resources.model.ModelLoader;
-import com.erakin.api.resources.texture.Texture;
-import com.erakin.api.resources.texture.TextureException;
-import com.erakin.api.resources.texture.TextureLoader;
-import com.erakin.api.resources.world.Terrain;
-import com.erakin.api.resources.world.TerrainLoader;
-import com.erakin.api.resources.world.TerrainRuntimeException;
-import com.erakin.api.resources.world.World;
-
-/**
- * <h1>Carregador de Terreno com Bitmap</h1>
- *
- * <p>Terrenos carregados nesse formato devem possuir seus terrenos armazenados em imagens BMP.
- * Esse arquivo BMP dever ainda ser de formato escala cinza (TYPE_BYTE_GRAY) para ser vlido.
- * Para que terrenos nesse formato funcionem  necessrio ter uma margem de pixels repetidos.
- * A margem  de 1 pixel na parte superior e na esquerda, e 2 pixels na parte inferior e na direita.</p>
- *
- * <p>TODO: atualizaes futuras devero implementar alguma forma de especificar a textura usada.</p>
- *
- * @see Terrain
- * @see TerrainLoader
- * @see BufferedImage
- * @see World
- *
- * @author Andrew
- */
-
-public class TerrainLoaderBMP implements TerrainLoader
-{
-	/**
-	 * Referncia do terreno que foi gerado no carregador.
-	 */
-	private Terrain terrain;
-
-	/**
-	 * Referncia da imagem BMP carregada para facilitar o uso no carregador.
-	 */
-	private BufferedImage image;
-
-	@Override
-	public Terrain load(World world, int xTerrain, int zTerrain)
-	{
-		String filepath = world.getTerrainFilepath();
-		String terrainPath = makeTerrainPath(filepath, xTerrain, zTerrain);
-		File file = new File(filepath);
-
-		if (!file.isDirectory())
-			throw new TerrainRuntimeException("terreno no encontrado (mundo: %d, %dx %y)",
-					world.getID(), xTerrain, zTerrain);
-
-		image = loadImage(filepath, xTerrain, zTerrain);
-
-		if (image.getType() != BufferedImage.TYPE_BYTE_GRAY)
-			throw new TerrainRuntimeException("no  escala cinza (path: %s)", terrainPath);
-
-		int width = world.getTerrainWidth();
-		int length = world.getTerrainLength();
-
-		if (image.getWidth() != width + 3)
-			throw new TerrainRuntimeException("largura invlida (path: %s)", terrainPath);
-
-		if (image.getHeight() != length + 3)
-			throw new TerrainRuntimeException("comprimento invlido (path: %s)", terrainPath);
-
-		try {
-
-			Texture texture = TextureLoader.getInstance().getTexture("dirt");
-			terrain = new Terrain(xTerrain, zTerrain, width, length);
-
-			Model model = createModel(world, terrainPath);
-			model.setTexture(texture);
-
-			terrain.setModel(model);
-
-			return terrain;
-
-		} catch (TextureException e) {
-			throw new TerrainRuntimeException("falha ao definir textura de nivelamento (path: %s)", terrainPath);
-		}
-	}
-
-	/**
-	 * Carrega uma imagem de acordo com o caminho da pasta que a contm.
-	 * A imagem dever estar no formato especificado na documentao do mtodo.
-	 * @param filepath caminho completo ou parcial da pasta que contm a imagem.
-	 * @param xTerrain coordenada do terreno no mundo em relao ao eixo da longitude.
-	 * @param zTerrain coordenada do terreno no mundo em relao ao eixo da longitude.
-	 * @return aquisio da imagem carregada conforme especificaes acima.
-	 */
-
-	private BufferedImage loadImage(String filepath, int xTerrain, int zTerrain)
-	{
-		String terrainPath = makeTerrainPath(filepath, xTerrain, zTerrain);
-		File terrainFile = new File(terrainPath);
-
-		try {
-			return ImageIO.read(terrainFile);
-		} catch (IOException e) {
-			throw new TerrainRuntimeException("falha ao ler terreno (path: %s) [%s]", terrainFile.getPath(), e.getMessage());
-		}
-	}
-
-	/**
-	 * Mtodo para criar o caminho do terreno conforme as especificaes abaixo.
-	 * @param filepath caminho completo ou parcial da pasta que contm a imagem.
-	 * @param xTerrain coordenada do terreno no mundo em relao ao eixo da longitude.
-	 * @param zTerrain coordenada do terreno no mundo em relao ao eixo da longitude.
-	 * @return aquisio do caminho passado adicionado o nome do arquivo ao final.
-	 */
-
-	private String makeTerrainPath(String filepath, int xTerrain, int zTerrain)
-	{
-		String terrainName = String.format("terrain_%d-%d.bmp", xTerrain, zTerrain);
-		String terrainPath = String.format("%s/%s", filepath, terrainName);
-
-		return terrainPath;
-	}
-
-	/**
-	 * Procedimento chamado aps fazer a validao da imagem carregada.
-	 * Seu objetivo  determinar o tamanho da modelagem e assim cri-la.
-	 * Aps isso chama alguns mtodos internos para especificar seus valores.
-	 * @param world referncia do mundo que solicitou o terreno.
-	 * @param path caminho do terreno carregado para identific-lo no ModelLoader.
-	 * @return aquisio da modelagem criada a partir das informaes do mundo.
-	 */
-
-	private Model createModel(World world, String path)
-	{
-		int width = world.getTerrainWidth();
-		int length = world.getTerrainLength();
-		int size = (width * length) + width + length + 1;
-
-		int vertexCount = size;
-		int textureCount = size;
-		int normalCount = size;
-		int faceCount = width * length * 6;
-
-		ModelDataDefault data = new ModelDataDefault();
-		data.initIndexes(faceCount);
-		data.initVertices(vertexCount);
-		data.initUVTextures(textureCount);
-		data.initNormals(normalCount);
-
-		generateVertices(world, data, world.getUnitSize());
-		generateNormals(world, data);
-		generateTextures(world, data);
-		generateIndices(world, data);
-
-		return ModelLoader.getInstance().createModel(path, data);
-	}
-
-	/**
-	 * Mtodo interno chamado aps a criao do objeto para armazenar a modelagem do terreno.
-	 * Esse mtodo ir criar os vrtices de cada clula do terreno respeitando o valor de unidade.
-	 * @param world referncia do mundo que o solicitou para saber o tamanho de seus terrenos.
-	 * @param data referncia do objeto contendo os dados temporrios da modelagem criada.
-	 * @param unit qual o tamanho de cada clula do terreno no espao quando for renderizado.
-	 */
-
-	private void generateVertices(World world, ModelDataDefault data, float unit)
-	{
-		int offset = 0;
-
-		for (int wz = 0; wz <= world.getTerrainLength(); wz++)
-			for (int wx = 0; wx <= world.getTerrainWidth(); wx++)
-			{
-				float x = wx * unit;
-				float y = getHeight(wx, wz);
-				float z = wz * unit;
-
-				data.setVertice(offset++, x, y, z);
-				terrain.setHeight(wx, wz, y);
-			}
-	}
-
-	/**
-	 * Mtodo interno chamado aps a criao do objeto para armazenar a modelagem do terreno.
-	 * Esse mtodo ir especificar a intensidade da luz nas clulas conforme suas altitudes.
-	 * Considera as altitudes das clulas vizinhas (norte, sul, leste e oeste) para tal.
-	 * @param world referncia do mundo que o solicitou para saber o tamanho de seus terrenos.
-	 * @param data referncia do objeto contendo os dados temporrios da modelagem criada.
-	 */
-
-	private void generateNormals(World world, ModelDataDefault data)
-	{
-		int offset = 0;
-
-		for (int wz = 0; wz <= world.getTerrainLength(); wz++)
-			for (int wx = 0; wx <= world.getTerrainWidth(); wx++)
-			{
-				float heightL = getHeight(wx - 1, wz);
-				float heightR = getHeight(wx + 1, wz);
-				float heightD = getHeight(wx, wz - 1);
-				float heightU = getHeight(wx, wz + 1);
-
-				Vector3f normal = new Vector3f(heightL - heightR, 2f, heightD - heightU);
-				normal.normalise();
-
-				data.setNormal(offset++, normal.x, normal.y, normal.z);
-			}
-	}
-
-	/**
-	 * Mtodo interno chamado aps a criao do objeto para armazenar a modelagem do terreno.
-	 * Utiliza um padro de textura simples de modo que o terreno use apenas uma textura no cho.
-	 * TODO funcionalidade temporria, dever ser melhor especificado em atualizaes futuras.
-	 * @param world referncia do mundo que o solicitou para saber o tamanho de seus terrenos.
-	 * @param data referncia do objeto contendo os dados temporrios da modelagem criada.
-	 */
-
-	private void generateTextures(World world, ModelDataDefault data)
-	{
-		int offset = 0;
-
-		for (int wz = 0; wz <= world.getTerrainLength(); wz++)
-			for (int wx = 0; wx <= world.getTerrainWidth(); wx++)
-			{
-				float x = (float) wx / ((float) world.getTerrainWidth());
-				float y = (float) wz / ((float) world.getTerrainLength());
-
-				data.setUVTexture(offset++, x, y);
-			}
-	}
-
-	/**
-	 * Mtodo interno chamado aps a criao do objeto para armazenar a modelagem do terreno.
-	 * Ir garantir que os vrtices criados sejam conectados corretamente para formar o terreno.
-	 * @param world referncia do mundo que o solicitou para saber o tamanho de seus terrenos.
-	 * @param data referncia do objeto contendo os dados temporrios da modelagem criada.
-	 */
-
-	private void generateIndices(World world, ModelDataDefault data)
-	{
-		int offset = 0;
-
-		for (int wz = 0; wz < world.getTerrainLength(); wz++)
-			for (int wx = 0; wx < world.getTerrainWidth(); wx++)
-			{
-				int topLeft = (wz * world.getTerrainWidth()) + wx + wz;
-				int topRight = topLeft + 1;
-				int bottomLeft = topLeft + world.getTerrainWidth() + 1;
-				int bottomRight = bottomLeft + 1;
-
-				data.setIndice(offset++, topLeft);
-				data.setIndice(offset++, bottomLeft);
-				data.setIndice(offset++, topRight);
-				data.setIndice(offset++, topRight);
-				data.setIndice(offset++, bottomLeft);
-				data.setIndice(offset++, bottomRight);
-			}
-	}
-
-	/**
-	 * Permite obter o valor de altura ou profundidade de uma clula do terreno.
-	 * A altura varia de acordo com as especificaes de escala cinza da imagem BMP.
-	 * @param x coordenada da clula do terreno no eixo da longitude desejada.
-	 * @param z coordenada da clula do terreno no eixo da latitude desejada.
-	 * @return aquisio da altura/profundidade nas coordenadas especificadas acima.
-	 */
-
-	private float getHeight(int x, int z)
-	{
-		int pixel = getPixelOf(x + 1, z + 1, image);
-		float height = calculatePixelHeight(pixel);
-
-		return height;
-	}
-
-	/**
-	 * Permite obter o valor de um determinado pixel (neste caso de 0 a 255 - escala cinza).
-	 * Esse pixel internamente ser usado para saber a altura ou profundidade de uma clula.
-	 * @param x coordenada do pixel da imagem (clula do terreno) no eixo da longitude desejada.
-	 * @param z coordenada do pixel da imagem (clula do terreno) no eixo da latitude desejada.
-	 * @param bi referncia da imagem que ser considerada para obter esse pixel.
-	 * @return aquisio do valor do pixel conforme as especificaes acima.
-	 */
-
-	private int getPixelOf(int x, int z, BufferedImage bi)
-	{
-		int i = (x * bi.getHeight()) + z;
-
-		WritableRaster raster = bi.getRaster();
-		DataBuffer buffer = raster.getDataBuffer();
-		int pixel = buffer.getElem(i);
-
-		return pixel;
-	}
-
-	/**
-	 * Calcula a altura ou profundidade de uma clula do terreno conforme o valor do pixel.
-	 * A conta  feita considerando um valor de altura 64 (padro) sendo os pixels abaixo de
-	 * 128 considerados como profundidade no terreno e a partir de 128 so de altura.
-	 * @param pixelValue valor respectivo ao pixel do qual deseja saber o valor em altura.
-	 * @return aquisio do valor da altura ou profundidade atravs do valor do pixel acima.
-	 */
-
-	private float calculatePixelHeight(int pixelValue)
-	{
-		float adjusted = pixelValue - 128;
-		float relative = adjusted / 128;                                                                                                                                                                             
-		float height = relative * 64;
-
-		return height;
-	}
-}
+package com.erakin.worlds.xml;
+
+import static org.diverproject.util.Util.format;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.WritableRaster;
+import java.io.File;
+import java.io.IOException;
+import java.nio.FloatBuffer;
+
+import javax.imageio.ImageIO;
+
+import com.erakin.api.resources.model.Model;
+import com.erakin.api.resources.model.ModelDataDefault;
+import com.erakin.api.resources.model.ModelLoader;
+import com.erakin.api.resources.texture.Texture;
+import com.erakin.api.resources.texture.TextureException;
+import com.erakin.api.resources.texture.TextureLoader;
+import com.erakin.api.resources.world.Terrain;
+import com.erakin.api.resources.world.TerrainLoader;
+import com.erakin.api.resources.world.TerrainRuntimeException;
+import com.erakin.api.resources.world.TerrainStreamLoader;
+import com.erakin.api.resources.world.World;
+
+/**
+ * <h1>Carregador de Terreno com Bitmap</h1>
+ *
+ * <p>Terrenos carregados nesse formato devem possuir seus terrenos armazenados em imagens BMP.
+ * Esse arquivo BMP deverá ainda ser de formato escala cinza (TYPE_BYTE_GRAY) para ser válido.
+ * Para que terrenos nesse formato funcionem é necessário ter uma margem de pixels repetidos.
+ * A margem é de 1 pixel na parte superior e na esquerda, e 2 pixels na parte inferior e na direita.</p>
+ *
+ * <p>As texturas do terreno são especificadas por camadas, a primeira camada é usada pela modelagem.
+ * Havendo mais de uma camada todas serão carregadas em um único vetor de texturas (GL_TEXTURE_2D_ARRAY)
+ * que é adicionado as texturas do terreno, permitindo usar todas com uma única vinculação.</p>
+ *
+ * <p>A leitura da imagem e a geração dos dados da modelagem não acessam o OpenGL, permitindo que sejam
+ * feitas em segundo plano pelo transmissor de terrenos, enquanto a modelagem e as texturas são criadas
+ * apenas na thread principal.</p>
+ *
+ * @see Terrain
+ * @see TerrainLoader
+ * @see TerrainStreamLoader
+ * @see BufferedImage
+ * @see World
+ *
+ * @author Andrew
+ */
+
+public class TerrainLoaderBMP implements TerrainStreamLoader<TerrainLoaderBMP.TerrainBMP>
+{
+	/**
+	 * Camada de textura usada quando nenhuma for especificada.
+	 */
+	public static final String DEFAULT_LAYER = "dirt";
+
+	/**
+	 * Nome das texturas usadas em cada camada do terreno.
+	 */
+	private String layers[] = new String[] { DEFAULT_LAYER };
+
+	@Override
+	public Terrain load(World world, int xTerrain, int zTerrain)
+	{
+		return create(world, xTerrain, zTerrain, read(world, xTerrain, zTerrain));
+	}
+
+	@Override
+	public TerrainBMP read(World world, int xTerrain, int zTerrain)
+	{
+		String filepath = world.getTerrainFilepath();
+		String terrainPath = makeTerrainPath(filepath, xTerrain, zTerrain);
+		File file = new File(filepath);
+
+		if (!file.isDirectory())
+			throw new TerrainRuntimeException("terreno não encontrado (mundo: %d, %dx %y)",
+					world.getID(), xTerrain, zTerrain);
+
+		BufferedImage image = loadImage(filepath, xTerrain, zTerrain);
+
+		if (image.getType() != BufferedImage.TYPE_BYTE_GRAY)
+			throw new TerrainRuntimeException("não é escala cinza (path: %s)", terrainPath);
+
+		int width = world.getTerrainWidth();
+		int length = world.getTerrainLength();
+
+		if (image.getWidth() != width + 3)
+			throw new TerrainRuntimeException("largura inválida (path: %s)", terrainPath);
+
+		if (image.getHeight() != length + 3)
+			throw new TerrainRuntimeException("comprimento inválido (path: %s)", terrainPath);
+
+		TerrainBMP bmp = new TerrainBMP();
+		bmp.terrain = new Terrain(xTerrain, zTerrain, width, length);
+		bmp.data = createData(world, bmp.terrain, image);
+
+		return bmp;
+	}
+
+	@Override
+	public Terrain create(World world, int xTerrain, int zTerrain, TerrainBMP bmp)
+	{
+		String terrainPath = makeTerrainPath(world.getTerrainFilepath(), xTerrain, zTerrain);
+
+		try {
+
+			TextureLoader loader = TextureLoader.getInstance();
+			Texture texture = loader.getTexture(layers[0]);
+			Terrain terrain = bmp.terrain;
+
+			Model model = ModelLoader.getInstance().createModel(terrainPath, bmp.data);
+			model.setTexture(texture);
+
+			terrain.setModel(model);
+
+			if (layers.length > 1)
+				terrain.addTexture(loader.getTextureArray(format("%s_layers", world.getPrefix()), layers));
+
+			return terrain;
+
+		} catch (TextureException e) {
+			throw new TerrainRuntimeException("falha ao definir textura de nivelamento (¨path: %s)", terrainPath);
+		}
+	}
+
+	/**
+	 * As camadas são carregadas pelo TextureLoader e devem possuir o mesmo tamanho.
+	 * @return aquisição do nome das texturas usadas em cada camada do terreno.
+	 */
+
+	public String[] getLayers()
+	{
+		return layers;
+	}
+
+	/**
+	 * Permite definir quais texturas serão usadas em cada camada do terreno.
+	 * A primeira camada será sempre usada como textura da modelagem do terreno.
+	 * @param layers nome das texturas que serão usadas em cada camada do terreno.
+	 */
+
+	public void setLayers(String... layers)
+	{
+		if (layers != null && layers.length > 0)
+			this.layers = layers;
+	}
+
+	/**
+	 * Carrega uma imagem de acordo com o caminho da pasta que a contém.
+	 * A imagem deverá estar no formato especificado na documentação do método.
+	 * @param filepath caminho completo ou parcial da pasta que contém a imagem.
+	 * @param xTerrain coordenada do terreno no mundo em relação ao eixo da longitude.
+	 * @param zTerrain coordenada do terreno no mundo em relação ao eixo da longitude.
+	 * @return aquisição da imagem carregada conforme especificações acima.
+	 */
+
+	private BufferedImage loadImage(String filepath, int xTerrain, int zTerrain)
+	{
+		String terrainPath = makeTerrainPath(filepath, xTerrain, zTerrain);
+		File terrainFile = new File(terrainPath);
+
+		try {
+			return ImageIO.read(terrainFile);
+		} catch (IOException e) {
+			throw new TerrainRuntimeException("falha ao ler terreno (path: %s) [%s]", terrainFile.getPath(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Método para criar o caminho do terreno conforme as especificações abaixo.
+	 * @param filepath caminho completo ou parcial da pasta que contém a imagem.
+	 * @param xTerrain coordenada do terreno no mundo em relação ao eixo da longitude.
+	 * @param zTerrain coordenada do terreno no mundo em relação ao eixo da longitude.
+	 * @return aquisição do caminho passado adicionado o nome do arquivo ao final.
+	 */
+
+	private String makeTerrainPath(String filepath, int xTerrain, int zTerrain)
+	{
+		String terrainName = String.format("terrain_%d-%d.bmp", xTerrain, zTerrain);
+		String terrainPath = String.format("%s/%s", filepath, terrainName);
+
+		return terrainPath;
+	}
+
+	/**
+	 * Procedimento chamado após fazer a validação da imagem carregada.
+	 * Seu objetivo é determinar o tamanho da modelagem e assim criar os seus dados.
+	 * Após isso chama alguns métodos internos para especificar seus valores.
+	 * Não acessa o OpenGL, podendo ser chamado pelas threads de leitura do transmissor de terrenos.
+	 * @param world referência do mundo que solicitou o terreno.
+	 * @param terrain referência do terreno que terá as alturas das células definidas.
+	 * @param image referência da imagem em escala cinza com a altura das células.
+	 * @return aquisição dos dados da modelagem criados a partir das informações do mundo.
+	 */
+
+	private ModelDataDefault createData(World world, Terrain terrain, BufferedImage image)
+	{
+		int width = world.getTerrainWidth();
+		int length = world.getTerrainLength();
+		int size = (width * length) + width + length + 1;
+
+		int vertexCount = size;
+		int textureCount = size;
+		int normalCount = size;
+		int faceCount = width * length * 6;
+
+		ModelDataDefault data = new ModelDataDefault();
+		data.initIndexes(faceCount);
+		data.initVertices(vertexCount);
+		data.initUVTextures(textureCount);
+		data.initNormals(normalCount);
+
+		generateVertices(world, terrain, image, data, world.getUnitSize());
+		generateNormals(world, image, data);
+		generateTextures(world, data);
+		generateIndices(world, data);
+
+		return data;
+	}
+
+	/**
+	 * Método interno chamado após a criação do objeto para armazenar a modelagem do terreno.
+	 * Esse método irá criar os vértices de cada célula do terreno respeitando o valor de unidade.
+	 * @param world referência do mundo que o solicitou para saber o tamanho de seus terrenos.
+	 * @param terrain referência do terreno que terá as alturas das células definidas.
+	 * @param image referência da imagem em escala cinza com a altura das células.
+	 * @param data referência do objeto contendo os dados temporários da modelagem criada.
+	 * @param unit qual o tamanho de cada célula do terreno no espaço quando for renderizado.
+	 */
+
+	private void generateVertices(World world, Terrain terrain, BufferedImage image, ModelDataDefault data, float unit)
+	{
+		FloatBuffer vertices = data.getVertexBuffer();
+		int offset = 0;
+
+		for (int wz = 0; wz <= world.getTerrainLength(); wz++)
+			for (int wx = 0; wx <= world.getTerrainWidth(); wx++)
+			{
+				float x = wx * unit;
+				float y = getHeight(image, wx, wz);
+				float z = wz * unit;
+
+				vertices.put(offset++, x);
+				vertices.put(offset++, y);
+				vertices.put(offset++, z);
+				terrain.setHeight(wx, wz, y);
+			}
+	}
+
+	/**
+	 * Método interno chamado após a criação do objeto para armazenar a modelagem do terreno.
+	 * Esse método irá especificar a intensidade da luz nas células conforme suas altitudes.
+	 * Considera as altitudes das células vizinhas (norte, sul, leste e oeste) para tal.
+	 * @param world referência do mundo que o solicitou para saber o tamanho de seus terrenos.
+	 * @param image referência da imagem em escala cinza com a altura das células.
+	 * @param data referência do objeto contendo os dados temporários da modelagem criada.
+	 */
+
+	private void generateNormals(World world, BufferedImage image, ModelDataDefault data)
+	{
+		FloatBuffer normals = data.getNormalBuffer();
+		int offset = 0;
+
+		for (int wz = 0; wz <= world.getTerrainLength(); wz++)
+			for (int wx = 0; wx <= world.getTerrainWidth(); wx++)
+			{
+				float heightL = getHeight(image, wx - 1, wz);
+				float heightR = getHeight(image, wx + 1, wz);
+				float heightD = getHeight(image, wx, wz - 1);
+				float heightU = getHeight(image, wx, wz + 1);
+
+				float x = heightL - heightR;
+				float z = heightD - heightU;
+				float length = (float) Math.sqrt(x * x + 4f + z * z);
+
+				normals.put(offset++, x / length);
+				normals.put(offset++, 2f / length);
+				normals.put(offset++, z / length);
+			}
+	}
+
+	/**
+	 * Método interno chamado após a criação do objeto para armazenar a modelagem do terreno.
+	 * Utiliza um padrão de textura simples de modo que o terreno use apenas uma textura no chão.
+	 * TODO funcionalidade temporária, deverá ser melhor especificado em atualizações futuras.
+	 * @param world referência do mundo que o solicitou para saber o tamanho de seus terrenos.
+	 * @param data referência do objeto contendo os dados temporários da modelagem criada.
+	 */
+
+	private void generateTextures(World world, ModelDataDefault data)
+	{
+		FloatBuffer uvTextures = data.getUVTextureBuffer();
+		int offset = 0;
+
+		for (int wz = 0; wz <= world.getTerrainLength(); wz++)
+			for (int wx = 0; wx <= world.getTerrainWidth(); wx++)
+			{
+				float x = (float) wx / ((float) world.getTerrainWidth());
+				float y = (float) wz / ((float) world.getTerrainLength());
+
+				uvTextures.put(offset++, x);
+				uvTextures.put(offset++, y);
+			}
+	}
+
+	/**
+	 * Método interno chamado após a criação do objeto para armazenar a modelagem do terreno.
+	 * Irá garantir que os vértices criados sejam conectados corretamente para formar o terreno.
+	 * @param world referência do mundo que o solicitou para saber o tamanho de seus terrenos.
+	 * @param data referência do objeto contendo os dados temporários da modelagem criada.
+	 */
+
+	private void generateIndices(World world, ModelDataDefault data)
+	{
+		int cell[] = new int[6];
+		int offset = 0;
+
+		for (int wz = 0; wz < world.getTerrainLength(); wz++)
+			for (int wx = 0; wx < world.getTerrainWidth(); wx++)
+			{
+				int topLeft = (wz * world.getTerrainWidth()) + wx + wz;
+				int topRight = topLeft + 1;
+				int bottomLeft = topLeft + world.getTerrainWidth() + 1;
+				int bottomRight = bottomLeft + 1;
+
+				cell[0] = topLeft;
+				cell[1] = bottomLeft;
+				cell[2] = topRight;
+				cell[3] = topRight;
+				cell[4] = bottomLeft;
+				cell[5] = bottomRight;
+
+				data.setIndices(offset, cell, 0, cell.length);
+				offset += cell.length;
+			}
+	}
+
+	/**
+	 * Permite obter o valor de altura ou profundidade de uma célula do terreno.
+	 * A altura varia de acordo com as especificações de escala cinza da imagem BMP.
+	 * @param image referência da imagem em escala cinza com a altura das células.
+	 * @param x coordenada da célula do terreno no eixo da longitude desejada.
+	 * @param z coordenada da célula do terreno no eixo da latitude desejada.
+	 * @return aquisição da altura/profundidade nas coordenadas especificadas acima.
+	 */
+
+	private float getHeight(BufferedImage image, int x, int z)
+	{
+		int pixel = getPixelOf(x + 1, z + 1, image);
+		float height = calculatePixelHeight(pixel);
+
+		return height;
+	}
+
+	/**
+	 * Permite obter o valor de um determinado pixel (neste caso de 0 a 255 - escala cinza).
+	 * Esse pixel internamente será usado para saber a altura ou profundidade de uma célula.
+	 * @param x coordenada do pixel da imagem (célula do terreno) no eixo da longitude desejada.
+	 * @param z coordenada do pixel da imagem (célula do terreno) no eixo da latitude desejada.
+	 * @param bi referência da imagem que será considerada para obter esse pixel.
+	 * @return aquisição do valor do pixel conforme as especificações acima.
+	 */
+
+	private int getPixelOf(int x, int z, BufferedImage bi)
+	{
+		int i = (x * bi.getHeight()) + z;
+
+		WritableRaster raster = bi.getRaster();
+		DataBuffer buffer = raster.getDataBuffer();
+		int pixel = buffer.getElem(i);
+
+		return pixel;
+	}
+
+	/**
+	 * Calcula a altura ou profundidade de uma célula do terreno conforme o valor do pixel.
+	 * A conta é feita considerando um valor de altura 64 (padrão) sendo os pixels abaixo de
+	 * 128 considerados como profundidade no terreno e a partir de 128 são de altura.
+	 * @param pixelValue valor respectivo ao pixel do qual deseja saber o valor em altura.
+	 * @return aquisição do valor da altura ou profundidade através do valor do pixel acima.
+	 */
+
+	private float calculatePixelHeight(int pixelValue)
+	{
+		float adjusted = pixelValue - 128;
+		float relative = adjusted / 128;                                                                                                                                                                             
+		float height = relative * 64;
+
+		return height;
+	}
+
+	/**
+	 * <h1>Terreno em Bitmap Lido</h1>
+	 *
+	 * <p>Resultado da leitura em segundo plano de um terreno em BMP, contendo o terreno com a altura das
+	 * células já definidas e os dados da modelagem que serão enviados ao OpenGL apenas na sua criação.</p>
+	 *
+	 * @author Andrew
+	 */
+
+	static class TerrainBMP
+	{
+		/**
+		 * Referência do terreno com a altura das células definidas.
+		 */
+		private Terrain terrain;
+
+		/**
+		 * Dados da modelagem do terreno que ainda não foram enviados ao OpenGL.
+		 */
+		private ModelDataDefault data;
+	}
+}
@@ -0,0 +1,189 @@
+package com.erakin.textures.png;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+import com.erakin.api.resources.texture.PixelFormat;
+import com.erakin.api.resources.texture.TextureData;
+import com.erakin.api.resources.texture.TextureException;
+import com.erakin.api.resources.texture.TextureRuntimeException;
+
+/**
+ * <h1>Teste do Leitor de Texturas PNG</h1>
+ *
+ * <p>Verifica que o modo confiável produz exatamente os mesmos pixels que a leitura verificada, que um CRC
+ * inválido só é ignorado por leitores confiáveis e mede o ganho do modo confiável sobre uma imagem gerada
+ * com ruído, imprimindo a mediana das leituras de cada modo para que a medição possa ser reproduzida.</p>
+ *
+ * @see TextureReaderPNG
+ *
+ * @author Andrew
+ */
+
+public class TextureReaderPNGTest
+{
+	/**
+	 * Largura e altura da imagem usada na medição.
+	 */
+	private static final int BENCHMARK_SIZE = 1024;
+
+	/**
+	 * Quantidade de leituras de cada modo usadas na medição, alternando qual modo é lido primeiro.
+	 */
+	private static final int BENCHMARK_RUNS = 31;
+
+	/**
+	 * Posição do CRC da chunk IHDR: assinatura (8), tamanho e código (8) e dados (13).
+	 */
+	private static final int IHDR_CRC_OFFSET = 29;
+
+	@Test
+	public void testTrustedMatchesVerified() throws IOException, TextureException
+	{
+		File file = createImage(256);
+
+		ByteBuffer verified = read(file, false).getPixels();
+		ByteBuffer trusted = read(file, true).getPixels();
+
+		assertEquals(256 * 256 * 4, verified.remaining());
+		assertEquals(verified, trusted);
+	}
+
+	@Test(expected = TextureRuntimeException.class)
+	public void testVerifiedRejectsInvalidCRC() throws IOException, TextureException
+	{
+		read(createCorruptImage(64), false);
+	}
+
+	@Test
+	public void testTrustedSkipsCRC() throws IOException, TextureException
+	{
+		TextureData data = read(createCorruptImage(64), true);
+
+		assertEquals(64, data.getWidth());
+		assertEquals(64, data.getHeight());
+	}
+
+	@Test
+	public void testTrustedSpeedup() throws IOException, TextureException
+	{
+		File file = createImage(BENCHMARK_SIZE);
+		long verified[] = new long[BENCHMARK_RUNS];
+		long trusted[] = new long[BENCHMARK_RUNS];
+
+		read(file, false);
+		read(file, true);
+
+		for (int i = 0; i < BENCHMARK_RUNS; i++)
+		{
+			boolean trustedFirst = i % 2 == 1;
+
+			if (trustedFirst)
+				trusted[i] = measure(file, true);
+
+			verified[i] = measure(file, false);
+
+			if (!trustedFirst)
+				trusted[i] = measure(file, true);
+		}
+
+		Arrays.sort(verified);
+		Arrays.sort(trusted);
+
+		long verifiedMedian = verified[BENCHMARK_RUNS / 2];
+		long trustedMedian = trusted[BENCHMARK_RUNS / 2];
+
+		System.out.printf("png %dx%d (%d KB): verificado %.2f ms, confiável %.2f ms (%.1f%%).\n",
+				BENCHMARK_SIZE, BENCHMARK_SIZE, file.length() / 1024,
+				verifiedMedian / 1e6, trustedMedian / 1e6, 100.0 * (verifiedMedian - trustedMedian) / verifiedMedian);
+
+		assertTrue(verifiedMedian > 0 && trustedMedian > 0);
+	}
+
+	/**
+	 * Lê uma textura PNG em RGBA através de um novo leitor.
+	 * @param file arquivo da textura que será lida.
+	 * @param trusted true para ler em modo confiável ou false para verificar tudo.
+	 * @return aquisição dos dados da textura lida.
+	 */
+
+	private static TextureData read(File file, boolean trusted) throws IOException, TextureException
+	{
+		TextureReaderPNG reader = new TextureReaderPNG();
+		reader.setTrusted(trusted);
+
+		try (FileInputStream input = new FileInputStream(file)) {
+			return reader.readTexture(input, PixelFormat.FORMAT_RGBA);
+		}
+	}
+
+	/**
+	 * Mede o tempo de uma leitura completa de uma textura PNG.
+	 * @param file arquivo da textura que será lida.
+	 * @param trusted true para ler em modo confiável ou false para verificar tudo.
+	 * @return aquisição do tempo da leitura em nanossegundos.
+	 */
+
+	private static long measure(File file, boolean trusted) throws IOException, TextureException
+	{
+		long start = System.nanoTime();
+		read(file, trusted);
+
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Cria um arquivo temporário com uma imagem PNG em RGBA preenchida com ruído.
+	 * @param size largura e altura da imagem em pixels.
+	 * @return aquisição do arquivo temporário criado.
+	 */
+
+	private static File createImage(int size) throws IOException
+	{
+		BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		Random random = new Random(size);
+
+		for (int y = 0; y < size; y++)
+			for (int x = 0; x < size; x++)
+				image.setRGB(x, y, random.nextInt());
+
+		File file = File.createTempFile("erakin", ".png");
+		file.deleteOnExit();
+		ImageIO.write(image, "png", file);
+
+		return file;
+	}
+
+	/**
+	 * Cria uma imagem PNG com o CRC da primeira chunk (IHDR) alterado.
+	 * @param size largura e altura da imagem em pixels.
+	 * @return aquisição do arquivo temporário criado.
+	 */
+
+	private static File createCorruptImage(int size) throws IOException
+	{
+		File file = createImage(size);
+
+		try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+			output.seek(IHDR_CRC_OFFSET);
+			int value = output.read();
+			output.seek(IHDR_CRC_OFFSET);
+			output.write(value ^ 0xFF);
+		}
+
+		return file;
+	}
+}
@@ -1,43 +1,43 @@
-package com.erakin.api;
-
-/**
- * <h1>Constantes</h1>
- *
- * <p>Constante  algo que no muda, na programao funciona da mesma forma, so variveis
- * que no podem ter o seu valor mudado, assuma apenas o valor que lhes foi dado na criao.
- * Aqui ir conter apenas valores constantes para facilitar o entendimento de cdigos.</p>
- *
- * @author Andrew Mello
- */
-
-public class Constants
-{
-	/**
-	 * Byte correspondente ao valor nulo.
-	 */
-	public static final byte NUL = 0x00;
-
-	/**
-	 * Quantos milissegundos so necessrios para um segundo.
-	 */
-	public static final int MILLISECOND = 1000;
-
-	/**
-	 * Quantos nanosegundos so necessrios para um segundo.
-	 */
-	public static final int NANOSECOND = 1000000000;
-
-	/**
-	 * Tamanho em bytes de um objeto Vector3f (3 float);
-	 */
-	public static final int VECTOR3F_BYTES = 12;
-
-	/**
-	 * Construtor privado para evitar instncias desnecessrias.
-	 */
-
-	private Constants()
-	{
-		
-	}
-}
+package com.erakin.api;
+
+/**
+ * <h1>Constantes</h1>
+ *
+ * <p>Constante é algo que não muda, na programação funciona da mesma forma, são variáveis
+ * que não podem ter o seu valor mudado, assuma apenas o valor que lhes foi dado na criação.
+ * Aqui irá conter apenas valores constantes para facilitar o entendimento de códigos.</p>
+ *
+ * @author Andrew Mello
+ */
+
+public class Constants
+{
+	/**
+	 * Byte correspondente ao valor nulo.
+	 */
+	public static final byte NUL = 0x00;
+
+	/**
+	 * Quantos milissegundos são necessários para um segundo.
+	 */
+	public static final int MILLISECOND = 1000;
+
+	/**
+	 * Quantos nanosegundos são necessários para um segundo.
+	 */
+	public static final int NANOSECOND = 1000000000;
+
+	/**
+	 * Tamanho em bytes de um objeto Vector3f (3 float);
+	 */
+	public static final int VECTOR3F_BYTES = 12;
+
+	/**
+	 * Construtor privado para evitar instâncias desnecessárias.
+	 */
+
+	private Constants()
+	{
+		
+	}
+}
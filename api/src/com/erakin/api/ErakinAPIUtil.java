@@ -1,279 +1,279 @@
-package com.erakin.api;
-
-import static org.diverproject.log.LogSystem.logError;
-import static org.diverproject.util.MessageUtil.showError;
-
-import java.util.Random;
-
-import org.diverproject.util.lang.HexUtil;
-import org.diverproject.util.lang.StringUtil;
-import org.diverproject.util.stream.Input;
-
-import com.erakin.api.input.VirtualKeyboard;
-
-/**
- * <h1>Utilitrios</h1>
- *
- * <p>Classe destina a funcionar como utilitrio, portanto possui apenas procedimentos pblicos e estticos.
- * Esses procedimentos so utilizadas internamente pelo engine, porm podem ser teis para o desenvolvimento
- * de um jogo baseado no engine, contendo diversas funcionalidades que iro facilitar o desenvolvimento.</p>
- *
- * @author Andrew Mello
- */
-
-public final class ErakinAPIUtil
-{
-	/**
-	 * Referncia da instncia do teclado virtual.
-	 */
-	public static final VirtualKeyboard KEYBOARD = VirtualKeyboard.getInstance();
-
-	/**
-	 * Objeto randorizador.
-	 */
-	private static final Random random = new Random();
-
-	/**
-	 * Construtor privado para evitar instncias desnecessrias.
-	 */
-
-	private ErakinAPIUtil()
-	{
-		
-	}
-
-	/**
-	 * Mtodo usado para facilitar a codificao quando ocorrer um erro fatal no sistema.
-	 * Ir exibir uma janela com ttulo da exceo e contendo uma mensagem adicional para tal.
-	 * Alm disso ir finalizar foradamente a aplicao sem encerrar o engine adequadamente.
-	 * @param e referncia da exceo do qual foi gerada durante a execuo do engine.
-	 * @param format formato que ter a mensagem adicional alm da mensagem da exceo.
-	 * @param args argumentos respectivos ao formato da mensagem passada acima.
-	 */
-
-	public static void fatalError(Exception e, String format, Object... args)
-	{
-		String formated = String.format(format, args);
-		String message = String.format("%s\n%s", formated, e.getMessage());
-
-		logError(formated+ "\n");
-
-		e.printStackTrace();
-
-		showError(e.getMessage(), message);
-
-		System.exit(0);
-	}
-
-	/**
-	 * Converte um objeto para string conforme o seu toString, obtendo apenas o contedo dos dados.
-	 * O contedo dos dados que sero retornados ser tudo aquilo que estiver entre chaves <b>[]</b>.
-	 * @param object referncia do objeto do qual ser obtido os dados em <code>toString()</code>.
-	 * @return aquisio de uma string contendo apenas os dados do <code>toString()</code>.
-	 */
-
-	public static String objectString(Object object)
-	{
-		if (object == null)
-			return "null";
-
-		String str = object.toString();
-
-		return str.substring(str.indexOf('['), str.lastIndexOf(']') + 1);
-	}
-
-	/**
-	 * <p>Permite recortar uma string do um ponto especificado at o final do mesmo.
-	 * O ponto especificado ser o ndice do final de um conjunto de caracteres.</p>
-	 * <p>Por exemplo: <code>subAt("0123456789", "345")</code>: <b>"6789"</b></p>
-	 * @param source string do qual dever ter seu contedo recortado.
-	 * @param locate sequncia de caracteres para indicar o final do corte.
-	 * @return string com seu inicio cortado at encontrar <b>locate</b>,
-	 * caso no seja encontrado retorna o contedo completo de <b>source</b>.
-	 */
-
-	public static String subAt(String source, String locate)
-	{
-		return subAt(source, locate, false);
-	}
-
-	/**
-	 * <p>Permite recortar uma string do um ponto especificado at o final do mesmo.
-	 * O ponto especificado ser o ndice do final de um conjunto de caracteres.</p>
-	 * <p>Por exemplo: <code>subAt("0123456789", "345")</code>: <b>"6789"</b></p>
-	 * @param source string do qual dever ter seu contedo recortado.
-	 * @param locate sequncia de caracteres para indicar o final do corte.
-	 * @param useLocate usar contedo de locate junto do recorte feito.
-	 * @return string com seu inicio cortado at encontrar <b>locate</b>,
-	 * caso no seja encontrado retorna o contedo completo de <b>source</b>.
-	 */
-
-	public static String subAt(String source, String locate, boolean useLocate)
-	{
-		int index = source.lastIndexOf(locate);
-
-		if (index < 0)
-			return source;
-
-		if (!useLocate)
-			index += locate.length();
-
-		return source.substring(index, source.length());
-	}
-
-	/**
-	 * <p>Permite recortar uma string do inicio at um ponto especificado do mesmo.
-	 * O ponto especificado ser o ndice do inicio de um conjunto de caracteres.</p>
-	 * <p>Por exemplo: <code>subAt("0123456789", "345")</code>: <b>"012"</b></p>
-	 * @param source string do qual dever ter seu contedo recortado.
-	 * @param locate sequncia de caracteres para indicar o inicio do corte.
-	 * @return string com seu inicio cortado at encontrar <b>locate</b>,
-	 * caso no seja encontrado retorna o contedo completo de <b>source</b>.
-	 */
-
-	public static String subAtEnd(String source, String locate)
-	{
-		return subAtEnd(source, locate, false);
-	}
-
-	/**
-	 * <p>Permite recortar uma string do inicio at um ponto especificado do mesmo.
-	 * O ponto especificado ser o ndice do inicio de um conjunto de caracteres.</p>
-	 * <p>Por exemplo: <code>subAt("0123456789", "345")</code>: <b>"012"</b></p>
-	 * @param source string do qual dever ter seu contedo recortado.
-	 * @param locate sequncia de caracteres para indicar o inicio do corte.
-	 * @param useLocate usar contedo de locate junto do recorte feito.
-	 * @return string com seu inicio cortado at encontrar <b>locate</b>,
-	 * caso no seja encontrado retorna o contedo completo de <b>source</b>.
-	 */
-
-	public static String subAtEnd(String source, String locate, boolean useLocate)
-	{
-		int index = source.indexOf(locate);
-
-		if (index < 0)
-			return source;
-
-		if (useLocate)
-			index += locate.length();
-
-		return source.substring(0, index);
-	}
-
-	/**
-	 * Permite obter um valor positivo aleatrio qualquer de acordo com as especificaes abaixo.
-	 * Para esse caso o valor no possui um mnimo ou mximo especificado (limites do java).
-	 * @return aquisio de um valor de nmero inteiro randmico (aleatrio).
-	 */
-
-	public static int rand()
-	{
-		return random.nextInt();
-	}
-
-	/**
-	 * Permite obter um valor aleatrio qualquer de acordo com as especificaes abaixo.
-	 * @param limit qual o maior valor que poder ser obtido nessa randomizao.
-	 * @return aquisio um valor randmico (aleatrio) de acordo com o limite acima.
-	 */
-
-	public static int rand(int limit)
-	{
-		return random.nextInt(limit);
-	}
-
-	/**
-	 * Permite obter um valor aleatrio qualquer de acordo com as especificaes abaixo.
-	 * @param min qual o menor valor que poder ser obtido durante a randomizao.
-	 * @param max qual o maior valor que poder ser obtido durante a randomizao.
-	 * @return aquisio um valor randmico (aleatrio) de acordo com o limite acima.
-	 */
-
-	public static int rand(int min, int max)
-	{
-		return random.nextInt(max - min) + min;
-	}
-
-	/**
-	 * Permite obter um valor positivo aleatrio qualquer de acordo com as especificaes abaixo.
-	 * Para esse caso o valor no possui um mnimo ou mximo especificado (limites do java).
-	 * @return aquisio de um valor de ponto flutuante randmico (aleatrio).
-	 */
-
-	public static float randf()
-	{
-		return random.nextFloat();
-	}
-
-	/**
-	 * Permite obter um valor negativo aleatrio qualquer de acordo com as especificaes abaixo.
-	 * Para esse caso o valor no possui um mnimo ou mximo especificado (limites do java).
-	 * @return aquisio de um valor de ponto flutuante randmico (aleatrio).
-	 */
-
-	public static float randfn()
-	{
-		return random.nextInt(2) == 0 ? random.nextFloat() : -random.nextFloat();
-	}
-
-	/**
-	 * Converte um tipo de valor numrico para um String contendo seu valor em hexadecimal de 2 caracteres.
-	 * @param value valor numrico do tipo byte do qual ser convertido para hexadecimal.
-	 * @return aquisio da String com o valor hexadecimal obtido a partir do valor especificado.
-	 */
-
-	public static String hex(byte value)
-	{
-		return StringUtil.addEndWhile("0", HexUtil.parseByte(value), 2);
-	}
-
-	/**
-	 * Converte um tipo de valor numrico para um String contendo seu valor em hexadecimal de 4 caracteres.
-	 * @param value valor numrico do tipo short do qual ser convertido para hexadecimal.
-	 * @return aquisio da String com o valor hexadecimal obtido a partir do valor especificado.
-	 */
-
-	public static String hex(short value)
-	{
-		return StringUtil.addEndWhile("0", HexUtil.parseShort(value), 4);
-	}
-
-	/**
-	 * Converte um tipo de valor numrico para um String contendo seu valor em hexadecimal de 8 caracteres.
-	 * @param value valor numrico do tipo int do qual ser convertido para hexadecimal.
-	 * @return aquisio da String com o valor hexadecimal obtido a partir do valor especificado.
-	 */
-
-	public static String hex(int value)
-	{
-		return StringUtil.addEndWhile("0", HexUtil.parseInt(value), 8);
-	}
-
-	/**
-	 * Converte um tipo de valor numrico para um String contendo seu valor em hexadecimal de 16 caracteres.
-	 * @param value valor numrico do tipo long do qual ser convertido para hexadecimal.
-	 * @return aquisio da String com o valor hexadecimal obtido a partir do valor especificado.
-	 */
-
-	public static String hex(long value)
-	{
-		return StringUtil.addEndWhile("0", HexUtil.parseLong(value), 16);
-	}
-
-	/**
-	 * Procedimento para validao do tipo de arquivo com base nas informaes "magic" (dados inicias padro).
-	 * O magic corresponde a uma sequncia de dados fixo que todo arquivo de um tipo especifico deve possuir.
-	 * @param input referncia da stream para entrada de dados criado a partir do arquivo em disco.
-	 * @param realMagic vetor com os bytes referentes a validao do valor magic do arquivo.
-	 * @return true se o valor for vlido ou false caso contrrio.
-	 */
-
-	public static boolean magicFileValidade(Input input, byte realMagic[])
-	{
-		for (byte b : realMagic)
-			if (input.getByte() != b)
-				return false;
-
-		return true;
-	}
-}
+package com.erakin.api;
+
+import static org.diverproject.log.LogSystem.logError;
+import static org.diverproject.util.MessageUtil.showError;
+
+import java.util.Random;
+
+import org.diverproject.util.lang.HexUtil;
+import org.diverproject.util.lang.StringUtil;
+import org.diverproject.util.stream.Input;
+
+import com.erakin.api.input.VirtualKeyboard;
+
+/**
+ * <h1>Utilitários</h1>
+ *
+ * <p>Classe destina a funcionar como utilitário, portanto possui apenas procedimentos públicos e estáticos.
+ * Esses procedimentos são utilizadas internamente pelo engine, porém podem ser úteis para o desenvolvimento
+ * de um jogo baseado no engine, contendo diversas funcionalidades que irão facilitar o desenvolvimento.</p>
+ *
+ * @author Andrew Mello
+ */
+
+public final class ErakinAPIUtil
+{
+	/**
+	 * Referência da instância do teclado virtual.
+	 */
+	public static final VirtualKeyboard KEYBOARD = VirtualKeyboard.getInstance();
+
+	/**
+	 * Objeto randorizador.
+	 */
+	private static final Random random = new Random();
+
+	/**
+	 * Construtor privado para evitar instâncias desnecessárias.
+	 */
+
+	private ErakinAPIUtil()
+	{
+		
+	}
+
+	/**
+	 * Método usado para facilitar a codificação quando ocorrer um erro fatal no sistema.
+	 * Irá exibir uma janela com título da exceção e contendo uma mensagem adicional para tal.
+	 * Além disso irá finalizar forçadamente a aplicação sem encerrar o engine adequadamente.
+	 * @param e referência da exceção do qual foi gerada durante a execução do engine.
+	 * @param format formato que terá a mensagem adicional além da mensagem da exceção.
+	 * @param args argumentos respectivos ao formato da mensagem passada acima.
+	 */
+
+	public static void fatalError(Exception e, String format, Object... args)
+	{
+		String formated = String.format(format, args);
+		String message = String.format("%s\n%s", formated, e.getMessage());
+
+		logError(formated+ "\n");
+
+		e.printStackTrace();
+
+		showError(e.getMessage(), message);
+
+		System.exit(0);
+	}
+
+	/**
+	 * Converte um objeto para string conforme o seu toString, obtendo apenas o conteúdo dos dados.
+	 * O conteúdo dos dados que serão retornados será tudo aquilo que estiver entre chaves <b>[]</b>.
+	 * @param object referência do objeto do qual será obtido os dados em <code>toString()</code>.
+	 * @return aquisição de uma string contendo apenas os dados do <code>toString()</code>.
+	 */
+
+	public static String objectString(Object object)
+	{
+		if (object == null)
+			return "null";
+
+		String str = object.toString();
+
+		return str.substring(str.indexOf('['), str.lastIndexOf(']') + 1);
+	}
+
+	/**
+	 * <p>Permite recortar uma string do um ponto especificado até o final do mesmo.
+	 * O ponto especificado será o índice do final de um conjunto de caracteres.</p>
+	 * <p>Por exemplo: <code>subAt("0123456789", "345")</code>: <b>"6789"</b></p>
+	 * @param source string do qual deverá ter seu conteúdo recortado.
+	 * @param locate sequência de caracteres para indicar o final do corte.
+	 * @return string com seu inicio cortado até encontrar <b>locate</b>,
+	 * caso não seja encontrado retorna o conteúdo completo de <b>source</b>.
+	 */
+
+	public static String subAt(String source, String locate)
+	{
+		return subAt(source, locate, false);
+	}
+
+	/**
+	 * <p>Permite recortar uma string do um ponto especificado até o final do mesmo.
+	 * O ponto especificado será o índice do final de um conjunto de caracteres.</p>
+	 * <p>Por exemplo: <code>subAt("0123456789", "345")</code>: <b>"6789"</b></p>
+	 * @param source string do qual deverá ter seu conteúdo recortado.
+	 * @param locate sequência de caracteres para indicar o final do corte.
+	 * @param useLocate usar conteúdo de locate junto do recorte feito.
+	 * @return string com seu inicio cortado até encontrar <b>locate</b>,
+	 * caso não seja encontrado retorna o conteúdo completo de <b>source</b>.
+	 */
+
+	public static String subAt(String source, String locate, boolean useLocate)
+	{
+		int index = source.lastIndexOf(locate);
+
+		if (index < 0)
+			return source;
+
+		if (!useLocate)
+			index += locate.length();
+
+		return source.substring(index, source.length());
+	}
+
+	/**
+	 * <p>Permite recortar uma string do inicio até um ponto especificado do mesmo.
+	 * O ponto especificado será o índice do inicio de um conjunto de caracteres.</p>
+	 * <p>Por exemplo: <code>subAt("0123456789", "345")</code>: <b>"012"</b></p>
+	 * @param source string do qual deverá ter seu conteúdo recortado.
+	 * @param locate sequência de caracteres para indicar o inicio do corte.
+	 * @return string com seu inicio cortado até encontrar <b>locate</b>,
+	 * caso não seja encontrado retorna o conteúdo completo de <b>source</b>.
+	 */
+
+	public static String subAtEnd(String source, String locate)
+	{
+		return subAtEnd(source, locate, false);
+	}
+
+	/**
+	 * <p>Permite recortar uma string do inicio até um ponto especificado do mesmo.
+	 * O ponto especificado será o índice do inicio de um conjunto de caracteres.</p>
+	 * <p>Por exemplo: <code>subAt("0123456789", "345")</code>: <b>"012"</b></p>
+	 * @param source string do qual deverá ter seu conteúdo recortado.
+	 * @param locate sequência de caracteres para indicar o inicio do corte.
+	 * @param useLocate usar conteúdo de locate junto do recorte feito.
+	 * @return string com seu inicio cortado até encontrar <b>locate</b>,
+	 * caso não seja encontrado retorna o conteúdo completo de <b>source</b>.
+	 */
+
+	public static String subAtEnd(String source, String locate, boolean useLocate)
+	{
+		int index = source.indexOf(locate);
+
+		if (index < 0)
+			return source;
+
+		if (useLocate)
+			index += locate.length();
+
+		return source.substring(0, index);
+	}
+
+	/**
+	 * Permite obter um valor positivo aleatório qualquer de acordo com as especificações abaixo.
+	 * Para esse caso o valor não possui um mínimo ou máximo especificado (limites do java).
+	 * @return aquisição de um valor de número inteiro randômico (aleatório).
+	 */
+
+	public static int rand()
+	{
+		return random.nextInt();
+	}
+
+	/**
+	 * Permite obter um valor aleatório qualquer de acordo com as especificações abaixo.
+	 * @param limit qual o maior valor que poderá ser obtido nessa randomização.
+	 * @return aquisição um valor randômico (aleatório) de acordo com o limite acima.
+	 */
+
+	public static int rand(int limit)
+	{
+		return random.nextInt(limit);
+	}
+
+	/**
+	 * Permite obter um valor aleatório qualquer de acordo com as especificações abaixo.
+	 * @param min qual o menor valor que poderá ser obtido durante a randomização.
+	 * @param max qual o maior valor que poderá ser obtido durante a randomização.
+	 * @return aquisição um valor randômico (aleatório) de acordo com o limite acima.
+	 */
+
+	public static int rand(int min, int max)
+	{
+		return random.nextInt(max - min) + min;
+	}
+
+	/**
+	 * Permite obter um valor positivo aleatório qualquer de acordo com as especificações abaixo.
+	 * Para esse caso o valor não possui um mínimo ou máximo especificado (limites do java).
+	 * @return aquisição de um valor de ponto flutuante randômico (aleatório).
+	 */
+
+	public static float randf()
+	{
+		return random.nextFloat();
+	}
+
+	/**
+	 * Permite obter um valor negativo aleatório qualquer de acordo com as especificações abaixo.
+	 * Para esse caso o valor não possui um mínimo ou máximo especificado (limites do java).
+	 * @return aquisição de um valor de ponto flutuante randômico (aleatório).
+	 */
+
+	public static float randfn()
+	{
+		return random.nextInt(2) == 0 ? random.nextFloat() : -random.nextFloat();
+	}
+
+	/**
+	 * Converte um tipo de valor numérico para um String contendo seu valor em hexadecimal de 2 caracteres.
+	 * @param value valor numérico do tipo byte do qual será convertido para hexadecimal.
+	 * @return aquisição da String com o valor hexadecimal obtido a partir do valor especificado.
+	 */
+
+	public static String hex(byte value)
+	{
+		return StringUtil.addEndWhile("0", HexUtil.parseByte(value), 2);
+	}
+
+	/**
+	 * Converte um tipo de valor numérico para um String contendo seu valor em hexadecimal de 4 caracteres.
+	 * @param value valor numérico do tipo short do qual será convertido para hexadecimal.
+	 * @return aquisição da String com o valor hexadecimal obtido a partir do valor especificado.
+	 */
+
+	public static String hex(short value)
+	{
+		return StringUtil.addEndWhile("0", HexUtil.parseShort(value), 4);
+	}
+
+	/**
+	 * Converte um tipo de valor numérico para um String contendo seu valor em hexadecimal de 8 caracteres.
+	 * @param value valor numérico do tipo int do qual será convertido para hexadecimal.
+	 * @return aquisição da String com o valor hexadecimal obtido a partir do valor especificado.
+	 */
+
+	public static String hex(int value)
+	{
+		return StringUtil.addEndWhile("0", HexUtil.parseInt(value), 8);
+	}
+
+	/**
+	 * Converte um tipo de valor numérico para um String contendo seu valor em hexadecimal de 16 caracteres.
+	 * @param value valor numérico do tipo long do qual será convertido para hexadecimal.
+	 * @return aquisição da String com o valor hexadecimal obtido a partir do valor especificado.
+	 */
+
+	public static String hex(long value)
+	{
+		return StringUtil.addEndWhile("0", HexUtil.parseLong(value), 16);
+	}
+
+	/**
+	 * Procedimento para validação do tipo de arquivo com base nas informações "magic" (dados inicias padrão).
+	 * O magic corresponde a uma sequência de dados fixo que todo arquivo de um tipo especifico deve possuir.
+	 * @param input referência da stream para entrada de dados criado a partir do arquivo em disco.
+	 * @param realMagic vetor com os bytes referentes a validação do valor magic do arquivo.
+	 * @return true se o valor for válido ou false caso contrário.
+	 */
+
+	public static boolean magicFileValidade(Input input, byte realMagic[])
+	{
+		for (byte b : realMagic)
+			if (input.getByte() != b)
+				return false;
+
+		return true;
+	}
+}
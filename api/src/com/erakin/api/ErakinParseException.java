@@ -1,78 +1,78 @@
-package com.erakin.api;
-
-import com.erakin.api.ErakinException;
-
-/**
- * <h1>Exceo de Verificao Erakin</h1>
- *
- * <p>Todas as excees que possam ser geradas durante a utilizao da biblioteca do engine sero deste tipo.
- * O motivo da utilizao deste  permitir uma fcil utilizao de try catch onde todas excees so iguais.
- * Para alguns pontos ser determinado alguns outros tipos de excees se assim for necessrio para tal.</p>
- *
- * <p>Possui diversos construtores, que permitem uma melhor forma de determinar como ser a mensagem.
- * Utiliza mtodos que permitem usar formatao para definir a mensagem ou ento usar outra exceo.
- * Podendo ainda usar uma combinao dos dois tipos, usando uma mensagem formatada com uma excees.</p>
- *
- * <p>Esse tipo de exceo ser gerada por toda parte do sistema que no seja muito muito longa/grande.
- * Como por exemplos as partes principais do sistema apesar de grandes so nicas e no possui tipos.
- * J outros casos como recursos grficos, sonoros ou modelagens possuem vrias classes.</p>
- *
- * @see ErakinException
- *
- * @author Andrew Mello
- */
-
-public class ErakinParseException extends ErakinException
-{
-	/**
-	 * Serializao para identificao da classe.
-	 */
-	private static final long serialVersionUID = 2926428005702877844L;
-
-	/**
-	 * Constri uma nova exceo de verificao, sendo necessrio definir a mensagem de causa.
-	 * @param message mensagem contendo informaes sobre o que ocasionou a exceo.
-	 */
-
-	public ErakinParseException(String message)
-	{
-		super(message);
-	}
-
-	/**
-	 * Constri uma nova exceo de verificao, sendo necessrio definir a mensagem de causa.
-	 * @param format string contendo uma formatao de uma mensagem sobre o que ocasionou a exceo.
-	 * @param args argumentos respectivos a formatao da mensagem para serem exibidos.
-	 */
-
-	public ErakinParseException(String format, Object... args)
-	{
-		super(format, args);
-	}
-
-	/**
-	 * Constri uma nova exceo de verificao, sendo necessrio definir a mensagem de causa.
-	 * Para esse caso em questo  necessrio utilizar uma outra exceo e usar sua mensagem.
-	 * Mostra o nome da exceo (classe) ao final da mensagem apenas se for outro tipo.
-	 * @param e exceo do qual dever ser copiado a mensagem para essa nova exceo.
-	 */
-
-	public ErakinParseException(Exception e)
-	{
-		super(e);
-	}
-
-	/**
-	 * Constri uma nova exceo de verificao, sendo necessrio definir a mensagem de causa.
-	 * Para esse caso em questo  necessrio utilizar uma outra exceo e usar sua mensagem.
-	 * Mostra o nome da exceo (classe) ao final da mensagem apenas se for outro tipo.
-	 * @param e exceo do qual dever ser copiado a mensagem para essa nova exceo.
-	 * @param format string contendo uma formatao de uma mensagem sobre o que ocasionou a exceo.
-	 * @param args argumentos respectivos a formatao da mensagem para serem exibidos.
-	 */
-
-	public ErakinParseException(Exception e, String format, Object... args)
-	{
-		super(e, format, args);
-	}
-}
+package com.erakin.api;
+
+import com.erakin.api.ErakinException;
+
+/**
+ * <h1>Exceção de Verificação Erakin</h1>
+ *
+ * <p>Todas as exceções que possam ser geradas durante a utilização da biblioteca do engine serão deste tipo.
+ * O motivo da utilização deste é permitir uma fácil utilização de try catch onde todas exceções são iguais.
+ * Para alguns pontos será determinado alguns outros tipos de exceções se assim for necessário para tal.</p>
+ *
+ * <p>Possui diversos construtores, que permitem uma melhor forma de determinar como será a mensagem.
+ * Utiliza métodos que permitem usar formatação para definir a mensagem ou então usar outra exceção.
+ * Podendo ainda usar uma combinação dos dois tipos, usando uma mensagem formatada com uma exceções.</p>
+ *
+ * <p>Esse tipo de exceção será gerada por toda parte do sistema que não seja muito muito longa/grande.
+ * Como por exemplos as partes principais do sistema apesar de grandes são únicas e não possui tipos.
+ * Já outros casos como recursos gráficos, sonoros ou modelagens possuem várias classes.</p>
+ *
+ * @see ErakinException
+ *
+ * @author Andrew Mello
+ */
+
+public class ErakinParseException extends ErakinException
+{
+	/**
+	 * Serialização para identificação da classe.
+	 */
+	private static final long serialVersionUID = 2926428005702877844L;
+
+	/**
+	 * Constrói uma nova exceção de verificação, sendo necessário definir a mensagem de causa.
+	 * @param message mensagem contendo informações sobre o que ocasionou a exceção.
+	 */
+
+	public ErakinParseException(String message)
+	{
+		super(message);
+	}
+
+	/**
+	 * Constrói uma nova exceção de verificação, sendo necessário definir a mensagem de causa.
+	 * @param format string contendo uma formatação de uma mensagem sobre o que ocasionou a exceção.
+	 * @param args argumentos respectivos a formatação da mensagem para serem exibidos.
+	 */
+
+	public ErakinParseException(String format, Object... args)
+	{
+		super(format, args);
+	}
+
+	/**
+	 * Constrói uma nova exceção de verificação, sendo necessário definir a mensagem de causa.
+	 * Para esse caso em questão é necessário utilizar uma outra exceção e usar sua mensagem.
+	 * Mostra o nome da exceção (classe) ao final da mensagem apenas se for outro tipo.
+	 * @param e exceção do qual deverá ser copiado a mensagem para essa nova exceção.
+	 */
+
+	public ErakinParseException(Exception e)
+	{
+		super(e);
+	}
+
+	/**
+	 * Constrói uma nova exceção de verificação, sendo necessário definir a mensagem de causa.
+	 * Para esse caso em questão é necessário utilizar uma outra exceção e usar sua mensagem.
+	 * Mostra o nome da exceção (classe) ao final da mensagem apenas se for outro tipo.
+	 * @param e exceção do qual deverá ser copiado a mensagem para essa nova exceção.
+	 * @param format string contendo uma formatação de uma mensagem sobre o que ocasionou a exceção.
+	 * @param args argumentos respectivos a formatação da mensagem para serem exibidos.
+	 */
+
+	public ErakinParseException(Exception e, String format, Object... args)
+	{
+		super(e, format, args);
+	}
+}
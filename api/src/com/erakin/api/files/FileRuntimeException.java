@@ -1,73 +1,73 @@
-package com.erakin.api.files;
-
-import com.erakin.api.ErakinRuntimeException;
-
-/**
- * <h1>Exceo de Arquivo</h1>
- *
- * <p>Todas as excees que possam ser geradas durante a utilizao de arquivos nos servios oferecidos da biblioteca.
- * Esse tipo de exceo por parda da biblioteca Erakin ser gerada apenas em <code>com.eraking.files</code>.</p>
- *
- * <p>Possui diversos construtores, que permitem uma melhor forma de determinar como ser a mensagem.
- * Utiliza mtodos que permitem usar formatao para definir a mensagem ou ento usar outra exceo.
- * Podendo ainda usar uma combinao dos dois tipos, usando uma mensagem formatada com uma excees.</p>
- *
- * @see ErakinRuntimeException
- *
- * @author Andrew Mello
- */
-
-public class FileRuntimeException extends ErakinRuntimeException
-{
-	/**
-	 * Serializao para identificao da classe.
-	 */
-	private static final long serialVersionUID = 2926428005702877844L;
-
-	/**
-	 * Constri uma nova exceo para arquivos, sendo necessrio definir a mensagem de causa.
-	 * @param message mensagem contendo informaes sobre o que ocasionou a exceo.
-	 */
-
-	public FileRuntimeException(String message)
-	{
-		super(message);
-	}
-
-	/**
-	 * Constri uma nova exceo para arquivos, sendo necessrio definir a mensagem de causa.
-	 * @param format string contendo uma formatao de uma mensagem sobre o que ocasionou a exceo.
-	 * @param args argumentos respectivos a formatao da mensagem para serem exibidos.
-	 */
-
-	public FileRuntimeException(String format, Object... args)
-	{
-		super(format, args);
-	}
-
-	/**
-	 * Constri uma nova exceo para arquivos, sendo necessrio definir a mensagem de causa.
-	 * Para esse caso em questo  necessrio utilizar uma outra exceo e usar sua mensagem.
-	 * Mostra o nome da exceo (classe) ao final da mensagem apenas se for outro tipo.
-	 * @param e exceo do qual dever ser copiado a mensagem para essa nova exceo.
-	 */
-
-	public FileRuntimeException(Exception e)
-	{
-		super(e);
-	}
-
-	/**
-	 * Constri uma nova exceo para arquivos, sendo necessrio definir a mensagem de causa.
-	 * Para esse caso em questo  necessrio utilizar uma outra exceo e usar sua mensagem.
-	 * Mostra o nome da exceo (classe) ao final da mensagem apenas se for outro tipo.
-	 * @param e exceo do qual dever ser copiado a mensagem para essa nova exceo.
-	 * @param format string contendo uma formatao de uma mensagem sobre o que ocasionou a exceo.
-	 * @param args argumentos respectivos a formatao da mensagem para serem exibidos.
-	 */
-
-	public FileRuntimeException(Exception e, String format, Object... args)
-	{
-		super(e, format, args);
-	}
-}
+package com.erakin.api.files;
+
+import com.erakin.api.ErakinRuntimeException;
+
+/**
+ * <h1>Exceção de Arquivo</h1>
+ *
+ * <p>Todas as exceções que possam ser geradas durante a utilização de arquivos nos serviços oferecidos da biblioteca.
+ * Esse tipo de exceção por parda da biblioteca Erakin será gerada apenas em <code>com.eraking.files</code>.</p>
+ *
+ * <p>Possui diversos construtores, que permitem uma melhor forma de determinar como será a mensagem.
+ * Utiliza métodos que permitem usar formatação para definir a mensagem ou então usar outra exceção.
+ * Podendo ainda usar uma combinação dos dois tipos, usando uma mensagem formatada com uma exceções.</p>
+ *
+ * @see ErakinRuntimeException
+ *
+ * @author Andrew Mello
+ */
+
+public class FileRuntimeException extends ErakinRuntimeException
+{
+	/**
+	 * Serialização para identificação da classe.
+	 */
+	private static final long serialVersionUID = 2926428005702877844L;
+
+	/**
+	 * Constrói uma nova exceção para arquivos, sendo necessário definir a mensagem de causa.
+	 * @param message mensagem contendo informações sobre o que ocasionou a exceção.
+	 */
+
+	public FileRuntimeException(String message)
+	{
+		super(message);
+	}
+
+	/**
+	 * Constrói uma nova exceção para arquivos, sendo necessário definir a mensagem de causa.
+	 * @param format string contendo uma formatação de uma mensagem sobre o que ocasionou a exceção.
+	 * @param args argumentos respectivos a formatação da mensagem para serem exibidos.
+	 */
+
+	public FileRuntimeException(String format, Object... args)
+	{
+		super(format, args);
+	}
+
+	/**
+	 * Constrói uma nova exceção para arquivos, sendo necessário definir a mensagem de causa.
+	 * Para esse caso em questão é necessário utilizar uma outra exceção e usar sua mensagem.
+	 * Mostra o nome da exceção (classe) ao final da mensagem apenas se for outro tipo.
+	 * @param e exceção do qual deverá ser copiado a mensagem para essa nova exceção.
+	 */
+
+	public FileRuntimeException(Exception e)
+	{
+		super(e);
+	}
+
+	/**
+	 * Constrói uma nova exceção para arquivos, sendo necessário definir a mensagem de causa.
+	 * Para esse caso em questão é necessário utilizar uma outra exceção e usar sua mensagem.
+	 * Mostra o nome da exceção (classe) ao final da mensagem apenas se for outro tipo.
+	 * @param e exceção do qual deverá ser copiado a mensagem para essa nova exceção.
+	 * @param format string contendo uma formatação de uma mensagem sobre o que ocasionou a exceção.
+	 * @param args argumentos respectivos a formatação da mensagem para serem exibidos.
+	 */
+
+	public FileRuntimeException(Exception e, String format, Object... args)
+	{
+		super(e, format, args);
+	}
+}
@@ -0,0 +1,255 @@
+package com.erakin.api.lwjgl;
+
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+
+import com.erakin.api.ErakinRuntimeException;
+
+/**
+ * <h1>Alocador de Buffer</h1>
+ *
+ * <p>Gerencia o espaço de um buffer de tamanho fixo que é dividido entre vários usuários, como os vértices
+ * e índices de várias modelagens armazenados em um único VBO. Não acessa o OpenGL, apenas calcula em qual
+ * posição do buffer cada alocação deve ser feita, portanto pode ser usado e testado sem um contexto OpenGL.</p>
+ *
+ * <p>Utiliza uma lista de blocos livres ordenada pela posição, onde cada alocação usa o primeiro bloco livre
+ * com espaço suficiente (first-fit). Ao liberar um espaço, este é juntado aos blocos livres vizinhos
+ * para evitar que o buffer fique fragmentado em blocos pequenos demais para as próximas alocações.</p>
+ *
+ * <p>As posições e tamanhos não possuem unidade definida, podendo ser bytes, vértices ou índices,
+ * desde que o mesmo alocador seja sempre usado com a mesma unidade.</p>
+ *
+ * @see VAO
+ *
+ * @author Andrew
+ */
+
+public class BufferAllocator
+{
+	/**
+	 * Valor retornado quando não há espaço livre contínuo suficiente para uma alocação.
+	 */
+	public static final int NO_SPACE = -1;
+
+	/**
+	 * Capacidade total do buffer gerenciado.
+	 */
+	private final int capacity;
+
+	/**
+	 * Posição inicial de cada bloco livre, ordenado de forma crescente.
+	 */
+	private int offsets[];
+
+	/**
+	 * Tamanho de cada bloco livre, na mesma ordem das posições.
+	 */
+	private int sizes[];
+
+	/**
+	 * Quantidade de blocos livres.
+	 */
+	private int count;
+
+	/**
+	 * Quantidade de espaço alocado.
+	 */
+	private int used;
+
+	/**
+	 * Cria um novo alocador para um buffer de tamanho fixo, inicialmente com todo o espaço livre.
+	 * @param capacity capacidade total do buffer gerenciado.
+	 */
+
+	public BufferAllocator(int capacity)
+	{
+		if (capacity < 0)
+			throw new ErakinRuntimeException("capacidade inválida (capacity: %d)", capacity);
+
+		this.capacity = capacity;
+		this.offsets = new int[8];
+		this.sizes = new int[8];
+
+		if (capacity > 0)
+		{
+			offsets[0] = 0;
+			sizes[0] = capacity;
+			count = 1;
+		}
+	}
+
+	/**
+	 * Aloca um espaço contínuo no buffer usando o primeiro bloco livre com espaço suficiente.
+	 * @param size tamanho do espaço que deve ser alocado.
+	 * @return aquisição da posição do espaço alocado ou <code>NO_SPACE</code> se não houver espaço.
+	 */
+
+	public int allocate(int size)
+	{
+		if (size <= 0)
+			throw new ErakinRuntimeException("tamanho inválido (size: %d)", size);
+
+		for (int i = 0; i < count; i++)
+			if (sizes[i] >= size)
+			{
+				int offset = offsets[i];
+
+				if (sizes[i] == size)
+					remove(i);
+				else
+				{
+					offsets[i] += size;
+					sizes[i] -= size;
+				}
+
+				used += size;
+
+				return offset;
+			}
+
+		return NO_SPACE;
+	}
+
+	/**
+	 * Libera um espaço alocado anteriormente, juntando-o aos blocos livres vizinhos.
+	 * @param offset posição do espaço alocado, obtido ao alocar.
+	 * @param size tamanho do espaço alocado, o mesmo usado ao alocar.
+	 */
+
+	public void free(int offset, int size)
+	{
+		if (size <= 0 || offset < 0 || offset + size > capacity)
+			throw new ErakinRuntimeException("espaço inválido (offset: %d, size: %d)", offset, size);
+
+		int i = 0;
+
+		while (i < count && offsets[i] < offset)
+			i++;
+
+		if ((i > 0 && offsets[i - 1] + sizes[i - 1] > offset) || (i < count && offset + size > offsets[i]))
+			throw new ErakinRuntimeException("espaço já está livre (offset: %d, size: %d)", offset, size);
+
+		boolean mergePrevious = i > 0 && offsets[i - 1] + sizes[i - 1] == offset;
+		boolean mergeNext = i < count && offset + size == offsets[i];
+
+		if (mergePrevious && mergeNext)
+		{
+			sizes[i - 1] += size + sizes[i];
+			remove(i);
+		}
+
+		else if (mergePrevious)
+			sizes[i - 1] += size;
+
+		else if (mergeNext)
+		{
+			offsets[i] = offset;
+			sizes[i] += size;
+		}
+
+		else
+			insert(i, offset, size);
+
+		used -= size;
+	}
+
+	/**
+	 * Remove um bloco livre da lista, deslocando os blocos seguintes.
+	 * @param index índice do bloco livre na lista.
+	 */
+
+	private void remove(int index)
+	{
+		System.arraycopy(offsets, index + 1, offsets, index, count - index - 1);
+		System.arraycopy(sizes, index + 1, sizes, index, count - index - 1);
+		count--;
+	}
+
+	/**
+	 * Insere um bloco livre na lista, deslocando os blocos seguintes e aumentando a lista se necessário.
+	 * @param index índice em que o bloco livre será inserido.
+	 * @param offset posição inicial do bloco livre.
+	 * @param size tamanho do bloco livre.
+	 */
+
+	private void insert(int index, int offset, int size)
+	{
+		if (count == offsets.length)
+		{
+			offsets = Arrays.copyOf(offsets, count * 2);
+			sizes = Arrays.copyOf(sizes, count * 2);
+		}
+
+		System.arraycopy(offsets, index, offsets, index + 1, count - index);
+		System.arraycopy(sizes, index, sizes, index + 1, count - index);
+
+		offsets[index] = offset;
+		sizes[index] = size;
+		count++;
+	}
+
+	/**
+	 * @return aquisição da capacidade total do buffer gerenciado.
+	 */
+
+	public int getCapacity()
+	{
+		return capacity;
+	}
+
+	/**
+	 * @return aquisição da quantidade de espaço alocado.
+	 */
+
+	public int getUsed()
+	{
+		return used;
+	}
+
+	/**
+	 * @return aquisição da quantidade de espaço livre, somando todos os blocos livres.
+	 */
+
+	public int getFree()
+	{
+		return capacity - used;
+	}
+
+	/**
+	 * @return aquisição do tamanho do maior bloco livre, o maior espaço que pode ser alocado.
+	 */
+
+	public int getLargestFree()
+	{
+		int largest = 0;
+
+		for (int i = 0; i < count; i++)
+			largest = Math.max(largest, sizes[i]);
+
+		return largest;
+	}
+
+	/**
+	 * Quanto mais blocos livres houver para a mesma quantidade de espaço livre, mais fragmentado está o buffer.
+	 * @return aquisição da quantidade de blocos livres.
+	 */
+
+	public int getFreeBlocks()
+	{
+		return count;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("capacity", capacity);
+		description.append("used", used);
+		description.append("freeBlocks", count);
+		description.append("largestFree", getLargestFree());
+
+		return description.toString();
+	}
+}
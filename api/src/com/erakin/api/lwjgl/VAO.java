@@ -1,345 +1,572 @@
-package com.erakin.api.lwjgl;
-
-import static com.erakin.api.lwjgl.GLUtil.glStore;
-import static com.erakin.api.lwjgl.VBO.ARRAY_BUFFER;
-import static com.erakin.api.lwjgl.VBO.ELEMENT_ARRAY_BUFFER;
-import static org.diverproject.util.Util.size;
-import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
-import static org.lwjgl.opengl.GL11.glDrawArrays;
-import static org.lwjgl.opengl.GL11.glDrawElements;
-import static org.lwjgl.opengl.GL11.glGetInteger;
-import static org.lwjgl.opengl.GL20.GL_MAX_VERTEX_ATTRIBS;
-import static org.lwjgl.opengl.GL20.glDisableVertexAttribArray;
-import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
-import static org.lwjgl.opengl.GL30.glBindVertexArray;
-import static org.lwjgl.opengl.GL30.glDeleteVertexArrays;
-import static org.lwjgl.opengl.GL30.glGenVertexArrays;
-import static org.lwjgl.opengl.GL30.glIsVertexArray;
-
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
-
-import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.collection.Index;
-import org.diverproject.util.collection.abstraction.StaticArray;
-import org.lwjgl.opengl.GL15;
-
-import com.erakin.api.ErakinRuntimeException;
-import com.erakin.api.lwjgl.math.enumeration.DrawElement;
-
-/**
- * <h1>Vertex-Array Objects</h1>
- *
- * <p>Tem como finalidade, a criao da ideia de um objecto como Vetor de Vrtice de Objetos.
- * Vetor por que aloca uma quantidade de objetos pr-definido pelo mesmo no OpenGL.
- * Vrtice se referencia aos objetos que este ir alocar, os objetos so os dados.</p>
- *
- * <p>VAO possui apenas um atributo, e este  de extrema importncia para funcionar.
- * A identificao do VAO permite vincular seu uso no OpenGl quando for usado,
- * como tambm desvincular ao parar de ser usado ou liberar este da memria.</p>
- *
- * <p>Durante a criao de um VAO  utilizado <code>glGenVertexArrays</code>: ir dizer ao
- * OpenGL para fazer uma alocagem de espao em memria para armazenamento de dados.
- * Essa alocao ser usada por VBOs quando assim for decidido por tal.</p>
- *
- * <p>O espao alocado  definido como um vetor enumerado de 16 posies, do 0 ao 15.
- * Essa enumerao  denominada como Attribute, para cada um desses Attribute ser
- * alocado um VBO que ir determinar os dados respectivos desse VAO especificado.</p>
- *
- * @see GL15
- * @see GLBind
- *
- * @author Andrew
- */
-
-public class VAO implements GLBind
-{
-	/**
-	 * Quantidade limite de VBOs que podem ser criados por cada VAO.
-	 */
-	private static final int MAX_VBOS = glGetInteger(GL_MAX_VERTEX_ATTRIBS);
-
-	/**
-	 * Identificao do VAO no sistema OpenGL.
-	 */
-	private int id;
-
-	/**
-	 * Referncia do VBO para armazenar os ndices.
-	 */
-	private VBO indices;
-
-	/**
-	 * Quantidade de ndices existentes nesse VAO.
-	 */
-	private int vertexCount;
-
-	/**
-	 * Referncia de todos os VBO que podem ser criados.
-	 */
-	private Index<VBO> vbos;
-
-	/**
-	 * Constri um novo VAO, dizendo ao OpenGL para inicializar o mesmo.
-	 * Essa inicializao ir criar um novo VAO com atributos em branco.
-	 */
-
-	public VAO()
-	{
-		id = glGenVertexArrays();
-		vbos = new StaticArray<VBO>(MAX_VBOS);
-	}
-
-	/**
-	 * Constri um novo VAO, especificando qual sua identificao no OpenGL.
-	 * Essa inicializao ir criar um novo VAO com atributos em branco.
-	 * @param vaoID identificao do VAO no OpenGL.
-	 */
-
-	public VAO(int vaoID)
-	{
-		if (vaoID < 0)
-			throw new ErakinRuntimeException("id invlido (vaoID: %d)", vaoID);
-
-		id = vaoID;
-		vbos = new StaticArray<VBO>(MAX_VBOS);
-	}
-
-	/**
-	 * Identificao do VAO permite dizer ao OpenGL quando ele deve ser usado.
-	 * Tambm permite determinar quando parar de ser usado e remover da memria.
-	 * @return aquisio do cdigo para identificao desse VAO no OpenGL.
-	 */
-
-	public int getID()
-	{
-		return id;
-	}
-
-	/**
-	 * Deve adicionar uma lista contendo o ndice para identificar dados.
-	 * Ir determinar quantos dados de cada VBO em sequncia forma um conjunto.
-	 * Por exemplo, um vetor de inteiros definido como VBO [0, 1, 2, 3, 4, 6].
-	 * @param data vetor contendo a indexao que ser usada nos VBOs.
-	 * @return aquisio da identificao do VBO dos ndices.
-	 */
-
-	public int setIndices(int data[])
-	{
-		return setIndices(glStore(data));
-	}
-
-	/**
-	 * Deve adicionar uma lista contendo o ndice para identificar dados.
-	 * Ir determinar quantos dados de cada VBO em sequncia forma um conjunto.
-	 * Por exemplo, um vetor de inteiros definido como VBO [0, 1, 2, 3, 4, 6].
-	 * @param buffer buffer contendo a indexao que ser usada nos VBOs.
-	 * @return aquisio da identificao do VBO dos ndices.
-	 */
-
-	public int setIndices(IntBuffer buffer)
-	{
-		if (indices != null)
-			indices.release();
-
-		indices = new VBO(ELEMENT_ARRAY_BUFFER);
-		indices.bind();
-		indices.bufferData(buffer);
-		// Por algum motivo esse VBO no deve dar unbind() igual aos atributos
-
-		vertexCount = buffer.capacity();
-
-		return indices.getID();
-	}
-
-	/**
-	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
-	 * O atributo que ser usado ser decidido automaticamente pelo OpenGL.
-	 * Para esse caso, os dados definidos ser do tipo vetor de inteiros.
-	 * @param index em qual ndice ser posicionado os dados (0 a 15).
-	 * @param size quantas unidades cada ndice definido no VAO ter.
-	 * @param data referncia do vetor contendo os dados para armazenar.
-	 * @return identificao do VBO no VAO, nmero do atributo usado.
-	 */
-
-	public int setAttribute(int index, int size, int data[])
-	{
-		return setAttribute(index, size, glStore(data));
-	}
-
-	/**
-	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
-	 * O atributo que ser usado ser decidido automaticamente pelo OpenGL.
-	 * Para esse caso, os dados definidos ser do tipo vetor de inteiros.
-	 * @param index em qual ndice ser posicionado os dados (0 a 15).
-	 * @param size quantas unidades cada ndice definido no VAO ter.
-	 * @param buffer referncia do buffer contendo os dados para armazenar.
-	 * @return identificao do VBO no VAO, nmero do atributo usado.
-	 */
-
-	public int setAttribute(int index, int size, IntBuffer buffer)
-	{
-		VBO vbo = vbos.get(index);
-
-		if (vbo == null)
-			vbo = new VBO(ARRAY_BUFFER);
-
-		vbo.bind();
-		vbo.bufferData(buffer);
-		vbo.attribPointerInt(index, size);
-		vbo.unbind();
-
-		vbos.update(index, vbo);
-
-		return vbo.getID();
-	}
-
-	/**
-	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
-	 * O atributo que ser usado ser decidido automaticamente pelo OpenGL.
-	 * Para esse caso, os dados definidos ser do tipo vetor de flutuantes.
-	 * @param index em qual ndice ser posicionado os dados (0 a 15).
-	 * @param size quantas unidades cada ndice definido no VAO ter.
-	 * @param data referncia do vetor contendo os dados para armazenar.
-	 * @return identificao do VBO no VAO, nmero do atributo usado.
-	 */
-
-	public int setAttribute(int index, int size, float data[])
-	{
-		return setAttribute(index, size, glStore(data));
-	}
-
-	/**
-	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
-	 * O atributo que ser usado ser decidido automaticamente pelo OpenGL.
-	 * Para esse caso, os dados definidos ser do tipo vetor de flutuantes.
-	 * @param index em qual ndice ser posicionado os dados (0 a 15).
-	 * @param size quantas unidades cada ndice definido no VAO ter.
-	 * @param buffer referncia do buffer contendo os dados para armazenar.
-	 * @return identificao do VBO no VAO, nmero do atributo usado.
-	 */
-
-	public int setAttribute(int index, int size, FloatBuffer buffer)
-	{
-		VBO vbo = vbos.get(index);
-
-		if (vbo == null)
-			vbo = new VBO(ARRAY_BUFFER);
-
-		vbo.bind();
-		vbo.bufferData(buffer);
-		vbo.attribPointerFloat(index, size);
-		vbo.unbind();
-
-		vbos.update(index, vbo);
-
-		return vbo.getID();
-	}
-
-	/**
-	 * A contagem de vrtices permite que um VAO seja usado para ser desenhado na tela na renderizao.
-	 * O OpenGL no identifica quantos vrtices existem nos ndices ou qual atributo  dos vrtices.
-	 * @return aquisio da quantidade de vrtices necessrios para compor esse VAO.
-	 */
-
-	public int getVertexCount()
-	{
-		return vertexCount;
-	}
-
-	/**
-	 * A contagem de vrtices permite que um VAO seja usado para ser desenhado na tela na renderizao.
-	 * O OpenGL no identifica quantos vrtices existem nos ndices ou qual atributo  dos vrtices.
-	 * @param vertexCount quantidade de vrtices necessrios para compor esse VAO.
-	 */
-
-	public void setVertexCount(int vertexCount)
-	{
-		this.vertexCount = vertexCount;
-	}
-
-	@Override
-	public void release()
-	{
-		unbind();
-
-		for (VBO vbo : vbos)
-			if (vbo != null)
-				vbo.release();
-
-		if (indices != null)
-			indices.release();
-
-		glDeleteVertexArrays(id);
-
-		indices = null;
-		vbos = null;
-		id = 0;
-	}
-
-	@Override
-	public void bind()
-	{
-		glBindVertexArray(id);
-	}
-
-	@Override
-	public void unbind()
-	{
-		glBindVertexArray(UNBIND_CODE);
-	}
-
-	@Override
-	public boolean valid()
-	{
-		return id > 0 && glIsVertexArray(id);
-	}
-
-	/**
-	 * Habilita um vetor de vrtices associados com o ndice especificado do atributo.
-	 * Quando for habilitado significa que o OpenGL poder us-lo se for solicitado.
-	 * @param attribute ndice do atributo no VAO do qual dever ser habilitado.
-	 */
-
-	public void enable(int attribute)
-	{
-		glEnableVertexAttribArray(attribute);
-	}
-
-	/**
-	 * Desabilita um vetor de vrtices associados com o ndice especificado do atributo.
-	 * Quando for desabilitado significa que o OpenGL no poder us-lo se solicitado.
-	 * @param attribute ndice do atributo no VAO do qual dever ser desabilitado.
-	 */
-
-	public void disable(int attribute)
-	{
-		glDisableVertexAttribArray(attribute);
-	}
-
-	/**
-	 * Define uma sequncia geomtrica primitiva com todos os elementos armazenados em ndice.
-	 * @param mode em que modo ser feito o desenho do VAO quando solicitado para renderizar.
-	 * @see DrawElement
-	 */
-
-	public void draw(DrawElement mode)
-	{
-		if (indices != null)
-			glDrawElements(mode.getValue(), getVertexCount(), GL_UNSIGNED_INT, 0);
-		else
-			glDrawArrays(mode.getValue(), 0, getVertexCount());
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		description.append("id", id);
-		description.append("vbos", size(vbos));
-		description.append("vertexCount", vertexCount);
-
-		return description.toString();
-	}
-}
+package com.erakin.api.lwjgl;
+
+import static com.erakin.api.lwjgl.GLUtil.glStore;
+import static com.erakin.api.lwjgl.VBO.ARRAY_BUFFER;
+import static com.erakin.api.lwjgl.VBO.ELEMENT_ARRAY_BUFFER;
+import static org.diverproject.util.Util.size;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL11.glDrawArrays;
+import static org.lwjgl.opengl.GL11.glDrawElements;
+import static org.lwjgl.opengl.GL11.glGetInteger;
+import static org.lwjgl.opengl.GL20.GL_MAX_VERTEX_ATTRIBS;
+import static org.lwjgl.opengl.GL20.glDisableVertexAttribArray;
+import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
+import static org.lwjgl.opengl.GL30.glBindVertexArray;
+import static org.lwjgl.opengl.GL30.glDeleteVertexArrays;
+import static org.lwjgl.opengl.GL30.glGenVertexArrays;
+import static org.lwjgl.opengl.GL30.glIsVertexArray;
+import static org.lwjgl.opengl.GL32.glDrawElementsBaseVertex;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Index;
+import org.diverproject.util.collection.abstraction.StaticArray;
+import org.lwjgl.opengl.GL15;
+
+import com.erakin.api.ErakinRuntimeException;
+import com.erakin.api.lwjgl.math.enumeration.DrawElement;
+
+/**
+ * <h1>Vertex-Array Objects</h1>
+ *
+ * <p>Tem como finalidade, a criação da ideia de um objecto como Vetor de Vértice de Objetos.
+ * Vetor por que aloca uma quantidade de objetos pré-definido pelo mesmo no OpenGL.
+ * Vértice se referencia aos objetos que este irá alocar, os objetos são os dados.</p>
+ *
+ * <p>VAO possui apenas um atributo, e este é de extrema importância para funcionar.
+ * A identificação do VAO permite vincular seu uso no OpenGl quando for usado,
+ * como também desvincular ao parar de ser usado ou liberar este da memória.</p>
+ *
+ * <p>Durante a criação de um VAO é utilizado <code>glGenVertexArrays</code>: irá dizer ao
+ * OpenGL para fazer uma alocagem de espaço em memória para armazenamento de dados.
+ * Essa alocação será usada por VBOs quando assim for decidido por tal.</p>
+ *
+ * <p>O espaço alocado é definido como um vetor enumerado de 16 posições, do 0 ao 15.
+ * Essa enumeração é denominada como Attribute, para cada um desses Attribute será
+ * alocado um VBO que irá determinar os dados respectivos desse VAO especificado.</p>
+ *
+ * @see GL15
+ * @see GLBind
+ *
+ * @author Andrew
+ */
+
+public class VAO implements GLBind
+{
+	/**
+	 * Quantidade limite de VBOs que podem ser criados por cada VAO.
+	 */
+	private static final int MAX_VBOS = glGetInteger(GL_MAX_VERTEX_ATTRIBS);
+
+	/**
+	 * Identificação do VAO no sistema OpenGL.
+	 */
+	private int id;
+
+	/**
+	 * Referência do VBO para armazenar os índices.
+	 */
+	private VBO indices;
+
+	/**
+	 * Quantidade de índices existentes nesse VAO.
+	 */
+	private int vertexCount;
+
+	/**
+	 * Tipo de dado OpenGL dos índices (<code>GL_UNSIGNED_INT</code> ou <code>GL_UNSIGNED_SHORT</code>).
+	 */
+	private int indexType;
+
+	/**
+	 * Referência de todos os VBO que podem ser criados.
+	 */
+	private Index<VBO> vbos;
+
+	/**
+	 * Constrói um novo VAO, dizendo ao OpenGL para inicializar o mesmo.
+	 * Essa inicialização irá criar um novo VAO com atributos em branco.
+	 */
+
+	public VAO()
+	{
+		id = glGenVertexArrays();
+		vbos = new StaticArray<VBO>(MAX_VBOS);
+		indexType = GL_UNSIGNED_INT;
+	}
+
+	/**
+	 * Constrói um novo VAO, especificando qual sua identificação no OpenGL.
+	 * Essa inicialização irá criar um novo VAO com atributos em branco.
+	 * @param vaoID identificação do VAO no OpenGL.
+	 */
+
+	public VAO(int vaoID)
+	{
+		if (vaoID < 0)
+			throw new ErakinRuntimeException("id inválido (vaoID: %d)", vaoID);
+
+		id = vaoID;
+		vbos = new StaticArray<VBO>(MAX_VBOS);
+		indexType = GL_UNSIGNED_INT;
+	}
+
+	/**
+	 * Identificação do VAO permite dizer ao OpenGL quando ele deve ser usado.
+	 * Também permite determinar quando parar de ser usado e remover da memória.
+	 * @return aquisição do código para identificação desse VAO no OpenGL.
+	 */
+
+	public int getID()
+	{
+		return id;
+	}
+
+	/**
+	 * Deve adicionar uma lista contendo o índice para identificar dados.
+	 * Irá determinar quantos dados de cada VBO em sequência forma um conjunto.
+	 * Por exemplo, um vetor de inteiros definido como VBO [0, 1, 2, 3, 4, 6].
+	 * @param data vetor contendo a indexação que será usada nos VBOs.
+	 * @return aquisição da identificação do VBO dos índices.
+	 */
+
+	public int setIndices(int data[])
+	{
+		return setIndices(glStore(data));
+	}
+
+	/**
+	 * Deve adicionar uma lista contendo o índice para identificar dados.
+	 * Irá determinar quantos dados de cada VBO em sequência forma um conjunto.
+	 * Por exemplo, um vetor de inteiros definido como VBO [0, 1, 2, 3, 4, 6].
+	 * @param buffer buffer contendo a indexação que será usada nos VBOs.
+	 * @return aquisição da identificação do VBO dos índices.
+	 */
+
+	public int setIndices(IntBuffer buffer)
+	{
+		if (indices != null)
+			indices.release();
+
+		indices = new VBO(ELEMENT_ARRAY_BUFFER);
+		indices.bind();
+		indices.bufferData(buffer);
+		// Por algum motivo esse VBO não deve dar unbind() igual aos atributos
+
+		vertexCount = buffer.capacity();
+		indexType = GL_UNSIGNED_INT;
+
+		return indices.getID();
+	}
+
+	/**
+	 * Deve adicionar uma lista contendo o índice para identificar dados com índices de 16 bits.
+	 * Usado quando o modelo possui menos de 65536 vértices, ocupando metade da memória dos índices.
+	 * @param buffer buffer contendo a indexação que será usada nos VBOs.
+	 * @return aquisição da identificação do VBO dos índices.
+	 */
+
+	public int setIndices(ShortBuffer buffer)
+	{
+		if (indices != null)
+			indices.release();
+
+		indices = new VBO(ELEMENT_ARRAY_BUFFER);
+		indices.bind();
+		indices.bufferData(buffer);
+
+		vertexCount = buffer.capacity();
+		indexType = GL_UNSIGNED_SHORT;
+
+		return indices.getID();
+	}
+
+	/**
+	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
+	 * O atributo que será usado será decidido automaticamente pelo OpenGL.
+	 * Para esse caso, os dados definidos será do tipo vetor de inteiros.
+	 * @param index em qual índice será posicionado os dados (0 a 15).
+	 * @param size quantas unidades cada índice definido no VAO terá.
+	 * @param data referência do vetor contendo os dados para armazenar.
+	 * @return identificação do VBO no VAO, número do atributo usado.
+	 */
+
+	public int setAttribute(int index, int size, int data[])
+	{
+		return setAttribute(index, size, glStore(data));
+	}
+
+	/**
+	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
+	 * O atributo que será usado será decidido automaticamente pelo OpenGL.
+	 * Para esse caso, os dados definidos será do tipo vetor de inteiros.
+	 * @param index em qual índice será posicionado os dados (0 a 15).
+	 * @param size quantas unidades cada índice definido no VAO terá.
+	 * @param buffer referência do buffer contendo os dados para armazenar.
+	 * @return identificação do VBO no VAO, número do atributo usado.
+	 */
+
+	public int setAttribute(int index, int size, IntBuffer buffer)
+	{
+		VBO vbo = vbos.get(index);
+
+		if (vbo == null)
+			vbo = new VBO(ARRAY_BUFFER);
+
+		vbo.bind();
+		vbo.bufferData(buffer);
+		vbo.attribPointerInt(index, size);
+		vbo.unbind();
+
+		vbos.update(index, vbo);
+
+		return vbo.getID();
+	}
+
+	/**
+	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
+	 * O atributo que será usado será decidido automaticamente pelo OpenGL.
+	 * Para esse caso, os dados definidos será do tipo vetor de flutuantes.
+	 * @param index em qual índice será posicionado os dados (0 a 15).
+	 * @param size quantas unidades cada índice definido no VAO terá.
+	 * @param data referência do vetor contendo os dados para armazenar.
+	 * @return identificação do VBO no VAO, número do atributo usado.
+	 */
+
+	public int setAttribute(int index, int size, float data[])
+	{
+		return setAttribute(index, size, glStore(data));
+	}
+
+	/**
+	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
+	 * O atributo que será usado será decidido automaticamente pelo OpenGL.
+	 * Para esse caso, os dados definidos será do tipo vetor de flutuantes.
+	 * @param index em qual índice será posicionado os dados (0 a 15).
+	 * @param size quantas unidades cada índice definido no VAO terá.
+	 * @param buffer referência do buffer contendo os dados para armazenar.
+	 * @return identificação do VBO no VAO, número do atributo usado.
+	 */
+
+	public int setAttribute(int index, int size, FloatBuffer buffer)
+	{
+		VBO vbo = vbos.get(index);
+
+		if (vbo == null)
+			vbo = new VBO(ARRAY_BUFFER);
+
+		vbo.bind();
+		vbo.bufferData(buffer);
+		vbo.attribPointerFloat(index, size);
+		vbo.unbind();
+
+		vbos.update(index, vbo);
+
+		return vbo.getID();
+	}
+
+	/**
+	 * Deve adicionar uma nova quantidade de dados para um atributo do VAO.
+	 * Para esse caso, os dados são bytes interpretados conforme o tipo especificado,
+	 * permitindo atributos compactados como inteiros normalizados ou flutuantes de 16 bits.
+	 * @param index em qual índice será posicionado os dados (0 a 15).
+	 * @param size quantas unidades cada índice definido no VAO terá.
+	 * @param type tipo de dado OpenGL de cada unidade (<code>GL_UNSIGNED_SHORT</code>, <code>GL_HALF_FLOAT</code>...).
+	 * @param normalized valores inteiros devem ser convertidos para o intervalo [0, 1] ou [-1, 1].
+	 * @param stride quantidade de bytes ocupados pelos dados de cada vértice ou zero se compactados.
+	 * @param buffer referência do buffer contendo os dados para armazenar.
+	 * @return identificação do VBO no VAO, número do atributo usado.
+	 */
+
+	public int setAttribute(int index, int size, int type, boolean normalized, int stride, ByteBuffer buffer)
+	{
+		VBO vbo = vbos.get(index);
+
+		if (vbo == null)
+			vbo = new VBO(ARRAY_BUFFER);
+
+		vbo.bind();
+		vbo.bufferData(buffer);
+		vbo.attribPointer(index, size, type, normalized, stride, 0);
+		vbo.unbind();
+
+		vbos.update(index, vbo);
+
+		return vbo.getID();
+	}
+
+	/**
+	 * Deve adicionar dados de vários atributos do VAO intercalados em um único buffer.
+	 * Os dados de cada vértice ficam em sequência (por exemplo posição, coordenada UV e normal),
+	 * de modo que todos os atributos compartilhem o mesmo VBO e sejam lidos juntos pelo OpenGL.
+	 * @param indexes em quais índices serão posicionados os atributos (0 a 15).
+	 * @param sizes quantas unidades cada atributo terá por vértice, na mesma ordem dos índices.
+	 * @param offsets posição em bytes do primeiro dado de cada atributo dentro de um vértice.
+	 * @param stride quantidade de bytes ocupados pelos dados de cada vértice.
+	 * @param buffer referência do buffer contendo os dados intercalados para armazenar.
+	 * @return identificação do VBO compartilhado pelos atributos.
+	 */
+
+	public int setAttributes(int indexes[], int sizes[], int offsets[], int stride, FloatBuffer buffer)
+	{
+		if (indexes.length != sizes.length || indexes.length != offsets.length)
+			throw new ErakinRuntimeException("atributos intercalados incompletos (indexes: %d, sizes: %d, offsets: %d)", indexes.length, sizes.length, offsets.length);
+
+		VBO vbo = new VBO(ARRAY_BUFFER);
+		vbo.bind();
+		vbo.bufferData(buffer);
+
+		for (int i = 0; i < indexes.length; i++)
+		{
+			VBO old = vbos.get(indexes[i]);
+
+			if (old != null && old != vbo)
+				old.release();
+
+			vbo.attribPointerFloat(indexes[i], sizes[i], stride, offsets[i]);
+			vbos.update(indexes[i], vbo);
+		}
+
+		vbo.unbind();
+
+		return vbo.getID();
+	}
+
+	/**
+	 * Reserva o espaço de um VBO de índices sem definir os índices, que serão definidos em partes
+	 * através de <code>updateIndices</code>. Usado quando o VAO é compartilhado por várias modelagens.
+	 * @param count quantidade de índices (inteiros de 32 bits) que serão reservados.
+	 * @return aquisição da identificação do VBO dos índices.
+	 */
+
+	public int allocateIndices(int count)
+	{
+		if (indices != null)
+			indices.release();
+
+		indices = new VBO(ELEMENT_ARRAY_BUFFER);
+		indices.bind();
+		indices.bufferData((long) count * Integer.BYTES);
+
+		vertexCount = count;
+		indexType = GL_UNSIGNED_INT;
+
+		return indices.getID();
+	}
+
+	/**
+	 * Substitui parte dos índices de um VBO de índices reservado por <code>allocateIndices</code>.
+	 * @param first posição do primeiro índice que será substituído.
+	 * @param buffer referência do buffer contendo os novos índices.
+	 */
+
+	public void updateIndices(int first, IntBuffer buffer)
+	{
+		if (indices == null)
+			throw new ErakinRuntimeException("índices não reservados");
+
+		indices.bind();
+		indices.bufferSubData((long) first * Integer.BYTES, buffer);
+	}
+
+	/**
+	 * Reserva o espaço de um VBO de flutuantes para um atributo sem definir os seus dados, que serão
+	 * definidos em partes através de <code>updateAttribute</code>. Usado quando o VAO é compartilhado.
+	 * @param index em qual índice será posicionado os dados (0 a 15).
+	 * @param size quantas unidades cada vértice terá nesse atributo.
+	 * @param count quantidade de vértices que serão reservados.
+	 * @return identificação do VBO no VAO, número do atributo usado.
+	 */
+
+	public int allocateAttribute(int index, int size, int count)
+	{
+		VBO vbo = vbos.get(index);
+
+		if (vbo == null)
+			vbo = new VBO(ARRAY_BUFFER);
+
+		vbo.bind();
+		vbo.bufferData((long) count * size * Float.BYTES);
+		vbo.attribPointerFloat(index, size);
+		vbo.unbind();
+
+		vbos.update(index, vbo);
+
+		return vbo.getID();
+	}
+
+	/**
+	 * Substitui parte dos dados de um atributo reservado por <code>allocateAttribute</code>.
+	 * @param index índice do atributo que terá os dados substituídos.
+	 * @param size quantas unidades cada vértice possui nesse atributo.
+	 * @param first posição do primeiro vértice que será substituído.
+	 * @param buffer referência do buffer contendo os novos dados.
+	 */
+
+	public void updateAttribute(int index, int size, int first, FloatBuffer buffer)
+	{
+		VBO vbo = vbos.get(index);
+
+		if (vbo == null)
+			throw new ErakinRuntimeException("atributo não reservado (index: %d)", index);
+
+		vbo.bind();
+		vbo.bufferSubData((long) first * size * Float.BYTES, buffer);
+		vbo.unbind();
+	}
+
+	/**
+	 * A contagem de vértices permite que um VAO seja usado para ser desenhado na tela na renderização.
+	 * O OpenGL não identifica quantos vértices existem nos índices ou qual atributo é dos vértices.
+	 * @return aquisição da quantidade de vértices necessários para compor esse VAO.
+	 */
+
+	public int getVertexCount()
+	{
+		return vertexCount;
+	}
+
+	/**
+	 * A contagem de vértices permite que um VAO seja usado para ser desenhado na tela na renderização.
+	 * O OpenGL não identifica quantos vértices existem nos índices ou qual atributo é dos vértices.
+	 * @param vertexCount quantidade de vértices necessários para compor esse VAO.
+	 */
+
+	public void setVertexCount(int vertexCount)
+	{
+		this.vertexCount = vertexCount;
+	}
+
+	/**
+	 * O tipo dos índices determina quantos bytes cada índice ocupa no VBO dos índices.
+	 * @return aquisição do tipo de dado OpenGL dos índices (<code>GL_UNSIGNED_INT</code> ou <code>GL_UNSIGNED_SHORT</code>).
+	 */
+
+	public int getIndexType()
+	{
+		return indexType;
+	}
+
+	@Override
+	public void release()
+	{
+		unbind();
+
+		for (VBO vbo : vbos)
+			if (vbo != null && vbo.getID() != 0)
+				vbo.release();
+
+		if (indices != null)
+			indices.release();
+
+		glDeleteVertexArrays(id);
+
+		indices = null;
+		vbos = null;
+		id = 0;
+	}
+
+	@Override
+	public void bind()
+	{
+		glBindVertexArray(id);
+	}
+
+	@Override
+	public void unbind()
+	{
+		glBindVertexArray(UNBIND_CODE);
+	}
+
+	@Override
+	public boolean valid()
+	{
+		return id > 0 && glIsVertexArray(id);
+	}
+
+	/**
+	 * Habilita um vetor de vértices associados com o índice especificado do atributo.
+	 * Quando for habilitado significa que o OpenGL poderá usá-lo se for solicitado.
+	 * @param attribute índice do atributo no VAO do qual deverá ser habilitado.
+	 */
+
+	public void enable(int attribute)
+	{
+		glEnableVertexAttribArray(attribute);
+	}
+
+	/**
+	 * Desabilita um vetor de vértices associados com o índice especificado do atributo.
+	 * Quando for desabilitado significa que o OpenGL não poderá usá-lo se solicitado.
+	 * @param attribute índice do atributo no VAO do qual deverá ser desabilitado.
+	 */
+
+	public void disable(int attribute)
+	{
+		glDisableVertexAttribArray(attribute);
+	}
+
+	/**
+	 * Define uma sequência geométrica primitiva com todos os elementos armazenados em índice.
+	 * @param mode em que modo será feito o desenho do VAO quando solicitado para renderizar.
+	 * @see DrawElement
+	 */
+
+	public void draw(DrawElement mode)
+	{
+		if (indices != null)
+			glDrawElements(mode.getValue(), getVertexCount(), indexType, 0);
+		else
+			glDrawArrays(mode.getValue(), 0, getVertexCount());
+	}
+
+	/**
+	 * Define uma sequência geométrica primitiva com apenas parte dos elementos armazenados em índice.
+	 * Permite que um mesmo VAO armazene mais de uma sequência, como os níveis de detalhe de uma modelagem.
+	 * @param mode em que modo será feito o desenho do VAO quando solicitado para renderizar.
+	 * @param first posição do primeiro índice (ou vértice, se não houver índices) que será desenhado.
+	 * @param count quantidade de índices (ou vértices, se não houver índices) que serão desenhados.
+	 * @see DrawElement
+	 */
+
+	public void draw(DrawElement mode, int first, int count)
+	{
+		if (indices != null)
+			glDrawElements(mode.getValue(), count, indexType, first * (indexType == GL_UNSIGNED_SHORT ? Short.BYTES : Integer.BYTES));
+		else
+			glDrawArrays(mode.getValue(), first, count);
+	}
+
+	/**
+	 * Define uma sequência geométrica primitiva com parte dos elementos armazenados em índice,
+	 * onde cada índice é somado a um vértice base. Permite que várias modelagens compartilhem os mesmos VBOs
+	 * mantendo os seus índices relativos aos seus próprios vértices.
+	 * @param mode em que modo será feito o desenho do VAO quando solicitado para renderizar.
+	 * @param first posição do primeiro índice que será desenhado.
+	 * @param count quantidade de índices que serão desenhados.
+	 * @param baseVertex valor somado a cada índice antes de obter os dados dos vértices.
+	 * @see DrawElement
+	 */
+
+	public void draw(DrawElement mode, int first, int count, int baseVertex)
+	{
+		glDrawElementsBaseVertex(mode.getValue(), count, indexType, first * (indexType == GL_UNSIGNED_SHORT ? Short.BYTES : Integer.BYTES), baseVertex);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("id", id);
+		description.append("vbos", size(vbos));
+		description.append("vertexCount", vertexCount);
+
+		return description.toString();
+	}
+}
@@ -1,191 +1,293 @@
-package com.erakin.api.lwjgl;
-
-import static org.lwjgl.opengl.GL11.GL_FLOAT;
-import static org.lwjgl.opengl.GL11.GL_INT;
-import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
-import static org.lwjgl.opengl.GL15.GL_ELEMENT_ARRAY_BUFFER;
-import static org.lwjgl.opengl.GL15.GL_STATIC_DRAW;
-import static org.lwjgl.opengl.GL15.glBindBuffer;
-import static org.lwjgl.opengl.GL15.glBufferData;
-import static org.lwjgl.opengl.GL15.glDeleteBuffers;
-import static org.lwjgl.opengl.GL15.glGenBuffers;
-import static org.lwjgl.opengl.GL15.glIsBuffer;
-import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
-
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
-
-import org.diverproject.util.ObjectDescription;
-
-/**
- * Vertex-Buffer Object
- *
- * Um VAO detm vrios dados relacionados para uma coleo de vrtices.
- * Esses dados so armazenados em buffer e gerenciados pelo atual VAO.
- * O VAO pode armazenar mais do que um tipo de dado em seus atributos.
- *
- * VBO ir usar um buffer alocado pelo OpenGL para armazenar dados.
- * Esses buffer ter os dados alocados atravs do VAO conforme a necessidade.
- * Podendo ainda ser liberado da memria como vinculado para uso ou desvincular.
- *
- * <p><code>ARRAY_BUFFER</code>:  usado para definir dados no vetor de vrtices
- * para que possam utilizar <code>glVertexAttribPointer()</code>, opo que
- * dever vir a ser usado mais frequentemente do qualquer outra.</p>
- *
- * <p><code>ELEMENT_ARRAY_BUFFER</code>:  usado para definir contedo como ndices,
- * so usados por comandos de desenha por ndice como <code>glDrawElements()</code>.
- *
- * @author Andrew
- */
-
-public class VBO implements GLBind
-{
-	/**
-	 * Cdigo que ir determinar que o VBO ser dados atribudos.
-	 */
-	public static final byte ARRAY_BUFFER = 0;
-
-	/**
-	 * Cdigo que ir determinar que o VBO ser dados indexados.
-	 */
-	public static final byte ELEMENT_ARRAY_BUFFER = 1;
-
-	/**
-	 * Cdigo GL respectivo aos cdigos dos modos de 
-	 */
-	private static final int OPENGL_MODE[] = new int[]
-	{
-		GL_ARRAY_BUFFER,
-		GL_ELEMENT_ARRAY_BUFFER,
-	};
-
-	/**
-	 * Nome descritivo respectivos aos cdigos dos modos de 
-	 */
-	private static final String OPENGL_MODE_STRING[] = new String[]
-	{
-		"ARRAY_BUFFER",
-		"ELEMENT_ARRAY_BUFFER",
-	};
-
-	/**
-	 * Identificao do VBO no sistema OpenGL.
-	 */
-	private int id;
-
-	/**
-	 * Qual o modo utilizado por esse 
-	 */
-	private final byte mode;
-
-	/**
-	 * Constri um novo VBO a partir das informaes abaixo.
-	 * @param id identificao do VBO no sistema do OpenGL.
-	 * @param mode qual o modo desse VBO: <code>OPENGL_MODE</code>
-	 */
-
-	VBO(byte mode)
-	{
-		this.id = glGenBuffers();
-		this.mode = mode;
-	}
-
-	@Override
-	public int getID()
-	{
-		return id;
-	}
-
-	@Override
-	public void bind()
-	{
-		glBindBuffer(getMode(), id);
-	}
-
-	@Override
-	public void unbind()
-	{
-		glBindBuffer(getMode(), UNBIND_CODE);
-	}
-
-	@Override
-	public boolean valid()
-	{
-		return glIsBuffer(id);
-	}
-
-	@Override
-	public void release()
-	{
-		glDeleteBuffers(id);
-
-		id = 0;
-	}
-
-	/**
-	 * Cdigo de identificao do modo que esse VBO foi armazenado.
-	 * @return segue abaixo os modos que podem ser obtidos:<br>
-	 * <code>GL_ARRAY_BUFFER</code>: .<br>
-	 * <code>GL_ELEMENT_ARRAY_BUFFER</code>: .<br>
-	 */
-
-	public int getMode()
-	{
-		return OPENGL_MODE[mode];
-	}
-
-	/**
-	 * Esse procedimento ir definir quais sero os dados armazenados por esse VBO.
-	 * @param buffer referncia do buffer que contm os dados a compor o VBO.
-	 */
-
-	void bufferData(IntBuffer buffer)
-	{
-		glBufferData(getMode(), buffer, GL_STATIC_DRAW);
-	}
-
-	/**
-	 * Esse procedimento ir definir quais sero os dados armazenados por esse VBO.
-	 * @param buffer referncia do buffer que contm os dados a compor o VBO.
-	 */
-
-	void bufferData(FloatBuffer buffer)
-	{
-		glBufferData(getMode(), buffer, GL_STATIC_DRAW);
-	}
-
-	/**
-	 * Especifica onde o valor dos dados para cada atributo do vrtice com um ndice.
-	 * Nesse caso ser considerado o tipo de dados como nmeros inteiros, 4 bytes.
-	 * @param index qual ser o atributo do VAO em que esse VBO ser atribudo.
-	 * @param size quantos elementos cada ndice do VAO respectivo deve possuir.
-	 */
-
-	void attribPointerInt(int index, int size)
-	{
-		glVertexAttribPointer(index, size, GL_INT, false, 0, 0);
-	}
-
-	/**
-	 * Especifica onde o valor dos dados para cada atributo do vrtice com um ndice.
-	 * Nesse caso ser considerado o tipo de dados como nmeros flutuantes, 4 bytes.
-	 * @param index qual ser o atributo do VAO em que esse VBO ser atribudo.
-	 * @param size quantos elementos cada ndice do VAO respectivo deve possuir.
-	 */
-
-	void attribPointerFloat(int index, int size)
-	{
-		glVertexAttribPointer(index, size, GL_FLOAT, false, 0, 0);
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		description.append("id", id);
-		description.append("mode", OPENGL_MODE_STRING[mode]);
-
-		return description.toString();
-	}
-}
+package com.erakin.api.lwjgl;
+
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_INT;
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_ELEMENT_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_STATIC_DRAW;
+import static org.lwjgl.opengl.GL15.glBindBuffer;
+import static org.lwjgl.opengl.GL15.glBufferData;
+import static org.lwjgl.opengl.GL15.glBufferSubData;
+import static org.lwjgl.opengl.GL15.glDeleteBuffers;
+import static org.lwjgl.opengl.GL15.glGenBuffers;
+import static org.lwjgl.opengl.GL15.glIsBuffer;
+import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * Vertex-Buffer Object
+ *
+ * Um VAO detém vários dados relacionados para uma coleção de vértices.
+ * Esses dados são armazenados em buffer e gerenciados pelo atual VAO.
+ * O VAO pode armazenar mais do que um tipo de dado em seus atributos.
+ *
+ * VBO irá usar um buffer alocado pelo OpenGL para armazenar dados.
+ * Esses buffer terá os dados alocados através do VAO conforme a necessidade.
+ * Podendo ainda ser liberado da memória como vinculado para uso ou desvincular.
+ *
+ * <p><code>ARRAY_BUFFER</code>: é usado para definir dados no vetor de vértices
+ * para que possam utilizar <code>glVertexAttribPointer()</code>, opção que
+ * deverá vir a ser usado mais frequentemente do qualquer outra.</p>
+ *
+ * <p><code>ELEMENT_ARRAY_BUFFER</code>: é usado para definir conteúdo como índices,
+ * são usados por comandos de desenha por índice como <code>glDrawElements()</code>.
+ *
+ * @author Andrew
+ */
+
+public class VBO implements GLBind
+{
+	/**
+	 * Código que irá determinar que o VBO será dados atribuídos.
+	 */
+	public static final byte ARRAY_BUFFER = 0;
+
+	/**
+	 * Código que irá determinar que o VBO será dados indexados.
+	 */
+	public static final byte ELEMENT_ARRAY_BUFFER = 1;
+
+	/**
+	 * Código GL respectivo aos códigos dos modos de 
+	 */
+	private static final int OPENGL_MODE[] = new int[]
+	{
+		GL_ARRAY_BUFFER,
+		GL_ELEMENT_ARRAY_BUFFER,
+	};
+
+	/**
+	 * Nome descritivo respectivos aos códigos dos modos de 
+	 */
+	private static final String OPENGL_MODE_STRING[] = new String[]
+	{
+		"ARRAY_BUFFER",
+		"ELEMENT_ARRAY_BUFFER",
+	};
+
+	/**
+	 * Identificação do VBO no sistema OpenGL.
+	 */
+	private int id;
+
+	/**
+	 * Qual o modo utilizado por esse 
+	 */
+	private final byte mode;
+
+	/**
+	 * Constrói um novo VBO a partir das informações abaixo.
+	 * @param id identificação do VBO no sistema do OpenGL.
+	 * @param mode qual o modo desse VBO: <code>OPENGL_MODE</code>
+	 */
+
+	VBO(byte mode)
+	{
+		this.id = glGenBuffers();
+		this.mode = mode;
+	}
+
+	@Override
+	public int getID()
+	{
+		return id;
+	}
+
+	@Override
+	public void bind()
+	{
+		glBindBuffer(getMode(), id);
+	}
+
+	@Override
+	public void unbind()
+	{
+		glBindBuffer(getMode(), UNBIND_CODE);
+	}
+
+	@Override
+	public boolean valid()
+	{
+		return glIsBuffer(id);
+	}
+
+	@Override
+	public void release()
+	{
+		glDeleteBuffers(id);
+
+		id = 0;
+	}
+
+	/**
+	 * Código de identificação do modo que esse VBO foi armazenado.
+	 * @return segue abaixo os modos que podem ser obtidos:<br>
+	 * <code>GL_ARRAY_BUFFER</code>: .<br>
+	 * <code>GL_ELEMENT_ARRAY_BUFFER</code>: .<br>
+	 */
+
+	public int getMode()
+	{
+		return OPENGL_MODE[mode];
+	}
+
+	/**
+	 * Esse procedimento irá definir quais serão os dados armazenados por esse VBO.
+	 * @param buffer referência do buffer que contém os dados a compor o VBO.
+	 */
+
+	void bufferData(IntBuffer buffer)
+	{
+		glBufferData(getMode(), buffer, GL_STATIC_DRAW);
+	}
+
+	/**
+	 * Esse procedimento irá definir quais serão os dados armazenados por esse VBO.
+	 * @param buffer referência do buffer que contém os dados a compor o VBO.
+	 */
+
+	void bufferData(FloatBuffer buffer)
+	{
+		glBufferData(getMode(), buffer, GL_STATIC_DRAW);
+	}
+
+	/**
+	 * Esse procedimento irá definir quais serão os dados armazenados por esse VBO.
+	 * @param buffer referência do buffer que contém os dados a compor o VBO.
+	 */
+
+	void bufferData(ShortBuffer buffer)
+	{
+		glBufferData(getMode(), buffer, GL_STATIC_DRAW);
+	}
+
+	/**
+	 * Esse procedimento irá definir quais serão os dados armazenados por esse VBO.
+	 * @param buffer referência do buffer que contém os dados a compor o VBO.
+	 */
+
+	void bufferData(ByteBuffer buffer)
+	{
+		glBufferData(getMode(), buffer, GL_STATIC_DRAW);
+	}
+
+	/**
+	 * Esse procedimento irá reservar o espaço do VBO sem definir os dados armazenados,
+	 * que deverão ser definidos em partes através de <code>bufferSubData</code>.
+	 * @param size quantidade de bytes que serão reservados para o VBO.
+	 */
+
+	void bufferData(long size)
+	{
+		glBufferData(getMode(), size, GL_STATIC_DRAW);
+	}
+
+	/**
+	 * Esse procedimento irá substituir parte dos dados armazenados por esse VBO.
+	 * @param offset posição em bytes no VBO do primeiro dado que será substituído.
+	 * @param buffer referência do buffer que contém os novos dados.
+	 */
+
+	void bufferSubData(long offset, FloatBuffer buffer)
+	{
+		glBufferSubData(getMode(), offset, buffer);
+	}
+
+	/**
+	 * Esse procedimento irá substituir parte dos dados armazenados por esse VBO.
+	 * @param offset posição em bytes no VBO do primeiro dado que será substituído.
+	 * @param buffer referência do buffer que contém os novos dados.
+	 */
+
+	void bufferSubData(long offset, IntBuffer buffer)
+	{
+		glBufferSubData(getMode(), offset, buffer);
+	}
+
+	/**
+	 * Especifica onde o valor dos dados para cada atributo do vértice com um índice.
+	 * Nesse caso será considerado o tipo de dados como números inteiros, 4 bytes.
+	 * @param index qual será o atributo do VAO em que esse VBO será atribuído.
+	 * @param size quantos elementos cada índice do VAO respectivo deve possuir.
+	 */
+
+	void attribPointerInt(int index, int size)
+	{
+		attribPointerInt(index, size, 0, 0);
+	}
+
+	/**
+	 * Especifica onde o valor dos dados para cada atributo do vértice com um índice.
+	 * Nesse caso será considerado o tipo de dados como números inteiros, 4 bytes.
+	 * Usado quando mais de um atributo está intercalado no mesmo VBO.
+	 * @param index qual será o atributo do VAO em que esse VBO será atribuído.
+	 * @param size quantos elementos cada índice do VAO respectivo deve possuir.
+	 * @param stride distância em bytes entre os dados de dois vértices consecutivos ou zero se compactados.
+	 * @param offset posição em bytes do primeiro dado desse atributo dentro do VBO.
+	 */
+
+	void attribPointerInt(int index, int size, int stride, int offset)
+	{
+		glVertexAttribPointer(index, size, GL_INT, false, stride, offset);
+	}
+
+	/**
+	 * Especifica onde o valor dos dados para cada atributo do vértice com um índice.
+	 * Nesse caso será considerado o tipo de dados como números flutuantes, 4 bytes.
+	 * @param index qual será o atributo do VAO em que esse VBO será atribuído.
+	 * @param size quantos elementos cada índice do VAO respectivo deve possuir.
+	 */
+
+	void attribPointerFloat(int index, int size)
+	{
+		attribPointerFloat(index, size, 0, 0);
+	}
+
+	/**
+	 * Especifica onde o valor dos dados para cada atributo do vértice com um índice.
+	 * Nesse caso será considerado o tipo de dados como números flutuantes, 4 bytes.
+	 * Usado quando mais de um atributo está intercalado no mesmo VBO.
+	 * @param index qual será o atributo do VAO em que esse VBO será atribuído.
+	 * @param size quantos elementos cada índice do VAO respectivo deve possuir.
+	 * @param stride distância em bytes entre os dados de dois vértices consecutivos ou zero se compactados.
+	 * @param offset posição em bytes do primeiro dado desse atributo dentro do VBO.
+	 */
+
+	void attribPointerFloat(int index, int size, int stride, int offset)
+	{
+		glVertexAttribPointer(index, size, GL_FLOAT, false, stride, offset);
+	}
+
+	/**
+	 * Especifica onde o valor dos dados para cada atributo do vértice com um índice.
+	 * Nesse caso o tipo dos dados é especificado, permitindo atributos compactados.
+	 * @param index qual será o atributo do VAO em que esse VBO será atribuído.
+	 * @param size quantos elementos cada índice do VAO respectivo deve possuir.
+	 * @param type tipo de dado OpenGL dos elementos (<code>GL_UNSIGNED_SHORT</code>, <code>GL_HALF_FLOAT</code>...).
+	 * @param normalized valores inteiros devem ser convertidos para o intervalo [0, 1] ou [-1, 1].
+	 * @param stride distância em bytes entre os dados de dois vértices consecutivos ou zero se compactados.
+	 * @param offset posição em bytes do primeiro dado desse atributo dentro do VBO.
+	 */
+
+	void attribPointer(int index, int size, int type, boolean normalized, int stride, int offset)
+	{
+		glVertexAttribPointer(index, size, type, normalized, stride, offset);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("id", id);
+		description.append("mode", OPENGL_MODE_STRING[mode]);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,137 @@
+package com.erakin.api.lwjgl.math;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Matrix4f;
+
+/**
+ * <h1>Volume de Visão</h1>
+ *
+ * <p>Os seis planos (esquerda, direita, baixo, cima, perto e longe) que delimitam o que é visto pela câmera,
+ * extraídos de uma matriz de recorte (projeção * visão, opcionalmente * transformação). Quando a matriz
+ * inclui a transformação de uma entidade, os planos ficam no espaço da modelagem, permitindo testar os limites
+ * da modelagem sem transformá-los. Não acessa o OpenGL, portanto pode ser usado e testado sem um contexto.</p>
+ *
+ * <p>Cada plano é armazenado como <code>a * x + b * y + c * z + d</code> normalizado, onde valores
+ * positivos estão do lado de dentro do volume de visão.</p>
+ *
+ * @see Maths
+ *
+ * @author Andrew
+ */
+
+public class Frustum
+{
+	/**
+	 * Quantidade de planos que delimitam o volume de visão.
+	 */
+	public static final int PLANES = 6;
+
+	/**
+	 * Coeficientes (a, b, c, d) de cada plano em sequência.
+	 */
+	private final float planes[];
+
+	/**
+	 * Cria um novo volume de visão sem planos definidos, onde nada é considerado fora.
+	 */
+
+	public Frustum()
+	{
+		planes = new float[PLANES * 4];
+
+		for (int i = 0; i < PLANES; i++)
+			planes[i * 4 + 3] = Float.MAX_VALUE;
+	}
+
+	/**
+	 * Cria um novo volume de visão a partir de uma matriz de recorte.
+	 * @param matrix matriz de recorte: projeção * visão, opcionalmente * transformação.
+	 */
+
+	public Frustum(Matrix4f matrix)
+	{
+		this();
+		update(matrix);
+	}
+
+	/**
+	 * Atualiza os planos do volume de visão a partir de uma matriz de recorte (método de Gribb e Hartmann).
+	 * @param matrix matriz de recorte: projeção * visão, opcionalmente * transformação.
+	 */
+
+	public void update(Matrix4f matrix)
+	{
+		setPlane(0, matrix.m03 + matrix.m00, matrix.m13 + matrix.m10, matrix.m23 + matrix.m20, matrix.m33 + matrix.m30);
+		setPlane(1, matrix.m03 - matrix.m00, matrix.m13 - matrix.m10, matrix.m23 - matrix.m20, matrix.m33 - matrix.m30);
+		setPlane(2, matrix.m03 + matrix.m01, matrix.m13 + matrix.m11, matrix.m23 + matrix.m21, matrix.m33 + matrix.m31);
+		setPlane(3, matrix.m03 - matrix.m01, matrix.m13 - matrix.m11, matrix.m23 - matrix.m21, matrix.m33 - matrix.m31);
+		setPlane(4, matrix.m03 + matrix.m02, matrix.m13 + matrix.m12, matrix.m23 + matrix.m22, matrix.m33 + matrix.m32);
+		setPlane(5, matrix.m03 - matrix.m02, matrix.m13 - matrix.m12, matrix.m23 - matrix.m22, matrix.m33 - matrix.m32);
+	}
+
+	/**
+	 * Define os coeficientes de um dos planos, normalizando-os para que a distância seja na unidade do espaço.
+	 * @param plane índice do plano que será definido.
+	 * @param a coeficiente do eixo X.
+	 * @param b coeficiente do eixo Y.
+	 * @param c coeficiente do eixo Z.
+	 * @param d distância do plano até a origem.
+	 */
+
+	private void setPlane(int plane, float a, float b, float c, float d)
+	{
+		float length = (float) Math.sqrt(a * a + b * b + c * c);
+
+		if (length == 0)
+			length = 1;
+
+		planes[plane * 4] = a / length;
+		planes[plane * 4 + 1] = b / length;
+		planes[plane * 4 + 2] = c / length;
+		planes[plane * 4 + 3] = d / length;
+	}
+
+	/**
+	 * Calcula a distância de um ponto até um dos planos do volume de visão.
+	 * @param plane índice do plano entre 0 e <code>PLANES</code> (exclusivo).
+	 * @param x coordenada do ponto no eixo X.
+	 * @param y coordenada do ponto no eixo Y.
+	 * @param z coordenada do ponto no eixo Z.
+	 * @return aquisição da distância do ponto até o plano, positiva se estiver do lado de dentro.
+	 */
+
+	public float distance(int plane, float x, float y, float z)
+	{
+		return planes[plane * 4] * x + planes[plane * 4 + 1] * y + planes[plane * 4 + 2] * z + planes[plane * 4 + 3];
+	}
+
+	/**
+	 * Verifica se uma esfera está dentro ou cruza o volume de visão.
+	 * O teste é conservador: esferas próximas aos cantos podem ser consideradas visíveis sem estar.
+	 * @param x coordenada do centro da esfera no eixo X.
+	 * @param y coordenada do centro da esfera no eixo Y.
+	 * @param z coordenada do centro da esfera no eixo Z.
+	 * @param radius raio da esfera.
+	 * @return true se a esfera puder ser vista ou false se estiver totalmente fora.
+	 */
+
+	public boolean intersectsSphere(float x, float y, float z, float radius)
+	{
+		for (int i = 0; i < PLANES; i++)
+			if (distance(i, x, y, z) < -radius)
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		for (int i = 0; i < PLANES; i++)
+			description.append("plane" + i, String.format("%.2f, %.2f, %.2f, %.2f", planes[i * 4], planes[i * 4 + 1], planes[i * 4 + 2], planes[i * 4 + 3]));
+
+		return description.toString();
+	}
+}
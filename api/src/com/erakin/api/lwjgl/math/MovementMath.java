@@ -1,305 +1,305 @@
-package com.erakin.api.lwjgl.math;
-
-import org.diverproject.util.ObjectDescription;
-import org.lwjgl.util.vector.Vector3f;
-
-/**
- * <h1>Clculo de Movimento</h1>
- *
- * <p>Atravs dessa classe  possvel saber quanto um objeto se movimentou para cada uma das direes no espao (X, Y e Z).
- * Para isso  necessrio definir quais as direes do qual o objeto tentou se mover (cima, baixo, frente, trs, esquerda e direita).
- * Depois deve se chamar o mtodo que vai realizar o clculo da movimentao, sendo necessrio definir a distncia e guinada.</p>
- *
- * @author Andrew
- */
-
-public class MovementMath
-{
-	/**
-	 * Calcular o movimento para cima.
-	 */
-	private boolean up;
-
-	/**
-	 * Calcular o movimento para baixo.
-	 */
-	private boolean down;
-
-	/**
-	 * Calcular o movimento para frente.
-	 */
-	private boolean forward;
-
-	/**
-	 * Calcular o movimento para trs.
-	 */
-	private boolean behind;
-
-	/**
-	 * Calcular o movimento para esquerda.
-	 */
-	private boolean left;
-
-	/**
-	 * Calcular o movimento para direita.
-	 */
-	private boolean right;
-
-	/**
-	 * Vetor para definir a distncia da movimentao em cada eixo.
-	 */
-	private Vector3f movement;
-
-	/**
-	 * Cria uma nova instncia de um objeto que permite calcular a movimentao de um objeto no espao.
-	 * Inicializa o vetor que vai armazenar a distncia percorrida em cada eixo conforme preferncias.
-	 */
-
-	public MovementMath()
-	{
-		movement = new Vector3f();
-	}
-
-	/**
-	 * Procedimento interno usado para restabelecer o movimento com valor zerado.
-	 */
-
-	private void resetMovement()
-	{
-		movement.x = movement.y = movement.z = 0f;
-	}
-
-	/**
-	 * Realiza o clculo de movimentao de um objeto no espao considerando todas as possibilidades de movimentao.
-	 * Cria um vetor de dois pontos (float) internamente para determinar qual a distncia percorrida no movimento.
-	 * <i>OBS: aqui  usado os pontos X e Y, mas deve ser levado em considerao a orientao no espao usado.</i>
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 */
-
-	public void calcMovement(float distance, float yaw)
-	{
-		resetMovement();
-
-		if (forward)
-		{
-			movement.x += calcForwardMovementX(distance, yaw);
-			movement.z += calcForwardMovementZ(distance, yaw);
-		}
-
-		if (behind)
-		{
-			movement.x += calcBehindMovementX(distance, yaw);
-			movement.z += calcBehindMovementZ(distance, yaw);
-		}
-
-		if (left)
-		{
-			movement.x += calcLeftMovementX(distance, yaw);
-			movement.z += calcLeftMovementZ(distance, yaw);
-		}
-
-		if (right)
-		{
-			movement.x += calcRightMovementX(distance, yaw);
-			movement.z += calcRightMovementZ(distance, yaw);
-		}
-
-		movement.y += calcVerticalMovement(distance, up, down);
-	}
-
-	/**
-	 * Determina se durante o clculo de movimentao deve ser feito o de movimentao para cima.
-	 * @param up true se o objeto se moveu para cima ou false caso contrrio.
-	 */
-
-	public void setUp(boolean up)
-	{
-		this.up = up;
-	}
-
-	/**
-	 * Determina se durante o clculo de movimentao deve ser feito o de movimentao para baixo.
-	 * @param down true se o objeto se moveu para baixo ou false caso contrrio.
-	 */
-
-	public void setDown(boolean down)
-	{
-		this.down = down;
-	}
-
-	/**
-	 * Determina se durante o clculo de movimentao deve ser feito o de movimentao para frente.
-	 * @param forward true se o objeto se moveu para frente ou false caso contrrio.
-	 */
-
-	public void setForward(boolean forward)
-	{
-		this.forward = forward;
-	}
-
-	/**
-	 * Determina se durante o clculo de movimentao deve ser feito o de movimentao para trs.
-	 * @param behind true se o objeto se moveu para trs ou false caso contrrio.
-	 */
-
-	public void setBehind(boolean behind)
-	{
-		this.behind = behind;
-	}
-
-	/**
-	 * Determina se durante o clculo de movimentao deve ser feito o de movimentao para esquerda.
-	 * @param left true se o objeto se moveu para esquerda ou false caso contrrio.
-	 */
-
-	public void setLeft(boolean left)
-	{
-		this.left = left;
-	}
-
-	/**
-	 * Determina se durante o clculo de movimentao deve ser feito o de movimentao para direita.
-	 * @param right true se o objeto se moveu para direita ou false caso contrrio.
-	 */
-
-	public void setRight(boolean right)
-	{
-		this.right = right;
-	}
-
-	/**
-	 * Durante o clculo de movimentao do objeto no espao, os valores de distncia percorrida so armazenados.
-	 * @return aquisio do vetor contendo a distncia percorrida pelo objeto no espao em cada orientao.
-	 */
-
-	public Vector3f getMovement()
-	{
-		return movement;
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		return description.toString();
-	}
-
-	/**
-	 * Calcula o movimento de um objeto no espao quando est querendo se movimentar para frente.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 * @return aquisio da movimentao do objeto para frente no eixo X.
-	 */
-
-	public static float calcForwardMovementX(float distance, float yaw)
-	{
-		return distance * (float) Math.sin(Math.toRadians(yaw));
-	}
-
-	/**
-	 * Calcula o movimento de um objeto no espao quando est querendo se movimentar para frente.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 * @return aquisio da movimentao do objeto para frente no eixo Z.
-	 */
-
-	public static float calcForwardMovementZ(float distance, float yaw)
-	{
-		return -(distance * (float) Math.cos(Math.toRadians(yaw)));
-	}
-
-	/**
-	 * Calcula o movimento de um objeto no espao quando est querendo se movimentar para trs.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 * @return aquisio da movimentao do objeto para trs no eixo X.
-	 */
-
-	public static float calcBehindMovementX(float distance, float yaw)
-	{
-		return -(distance * (float) Math.sin(Math.toRadians(yaw)));
-	}
-
-	/**
-	 * Calcula o movimento de um objeto no espao quando est querendo se movimentar para trs.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 * @return aquisio da movimentao do objeto para trs no eixo Z.
-	 */
-
-	public static float calcBehindMovementZ(float distance, float yaw)
-	{
-		return distance * (float) Math.cos(Math.toRadians(yaw));
-	}
-
-	/**
-	 * Calcula o movimento de um objeto no espao quando est querendo se movimentar para esquerda.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 * @return aquisio da movimentao do objeto para esquerda no eixo X.
-	 */
-
-	public static float calcLeftMovementX(float distance, float yaw)
-	{
-		return -(distance * (float) Math.sin(Math.toRadians(yaw + 90)));
-	}
-
-	/**
-	 * Calcula o movimento de um objeto no espao quando est querendo se movimentar para esquerda.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 * @return aquisio da movimentao do objeto para esquerda no eixo Z.
-	 */
-
-	public static float calcLeftMovementZ(float distance, float yaw)
-	{
-		return distance * (float) Math.cos(Math.toRadians(yaw + 90));
-	}
-
-	/**
-	 * Calcula o movimento de um objeto no espao quando est querendo se movimentar para direita.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 * @return aquisio da movimentao do objeto para direita no eixo X.
-	 */
-
-	public static float calcRightMovementX(float distance, float yaw)
-	{
-		return -(distance * (float) Math.sin(Math.toRadians(yaw - 90)));
-	}
-
-	/**
-	 * Calcula o movimento de um objeto no espao quando est querendo se movimentar para direita.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param yaw posicionamento relativo de guinada da orientao de viso do objeto.
-	 * @return aquisio da movimentao do objeto para direita no eixo Z.
-	 */
-
-	public static float calcRightMovementZ(float distance, float yaw)
-	{
-		return distance * (float) Math.cos(Math.toRadians(yaw - 90));
-	}
-
-	/**
-	 * Realiza um clculo simples de movimentao de um objeto no espao, porm somente no eixo da vertical.
-	 * @param distance parmetro de distncia que determina quanto o objeto deve se movimentar.
-	 * @param up o objeto est tentando se movimentar para cima.
-	 * @param down o objeto est tentando se movimentar para baixo.
-	 * @return aquisio da movimentao do objeto no eixo da altitude.
-	 */
-
-	public static float calcVerticalMovement(float distance, boolean up, boolean down)
-	{
-		float movement = 0f;
-
-		if (up)
-			movement += distance;
-
-		if (down)
-			movement -= distance;
-
-		return movement;
-	}
-}
+package com.erakin.api.lwjgl.math;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Vector3f;
+
+/**
+ * <h1>Cálculo de Movimento</h1>
+ *
+ * <p>Através dessa classe é possível saber quanto um objeto se movimentou para cada uma das direções no espaço (X, Y e Z).
+ * Para isso é necessário definir quais as direções do qual o objeto tentou se mover (cima, baixo, frente, trás, esquerda e direita).
+ * Depois deve se chamar o método que vai realizar o cálculo da movimentação, sendo necessário definir a distância e guinada.</p>
+ *
+ * @author Andrew
+ */
+
+public class MovementMath
+{
+	/**
+	 * Calcular o movimento para cima.
+	 */
+	private boolean up;
+
+	/**
+	 * Calcular o movimento para baixo.
+	 */
+	private boolean down;
+
+	/**
+	 * Calcular o movimento para frente.
+	 */
+	private boolean forward;
+
+	/**
+	 * Calcular o movimento para trás.
+	 */
+	private boolean behind;
+
+	/**
+	 * Calcular o movimento para esquerda.
+	 */
+	private boolean left;
+
+	/**
+	 * Calcular o movimento para direita.
+	 */
+	private boolean right;
+
+	/**
+	 * Vetor para definir a distância da movimentação em cada eixo.
+	 */
+	private Vector3f movement;
+
+	/**
+	 * Cria uma nova instância de um objeto que permite calcular a movimentação de um objeto no espaço.
+	 * Inicializa o vetor que vai armazenar a distância percorrida em cada eixo conforme preferências.
+	 */
+
+	public MovementMath()
+	{
+		movement = new Vector3f();
+	}
+
+	/**
+	 * Procedimento interno usado para restabelecer o movimento com valor zerado.
+	 */
+
+	private void resetMovement()
+	{
+		movement.x = movement.y = movement.z = 0f;
+	}
+
+	/**
+	 * Realiza o cálculo de movimentação de um objeto no espaço considerando todas as possibilidades de movimentação.
+	 * Cria um vetor de dois pontos (float) internamente para determinar qual a distância percorrida no movimento.
+	 * <i>OBS: aqui é usado os pontos X e Y, mas deve ser levado em consideração a orientação no espaço usado.</i>
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 */
+
+	public void calcMovement(float distance, float yaw)
+	{
+		resetMovement();
+
+		if (forward)
+		{
+			movement.x += calcForwardMovementX(distance, yaw);
+			movement.z += calcForwardMovementZ(distance, yaw);
+		}
+
+		if (behind)
+		{
+			movement.x += calcBehindMovementX(distance, yaw);
+			movement.z += calcBehindMovementZ(distance, yaw);
+		}
+
+		if (left)
+		{
+			movement.x += calcLeftMovementX(distance, yaw);
+			movement.z += calcLeftMovementZ(distance, yaw);
+		}
+
+		if (right)
+		{
+			movement.x += calcRightMovementX(distance, yaw);
+			movement.z += calcRightMovementZ(distance, yaw);
+		}
+
+		movement.y += calcVerticalMovement(distance, up, down);
+	}
+
+	/**
+	 * Determina se durante o cálculo de movimentação deve ser feito o de movimentação para cima.
+	 * @param up true se o objeto se moveu para cima ou false caso contrário.
+	 */
+
+	public void setUp(boolean up)
+	{
+		this.up = up;
+	}
+
+	/**
+	 * Determina se durante o cálculo de movimentação deve ser feito o de movimentação para baixo.
+	 * @param down true se o objeto se moveu para baixo ou false caso contrário.
+	 */
+
+	public void setDown(boolean down)
+	{
+		this.down = down;
+	}
+
+	/**
+	 * Determina se durante o cálculo de movimentação deve ser feito o de movimentação para frente.
+	 * @param forward true se o objeto se moveu para frente ou false caso contrário.
+	 */
+
+	public void setForward(boolean forward)
+	{
+		this.forward = forward;
+	}
+
+	/**
+	 * Determina se durante o cálculo de movimentação deve ser feito o de movimentação para trás.
+	 * @param behind true se o objeto se moveu para trás ou false caso contrário.
+	 */
+
+	public void setBehind(boolean behind)
+	{
+		this.behind = behind;
+	}
+
+	/**
+	 * Determina se durante o cálculo de movimentação deve ser feito o de movimentação para esquerda.
+	 * @param left true se o objeto se moveu para esquerda ou false caso contrário.
+	 */
+
+	public void setLeft(boolean left)
+	{
+		this.left = left;
+	}
+
+	/**
+	 * Determina se durante o cálculo de movimentação deve ser feito o de movimentação para direita.
+	 * @param right true se o objeto se moveu para direita ou false caso contrário.
+	 */
+
+	public void setRight(boolean right)
+	{
+		this.right = right;
+	}
+
+	/**
+	 * Durante o cálculo de movimentação do objeto no espaço, os valores de distância percorrida são armazenados.
+	 * @return aquisição do vetor contendo a distância percorrida pelo objeto no espaço em cada orientação.
+	 */
+
+	public Vector3f getMovement()
+	{
+		return movement;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		return description.toString();
+	}
+
+	/**
+	 * Calcula o movimento de um objeto no espaço quando está querendo se movimentar para frente.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 * @return aquisição da movimentação do objeto para frente no eixo X.
+	 */
+
+	public static float calcForwardMovementX(float distance, float yaw)
+	{
+		return distance * (float) Math.sin(Math.toRadians(yaw));
+	}
+
+	/**
+	 * Calcula o movimento de um objeto no espaço quando está querendo se movimentar para frente.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 * @return aquisição da movimentação do objeto para frente no eixo Z.
+	 */
+
+	public static float calcForwardMovementZ(float distance, float yaw)
+	{
+		return -(distance * (float) Math.cos(Math.toRadians(yaw)));
+	}
+
+	/**
+	 * Calcula o movimento de um objeto no espaço quando está querendo se movimentar para trás.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 * @return aquisição da movimentação do objeto para trás no eixo X.
+	 */
+
+	public static float calcBehindMovementX(float distance, float yaw)
+	{
+		return -(distance * (float) Math.sin(Math.toRadians(yaw)));
+	}
+
+	/**
+	 * Calcula o movimento de um objeto no espaço quando está querendo se movimentar para trás.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 * @return aquisição da movimentação do objeto para trás no eixo Z.
+	 */
+
+	public static float calcBehindMovementZ(float distance, float yaw)
+	{
+		return distance * (float) Math.cos(Math.toRadians(yaw));
+	}
+
+	/**
+	 * Calcula o movimento de um objeto no espaço quando está querendo se movimentar para esquerda.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 * @return aquisição da movimentação do objeto para esquerda no eixo X.
+	 */
+
+	public static float calcLeftMovementX(float distance, float yaw)
+	{
+		return -(distance * (float) Math.sin(Math.toRadians(yaw + 90)));
+	}
+
+	/**
+	 * Calcula o movimento de um objeto no espaço quando está querendo se movimentar para esquerda.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 * @return aquisição da movimentação do objeto para esquerda no eixo Z.
+	 */
+
+	public static float calcLeftMovementZ(float distance, float yaw)
+	{
+		return distance * (float) Math.cos(Math.toRadians(yaw + 90));
+	}
+
+	/**
+	 * Calcula o movimento de um objeto no espaço quando está querendo se movimentar para direita.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 * @return aquisição da movimentação do objeto para direita no eixo X.
+	 */
+
+	public static float calcRightMovementX(float distance, float yaw)
+	{
+		return -(distance * (float) Math.sin(Math.toRadians(yaw - 90)));
+	}
+
+	/**
+	 * Calcula o movimento de um objeto no espaço quando está querendo se movimentar para direita.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param yaw posicionamento relativo de guinada da orientação de visão do objeto.
+	 * @return aquisição da movimentação do objeto para direita no eixo Z.
+	 */
+
+	public static float calcRightMovementZ(float distance, float yaw)
+	{
+		return distance * (float) Math.cos(Math.toRadians(yaw - 90));
+	}
+
+	/**
+	 * Realiza um cálculo simples de movimentação de um objeto no espaço, porém somente no eixo da vertical.
+	 * @param distance parâmetro de distância que determina quanto o objeto deve se movimentar.
+	 * @param up o objeto está tentando se movimentar para cima.
+	 * @param down o objeto está tentando se movimentar para baixo.
+	 * @return aquisição da movimentação do objeto no eixo da altitude.
+	 */
+
+	public static float calcVerticalMovement(float distance, boolean up, boolean down)
+	{
+		float movement = 0f;
+
+		if (up)
+			movement += distance;
+
+		if (down)
+			movement -= distance;
+
+		return movement;
+	}
+}
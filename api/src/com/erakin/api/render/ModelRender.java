@@ -1,54 +1,85 @@
-package com.erakin.api.render;
-
-import com.erakin.api.lwjgl.GLBind;
-import com.erakin.api.lwjgl.math.enumeration.DrawElement;
-import com.erakin.api.resources.texture.Texture;
-
-/**
- * <h1>Modelo Renderizvel</h1>
- *
- * <p>Objetos que implementem esta interface determina que o mesmo possui contedo suficiente para renderizar um modelo.
- * Dever implementar alguns mtodos bsicos que  utilizado por um renderizador de modelos padro da Engine.
- * Caso o renderizador no seja de base padro essa interface pode no ser suficiente para renderizar o modelo.</p>
- *
- * @see DrawElement
- *
- * @author Andrew
- */
-
-public interface ModelRender extends GLBind
-{
-	/**
-	 * Ao ser chamado ir acessar o VAO respectivo a essa modelagem e desenhar esta.
-	 * O resultado do desenhado varia de acordo com o tipo de computao grfica usado.
-	 * @param mode em que modo dever ser feito o desenho dos vrtices da modelagem.
-	 * @see DrawElement
-	 */
-
-	void draw(DrawElement mode);
-
-
-	/**
-	 * A textura do modelo possui informaes sobre uma imagem, usado para texturizar o modelo.
-	 * @return aquisio da textura que est sendo utilizada pelo modelo para texturizar.
-	 */
-
-	Texture getTexture();
-
-	/**
-	 * Refletividade indica o quanto a luz ser refletida quando atingir o objeto em questo (modelagem).
-	 * Esse reflexo varia ainda tambm com as variveis da luz como distncia e sua intensidade (fora).
-	 * @return aquisio do nvel da fora para refletir iluminaes atravs do brilho.
-	 */
-
-	float getReflectivity();
-
-	/**
-	 * Reduo do brilho  usado na computao grfica para reduzir o efeito da luz ao atingir um objeto.
-	 * Essa reduo possui duas variantes, a distncia da direo do reflexo em relao com a cmera,
-	 * e o nvel de reduo do brilho, quanto maior ambos os valores, menor ser o brilho refletido visto.
-	 * @return aquisio do nvel da reduo do brilho para iluminaes refletidas.
-	 */
-
-	float getShineDamping();
-}
+package com.erakin.api.render;
+
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.lwjgl.GLBind;
+import com.erakin.api.lwjgl.math.Maths;
+import com.erakin.api.lwjgl.math.enumeration.DrawElement;
+import com.erakin.api.resources.model.ModelBounds;
+import com.erakin.api.resources.texture.Texture;
+
+/**
+ * <h1>Modelo Renderizável</h1>
+ *
+ * <p>Objetos que implementem esta interface determina que o mesmo possui conteúdo suficiente para renderizar um modelo.
+ * Deverá implementar alguns métodos básicos que é utilizado por um renderizador de modelos padrão da Engine.
+ * Caso o renderizador não seja de base padrão essa interface pode não ser suficiente para renderizar o modelo.</p>
+ *
+ * @see DrawElement
+ *
+ * @author Andrew
+ */
+
+public interface ModelRender extends GLBind
+{
+	/**
+	 * Ao ser chamado irá acessar o VAO respectivo a essa modelagem e desenhar esta.
+	 * O resultado do desenhado varia de acordo com o tipo de computação gráfica usado.
+	 * @param mode em que modo deverá ser feito o desenho dos vértices da modelagem.
+	 * @see DrawElement
+	 */
+
+	void draw(DrawElement mode);
+
+
+	/**
+	 * A textura do modelo possui informações sobre uma imagem, usado para texturizar o modelo.
+	 * @return aquisição da textura que está sendo utilizada pelo modelo para texturizar.
+	 */
+
+	Texture getTexture();
+
+	/**
+	 * Refletividade indica o quanto a luz será refletida quando atingir o objeto em questão (modelagem).
+	 * Esse reflexo varia ainda também com as variáveis da luz como distância e sua intensidade (força).
+	 * @return aquisição do nível da força para refletir iluminações através do brilho.
+	 */
+
+	float getReflectivity();
+
+	/**
+	 * Redução do brilho é usado na computação gráfica para reduzir o efeito da luz ao atingir um objeto.
+	 * Essa redução possui duas variantes, a distância da direção do reflexo em relação com a câmera,
+	 * e o nível de redução do brilho, quanto maior ambos os valores, menor será o brilho refletido visto.
+	 * @return aquisição do nível da redução do brilho para iluminações refletidas.
+	 */
+
+	float getShineDamping();
+
+	/**
+	 * Os limites envolvem todos os vértices da modelagem no seu próprio espaço, antes de qualquer transformação.
+	 * Permitem que renderizadores descartem modelagens fora da visão e testes de colisão mais baratos.
+	 * @return aquisição da caixa e esfera delimitadoras da modelagem ou null se não houver.
+	 * @see ModelBounds
+	 */
+
+	ModelBounds getBounds();
+
+	/**
+	 * Modelagens compactadas armazenam as posições quantizadas entre 0 e 1 dentro da caixa delimitadora.
+	 * A posição real é obtida por <code>offset + posição * escala</code>, que deve ser aplicado apenas às posições
+	 * através de uma matriz separada da transformação ({@link Maths#createPositionMatrix}), não às normais.
+	 * @return aquisição do deslocamento das posições, zero se as posições não forem quantizadas.
+	 */
+
+	Vector3f getPositionOffset();
+
+	/**
+	 * Modelagens compactadas armazenam as posições quantizadas entre 0 e 1 dentro da caixa delimitadora.
+	 * A posição real é obtida por <code>offset + posição * escala</code>, que deve ser aplicado apenas às posições
+	 * através de uma matriz separada da transformação ({@link Maths#createPositionMatrix}), não às normais.
+	 * @return aquisição da escala das posições, um se as posições não forem quantizadas.
+	 */
+
+	Vector3f getPositionScale();
+}
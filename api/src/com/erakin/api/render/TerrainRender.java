@@ -1,94 +1,94 @@
-package com.erakin.api.render;
-
-import org.diverproject.util.collection.List;
-
-import com.erakin.api.resources.texture.Texture;
-
-/**
- * <h1>Terreno Renderizvel</h1>
- *
- * <p>Objetos que implementem esta interface determina que o mesmo possui contedo suficiente para renderizar um terreno.
- * Dever implementar alguns mtodos bsicos que  utilizado por um renderizador de terrenos padro da Engine.
- * Caso o renderizador no seja de base padro essa interface pode no ser suficiente para renderizar o terreno.</p>
- *
- * @see ModelRender
- * @see Texture
- *
- * @author Andrew
- */
-
-public interface TerrainRender
-{
-	/**
-	 * Terrenos so formados atravs de uma modelagem tri-dimensiona e usados para serem visualizados.
-	 * @return aquisio da modelagem tri-dimensional renderizvel respectiva a esse terreno.
-	 */
-
-	ModelRender getModel();
-
-	/**
-	 * Um mundo  formado por uma grande de terrenos, onde todos os terrenos possuem o mesmo tamanho.
-	 * Coordenadas de um terreno permitem saber em que posio da grade de terrenos ele se encontra.
-	 * @return aquisio da coordenada na longitude do terreno na grade de terrenos do mundo.
-	 */
-
-	int getX();
-
-	/**
-	 * Um mundo  formado por uma grande de terrenos, onde todos os terrenos possuem o mesmo tamanho.
-	 * Coordenadas de um terreno permitem saber em que posio da grade de terrenos ele se encontra.
-	 * @return aquisio da coordenada na latitude do terreno na grade de terrenos do mundo.
-	 */
-
-	int getZ();
-
-	/**
-	 * Terrenos so formados por diversas clulas (geralmente quadrados) formados por duas faces.
-	 * @return aquisio do tamanho do terreno em clulas no eixo da longitude.
-	 */
-
-	int getWidth();
-
-	/**
-	 * Terrenos so formados por diversas clulas (geralmente quadrados) formados por duas faces.
-	 * @return aquisio do tamanho do terreno em clulas no eixo da latitude.
-	 */
-
-	int getLength();
-
-	/**
-	 * Procedimento que permite obter o valor de altura do relevo em uma determinada posio do terreno.
-	 * As coordenadas so especificadas em float caso o terreno possua relevos dinmicos e no por unidade.
-	 * @param x coordenada em relao ao terreno no eixo da longitude.
-	 * @param z coordenada em relao ao terreno no eixo da latitude.
-	 * @return aquisio da altura de relevo do terreno nas coordenadas especificadas.
-	 */
-
-	float getHeightOfTerrain(float x, float z);
-
-	/**
-	 * Um terreno pode ser renderizado por mltiplas texturas e para isso  necessrio saber quais usar.
-	 * @return aquisio da lista com todas as texturas disponveis para texturizao do terreno.
-	 */
-
-	List<Texture> getTextures();
-
-	/**
-	 * Terrenos podem usar uma textura nica que permite visualiz-lo com cores que define sua altitude.
-	 * Por exemplo: o nvel mais baixo ter um tom azul em quanto o mais alto um tom vermelho.
-	 * Logo todos os nveis do terreno tero uma cor relativa ao seu nvel em degrad de azul e vermelho.
-	 * @return aquisio da textura que ir representar o nivelamento do terreno em degrad.
-	 */
-
-	Texture getHeightTexture();
-
-	/**
-	 * Um terreno pode ser renderizado utilizando dois tipos de texturas e para cada modo a lgica muda.
-	 * No primeiro modo apenas uma textura  vinculada e renderizada que  para visualizar a elevao do terreno.
-	 * Nesse caso, uma textura em degrad  usada, conforme o nvel do relevo ser usado um polo da textura.
-	 * No segundo modo, diversas texturas podem ser utilizadas, sendo necessrio outra forma de renderizao.
-	 * @return true se for para usar a textura de nvel de elevao do terreno ou false para texturas mltiplas.
-	 */
-
-	boolean isHeightTexture();
-}
+package com.erakin.api.render;
+
+import org.diverproject.util.collection.List;
+
+import com.erakin.api.resources.texture.Texture;
+
+/**
+ * <h1>Terreno Renderizável</h1>
+ *
+ * <p>Objetos que implementem esta interface determina que o mesmo possui conteúdo suficiente para renderizar um terreno.
+ * Deverá implementar alguns métodos básicos que é utilizado por um renderizador de terrenos padrão da Engine.
+ * Caso o renderizador não seja de base padrão essa interface pode não ser suficiente para renderizar o terreno.</p>
+ *
+ * @see ModelRender
+ * @see Texture
+ *
+ * @author Andrew
+ */
+
+public interface TerrainRender
+{
+	/**
+	 * Terrenos são formados através de uma modelagem tri-dimensiona e usados para serem visualizados.
+	 * @return aquisição da modelagem tri-dimensional renderizável respectiva a esse terreno.
+	 */
+
+	ModelRender getModel();
+
+	/**
+	 * Um mundo é formado por uma grande de terrenos, onde todos os terrenos possuem o mesmo tamanho.
+	 * Coordenadas de um terreno permitem saber em que posição da grade de terrenos ele se encontra.
+	 * @return aquisição da coordenada na longitude do terreno na grade de terrenos do mundo.
+	 */
+
+	int getX();
+
+	/**
+	 * Um mundo é formado por uma grande de terrenos, onde todos os terrenos possuem o mesmo tamanho.
+	 * Coordenadas de um terreno permitem saber em que posição da grade de terrenos ele se encontra.
+	 * @return aquisição da coordenada na latitude do terreno na grade de terrenos do mundo.
+	 */
+
+	int getZ();
+
+	/**
+	 * Terrenos são formados por diversas células (geralmente quadrados) formados por duas faces.
+	 * @return aquisição do tamanho do terreno em células no eixo da longitude.
+	 */
+
+	int getWidth();
+
+	/**
+	 * Terrenos são formados por diversas células (geralmente quadrados) formados por duas faces.
+	 * @return aquisição do tamanho do terreno em células no eixo da latitude.
+	 */
+
+	int getLength();
+
+	/**
+	 * Procedimento que permite obter o valor de altura do relevo em uma determinada posição do terreno.
+	 * As coordenadas são especificadas em float caso o terreno possua relevos dinâmicos e não por unidade.
+	 * @param x coordenada em relação ao terreno no eixo da longitude.
+	 * @param z coordenada em relação ao terreno no eixo da latitude.
+	 * @return aquisição da altura de relevo do terreno nas coordenadas especificadas.
+	 */
+
+	float getHeightOfTerrain(float x, float z);
+
+	/**
+	 * Um terreno pode ser renderizado por múltiplas texturas e para isso é necessário saber quais usar.
+	 * @return aquisição da lista com todas as texturas disponíveis para texturização do terreno.
+	 */
+
+	List<Texture> getTextures();
+
+	/**
+	 * Terrenos podem usar uma textura única que permite visualizá-lo com cores que define sua altitude.
+	 * Por exemplo: o nível mais baixo terá um tom azul em quanto o mais alto um tom vermelho.
+	 * Logo todos os níveis do terreno terão uma cor relativa ao seu nível em degradê de azul e vermelho.
+	 * @return aquisição da textura que irá representar o nivelamento do terreno em degradê.
+	 */
+
+	Texture getHeightTexture();
+
+	/**
+	 * Um terreno pode ser renderizado utilizando dois tipos de texturas e para cada modo a lógica muda.
+	 * No primeiro modo apenas uma textura é vinculada e renderizada que é para visualizar a elevação do terreno.
+	 * Nesse caso, uma textura em degradê é usada, conforme o nível do relevo será usado um polo da textura.
+	 * No segundo modo, diversas texturas podem ser utilizadas, sendo necessário outra forma de renderização.
+	 * @return true se for para usar a textura de nível de elevação do terreno ou false para texturas múltiplas.
+	 */
+
+	boolean isHeightTexture();
+}
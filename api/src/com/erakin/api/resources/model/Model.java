@@ -1,255 +1,463 @@
-package com.erakin.api.resources.model;
-
-import org.diverproject.util.FileUtil;
-import org.diverproject.util.ObjectDescription;
-
-import com.erakin.api.lwjgl.VAO;
-import com.erakin.api.lwjgl.math.enumeration.DrawElement;
-import com.erakin.api.render.ModelRender;
-import com.erakin.api.resources.Resource;
-import com.erakin.api.resources.ResourceFileLocation;
-import com.erakin.api.resources.texture.Texture;
-
-/**
- * <h1>Modelo</h1>
- *
- * <p>So estruturas em espao carregadas em disco para o engine e armazenadas no OpenGL.
- * Objetos desse tipo iro permitir que durante o desenvolvimento estas possam ser usadas.
- * Apesar do OpenGL oferecer essa possibilidade, o engine utiliza uma forma melhor.</p>
- *
- * <p>Essa forma melhor pode ser vista como a existncia da documentao no seu uso,
- * e obviamente o acesso mais rpido e compreensvel das funcionalidades do modelo.
- * Como um bnus permite determinar uma textura para ser usada junto ao modelo.</p>
- *
- * <p>Alm disso  um recurso fictcio, por tanto no possui informaes diretas.
- * A utilizao desse objeto permite uma utilizao de estruturas espaciais (modelagens)
- * de forma muito mais simplria e rpida, reduzindo cdigos e aumenta o entendimento.</p>
- *
- * @see Texture
- * @see Resource
- *
- * @author Andrew
- */
-
-public class Model extends Resource<ModelRoot> implements ModelRender, ResourceFileLocation
-{
-	/**
-	 * Textura que est sendo usada pelo modelo.
-	 */
-	private Texture texture;
-
-	/**
-	 * Nvel da fora para refletir iluminaes.
-	 */
-	float reflectivity;
-
-	/**
-	 * Nvel da reduo para brilhos refletidos.
-	 */
-	float shineDamping;
-
-	/**
-	 * Constri um novo modelo a partir de uma modelo raz especifica.
-	 * @param root modelo raz que ser usada para criar o modelo.
-	 */
-
-	Model(ModelRoot root)
-	{
-		super(root);
-
-		this.reflectivity = root.defaultReflectivity;
-		this.shineDamping = root.defaultShineDamping;
-	}
-
-	@Override
-	public Texture getTexture()
-	{
-		return texture;
-	}
-
-	/**
-	 * Permite definir qual ser a textura usada por esse modelo na renderizao.
-	 * Essa textura no pode ser usada por mais nenhum outro modelo ou objeto.
-	 * Quando esse modelo for liberado, a textura tambm ser, caso outro
-	 * objeto esteja usando essa mesma textura fictcia ser perdido tambm.
-	 * @param texture referncia da textura fictcia que ser usada.
-	 */
-
-	public void setTexture(Texture texture)
-	{
-		this.texture = texture;
-	}
-
-	/**
-	 * Contagem de vrtices determina quantos ndices existem no VAO desse modelo.
-	 * @return aquisio do nmero de vrtices nessa modelagem.
-	 */
-
-	public int getVertexCount()
-	{
-		return !valid() ? 0 : root.vao.getVertexCount();
-	}
-
-	@Override
-	public int getID()
-	{
-		VAO vao = root.vao;
-
-		return vao == null ? 0 : vao.getID();
-	}
-
-	@Override
-	public void bind()
-	{
-		if (!valid())
-			return;
-
-		root.vao.bind();
-
-		for (int attribute : root.attributes)
-			root.vao.enable(attribute);
-	}
-
-	@Override
-	public void unbind()
-	{
-		if (!valid())
-			return;
-
-		for (int attribute : root.attributes)
-			root.vao.disable(attribute);
-
-		root.vao.unbind();
-	}
-
-	@Override
-	public void draw(DrawElement mode)
-	{
-		root.vao.draw(mode);
-	}
-
-	@Override
-	public float getReflectivity()
-	{
-		return reflectivity;
-	}
-
-	/**
-	 * Aumentar a refletividade significa que as luzes que atingir a modelagem sero refletidas mais fortes.
-	 * Quanto mais forte for o reflexo mais intenso a modelagem ser sobreposta pela cor da luz refletida.
-	 * No ser aceito valores negativos, caso seja passado um, ser automaticamente ignorado pelo mtodo.
-	 * @param reflectivity novo nvel da fora para refletir iluminaes atravs do brilho.
-	 */
-
-	public void setReflectivity(float reflectivity)
-	{
-		if (reflectivity >= 0)
-			this.reflectivity = reflectivity;
-	}
-
-	/**
-	 * Uma modelagem utiliza o valor de refletividade padro de acordo com a modelagem raz referente.
-	 * Quando esse mtodo for chamado, ir pedir a raz o valor padro de refletividade e us-lo.
-	 */
-
-	public void restoreReflectivity()
-	{
-		this.reflectivity = root.defaultReflectivity;
-	}
-
-	@Override
-	public float getShineDamping()
-	{
-		return shineDamping;
-	}
-
-	/**
-	 * Aumentar a reduo do brilho significa que ser mais difcil notar o brilho obtido do reflexo da luz.
-	 * No ser aceito valores negativos, caso seja passado um, ser automaticamente ignorado pelo mtodo.
-	 * @param shineDamping novo nvel da fora para reduo do brilho para iluminaes refletidas.
-	 */
-
-	public void setShineDamping(float shineDamping)
-	{
-		if (shineDamping >= 0)
-			this.shineDamping = shineDamping;
-	}
-
-	/**
-	 * Uma modelagem utiliza o valor de reduo do brilho padro de acordo com a modelagem raz referente.
-	 * Quando esse mtodo for chamado, ir pedir a raz o valor padro de reduo do brilho e us-lo.
-	 */
-
-	public void restoreShineDamping()
-	{
-		this.reflectivity = root.defaultShineDamping;
-	}
-
-	@Override
-	public void release()
-	{
-		super.release();
-
-		if (texture != null)
-		{
-			texture.release();
-			texture = null;
-		}
-
-		root.delReference(this);
-	}
-
-	@Override
-	public boolean valid()
-	{
-		return root != null && root.isAlive() && root.vao != null;
-	}
-
-	@Override
-	public String getFileExtension()
-	{
-		return root.getFileExtension();
-	}
-
-	@Override
-	public String getFileName()
-	{
-		return root.getFileExtension();
-	}
-
-	@Override
-	public String getFileFullName()
-	{
-		return root.getFileFullName();
-	}
-
-	@Override
-	public String getFileDirectory()
-	{
-		return root.getFileDirectory();
-	}
-
-	@Override
-	public String getFilePath()
-	{
-		return root.getFilePath();
-	}
-
-	@Override
-	public Model clone()
-	{
-		return root.genResource();
-	}
-
-	@Override
-	public void toString(ObjectDescription description)
-	{
-		description.append("model", FileUtil.getFileName(root.getFilePath()));
-
-		if (texture != null)
-			description.append("texture", FileUtil.getFileName(texture.getFilePath()));
-
-		description.append("reflectivity", reflectivity);
-		description.append("shineDamping", shineDamping);
-	}
-}
+package com.erakin.api.resources.model;
+
+import org.diverproject.util.FileUtil;
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.lwjgl.VAO;
+import com.erakin.api.lwjgl.math.Frustum;
+import com.erakin.api.lwjgl.math.enumeration.DrawElement;
+import com.erakin.api.render.ModelRender;
+import com.erakin.api.resources.Resource;
+import com.erakin.api.resources.ResourceFileLocation;
+import com.erakin.api.resources.texture.Texture;
+
+/**
+ * <h1>Modelo</h1>
+ *
+ * <p>São estruturas em espaço carregadas em disco para o engine e armazenadas no OpenGL.
+ * Objetos desse tipo irão permitir que durante o desenvolvimento estas possam ser usadas.
+ * Apesar do OpenGL oferecer essa possibilidade, o engine utiliza uma forma melhor.</p>
+ *
+ * <p>Essa forma melhor pode ser vista como a existência da documentação no seu uso,
+ * e obviamente o acesso mais rápido e compreensível das funcionalidades do modelo.
+ * Como um bônus permite determinar uma textura para ser usada junto ao modelo.</p>
+ *
+ * <p>Além disso é um recurso fictício, por tanto não possui informações diretas.
+ * A utilização desse objeto permite uma utilização de estruturas espaciais (modelagens)
+ * de forma muito mais simplória e rápida, reduzindo códigos e aumenta o entendimento.</p>
+ *
+ * @see Texture
+ * @see Resource
+ *
+ * @author Andrew
+ */
+
+public class Model extends Resource<ModelRoot> implements ModelRender, ResourceFileLocation
+{
+	/**
+	 * Textura que está sendo usada pelo modelo.
+	 */
+	private Texture texture;
+
+	/**
+	 * Nível da força para refletir iluminações.
+	 */
+	float reflectivity;
+
+	/**
+	 * Nível da redução para brilhos refletidos.
+	 */
+	float shineDamping;
+
+	/**
+	 * Nível de detalhe que será usado ao desenhar a modelagem.
+	 */
+	private int level;
+
+	/**
+	 * Faixas de índices (posição e quantidade) dos agrupamentos visíveis em sequência.
+	 */
+	private int visibleRanges[];
+
+	/**
+	 * Quantidade de faixas de índices visíveis ou -1 se todos os agrupamentos devem ser desenhados.
+	 */
+	private int visibleCount;
+
+	/**
+	 * Constrói um novo modelo a partir de uma modelo raíz especifica.
+	 * @param root modelo raíz que será usada para criar o modelo.
+	 */
+
+	Model(ModelRoot root)
+	{
+		super(root);
+
+		this.reflectivity = root.defaultReflectivity;
+		this.shineDamping = root.defaultShineDamping;
+		this.visibleRanges = new int[0];
+		this.visibleCount = -1;
+	}
+
+	@Override
+	public Texture getTexture()
+	{
+		return texture;
+	}
+
+	/**
+	 * Permite definir qual será a textura usada por esse modelo na renderização.
+	 * Essa textura não pode ser usada por mais nenhum outro modelo ou objeto.
+	 * Quando esse modelo for liberado, a textura também será, caso outro
+	 * objeto esteja usando essa mesma textura fictícia será perdido também.
+	 * @param texture referência da textura fictícia que será usada.
+	 */
+
+	public void setTexture(Texture texture)
+	{
+		this.texture = texture;
+	}
+
+	/**
+	 * Contagem de vértices determina quantos índices existem no VAO desse modelo.
+	 * Modelos armazenados em um lote compartilham o VAO, portanto usam apenas a sua faixa de índices.
+	 * @return aquisição do número de vértices nessa modelagem.
+	 */
+
+	public int getVertexCount()
+	{
+		if (!valid())
+			return 0;
+
+		return root.batch != null ? root.indexCount : root.vao.getVertexCount();
+	}
+
+	@Override
+	public Vector3f getPositionOffset()
+	{
+		return root.positionOffset;
+	}
+
+	@Override
+	public Vector3f getPositionScale()
+	{
+		return root.positionScale;
+	}
+
+	@Override
+	public ModelBounds getBounds()
+	{
+		return root.bounds;
+	}
+
+	/**
+	 * Modelagens carregadas com níveis de detalhe armazenam versões simplificadas dos seus triângulos,
+	 * que utilizam os mesmos vértices e podem ser desenhadas no lugar da modelagem completa quando distantes.
+	 * @return aquisição da quantidade de níveis de detalhe, sempre ao menos um (detalhe máximo).
+	 */
+
+	public int getLevelOfDetailCount()
+	{
+		return Math.max(1, root.levelCount.length);
+	}
+
+	/**
+	 * O nível zero corresponde ao detalhe máximo, quanto maior o nível menos triângulos serão desenhados.
+	 * @return aquisição do nível de detalhe que será usado ao desenhar a modelagem.
+	 */
+
+	public int getLevelOfDetail()
+	{
+		return level;
+	}
+
+	/**
+	 * Permite definir manualmente qual nível de detalhe será usado ao desenhar a modelagem.
+	 * Níveis inexistentes são limitados ao menor ou maior nível de detalhe disponível.
+	 * @param level nível de detalhe, sendo zero o detalhe máximo.
+	 */
+
+	public void setLevelOfDetail(int level)
+	{
+		this.level = Math.max(0, Math.min(level, getLevelOfDetailCount() - 1));
+	}
+
+	/**
+	 * Seleciona o nível de detalhe de acordo com a distância em que a modelagem será desenhada,
+	 * usando o nível de menor detalhe cuja distância mínima tenha sido atingida.
+	 * @param distance distância entre a câmera e o objeto que usa a modelagem.
+	 * @see ModelRoot#setLevelOfDetailDistances(float...)
+	 */
+
+	public void selectLevelOfDetail(float distance)
+	{
+		level = 0;
+
+		for (int i = 1; i < root.levelDistances.length; i++)
+			if (distance >= root.levelDistances[i])
+				level = i;
+	}
+
+	/**
+	 * Modelagens carregadas com agrupamentos de triângulos podem descartar partes do nível de detalhe máximo
+	 * que estejam fora da visão ou de costas para a câmera, desenhando apenas as faixas de índices visíveis.
+	 * @return aquisição dos agrupamentos de triângulos, vazio se não houver.
+	 * @see ModelLoader#setMeshlets(boolean)
+	 */
+
+	public ModelMeshlet[] getMeshlets()
+	{
+		return root.meshlets;
+	}
+
+	/**
+	 * Seleciona os agrupamentos de triângulos que serão desenhados no nível de detalhe máximo,
+	 * juntando agrupamentos visíveis em sequência para desenhá-los em uma única faixa de índices.
+	 * A câmera e o volume de visão devem estar no espaço da modelagem (antes da transformação da entidade).
+	 * @param frustum volume de visão no espaço da modelagem ou null para descartar apenas pelas normais.
+	 * @param cameraX coordenada da câmera no eixo X, no espaço da modelagem.
+	 * @param cameraY coordenada da câmera no eixo Y, no espaço da modelagem.
+	 * @param cameraZ coordenada da câmera no eixo Z, no espaço da modelagem.
+	 * @return aquisição da quantidade de agrupamentos visíveis.
+	 */
+
+	public int selectMeshlets(Frustum frustum, float cameraX, float cameraY, float cameraZ)
+	{
+		ModelMeshlet meshlets[] = root.meshlets;
+
+		if (meshlets.length == 0)
+			return 0;
+
+		if (visibleRanges.length < meshlets.length * 2)
+			visibleRanges = new int[meshlets.length * 2];
+
+		int visible = 0;
+		visibleCount = 0;
+
+		for (ModelMeshlet meshlet : meshlets)
+		{
+			if (!meshlet.isVisible(frustum, cameraX, cameraY, cameraZ))
+				continue;
+
+			int last = (visibleCount - 1) * 2;
+
+			if (visibleCount > 0 && visibleRanges[last] + visibleRanges[last + 1] == meshlet.getFirstIndex())
+				visibleRanges[last + 1] += meshlet.getIndexCount();
+			else
+			{
+				visibleRanges[visibleCount * 2] = meshlet.getFirstIndex();
+				visibleRanges[visibleCount * 2 + 1] = meshlet.getIndexCount();
+				visibleCount++;
+			}
+
+			visible++;
+		}
+
+		return visible;
+	}
+
+	/**
+	 * Remove a seleção de agrupamentos de triângulos, voltando a desenhar a modelagem por completo.
+	 */
+
+	public void resetMeshlets()
+	{
+		visibleCount = -1;
+	}
+
+	/**
+	 * Após selecionar os agrupamentos, as faixas visíveis são desenhadas apenas no nível de detalhe máximo.
+	 * @return aquisição da quantidade de faixas de índices que serão desenhadas ou -1 se não houver seleção.
+	 */
+
+	public int getVisibleRangeCount()
+	{
+		return visibleCount;
+	}
+
+	@Override
+	public int getID()
+	{
+		VAO vao = root.vao;
+
+		return vao == null ? 0 : vao.getID();
+	}
+
+	@Override
+	public void bind()
+	{
+		if (!valid())
+			return;
+
+		root.vao.bind();
+
+		for (int attribute : root.attributes)
+			root.vao.enable(attribute);
+	}
+
+	@Override
+	public void unbind()
+	{
+		if (!valid())
+			return;
+
+		for (int attribute : root.attributes)
+			root.vao.disable(attribute);
+
+		root.vao.unbind();
+	}
+
+	@Override
+	public void draw(DrawElement mode)
+	{
+		if (visibleCount >= 0 && level == 0 && root.meshlets.length > 0)
+		{
+			for (int i = 0; i < visibleCount; i++)
+				if (root.batch != null)
+					root.vao.draw(mode, root.firstIndex + visibleRanges[i * 2], visibleRanges[i * 2 + 1], root.baseVertex);
+				else
+					root.vao.draw(mode, visibleRanges[i * 2], visibleRanges[i * 2 + 1]);
+		}
+
+		else if (root.batch != null)
+		{
+			if (root.levelCount.length == 0)
+				root.vao.draw(mode, root.firstIndex, root.indexCount, root.baseVertex);
+			else
+				root.vao.draw(mode, root.firstIndex + root.levelFirst[level], root.levelCount[level], root.baseVertex);
+		}
+
+		else if (root.levelCount.length == 0)
+			root.vao.draw(mode);
+		else
+			root.vao.draw(mode, root.levelFirst[level], root.levelCount[level]);
+	}
+
+	@Override
+	public float getReflectivity()
+	{
+		return reflectivity;
+	}
+
+	/**
+	 * Aumentar a refletividade significa que as luzes que atingir a modelagem serão refletidas mais fortes.
+	 * Quanto mais forte for o reflexo mais intenso a modelagem será sobreposta pela cor da luz refletida.
+	 * Não será aceito valores negativos, caso seja passado um, será automaticamente ignorado pelo método.
+	 * @param reflectivity novo nível da força para refletir iluminações através do brilho.
+	 */
+
+	public void setReflectivity(float reflectivity)
+	{
+		if (reflectivity >= 0)
+			this.reflectivity = reflectivity;
+	}
+
+	/**
+	 * Uma modelagem utiliza o valor de refletividade padrão de acordo com a modelagem raíz referente.
+	 * Quando esse método for chamado, irá pedir a raíz o valor padrão de refletividade e usá-lo.
+	 */
+
+	public void restoreReflectivity()
+	{
+		this.reflectivity = root.defaultReflectivity;
+	}
+
+	@Override
+	public float getShineDamping()
+	{
+		return shineDamping;
+	}
+
+	/**
+	 * Aumentar a redução do brilho significa que será mais difícil notar o brilho obtido do reflexo da luz.
+	 * Não será aceito valores negativos, caso seja passado um, será automaticamente ignorado pelo método.
+	 * @param shineDamping novo nível da força para redução do brilho para iluminações refletidas.
+	 */
+
+	public void setShineDamping(float shineDamping)
+	{
+		if (shineDamping >= 0)
+			this.shineDamping = shineDamping;
+	}
+
+	/**
+	 * Uma modelagem utiliza o valor de redução do brilho padrão de acordo com a modelagem raíz referente.
+	 * Quando esse método for chamado, irá pedir a raíz o valor padrão de redução do brilho e usá-lo.
+	 */
+
+	public void restoreShineDamping()
+	{
+		this.reflectivity = root.defaultShineDamping;
+	}
+
+	/**
+	 * @return aquisição da modelagem raíz dessa referência ou null se já tiver sido liberada.
+	 */
+
+	ModelRoot getRoot()
+	{
+		return root;
+	}
+
+	/**
+	 * Libera apenas essa referência da modelagem, a raíz continua no carregador até o fim do seu tempo de vida
+	 * ou até ser descarregada por {@link ModelLoader#unload(Model)}. A raíz é desvinculada antes de remover a
+	 * referência, para que a liberação da raíz (que libera todas as referências) não chame esse método novamente.
+	 */
+
+	@Override
+	public void release()
+	{
+		if (root == null)
+			return;
+
+		ModelRoot released = root;
+		root = null;
+
+		if (texture != null)
+		{
+			texture.release();
+			texture = null;
+		}
+
+		released.delReference(this);
+	}
+
+	@Override
+	public boolean valid()
+	{
+		return root != null && root.isAlive() && root.vao != null;
+	}
+
+	@Override
+	public String getFileExtension()
+	{
+		return root.getFileExtension();
+	}
+
+	@Override
+	public String getFileName()
+	{
+		return root.getFileExtension();
+	}
+
+	@Override
+	public String getFileFullName()
+	{
+		return root.getFileFullName();
+	}
+
+	@Override
+	public String getFileDirectory()
+	{
+		return root.getFileDirectory();
+	}
+
+	@Override
+	public String getFilePath()
+	{
+		return root.getFilePath();
+	}
+
+	@Override
+	public Model clone()
+	{
+		return root.genResource();
+	}
+
+	@Override
+	public void toString(ObjectDescription description)
+	{
+		description.append("model", FileUtil.getFileName(root.getFilePath()));
+
+		if (texture != null)
+			description.append("texture", FileUtil.getFileName(texture.getFilePath()));
+
+		description.append("reflectivity", reflectivity);
+		description.append("shineDamping", shineDamping);
+
+		if (root.levelCount.length > 0)
+			description.append("level", level);
+	}
+}
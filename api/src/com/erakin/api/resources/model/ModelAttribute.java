@@ -1,79 +1,95 @@
-package com.erakin.api.resources.model;
-
-import com.erakin.api.lwjgl.VAO;
-import com.erakin.api.resources.shader.Shader;
-
-/**
- * <h1>Atributo para Modelo</h1>
- *
- * <p>Um atributo do modelo contm informaes necessrias para que sua renderizao seja feita corretamente.
- * Por exemplo, a posio dos vrtices representa um atributo em quanto as coordenadas de textura outro.
- * Para definir um atributo primeiro  necessrio especificar a posio do atributo e tamanho da informao.</p>
- *
- * @see VAO
- *
- * @author Andrew
- */
-
-public interface ModelAttribute
-{
-	/**
-	 * ndice que define um atributo para identificao do posicionamento dos vrtices.
-	 */
-	public static final int ATTRIB_VERTEX = 0;
-
-	/**
-	 * ndice que define um atributo para identificao das coordenadas de texturas.
-	 */
-	public static final int ATTRIB_UV_TEXTURE = 1;
-
-	/**
-	 * ndice que define um atributo para identificao da normalizao.
-	 */
-	public static final int ATTRIB_NORMAL = 2;
-
-	/**
-	 * ndice que define um atributo para identificao de textura por vrtice.
-	 */
-	public static final int ATTRIB_TEXTURES = 3;
-
-
-	/**
-	 * Atravs do ndice um {@link Shader} sabe qual atributo  atribudo a cada varivel de entrada no programa de vrtices.
-	 * Para cada modelo  possvel definir at 16 atributos diferentes do qual cada um s deve armazenar um tipo de informao.
-	 * @return aquisio do ndice que identifica 
-	 */
-
-	int getIndex();
-
-	/**
-	 * O comprimento do atributo determina quantos dados so necessrios para completar as informaes do atributo.
-	 * Esse comprimento est relacionado a quantidade de vrtices do modelo, mas no necessariamente ao seu total.
-	 * @return aquisio da quantidade de dados armazenados no atributo.
-	 */
-
-	int length();
-
-	/**
-	 * O tamanho do atributo determina como o {@link Shader} ir receber o atributo como entrada no programa de vrtices.
-	 * Quando o tamanho do atributo for um ser um valor primitivo, dois define um vetor de dois e assim em diante.
-	 * @return aquisio da quantidade da valores necessrio para formar cada dado respectivo ao vrtice.
-	 */
-
-	int size();
-
-	/**
-	 * Procedimento usado por {@link ModelLoader} para salvar os valores desse atributo dentro de um {@link VAO}.
-	 * Assim, cada tipo de atributo poder especificar o tipo do atributo dinamicamente e quanto valores distintos.
-	 * @param vao intermedirio para referenciar um objeto de vetor de vrtices do qual ser atribudo os valores.
-	 */
-
-	void storeInVAO(VAO vao);
-
-	/**
-	 * Procedimento chamado para liberar as informaes temporrias de dados do modelo.
-	 * Neste ponto o modelo j foi carregado no OpenGL, portanto os dados no so mais necessrios.
-	 */
-
-	void release();
-}
+package com.erakin.api.resources.model;
+
+import com.erakin.api.lwjgl.VAO;
+import com.erakin.api.resources.shader.Shader;
+
+/**
+ * <h1>Atributo para Modelo</h1>
+ *
+ * <p>Um atributo do modelo contém informações necessárias para que sua renderização seja feita corretamente.
+ * Por exemplo, a posição dos vértices representa um atributo em quanto as coordenadas de textura outro.
+ * Para definir um atributo primeiro é necessário especificar a posição do atributo e tamanho da informação.</p>
+ *
+ * @see VAO
+ *
+ * @author Andrew
+ */
+
+public interface ModelAttribute
+{
+	/**
+	 * Índice que define um atributo para identificação do posicionamento dos vértices.
+	 */
+	public static final int ATTRIB_VERTEX = 0;
+
+	/**
+	 * Índice que define um atributo para identificação das coordenadas de texturas.
+	 */
+	public static final int ATTRIB_UV_TEXTURE = 1;
+
+	/**
+	 * Índice que define um atributo para identificação da normalização.
+	 */
+	public static final int ATTRIB_NORMAL = 2;
+
+	/**
+	 * Índice que define um atributo para identificação de textura por vértice.
+	 */
+	public static final int ATTRIB_TEXTURES = 3;
+
+
+	/**
+	 * Através do índice um {@link Shader} sabe qual atributo é atribuído a cada variável de entrada no programa de vértices.
+	 * Para cada modelo é possível definir até 16 atributos diferentes do qual cada um só deve armazenar um tipo de informação.
+	 * @return aquisição do índice que identifica 
+	 */
+
+	int getIndex();
+
+	/**
+	 * O comprimento do atributo determina quantos dados são necessários para completar as informações do atributo.
+	 * Esse comprimento está relacionado a quantidade de vértices do modelo, mas não necessariamente ao seu total.
+	 * @return aquisição da quantidade de dados armazenados no atributo.
+	 */
+
+	int length();
+
+	/**
+	 * O tamanho do atributo determina como o {@link Shader} irá receber o atributo como entrada no programa de vértices.
+	 * Quando o tamanho do atributo for um será um valor primitivo, dois define um vetor de dois e assim em diante.
+	 * @return aquisição da quantidade da valores necessário para formar cada dado respectivo ao vértice.
+	 */
+
+	int size();
+
+	/**
+	 * O tipo dos valores determina como o OpenGL irá interpretar os dados do atributo armazenados no {@link VAO}.
+	 * Atributos compactados utilizam tipos menores que números flutuantes para reduzir o consumo de memória.
+	 * @return aquisição do tipo de dado OpenGL dos valores (<code>GL_FLOAT</code>, <code>GL_UNSIGNED_SHORT</code>...).
+	 */
+
+	int getType();
+
+	/**
+	 * Valores inteiros normalizados são convertidos pelo OpenGL para o intervalo [0, 1] (sem sinal) ou [-1, 1] (com sinal)
+	 * antes de chegarem ao {@link Shader}, caso contrário são convertidos diretamente para números flutuantes.
+	 * @return true se os valores são normalizados ou false caso contrário.
+	 */
+
+	boolean isNormalized();
+
+	/**
+	 * Procedimento usado por {@link ModelLoader} para salvar os valores desse atributo dentro de um {@link VAO}.
+	 * Assim, cada tipo de atributo poderá especificar o tipo do atributo dinamicamente e quanto valores distintos.
+	 * @param vao intermediário para referenciar um objeto de vetor de vértices do qual será atribuído os valores.
+	 */
+
+	void storeInVAO(VAO vao);
+
+	/**
+	 * Procedimento chamado para liberar as informações temporárias de dados do modelo.
+	 * Neste ponto o modelo já foi carregado no OpenGL, portanto os dados não são mais necessários.
+	 */
+
+	void release();
+}
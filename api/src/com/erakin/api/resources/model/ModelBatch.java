@@ -0,0 +1,232 @@
+package com.erakin.api.resources.model;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.lwjgl.BufferAllocator;
+import com.erakin.api.lwjgl.VAO;
+
+/**
+ * <h1>Lote de Modelagens</h1>
+ *
+ * <p>Armazena várias modelagens estáticas com o mesmo formato de vértices em um único VAO, com um VBO grande
+ * para cada atributo e um único VBO de índices. Desta forma desenhar modelagens diferentes do mesmo lote não exige
+ * trocar de VAO, apenas desenhar outra faixa de índices, base para agrupar desenhos de várias modelagens.</p>
+ *
+ * <p>O espaço dos VBOs é dividido através de um {@link BufferAllocator} para os vértices e outro para os índices.
+ * Cada modelagem guarda a posição do seu primeiro vértice (vértice base) e dos seus índices, que continuam
+ * relativos aos seus próprios vértices e são desenhados através de <code>glDrawElementsBaseVertex</code>.
+ * Quando uma modelagem é liberada o seu espaço volta a ficar livre para novas modelagens.</p>
+ *
+ * @see ModelLoader
+ * @see BufferAllocator
+ *
+ * @author Andrew
+ */
+
+public class ModelBatch
+{
+	/**
+	 * VAO compartilhado por todas as modelagens do lote.
+	 */
+	private VAO vao;
+
+	/**
+	 * Índices dos atributos que formam o formato dos vértices.
+	 */
+	private int indexes[];
+
+	/**
+	 * Quantidade de valores de cada atributo por vértice.
+	 */
+	private int sizes[];
+
+	/**
+	 * Alocador do espaço dos vértices nos VBOs de atributos.
+	 */
+	private BufferAllocator vertices;
+
+	/**
+	 * Alocador do espaço dos índices no VBO de índices.
+	 */
+	private BufferAllocator indices;
+
+	/**
+	 * Cria um novo lote de modelagens, reservando no OpenGL o espaço de todos os VBOs.
+	 * @param indexes índices dos atributos que formam o formato dos vértices, como <code>ATTRIB_VERTEX</code>.
+	 * @param sizes quantidade de valores de cada atributo por vértice, na mesma ordem dos índices.
+	 * @param vertexCapacity quantidade máxima de vértices somando todas as modelagens do lote.
+	 * @param indexCapacity quantidade máxima de índices somando todas as modelagens do lote.
+	 */
+
+	public ModelBatch(int indexes[], int sizes[], int vertexCapacity, int indexCapacity)
+	{
+		if (indexes.length == 0 || indexes.length != sizes.length)
+			throw new ModelRuntimeException("formato de vértices inválido (indexes: %d, sizes: %d)", indexes.length, sizes.length);
+
+		this.indexes = indexes.clone();
+		this.sizes = sizes.clone();
+		this.vertices = new BufferAllocator(vertexCapacity);
+		this.indices = new BufferAllocator(indexCapacity);
+
+		vao = new VAO();
+		vao.bind();
+		{
+			vao.allocateIndices(indexCapacity);
+
+			for (int i = 0; i < indexes.length; i++)
+				vao.allocateAttribute(indexes[i], sizes[i], vertexCapacity);
+		}
+		vao.unbind();
+	}
+
+	/**
+	 * Verifica se os atributos de uma modelagem possuem o mesmo formato de vértices do lote:
+	 * os mesmos atributos, na mesma ordem, com números flutuantes e a mesma quantidade de vértices.
+	 * @param attributes atributos da modelagem que será verificada.
+	 * @return true se a modelagem pode ser armazenada no lote ou false caso contrário.
+	 */
+
+	public boolean accept(ModelAttribute attributes[])
+	{
+		if (attributes.length != indexes.length)
+			return false;
+
+		for (int i = 0; i < attributes.length; i++)
+			if (!(attributes[i] instanceof ModelFloatAttribute) || attributes[i].getIndex() != indexes[i] ||
+				attributes[i].size() != sizes[i] || attributes[i].length() != attributes[0].length())
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Armazena os vértices e índices de uma modelagem no lote, definindo na modelagem raíz a sua posição.
+	 * @param root modelagem raíz que irá usar o lote ao ser desenhada.
+	 * @param attributes atributos da modelagem, devem possuir o formato de vértices do lote.
+	 * @param indices atributo com os índices da modelagem, relativos aos seus próprios vértices.
+	 * @return true se a modelagem foi armazenada ou false se o formato for diferente ou não houver espaço.
+	 */
+
+	boolean store(ModelRoot root, ModelAttribute attributes[], ModelIndiceAttribute indices)
+	{
+		if (indices == null || indices.length() == 0 || !accept(attributes))
+			return false;
+
+		int vertexCount = attributes[0].length();
+		int baseVertex = this.vertices.allocate(vertexCount);
+
+		if (baseVertex == BufferAllocator.NO_SPACE)
+			return false;
+
+		int firstIndex = this.indices.allocate(indices.length());
+
+		if (firstIndex == BufferAllocator.NO_SPACE)
+		{
+			this.vertices.free(baseVertex, vertexCount);
+			return false;
+		}
+
+		IntBuffer buffer = BufferUtils.createIntBuffer(indices.length());
+
+		for (int i = 0; i < indices.length(); i++)
+			buffer.put(i, indices.getValue(i));
+
+		vao.bind();
+		{
+			vao.updateIndices(firstIndex, buffer);
+
+			for (int i = 0; i < attributes.length; i++)
+			{
+				FloatBuffer values = ((ModelFloatAttribute) attributes[i]).getBuffer().duplicate();
+				values.limit(vertexCount * sizes[i]);
+
+				vao.updateAttribute(indexes[i], sizes[i], baseVertex, values);
+			}
+		}
+		vao.unbind();
+
+		root.vao = vao;
+		root.batch = this;
+		root.attributes = indexes;
+		root.baseVertex = baseVertex;
+		root.firstIndex = firstIndex;
+		root.vertexCount = vertexCount;
+		root.indexCount = indices.length();
+
+		return true;
+	}
+
+	/**
+	 * Libera o espaço ocupado por uma modelagem armazenada no lote, permitindo que seja usado por outras.
+	 * @param root modelagem raíz que foi armazenada no lote.
+	 */
+
+	void free(ModelRoot root)
+	{
+		if (root.batch != this)
+			return;
+
+		vertices.free(root.baseVertex, root.vertexCount);
+		indices.free(root.firstIndex, root.indexCount);
+
+		root.batch = null;
+		root.vao = null;
+	}
+
+	/**
+	 * @return aquisição do VAO compartilhado por todas as modelagens do lote.
+	 */
+
+	public VAO getVAO()
+	{
+		return vao;
+	}
+
+	/**
+	 * @return aquisição do alocador do espaço dos vértices.
+	 */
+
+	public BufferAllocator getVertexAllocator()
+	{
+		return vertices;
+	}
+
+	/**
+	 * @return aquisição do alocador do espaço dos índices.
+	 */
+
+	public BufferAllocator getIndexAllocator()
+	{
+		return indices;
+	}
+
+	/**
+	 * Libera o VAO e os VBOs do lote, as modelagens armazenadas deixam de ser válidas.
+	 */
+
+	public void release()
+	{
+		if (vao != null)
+		{
+			vao.release();
+			vao = null;
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("vao", vao == null ? null : vao.getID());
+		description.append("attributes", indexes.length);
+		description.append("vertices", vertices.getUsed() + "/" + vertices.getCapacity());
+		description.append("indices", indices.getUsed() + "/" + indices.getCapacity());
+
+		return description.toString();
+	}
+}
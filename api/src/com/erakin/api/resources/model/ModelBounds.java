@@ -0,0 +1,177 @@
+package com.erakin.api.resources.model;
+
+import java.nio.FloatBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Vector3f;
+
+/**
+ * <h1>Limites de Modelagem</h1>
+ *
+ * <p>Volumes que envolvem todos os vértices de uma modelagem no seu próprio espaço (antes da transformação da entidade):
+ * uma caixa delimitadora alinhada aos eixos (AABB), definida pelo seu menor e maior ponto, e uma esfera delimitadora,
+ * definida pelo seu centro e raio. São usados pelos renderizadores para descartar modelagens fora da visão
+ * e por testes de colisão ou seleção para uma verificação inicial mais barata que a dos triângulos.</p>
+ *
+ * <p>A esfera é centralizada na caixa delimitadora e o seu raio é a distância até o vértice mais distante,
+ * o que resulta em uma esfera mais justa que a que envolve a própria caixa.</p>
+ *
+ * @see ModelRoot
+ * @see ModelLoader
+ *
+ * @author Andrew
+ */
+
+public class ModelBounds
+{
+	/**
+	 * Menor ponto da caixa delimitadora.
+	 */
+	private final Vector3f min;
+
+	/**
+	 * Maior ponto da caixa delimitadora.
+	 */
+	private final Vector3f max;
+
+	/**
+	 * Centro da esfera delimitadora.
+	 */
+	private final Vector3f center;
+
+	/**
+	 * Raio da esfera delimitadora.
+	 */
+	private final float radius;
+
+	/**
+	 * Cria novos limites a partir de uma caixa delimitadora e uma esfera delimitadora já conhecidas.
+	 * @param min menor ponto da caixa delimitadora.
+	 * @param max maior ponto da caixa delimitadora.
+	 * @param center centro da esfera delimitadora.
+	 * @param radius raio da esfera delimitadora.
+	 */
+
+	public ModelBounds(Vector3f min, Vector3f max, Vector3f center, float radius)
+	{
+		this.min = new Vector3f(min);
+		this.max = new Vector3f(max);
+		this.center = new Vector3f(center);
+		this.radius = radius;
+	}
+
+	/**
+	 * Cria novos limites a partir de uma caixa delimitadora, usando a esfera que envolve a caixa.
+	 * @param min menor ponto da caixa delimitadora.
+	 * @param max maior ponto da caixa delimitadora.
+	 */
+
+	public ModelBounds(Vector3f min, Vector3f max)
+	{
+		this(min, max, new Vector3f((min.x + max.x) / 2, (min.y + max.y) / 2, (min.z + max.z) / 2),
+			(float) Math.sqrt((max.x - min.x) * (max.x - min.x) + (max.y - min.y) * (max.y - min.y) + (max.z - min.z) * (max.z - min.z)) / 2);
+	}
+
+	/**
+	 * Calcula os limites que envolvem todos os vértices de um buffer de posições.
+	 * @param buffer buffer com as posições dos vértices, a partir da posição zero.
+	 * @param size quantidade de valores de cada vértice, apenas os três primeiros (x, y, z) são considerados.
+	 * @param length quantidade de vértices no buffer.
+	 * @return aquisição dos limites dos vértices, ou limites vazios na origem se não houver vértices.
+	 */
+
+	public static ModelBounds compute(FloatBuffer buffer, int size, int length)
+	{
+		if (length == 0 || size < 3)
+			return new ModelBounds(new Vector3f(), new Vector3f());
+
+		Vector3f min = new Vector3f(Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE);
+		Vector3f max = new Vector3f(-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE);
+
+		for (int i = 0; i < length; i++)
+		{
+			float x = buffer.get(i * size);
+			float y = buffer.get(i * size + 1);
+			float z = buffer.get(i * size + 2);
+
+			min.set(Math.min(min.x, x), Math.min(min.y, y), Math.min(min.z, z));
+			max.set(Math.max(max.x, x), Math.max(max.y, y), Math.max(max.z, z));
+		}
+
+		Vector3f center = new Vector3f((min.x + max.x) / 2, (min.y + max.y) / 2, (min.z + max.z) / 2);
+		float radius = 0f;
+
+		for (int i = 0; i < length; i++)
+		{
+			float x = buffer.get(i * size) - center.x;
+			float y = buffer.get(i * size + 1) - center.y;
+			float z = buffer.get(i * size + 2) - center.z;
+
+			radius = Math.max(radius, x * x + y * y + z * z);
+		}
+
+		return new ModelBounds(min, max, center, (float) Math.sqrt(radius));
+	}
+
+	/**
+	 * @return aquisição do menor ponto da caixa delimitadora.
+	 */
+
+	public Vector3f getMin()
+	{
+		return min;
+	}
+
+	/**
+	 * @return aquisição do maior ponto da caixa delimitadora.
+	 */
+
+	public Vector3f getMax()
+	{
+		return max;
+	}
+
+	/**
+	 * @return aquisição do centro da esfera delimitadora.
+	 */
+
+	public Vector3f getCenter()
+	{
+		return center;
+	}
+
+	/**
+	 * @return aquisição do raio da esfera delimitadora.
+	 */
+
+	public float getRadius()
+	{
+		return radius;
+	}
+
+	/**
+	 * Verifica se um ponto no espaço da modelagem está dentro da caixa delimitadora.
+	 * @param x coordenada do ponto no eixo X.
+	 * @param y coordenada do ponto no eixo Y.
+	 * @param z coordenada do ponto no eixo Z.
+	 * @return true se estiver dentro ou na borda da caixa ou false caso contrário.
+	 */
+
+	public boolean contains(float x, float y, float z)
+	{
+		return x >= min.x && x <= max.x && y >= min.y && y <= max.y && z >= min.z && z <= max.z;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("min", String.format("%.2f, %.2f, %.2f", min.x, min.y, min.z));
+		description.append("max", String.format("%.2f, %.2f, %.2f", max.x, max.y, max.z));
+		description.append("center", String.format("%.2f, %.2f, %.2f", center.x, center.y, center.z));
+		description.append("radius", radius);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,243 @@
+package com.erakin.api.resources.model;
+
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_NORMAL;
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_UV_TEXTURE;
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_VERTEX;
+import static org.lwjgl.opengl.GL11.GL_BYTE;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL30.GL_HALF_FLOAT;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.util.vector.Vector3f;
+
+/**
+ * <h1>Utilitário para Compactação de Modelos</h1>
+ *
+ * <p>Classe utilitária composta apenas de procedimentos estáticos para compactar os atributos de um modelo
+ * na CPU antes de serem enviados ao OpenGL, usada pelo carregador apenas quando solicitado.
+ * Cada atributo conhecido é convertido para um tipo menor de acordo com a precisão que necessita:</p>
+ *
+ * <p><b>Posições</b>: inteiros de 16 bits sem sinal normalizados, relativos à caixa delimitadora do modelo (8 bytes);<br>
+ * <b>Coordenadas UV</b>: flutuantes de 16 bits, mantendo coordenadas fora do intervalo [0, 1] (4 bytes);<br>
+ * <b>Normais</b>: inteiros de 8 bits com sinal normalizados, alinhados em 4 bytes por normal;<br>
+ * <b>Índices</b>: inteiros de 16 bits sem sinal quando houver menos de 65536 vértices.</p>
+ *
+ * <p>As normais e coordenadas UV são lidas pelo shader sem alterações, enquanto as posições chegam entre 0 e 1
+ * e devem ser convertidas através do deslocamento e escala disponíveis na modelagem (<code>Model</code>).</p>
+ *
+ * @see ModelPackedAttribute
+ * @see ModelLoader
+ *
+ * @author Andrew
+ */
+
+public class ModelCompressionUtil
+{
+	/**
+	 * Maior valor de um inteiro de 16 bits sem sinal.
+	 */
+	private static final int UNORM16_MAX = 0xFFFF;
+
+	/**
+	 * Maior valor de um inteiro de 8 bits com sinal.
+	 */
+	private static final int SNORM8_MAX = 127;
+
+	/**
+	 * Construtor privado, classe composta apenas de procedimentos estáticos.
+	 */
+
+	private ModelCompressionUtil()
+	{
+
+	}
+
+	/**
+	 * Compacta todos os atributos conhecidos (posição, coordenada UV e normal) de um modelo.
+	 * Atributos de outros tipos ou já compactados são mantidos sem alterações.
+	 * @param attributes vetor com os atributos do modelo.
+	 * @return aquisição de um novo vetor com os atributos compactados na mesma ordem.
+	 */
+
+	public static ModelAttribute[] compress(ModelAttribute attributes[])
+	{
+		ModelAttribute compressed[] = new ModelAttribute[attributes.length];
+
+		for (int i = 0; i < attributes.length; i++)
+		{
+			compressed[i] = attributes[i];
+
+			if (!(attributes[i] instanceof ModelFloatAttribute))
+				continue;
+
+			ModelFloatAttribute attribute = (ModelFloatAttribute) attributes[i];
+
+			if (attribute.getIndex() == ATTRIB_VERTEX && attribute.size() == 3)
+				compressed[i] = quantizePositions(attribute);
+
+			else if (attribute.getIndex() == ATTRIB_UV_TEXTURE)
+				compressed[i] = toHalfFloats(attribute);
+
+			else if (attribute.getIndex() == ATTRIB_NORMAL && attribute.size() == 3)
+				compressed[i] = packNormals(attribute);
+		}
+
+		return compressed;
+	}
+
+	/**
+	 * Compacta os índices de um modelo para 16 bits se nenhum índice referenciar um vértice além do 65535.
+	 * @param indices atributo com os índices do modelo, pode ser null.
+	 * @return aquisição do atributo com índices de 16 bits, ou o próprio atributo se não for possível.
+	 */
+
+	public static ModelIndiceAttribute compress(ModelIndiceAttribute indices)
+	{
+		return indices == null ? null : indices.compact();
+	}
+
+	/**
+	 * Quantiza as posições dos vértices para inteiros de 16 bits normalizados dentro da caixa delimitadora.
+	 * Cada vértice ocupa 8 bytes (três componentes e dois bytes de alinhamento) ao invés de 12.
+	 * @param attribute atributo com as posições dos vértices (x, y, z).
+	 * @return aquisição do atributo compactado, com o deslocamento e a escala para converter de volta.
+	 */
+
+	public static ModelPackedAttribute quantizePositions(ModelFloatAttribute attribute)
+	{
+		FloatBuffer source = attribute.getBuffer();
+		int length = attribute.length();
+
+		float min[] = new float[] { Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE };
+		float max[] = new float[] { -Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE };
+
+		for (int i = 0; i < length * 3; i++)
+		{
+			min[i % 3] = Math.min(min[i % 3], source.get(i));
+			max[i % 3] = Math.max(max[i % 3], source.get(i));
+		}
+
+		if (length == 0)
+			min = max = new float[3];
+
+		ByteBuffer buffer = BufferUtils.createByteBuffer(length * 8);
+
+		for (int i = 0; i < length; i++)
+			for (int axis = 0; axis < 3; axis++)
+			{
+				float extent = max[axis] - min[axis];
+				float value = extent == 0 ? 0 : (source.get(i * 3 + axis) - min[axis]) / extent;
+
+				buffer.putShort(i * 8 + axis * 2, (short) Math.round(clamp(value, 0, 1) * UNORM16_MAX));
+			}
+
+		ModelPackedAttribute packed = new ModelPackedAttribute(ATTRIB_VERTEX, 3, GL_UNSIGNED_SHORT, true, 8, buffer);
+		packed.setQuantization(new Vector3f(min[0], min[1], min[2]), new Vector3f(max[0] - min[0], max[1] - min[1], max[2] - min[2]));
+
+		return packed;
+	}
+
+	/**
+	 * Converte os valores de um atributo para flutuantes de 16 bits, usado para as coordenadas UV.
+	 * @param attribute atributo com os valores que serão convertidos.
+	 * @return aquisição do atributo compactado, ocupando metade da memória.
+	 */
+
+	public static ModelPackedAttribute toHalfFloats(ModelFloatAttribute attribute)
+	{
+		FloatBuffer source = attribute.getBuffer();
+		int values = attribute.length() * attribute.size();
+		int stride = attribute.size() * 2;
+
+		ByteBuffer buffer = BufferUtils.createByteBuffer(attribute.length() * stride);
+
+		for (int i = 0; i < values; i++)
+			buffer.putShort(i * 2, toHalfFloat(source.get(i)));
+
+		return new ModelPackedAttribute(attribute.getIndex(), attribute.size(), GL_HALF_FLOAT, false, stride, buffer);
+	}
+
+	/**
+	 * Compacta as normais em inteiros de 8 bits com sinal normalizados, suportados por qualquer contexto OpenGL 3.
+	 * Cada normal ocupa três bytes seguidos de um byte vazio, mantendo os vértices alinhados em 4 bytes.
+	 * @param attribute atributo com as normais dos vértices (x, y, z).
+	 * @return aquisição do atributo compactado, ocupando 4 bytes por normal ao invés de 12.
+	 */
+
+	public static ModelPackedAttribute packNormals(ModelFloatAttribute attribute)
+	{
+		FloatBuffer source = attribute.getBuffer();
+		int length = attribute.length();
+
+		ByteBuffer buffer = BufferUtils.createByteBuffer(length * 4);
+
+		for (int i = 0; i < length; i++)
+		{
+			buffer.put(i * 4, (byte) Math.round(clamp(source.get(i * 3), -1, 1) * SNORM8_MAX));
+			buffer.put(i * 4 + 1, (byte) Math.round(clamp(source.get(i * 3 + 1), -1, 1) * SNORM8_MAX));
+			buffer.put(i * 4 + 2, (byte) Math.round(clamp(source.get(i * 3 + 2), -1, 1) * SNORM8_MAX));
+		}
+
+		return new ModelPackedAttribute(ATTRIB_NORMAL, 3, GL_BYTE, true, 4, buffer);
+	}
+
+	/**
+	 * Converte um número flutuante de 32 bits para 16 bits (1 bit de sinal, 5 de expoente e 10 de mantissa),
+	 * arredondando para o valor mais próximo. Valores muito grandes se tornam infinito e muito pequenos zero.
+	 * @param value número flutuante que será convertido.
+	 * @return aquisição dos bits do número flutuante de 16 bits.
+	 */
+
+	public static short toHalfFloat(float value)
+	{
+		int bits = Float.floatToIntBits(value);
+		int sign = (bits >>> 16) & 0x8000;
+		int exponent = ((bits >>> 23) & 0xFF) - 127 + 15;
+		int mantissa = bits & 0x7FFFFF;
+
+		if (((bits >>> 23) & 0xFF) == 0xFF)
+			return (short) (sign | 0x7C00 | (mantissa != 0 ? 0x200 : 0));
+
+		if (exponent >= 0x1F)
+			return (short) (sign | 0x7C00);
+
+		if (exponent <= 0)
+		{
+			if (exponent < -10)
+				return (short) sign;
+
+			mantissa |= 0x800000;
+
+			int shift = 14 - exponent;
+			int half = mantissa >> shift;
+
+			if (((mantissa >> (shift - 1)) & 1) != 0)
+				half++;
+
+			return (short) (sign | half);
+		}
+
+		int half = sign | (exponent << 10) | (mantissa >> 13);
+
+		if ((mantissa & 0x1000) != 0)
+			half++;
+
+		return (short) half;
+	}
+
+	/**
+	 * Limita um valor a um intervalo.
+	 * @param value valor que será limitado.
+	 * @param min menor valor permitido.
+	 * @param max maior valor permitido.
+	 * @return aquisição do valor dentro do intervalo.
+	 */
+
+	private static float clamp(float value, float min, float max)
+	{
+		return value < min ? min : value > max ? max : value;
+	}
+}
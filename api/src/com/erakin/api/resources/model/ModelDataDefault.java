@@ -1,312 +1,581 @@
-package com.erakin.api.resources.model;
-
-import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_NORMAL;
-import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_TEXTURES;
-import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_UV_TEXTURE;
-import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_VERTEX;
-
-import org.diverproject.util.ObjectDescription;
-import org.lwjgl.util.vector.Vector3f;
-
-/**
- * <h1>Dados Temporrio para Modelo</h1>
- *
- * <p>Essa classe tem como finalidade guardar informaes de um modelo.
- * Para esse, ser permitido definir as informaes deste adequadamente.
- * Cada tipo de dado segue uma regra e tipos de dados diferentes.</p>
- *
- * <p>Ao finalizar a definio dos dados desse objeto atravs dos procedimentos
- * adequados para tal, sero repassados para o carregador de modelo usado.
- * Para que esse possa passar adiante as informaes necessrias.</p>
- *
- * @author Andrew
- */
-
-public class ModelDataDefault implements ModelData
-{
-	/**
-	 * Conexo de cada vrtice para formao das faces.
-	 */
-	protected ModelIndiceAttribute indexes;
-
-	/**
-	 * Posicionamento dos vrtices no espao.
-	 */
-	protected ModelFloatAttribute vertices;
-
-	/**
-	 * Coordenada da textura usada para cada vrtice.
-	 */
-	protected ModelFloatAttribute uvTextures;
-
-	/**
-	 * Regularizao para as superfcies.
-	 */
-	protected ModelFloatAttribute normals;
-
-	/**
-	 * Identificao de textura para cada conexo de vrtice.
-	 */
-	protected ModelFloatAttribute textures;
-
-	/**
-	 * Inicializa o atributo para modelo que determina a ligao dos vrtices por ndice.
-	 * @param indicesCount quantidade de ligaes de vrtices necessrios para formar o modelo.
-	 */
-
-	public void initIndexes(int indicesCount)
-	{
-		indexes = new ModelIndiceAttribute(indicesCount);
-	}
-
-	/**
-	 * Inicializa o atributo para modelo que determina o posicionamento dos vrtices no espao.
-	 * Nesse mtodo ser considerado que cada vrtice possui <code>DEFAULT_VERTEX_SIZE</code> dados.
-	 * @param vertexCount quantidade de vrtices necessrios para formar o modelo.
-	 */
-
-	public void initVertices(int vertexCount)
-	{
-		initVertices(DEFAULT_VERTEX_SIZE, vertexCount);
-	}
-
-	/**
-	 * Inicializa o atributo para modelo que determina o posicionamento dos vrtices no espao.
-	 * @param vertexSize quantidade de dados necessrios para formar cada vrtice.
-	 * @param vertexCount quantidade de vrtices necessrios para formar o modelo.
-	 */
-
-	public void initVertices(int vertexSize, int vertexCount)
-	{
-		vertices = new ModelFloatAttribute(ATTRIB_VERTEX, vertexSize, vertexCount);		
-	}
-
-	/**
-	 * Inicializa o atributo para modelo que determina as coordenadas de textura por vrtice.
-	 * Nesse mtodo ser considerado que cada vrtice possui <code>DEFAULT_UV_SIZE</code> dados.
-	 * @param uvCount quantidade de coordenadas de textura necessrios para formar o modelo.
-	 */
-
-	public void initUVTextures(int uvCount)
-	{
-		initUVTextures(DEFAULT_UV_SIZE, uvCount);
-	}
-
-	/**
-	 * Inicializa o atributo para modelo que determina o posicionamento dos vrtices no espao.
-	 * @param uvSize quantidade de dados necessrios para formar cada coordenada UV.
-	 * @param uvCount quantidade de coordenadas de textura necessrios para formar o modelo.
-	 */
-
-	public void initUVTextures(int uvSize, int uvCount)
-	{
-		uvTextures = new ModelFloatAttribute(ATTRIB_UV_TEXTURE, uvSize, uvCount);		
-	}
-
-	/**
-	 * Inicializa o atributo para modelo que determina as normalizaes de cada vrtice.
-	 * Nesse mtodo ser considerado que cada vrtice possui <code>DEFAULT_NORMAL_SIZE</code> dados.
-	 * @param normalCount quantidade de normalizaes necessrias para formar o modelo.
-	 */
-
-	public void initNormals(int normalCount)
-	{
-		initNormals(DEFAULT_NORMAL_SIZE, normalCount);
-	}
-
-	/**
-	 * Inicializa o atributo para modelo que determina as normalizaes de cada vrtice.
-	 * @param normalSize quantidade de dados necessrios para formar cada normalizao.
-	 * @param normalCount quantidade de normalizaes necessrias para formar o modelo.
-	 */
-
-	public void initNormals(int normalSize, int normalCount)
-	{
-		normals = new ModelFloatAttribute(ATTRIB_NORMAL, normalSize, normalCount);
-	}
-
-	/**
-	 * Inicializa o atributo para modelo que determina as texturas utilizadas por cada vrtice.
-	 * Nesse mtodo ser considerado que cada vrtice possui <code>DEFAULT_TEXTURE_SIZE</code> dados.
-	 * @param textureCount quantidade de texturas utilizadas necessrias para formar o modelo.
-	 */
-
-	public void initTextures(int textureCount)
-	{
-		initTextures(DEFAULT_TEXTURE_SIZE, textureCount);
-	}
-
-	/**
-	 * Inicializa o atributo para modelo que determina as texturas utilizadas por cada vrtice.
-	 * @param textureSize quantidade da dos necessrios para formar cada textura utilizada.
-	 * @param textureCount quantidade de texturas utilizadas necessrias para formar o modelo.
-	 */
-
-	public void initTextures(int textureSize, int textureCount)
-	{
-		textures = new ModelFloatAttribute(ATTRIB_TEXTURES, textureSize, textureCount);
-	}
-
-	/**
-	 * Deve definir as informaes de uma determinada face encontrada no modelo.
-	 * Para cada trs vrtices ser considerado o conjunto de dados de uma face.
-	 * @param index ndice do vrtice no vetor de ndices a ser definido.
-	 * @param vertex ndice do vrtice que ser alocado no ndice acima.
-	 */
-
-	public void setIndice(int index, int vertex)
-	{
-		indexes.setValue(index, vertex);
-	}
-
-	/**
-	 * Deve definir o ponto exato no espao para um determinado vrtice.
-	 * @param vertex ndice do vrtice que ser definido sua textura.
-	 * @param x coordenada da posio que ser usada no eixo horizontal.
-	 * @param y coordenada da posio que ser usada no eixo vertical.
-	 * @param z coordenada da posio que ser usada no eixo de profundidade.
-	 */
-
-	public void setVertice(int vertex, float x, float y, float z)
-	{
-		vertices.setValue(vertex, x, y, z);
-	}
-
-	/**
-	 * Deve definir o ponto exato no espao para um determinado vrtice.
-	 * @param vertex ndice do vrtice que ser definido sua textura.
-	 * @param vector vetor com as coordenadas de posicionamento (x, y e z).
-	 */
-
-	public void setVertice(int vertex, Vector3f vector)
-	{
-		vertices.setValue(vertex, vector.x, vector.y, vector.z);
-	}
-
-	/**
-	 * Deve definir o ponto exato de uso da textura para um vrtice.
-	 * @param vertex ndice do vrtice que ser definido sua textura.
-	 * @param x coordenada da textura que ser usada no eixo horizontal.
-	 * @param y coordenada da textura que ser usada no eixo vertical.
-	 */
-
-	public void setUVTexture(int vertex, float x, float y)
-	{
-		uvTextures.setValue(vertex, x, y);
-	}
-
-	/**
-	 * Deve definir as propriedades para regularizao das superfcies.
-	 * @param vertex ndice do vrtice que ser definido sua regularizao.
-	 * @param x coordenada da regularizao que ser usada no eixo horizontal.
-	 * @param y coordenada da regularizao que ser usada no eixo vertical.
-	 * @param z coordenada da regularizao que ser usada no eixo de profundidade.
-	 */
-
-	public void setNormal(int vertex, float x, float y, float z)
-	{
-		normals.setValue(vertex, x, y, z);
-	}
-
-	/**
-	 * Deve definir as propriedades para regularizao das superfcies.
-	 * @param vertex ndice do vrtice que ser definido sua regularizao.
-	 * @param vector vetor com os valores de normalizao (x, y e z).
-	 */
-
-	public void setNormal(int vertex, Vector3f vector)
-	{
-		normals.setValue(vertex, vector.x, vector.y);
-	}
-
-	/**
-	 * Deve definir qual a textura que ser usada na renderizao de um tringulo do modelo.
-	 * @param index ndice do tringulo (conexo de vrtices) que ser definido a textura.
-	 * @param textureID cdigo de identificao da textura j carregada no OpenGL.
-	 */
-
-	public void setTextureIndex(int index, int textureID)
-	{
-		textures.setValue(index, textureID);
-	}
-
-	/**
-	 * Calcula aproximadamente quantos bytes esse objeto est ocupando em memria.
-	 * @return aquisio do espao em memria ocupado pelo objeto em bytes.
-	 */
-
-	public int sizeof()
-	{
-		int count = 0;
-
-		if (indexes != null) count += indexes.sizeof();
-		if (vertices != null) count += vertices.sizeof();
-		if (uvTextures != null) count += uvTextures.sizeof();
-		if (normals != null) count += normals.sizeof();
-		if (textures != null) count += textures.sizeof();
-
-		return count;
-	}
-
-	private int getAttributesCount()
-	{
-		int count = 0;
-
-		if (vertices != null) count++;
-		if (uvTextures != null) count++;
-		if (normals != null) count++;
-		if (textures != null) count++;
-
-		return count;
-	}
-
-	@Override
-	public ModelIndiceAttribute getIndices()
-	{
-		return indexes;
-	}
-
-	@Override
-	public ModelAttribute[] getAttributes()
-	{
-		int length = getAttributesCount();
-		int offset = 0;
-
-		ModelAttribute attributes[] = new ModelAttribute[length];
-
-		if (vertices != null) attributes[offset++] = vertices;
-		if (uvTextures != null) attributes[offset++] = uvTextures;
-		if (normals != null) attributes[offset++] = normals;
-		if (textures != null) attributes[offset++] = textures;
-
-		return attributes;
-	}
-
-	@Override
-	public String toStringDetails()
-	{
-		ObjectDescription description = new ObjectDescription(null);
-
-		if (indexes != null) description.append("indnices", indexes.length());
-		if (vertices != null) description.append("vertex", vertices.length());
-		if (uvTextures != null) description.append("uv", uvTextures.length());
-		if (normals != null) description.append("normal", normals.length());
-		if (textures != null) description.append("textures", textures.length());
-
-		return description.toString();
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		if (indexes != null) description.append("indnices", indexes.length());
-		if (vertices != null) description.append("vertex", vertices.length());
-		if (uvTextures != null) description.append("uv", uvTextures.length());
-		if (normals != null) description.append("normal", normals.length());
-		if (textures != null) description.append("textures", textures.length());
-
-		return description.toString();
-	}
-}
+package com.erakin.api.resources.model;
+
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_NORMAL;
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_TEXTURES;
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_UV_TEXTURE;
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_VERTEX;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Vector3f;
+
+/**
+ * <h1>Dados Temporário para Modelo</h1>
+ *
+ * <p>Essa classe tem como finalidade guardar informações de um modelo.
+ * Para esse, será permitido definir as informações deste adequadamente.
+ * Cada tipo de dado segue uma regra e tipos de dados diferentes.</p>
+ *
+ * <p>Ao finalizar a definição dos dados desse objeto através dos procedimentos
+ * adequados para tal, serão repassados para o carregador de modelo usado.
+ * Para que esse possa passar adiante as informações necessárias.</p>
+ *
+ * @author Andrew
+ */
+
+public class ModelDataDefault implements ModelData
+{
+	/**
+	 * Conexão de cada vértice para formação das faces.
+	 */
+	protected ModelIndiceAttribute indexes;
+
+	/**
+	 * Posicionamento dos vértices no espaço.
+	 */
+	protected ModelFloatAttribute vertices;
+
+	/**
+	 * Coordenada da textura usada para cada vértice.
+	 */
+	protected ModelFloatAttribute uvTextures;
+
+	/**
+	 * Regularização para as superfícies.
+	 */
+	protected ModelFloatAttribute normals;
+
+	/**
+	 * Identificação de textura para cada conexão de vértice.
+	 */
+	protected ModelFloatAttribute textures;
+
+	/**
+	 * Os atributos por vértice devem ser intercalados em um único buffer.
+	 */
+	protected boolean interleaved;
+
+	/**
+	 * Os atributos e os índices devem ser compactados em tipos menores que 32 bits.
+	 */
+	protected boolean compressed;
+
+	/**
+	 * Limites que envolvem todos os vértices, null para calcular a partir das posições.
+	 */
+	protected ModelBounds bounds;
+
+	/**
+	 * Atributos já compactados lidos diretamente do arquivo, que substituem os atributos de mesmo índice.
+	 */
+	protected ModelPackedAttribute packed[];
+
+	/**
+	 * Inicializa o atributo para modelo que determina a ligação dos vértices por índice.
+	 * @param indicesCount quantidade de ligações de vértices necessários para formar o modelo.
+	 */
+
+	public void initIndexes(int indicesCount)
+	{
+		indexes = new ModelIndiceAttribute(indicesCount);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina a ligação dos vértices a partir de um buffer existente.
+	 * Os índices não são copiados, portanto o buffer deve ser direto e estar na ordem de bytes nativa.
+	 * @param buffer buffer contendo as ligações de vértices necessárias para formar o modelo.
+	 */
+
+	public void initIndexes(IntBuffer buffer)
+	{
+		indexes = new ModelIndiceAttribute(buffer);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina a ligação dos vértices a partir de índices de 16 bits.
+	 * Os índices não são copiados, portanto o buffer deve ser direto e estar na ordem de bytes nativa.
+	 * @param buffer buffer contendo as ligações de vértices necessárias para formar o modelo.
+	 */
+
+	public void initIndexes(ShortBuffer buffer)
+	{
+		indexes = new ModelIndiceAttribute(buffer);
+	}
+
+	/**
+	 * Inicializa um atributo cujos valores já estão compactados, como posições quantizadas lidas de um arquivo.
+	 * O atributo substitui o atributo flutuante de mesmo índice (posição, coordenada UV ou normal), se houver.
+	 * Quando as posições forem compactadas os limites do modelo devem ser definidos por <code>setBounds()</code>.
+	 * @param attribute atributo com os valores compactados.
+	 */
+
+	public void initPacked(ModelPackedAttribute attribute)
+	{
+		switch (attribute.getIndex())
+		{
+			case ATTRIB_VERTEX: vertices = null; break;
+			case ATTRIB_UV_TEXTURE: uvTextures = null; break;
+			case ATTRIB_NORMAL: normals = null; break;
+			case ATTRIB_TEXTURES: textures = null; break;
+		}
+
+		packed = packed == null ? new ModelPackedAttribute[1] : Arrays.copyOf(packed, packed.length + 1);
+		packed[packed.length - 1] = attribute;
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina o posicionamento dos vértices no espaço.
+	 * Nesse método será considerado que cada vértice possui <code>DEFAULT_VERTEX_SIZE</code> dados.
+	 * @param vertexCount quantidade de vértices necessários para formar o modelo.
+	 */
+
+	public void initVertices(int vertexCount)
+	{
+		initVertices(DEFAULT_VERTEX_SIZE, vertexCount);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina o posicionamento dos vértices no espaço.
+	 * @param vertexSize quantidade de dados necessários para formar cada vértice.
+	 * @param vertexCount quantidade de vértices necessários para formar o modelo.
+	 */
+
+	public void initVertices(int vertexSize, int vertexCount)
+	{
+		vertices = new ModelFloatAttribute(ATTRIB_VERTEX, vertexSize, vertexCount);
+		bounds = null;
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina o posicionamento dos vértices a partir de um buffer existente.
+	 * Os valores não são copiados, portanto o buffer deve ser direto e estar na ordem de bytes nativa.
+	 * @param vertexSize quantidade de dados necessários para formar cada vértice.
+	 * @param buffer buffer contendo o posicionamento de todos os vértices.
+	 */
+
+	public void initVertices(int vertexSize, FloatBuffer buffer)
+	{
+		vertices = new ModelFloatAttribute(ATTRIB_VERTEX, vertexSize, buffer);
+		bounds = null;
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina as coordenadas de textura por vértice.
+	 * Nesse método será considerado que cada vértice possui <code>DEFAULT_UV_SIZE</code> dados.
+	 * @param uvCount quantidade de coordenadas de textura necessários para formar o modelo.
+	 */
+
+	public void initUVTextures(int uvCount)
+	{
+		initUVTextures(DEFAULT_UV_SIZE, uvCount);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina o posicionamento dos vértices no espaço.
+	 * @param uvSize quantidade de dados necessários para formar cada coordenada UV.
+	 * @param uvCount quantidade de coordenadas de textura necessários para formar o modelo.
+	 */
+
+	public void initUVTextures(int uvSize, int uvCount)
+	{
+		uvTextures = new ModelFloatAttribute(ATTRIB_UV_TEXTURE, uvSize, uvCount);		
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina as coordenadas de textura a partir de um buffer existente.
+	 * Os valores não são copiados, portanto o buffer deve ser direto e estar na ordem de bytes nativa.
+	 * @param uvSize quantidade de dados necessários para formar cada coordenada UV.
+	 * @param buffer buffer contendo as coordenadas de textura de todos os vértices.
+	 */
+
+	public void initUVTextures(int uvSize, FloatBuffer buffer)
+	{
+		uvTextures = new ModelFloatAttribute(ATTRIB_UV_TEXTURE, uvSize, buffer);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina as normalizações de cada vértice.
+	 * Nesse método será considerado que cada vértice possui <code>DEFAULT_NORMAL_SIZE</code> dados.
+	 * @param normalCount quantidade de normalizações necessárias para formar o modelo.
+	 */
+
+	public void initNormals(int normalCount)
+	{
+		initNormals(DEFAULT_NORMAL_SIZE, normalCount);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina as normalizações de cada vértice.
+	 * @param normalSize quantidade de dados necessários para formar cada normalização.
+	 * @param normalCount quantidade de normalizações necessárias para formar o modelo.
+	 */
+
+	public void initNormals(int normalSize, int normalCount)
+	{
+		normals = new ModelFloatAttribute(ATTRIB_NORMAL, normalSize, normalCount);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina as normalizações a partir de um buffer existente.
+	 * Os valores não são copiados, portanto o buffer deve ser direto e estar na ordem de bytes nativa.
+	 * @param normalSize quantidade de dados necessários para formar cada normalização.
+	 * @param buffer buffer contendo as normalizações de todos os vértices.
+	 */
+
+	public void initNormals(int normalSize, FloatBuffer buffer)
+	{
+		normals = new ModelFloatAttribute(ATTRIB_NORMAL, normalSize, buffer);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina as texturas utilizadas por cada vértice.
+	 * Nesse método será considerado que cada vértice possui <code>DEFAULT_TEXTURE_SIZE</code> dados.
+	 * @param textureCount quantidade de texturas utilizadas necessárias para formar o modelo.
+	 */
+
+	public void initTextures(int textureCount)
+	{
+		initTextures(DEFAULT_TEXTURE_SIZE, textureCount);
+	}
+
+	/**
+	 * Inicializa o atributo para modelo que determina as texturas utilizadas por cada vértice.
+	 * @param textureSize quantidade da dos necessários para formar cada textura utilizada.
+	 * @param textureCount quantidade de texturas utilizadas necessárias para formar o modelo.
+	 */
+
+	public void initTextures(int textureSize, int textureCount)
+	{
+		textures = new ModelFloatAttribute(ATTRIB_TEXTURES, textureSize, textureCount);
+	}
+
+	/**
+	 * Deve definir as informações de uma determinada face encontrada no modelo.
+	 * Para cada três vértices será considerado o conjunto de dados de uma face.
+	 * @param index índice do vértice no vetor de índices a ser definido.
+	 * @param vertex índice do vértice que será alocado no índice acima.
+	 */
+
+	public void setIndice(int index, int vertex)
+	{
+		indexes.setValue(index, vertex);
+	}
+
+	/**
+	 * Deve definir o ponto exato no espaço para um determinado vértice.
+	 * @param vertex índice do vértice que será definido sua textura.
+	 * @param x coordenada da posição que será usada no eixo horizontal.
+	 * @param y coordenada da posição que será usada no eixo vertical.
+	 * @param z coordenada da posição que será usada no eixo de profundidade.
+	 */
+
+	public void setVertice(int vertex, float x, float y, float z)
+	{
+		vertices.setValue3(vertex, x, y, z);
+	}
+
+	/**
+	 * Deve definir o ponto exato no espaço para um determinado vértice.
+	 * @param vertex índice do vértice que será definido sua textura.
+	 * @param vector vetor com as coordenadas de posicionamento (x, y e z).
+	 */
+
+	public void setVertice(int vertex, Vector3f vector)
+	{
+		vertices.setValue3(vertex, vector.x, vector.y, vector.z);
+	}
+
+	/**
+	 * Deve definir o ponto exato de uso da textura para um vértice.
+	 * @param vertex índice do vértice que será definido sua textura.
+	 * @param x coordenada da textura que será usada no eixo horizontal.
+	 * @param y coordenada da textura que será usada no eixo vertical.
+	 */
+
+	public void setUVTexture(int vertex, float x, float y)
+	{
+		uvTextures.setValue2(vertex, x, y);
+	}
+
+	/**
+	 * Deve definir as propriedades para regularização das superfícies.
+	 * @param vertex índice do vértice que será definido sua regularização.
+	 * @param x coordenada da regularização que será usada no eixo horizontal.
+	 * @param y coordenada da regularização que será usada no eixo vertical.
+	 * @param z coordenada da regularização que será usada no eixo de profundidade.
+	 */
+
+	public void setNormal(int vertex, float x, float y, float z)
+	{
+		normals.setValue3(vertex, x, y, z);
+	}
+
+	/**
+	 * Deve definir as propriedades para regularização das superfícies.
+	 * @param vertex índice do vértice que será definido sua regularização.
+	 * @param vector vetor com os valores de normalização (x, y e z).
+	 */
+
+	public void setNormal(int vertex, Vector3f vector)
+	{
+		normals.setValue3(vertex, vector.x, vector.y, vector.z);
+	}
+
+	/**
+	 * Deve definir qual a textura que será usada na renderização de um triângulo do modelo.
+	 * @param index índice do triângulo (conexão de vértices) que será definido a textura.
+	 * @param textureID código de identificação da textura já carregada no OpenGL.
+	 */
+
+	public void setTextureIndex(int index, int textureID)
+	{
+		textures.setValue1(index, textureID);
+	}
+
+	/**
+	 * Copia de uma única vez as conexões de vários vértices, evitando uma chamada por índice.
+	 * @param index índice do primeiro vértice no vetor de índices a ser definido.
+	 * @param src vetor contendo os índices dos vértices que serão copiados.
+	 * @param offset posição do primeiro índice no vetor que será copiado.
+	 * @param length quantidade de índices que serão copiados.
+	 */
+
+	public void setIndices(int index, int src[], int offset, int length)
+	{
+		indexes.put(index, src, offset, length);
+	}
+
+	/**
+	 * Copia de uma única vez o posicionamento de vários vértices em sequência (x, y e z de cada vértice).
+	 * @param vertex índice do primeiro vértice que será definido.
+	 * @param src vetor contendo as coordenadas dos vértices que serão copiadas.
+	 * @param offset posição da primeira coordenada no vetor que será copiada.
+	 * @param length quantidade de coordenadas (não de vértices) que serão copiadas.
+	 */
+
+	public void setVertices(int vertex, float src[], int offset, int length)
+	{
+		vertices.put(vertex, src, offset, length);
+	}
+
+	/**
+	 * Copia de uma única vez as coordenadas de textura de vários vértices em sequência (x e y de cada vértice).
+	 * @param vertex índice do primeiro vértice que será definido.
+	 * @param src vetor contendo as coordenadas de textura que serão copiadas.
+	 * @param offset posição da primeira coordenada no vetor que será copiada.
+	 * @param length quantidade de coordenadas (não de vértices) que serão copiadas.
+	 */
+
+	public void setUVTextures(int vertex, float src[], int offset, int length)
+	{
+		uvTextures.put(vertex, src, offset, length);
+	}
+
+	/**
+	 * Copia de uma única vez a regularização de vários vértices em sequência (x, y e z de cada vértice).
+	 * @param vertex índice do primeiro vértice que será definido.
+	 * @param src vetor contendo os valores de normalização que serão copiados.
+	 * @param offset posição do primeiro valor no vetor que será copiado.
+	 * @param length quantidade de valores (não de vértices) que serão copiados.
+	 */
+
+	public void setNormals(int vertex, float src[], int offset, int length)
+	{
+		normals.put(vertex, src, offset, length);
+	}
+
+	/**
+	 * Permite preencher o posicionamento dos vértices diretamente, sem chamadas por vértice.
+	 * @return aquisição do buffer com as coordenadas de todos os vértices (x, y e z) em sequência.
+	 */
+
+	public FloatBuffer getVertexBuffer()
+	{
+		return vertices.getBuffer();
+	}
+
+	/**
+	 * Permite preencher as coordenadas de textura diretamente, sem chamadas por vértice.
+	 * @return aquisição do buffer com as coordenadas de textura de todos os vértices (x e y) em sequência.
+	 */
+
+	public FloatBuffer getUVTextureBuffer()
+	{
+		return uvTextures.getBuffer();
+	}
+
+	/**
+	 * Permite preencher a regularização dos vértices diretamente, sem chamadas por vértice.
+	 * @return aquisição do buffer com a normalização de todos os vértices (x, y e z) em sequência.
+	 */
+
+	public FloatBuffer getNormalBuffer()
+	{
+		return normals.getBuffer();
+	}
+
+	/**
+	 * Quando intercalados, os atributos por vértice (posição, coordenada UV, normal) são armazenados pelo carregador
+	 * em um único VBO, com os dados de cada vértice em sequência. Os atributos continuam sendo entregues
+	 * separados, a intercalação só é feita no envio ao OpenGL após as etapas feitas na CPU.
+	 * @return true se os atributos devem ser intercalados ou false se cada um terá o seu próprio buffer.
+	 */
+
+	public boolean isInterleaved()
+	{
+		return interleaved;
+	}
+
+	/**
+	 * Permite que leitores solicitem que os atributos por vértice sejam intercalados em um único buffer.
+	 * @param interleaved true para intercalar os atributos ou false para um buffer por atributo.
+	 * @see ModelInterleavedAttribute
+	 */
+
+	public void setInterleaved(boolean interleaved)
+	{
+		this.interleaved = interleaved;
+	}
+
+	/**
+	 * Quando compactados, as posições, coordenadas UV, normais e índices são convertidos para tipos menores
+	 * antes de serem entregues ao carregador, reduzindo aproximadamente pela metade a memória dos vértices.
+	 * @return true se os atributos devem ser compactados ou false caso contrário.
+	 */
+
+	public boolean isCompressed()
+	{
+		return compressed;
+	}
+
+	/**
+	 * Permite que leitores solicitem que os atributos e os índices sejam compactados.
+	 * Atributos compactados não são intercalados, cada um mantém o seu próprio buffer.
+	 * @param compressed true para compactar os atributos ou false para manter números de 32 bits.
+	 * @see ModelCompressionUtil
+	 */
+
+	public void setCompressed(boolean compressed)
+	{
+		this.compressed = compressed;
+	}
+
+	/**
+	 * Permite que leitores definam os limites do modelo quando estes já estiverem armazenados no arquivo.
+	 * Deve ser chamado após inicializar as posições dos vértices, que descartam os limites definidos.
+	 * @param bounds limites que envolvem todos os vértices do modelo.
+	 */
+
+	public void setBounds(ModelBounds bounds)
+	{
+		this.bounds = bounds;
+	}
+
+	/**
+	 * Calcula aproximadamente quantos bytes esse objeto está ocupando em memória.
+	 * @return aquisição do espaço em memória ocupado pelo objeto em bytes.
+	 */
+
+	public int sizeof()
+	{
+		int count = 0;
+
+		if (indexes != null) count += indexes.sizeof();
+		if (vertices != null) count += vertices.sizeof();
+		if (uvTextures != null) count += uvTextures.sizeof();
+		if (normals != null) count += normals.sizeof();
+		if (textures != null) count += textures.sizeof();
+
+		if (packed != null)
+			for (ModelPackedAttribute attribute : packed)
+				count += attribute.sizeof();
+
+		return count;
+	}
+
+	private int getAttributesCount()
+	{
+		int count = 0;
+
+		if (vertices != null) count++;
+		if (uvTextures != null) count++;
+		if (normals != null) count++;
+		if (textures != null) count++;
+		if (packed != null) count += packed.length;
+
+		return count;
+	}
+
+	@Override
+	public ModelIndiceAttribute getIndices()
+	{
+		if (compressed)
+			return ModelCompressionUtil.compress(indexes);
+
+		return indexes;
+	}
+
+	@Override
+	public ModelAttribute[] getAttributes()
+	{
+		int length = getAttributesCount();
+		int offset = 0;
+
+		ModelAttribute attributes[] = new ModelAttribute[length];
+
+		if (vertices != null) attributes[offset++] = vertices;
+		if (uvTextures != null) attributes[offset++] = uvTextures;
+		if (normals != null) attributes[offset++] = normals;
+		if (textures != null) attributes[offset++] = textures;
+
+		if (packed != null)
+			for (ModelPackedAttribute attribute : packed)
+				attributes[offset++] = attribute;
+
+		if (compressed)
+			return ModelCompressionUtil.compress(attributes);
+
+		return attributes;
+	}
+
+	@Override
+	public ModelBounds getBounds()
+	{
+		if (bounds == null && vertices != null)
+			bounds = ModelBounds.compute(vertices.getBuffer(), vertices.size(), vertices.length());
+
+		return bounds;
+	}
+
+	@Override
+	public String toStringDetails()
+	{
+		ObjectDescription description = new ObjectDescription(null);
+
+		if (indexes != null) description.append("indnices", indexes.length());
+		if (vertices != null) description.append("vertex", vertices.length());
+		if (uvTextures != null) description.append("uv", uvTextures.length());
+		if (normals != null) description.append("normal", normals.length());
+		if (textures != null) description.append("textures", textures.length());
+
+		return description.toString();
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		if (indexes != null) description.append("indnices", indexes.length());
+		if (vertices != null) description.append("vertex", vertices.length());
+		if (uvTextures != null) description.append("uv", uvTextures.length());
+		if (normals != null) description.append("normal", normals.length());
+		if (textures != null) description.append("textures", textures.length());
+
+		return description.toString();
+	}
+}
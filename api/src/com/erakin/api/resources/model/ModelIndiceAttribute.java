@@ -1,117 +1,232 @@
-package com.erakin.api.resources.model;
-
-import static com.erakin.api.lwjgl.APIGLUtil.releasedMemory;
-
-import java.nio.IntBuffer;
-
-import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.SizeUtil;
-import org.lwjgl.BufferUtils;
-
-import com.erakin.api.lwjgl.VAO;
-
-/**
- * <h1>Atributo de ndice para Modelo</h1>
- *
- * <p>Um atributo de ndice  usado para melhorar a performance de processamento dos dados de um modelo na renderizao.
- * Atravs dos ndices os vrtices sero conectados, j que cada ndice corresponde a um offset de dados de vrtices em atributos.
- * Apesar de ser um atributo inteiro para um Modelo, os ndices so especificados de outra forma, portanto  atribudo diferentemente.</p>
- *
- * <p>De forma convencional os vrtices precisam ser especificados e normalmente eles acabam sendo duplicados devido a ligaes.
- * Atravs dos ndices, um mesmo ndice pode ser duplicado (offset do vrtice) porm os dados do vrtice em si no so duplicados.
- * Afinal com o offset do vrtice o OpenGL percorre o atributo necessrio e consegue localizar os dados daquele vrtice.</p>
- *
- * @see ModelAttribute
- *
- * @author Andrew
- */
-
-public class ModelIndiceAttribute implements ModelAttribute
-{
-	/**
-	 * Quantidade de valores que sero alocados para cada vrtice.
-	 */
-	private int count;
-
-	/**
-	 * Buffer interno para armazenamento dos nmeros inteiros.
-	 */
-	protected IntBuffer buffer;
-
-	/**
-	 * Cria uma nova instncia de um objeto que armazena os dados do atributo em um buffer.
-	 * Inicializa o buffer de nmeros inteiros conforme os parmetros abaixo:
-	 * @param count quantidade de nmeros inteiros para formar os dados de um vrtice.
-	 */
-
-	public ModelIndiceAttribute(int count)
-	{
-		this.count = count;
-		this.buffer = BufferUtils.createIntBuffer(count);
-	}
-
-	/**
-	 * Calcula quantos bytes so necessrios para que esse atributo esteja disponvel em memria.
-	 * @return aquisio do espao em memria ocupado para definir os valores do buffer do atributo.
-	 */
-
-	public int sizeof()
-	{
-		return buffer.capacity() * Float.BYTES;
-	}
-
-	/**
-	 * Define valores para serem alocados no buffer interno como dados do atributo.
-	 * @param index ndice do vrtice do qual os valores sero alocados no buffer.
-	 * @param value valor numrico inteiro que ser alocado ao ndice especificado.
-	 */
-
-	public void setValue(int index, int value)
-	{
-		buffer.put(index, value);
-	}
-
-	@Override
-	@Deprecated
-	public int getIndex()
-	{
-		throw new UnsupportedOperationException();
-	}
-
-	@Override
-	public int length()
-	{
-		return count;
-	}
-
-	@Override
-	public int size()
-	{
-		return 1;
-	}
-
-	@Override
-	public void storeInVAO(VAO vao)
-	{
-		vao.setIndices(buffer);
-	}
-
-	@Override
-	public void release()
-	{
-		buffer = null;
-
-		releasedMemory(Integer.BYTES * count);
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		description.append("count", count);
-		description.append("sizeof", SizeUtil.toString(sizeof()));
-
-		return description.toString();
-	}
-}
+package com.erakin.api.resources.model;
+
+import static com.erakin.api.lwjgl.APIGLUtil.releasedMemory;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_INT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.SizeUtil;
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.lwjgl.VAO;
+
+/**
+ * <h1>Atributo de Índice para Modelo</h1>
+ *
+ * <p>Um atributo de índice é usado para melhorar a performance de processamento dos dados de um modelo na renderização.
+ * Através dos índices os vértices serão conectados, já que cada índice corresponde a um offset de dados de vértices em atributos.
+ * Apesar de ser um atributo inteiro para um Modelo, os índices são especificados de outra forma, portanto é atribuído diferentemente.</p>
+ *
+ * <p>De forma convencional os vértices precisam ser especificados e normalmente eles acabam sendo duplicados devido a ligações.
+ * Através dos índices, um mesmo índice pode ser duplicado (offset do vértice) porém os dados do vértice em si não são duplicados.
+ * Afinal com o offset do vértice o OpenGL percorre o atributo necessário e consegue localizar os dados daquele vértice.</p>
+ *
+ * @see ModelAttribute
+ *
+ * @author Andrew
+ */
+
+public class ModelIndiceAttribute implements ModelAttribute
+{
+	/**
+	 * Quantidade de valores que serão alocados para cada vértice.
+	 */
+	private int count;
+
+	/**
+	 * Buffer interno para armazenamento dos números inteiros.
+	 */
+	protected IntBuffer buffer;
+
+	/**
+	 * Buffer interno para armazenamento dos índices de 16 bits, usado no lugar de <code>buffer</code> se definido.
+	 */
+	protected ShortBuffer shortBuffer;
+
+	/**
+	 * Cria uma nova instância de um objeto que armazena os dados do atributo em um buffer.
+	 * Inicializa o buffer de números inteiros conforme os parâmetros abaixo:
+	 * @param count quantidade de números inteiros para formar os dados de um vértice.
+	 */
+
+	public ModelIndiceAttribute(int count)
+	{
+		this.count = count;
+		this.buffer = BufferUtils.createIntBuffer(count);
+	}
+
+	/**
+	 * Cria uma nova instância de um objeto que utiliza diretamente um buffer já existente, sem copiar os índices.
+	 * O buffer deve ser direto e estar na ordem de bytes nativa, os índices são considerados a partir da posição atual.
+	 * @param buffer buffer contendo os índices, não será copiado.
+	 */
+
+	public ModelIndiceAttribute(IntBuffer buffer)
+	{
+		this.count = buffer.remaining();
+		this.buffer = buffer.slice();
+	}
+
+	/**
+	 * Cria uma nova instância de um objeto que utiliza diretamente um buffer de índices de 16 bits.
+	 * Os índices são considerados sem sinal, permitindo referenciar até 65536 vértices.
+	 * @param buffer buffer contendo os índices, não será copiado.
+	 */
+
+	public ModelIndiceAttribute(ShortBuffer buffer)
+	{
+		this.count = buffer.remaining();
+		this.shortBuffer = buffer.slice();
+	}
+
+	/**
+	 * Calcula quantos bytes são necessários para que esse atributo esteja disponível em memória.
+	 * @return aquisição do espaço em memória ocupado para definir os valores do buffer do atributo.
+	 */
+
+	public int sizeof()
+	{
+		if (shortBuffer != null)
+			return shortBuffer.capacity() * Short.BYTES;
+
+		return buffer.capacity() * Integer.BYTES;
+	}
+
+	/**
+	 * Define valores para serem alocados no buffer interno como dados do atributo.
+	 * @param index índice do vértice do qual os valores serão alocados no buffer.
+	 * @param value valor numérico inteiro que será alocado ao índice especificado.
+	 */
+
+	public void setValue(int index, int value)
+	{
+		if (shortBuffer != null)
+			shortBuffer.put(index, (short) value);
+		else
+			buffer.put(index, value);
+	}
+
+	/**
+	 * Copia de uma única vez índices de um vetor para o buffer interno, independente do tipo dos índices.
+	 * @param index posição do primeiro índice no buffer interno.
+	 * @param src vetor contendo os índices que serão copiados.
+	 * @param offset posição do primeiro índice no vetor que será copiado.
+	 * @param length quantidade de índices que serão copiados.
+	 */
+
+	public void put(int index, int src[], int offset, int length)
+	{
+		if (shortBuffer != null)
+		{
+			for (int i = 0; i < length; i++)
+				shortBuffer.put(index + i, (short) src[offset + i]);
+		}
+
+		else
+		{
+			IntBuffer target = buffer.duplicate();
+			target.position(index);
+			target.put(src, offset, length);
+		}
+	}
+
+	/**
+	 * Obtém um dos índices alocados no buffer interno, independente do tipo dos índices.
+	 * @param index posição do índice no buffer interno.
+	 * @return aquisição do índice do vértice alocado na posição especificada.
+	 */
+
+	public int getValue(int index)
+	{
+		if (shortBuffer != null)
+			return shortBuffer.get(index) & 0xFFFF;
+
+		return buffer.get(index);
+	}
+
+	/**
+	 * Cria uma cópia desse atributo utilizando índices de 16 bits, que ocupam metade da memória.
+	 * Só é possível se nenhum índice referenciar um vértice além do 65535 (modelos com menos de 65536 vértices).
+	 * @return aquisição de um novo atributo com índices de 16 bits ou o próprio atributo se não for possível.
+	 */
+
+	public ModelIndiceAttribute compact()
+	{
+		if (shortBuffer != null)
+			return this;
+
+		for (int i = 0; i < count; i++)
+			if (buffer.get(i) < 0 || buffer.get(i) > 0xFFFF)
+				return this;
+
+		ShortBuffer shorts = BufferUtils.createShortBuffer(count);
+
+		for (int i = 0; i < count; i++)
+			shorts.put(i, (short) buffer.get(i));
+
+		return new ModelIndiceAttribute(shorts);
+	}
+
+	@Override
+	@Deprecated
+	public int getIndex()
+	{
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int length()
+	{
+		return count;
+	}
+
+	@Override
+	public int size()
+	{
+		return 1;
+	}
+
+	@Override
+	public int getType()
+	{
+		return shortBuffer != null ? GL_UNSIGNED_SHORT : GL_UNSIGNED_INT;
+	}
+
+	@Override
+	public boolean isNormalized()
+	{
+		return false;
+	}
+
+	@Override
+	public void storeInVAO(VAO vao)
+	{
+		if (shortBuffer != null)
+			vao.setIndices(shortBuffer);
+		else
+			vao.setIndices(buffer);
+	}
+
+	@Override
+	public void release()
+	{
+		releasedMemory((shortBuffer != null ? Short.BYTES : Integer.BYTES) * count);
+
+		buffer = null;
+		shortBuffer = null;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("count", count);
+		description.append("sizeof", SizeUtil.toString(sizeof()));
+
+		return description.toString();
+	}
+}
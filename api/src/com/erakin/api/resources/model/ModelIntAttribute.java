@@ -1,128 +1,195 @@
-package com.erakin.api.resources.model;
-
-import static com.erakin.api.lwjgl.APIGLUtil.releasedMemory;
-
-import java.nio.IntBuffer;
-
-import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.SizeUtil;
-import org.lwjgl.BufferUtils;
-
-import com.erakin.api.lwjgl.VAO;
-
-/**
- * <h1>Atributo Inteiro para Modelo</h1>
- *
- * <p>Um atributo permite armazenar um tipo especifico de dado que quando juntos correspondem a uma informao de um modelo.
- * Para esse caso o atributo  para guardar informaes que correspondam a valores numricos inteiros.</p>
- *
- * @see ModelAttribute
- *
- * @author Andrew
- */
-
-public class ModelIntAttribute implements ModelAttribute
-{
-	/**
-	 * ndice para alocao do atributo no {@link VAO}.
-	 */
-	private int attribute;
-
-	/**
-	 * Quantidade de valores que sero alocados para cada vrtice.
-	 */
-	private int size;
-
-	/**
-	 * Quantidade de vrtices existentes para vincular os valores.
-	 */
-	private int length;
-
-	/**
-	 * Buffer interno para armazenamento dos nmeros inteiros.
-	 */
-	protected IntBuffer buffer;
-
-	/**
-	 * Cria uma nova instncia de um objeto que armazena os dados do atributo em um buffer.
-	 * Inicializa o buffer de nmeros inteiros conforme os parmetros abaixo:
-	 * @param attribute identificao do atributo para ser vinculado ao {@link VAO}
-	 * @param size quantidade de nmeros flutuantes para formar os dados de um vrtice.
-	 * @param length quantidade de conjunto de dados necessrios para especificar o atributo.
-	 */
-
-	public ModelIntAttribute(int attribute, int size, int length)
-	{
-		this.attribute = attribute;
-		this.size = size;
-		this.length = length;
-		this.buffer = BufferUtils.createIntBuffer(size * length);
-	}
-
-	/**
-	 * Calcula quantos bytes so necessrios para que esse atributo esteja disponvel em memria.
-	 * @return aquisio do espao em memria ocupado para definir os valores do buffer do atributo.
-	 */
-
-	public int sizeof()
-	{
-		return buffer.capacity() * Float.BYTES;
-	}
-
-	/**
-	 * Define valores para serem alocados no buffer interno como dados do atributo.
-	 * @param index ndice do vrtice do qual os valores sero alocados no buffer.
-	 * @param values valores numricos inteiros que sero alocados ao ndice especificado.
-	 */
-
-	public void setValue(int index, int... values)
-	{
-		for (int i = 0; i < values.length; i++)
-			buffer.put((index * size) + i, values[i]);
-	}
-
-	@Override
-	public int getIndex()
-	{
-		return attribute;
-	}
-
-	@Override
-	public int length()
-	{
-		return length;
-	}
-
-	@Override
-	public int size()
-	{
-		return size;
-	}
-
-	@Override
-	public void storeInVAO(VAO vao)
-	{
-		vao.setAttribute(getIndex(), size(), buffer);
-	}
-
-	@Override
-	public void release()
-	{
-		buffer = null;
-
-		releasedMemory(Integer.BYTES * size * length);
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		description.append("attribute", attribute);
-		description.append("size", size);
-		description.append("length", length);
-		description.append("sizeof", SizeUtil.toString(sizeof()));
-
-		return description.toString();
-	}
-}
+package com.erakin.api.resources.model;
+
+import static com.erakin.api.lwjgl.APIGLUtil.releasedMemory;
+import static org.lwjgl.opengl.GL11.GL_INT;
+
+import java.nio.IntBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.SizeUtil;
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.lwjgl.VAO;
+
+/**
+ * <h1>Atributo Inteiro para Modelo</h1>
+ *
+ * <p>Um atributo permite armazenar um tipo especifico de dado que quando juntos correspondem a uma informação de um modelo.
+ * Para esse caso o atributo é para guardar informações que correspondam a valores numéricos inteiros.</p>
+ *
+ * @see ModelAttribute
+ *
+ * @author Andrew
+ */
+
+public class ModelIntAttribute implements ModelAttribute
+{
+	/**
+	 * Índice para alocação do atributo no {@link VAO}.
+	 */
+	private int attribute;
+
+	/**
+	 * Quantidade de valores que serão alocados para cada vértice.
+	 */
+	private int size;
+
+	/**
+	 * Quantidade de vértices existentes para vincular os valores.
+	 */
+	private int length;
+
+	/**
+	 * Buffer interno para armazenamento dos números inteiros.
+	 */
+	protected IntBuffer buffer;
+
+	/**
+	 * Cria uma nova instância de um objeto que armazena os dados do atributo em um buffer.
+	 * Inicializa o buffer de números inteiros conforme os parâmetros abaixo:
+	 * @param attribute identificação do atributo para ser vinculado ao {@link VAO}
+	 * @param size quantidade de números flutuantes para formar os dados de um vértice.
+	 * @param length quantidade de conjunto de dados necessários para especificar o atributo.
+	 */
+
+	public ModelIntAttribute(int attribute, int size, int length)
+	{
+		this.attribute = attribute;
+		this.size = size;
+		this.length = length;
+		this.buffer = BufferUtils.createIntBuffer(size * length);
+	}
+
+	/**
+	 * Calcula quantos bytes são necessários para que esse atributo esteja disponível em memória.
+	 * @return aquisição do espaço em memória ocupado para definir os valores do buffer do atributo.
+	 */
+
+	public int sizeof()
+	{
+		return buffer.capacity() * Float.BYTES;
+	}
+
+	/**
+	 * Define valores para serem alocados no buffer interno como dados do atributo.
+	 * @param index índice do vértice do qual os valores serão alocados no buffer.
+	 * @param values valores numéricos inteiros que serão alocados ao índice especificado.
+	 */
+
+	public void setValue(int index, int... values)
+	{
+		for (int i = 0; i < values.length; i++)
+			buffer.put((index * size) + i, values[i]);
+	}
+
+	/**
+	 * Define o valor de um vértice de um atributo com apenas um valor por vértice, sem alocar um vetor.
+	 * @param index índice do vértice do qual o valor será alocado no buffer.
+	 * @param value valor numérico inteiro que será alocado ao índice especificado.
+	 */
+
+	public void setValue1(int index, int value)
+	{
+		buffer.put(index * size, value);
+	}
+
+	/**
+	 * Copia de uma única vez valores de um vetor para o buffer interno, a partir de um vértice.
+	 * @param index índice do primeiro vértice do qual os valores serão alocados no buffer.
+	 * @param src vetor contendo os valores numéricos inteiros que serão copiados.
+	 * @param offset posição do primeiro valor no vetor que será copiado.
+	 * @param length quantidade de valores (não de vértices) que serão copiados.
+	 */
+
+	public void put(int index, int src[], int offset, int length)
+	{
+		IntBuffer target = buffer.duplicate();
+		target.position(index * size);
+		target.put(src, offset, length);
+	}
+
+	/**
+	 * Buffer interno com os valores de todos os vértices em sequência, na ordem de bytes nativa.
+	 * Permite que leitores preencham os valores diretamente no buffer através de posições absolutas.
+	 * @return aquisição do buffer contendo os valores do atributo.
+	 */
+
+	public IntBuffer getBuffer()
+	{
+		return buffer;
+	}
+
+	/**
+	 * Reordena os vértices desse atributo, usado pelo otimizador de modelagens.
+	 * @param order vetor onde cada posição contém o índice antigo do vértice que ocupará aquela posição.
+	 */
+
+	void remap(int order[])
+	{
+		IntBuffer remapped = BufferUtils.createIntBuffer(size * order.length);
+
+		for (int i = 0; i < order.length; i++)
+			for (int j = 0; j < size; j++)
+				remapped.put(i * size + j, buffer.get(order[i] * size + j));
+
+		buffer = remapped;
+		length = order.length;
+	}
+
+	@Override
+	public int getIndex()
+	{
+		return attribute;
+	}
+
+	@Override
+	public int length()
+	{
+		return length;
+	}
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	@Override
+	public int getType()
+	{
+		return GL_INT;
+	}
+
+	@Override
+	public boolean isNormalized()
+	{
+		return false;
+	}
+
+	@Override
+	public void storeInVAO(VAO vao)
+	{
+		vao.setAttribute(getIndex(), size(), buffer);
+	}
+
+	@Override
+	public void release()
+	{
+		buffer = null;
+
+		releasedMemory(Integer.BYTES * size * length);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("attribute", attribute);
+		description.append("size", size);
+		description.append("length", length);
+		description.append("sizeof", SizeUtil.toString(sizeof()));
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,239 @@
+package com.erakin.api.resources.model;
+
+import static com.erakin.api.lwjgl.APIGLUtil.releasedMemory;
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.SizeUtil;
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.lwjgl.VAO;
+
+/**
+ * <h1>Atributo Intercalado para Modelo</h1>
+ *
+ * <p>Junta vários atributos flutuantes de um modelo em um único buffer, onde os dados de cada vértice
+ * ficam em sequência (por exemplo x, y, z, u, v, nx, ny, nz) ao invés de um buffer separado por atributo.
+ * Desta forma o modelo utiliza um único VBO e os dados de um mesmo vértice são lidos juntos pelo OpenGL.</p>
+ *
+ * <p>Apenas atributos com a mesma quantidade de dados (um para cada vértice) podem ser intercalados.
+ * O índice deste atributo é o do primeiro atributo intercalado, os demais são obtidos por <code>getIndexes()</code>.</p>
+ *
+ * @see ModelAttribute
+ * @see ModelFloatAttribute
+ *
+ * @author Andrew
+ */
+
+public class ModelInterleavedAttribute implements ModelAttribute
+{
+	/**
+	 * Índices para alocação de cada atributo intercalado no {@link VAO}.
+	 */
+	private int indexes[];
+
+	/**
+	 * Quantidade de valores de cada atributo intercalado por vértice.
+	 */
+	private int sizes[];
+
+	/**
+	 * Posição em bytes do primeiro valor de cada atributo dentro de um vértice.
+	 */
+	private int offsets[];
+
+	/**
+	 * Quantidade de valores ocupados por cada vértice somando todos os atributos.
+	 */
+	private int stride;
+
+	/**
+	 * Quantidade de vértices existentes para vincular os valores.
+	 */
+	private int length;
+
+	/**
+	 * Buffer interno com os valores de todos os atributos intercalados.
+	 */
+	private FloatBuffer buffer;
+
+	/**
+	 * Cria um novo atributo intercalando os valores dos atributos especificados, na ordem em que foram passados.
+	 * @param attributes atributos flutuantes que serão intercalados, todos devem possuir o mesmo comprimento.
+	 */
+
+	public ModelInterleavedAttribute(ModelFloatAttribute... attributes)
+	{
+		if (attributes.length == 0)
+			throw new ModelRuntimeException("nenhum atributo para intercalar");
+
+		indexes = new int[attributes.length];
+		sizes = new int[attributes.length];
+		offsets = new int[attributes.length];
+		length = attributes[0].length();
+
+		for (int i = 0; i < attributes.length; i++)
+		{
+			if (attributes[i].length() != length)
+				throw new ModelRuntimeException("atributos com comprimentos diferentes (%d, %d)", length, attributes[i].length());
+
+			indexes[i] = attributes[i].getIndex();
+			sizes[i] = attributes[i].size();
+			offsets[i] = stride * Float.BYTES;
+			stride += sizes[i];
+		}
+
+		buffer = BufferUtils.createFloatBuffer(stride * length);
+
+		for (int i = 0; i < attributes.length; i++)
+		{
+			FloatBuffer source = attributes[i].getBuffer();
+			int offset = offsets[i] / Float.BYTES;
+
+			for (int vertex = 0; vertex < length; vertex++)
+				for (int j = 0; j < sizes[i]; j++)
+					buffer.put(vertex * stride + offset + j, source.get(vertex * sizes[i] + j));
+		}
+	}
+
+	/**
+	 * Intercala todos os atributos flutuantes que possuem o mesmo comprimento do primeiro atributo.
+	 * Atributos de outros tipos ou com comprimentos diferentes são mantidos separados.
+	 * @param attributes vetor com os atributos do modelo, o primeiro deve ser o posicionamento dos vértices.
+	 * @return aquisição de um novo vetor onde os atributos intercalados ocupam a primeira posição,
+	 * ou o próprio vetor se houver menos de dois atributos que possam ser intercalados.
+	 */
+
+	public static ModelAttribute[] interleave(ModelAttribute attributes[])
+	{
+		if (attributes.length < 2 || !(attributes[0] instanceof ModelFloatAttribute))
+			return attributes;
+
+		int count = 0;
+		ModelFloatAttribute interleaved[] = new ModelFloatAttribute[attributes.length];
+
+		for (ModelAttribute attribute : attributes)
+			if (attribute instanceof ModelFloatAttribute && attribute.length() == attributes[0].length())
+				interleaved[count++] = (ModelFloatAttribute) attribute;
+
+		if (count < 2)
+			return attributes;
+
+		ModelAttribute result[] = new ModelAttribute[attributes.length - count + 1];
+		int offset = 0;
+
+		result[offset++] = new ModelInterleavedAttribute(Arrays.copyOf(interleaved, count));
+
+		for (ModelAttribute attribute : attributes)
+			if (!(attribute instanceof ModelFloatAttribute) || attribute.length() != attributes[0].length())
+				result[offset++] = attribute;
+
+		return result;
+	}
+
+	/**
+	 * Calcula quantos bytes são necessários para que esse atributo esteja disponível em memória.
+	 * @return aquisição do espaço em memória ocupado para definir os valores do buffer do atributo.
+	 */
+
+	public int sizeof()
+	{
+		return buffer.capacity() * Float.BYTES;
+	}
+
+	/**
+	 * Um atributo intercalado ocupa um índice do {@link VAO} para cada atributo que foi intercalado.
+	 * @return aquisição dos índices de todos os atributos intercalados.
+	 */
+
+	public int[] getIndexes()
+	{
+		return indexes;
+	}
+
+	/**
+	 * @return aquisição da quantidade de bytes ocupados por cada vértice somando todos os atributos.
+	 */
+
+	public int getStride()
+	{
+		return stride * Float.BYTES;
+	}
+
+	/**
+	 * Reordena os vértices desse atributo, usado pelo otimizador de modelagens.
+	 * @param order vetor onde cada posição contém o índice antigo do vértice que ocupará aquela posição.
+	 */
+
+	void remap(int order[])
+	{
+		FloatBuffer remapped = BufferUtils.createFloatBuffer(stride * order.length);
+
+		for (int i = 0; i < order.length; i++)
+			for (int j = 0; j < stride; j++)
+				remapped.put(i * stride + j, buffer.get(order[i] * stride + j));
+
+		buffer = remapped;
+		length = order.length;
+	}
+
+	@Override
+	public int getIndex()
+	{
+		return indexes[0];
+	}
+
+	@Override
+	public int length()
+	{
+		return length;
+	}
+
+	@Override
+	public int size()
+	{
+		return stride;
+	}
+
+	@Override
+	public int getType()
+	{
+		return GL_FLOAT;
+	}
+
+	@Override
+	public boolean isNormalized()
+	{
+		return false;
+	}
+
+	@Override
+	public void storeInVAO(VAO vao)
+	{
+		vao.setAttributes(indexes, sizes, offsets, getStride(), buffer);
+	}
+
+	@Override
+	public void release()
+	{
+		buffer = null;
+
+		releasedMemory(Float.BYTES * stride * length);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("attributes", indexes.length);
+		description.append("stride", getStride());
+		description.append("length", length);
+		description.append("sizeof", SizeUtil.toString(sizeof()));
+
+		return description.toString();
+	}
+}
@@ -1,168 +1,664 @@
-package com.erakin.api.resources.model;
-
-import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_VERTEX;
-import static org.diverproject.log.LogSystem.logDebug;
-import static org.diverproject.log.LogSystem.logWarning;
-
-import java.io.FileInputStream;
-
-import com.erakin.api.lwjgl.VAO;
-import com.erakin.api.resources.ResourceLoaderDefault;
-import com.erakin.api.resources.ResourceMap;
-import com.erakin.api.resources.ResourceRoot;
-
-/**
- * <h1>Carregador de Modelagem</h1>
- *
- * <p>Usada para fazer um gerenciamento avanado das modelagens tri-dimensionais carregadas a partir de arquivos.
- * Alm de carregar, salva as informaes em uma pasta virtual em memria para que no seja carregada duas vezes.</p>
- *
- * <p>Por exemplo, um modelo chamado <b>casa.obj</b> ir verificar se este objeto j foi carregado no sistema,
- * caso ele j tenha sido carregado, ir usar as informaes deste objeto ao invs de ler os dados do arquivo.
- * Esse sistema permite alm de economizar tempo de processamento evitar consumo de memria desnecessrio.</p>
- *
- * <p>Por padro os objetos sero considerados no formato <b>mdl</b> que  o utilizado pela biblioteca Erakin.
- * Porm  possvel tambm utilizar outras formataes como <b>obj</b> ou ainda adicionar a sua  lista.
- * Sendo possvel aumentar a diversidade de formas para trabalhar com os dados de objetos tri-dimensionais.</p>
- *
- * @see ResourceMap
- * @see ModelReader
- * @see ModelReaderFactory
- *
- * @author Andrew Mello
- */
-
-public final class ModelLoader extends ResourceLoaderDefault<Model>
-{
-	/**
-	 * Instncia para carregador de modelagem no padro de projetos Singleton.
-	 */
-	private static final ModelLoader instance = new ModelLoader();
-
-	/**
-	 * Nome padro para mapeamento de mundos.
-	 */
-	public static final String DEFAULT_PATH = "models";
-
-	/**
-	 * Construtor privado para evitar mltiplas instncias para o carregador de modelagens.
-	 * Inicializa o mapeador de recursos definindo o seu nome por padro <code>DEFAULT_PATH</code>.
-	 */
-
-	private ModelLoader()
-	{
-		super(DEFAULT_PATH);
-	}
-
-	/**
-	 * Permite obter uma determinada modelagem j carregada ou ento forar o carregamento desta.
-	 * Se a modelagem existir ir retornar uma modelagem temporria dessa raz caso contrrio ir
-	 * criar uma nova raz carregando as informaes do arquivo de acordo com o nome da modelagem.
-	 * Utiliza as propriedades de preferncias que definem o caminho para arquivos de modelagem.
-	 * @param name nome do qual foi dado a modelagem, em outras palavras o nome do arquivo,
-	 * caso no seja definido nenhuma extenso para esse, ser considerado <b>mdl</b> por padro.
-	 * @return aquisio do objeto de modelagem temporrio gerado da raz de acordo com o nome.
-	 * @throws ModelException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
-	 */
-
-	public Model getModel(String name) throws ModelException
-	{
-		if (!name.contains("."))
-			name += ".mdl";
-
-		ResourceRoot<Model> resourceRoot = selectResource(name);
-
-		if (resourceRoot != null)
-		{
-			ModelRoot modelRoot = (ModelRoot) resourceRoot;
-			return modelRoot.genResource();
-		}
-
-		String path = getPathname() + name;
-		ModelReaderFactory factory = ModelReaderFactory.getInstance();
-		ModelReader reader = factory.getModelReaderOf(path);
-
-		try {
-
-			ModelData data = reader.readModel(new FileInputStream(path));
-			Model model = createModel(path, data);
-
-			return model;
-
-		} catch (Exception e) {
-			throw new ModelException(e);
-		}
-	}
-
-	/**
-	 * Permite construir uma nova modelagem tri-dimensional a partir das informaes abaixo.
-	 * Caso o caminho de alocao j esteja sendo usado por outra no ser possvel criar.
-	 * Se for possvel criar, a modelagem raz ser armazenada e gerada uma temporria.
-	 * @param path caminho onde foi localizado a modelagem, onde deve ser alocada.
-	 * @param data objeto contendo os dados da modelagem do qual ser criada.
-	 * @return aquisio de uma modelagem tri-dimensional de uso temporrio.
-	 */
-
-	public Model createModel(String path, ModelData data)
-	{
-		if (path == null)
-			throw new ModelRuntimeException("caminho no definido");
-
-		if (data == null)
-			throw new ModelRuntimeException("dados no definido");
-
-		if (!path.startsWith(getResourceName()))
-		{
-			if (path.contains(getResourceName()+ "/"))
-				path = path.substring(path.indexOf(getResourceName()), path.length());
-			else
-				path = String.format("%s/%s", getResourceName(), path);
-		}
-
-		if (containResource(path))
-			throw new ModelRuntimeException("modelagem j existente (%s)", path);
-
-		ModelRoot root = new ModelRoot(path);
-		root.vao = new VAO();
-		root.vao.bind();
-		{
-			root.attributes = new int[data.getAttributes().length];
-
-			if (data.getIndices() != null)
-				data.getIndices().storeInVAO(root.vao);
-			else
-				for (ModelAttribute attribute : data.getAttributes())
-					if (attribute.getIndex() == ATTRIB_VERTEX)
-					{
-						root.vao.setVertexCount(attribute.length());
-						break;
-					}
-
-			for (int i = 0; i < data.getAttributes().length; i++)
-			{
-				ModelAttribute attribute = data.getAttributes()[i];
-				attribute.storeInVAO(root.vao);
-				root.attributes[i] = attribute.getIndex();
-			}
-		}
-		root.vao.unbind();
-
-		logDebug("modelagem '%s' lida com xito (%s).\n", root.getFileName(), data.toStringDetails());
-
-		if (!insertResource(root))
-			logWarning("no foi possvel salvar a modelagem '%s'.\n", root.getFileName());
-
-		return root.genResource();
-	}
-
-	/**
-	 * Procedimento que permite obter a nica instncia do carregador de modelagem.
-	 * Utiliza o padro Singleton para evitar a existncia de mais instncias.
-	 * @return aquisio da instncia para utilizao do carregador de modelagem.
-	 */
-
-	public static ModelLoader getInstance()
-	{
-		return instance;
-	}
-}
+package com.erakin.api.resources.model;
+
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_VERTEX;
+import static org.diverproject.log.LogSystem.logDebug;
+import static org.diverproject.log.LogSystem.logWarning;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import com.erakin.api.lwjgl.VAO;
+import com.erakin.api.resources.ResourceLoaderDefault;
+import com.erakin.api.resources.ResourceMap;
+import com.erakin.api.resources.ResourceRoot;
+
+/**
+ * <h1>Carregador de Modelagem</h1>
+ *
+ * <p>Usada para fazer um gerenciamento avançado das modelagens tri-dimensionais carregadas a partir de arquivos.
+ * Além de carregar, salva as informações em uma pasta virtual em memória para que não seja carregada duas vezes.</p>
+ *
+ * <p>Por exemplo, um modelo chamado <b>casa.obj</b> irá verificar se este objeto já foi carregado no sistema,
+ * caso ele já tenha sido carregado, irá usar as informações deste objeto ao invés de ler os dados do arquivo.
+ * Esse sistema permite além de economizar tempo de processamento evitar consumo de memória desnecessário.</p>
+ *
+ * <p>Por padrão os objetos serão considerados no formato <b>mdl</b> que é o utilizado pela biblioteca Erakin.
+ * Porém é possível também utilizar outras formatações como <b>obj</b> ou ainda adicionar a sua à lista.
+ * Sendo possível aumentar a diversidade de formas para trabalhar com os dados de objetos tri-dimensionais.</p>
+ *
+ * @see ResourceMap
+ * @see ModelReader
+ * @see ModelReaderFactory
+ *
+ * @author Andrew Mello
+ */
+
+public final class ModelLoader extends ResourceLoaderDefault<Model>
+{
+	/**
+	 * Instância para carregador de modelagem no padrão de projetos Singleton.
+	 */
+	private static final ModelLoader instance = new ModelLoader();
+
+	/**
+	 * Nome padrão para mapeamento de mundos.
+	 */
+	public static final String DEFAULT_PATH = "models";
+
+	/**
+	 * Os atributos por vértice das modelagens criadas devem ser intercalados em um único buffer.
+	 */
+	private boolean interleaved;
+
+	/**
+	 * Os atributos e os índices das modelagens criadas devem ser compactados.
+	 */
+	private boolean compressed;
+
+	/**
+	 * Os triângulos e os vértices das modelagens criadas devem ser reordenados para o cache de vértices.
+	 */
+	private boolean optimized;
+
+	/**
+	 * Quantidade de níveis de detalhe gerados para as modelagens criadas além do detalhe máximo.
+	 */
+	private int levelsOfDetail;
+
+	/**
+	 * Fração dos triângulos do nível anterior mantida em cada nível de detalhe.
+	 */
+	private float levelOfDetailRatio;
+
+	/**
+	 * Distância entre cada nível de detalhe das modelagens criadas.
+	 */
+	private float levelOfDetailDistance;
+
+	/**
+	 * Os triângulos das modelagens criadas devem ser divididos em agrupamentos que podem ser descartados.
+	 */
+	private boolean meshlets;
+
+	/**
+	 * Lote onde serão armazenadas as modelagens criadas com o mesmo formato de vértices.
+	 */
+	private ModelBatch batch;
+
+	/**
+	 * Construtor privado para evitar múltiplas instâncias para o carregador de modelagens.
+	 * Inicializa o mapeador de recursos definindo o seu nome por padrão <code>DEFAULT_PATH</code>.
+	 */
+
+	private ModelLoader()
+	{
+		super(DEFAULT_PATH);
+
+		levelOfDetailRatio = 0.5f;
+		levelOfDetailDistance = 50f;
+	}
+
+	/**
+	 * Permite obter uma determinada modelagem já carregada ou então forçar o carregamento desta.
+	 * Se a modelagem existir irá retornar uma modelagem temporária dessa raíz caso contrário irá
+	 * criar uma nova raíz carregando as informações do arquivo de acordo com o nome da modelagem.
+	 * Utiliza as propriedades de preferências que definem o caminho para arquivos de modelagem.
+	 * @param name nome do qual foi dado a modelagem, em outras palavras o nome do arquivo,
+	 * caso não seja definido nenhuma extensão para esse, será considerado <b>mdl</b> por padrão.
+	 * @return aquisição do objeto de modelagem temporário gerado da raíz de acordo com o nome.
+	 * @throws ModelException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
+	 */
+
+	public Model getModel(String name) throws ModelException
+	{
+		if (!name.contains("."))
+			name += ".mdl";
+
+		ResourceRoot<Model> resourceRoot = selectResource(name);
+
+		if (resourceRoot != null)
+		{
+			ModelRoot modelRoot = (ModelRoot) resourceRoot;
+			return modelRoot.genResource();
+		}
+
+		String path = getPathname() + name;
+		ModelReaderFactory factory = ModelReaderFactory.getInstance();
+		ModelReader reader = factory.getModelReaderOf(path);
+
+		try {
+
+			ModelData data = reader.readModel(new FileInputStream(path));
+			Model model = createModel(path, data);
+
+			return model;
+
+		} catch (Exception e) {
+			throw new ModelException(e);
+		}
+	}
+
+	/**
+	 * Permite construir uma nova modelagem tri-dimensional a partir das informações abaixo.
+	 * Caso o caminho de alocação já esteja sendo usado por outra não será possível criar.
+	 * Se for possível criar, a modelagem raíz será armazenada e gerada uma temporária.
+	 * @param path caminho onde foi localizado a modelagem, onde deve ser alocada.
+	 * @param data objeto contendo os dados da modelagem do qual será criada.
+	 * @return aquisição de uma modelagem tri-dimensional de uso temporário.
+	 */
+
+	public Model createModel(String path, ModelData data)
+	{
+		if (path == null)
+			throw new ModelRuntimeException("caminho não definido");
+
+		if (data == null)
+			throw new ModelRuntimeException("dados não definido");
+
+		if (!path.startsWith(getResourceName()))
+		{
+			if (path.contains(getResourceName()+ "/"))
+				path = path.substring(path.indexOf(getResourceName()), path.length());
+			else
+				path = String.format("%s/%s", getResourceName(), path);
+		}
+
+		if (containResource(path))
+			throw new ModelRuntimeException("modelagem já existente (%s)", path);
+
+		ModelAttribute attributes[] = data.getAttributes();
+		ModelIndiceAttribute indices = data.getIndices();
+
+		if (optimized && indices != null)
+		{
+			ModelOptimizer optimizer = new ModelOptimizer();
+			optimizer.optimize(indices, attributes);
+
+			logDebug("modelagem '%s' otimizada (acmr: %.3f -> %.3f).\n", path, optimizer.getACMRBefore(), optimizer.getACMRAfter());
+		}
+
+		ModelRoot root = new ModelRoot(path);
+		root.bounds = data.getBounds();
+
+		if (root.bounds == null)
+			root.bounds = computeBounds(attributes);
+
+		if (meshlets && indices != null)
+			createMeshlets(root, indices, attributes);
+
+		if (levelsOfDetail > 0 && indices != null)
+			indices = createLevelsOfDetail(root, indices, attributes);
+
+		if (compressed)
+		{
+			attributes = ModelCompressionUtil.compress(attributes);
+			indices = ModelCompressionUtil.compress(indices);
+		}
+
+		else if (interleaved || data instanceof ModelDataDefault && ((ModelDataDefault) data).isInterleaved())
+			attributes = ModelInterleavedAttribute.interleave(attributes);
+
+		for (ModelAttribute attribute : attributes)
+			if (attribute instanceof ModelPackedAttribute && attribute.getIndex() == ATTRIB_VERTEX)
+			{
+				ModelPackedAttribute packed = (ModelPackedAttribute) attribute;
+
+				if (packed.getScale() != null)
+				{
+					root.positionOffset = packed.getOffset();
+					root.positionScale = packed.getScale();
+				}
+			}
+
+		if (batch != null && batch.store(root, attributes, indices))
+		{
+			logDebug("modelagem '%s' lida com êxito em lote (%s).\n", root.getFileName(), data.toStringDetails());
+
+			if (!insertResource(root))
+				logWarning("não foi possível salvar a modelagem '%s'.\n", root.getFileName());
+
+			return root.genResource();
+		}
+
+		root.vao = new VAO();
+		root.vao.bind();
+		{
+			root.attributes = new int[0];
+
+			if (indices != null)
+				indices.storeInVAO(root.vao);
+			else
+				for (ModelAttribute attribute : attributes)
+					if (attribute.getIndex() == ATTRIB_VERTEX)
+					{
+						root.vao.setVertexCount(attribute.length());
+						break;
+					}
+
+			for (ModelAttribute attribute : attributes)
+			{
+				attribute.storeInVAO(root.vao);
+
+				if (attribute instanceof ModelInterleavedAttribute)
+					for (int index : ((ModelInterleavedAttribute) attribute).getIndexes())
+						root.attributes = append(root.attributes, index);
+				else
+					root.attributes = append(root.attributes, attribute.getIndex());
+			}
+		}
+		root.vao.unbind();
+
+		logDebug("modelagem '%s' lida com êxito (%s).\n", root.getFileName(), data.toStringDetails());
+
+		if (!insertResource(root))
+			logWarning("não foi possível salvar a modelagem '%s'.\n", root.getFileName());
+
+		return root.genResource();
+	}
+
+	/**
+	 * Descarrega imediatamente a raíz de uma modelagem: libera todas as suas referências, o seu VAO (ou o seu
+	 * espaço no lote) e a remove do carregador, permitindo que outra modelagem seja criada no mesmo caminho.
+	 * @param model referência da modelagem que terá a sua raíz descarregada.
+	 * @return true se a raíz estava no carregador ou false se a modelagem já tiver sido liberada.
+	 */
+
+	public boolean unload(Model model)
+	{
+		ModelRoot root = model.getRoot();
+
+		if (root == null)
+			return false;
+
+		root.release();
+
+		return removeResource(root.getFilePath());
+	}
+
+	/**
+	 * Calcula os limites de uma modelagem a partir do atributo com as posições dos seus vértices.
+	 * @param attributes atributos da modelagem, as posições devem ser flutuantes.
+	 * @return aquisição dos limites da modelagem, vazios na origem se não houver posições.
+	 */
+
+	private ModelBounds computeBounds(ModelAttribute attributes[])
+	{
+		for (ModelAttribute attribute : attributes)
+			if (attribute.getIndex() == ATTRIB_VERTEX && attribute instanceof ModelFloatAttribute)
+				return ModelBounds.compute(((ModelFloatAttribute) attribute).getBuffer(), attribute.size(), attribute.length());
+
+		return ModelBounds.compute(null, 0, 0);
+	}
+
+	/**
+	 * Gera os níveis de detalhe de uma modelagem a partir das posições dos seus vértices, onde todos os níveis
+	 * são armazenados em sequência em um único atributo de índices e as faixas de cada nível na modelagem raíz.
+	 * @param root modelagem raíz onde serão definidas as faixas de índices de cada nível de detalhe.
+	 * @param indices atributo com os índices do nível de detalhe máximo.
+	 * @param attributes atributos da modelagem, as posições devem ser flutuantes ou quantizadas com três valores.
+	 * @return aquisição do atributo com os índices de todos os níveis de detalhe.
+	 */
+
+	private ModelIndiceAttribute createLevelsOfDetail(ModelRoot root, ModelIndiceAttribute indices, ModelAttribute attributes[])
+	{
+		float positions[] = getPositions(attributes);
+
+		if (positions == null)
+		{
+			logWarning("modelagem '%s' sem níveis de detalhe (posições não suportadas).\n", root.getFileName());
+			return indices;
+		}
+
+		int vertexCount = positions.length / 3;
+		int source[] = getValues(indices);
+
+		int levels[][] = ModelSimplifier.generateLevels(positions, source, levelsOfDetail, levelOfDetailRatio);
+		int length = source.length;
+
+		root.levelFirst = new int[levels.length + 1];
+		root.levelCount = new int[levels.length + 1];
+		root.levelDistances = new float[levels.length + 1];
+		root.levelCount[0] = source.length;
+
+		for (int i = 0; i < levels.length; i++)
+		{
+			if (optimized)
+				levels[i] = ModelOptimizer.optimizeTriangles(levels[i], vertexCount);
+
+			root.levelFirst[i + 1] = length;
+			root.levelCount[i + 1] = levels[i].length;
+			root.levelDistances[i + 1] = levelOfDetailDistance * (i + 1);
+			length += levels[i].length;
+		}
+
+		ModelIndiceAttribute merged = new ModelIndiceAttribute(length);
+
+		for (int i = 0; i < source.length; i++)
+			merged.setValue(i, source[i]);
+
+		for (int i = 0; i < levels.length; i++)
+			for (int j = 0; j < levels[i].length; j++)
+				merged.setValue(root.levelFirst[i + 1] + j, levels[i][j]);
+
+		logDebug("modelagem '%s' com %d níveis de detalhe (%s).\n", root.getFileName(), levels.length + 1, Arrays.toString(root.levelCount));
+
+		return merged;
+	}
+
+	/**
+	 * Divide os triângulos do nível de detalhe máximo em agrupamentos, reordenando os índices para que
+	 * cada agrupamento fique em sequência e armazenando os agrupamentos na modelagem raíz.
+	 * Se as modelagens forem otimizadas, os triângulos de cada agrupamento são otimizados novamente.
+	 * @param root modelagem raíz onde serão armazenados os agrupamentos.
+	 * @param indices atributo com os índices do nível de detalhe máximo, será reordenado.
+	 * @param attributes atributos da modelagem, as posições devem ser flutuantes ou quantizadas com três valores.
+	 */
+
+	private void createMeshlets(ModelRoot root, ModelIndiceAttribute indices, ModelAttribute attributes[])
+	{
+		float positions[] = getPositions(attributes);
+
+		if (positions == null)
+		{
+			logWarning("modelagem '%s' sem agrupamentos (posições não suportadas).\n", root.getFileName());
+			return;
+		}
+
+		int values[] = getValues(indices);
+		root.meshlets = ModelMeshletBuilder.build(positions, values);
+
+		if (optimized)
+			for (ModelMeshlet meshlet : root.meshlets)
+			{
+				int triangles[] = Arrays.copyOfRange(values, meshlet.getFirstIndex(), meshlet.getFirstIndex() + meshlet.getIndexCount());
+				triangles = ModelOptimizer.optimizeTriangles(triangles, positions.length / 3);
+
+				System.arraycopy(triangles, 0, values, meshlet.getFirstIndex(), triangles.length);
+			}
+
+		indices.put(0, values, 0, values.length);
+
+		logDebug("modelagem '%s' com %d agrupamentos de triângulos.\n", root.getFileName(), root.meshlets.length);
+	}
+
+	/**
+	 * Copia as posições dos vértices de uma modelagem para um vetor, posições quantizadas em 16 bits
+	 * (compactadas ou lidas de arquivos mdl) são convertidas de volta através da sua quantização.
+	 * @param attributes atributos da modelagem.
+	 * @return aquisição das posições (x, y, z) em sequência ou null se não forem de um formato suportado.
+	 */
+
+	private static float[] getPositions(ModelAttribute attributes[])
+	{
+		for (ModelAttribute attribute : attributes)
+		{
+			if (attribute.getIndex() != ATTRIB_VERTEX || attribute.size() != 3)
+				continue;
+
+			if (attribute instanceof ModelFloatAttribute)
+			{
+				FloatBuffer buffer = ((ModelFloatAttribute) attribute).getBuffer();
+				float positions[] = new float[attribute.length() * 3];
+
+				for (int i = 0; i < positions.length; i++)
+					positions[i] = buffer.get(i);
+
+				return positions;
+			}
+
+			if (attribute instanceof ModelPackedAttribute)
+			{
+				ModelPackedAttribute packed = (ModelPackedAttribute) attribute;
+
+				if (packed.getScale() == null || packed.getType() != GL_UNSIGNED_SHORT || !packed.isNormalized())
+					return null;
+
+				ByteBuffer buffer = packed.getBuffer();
+				float offset[] = new float[] { packed.getOffset().x, packed.getOffset().y, packed.getOffset().z };
+				float scale[] = new float[] { packed.getScale().x, packed.getScale().y, packed.getScale().z };
+				float positions[] = new float[attribute.length() * 3];
+
+				for (int i = 0; i < positions.length; i++)
+				{
+					int value = buffer.getShort((i / 3) * packed.getStride() + (i % 3) * 2) & 0xFFFF;
+					positions[i] = offset[i % 3] + value / 65535f * scale[i % 3];
+				}
+
+				return positions;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Copia os índices de uma modelagem para um vetor.
+	 * @param indices atributo com os índices da modelagem.
+	 * @return aquisição de um vetor com todos os índices.
+	 */
+
+	private static int[] getValues(ModelIndiceAttribute indices)
+	{
+		int values[] = new int[indices.length()];
+
+		for (int i = 0; i < values.length; i++)
+			values[i] = indices.getValue(i);
+
+		return values;
+	}
+
+	/**
+	 * Adiciona um índice de atributo ao final de um vetor, criando um novo vetor.
+	 * @param attributes vetor com os índices dos atributos já adicionados.
+	 * @param index índice do atributo que será adicionado.
+	 * @return aquisição de um novo vetor contendo também o índice adicionado.
+	 */
+
+	private static int[] append(int attributes[], int index)
+	{
+		int copy[] = Arrays.copyOf(attributes, attributes.length + 1);
+		copy[attributes.length] = index;
+
+		return copy;
+	}
+
+	/**
+	 * Quando habilitado, os atributos por vértice de todas as modelagens criadas (posição, coordenada UV, normal)
+	 * são intercalados em um único buffer, independente do leitor ter solicitado ou não a intercalação.
+	 * @return true se os atributos serão intercalados ou false se depender de cada leitor.
+	 */
+
+	public boolean isInterleaved()
+	{
+		return interleaved;
+	}
+
+	/**
+	 * Quando habilitado, os atributos por vértice de todas as modelagens criadas (posição, coordenada UV, normal)
+	 * são intercalados em um único buffer, independente do leitor ter solicitado ou não a intercalação.
+	 * @param interleaved true para intercalar os atributos ou false para depender de cada leitor.
+	 * @see ModelInterleavedAttribute
+	 */
+
+	public void setInterleaved(boolean interleaved)
+	{
+		this.interleaved = interleaved;
+	}
+
+	/**
+	 * Quando habilitado, os atributos e os índices de todas as modelagens criadas são compactados,
+	 * independente do leitor ter solicitado ou não a compactação. Tem prioridade sobre a intercalação.
+	 * @return true se os atributos serão compactados ou false se depender de cada leitor.
+	 */
+
+	public boolean isCompressed()
+	{
+		return compressed;
+	}
+
+	/**
+	 * Quando habilitado, os atributos e os índices de todas as modelagens criadas são compactados,
+	 * independente do leitor ter solicitado ou não a compactação. Tem prioridade sobre a intercalação.
+	 * As posições das modelagens compactadas são convertidas por uma matriz aplicada apenas às posições, através de
+	 * <code>ModelRender.getPositionOffset()</code> e <code>ModelRender.getPositionScale()</code>.
+	 * @param compressed true para compactar os atributos ou false para depender de cada leitor.
+	 * @see ModelCompressionUtil
+	 */
+
+	public void setCompressed(boolean compressed)
+	{
+		this.compressed = compressed;
+	}
+
+	/**
+	 * Quando habilitado, os triângulos e os vértices de todas as modelagens criadas com índices são reordenados
+	 * antes de serem enviados ao OpenGL, aproveitando melhor o cache de vértices transformados da placa de vídeo.
+	 * @return true se as modelagens serão otimizadas ou false caso contrário.
+	 */
+
+	public boolean isOptimized()
+	{
+		return optimized;
+	}
+
+	/**
+	 * Quando habilitado, os triângulos e os vértices de todas as modelagens criadas com índices são reordenados
+	 * antes de serem enviados ao OpenGL, aproveitando melhor o cache de vértices transformados da placa de vídeo.
+	 * A otimização é feita antes da compactação ou intercalação dos atributos.
+	 * @param optimized true para otimizar as modelagens ou false caso contrário.
+	 * @see ModelOptimizer
+	 */
+
+	public void setOptimized(boolean optimized)
+	{
+		this.optimized = optimized;
+	}
+
+	/**
+	 * Quando maior que zero, são gerados níveis de detalhe simplificados para todas as modelagens criadas com índices,
+	 * permitindo que modelagens distantes sejam desenhadas com menos triângulos.
+	 * @return aquisição da quantidade de níveis de detalhe gerados além do detalhe máximo.
+	 */
+
+	public int getLevelsOfDetail()
+	{
+		return levelsOfDetail;
+	}
+
+	/**
+	 * Quando maior que zero, são gerados níveis de detalhe simplificados para todas as modelagens criadas com índices,
+	 * permitindo que modelagens distantes sejam desenhadas com menos triângulos. A geração pode ser interrompida antes
+	 * se a modelagem não puder ser mais simplificada, portanto algumas modelagens podem possuir menos níveis.
+	 * @param levelsOfDetail quantidade de níveis de detalhe gerados além do detalhe máximo, zero para desabilitar.
+	 * @see ModelSimplifier
+	 */
+
+	public void setLevelsOfDetail(int levelsOfDetail)
+	{
+		this.levelsOfDetail = Math.max(0, levelsOfDetail);
+	}
+
+	/**
+	 * @return aquisição da fração dos triângulos do nível anterior mantida em cada nível de detalhe.
+	 */
+
+	public float getLevelOfDetailRatio()
+	{
+		return levelOfDetailRatio;
+	}
+
+	/**
+	 * Por padrão cada nível de detalhe possui metade dos triângulos do nível anterior.
+	 * Valores fora do intervalo entre 0 e 1 (exclusivos) são ignorados.
+	 * @param levelOfDetailRatio fração dos triângulos do nível anterior mantida em cada nível de detalhe.
+	 */
+
+	public void setLevelOfDetailRatio(float levelOfDetailRatio)
+	{
+		if (levelOfDetailRatio > 0 && levelOfDetailRatio < 1)
+			this.levelOfDetailRatio = levelOfDetailRatio;
+	}
+
+	/**
+	 * @return aquisição da distância entre cada nível de detalhe das modelagens criadas.
+	 */
+
+	public float getLevelOfDetailDistance()
+	{
+		return levelOfDetailDistance;
+	}
+
+	/**
+	 * Define a distância entre cada nível de detalhe das modelagens criadas, onde o nível <i>n</i> é usado a partir
+	 * da distância <code>n * levelOfDetailDistance</code>. Pode ser alterada em cada modelagem raíz após a criação.
+	 * @param levelOfDetailDistance distância entre cada nível de detalhe, valores negativos são ignorados.
+	 * @see ModelRoot#setLevelOfDetailDistances(float...)
+	 */
+
+	public void setLevelOfDetailDistance(float levelOfDetailDistance)
+	{
+		if (levelOfDetailDistance >= 0)
+			this.levelOfDetailDistance = levelOfDetailDistance;
+	}
+
+	/**
+	 * Quando habilitado, os triângulos das modelagens criadas com índices são divididos em agrupamentos
+	 * de triângulos vizinhos, que podem ser descartados pelo renderizador quando estiverem fora da visão
+	 * ou de costas para a câmera. Apenas o nível de detalhe máximo é dividido.
+	 * @return true se os agrupamentos forem gerados ou false caso contrário.
+	 */
+
+	public boolean isMeshlets()
+	{
+		return meshlets;
+	}
+
+	/**
+	 * Quando habilitado, os triângulos das modelagens criadas com índices são divididos em agrupamentos
+	 * de triângulos vizinhos, que podem ser descartados pelo renderizador quando estiverem fora da visão
+	 * ou de costas para a câmera. Indicado para modelagens estáticas grandes, como construções e terrenos.
+	 * @param meshlets true para gerar os agrupamentos ou false caso contrário.
+	 * @see ModelMeshletBuilder
+	 */
+
+	public void setMeshlets(boolean meshlets)
+	{
+		this.meshlets = meshlets;
+	}
+
+	/**
+	 * @return aquisição do lote onde são armazenadas as modelagens criadas ou null se não houver.
+	 */
+
+	public ModelBatch getBatch()
+	{
+		return batch;
+	}
+
+	/**
+	 * Quando definido, as modelagens criadas com índices e com o mesmo formato de vértices do lote são armazenadas
+	 * nos VBOs compartilhados do lote ao invés de criar o seu próprio VAO. Modelagens com outro formato, compactadas
+	 * ou intercaladas, ou que não couberem no espaço livre do lote continuam com o seu próprio VAO.
+	 * @param batch lote onde serão armazenadas as modelagens ou null para não usar lotes.
+	 * @see ModelBatch
+	 */
+
+	public void setBatch(ModelBatch batch)
+	{
+		this.batch = batch;
+	}
+
+	/**
+	 * Procedimento que permite obter a única instância do carregador de modelagem.
+	 * Utiliza o padrão Singleton para evitar a existência de mais instâncias.
+	 * @return aquisição da instância para utilização do carregador de modelagem.
+	 */
+
+	public static ModelLoader getInstance()
+	{
+		return instance;
+	}
+}
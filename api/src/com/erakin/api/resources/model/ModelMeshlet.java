@@ -0,0 +1,190 @@
+package com.erakin.api.resources.model;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.lwjgl.math.Frustum;
+
+/**
+ * <h1>Agrupamento de Triângulos</h1>
+ *
+ * <p>Parte de uma modelagem formada por triângulos vizinhos em sequência no atributo de índices (meshlet),
+ * permitindo que a parte seja descartada por inteiro ao ser desenhada. Cada agrupamento possui uma esfera
+ * delimitadora, usada para descartar agrupamentos fora do volume de visão, e um cone com as normais dos seus
+ * triângulos, usado para descartar agrupamentos cujos triângulos estão todos de costas para a câmera.</p>
+ *
+ * <p>O cone é definido pelo seu eixo (média das normais) e pelo seno do ângulo entre o eixo e a normal mais
+ * distante dele. Todos os triângulos estão de costas quando a direção da câmera até o centro do agrupamento
+ * forma com o eixo um ângulo menor que o complemento do ângulo do cone, considerando o raio da esfera.</p>
+ *
+ * <p>Todos os valores estão no espaço da modelagem, a câmera e o volume de visão devem estar no mesmo espaço.</p>
+ *
+ * @see ModelMeshletBuilder
+ * @see Model
+ *
+ * @author Andrew
+ */
+
+public class ModelMeshlet
+{
+	/**
+	 * Valor do corte do cone quando as normais estão espalhadas demais para que o agrupamento seja descartado.
+	 */
+	public static final float NO_CONE = 2f;
+
+	/**
+	 * Posição do primeiro índice do agrupamento no atributo de índices.
+	 */
+	private final int firstIndex;
+
+	/**
+	 * Quantidade de índices do agrupamento, três para cada triângulo.
+	 */
+	private final int indexCount;
+
+	/**
+	 * Centro da esfera delimitadora.
+	 */
+	private final Vector3f center;
+
+	/**
+	 * Raio da esfera delimitadora.
+	 */
+	private final float radius;
+
+	/**
+	 * Eixo do cone das normais, normalizado.
+	 */
+	private final Vector3f coneAxis;
+
+	/**
+	 * Seno do ângulo de abertura do cone ou <code>NO_CONE</code> se não puder ser descartado pelas normais.
+	 */
+	private final float coneCutoff;
+
+	/**
+	 * Cria um novo agrupamento de triângulos a partir dos seus limites já calculados.
+	 * @param firstIndex posição do primeiro índice do agrupamento no atributo de índices.
+	 * @param indexCount quantidade de índices do agrupamento, três para cada triângulo.
+	 * @param center centro da esfera delimitadora.
+	 * @param radius raio da esfera delimitadora.
+	 * @param coneAxis eixo do cone das normais, normalizado.
+	 * @param coneCutoff seno do ângulo de abertura do cone ou <code>NO_CONE</code>.
+	 */
+
+	public ModelMeshlet(int firstIndex, int indexCount, Vector3f center, float radius, Vector3f coneAxis, float coneCutoff)
+	{
+		this.firstIndex = firstIndex;
+		this.indexCount = indexCount;
+		this.center = new Vector3f(center);
+		this.radius = radius;
+		this.coneAxis = new Vector3f(coneAxis);
+		this.coneCutoff = coneCutoff;
+	}
+
+	/**
+	 * Verifica se todos os triângulos do agrupamento estão de costas para a câmera.
+	 * @param cameraX coordenada da câmera no eixo X, no espaço da modelagem.
+	 * @param cameraY coordenada da câmera no eixo Y, no espaço da modelagem.
+	 * @param cameraZ coordenada da câmera no eixo Z, no espaço da modelagem.
+	 * @return true se nenhum triângulo puder ser visto da posição da câmera ou false caso contrário.
+	 */
+
+	public boolean isBackFacing(float cameraX, float cameraY, float cameraZ)
+	{
+		if (coneCutoff >= 1f)
+			return false;
+
+		float x = center.x - cameraX;
+		float y = center.y - cameraY;
+		float z = center.z - cameraZ;
+		float distance = (float) Math.sqrt(x * x + y * y + z * z);
+
+		return x * coneAxis.x + y * coneAxis.y + z * coneAxis.z >= coneCutoff * distance + radius;
+	}
+
+	/**
+	 * Verifica se o agrupamento pode ser visto: dentro do volume de visão e com algum triângulo de frente.
+	 * @param frustum volume de visão no espaço da modelagem ou null para não verificar.
+	 * @param cameraX coordenada da câmera no eixo X, no espaço da modelagem.
+	 * @param cameraY coordenada da câmera no eixo Y, no espaço da modelagem.
+	 * @param cameraZ coordenada da câmera no eixo Z, no espaço da modelagem.
+	 * @return true se o agrupamento deve ser desenhado ou false se pode ser descartado.
+	 */
+
+	public boolean isVisible(Frustum frustum, float cameraX, float cameraY, float cameraZ)
+	{
+		if (frustum != null && !frustum.intersectsSphere(center.x, center.y, center.z, radius))
+			return false;
+
+		return !isBackFacing(cameraX, cameraY, cameraZ);
+	}
+
+	/**
+	 * @return aquisição da posição do primeiro índice do agrupamento no atributo de índices.
+	 */
+
+	public int getFirstIndex()
+	{
+		return firstIndex;
+	}
+
+	/**
+	 * @return aquisição da quantidade de índices do agrupamento, três para cada triângulo.
+	 */
+
+	public int getIndexCount()
+	{
+		return indexCount;
+	}
+
+	/**
+	 * @return aquisição do centro da esfera delimitadora.
+	 */
+
+	public Vector3f getCenter()
+	{
+		return center;
+	}
+
+	/**
+	 * @return aquisição do raio da esfera delimitadora.
+	 */
+
+	public float getRadius()
+	{
+		return radius;
+	}
+
+	/**
+	 * @return aquisição do eixo do cone das normais, normalizado.
+	 */
+
+	public Vector3f getConeAxis()
+	{
+		return coneAxis;
+	}
+
+	/**
+	 * @return aquisição do seno do ângulo de abertura do cone ou <code>NO_CONE</code>.
+	 */
+
+	public float getConeCutoff()
+	{
+		return coneCutoff;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("firstIndex", firstIndex);
+		description.append("triangles", indexCount / 3);
+		description.append("center", String.format("%.2f, %.2f, %.2f", center.x, center.y, center.z));
+		description.append("radius", radius);
+		description.append("coneCutoff", coneCutoff);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,317 @@
+package com.erakin.api.resources.model;
+
+import java.util.Arrays;
+
+import org.lwjgl.util.vector.Vector3f;
+
+/**
+ * <h1>Gerador de Agrupamentos de Triângulos</h1>
+ *
+ * <p>Classe utilitária composta apenas de procedimentos estáticos que divide os triângulos de uma modelagem
+ * em agrupamentos ({@link ModelMeshlet}) de triângulos vizinhos, reordenando os índices para que os triângulos
+ * de cada agrupamento fiquem em sequência e possam ser desenhados (ou descartados) como uma faixa de índices.</p>
+ *
+ * <p>Cada agrupamento começa pelo primeiro triângulo ainda não usado e cresce pelos triângulos que compartilham
+ * vértices com ele, escolhendo sempre o que adiciona menos vértices novos e em seguida o mais próximo do centro
+ * do agrupamento, o que resulta em agrupamentos compactos com normais parecidas. Um agrupamento termina ao atingir
+ * a quantidade máxima de vértices ou de triângulos, ou quando não houver mais triângulos vizinhos.</p>
+ *
+ * <p>Não acessa o OpenGL, trabalha apenas com vetores de posições e índices, portanto pode ser testado sem contexto.</p>
+ *
+ * @see ModelMeshlet
+ * @see ModelLoader
+ *
+ * @author Andrew
+ */
+
+public class ModelMeshletBuilder
+{
+	/**
+	 * Quantidade máxima de vértices por agrupamento usada por padrão.
+	 */
+	public static final int DEFAULT_MAX_VERTICES = 64;
+
+	/**
+	 * Quantidade máxima de triângulos por agrupamento usada por padrão.
+	 */
+	public static final int DEFAULT_MAX_TRIANGLES = 124;
+
+	/**
+	 * Construtor privado, classe composta apenas de procedimentos estáticos.
+	 */
+
+	private ModelMeshletBuilder()
+	{
+
+	}
+
+	/**
+	 * Divide os triângulos em agrupamentos usando as quantidades máximas padrões.
+	 * @param positions posições dos vértices (x, y, z) em sequência.
+	 * @param indices índices dos triângulos, serão reordenados para que cada agrupamento fique em sequência.
+	 * @return aquisição dos agrupamentos na ordem em que aparecem nos índices.
+	 */
+
+	public static ModelMeshlet[] build(float positions[], int indices[])
+	{
+		return build(positions, indices, DEFAULT_MAX_VERTICES, DEFAULT_MAX_TRIANGLES);
+	}
+
+	/**
+	 * Divide os triângulos em agrupamentos de triângulos vizinhos, reordenando os índices.
+	 * @param positions posições dos vértices (x, y, z) em sequência.
+	 * @param indices índices dos triângulos, serão reordenados para que cada agrupamento fique em sequência.
+	 * @param maxVertices quantidade máxima de vértices diferentes em cada agrupamento, no mínimo três.
+	 * @param maxTriangles quantidade máxima de triângulos em cada agrupamento, no mínimo um.
+	 * @return aquisição dos agrupamentos na ordem em que aparecem nos índices.
+	 */
+
+	public static ModelMeshlet[] build(float positions[], int indices[], int maxVertices, int maxTriangles)
+	{
+		if (maxVertices < 3 || maxTriangles < 1)
+			throw new ModelRuntimeException("limites de agrupamento inválidos (vertices: %d, triangles: %d)", maxVertices, maxTriangles);
+
+		int vertexCount = positions.length / 3;
+		int triangleCount = indices.length / 3;
+		int adjacency[][] = createAdjacency(indices, vertexCount);
+
+		boolean emitted[] = new boolean[triangleCount];
+		int triangleStamp[] = new int[triangleCount];
+		int vertexStamp[] = new int[vertexCount];
+		int candidates[] = new int[64];
+		int meshletTriangles[] = new int[maxTriangles];
+		int ordered[] = new int[indices.length];
+
+		ModelMeshlet meshlets[] = new ModelMeshlet[Math.max(1, triangleCount / maxTriangles)];
+		int meshletCount = 0;
+		int seed = 0;
+		int written = 0;
+
+		while (written < triangleCount)
+		{
+			while (emitted[seed])
+				seed++;
+
+			int stamp = meshletCount + 1;
+			int triangles = 0;
+			int vertices = 0;
+			int candidateCount = 0;
+			float centroid[] = new float[3];
+
+			int next = seed;
+
+			while (next != -1)
+			{
+				emitted[next] = true;
+				meshletTriangles[triangles++] = next;
+
+				for (int corner = 0; corner < 3; corner++)
+				{
+					int vertex = indices[next * 3 + corner];
+
+					if (vertexStamp[vertex] == stamp)
+						continue;
+
+					vertexStamp[vertex] = stamp;
+					vertices++;
+
+					for (int triangle : adjacency[vertex])
+						if (!emitted[triangle] && triangleStamp[triangle] != stamp)
+						{
+							triangleStamp[triangle] = stamp;
+
+							if (candidateCount == candidates.length)
+								candidates = Arrays.copyOf(candidates, candidateCount * 2);
+
+							candidates[candidateCount++] = triangle;
+						}
+				}
+
+				for (int axis = 0; axis < 3; axis++)
+					centroid[axis] += (getCentroid(positions, indices, next, axis) - centroid[axis]) / triangles;
+
+				if (triangles == maxTriangles)
+					break;
+
+				next = -1;
+				int bestNew = 4;
+				float bestDistance = Float.MAX_VALUE;
+
+				for (int i = 0; i < candidateCount; i++)
+				{
+					int triangle = candidates[i];
+
+					if (emitted[triangle])
+					{
+						candidates[i--] = candidates[--candidateCount];
+						continue;
+					}
+
+					int added = 0;
+
+					for (int corner = 0; corner < 3; corner++)
+						if (vertexStamp[indices[triangle * 3 + corner]] != stamp)
+							added++;
+
+					if (vertices + added > maxVertices || added > bestNew)
+						continue;
+
+					float distance = 0;
+
+					for (int axis = 0; axis < 3; axis++)
+					{
+						float delta = getCentroid(positions, indices, triangle, axis) - centroid[axis];
+						distance += delta * delta;
+					}
+
+					if (added < bestNew || distance < bestDistance)
+					{
+						next = triangle;
+						bestNew = added;
+						bestDistance = distance;
+					}
+				}
+			}
+
+			if (meshletCount == meshlets.length)
+				meshlets = Arrays.copyOf(meshlets, meshletCount * 2);
+
+			meshlets[meshletCount++] = createMeshlet(positions, indices, meshletTriangles, triangles, written * 3);
+
+			for (int i = 0; i < triangles; i++)
+				System.arraycopy(indices, meshletTriangles[i] * 3, ordered, (written + i) * 3, 3);
+
+			written += triangles;
+		}
+
+		System.arraycopy(ordered, 0, indices, 0, triangleCount * 3);
+
+		return Arrays.copyOf(meshlets, meshletCount);
+	}
+
+	/**
+	 * Cria uma lista para cada vértice com os triângulos que o usam.
+	 * @param indices índices dos triângulos.
+	 * @param vertexCount quantidade de vértices.
+	 * @return aquisição de um vetor com os triângulos de cada vértice.
+	 */
+
+	private static int[][] createAdjacency(int indices[], int vertexCount)
+	{
+		int counts[] = new int[vertexCount];
+
+		for (int i = 0; i < indices.length - indices.length % 3; i++)
+			counts[indices[i]]++;
+
+		int adjacency[][] = new int[vertexCount][];
+
+		for (int vertex = 0; vertex < vertexCount; vertex++)
+			adjacency[vertex] = new int[counts[vertex]];
+
+		Arrays.fill(counts, 0);
+
+		for (int i = 0; i < indices.length - indices.length % 3; i++)
+			adjacency[indices[i]][counts[indices[i]]++] = i / 3;
+
+		return adjacency;
+	}
+
+	/**
+	 * Obtém uma coordenada do ponto central de um triângulo.
+	 * @param positions posições dos vértices (x, y, z) em sequência.
+	 * @param indices índices dos triângulos.
+	 * @param triangle índice do triângulo.
+	 * @param axis eixo da coordenada: 0 para X, 1 para Y e 2 para Z.
+	 * @return aquisição da coordenada do ponto central do triângulo no eixo.
+	 */
+
+	private static float getCentroid(float positions[], int indices[], int triangle, int axis)
+	{
+		return (positions[indices[triangle * 3] * 3 + axis] +
+				positions[indices[triangle * 3 + 1] * 3 + axis] +
+				positions[indices[triangle * 3 + 2] * 3 + axis]) / 3f;
+	}
+
+	/**
+	 * Calcula a esfera delimitadora e o cone das normais de um agrupamento.
+	 * @param positions posições dos vértices (x, y, z) em sequência.
+	 * @param indices índices dos triângulos, ainda na ordem original.
+	 * @param triangles vetor com os triângulos do agrupamento.
+	 * @param count quantidade de triângulos do agrupamento.
+	 * @param firstIndex posição do primeiro índice do agrupamento após a reordenação.
+	 * @return aquisição do agrupamento com os seus limites calculados.
+	 */
+
+	private static ModelMeshlet createMeshlet(float positions[], int indices[], int triangles[], int count, int firstIndex)
+	{
+		float min[] = new float[] { Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE };
+		float max[] = new float[] { -Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE };
+		float normals[] = new float[count * 3];
+		Vector3f axis = new Vector3f();
+
+		for (int i = 0; i < count; i++)
+		{
+			int a = indices[triangles[i] * 3] * 3;
+			int b = indices[triangles[i] * 3 + 1] * 3;
+			int c = indices[triangles[i] * 3 + 2] * 3;
+
+			for (int j = 0; j < 3; j++)
+			{
+				min[j] = Math.min(min[j], Math.min(positions[a + j], Math.min(positions[b + j], positions[c + j])));
+				max[j] = Math.max(max[j], Math.max(positions[a + j], Math.max(positions[b + j], positions[c + j])));
+			}
+
+			float abX = positions[b] - positions[a], abY = positions[b + 1] - positions[a + 1], abZ = positions[b + 2] - positions[a + 2];
+			float acX = positions[c] - positions[a], acY = positions[c + 1] - positions[a + 1], acZ = positions[c + 2] - positions[a + 2];
+
+			float normalX = abY * acZ - abZ * acY;
+			float normalY = abZ * acX - abX * acZ;
+			float normalZ = abX * acY - abY * acX;
+			float length = (float) Math.sqrt(normalX * normalX + normalY * normalY + normalZ * normalZ);
+
+			if (length > 0)
+			{
+				normals[i * 3] = normalX / length;
+				normals[i * 3 + 1] = normalY / length;
+				normals[i * 3 + 2] = normalZ / length;
+
+				axis.x += normals[i * 3];
+				axis.y += normals[i * 3 + 1];
+				axis.z += normals[i * 3 + 2];
+			}
+		}
+
+		Vector3f center = new Vector3f((min[0] + max[0]) / 2, (min[1] + max[1]) / 2, (min[2] + max[2]) / 2);
+		float radius = 0;
+
+		for (int i = 0; i < count; i++)
+			for (int corner = 0; corner < 3; corner++)
+			{
+				int vertex = indices[triangles[i] * 3 + corner] * 3;
+
+				float x = positions[vertex] - center.x;
+				float y = positions[vertex + 1] - center.y;
+				float z = positions[vertex + 2] - center.z;
+
+				radius = Math.max(radius, x * x + y * y + z * z);
+			}
+
+		float cutoff = ModelMeshlet.NO_CONE;
+
+		if (axis.lengthSquared() > 0)
+		{
+			axis.normalise();
+
+			float minDot = 1f;
+
+			for (int i = 0; i < count; i++)
+				if (normals[i * 3] != 0 || normals[i * 3 + 1] != 0 || normals[i * 3 + 2] != 0)
+					minDot = Math.min(minDot, axis.x * normals[i * 3] + axis.y * normals[i * 3 + 1] + axis.z * normals[i * 3 + 2]);
+
+			if (minDot > 0)
+				cutoff = (float) Math.sqrt(1 - minDot * minDot);
+		}
+
+		return new ModelMeshlet(firstIndex, count * 3, center, (float) Math.sqrt(radius), axis, cutoff);
+	}
+}
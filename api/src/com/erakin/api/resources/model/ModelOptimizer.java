@@ -0,0 +1,431 @@
+package com.erakin.api.resources.model;
+
+import static com.erakin.api.resources.model.ModelAttribute.ATTRIB_VERTEX;
+
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * <h1>Otimizador de Modelagens</h1>
+ *
+ * <p>Reordena os triângulos e os vértices de uma modelagem antes de ser enviada ao OpenGL, sem alterar a sua forma.
+ * Primeiro os triângulos são reordenados para que vértices usados recentemente sejam reaproveitados pelo cache
+ * de vértices transformados da placa de vídeo (algoritmo de Tom Forsyth). Em seguida os vértices são renumerados
+ * na ordem em que são usados pelos índices, para que a leitura dos atributos na memória seja sequencial.</p>
+ *
+ * <p>A eficiência do cache é medida pelo ACMR (quantidade média de vértices processados por triângulo),
+ * simulando um cache FIFO. O valor mínimo é próximo de 0,5 para malhas regulares e o máximo é 3.
+ * Todo o processamento é feito na CPU sobre vetores de inteiros, podendo ser usado sem um contexto OpenGL.</p>
+ *
+ * @see ModelLoader
+ *
+ * @author Andrew
+ */
+
+public class ModelOptimizer
+{
+	/**
+	 * Tamanho do cache de vértices considerado pela pontuação dos vértices.
+	 */
+	public static final int CACHE_SIZE = 32;
+
+	/**
+	 * Tamanho do cache FIFO usado para calcular o ACMR.
+	 */
+	public static final int DEFAULT_ACMR_CACHE_SIZE = 16;
+
+	/**
+	 * Pontuação dos vértices do último triângulo adicionado.
+	 */
+	private static final float LAST_TRIANGLE_SCORE = 0.75f;
+
+	/**
+	 * Expoente para a redução da pontuação conforme a posição do vértice no cache.
+	 */
+	private static final float CACHE_DECAY_POWER = 1.5f;
+
+	/**
+	 * Escala da pontuação extra para vértices com poucos triângulos restantes.
+	 */
+	private static final float VALENCE_BOOST_SCALE = 2.0f;
+
+	/**
+	 * Expoente da pontuação extra para vértices com poucos triângulos restantes.
+	 */
+	private static final float VALENCE_BOOST_POWER = 0.5f;
+
+	/**
+	 * Tamanho do cache FIFO usado para calcular o ACMR.
+	 */
+	private int acmrCacheSize;
+
+	/**
+	 * ACMR dos índices antes da última otimização.
+	 */
+	private float acmrBefore;
+
+	/**
+	 * ACMR dos índices após a última otimização.
+	 */
+	private float acmrAfter;
+
+	/**
+	 * Cria um novo otimizador de modelagens calculando o ACMR com o tamanho de cache padrão.
+	 */
+
+	public ModelOptimizer()
+	{
+		acmrCacheSize = DEFAULT_ACMR_CACHE_SIZE;
+	}
+
+	/**
+	 * Otimiza uma modelagem reordenando os seus índices e os seus atributos por vértice.
+	 * Atributos cujo comprimento é diferente da quantidade de vértices não são alterados.
+	 * @param indices atributo com os índices dos triângulos da modelagem.
+	 * @param attributes atributos da modelagem que serão reordenados conforme os vértices.
+	 */
+
+	public void optimize(ModelIndiceAttribute indices, ModelAttribute attributes[])
+	{
+		if (indices == null)
+			return;
+
+		int vertexCount = 0;
+		int source[] = new int[indices.length()];
+
+		for (int i = 0; i < source.length; i++)
+			vertexCount = Math.max(vertexCount, (source[i] = indices.getValue(i)) + 1);
+
+		for (ModelAttribute attribute : attributes)
+			if (attribute.getIndex() == ATTRIB_VERTEX)
+				vertexCount = Math.max(vertexCount, attribute.length());
+
+		acmrBefore = getACMR(source, vertexCount, acmrCacheSize);
+
+		int optimized[] = optimizeTriangles(source, vertexCount);
+		int order[] = optimizeVertexFetch(optimized, vertexCount);
+
+		acmrAfter = getACMR(optimized, vertexCount, acmrCacheSize);
+
+		for (int i = 0; i < optimized.length; i++)
+			indices.setValue(i, optimized[i]);
+
+		for (ModelAttribute attribute : attributes)
+			if (attribute.length() == vertexCount)
+				remap(attribute, order);
+	}
+
+	/**
+	 * Reordena os vértices de um atributo de acordo com o seu tipo.
+	 * @param attribute atributo que será reordenado.
+	 * @param order vetor onde cada posição contém o índice antigo do vértice que ocupará aquela posição.
+	 */
+
+	private void remap(ModelAttribute attribute, int order[])
+	{
+		if (attribute instanceof ModelFloatAttribute)
+			((ModelFloatAttribute) attribute).remap(order);
+
+		else if (attribute instanceof ModelIntAttribute)
+			((ModelIntAttribute) attribute).remap(order);
+
+		else if (attribute instanceof ModelPackedAttribute)
+			((ModelPackedAttribute) attribute).remap(order);
+
+		else if (attribute instanceof ModelInterleavedAttribute)
+			((ModelInterleavedAttribute) attribute).remap(order);
+
+		else
+			throw new ModelRuntimeException("atributo não pode ser reordenado (%s)", attribute.getClass().getSimpleName());
+	}
+
+	/**
+	 * @return aquisição do ACMR dos índices antes da última otimização.
+	 */
+
+	public float getACMRBefore()
+	{
+		return acmrBefore;
+	}
+
+	/**
+	 * @return aquisição do ACMR dos índices após a última otimização.
+	 */
+
+	public float getACMRAfter()
+	{
+		return acmrAfter;
+	}
+
+	/**
+	 * @return aquisição do tamanho do cache FIFO usado para calcular o ACMR.
+	 */
+
+	public int getACMRCacheSize()
+	{
+		return acmrCacheSize;
+	}
+
+	/**
+	 * @param acmrCacheSize tamanho do cache FIFO usado para calcular o ACMR.
+	 */
+
+	public void setACMRCacheSize(int acmrCacheSize)
+	{
+		this.acmrCacheSize = Math.max(1, acmrCacheSize);
+	}
+
+	/**
+	 * Reordena os triângulos para que vértices recentemente usados sejam reaproveitados (algoritmo de Forsyth).
+	 * A cada passo é escolhido o triângulo com maior pontuação, onde vértices no cache e vértices com poucos
+	 * triângulos restantes possuem pontuações maiores. A ordem dos vértices de cada triângulo é mantida.
+	 * @param indices vetor com os índices dos triângulos, três por triângulo.
+	 * @param vertexCount quantidade de vértices referenciados pelos índices.
+	 * @return aquisição de um novo vetor com os mesmos triângulos em outra ordem.
+	 */
+
+	public static int[] optimizeTriangles(int indices[], int vertexCount)
+	{
+		int triangles = indices.length / 3;
+		int output[] = Arrays.copyOf(indices, indices.length);
+
+		if (triangles == 0)
+			return output;
+
+		int offsets[] = new int[vertexCount + 1];
+
+		for (int i = 0; i < triangles * 3; i++)
+			offsets[indices[i] + 1]++;
+
+		for (int i = 0; i < vertexCount; i++)
+			offsets[i + 1] += offsets[i];
+
+		int remaining[] = new int[vertexCount];
+		int adjacency[] = new int[triangles * 3];
+
+		for (int i = 0; i < triangles * 3; i++)
+		{
+			int vertex = indices[i];
+			adjacency[offsets[vertex] + remaining[vertex]++] = i / 3;
+		}
+
+		int cachePosition[] = new int[vertexCount];
+		float vertexScore[] = new float[vertexCount];
+		boolean added[] = new boolean[triangles];
+
+		Arrays.fill(cachePosition, -1);
+
+		for (int vertex = 0; vertex < vertexCount; vertex++)
+			vertexScore[vertex] = getVertexScore(-1, remaining[vertex]);
+
+		int best = 0;
+		float bestScore = -1;
+
+		for (int triangle = 0; triangle < triangles; triangle++)
+		{
+			float score = vertexScore[indices[triangle * 3]] + vertexScore[indices[triangle * 3 + 1]] + vertexScore[indices[triangle * 3 + 2]];
+
+			if (score > bestScore)
+			{
+				bestScore = score;
+				best = triangle;
+			}
+		}
+
+		int cache[] = new int[CACHE_SIZE + 3];
+		int nextCache[] = new int[CACHE_SIZE + 3];
+		int cacheCount = 0;
+		int cursor = 0;
+
+		for (int emitted = 0; emitted < triangles; emitted++)
+		{
+			if (best == -1)
+			{
+				while (added[cursor])
+					cursor++;
+
+				best = cursor;
+			}
+
+			added[best] = true;
+
+			int nextCount = 0;
+
+			for (int corner = 0; corner < 3; corner++)
+			{
+				int vertex = indices[best * 3 + corner];
+				output[emitted * 3 + corner] = vertex;
+
+				for (int i = offsets[vertex]; i < offsets[vertex] + remaining[vertex]; i++)
+					if (adjacency[i] == best)
+					{
+						adjacency[i] = adjacency[offsets[vertex] + remaining[vertex] - 1];
+						remaining[vertex]--;
+						break;
+					}
+
+				if (!contains(nextCache, nextCount, vertex))
+					nextCache[nextCount++] = vertex;
+			}
+
+			for (int i = 0; i < cacheCount; i++)
+				if (!contains(nextCache, nextCount, cache[i]))
+					nextCache[nextCount++] = cache[i];
+
+			int swap[] = cache;
+			cache = nextCache;
+			nextCache = swap;
+			cacheCount = nextCount;
+
+			for (int i = 0; i < cacheCount; i++)
+			{
+				int vertex = cache[i];
+				cachePosition[vertex] = i < CACHE_SIZE ? i : -1;
+				vertexScore[vertex] = getVertexScore(cachePosition[vertex], remaining[vertex]);
+			}
+
+			best = -1;
+			bestScore = -1;
+
+			for (int i = 0; i < cacheCount; i++)
+			{
+				int vertex = cache[i];
+
+				for (int j = offsets[vertex]; j < offsets[vertex] + remaining[vertex]; j++)
+				{
+					int triangle = adjacency[j];
+					float score = vertexScore[indices[triangle * 3]] + vertexScore[indices[triangle * 3 + 1]] + vertexScore[indices[triangle * 3 + 2]];
+
+					if (score > bestScore)
+					{
+						bestScore = score;
+						best = triangle;
+					}
+				}
+			}
+
+			cacheCount = Math.min(cacheCount, CACHE_SIZE);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Renumera os vértices na ordem em que são usados pelos índices, atualizando os próprios índices.
+	 * Vértices não referenciados por nenhum índice são mantidos ao final, na ordem original.
+	 * @param indices vetor com os índices dos triângulos, será atualizado com os novos índices.
+	 * @param vertexCount quantidade de vértices referenciados pelos índices.
+	 * @return aquisição de um vetor onde cada posição contém o índice antigo do vértice que ocupará aquela posição.
+	 */
+
+	public static int[] optimizeVertexFetch(int indices[], int vertexCount)
+	{
+		int remap[] = new int[vertexCount];
+		int order[] = new int[vertexCount];
+		int next = 0;
+
+		Arrays.fill(remap, -1);
+
+		for (int i = 0; i < indices.length; i++)
+		{
+			int vertex = indices[i];
+
+			if (remap[vertex] == -1)
+			{
+				remap[vertex] = next;
+				order[next++] = vertex;
+			}
+
+			indices[i] = remap[vertex];
+		}
+
+		for (int vertex = 0; vertex < vertexCount; vertex++)
+			if (remap[vertex] == -1)
+				order[next++] = vertex;
+
+		return order;
+	}
+
+	/**
+	 * Calcula o ACMR (average cache miss ratio) dos índices, a quantidade média de vértices que precisam
+	 * ser processados por triângulo considerando um cache FIFO de vértices transformados.
+	 * @param indices vetor com os índices dos triângulos, três por triângulo.
+	 * @param vertexCount quantidade de vértices referenciados pelos índices.
+	 * @param cacheSize quantidade de vértices mantidos no cache.
+	 * @return aquisição do ACMR dos índices, entre 0 e 3, ou zero se não houver triângulos.
+	 */
+
+	public static float getACMR(int indices[], int vertexCount, int cacheSize)
+	{
+		int triangles = indices.length / 3;
+
+		if (triangles == 0)
+			return 0f;
+
+		int inserted[] = new int[vertexCount];
+		int misses = 0;
+
+		Arrays.fill(inserted, -cacheSize - 1);
+
+		for (int i = 0; i < triangles * 3; i++)
+			if (misses - inserted[indices[i]] > cacheSize)
+				inserted[indices[i]] = ++misses;
+
+		return (float) misses / triangles;
+	}
+
+	/**
+	 * Calcula a pontuação de um vértice, quanto maior a pontuação mais cedo os seus triângulos serão escolhidos.
+	 * @param cachePosition posição do vértice no cache ou -1 se não estiver no cache.
+	 * @param remaining quantidade de triângulos do vértice que ainda não foram escolhidos.
+	 * @return aquisição da pontuação do vértice ou -1 se não houver mais triângulos.
+	 */
+
+	private static float getVertexScore(int cachePosition, int remaining)
+	{
+		if (remaining == 0)
+			return -1f;
+
+		float score = 0f;
+
+		if (cachePosition >= 0)
+		{
+			if (cachePosition < 3)
+				score = LAST_TRIANGLE_SCORE;
+			else
+				score = (float) Math.pow(1f - (float) (cachePosition - 3) / (CACHE_SIZE - 3), CACHE_DECAY_POWER);
+		}
+
+		return score + VALENCE_BOOST_SCALE * (float) Math.pow(remaining, -VALENCE_BOOST_POWER);
+	}
+
+	/**
+	 * Verifica se um vértice está entre os primeiros elementos de um vetor.
+	 * @param array vetor com os vértices.
+	 * @param length quantidade de elementos válidos do vetor.
+	 * @param vertex vértice que será procurado.
+	 * @return true se o vértice foi encontrado ou false caso contrário.
+	 */
+
+	private static boolean contains(int array[], int length, int vertex)
+	{
+		for (int i = 0; i < length; i++)
+			if (array[i] == vertex)
+				return true;
+
+		return false;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("acmrCacheSize", acmrCacheSize);
+		description.append("acmrBefore", acmrBefore);
+		description.append("acmrAfter", acmrAfter);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,234 @@
+package com.erakin.api.resources.model;
+
+import static com.erakin.api.lwjgl.APIGLUtil.releasedMemory;
+
+import java.nio.ByteBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.SizeUtil;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.lwjgl.VAO;
+
+/**
+ * <h1>Atributo Compactado para Modelo</h1>
+ *
+ * <p>Atributo cujos valores são armazenados em bytes com um tipo menor que números flutuantes,
+ * como inteiros de 16 bits normalizados, flutuantes de 16 bits ou normais em inteiros de 8 bits.
+ * O tipo e a normalização são repassados ao OpenGL, que converte os valores antes de chegarem ao shader.</p>
+ *
+ * <p>Posições quantizadas são armazenadas em relação à caixa delimitadora do modelo, portanto o valor
+ * recebido no shader está entre 0 e 1 e deve ser convertido através de <code>offset + valor * scale</code>.</p>
+ *
+ * @see ModelAttribute
+ * @see ModelCompressionUtil
+ *
+ * @author Andrew
+ */
+
+public class ModelPackedAttribute implements ModelAttribute
+{
+	/**
+	 * Índice para alocação do atributo no {@link VAO}.
+	 */
+	private int attribute;
+
+	/**
+	 * Quantidade de valores que serão alocados para cada vértice.
+	 */
+	private int size;
+
+	/**
+	 * Quantidade de vértices existentes para vincular os valores.
+	 */
+	private int length;
+
+	/**
+	 * Tipo de dado OpenGL dos valores armazenados.
+	 */
+	private int type;
+
+	/**
+	 * Valores inteiros devem ser convertidos para o intervalo [0, 1] ou [-1, 1].
+	 */
+	private boolean normalized;
+
+	/**
+	 * Quantidade de bytes ocupados pelos valores de cada vértice.
+	 */
+	private int stride;
+
+	/**
+	 * Buffer interno com os valores compactados.
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * Deslocamento para converter os valores quantizados de volta, null se não quantizados.
+	 */
+	private Vector3f offset;
+
+	/**
+	 * Escala para converter os valores quantizados de volta, null se não quantizados.
+	 */
+	private Vector3f scale;
+
+	/**
+	 * Cria uma nova instância de um atributo com valores já compactados em um buffer.
+	 * @param attribute identificação do atributo para ser vinculado ao {@link VAO}
+	 * @param size quantidade de valores para formar os dados de um vértice.
+	 * @param type tipo de dado OpenGL dos valores armazenados no buffer.
+	 * @param normalized valores inteiros devem ser normalizados pelo OpenGL.
+	 * @param stride quantidade de bytes ocupados pelos valores de cada vértice.
+	 * @param buffer buffer contendo os valores compactados de todos os vértices.
+	 */
+
+	public ModelPackedAttribute(int attribute, int size, int type, boolean normalized, int stride, ByteBuffer buffer)
+	{
+		this.attribute = attribute;
+		this.size = size;
+		this.type = type;
+		this.normalized = normalized;
+		this.stride = stride;
+		this.length = buffer.remaining() / stride;
+		this.buffer = buffer.slice().order(buffer.order());
+	}
+
+	/**
+	 * Calcula quantos bytes são necessários para que esse atributo esteja disponível em memória.
+	 * @return aquisição do espaço em memória ocupado para definir os valores do buffer do atributo.
+	 */
+
+	public int sizeof()
+	{
+		return buffer.capacity();
+	}
+
+	/**
+	 * Buffer interno usado para salvar esse atributo, não deve ser alterado.
+	 * @return aquisição do buffer contendo os valores compactados na ordem de bytes nativa.
+	 */
+
+	public ByteBuffer getBuffer()
+	{
+		return buffer;
+	}
+
+	/**
+	 * @return aquisição da quantidade de bytes ocupados pelos valores de cada vértice.
+	 */
+
+	public int getStride()
+	{
+		return stride;
+	}
+
+	/**
+	 * Valores quantizados são convertidos de volta através de <code>offset + valor * scale</code>.
+	 * @return aquisição do deslocamento dos valores quantizados ou null se não forem quantizados.
+	 */
+
+	public Vector3f getOffset()
+	{
+		return offset;
+	}
+
+	/**
+	 * Valores quantizados são convertidos de volta através de <code>offset + valor * scale</code>.
+	 * @return aquisição da escala dos valores quantizados ou null se não forem quantizados.
+	 */
+
+	public Vector3f getScale()
+	{
+		return scale;
+	}
+
+	/**
+	 * Define como os valores quantizados devem ser convertidos de volta: <code>offset + valor * scale</code>.
+	 * @param offset deslocamento dos valores, normalmente o menor ponto da caixa delimitadora.
+	 * @param scale escala dos valores, normalmente o tamanho da caixa delimitadora.
+	 */
+
+	public void setQuantization(Vector3f offset, Vector3f scale)
+	{
+		this.offset = offset;
+		this.scale = scale;
+	}
+
+	/**
+	 * Reordena os vértices desse atributo, usado pelo otimizador de modelagens.
+	 * @param order vetor onde cada posição contém o índice antigo do vértice que ocupará aquela posição.
+	 */
+
+	void remap(int order[])
+	{
+		ByteBuffer remapped = BufferUtils.createByteBuffer(stride * order.length);
+
+		for (int i = 0; i < order.length; i++)
+			for (int j = 0; j < stride; j++)
+				remapped.put(i * stride + j, buffer.get(order[i] * stride + j));
+
+		buffer = remapped;
+		length = order.length;
+	}
+
+	@Override
+	public int getIndex()
+	{
+		return attribute;
+	}
+
+	@Override
+	public int length()
+	{
+		return length;
+	}
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	@Override
+	public int getType()
+	{
+		return type;
+	}
+
+	@Override
+	public boolean isNormalized()
+	{
+		return normalized;
+	}
+
+	@Override
+	public void storeInVAO(VAO vao)
+	{
+		vao.setAttribute(attribute, size, type, normalized, stride, buffer);
+	}
+
+	@Override
+	public void release()
+	{
+		buffer = null;
+
+		releasedMemory(stride * length);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("attribute", attribute);
+		description.append("size", size);
+		description.append("type", type);
+		description.append("normalized", normalized);
+		description.append("length", length);
+		description.append("sizeof", SizeUtil.toString(sizeof()));
+
+		return description.toString();
+	}
+}
@@ -1,55 +1,105 @@
-package com.erakin.api.resources.model;
-
-import java.io.InputStream;
-
-/**
- * <h1>Leitor de Modelagem Padro</h1>
- *
- * <p>Leitor de modelagem  a implementao de um leitor de dados para modelagens.
- * Implementando todos os getters e definindo os atributos que so em comum.
- * Assim, todos os tipos de leitura de modelagens sero implementados facilmente.</p>
- *
- * @see ModelReader
- *
- * @author Andrew
- */
-
-public abstract class ModelReaderDefault implements ModelReader
-{
-	/**
-	 * Objeto para armazenamento temporrio dos dados da modelagem carregada.
-	 */
-	protected ModelDataDefault data;
-
-	/**
-	 * Constri um novo carregador de modelagens padro iniciando o armazenador de dados.
-	 * O armazenador de dados se refere a um objeto para armazenar temporariamente os dados.
-	 * Quanto aos dados so referentes a posio dos vrtices, texturas, normalizaes e ndices.
-	 */
-
-	public ModelReaderDefault()
-	{
-		data = new ModelDataDefault();
-	}
-
-	@Override
-	public ModelDataDefault readModel(InputStream stream) throws ModelException
-	{
-		subLoadModel(stream);
-
-		return data;
-	}
-
-	/**
-	 * Ser chamado assim que for solicitado para fazer o carregamento da modelagem tri-dimensional.
-	 * Dever armazenar todo e qualquer dado da modelagem carregada no objeto <code>data</code>.
-	 * Esse objeto ser retornado com os dados para o carregador e ir criar a modelagem de acordo.
-	 * @param stream referncia da stream usada com os dados da modelagem a ser carregada.
-	 * @throws ModelException apenas se houver algum problema durante o carregamento.
-	 */
-
-	protected void subLoadModel(InputStream stream) throws ModelException
-	{
-		
-	}
-}
+package com.erakin.api.resources.model;
+
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.buffer.BufferInput;
+
+/**
+ * <h1>Leitor de Modelagem Padrão</h1>
+ *
+ * <p>Leitor de modelagem é a implementação de um leitor de dados para modelagens.
+ * Implementando todos os getters e definindo os atributos que são em comum.
+ * Assim, todos os tipos de leitura de modelagens serão implementados facilmente.</p>
+ *
+ * @see ModelReader
+ *
+ * @author Andrew
+ */
+
+public abstract class ModelReaderDefault implements ModelReader
+{
+	/**
+	 * Objeto para armazenamento temporário dos dados da modelagem carregada.
+	 */
+	protected ModelDataDefault data;
+
+	/**
+	 * Constrói um novo carregador de modelagens padrão iniciando o armazenador de dados.
+	 * O armazenador de dados se refere a um objeto para armazenar temporariamente os dados.
+	 * Quanto aos dados são referentes a posição dos vértices, texturas, normalizações e índices.
+	 */
+
+	public ModelReaderDefault()
+	{
+		data = new ModelDataDefault();
+	}
+
+	@Override
+	public ModelDataDefault readModel(InputStream stream) throws ModelException
+	{
+		subLoadModel(stream);
+
+		return data;
+	}
+
+	/**
+	 * Será chamado assim que for solicitado para fazer o carregamento da modelagem tri-dimensional.
+	 * Deverá armazenar todo e qualquer dado da modelagem carregada no objeto <code>data</code>.
+	 * Esse objeto será retornado com os dados para o carregador e irá criar a modelagem de acordo.
+	 * @param stream referência da stream usada com os dados da modelagem a ser carregada.
+	 * @throws ModelException apenas se houver algum problema durante o carregamento.
+	 */
+
+	protected void subLoadModel(InputStream stream) throws ModelException
+	{
+		
+	}
+
+	/**
+	 * Lê todos os bytes restantes da stream em um único buffer direto e que pode ser alterado. Se a stream for de
+	 * um arquivo, os bytes são lidos diretamente pelo canal do arquivo sem cópias intermediárias. O arquivo não é
+	 * mapeado em memória: buffers mapeados são somente leitura (impedindo a otimização dos índices, por exemplo)
+	 * e mantêm o arquivo aberto até serem coletados.
+	 * Usado por formatos binários cujos atributos podem ser usados diretamente sobre os bytes do arquivo.
+	 * @param stream referência da stream com os dados da modelagem.
+	 * @return aquisição do buffer com os bytes restantes da stream, em ordem little-endian.
+	 * @throws IOException falha ao ler a stream.
+	 */
+
+	protected static ByteBuffer readDirect(InputStream stream) throws IOException
+	{
+		ByteBuffer file;
+
+		if (stream instanceof FileInputStream)
+		{
+			FileChannel channel = ((FileInputStream) stream).getChannel();
+			file = BufferUtils.createByteBuffer((int) (channel.size() - channel.position()));
+
+			while (file.hasRemaining())
+				if (channel.read(file) < 0)
+					throw new EOFException();
+
+			file.flip();
+		}
+
+		else
+		{
+			Buffer buffer = new BufferInput(stream);
+			file = BufferUtils.createByteBuffer(buffer.space());
+			file.put(buffer.getDate(), buffer.offset(), buffer.space());
+			file.flip();
+			buffer.close();
+		}
+
+		return file.order(ByteOrder.LITTLE_ENDIAN);
+	}
+}
@@ -1,108 +1,198 @@
-package com.erakin.api.resources.model;
-
-import org.diverproject.util.ObjectDescription;
-
-import com.erakin.api.lwjgl.VAO;
-import com.erakin.api.resources.ResourceRoot;
-
-/**
- * <h1>Modelo Raz</h1>
- *
- * <p>Para essa raz ser de responsabilidade o armazenamento do VAO do modelo.
- * Esse VAO ir conter as seguintes informaes abaixo conforme ordenado:</p>
- *
- * <p><b>[Attribute]</b>: <i>Especificao do contedo no atributo.</i><br>
- * <b>[0]</b>: Posio dos vrtices no espao;<br>
- * <b>[1]</b>: Coordenada da textura para cada vrtice;<br>
- * <b>[2]</b>: Normalizao TODO;<br></p>
- *
- * @see ResourceRoot
- * @see VAO
- *
- * @author Andrew
- */
-
-public class ModelRoot extends ResourceRoot<Model>
-{
-	/**
-	 * Identificao do Vertex-Array Object usado.
-	 */
-	VAO vao;
-
-	/**
-	 * Nvel padro da fora para refletir iluminaes.
-	 */
-	float defaultReflectivity;
-
-	/**
-	 * Nvel padro da reduo para brilhos refletidos.
-	 */
-	float defaultShineDamping;
-
-	/**
-	 * Vetor especificando os atributos usados pelo modelo.
-	 */
-	int attributes[];
-
-	/**
-	 * Construtor em package para permitir apenas que ModelLoader construa um.
-	 * Isso ir garantir que um Modelo Raz invlido possa ser criado na engine.
-	 * @param filepath caminho do arquivo em disco com os dados do modelo carregado.
-	 */
-
-	ModelRoot(String filepath)
-	{
-		super(filepath);
-
-		attributes = new int[0];
-		defaultReflectivity = 0f;
-		defaultShineDamping = 1f;
-	}
-
-	/**
-	 * Refletividade indica o quanto ser refletida a iluminao ao entrar em contado com o modelo.
-	 * Por padro o valor para esse  definido como 0 a fim de manter um reflexo leve e suave.
-	 * @param reflectivity nvel de refletividade do modelo, quanto maior mais reflexo ter.
-	 */
-
-	public void setDefaultReflectivity(float reflectivity)
-	{
-		this.defaultReflectivity = reflectivity;
-	}
-
-	/**
-	 * Reduo do Brilho indica o quanto o reflexo ser reduzido em relao a viso da cmera.
-	 * Por padro o valor para esse  definido como 1 a fim de manter um brilho leve e suave.
-	 * @param shineDamping nvel de reduo do brilho, quanto maior mais reduo ter.
-	 */
-
-	public void setDefaultShineDamping(float shineDamping)
-	{
-		this.defaultShineDamping = shineDamping;
-	}
-
-	@Override
-	public Model genResource()
-	{
-		Model model = new Model(this);
-		addReference(model);
-
-		return model;
-	}
-
-	@Override
-	public void release()
-	{
-		super.release();
-
-		vao.release();
-	}
-
-	@Override
-	public void toString(ObjectDescription description)
-	{
-		description.append("vao", vao == null ? null : vao.getID());
-		description.append("reflectivity", defaultReflectivity);
-		description.append("shineDamping", defaultShineDamping);
-	}
-}
+package com.erakin.api.resources.model;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.lwjgl.VAO;
+import com.erakin.api.resources.ResourceRoot;
+
+/**
+ * <h1>Modelo Raíz</h1>
+ *
+ * <p>Para essa raíz será de responsabilidade o armazenamento do VAO do modelo.
+ * Esse VAO irá conter as seguintes informações abaixo conforme ordenado:</p>
+ *
+ * <p><b>[Attribute]</b>: <i>Especificação do conteúdo no atributo.</i><br>
+ * <b>[0]</b>: Posição dos vértices no espaço;<br>
+ * <b>[1]</b>: Coordenada da textura para cada vértice;<br>
+ * <b>[2]</b>: Normalização TODO;<br></p>
+ *
+ * @see ResourceRoot
+ * @see VAO
+ *
+ * @author Andrew
+ */
+
+public class ModelRoot extends ResourceRoot<Model>
+{
+	/**
+	 * Identificação do Vertex-Array Object usado.
+	 */
+	VAO vao;
+
+	/**
+	 * Nível padrão da força para refletir iluminações.
+	 */
+	float defaultReflectivity;
+
+	/**
+	 * Nível padrão da redução para brilhos refletidos.
+	 */
+	float defaultShineDamping;
+
+	/**
+	 * Vetor especificando os atributos usados pelo modelo.
+	 */
+	int attributes[];
+
+	/**
+	 * Deslocamento das posições quantizadas, menor ponto da caixa delimitadora.
+	 */
+	Vector3f positionOffset;
+
+	/**
+	 * Escala das posições quantizadas, tamanho da caixa delimitadora.
+	 */
+	Vector3f positionScale;
+
+	/**
+	 * Posição do primeiro índice de cada nível de detalhe, vazio se houver apenas o nível máximo.
+	 */
+	int levelFirst[];
+
+	/**
+	 * Quantidade de índices de cada nível de detalhe, vazio se houver apenas o nível máximo.
+	 */
+	int levelCount[];
+
+	/**
+	 * Distância a partir da qual cada nível de detalhe é usado.
+	 */
+	float levelDistances[];
+
+	/**
+	 * Limites que envolvem todos os vértices da modelagem.
+	 */
+	ModelBounds bounds;
+
+	/**
+	 * Agrupamentos de triângulos do nível de detalhe máximo, vazio se não forem gerados.
+	 */
+	ModelMeshlet meshlets[];
+
+	/**
+	 * Lote onde os vértices e índices estão armazenados, null se possuir o seu próprio VAO.
+	 */
+	ModelBatch batch;
+
+	/**
+	 * Posição do primeiro vértice da modelagem nos VBOs do lote.
+	 */
+	int baseVertex;
+
+	/**
+	 * Posição do primeiro índice da modelagem no VBO de índices do lote.
+	 */
+	int firstIndex;
+
+	/**
+	 * Quantidade de vértices da modelagem armazenados no lote.
+	 */
+	int vertexCount;
+
+	/**
+	 * Quantidade de índices da modelagem armazenados no lote.
+	 */
+	int indexCount;
+
+	/**
+	 * Construtor em package para permitir apenas que ModelLoader construa um.
+	 * Isso irá garantir que um Modelo Raíz inválido possa ser criado na engine.
+	 * @param filepath caminho do arquivo em disco com os dados do modelo carregado.
+	 */
+
+	ModelRoot(String filepath)
+	{
+		super(filepath);
+
+		attributes = new int[0];
+		positionOffset = new Vector3f(0, 0, 0);
+		positionScale = new Vector3f(1, 1, 1);
+		levelFirst = new int[0];
+		levelCount = new int[0];
+		levelDistances = new float[0];
+		meshlets = new ModelMeshlet[0];
+		defaultReflectivity = 0f;
+		defaultShineDamping = 1f;
+	}
+
+	/**
+	 * Refletividade indica o quanto será refletida a iluminação ao entrar em contado com o modelo.
+	 * Por padrão o valor para esse é definido como 0 a fim de manter um reflexo leve e suave.
+	 * @param reflectivity nível de refletividade do modelo, quanto maior mais reflexo terá.
+	 */
+
+	public void setDefaultReflectivity(float reflectivity)
+	{
+		this.defaultReflectivity = reflectivity;
+	}
+
+	/**
+	 * Redução do Brilho indica o quanto o reflexo será reduzido em relação a visão da câmera.
+	 * Por padrão o valor para esse é definido como 1 a fim de manter um brilho leve e suave.
+	 * @param shineDamping nível de redução do brilho, quanto maior mais redução terá.
+	 */
+
+	public void setDefaultShineDamping(float shineDamping)
+	{
+		this.defaultShineDamping = shineDamping;
+	}
+
+	/**
+	 * Define a partir de qual distância da câmera cada nível de detalhe será usado pelas modelagens.
+	 * O primeiro nível (detalhe máximo) é sempre usado a partir da distância zero e não é especificado.
+	 * Distâncias além da quantidade de níveis de detalhe existentes são ignoradas.
+	 * @param distances distância mínima para usar cada nível de detalhe a partir do segundo.
+	 */
+
+	public void setLevelOfDetailDistances(float... distances)
+	{
+		for (int i = 1; i < levelDistances.length && i <= distances.length; i++)
+			levelDistances[i] = distances[i - 1];
+	}
+
+	@Override
+	public Model genResource()
+	{
+		Model model = new Model(this);
+		addReference(model);
+
+		return model;
+	}
+
+	@Override
+	public void release()
+	{
+		super.release();
+
+		if (batch != null)
+			batch.free(this);
+
+		else if (vao != null)
+		{
+			vao.release();
+			vao = null;
+		}
+	}
+
+	@Override
+	public void toString(ObjectDescription description)
+	{
+		description.append("vao", vao == null ? null : vao.getID());
+		description.append("reflectivity", defaultReflectivity);
+		description.append("shineDamping", defaultShineDamping);
+
+		if (levelCount.length > 0)
+			description.append("levels", levelCount.length);
+	}
+}
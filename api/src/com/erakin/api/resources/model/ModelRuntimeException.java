@@ -1,73 +1,73 @@
-package com.erakin.api.resources.model;
-
-import com.erakin.api.ErakinRuntimeException;
-
-/**
- * <h1>Exceo de Modelagem</h1>
- *
- * <p>Todas as excees que possam ser geradas durante a utilizao de modelagens no engine sero deste tipo.
- * Esse tipo de exceo por parte da biblioteca Erakin ser gerada apenas em <code>com.eraking.resource.model</code>.</p>
- *
- * <p>Possui diversos construtores, que permitem uma melhor forma de determinar como ser a mensagem.
- * Utiliza mtodos que permitem usar formatao para definir a mensagem ou ento usar outra exceo.
- * Podendo ainda usar uma combinao dos dois tipos, usando uma mensagem formatada com uma excees.</p>
- *
- * @see ErakinRuntimeException
- *
- * @author Andrew Mello
- */
-
-public class ModelRuntimeException extends ErakinRuntimeException
-{
-	/**
-	 * Serializao para identificao da classe.
-	 */
-	private static final long serialVersionUID = 2926428005702877844L;
-
-	/**
-	 * Constri uma nova exceo para modelagem, sendo necessrio definir a mensagem de causa.
-	 * @param message mensagem contendo informaes sobre o que ocasionou a exceo.
-	 */
-
-	public ModelRuntimeException(String message)
-	{
-		super(message);
-	}
-
-	/**
-	 * Constri uma nova exceo para modelagem, sendo necessrio definir a mensagem de causa.
-	 * @param format string contendo uma formatao de uma mensagem sobre o que ocasionou a exceo.
-	 * @param args argumentos respectivos a formatao da mensagem para serem exibidos.
-	 */
-
-	public ModelRuntimeException(String format, Object... args)
-	{
-		super(format, args);
-	}
-
-	/**
-	 * Constri uma nova exceo para modelagem, sendo necessrio definir a mensagem de causa.
-	 * Para esse caso em questo  necessrio utilizar uma outra exceo e usar sua mensagem.
-	 * Mostra o nome da exceo (classe) ao final da mensagem apenas se for outro tipo.
-	 * @param e exceo do qual dever ser copiado a mensagem para essa nova exceo.
-	 */
-
-	public ModelRuntimeException(Exception e)
-	{
-		super(e);
-	}
-
-	/**
-	 * Constri uma nova exceo para modelagem, sendo necessrio definir a mensagem de causa.
-	 * Para esse caso em questo  necessrio utilizar uma outra exceo e usar sua mensagem.
-	 * Mostra o nome da exceo (classe) ao final da mensagem apenas se for outro tipo.
-	 * @param e exceo do qual dever ser copiado a mensagem para essa nova exceo.
-	 * @param format string contendo uma formatao de uma mensagem sobre o que ocasionou a exceo.
-	 * @param args argumentos respectivos a formatao da mensagem para serem exibidos.
-	 */
-
-	public ModelRuntimeException(Exception e, String format, Object... args)
-	{
-		super(e, format, args);
-	}
-}
+package com.erakin.api.resources.model;
+
+import com.erakin.api.ErakinRuntimeException;
+
+/**
+ * <h1>Exceção de Modelagem</h1>
+ *
+ * <p>Todas as exceções que possam ser geradas durante a utilização de modelagens no engine serão deste tipo.
+ * Esse tipo de exceção por parte da biblioteca Erakin será gerada apenas em <code>com.eraking.resource.model</code>.</p>
+ *
+ * <p>Possui diversos construtores, que permitem uma melhor forma de determinar como será a mensagem.
+ * Utiliza métodos que permitem usar formatação para definir a mensagem ou então usar outra exceção.
+ * Podendo ainda usar uma combinação dos dois tipos, usando uma mensagem formatada com uma exceções.</p>
+ *
+ * @see ErakinRuntimeException
+ *
+ * @author Andrew Mello
+ */
+
+public class ModelRuntimeException extends ErakinRuntimeException
+{
+	/**
+	 * Serialização para identificação da classe.
+	 */
+	private static final long serialVersionUID = 2926428005702877844L;
+
+	/**
+	 * Constrói uma nova exceção para modelagem, sendo necessário definir a mensagem de causa.
+	 * @param message mensagem contendo informações sobre o que ocasionou a exceção.
+	 */
+
+	public ModelRuntimeException(String message)
+	{
+		super(message);
+	}
+
+	/**
+	 * Constrói uma nova exceção para modelagem, sendo necessário definir a mensagem de causa.
+	 * @param format string contendo uma formatação de uma mensagem sobre o que ocasionou a exceção.
+	 * @param args argumentos respectivos a formatação da mensagem para serem exibidos.
+	 */
+
+	public ModelRuntimeException(String format, Object... args)
+	{
+		super(format, args);
+	}
+
+	/**
+	 * Constrói uma nova exceção para modelagem, sendo necessário definir a mensagem de causa.
+	 * Para esse caso em questão é necessário utilizar uma outra exceção e usar sua mensagem.
+	 * Mostra o nome da exceção (classe) ao final da mensagem apenas se for outro tipo.
+	 * @param e exceção do qual deverá ser copiado a mensagem para essa nova exceção.
+	 */
+
+	public ModelRuntimeException(Exception e)
+	{
+		super(e);
+	}
+
+	/**
+	 * Constrói uma nova exceção para modelagem, sendo necessário definir a mensagem de causa.
+	 * Para esse caso em questão é necessário utilizar uma outra exceção e usar sua mensagem.
+	 * Mostra o nome da exceção (classe) ao final da mensagem apenas se for outro tipo.
+	 * @param e exceção do qual deverá ser copiado a mensagem para essa nova exceção.
+	 * @param format string contendo uma formatação de uma mensagem sobre o que ocasionou a exceção.
+	 * @param args argumentos respectivos a formatação da mensagem para serem exibidos.
+	 */
+
+	public ModelRuntimeException(Exception e, String format, Object... args)
+	{
+		super(e, format, args);
+	}
+}
@@ -0,0 +1,394 @@
+package com.erakin.api.resources.model;
+
+import java.util.Arrays;
+
+/**
+ * <h1>Simplificador de Modelagens</h1>
+ *
+ * <p>Classe utilitária composta apenas de procedimentos estáticos para gerar níveis de detalhe (LOD) de uma modelagem,
+ * reduzindo a quantidade de triângulos através do colapso de arestas guiado por quádricas de erro (QEM).
+ * Cada vértice acumula as quádricas dos planos dos seus triângulos, e o custo de colapsar uma aresta é a distância
+ * quadrática do vértice restante a todos esses planos, de modo que as arestas em regiões planas são colapsadas primeiro.</p>
+ *
+ * <p>Os colapsos sempre movem um vértice para outro já existente, portanto os níveis de detalhe são apenas novos
+ * vetores de índices que utilizam os mesmos atributos da modelagem original, podendo ser armazenados no mesmo buffer.
+ * Vértices de borda (arestas com um único triângulo, incluindo costuras de UV) não são movidos e colapsos
+ * que invertem a orientação de algum triângulo são descartados.</p>
+ *
+ * @see ModelLoader
+ *
+ * @author Andrew
+ */
+
+public class ModelSimplifier
+{
+	/**
+	 * Quantidade de valores de uma quádrica simétrica (matriz 4x4).
+	 */
+	private static final int QUADRIC_SIZE = 10;
+
+	/**
+	 * Construtor privado, classe composta apenas de procedimentos estáticos.
+	 */
+
+	private ModelSimplifier()
+	{
+
+	}
+
+	/**
+	 * Gera os níveis de detalhe de uma modelagem, cada nível com uma fração dos triângulos do nível anterior.
+	 * A simplificação de cada nível parte do nível anterior, e é interrompida se não houver redução suficiente.
+	 * @param positions posições dos vértices da modelagem (x, y, z).
+	 * @param indices índices dos triângulos do nível de detalhe máximo.
+	 * @param levels quantidade de níveis de detalhe além do nível de detalhe máximo.
+	 * @param ratio fração dos triângulos do nível anterior mantida em cada nível (entre 0 e 1).
+	 * @return aquisição dos índices de cada nível gerado, sem incluir o nível de detalhe máximo.
+	 */
+
+	public static int[][] generateLevels(float positions[], int indices[], int levels, float ratio)
+	{
+		int generated[][] = new int[levels][];
+		int previous[] = indices;
+		int count = 0;
+
+		for (; count < levels; count++)
+		{
+			int target = (int) (previous.length / 3 * ratio) * 3;
+			int simplified[] = simplify(positions, previous, target);
+
+			if (simplified.length == 0 || simplified.length > previous.length * (1f + ratio) / 2f)
+				break;
+
+			generated[count] = previous = simplified;
+		}
+
+		return Arrays.copyOf(generated, count);
+	}
+
+	/**
+	 * Simplifica uma malha de triângulos colapsando as arestas de menor erro até atingir a quantidade de índices
+	 * desejada, ou até que não seja mais possível colapsar nenhuma aresta.
+	 * @param positions posições dos vértices da modelagem (x, y, z).
+	 * @param indices índices dos triângulos que serão simplificados.
+	 * @param targetIndexCount quantidade de índices (três por triângulo) desejada.
+	 * @return aquisição de um novo vetor com os índices dos triângulos restantes.
+	 */
+
+	public static int[] simplify(float positions[], int indices[], int targetIndexCount)
+	{
+		int vertexCount = positions.length / 3;
+		int current[] = Arrays.copyOf(indices, indices.length / 3 * 3);
+		double quadrics[] = new double[vertexCount * QUADRIC_SIZE];
+
+		for (int i = 0; i < current.length; i += 3)
+			addTriangleQuadric(quadrics, positions, current[i], current[i + 1], current[i + 2]);
+
+		while (current.length > targetIndexCount)
+		{
+			int collapses = collapseEdges(positions, quadrics, current, targetIndexCount);
+
+			if (collapses == 0)
+				break;
+
+			current = removeDegenerated(current);
+		}
+
+		return current;
+	}
+
+	/**
+	 * Realiza uma etapa de colapsos, onde cada vértice pode participar de no máximo um colapso.
+	 * As arestas são ordenadas pelo seu custo e colapsadas enquanto a estimativa de triângulos for maior que o desejado.
+	 * @param positions posições dos vértices da modelagem (x, y, z).
+	 * @param quadrics quádricas de erro acumuladas de cada vértice.
+	 * @param indices índices dos triângulos atuais, serão atualizados conforme os colapsos.
+	 * @param targetIndexCount quantidade de índices (três por triângulo) desejada.
+	 * @return aquisição da quantidade de arestas colapsadas.
+	 */
+
+	private static int collapseEdges(float positions[], double quadrics[], int indices[], int targetIndexCount)
+	{
+		int vertexCount = positions.length / 3;
+		int offsets[] = new int[vertexCount + 1];
+
+		for (int index : indices)
+			offsets[index + 1]++;
+
+		for (int i = 0; i < vertexCount; i++)
+			offsets[i + 1] += offsets[i];
+
+		int fill[] = Arrays.copyOf(offsets, vertexCount);
+		int adjacency[] = new int[indices.length];
+
+		for (int i = 0; i < indices.length; i++)
+			adjacency[fill[indices[i]]++] = i / 3;
+
+		boolean border[] = findBorders(indices, offsets, adjacency);
+
+		int edgeFrom[] = new int[indices.length];
+		int edgeTo[] = new int[indices.length];
+		long keys[] = new long[indices.length];
+		int edges = 0;
+
+		for (int i = 0; i < indices.length; i++)
+		{
+			int a = indices[i];
+			int b = indices[i % 3 == 2 ? i - 2 : i + 1];
+
+			if (a > b && hasEdge(indices, offsets, adjacency, b, a, i / 3))
+				continue;
+
+			double costAB = border[a] ? Double.MAX_VALUE : getCollapseCost(quadrics, positions, a, b);
+			double costBA = border[b] ? Double.MAX_VALUE : getCollapseCost(quadrics, positions, b, a);
+
+			if (costAB == Double.MAX_VALUE && costBA == Double.MAX_VALUE)
+				continue;
+
+			edgeFrom[edges] = costAB <= costBA ? a : b;
+			edgeTo[edges] = costAB <= costBA ? b : a;
+			keys[edges] = ((long) Float.floatToIntBits((float) Math.min(costAB, costBA)) << 32) | edges;
+			edges++;
+		}
+
+		Arrays.sort(keys, 0, edges);
+
+		int remap[] = new int[vertexCount];
+		boolean locked[] = new boolean[vertexCount];
+		int triangles = indices.length / 3;
+		int collapses = 0;
+
+		for (int i = 0; i < vertexCount; i++)
+			remap[i] = i;
+
+		for (int i = 0; i < edges && triangles * 3 > targetIndexCount; i++)
+		{
+			int edge = (int) keys[i];
+			int from = edgeFrom[edge];
+			int to = edgeTo[edge];
+
+			if (locked[from] || locked[to] || flipsTriangles(positions, indices, offsets, adjacency, remap, from, to))
+				continue;
+
+			remap[from] = to;
+			locked[from] = locked[to] = true;
+			collapses++;
+
+			for (int j = 0; j < QUADRIC_SIZE; j++)
+				quadrics[to * QUADRIC_SIZE + j] += quadrics[from * QUADRIC_SIZE + j];
+
+			for (int j = offsets[from]; j < offsets[from + 1]; j++)
+			{
+				int triangle = adjacency[j];
+
+				if (indices[triangle * 3] == to || indices[triangle * 3 + 1] == to || indices[triangle * 3 + 2] == to)
+					triangles--;
+			}
+		}
+
+		for (int i = 0; i < indices.length; i++)
+			indices[i] = remap[indices[i]];
+
+		return collapses;
+	}
+
+	/**
+	 * Identifica os vértices de borda, que possuem alguma aresta usada por um único triângulo.
+	 * @param indices índices dos triângulos atuais.
+	 * @param offsets posição inicial dos triângulos de cada vértice no vetor de adjacência.
+	 * @param adjacency triângulos de cada vértice.
+	 * @return aquisição de um vetor indicando se cada vértice é de borda.
+	 */
+
+	private static boolean[] findBorders(int indices[], int offsets[], int adjacency[])
+	{
+		boolean border[] = new boolean[offsets.length - 1];
+
+		for (int i = 0; i < indices.length; i++)
+		{
+			int a = indices[i];
+			int b = indices[i % 3 == 2 ? i - 2 : i + 1];
+
+			if (!hasEdge(indices, offsets, adjacency, b, a, -1))
+				border[a] = border[b] = true;
+		}
+
+		return border;
+	}
+
+	/**
+	 * Verifica se existe algum triângulo com a aresta orientada de um vértice para outro.
+	 * @param indices índices dos triângulos atuais.
+	 * @param offsets posição inicial dos triângulos de cada vértice no vetor de adjacência.
+	 * @param adjacency triângulos de cada vértice.
+	 * @param a vértice de origem da aresta.
+	 * @param b vértice de destino da aresta.
+	 * @param ignore triângulo que não deve ser considerado ou -1 para considerar todos.
+	 * @return true se a aresta existir ou false caso contrário.
+	 */
+
+	private static boolean hasEdge(int indices[], int offsets[], int adjacency[], int a, int b, int ignore)
+	{
+		for (int i = offsets[a]; i < offsets[a + 1]; i++)
+		{
+			int triangle = adjacency[i];
+
+			if (triangle == ignore)
+				continue;
+
+			for (int corner = 0; corner < 3; corner++)
+				if (indices[triangle * 3 + corner] == a && indices[triangle * 3 + (corner + 1) % 3] == b)
+					return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Verifica se colapsar um vértice em outro inverte a orientação de algum dos triângulos que permanecem.
+	 * @param positions posições dos vértices da modelagem (x, y, z).
+	 * @param indices índices dos triângulos atuais.
+	 * @param offsets posição inicial dos triângulos de cada vértice no vetor de adjacência.
+	 * @param adjacency triângulos de cada vértice.
+	 * @param remap vértices já colapsados nessa etapa.
+	 * @param from vértice que será removido.
+	 * @param to vértice que irá substituir o vértice removido.
+	 * @return true se algum triângulo for invertido ou false caso contrário.
+	 */
+
+	private static boolean flipsTriangles(float positions[], int indices[], int offsets[], int adjacency[], int remap[], int from, int to)
+	{
+		for (int i = offsets[from]; i < offsets[from + 1]; i++)
+		{
+			int triangle = adjacency[i];
+			int a = remap[indices[triangle * 3]];
+			int b = remap[indices[triangle * 3 + 1]];
+			int c = remap[indices[triangle * 3 + 2]];
+
+			if (a == to || b == to || c == to || a == b || b == c || c == a)
+				continue;
+
+			float before[] = getNormal(positions, a, b, c);
+			float after[] = getNormal(positions, a == from ? to : a, b == from ? to : b, c == from ? to : c);
+
+			if (before[0] * after[0] + before[1] * after[1] + before[2] * after[2] <= 0)
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Calcula o vetor normal (não normalizado) de um triângulo.
+	 * @param positions posições dos vértices da modelagem (x, y, z).
+	 * @param a primeiro vértice do triângulo.
+	 * @param b segundo vértice do triângulo.
+	 * @param c terceiro vértice do triângulo.
+	 * @return aquisição do produto vetorial das arestas do triângulo.
+	 */
+
+	private static float[] getNormal(float positions[], int a, int b, int c)
+	{
+		float ux = positions[b * 3] - positions[a * 3];
+		float uy = positions[b * 3 + 1] - positions[a * 3 + 1];
+		float uz = positions[b * 3 + 2] - positions[a * 3 + 2];
+		float vx = positions[c * 3] - positions[a * 3];
+		float vy = positions[c * 3 + 1] - positions[a * 3 + 1];
+		float vz = positions[c * 3 + 2] - positions[a * 3 + 2];
+
+		return new float[] { uy * vz - uz * vy, uz * vx - ux * vz, ux * vy - uy * vx };
+	}
+
+	/**
+	 * Acumula a quádrica do plano de um triângulo em cada um dos seus vértices, ponderada pela sua área.
+	 * @param quadrics quádricas de erro acumuladas de cada vértice.
+	 * @param positions posições dos vértices da modelagem (x, y, z).
+	 * @param a primeiro vértice do triângulo.
+	 * @param b segundo vértice do triângulo.
+	 * @param c terceiro vértice do triângulo.
+	 */
+
+	private static void addTriangleQuadric(double quadrics[], float positions[], int a, int b, int c)
+	{
+		float normal[] = getNormal(positions, a, b, c);
+		double length = Math.sqrt(normal[0] * normal[0] + normal[1] * normal[1] + normal[2] * normal[2]);
+
+		if (length == 0)
+			return;
+
+		double nx = normal[0] / length;
+		double ny = normal[1] / length;
+		double nz = normal[2] / length;
+		double d = -(nx * positions[a * 3] + ny * positions[a * 3 + 1] + nz * positions[a * 3 + 2]);
+		double area = length / 2;
+
+		double plane[] = new double[]
+		{
+			nx * nx, nx * ny, nx * nz, nx * d,
+			ny * ny, ny * nz, ny * d,
+			nz * nz, nz * d,
+			d * d
+		};
+
+		for (int vertex : new int[] { a, b, c })
+			for (int i = 0; i < QUADRIC_SIZE; i++)
+				quadrics[vertex * QUADRIC_SIZE + i] += plane[i] * area;
+	}
+
+	/**
+	 * Calcula o erro de colapsar um vértice em outro, avaliando a soma das suas quádricas na posição restante.
+	 * @param quadrics quádricas de erro acumuladas de cada vértice.
+	 * @param positions posições dos vértices da modelagem (x, y, z).
+	 * @param from vértice que será removido.
+	 * @param to vértice que irá substituir o vértice removido.
+	 * @return aquisição do erro quadrático do colapso.
+	 */
+
+	private static double getCollapseCost(double quadrics[], float positions[], int from, int to)
+	{
+		double x = positions[to * 3];
+		double y = positions[to * 3 + 1];
+		double z = positions[to * 3 + 2];
+		double error = 0;
+
+		for (int vertex : new int[] { from, to })
+		{
+			int q = vertex * QUADRIC_SIZE;
+
+			error += quadrics[q] * x * x + 2 * quadrics[q + 1] * x * y + 2 * quadrics[q + 2] * x * z + 2 * quadrics[q + 3] * x
+					+ quadrics[q + 4] * y * y + 2 * quadrics[q + 5] * y * z + 2 * quadrics[q + 6] * y
+					+ quadrics[q + 7] * z * z + 2 * quadrics[q + 8] * z
+					+ quadrics[q + 9];
+		}
+
+		return Math.max(0, error);
+	}
+
+	/**
+	 * Remove os triângulos que possuem dois ou mais vértices iguais após os colapsos.
+	 * @param indices índices dos triângulos atuais.
+	 * @return aquisição de um novo vetor apenas com os triângulos válidos.
+	 */
+
+	private static int[] removeDegenerated(int indices[])
+	{
+		int valid[] = new int[indices.length];
+		int length = 0;
+
+		for (int i = 0; i < indices.length; i += 3)
+		{
+			int a = indices[i];
+			int b = indices[i + 1];
+			int c = indices[i + 2];
+
+			if (a == b || b == c || c == a)
+				continue;
+
+			valid[length++] = a;
+			valid[length++] = b;
+			valid[length++] = c;
+		}
+
+		return Arrays.copyOf(valid, length);
+	}
+}
@@ -1,97 +1,97 @@
-package com.erakin.api.resources.shader;
-
-import org.diverproject.util.FileUtil;
-import org.diverproject.util.collection.Map;
-import org.diverproject.util.collection.abstraction.StringSimpleMap;
-
-/**
- * <h1>Fbrica para Leitor de Shader</h1>
- *
- * <p>Essa classe dever conter mtodos que permitem a criao de objetos contendo
- * a programao para computao grfica de acordo com o caminho do arquivo especificado
- * em disco, para assim l-lo e convert-lo para que funcione corretamente no OpenGL.</p>
- *
- * <p>Tratamento tal que dever verificar a extenso do arquivo para adequar a forma
- * em que os dados sero lidos afim de entender como o programa funciona e onde e
- * como as suas informaes esto armazenados dentro do arquivo em questo.</p>
- *
- * @see Map
- * @see ShaderReader
- *
- * @author Andrew
- */
-
-public class ShaderReaderFactory
-{
-	/**
-	 * Referncia do objeto ShaderReaderFactory para adaptar ao padro de projetos Singleton.
-	 */
-	private static final ShaderReaderFactory SINGLETON = new ShaderReaderFactory();
-
-	/**
-	 * Lista contendo todas os leitores das extenses de programas para computaes grficas.
-	 */
-	private Map<String, ShaderReader> readers;
-
-	/**
-	 * Construtor privado para respeitar o padro de projetos Singleton.
-	 * Inicializa o mapeamento de leitores disponveis adicionando os padres.
-	 */
-
-	private ShaderReaderFactory()
-	{
-		readers = new StringSimpleMap<ShaderReader>();
-	}
-
-	/**
-	 * Atravs do caminho do arquivo carregado, identifica a extenso do mesmo.
-	 * Aps identificar a extenso ir procurar se existe um leitor para tal.
-	 * @param path caminho contendo a extenso do arquivo a ser lido.
-	 * @return aquisio do leitor de computao grfica da extenso.
-	 */
-
-	public ShaderReader getShaderReaderOf(String path)
-	{
-		String extension = FileUtil.getExtension(path).toLowerCase();
-		ShaderReader reader = readers.get(extension);
-
-		if (reader == null)
-			throw new ShaderRuntimeException("extenso '%s' no suportada", extension);
-
-		return reader;
-	}
-
-	/**
-	 * Adiciona um novo leitor para programas de computao grfica como opo de leitura.
-	 * Caso um leitor para a extenso passada j exista ele ser substitudo pela nova.
-	 * @param extension tipo de extenso de arquivo do qual ser suportado a leitura.
-	 * @param reader referncia do leitor que ser usado para a extenso acima.
-	 */
-
-	public void addShaderReader(String extension, ShaderReader reader)
-	{
-		if (readers.containsKey(extension))
-			readers.update(extension, reader);
-		else
-			readers.add(extension, reader);
-	}
-
-	/**
-	 * ShaderReaderFactory utiliza o padro de projetos Singleton que permite a criao de apenas um objeto do tipo.
-	 * Esse padro  usado para que no seja possvel criar mais do que uma fbrica para dados de computaes grfica.
-	 * No h necessidade na existncia de dois objetos deste, procedimentos no estticos pois no deve
-	 * funcionar como um utilitrio, mas sim com uma espcie de gerenciador, gerenciado programas em disco.
-	 * @return aquisio da referncia do objeto fbrica para leitores de programas para computao grfica em disco.
-	 */
-
-	public static ShaderReaderFactory getInstance()
-	{
-		return SINGLETON;
-	}
-
-	@Override
-	public String toString()
-	{
-		return getClass().getSimpleName();
-	}
-}
+package com.erakin.api.resources.shader;
+
+import org.diverproject.util.FileUtil;
+import org.diverproject.util.collection.Map;
+import org.diverproject.util.collection.abstraction.StringSimpleMap;
+
+/**
+ * <h1>Fábrica para Leitor de Shader</h1>
+ *
+ * <p>Essa classe deverá conter métodos que permitem a criação de objetos contendo
+ * a programação para computação gráfica de acordo com o caminho do arquivo especificado
+ * em disco, para assim lê-lo e convertê-lo para que funcione corretamente no OpenGL.</p>
+ *
+ * <p>Tratamento tal que deverá verificar a extensão do arquivo para adequar a forma
+ * em que os dados serão lidos afim de entender como o programa funciona e onde e
+ * como as suas informações estão armazenados dentro do arquivo em questão.</p>
+ *
+ * @see Map
+ * @see ShaderReader
+ *
+ * @author Andrew
+ */
+
+public class ShaderReaderFactory
+{
+	/**
+	 * Referência do objeto ShaderReaderFactory para adaptar ao padrão de projetos Singleton.
+	 */
+	private static final ShaderReaderFactory SINGLETON = new ShaderReaderFactory();
+
+	/**
+	 * Lista contendo todas os leitores das extensões de programas para computações gráficas.
+	 */
+	private Map<String, ShaderReader> readers;
+
+	/**
+	 * Construtor privado para respeitar o padrão de projetos Singleton.
+	 * Inicializa o mapeamento de leitores disponíveis adicionando os padrões.
+	 */
+
+	private ShaderReaderFactory()
+	{
+		readers = new StringSimpleMap<ShaderReader>();
+	}
+
+	/**
+	 * Através do caminho do arquivo carregado, identifica a extensão do mesmo.
+	 * Após identificar a extensão irá procurar se existe um leitor para tal.
+	 * @param path caminho contendo a extensão do arquivo a ser lido.
+	 * @return aquisição do leitor de computação gráfica da extensão.
+	 */
+
+	public ShaderReader getShaderReaderOf(String path)
+	{
+		String extension = FileUtil.getExtension(path).toLowerCase();
+		ShaderReader reader = readers.get(extension);
+
+		if (reader == null)
+			throw new ShaderRuntimeException("extensão '%s' não suportada", extension);
+
+		return reader;
+	}
+
+	/**
+	 * Adiciona um novo leitor para programas de computação gráfica como opção de leitura.
+	 * Caso um leitor para a extensão passada já exista ele será substituído pela nova.
+	 * @param extension tipo de extensão de arquivo do qual será suportado a leitura.
+	 * @param reader referência do leitor que será usado para a extensão acima.
+	 */
+
+	public void addShaderReader(String extension, ShaderReader reader)
+	{
+		if (readers.containsKey(extension))
+			readers.update(extension, reader);
+		else
+			readers.add(extension, reader);
+	}
+
+	/**
+	 * ShaderReaderFactory utiliza o padrão de projetos Singleton que permite a criação de apenas um objeto do tipo.
+	 * Esse padrão é usado para que não seja possível criar mais do que uma fábrica para dados de computações gráfica.
+	 * Não há necessidade na existência de dois objetos deste, procedimentos não estáticos pois não deve
+	 * funcionar como um utilitário, mas sim com uma espécie de gerenciador, gerenciado programas em disco.
+	 * @return aquisição da referência do objeto fábrica para leitores de programas para computação gráfica em disco.
+	 */
+
+	public static ShaderReaderFactory getInstance()
+	{
+		return SINGLETON;
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName();
+	}
+}
@@ -0,0 +1,302 @@
+package com.erakin.api.resources.texture;
+
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_ABGR;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_ALPHA;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE16;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.lwjgl.BufferUtils;
+
+/**
+ * <h1>Utilitário para Mipmaps</h1>
+ *
+ * <p>Classe utilitária composta apenas de procedimentos estáticos para gerar a cadeia de mipmaps na CPU.
+ * Cada nível é obtido a partir do anterior através de um filtro de caixa (2x2) usando apenas inteiros,
+ * o que permite que a geração seja feita junto da leitura da textura e fora da thread de renderização.</p>
+ *
+ * <p>Os canais de cor podem ser considerados em sRGB, nesse caso são convertidos para o espaço linear
+ * antes de calcular a média e convertidos de volta em seguida, evitando que os níveis menores escureçam.
+ * O canal alpha (quando houver) é sempre considerado linear.</p>
+ *
+ * <p>Pixels em <code>FORMAT_LUMINANCE16</code> são filtrados como amostras de 16 bits sem sinal na ordem
+ * de bytes nativa e sempre no espaço linear, já que representam dados como alturas e não cores.</p>
+ *
+ * @see TextureDataDefault
+ * @see TextureReaderDefault
+ *
+ * @author Andrew
+ */
+
+public class MipmapUtil
+{
+	/**
+	 * Quantidade de bits de precisão usados para representar valores lineares.
+	 */
+	private static final int LINEAR_BITS = 12;
+
+	/**
+	 * Tabela de conversão de um byte em sRGB para o valor linear de LINEAR_BITS bits.
+	 */
+	private static final int SRGB_TO_LINEAR[] = new int[256];
+
+	/**
+	 * Tabela de conversão de um valor linear de LINEAR_BITS bits para um byte em sRGB.
+	 */
+	private static final byte LINEAR_TO_SRGB[] = new byte[1 << LINEAR_BITS];
+
+	static
+	{
+		int max = (1 << LINEAR_BITS) - 1;
+
+		for (int i = 0; i < SRGB_TO_LINEAR.length; i++)
+		{
+			double srgb = i / 255.0;
+			double linear = srgb <= 0.04045 ? srgb / 12.92 : Math.pow((srgb + 0.055) / 1.055, 2.4);
+
+			SRGB_TO_LINEAR[i] = (int) Math.round(linear * max);
+		}
+
+		for (int i = 0; i < LINEAR_TO_SRGB.length; i++)
+		{
+			double linear = (double) i / max;
+			double srgb = linear <= 0.0031308 ? linear * 12.92 : 1.055 * Math.pow(linear, 1.0 / 2.4) - 0.055;
+
+			LINEAR_TO_SRGB[i] = (byte) Math.round(srgb * 255.0);
+		}
+	}
+
+	/**
+	 * Construtor privado pois é uma classe utilitária (apenas métodos estáticos).
+	 */
+
+	private MipmapUtil()
+	{
+
+	}
+
+	/**
+	 * Calcula quantos níveis de mipmap uma textura possui até chegar ao tamanho de 1x1 pixel.
+	 * @param width largura do nível base da textura em pixels.
+	 * @param height altura do nível base da textura em pixels.
+	 * @return aquisição da quantidade de níveis incluindo o nível base.
+	 */
+
+	public static int countLevels(int width, int height)
+	{
+		int size = Math.max(width, height);
+		int levels = 1;
+
+		while (size > 1)
+		{
+			size >>= 1;
+			levels++;
+		}
+
+		return levels;
+	}
+
+	/**
+	 * Gera a cadeia completa de mipmaps a partir dos pixels do nível base de uma textura.
+	 * O nível base não é copiado, sendo referenciado diretamente como primeiro nível.
+	 * @param pixels buffer contendo os pixels do nível base (não terá sua posição alterada).
+	 * @param width largura do nível base da textura em pixels.
+	 * @param height altura do nível base da textura em pixels.
+	 * @param format formato em que os pixels se encontram armazenados no buffer.
+	 * @param srgb true para considerar os canais de cor em sRGB ou false se forem lineares.
+	 * @return aquisição de um vetor contendo os buffers de todos os níveis de mipmap.
+	 */
+
+	public static ByteBuffer[] generate(ByteBuffer pixels, int width, int height, PixelFormat format, boolean srgb)
+	{
+		return generate(pixels, width, height, format, srgb, countLevels(width, height));
+	}
+
+	/**
+	 * Gera a cadeia de mipmaps a partir dos pixels do nível base de uma textura até um limite de níveis,
+	 * evitando calcular níveis que não serão usados. O nível base não é copiado, sendo referenciado
+	 * diretamente como primeiro nível.
+	 * @param pixels buffer contendo os pixels do nível base (não terá sua posição alterada).
+	 * @param width largura do nível base da textura em pixels.
+	 * @param height altura do nível base da textura em pixels.
+	 * @param format formato em que os pixels se encontram armazenados no buffer.
+	 * @param srgb true para considerar os canais de cor em sRGB ou false se forem lineares.
+	 * @param levels quantidade máxima de níveis incluindo o nível base, limitada a cadeia completa.
+	 * @return aquisição de um vetor contendo os buffers dos níveis de mipmap gerados.
+	 */
+
+	public static ByteBuffer[] generate(ByteBuffer pixels, int width, int height, PixelFormat format, boolean srgb, int levels)
+	{
+		levels = Math.max(1, Math.min(levels, countLevels(width, height)));
+
+		if (format == FORMAT_LUMINANCE16)
+			return generate16(pixels, width, height, levels);
+
+		int bpp = format.BYTES;
+		int alpha = alphaIndex(format);
+		boolean color = srgb && format != FORMAT_ALPHA && format != FORMAT_LUMINANCE;
+
+		ByteBuffer mipmaps[] = new ByteBuffer[levels];
+		mipmaps[0] = pixels;
+
+		byte source[] = new byte[width * height * bpp];
+		pixels.duplicate().get(source);
+
+		for (int level = 1; level < mipmaps.length; level++)
+		{
+			int levelWidth = Math.max(1, width >> 1);
+			int levelHeight = Math.max(1, height >> 1);
+			byte target[] = new byte[levelWidth * levelHeight * bpp];
+
+			downsample(source, width, height, target, levelWidth, levelHeight, bpp, alpha, color);
+
+			mipmaps[level] = BufferUtils.createByteBuffer(target.length);
+			mipmaps[level].put(target);
+			mipmaps[level].flip();
+
+			source = target;
+			width = levelWidth;
+			height = levelHeight;
+		}
+
+		return mipmaps;
+	}
+
+	/**
+	 * Gera a cadeia de mipmaps de uma textura com um único canal de 16 bits sem sinal.
+	 * @param pixels buffer contendo os pixels do nível base na ordem de bytes nativa (não terá sua posição alterada).
+	 * @param width largura do nível base da textura em pixels.
+	 * @param height altura do nível base da textura em pixels.
+	 * @param levels quantidade de níveis que serão gerados incluindo o nível base.
+	 * @return aquisição de um vetor contendo os buffers dos níveis de mipmap gerados.
+	 */
+
+	private static ByteBuffer[] generate16(ByteBuffer pixels, int width, int height, int levels)
+	{
+		ByteBuffer mipmaps[] = new ByteBuffer[levels];
+		mipmaps[0] = pixels;
+
+		short source[] = new short[width * height];
+		pixels.duplicate().order(ByteOrder.nativeOrder()).asShortBuffer().get(source);
+
+		for (int level = 1; level < mipmaps.length; level++)
+		{
+			int levelWidth = Math.max(1, width >> 1);
+			int levelHeight = Math.max(1, height >> 1);
+			short target[] = new short[levelWidth * levelHeight];
+
+			downsample16(source, width, height, target, levelWidth, levelHeight);
+
+			mipmaps[level] = BufferUtils.createByteBuffer(target.length * Short.BYTES);
+			mipmaps[level].asShortBuffer().put(target);
+
+			source = target;
+			width = levelWidth;
+			height = levelHeight;
+		}
+
+		return mipmaps;
+	}
+
+	/**
+	 * Reduz uma imagem de amostras de 16 bits sem sinal pela metade em cada eixo calculando a média de cada bloco de 2x2.
+	 * Para dimensões ímpares a última linha ou coluna é repetida no bloco ao invés de ser lida fora.
+	 * @param source vetor contendo as amostras do nível de origem.
+	 * @param width largura do nível de origem em pixels.
+	 * @param height altura do nível de origem em pixels.
+	 * @param target vetor onde serão escritas as amostras do nível reduzido.
+	 * @param targetWidth largura do nível reduzido em pixels.
+	 * @param targetHeight altura do nível reduzido em pixels.
+	 */
+
+	private static void downsample16(short source[], int width, int height, short target[], int targetWidth, int targetHeight)
+	{
+		int offset = 0;
+
+		for (int y = 0; y < targetHeight; y++)
+		{
+			int row0 = Math.min(y * 2, height - 1) * width;
+			int row1 = Math.min(y * 2 + 1, height - 1) * width;
+
+			for (int x = 0; x < targetWidth; x++)
+			{
+				int column0 = Math.min(x * 2, width - 1);
+				int column1 = Math.min(x * 2 + 1, width - 1);
+
+				int a = source[row0 + column0] & 0xFFFF;
+				int b = source[row0 + column1] & 0xFFFF;
+				int c = source[row1 + column0] & 0xFFFF;
+				int d = source[row1 + column1] & 0xFFFF;
+
+				target[offset++] = (short) ((a + b + c + d + 2) >> 2);
+			}
+		}
+	}
+
+	/**
+	 * Reduz uma imagem pela metade em cada eixo calculando a média de cada bloco de 2x2 pixels.
+	 * Para dimensões ímpares a última linha ou coluna é repetida no bloco ao invés de ser lida fora.
+	 * @param source vetor contendo os pixels do nível de origem.
+	 * @param width largura do nível de origem em pixels.
+	 * @param height altura do nível de origem em pixels.
+	 * @param target vetor onde serão escritos os pixels do nível reduzido.
+	 * @param targetWidth largura do nível reduzido em pixels.
+	 * @param targetHeight altura do nível reduzido em pixels.
+	 * @param bpp quantidade de bytes por pixel em ambos os vetores.
+	 * @param alpha índice do canal alpha dentro do pixel ou -1 se não houver.
+	 * @param srgb true para calcular a média dos canais de cor no espaço linear.
+	 */
+
+	private static void downsample(byte source[], int width, int height, byte target[], int targetWidth, int targetHeight, int bpp, int alpha, boolean srgb)
+	{
+		int sourceStride = width * bpp;
+		int offset = 0;
+
+		for (int y = 0; y < targetHeight; y++)
+		{
+			int row0 = Math.min(y * 2, height - 1) * sourceStride;
+			int row1 = Math.min(y * 2 + 1, height - 1) * sourceStride;
+
+			for (int x = 0; x < targetWidth; x++)
+			{
+				int column0 = Math.min(x * 2, width - 1) * bpp;
+				int column1 = Math.min(x * 2 + 1, width - 1) * bpp;
+
+				for (int channel = 0; channel < bpp; channel++)
+				{
+					int a = source[row0 + column0 + channel] & 0xFF;
+					int b = source[row0 + column1 + channel] & 0xFF;
+					int c = source[row1 + column0 + channel] & 0xFF;
+					int d = source[row1 + column1 + channel] & 0xFF;
+
+					if (srgb && channel != alpha)
+					{
+						int linear = SRGB_TO_LINEAR[a] + SRGB_TO_LINEAR[b] + SRGB_TO_LINEAR[c] + SRGB_TO_LINEAR[d];
+						target[offset++] = LINEAR_TO_SRGB[(linear + 2) >> 2];
+					}
+					else
+						target[offset++] = (byte) ((a + b + c + d + 2) >> 2);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determina em qual posição do pixel se encontra o canal alpha de acordo com o formato.
+	 * @param format formato em que os pixels se encontram armazenados.
+	 * @return aquisição do índice do canal alpha ou -1 se o formato não possuir alpha.
+	 */
+
+	private static int alphaIndex(PixelFormat format)
+	{
+		if (!format.ALPHA)
+			return -1;
+
+		if (format == FORMAT_ABGR || format == FORMAT_ALPHA)
+			return 0;
+
+		return format.BYTES - 1;
+	}
+}
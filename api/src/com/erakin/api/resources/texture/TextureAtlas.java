@@ -0,0 +1,438 @@
+package com.erakin.api.resources.texture;
+
+import static com.erakin.api.lwjgl.math.Maths.fold;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
+
+import java.nio.ByteBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.List;
+import org.diverproject.util.collection.Map;
+import org.diverproject.util.collection.abstraction.DynamicList;
+import org.diverproject.util.collection.abstraction.StringSimpleMap;
+import org.lwjgl.BufferUtils;
+
+/**
+ * <h1>Atlas de Texturas</h1>
+ *
+ * <p>Permite agrupar diversas texturas pequenas em uma única textura maior, reduzindo a quantidade
+ * de vezes que uma textura precisa ser vinculada durante a renderização. As texturas são adicionadas
+ * através de seus dados já lidos e o atlas é construído de uma só vez, ainda na CPU.</p>
+ *
+ * <p>Cada textura ocupa uma região que é cercada por bordas replicadas (gutter) e um espaçamento.
+ * As bordas replicam os pixels das extremidades para que a filtragem não misture as cores de regiões
+ * vizinhas. Posições, tamanhos, bordas e espaçamento são alinhados a 2^n pixels, onde n é a quantidade
+ * de níveis de mipmap protegidos, e apenas esses níveis são gerados, portanto nenhum bloco de pixels
+ * de um nível reduzido mistura duas regiões. O resultado de <code>build()</code> deve ser enviado
+ * ao <code>TextureLoader.createTexture</code> e cada modelo usa a transformação de sua região.</p>
+ *
+ * @see TextureRegion
+ * @see TextureAtlasPacker
+ *
+ * @author Andrew
+ */
+
+public class TextureAtlas
+{
+	/**
+	 * Espaçamento padrão entre as regiões em pixels.
+	 */
+	public static final int DEFAULT_PADDING = 2;
+
+	/**
+	 * Tamanho padrão das bordas replicadas em pixels.
+	 */
+	public static final int DEFAULT_GUTTER = 4;
+
+	/**
+	 * Quantidade padrão de níveis de mipmap protegidos contra a mistura entre regiões.
+	 */
+	public static final int DEFAULT_MIP_LEVELS = 2;
+
+	/**
+	 * Tamanho máximo que o atlas poderá ter em cada eixo.
+	 */
+	private final int maxSize;
+
+	/**
+	 * Espaçamento entre as regiões em pixels.
+	 */
+	private int padding;
+
+	/**
+	 * Tamanho das bordas replicadas em pixels.
+	 */
+	private int gutter;
+
+	/**
+	 * Quantidade de níveis de mipmap protegidos contra a mistura entre regiões.
+	 */
+	private int mipLevels;
+
+	/**
+	 * Largura do atlas após ser construído.
+	 */
+	private int width;
+
+	/**
+	 * Altura do atlas após ser construído.
+	 */
+	private int height;
+
+	/**
+	 * Regiões na ordem em que foram adicionadas.
+	 */
+	private final List<TextureRegion> regions;
+
+	/**
+	 * Dados das texturas na ordem em que foram adicionadas.
+	 */
+	private final List<TextureData> sources;
+
+	/**
+	 * Mapeamento das regiões pelo nome.
+	 */
+	private final Map<String, TextureRegion> names;
+
+	/**
+	 * Cria um novo atlas de texturas vazio com espaçamento e bordas padrões.
+	 * @param maxSize tamanho máximo que o atlas poderá ter em cada eixo,
+	 * normalmente o valor de <code>GL_MAX_TEXTURE_SIZE</code>.
+	 */
+
+	public TextureAtlas(int maxSize)
+	{
+		this.maxSize = maxSize;
+		this.padding = DEFAULT_PADDING;
+		this.gutter = DEFAULT_GUTTER;
+		this.mipLevels = DEFAULT_MIP_LEVELS;
+		this.regions = new DynamicList<TextureRegion>();
+		this.sources = new DynamicList<TextureData>();
+		this.names = new StringSimpleMap<TextureRegion>();
+	}
+
+	/**
+	 * Espaçamento é a quantidade de pixels vazios deixados entre as bordas de duas regiões.
+	 * @return aquisição do espaçamento entre as regiões em pixels.
+	 */
+
+	public int getPadding()
+	{
+		return padding;
+	}
+
+	/**
+	 * Permite definir a quantidade de pixels vazios deixados entre as bordas de duas regiões.
+	 * @param padding espaçamento entre as regiões em pixels.
+	 */
+
+	public void setPadding(int padding)
+	{
+		this.padding = Math.max(0, padding);
+	}
+
+	/**
+	 * As bordas replicadas são arredondadas para o alinhamento dos níveis de mipmap protegidos.
+	 * @return aquisição do tamanho das bordas replicadas em pixels.
+	 */
+
+	public int getGutter()
+	{
+		return gutter;
+	}
+
+	/**
+	 * Permite definir a quantidade de pixels replicados em volta de cada região.
+	 * @param gutter tamanho das bordas replicadas em pixels.
+	 */
+
+	public void setGutter(int gutter)
+	{
+		this.gutter = Math.max(0, gutter);
+	}
+
+	/**
+	 * Com n níveis protegidos as regiões são alinhadas a 2^n pixels e o atlas possui apenas n níveis
+	 * de mipmap além do nível base, de forma que nenhum nível mistura as cores de regiões vizinhas.
+	 * @return aquisição da quantidade de níveis de mipmap protegidos.
+	 */
+
+	public int getMipLevels()
+	{
+		return mipLevels;
+	}
+
+	/**
+	 * Permite definir quantos níveis de mipmap devem ser protegidos contra a mistura entre regiões.
+	 * Quanto mais níveis maior o alinhamento e consequentemente o espaço desperdiçado no atlas.
+	 * @param mipLevels quantidade de níveis protegidos ou 0 para deixar o carregador gerar todos os
+	 * níveis, sem qualquer proteção além da filtragem no nível base.
+	 */
+
+	public void setMipLevels(int mipLevels)
+	{
+		this.mipLevels = Math.max(0, mipLevels);
+	}
+
+	/**
+	 * Adiciona uma nova textura que deverá fazer parte do atlas quando este for construído.
+	 * Apenas texturas sem compactação em RGB (24 bits) ou RGBA (32 bits) são aceitas.
+	 * @param name nome que será usado para identificar a região da textura no atlas.
+	 * @param data objeto contendo os dados da textura que será adicionada.
+	 * @return aquisição da região que a textura irá ocupar no atlas.
+	 */
+
+	public TextureRegion add(String name, TextureData data)
+	{
+		if (name == null)
+			throw new TextureRuntimeException("nome da região não definido");
+
+		if (data == null)
+			throw new TextureRuntimeException("dados da textura não definido");
+
+		if (names.containsKey(name))
+			throw new TextureRuntimeException("região já existente (%s)", name);
+
+		if (data.getCompressedFormat() != 0)
+			throw new TextureRuntimeException("texturas compactadas não podem fazer parte de um atlas (%s)", name);
+
+		if (data.getDepth() != 24 && data.getDepth() != 32)
+			throw new TextureRuntimeException("depth inválido (depth: %d)", data.getDepth());
+
+		TextureRegion region = new TextureRegion(name, data.getWidth(), data.getHeight());
+
+		regions.add(region);
+		sources.add(data);
+		names.add(name, region);
+
+		return region;
+	}
+
+	/**
+	 * Permite obter a região de uma textura que foi adicionada ao atlas através do seu nome.
+	 * @param name nome que foi usado para identificar a região da textura no atlas.
+	 * @return aquisição da região da textura ou null se não houver uma com esse nome.
+	 */
+
+	public TextureRegion getRegion(String name)
+	{
+		return names.get(name);
+	}
+
+	/**
+	 * Permite obter todas as regiões do atlas na mesma ordem em que foram adicionadas.
+	 * @return aquisição da lista contendo as regiões do atlas.
+	 */
+
+	public List<TextureRegion> getRegions()
+	{
+		return regions;
+	}
+
+	/**
+	 * Empacota todas as texturas adicionadas e monta os pixels da textura resultante.
+	 * O atlas possui sempre dimensões em potência de dois, começando pela menor que comporte
+	 * a área somada das regiões e aumentando até que todas caibam ou o tamanho máximo seja atingido.
+	 * Os níveis de mipmap protegidos são gerados junto, limitando os níveis enviados ao OpenGL.
+	 * @return aquisição dos dados da textura do atlas em RGBA.
+	 */
+
+	public TextureData build()
+	{
+		if (regions.size() == 0)
+			throw new TextureRuntimeException("atlas sem texturas");
+
+		int order[] = sortByHeight();
+		long area = 0;
+
+		for (int i = 0; i < regions.size(); i++)
+		{
+			TextureRegion region = regions.get(i);
+			area += (long) getCellSize(region.width) * getCellSize(region.height);
+		}
+
+		int side = fold((int) Math.ceil(Math.sqrt(area)));
+
+		if (side > maxSize)
+			throw new TextureRuntimeException("texturas não cabem no atlas (max: %d)", maxSize);
+
+		width = side;
+		height = side;
+
+		while (!pack(order))
+		{
+			if (width <= height)
+				width *= 2;
+			else
+				height *= 2;
+
+			if (width > maxSize || height > maxSize)
+				throw new TextureRuntimeException("texturas não cabem no atlas (max: %d)", maxSize);
+		}
+
+		ByteBuffer pixels = BufferUtils.createByteBuffer(width * height * 4);
+
+		for (int i = 0; i < regions.size(); i++)
+			blit(regions.get(i), sources.get(i), pixels);
+
+		TextureDataDefault data = new TextureDataDefault();
+		data.depth = 32;
+		data.width = width;
+		data.height = height;
+		data.pixels = pixels;
+		data.format = FORMAT_RGBA;
+
+		if (mipLevels > 0)
+			data.mipmaps = MipmapUtil.generate(pixels, width, height, FORMAT_RGBA, true, mipLevels + 1);
+
+		return data;
+	}
+
+	/**
+	 * Tenta empacotar todas as regiões no tamanho atual do atlas seguindo uma determinada ordem.
+	 * @param order vetor com os índices das regiões na ordem em que serão empacotadas.
+	 * @return true se todas as regiões couberem ou false caso contrário.
+	 */
+
+	private boolean pack(int order[])
+	{
+		TextureAtlasPacker packer = new TextureAtlasPacker(width, height);
+
+		for (int index : order)
+		{
+			TextureRegion region = regions.get(index);
+			int position[] = packer.insert(getCellSize(region.width), getCellSize(region.height));
+
+			if (position == null)
+				return false;
+
+			region.x = position[0] + align(gutter);
+			region.y = position[1] + align(gutter);
+			region.atlasWidth = width;
+			region.atlasHeight = height;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Calcula o espaço ocupado por uma região em um dos eixos, incluindo as bordas e o espaçamento.
+	 * Todas as partes são alinhadas, assim as posições do empacotador também serão alinhadas.
+	 * @param size tamanho da textura no eixo em pixels.
+	 * @return aquisição do tamanho que será reservado no atlas em pixels.
+	 */
+
+	private int getCellSize(int size)
+	{
+		return align(gutter) * 2 + align(size) + align(padding);
+	}
+
+	/**
+	 * Arredonda um tamanho para o próximo múltiplo de 2^n, onde n é a quantidade de níveis protegidos.
+	 * @param size tamanho em pixels que será arredondado.
+	 * @return aquisição do tamanho alinhado em pixels.
+	 */
+
+	private int align(int size)
+	{
+		int alignment = 1 << mipLevels;
+
+		return (size + alignment - 1) / alignment * alignment;
+	}
+
+	/**
+	 * Ordena os índices das regiões da maior altura para a menor, o que melhora o empacotamento.
+	 * @return aquisição de um vetor com os índices das regiões ordenados.
+	 */
+
+	private int[] sortByHeight()
+	{
+		int order[] = new int[regions.size()];
+
+		for (int i = 0; i < order.length; i++)
+		{
+			int height = regions.get(i).height;
+			int j = i;
+
+			while (j > 0 && regions.get(order[j - 1]).height < height)
+			{
+				order[j] = order[j - 1];
+				j--;
+			}
+
+			order[j] = i;
+		}
+
+		return order;
+	}
+
+	/**
+	 * Copia os pixels de uma textura para a sua região no atlas incluindo as bordas replicadas.
+	 * Os pixels das bordas repetem o pixel mais próximo da extremidade da textura, preenchendo
+	 * também o espaço deixado pelo alinhamento do tamanho da região.
+	 * @param region região já posicionada onde a textura será copiada.
+	 * @param data objeto contendo os dados da textura que será copiada.
+	 * @param pixels buffer contendo os pixels do atlas em RGBA.
+	 */
+
+	private void blit(TextureRegion region, TextureData data, ByteBuffer pixels)
+	{
+		ByteBuffer source = data.getPixels();
+		int bpp = data.getDepth() / 8;
+		int border = align(gutter);
+		int endX = align(region.width) + border;
+		int endY = align(region.height) + border;
+
+		for (int y = -border; y < endY; y++)
+		{
+			int sourceY = Math.min(Math.max(y, 0), region.height - 1);
+			int target = ((region.y + y) * width + region.x - border) * 4;
+
+			for (int x = -border; x < endX; x++)
+			{
+				int sourceX = Math.min(Math.max(x, 0), region.width - 1);
+				int offset = (sourceY * region.width + sourceX) * bpp;
+
+				pixels.put(target++, source.get(offset));
+				pixels.put(target++, source.get(offset + 1));
+				pixels.put(target++, source.get(offset + 2));
+				pixels.put(target++, bpp == 4 ? source.get(offset + 3) : (byte) 0xFF);
+			}
+		}
+	}
+
+	/**
+	 * O tamanho do atlas é definido apenas após a sua construção.
+	 * @return aquisição da largura do atlas em pixels.
+	 */
+
+	public int getWidth()
+	{
+		return width;
+	}
+
+	/**
+	 * O tamanho do atlas é definido apenas após a sua construção.
+	 * @return aquisição da altura do atlas em pixels.
+	 */
+
+	public int getHeight()
+	{
+		return height;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("regions", regions.size());
+		description.append("width", width);
+		description.append("height", height);
+		description.append("padding", padding);
+		description.append("gutter", gutter);
+		description.append("mipLevels", mipLevels);
+
+		return description.toString();
+	}
+}
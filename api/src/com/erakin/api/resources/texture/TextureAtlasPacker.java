@@ -0,0 +1,292 @@
+package com.erakin.api.resources.texture;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * <h1>Empacotador de Atlas</h1>
+ *
+ * <p>Algoritmo de empacotamento de retângulos do tipo skyline (bottom-left) usado pelo atlas de texturas.
+ * O espaço livre é representado por uma linha do horizonte formada por segmentos com posição e altura,
+ * cada novo retângulo é colocado no segmento que resultar na menor altura e no menor desperdício.</p>
+ *
+ * <p>Trabalha apenas com números inteiros e não depende do OpenGL, podendo ser usado e testado
+ * de forma isolada. Margens entre os retângulos devem ser somadas ao tamanho de cada um.</p>
+ *
+ * @see TextureAtlas
+ *
+ * @author Andrew
+ */
+
+public class TextureAtlasPacker
+{
+	/**
+	 * Largura total disponível para o empacotamento.
+	 */
+	private final int width;
+
+	/**
+	 * Altura total disponível para o empacotamento.
+	 */
+	private final int height;
+
+	/**
+	 * Posição X de início de cada segmento do horizonte.
+	 */
+	private int skylineX[];
+
+	/**
+	 * Altura de cada segmento do horizonte.
+	 */
+	private int skylineY[];
+
+	/**
+	 * Largura de cada segmento do horizonte.
+	 */
+	private int skylineWidth[];
+
+	/**
+	 * Quantidade de segmentos do horizonte.
+	 */
+	private int size;
+
+	/**
+	 * Área total ocupada pelos retângulos já empacotados.
+	 */
+	private long usedArea;
+
+	/**
+	 * Cria um novo empacotador com um espaço de tamanho fixo, inicialmente vazio.
+	 * @param width largura total disponível para o empacotamento.
+	 * @param height altura total disponível para o empacotamento.
+	 */
+
+	public TextureAtlasPacker(int width, int height)
+	{
+		if (width <= 0 || height <= 0)
+			throw new TextureRuntimeException("tamanho do atlas inválido (width: %d, height: %d)", width, height);
+
+		this.width = width;
+		this.height = height;
+		this.skylineX = new int[16];
+		this.skylineY = new int[16];
+		this.skylineWidth = new int[16];
+		this.skylineWidth[0] = width;
+		this.size = 1;
+	}
+
+	/**
+	 * Procura uma posição livre para um retângulo e a reserva caso seja encontrada.
+	 * @param rectWidth largura do retângulo que será empacotado.
+	 * @param rectHeight altura do retângulo que será empacotado.
+	 * @return aquisição de um vetor com a posição X e Y do retângulo ou null se não couber.
+	 */
+
+	public int[] insert(int rectWidth, int rectHeight)
+	{
+		if (rectWidth <= 0 || rectHeight <= 0)
+			throw new TextureRuntimeException("tamanho do retângulo inválido (width: %d, height: %d)", rectWidth, rectHeight);
+
+		int bestIndex = -1;
+		int bestY = Integer.MAX_VALUE;
+		int bestWaste = Integer.MAX_VALUE;
+
+		for (int i = 0; i < size; i++)
+		{
+			int y = fit(i, rectWidth, rectHeight);
+
+			if (y < 0)
+				continue;
+
+			int waste = skylineWidth[i] - rectWidth;
+
+			if (y < bestY || (y == bestY && waste < bestWaste))
+			{
+				bestIndex = i;
+				bestY = y;
+				bestWaste = waste;
+			}
+		}
+
+		if (bestIndex == -1)
+			return null;
+
+		int x = skylineX[bestIndex];
+		place(bestIndex, x, bestY + rectHeight, rectWidth);
+		usedArea += (long) rectWidth * rectHeight;
+
+		return new int[] { x, bestY };
+	}
+
+	/**
+	 * Verifica se um retângulo cabe a partir do início de um determinado segmento do horizonte.
+	 * @param index índice do segmento onde o retângulo será posicionado.
+	 * @param rectWidth largura do retângulo que será empacotado.
+	 * @param rectHeight altura do retângulo que será empacotado.
+	 * @return aquisição da posição Y em que ficaria o retângulo ou -1 se não couber.
+	 */
+
+	private int fit(int index, int rectWidth, int rectHeight)
+	{
+		int x = skylineX[index];
+
+		if (x + rectWidth > width)
+			return -1;
+
+		int y = 0;
+		int remaining = rectWidth;
+
+		for (int i = index; remaining > 0; i++)
+		{
+			y = Math.max(y, skylineY[i]);
+
+			if (y + rectHeight > height)
+				return -1;
+
+			remaining -= skylineWidth[i];
+		}
+
+		return y;
+	}
+
+	/**
+	 * Insere um novo segmento no horizonte e remove ou encurta os segmentos que ficaram cobertos.
+	 * @param index índice onde o novo segmento será inserido.
+	 * @param x posição X de início do novo segmento.
+	 * @param y nova altura do horizonte no segmento.
+	 * @param segmentWidth largura do novo segmento.
+	 */
+
+	private void place(int index, int x, int y, int segmentWidth)
+	{
+		ensureCapacity(size + 1);
+
+		System.arraycopy(skylineX, index, skylineX, index + 1, size - index);
+		System.arraycopy(skylineY, index, skylineY, index + 1, size - index);
+		System.arraycopy(skylineWidth, index, skylineWidth, index + 1, size - index);
+
+		skylineX[index] = x;
+		skylineY[index] = y;
+		skylineWidth[index] = segmentWidth;
+		size++;
+
+		int end = x + segmentWidth;
+
+		for (int i = index + 1; i < size; )
+		{
+			if (skylineX[i] >= end)
+				break;
+
+			int shrink = end - skylineX[i];
+
+			if (shrink < skylineWidth[i])
+			{
+				skylineX[i] += shrink;
+				skylineWidth[i] -= shrink;
+				break;
+			}
+
+			remove(i);
+		}
+
+		merge();
+	}
+
+	/**
+	 * Une os segmentos vizinhos que possuem a mesma altura, reduzindo as posições a serem testadas.
+	 */
+
+	private void merge()
+	{
+		for (int i = 0; i < size - 1; )
+		{
+			if (skylineY[i] == skylineY[i + 1])
+			{
+				skylineWidth[i] += skylineWidth[i + 1];
+				remove(i + 1);
+			}
+			else
+				i++;
+		}
+	}
+
+	/**
+	 * Remove um segmento do horizonte deslocando os seguintes.
+	 * @param index índice do segmento que será removido.
+	 */
+
+	private void remove(int index)
+	{
+		System.arraycopy(skylineX, index + 1, skylineX, index, size - index - 1);
+		System.arraycopy(skylineY, index + 1, skylineY, index, size - index - 1);
+		System.arraycopy(skylineWidth, index + 1, skylineWidth, index, size - index - 1);
+		size--;
+	}
+
+	/**
+	 * Garante que os vetores do horizonte possuam espaço para uma determinada quantidade de segmentos.
+	 * @param capacity quantidade mínima de segmentos que deverão caber.
+	 */
+
+	private void ensureCapacity(int capacity)
+	{
+		if (capacity <= skylineX.length)
+			return;
+
+		int length = Math.max(capacity, skylineX.length * 2);
+
+		int x[] = new int[length];
+		int y[] = new int[length];
+		int w[] = new int[length];
+
+		System.arraycopy(skylineX, 0, x, 0, size);
+		System.arraycopy(skylineY, 0, y, 0, size);
+		System.arraycopy(skylineWidth, 0, w, 0, size);
+
+		skylineX = x;
+		skylineY = y;
+		skylineWidth = w;
+	}
+
+	/**
+	 * O tamanho do espaço é definido na construção do empacotador e não pode ser alterado.
+	 * @return aquisição da largura total disponível para o empacotamento.
+	 */
+
+	public int getWidth()
+	{
+		return width;
+	}
+
+	/**
+	 * O tamanho do espaço é definido na construção do empacotador e não pode ser alterado.
+	 * @return aquisição da altura total disponível para o empacotamento.
+	 */
+
+	public int getHeight()
+	{
+		return height;
+	}
+
+	/**
+	 * A ocupação é a razão entre a área dos retângulos empacotados e a área total.
+	 * @return aquisição da ocupação do espaço disponível entre 0 e 1.
+	 */
+
+	public float getOccupancy()
+	{
+		return (float) usedArea / ((long) width * height);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("width", width);
+		description.append("height", height);
+		description.append("segments", size);
+		description.append("occupancy", getOccupancy());
+
+		return description.toString();
+	}
+}
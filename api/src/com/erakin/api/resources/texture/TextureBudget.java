@@ -0,0 +1,429 @@
+package com.erakin.api.resources.texture;
+
+import static com.erakin.api.resources.texture.TextureTarget.TT_2D;
+import static org.diverproject.log.LogSystem.logDebug;
+import static org.diverproject.log.LogSystem.logWarning;
+import static org.lwjgl.opengl.GL11.GL_RGBA;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.glBindTexture;
+import static org.lwjgl.opengl.GL11.glTexImage2D;
+import static org.lwjgl.opengl.GL11.glTexParameteri;
+import static org.lwjgl.opengl.GL12.GL_TEXTURE_MAX_LEVEL;
+
+import java.nio.ByteBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.SizeUtil;
+import org.diverproject.util.collection.List;
+import org.diverproject.util.collection.Queue;
+import org.diverproject.util.collection.abstraction.DynamicList;
+import org.diverproject.util.collection.abstraction.DynamicQueue;
+import org.lwjgl.BufferUtils;
+
+/**
+ * <h1>Orçamento de Memória de Texturas</h1>
+ *
+ * <p>Mantém uma estimativa de quantos bytes as texturas ocupam na memória de vídeo e o último quadro
+ * em que cada uma foi vinculada. Quando um orçamento é definido e a soma das texturas o ultrapassa,
+ * as texturas que não são vinculadas há mais tempo são reduzidas, começando pela mais antiga.</p>
+ *
+ * <p>Texturas 2D sem compactação são reduzidas lendo novamente o arquivo sem o maior nível de mipmap
+ * (metade da resolução) através do transmissor, as demais ou as que já atingiram o tamanho mínimo são
+ * liberadas e ficam com apenas um pixel. Ao serem vinculadas novamente são agendadas para serem
+ * recarregadas do arquivo assim que houver memória. Texturas que não foram lidas de um arquivo
+ * (geradas, atlas, vetores e cúbicas) nunca são reduzidas nem liberadas.</p>
+ *
+ * @see TextureLoader
+ * @see TextureRoot
+ *
+ * @author Andrew
+ */
+
+public class TextureBudget
+{
+	/**
+	 * Quantidade padrão de quadros sem vínculo para que uma textura possa ser reduzida.
+	 */
+	public static final int DEFAULT_IDLE_FRAMES = 600;
+
+	/**
+	 * Menor tamanho em pixels que uma textura pode ter ao descartar níveis de mipmap.
+	 */
+	public static final int MIN_DEMOTION_SIZE = 32;
+
+	/**
+	 * Quantidade máxima de texturas reduzidas ou recarregadas por quadro.
+	 */
+	public static final int MAX_CHANGES_PER_FRAME = 4;
+
+	/**
+	 * Limite de bytes na memória de vídeo (0 para ilimitado).
+	 */
+	private long budget;
+
+	/**
+	 * Quantidade de quadros sem vínculo para que uma textura possa ser reduzida.
+	 */
+	private int idleFrames;
+
+	/**
+	 * Número do quadro atual.
+	 */
+	private long frame;
+
+	/**
+	 * Soma da estimativa de bytes das texturas acompanhadas.
+	 */
+	private long used;
+
+	/**
+	 * Bytes que serão liberados pelas reduções que ainda estão sendo lidas.
+	 */
+	private long reclaiming;
+
+	/**
+	 * Texturas raízes que estão sendo acompanhadas.
+	 */
+	private final List<TextureRoot> roots;
+
+	/**
+	 * Texturas reduzidas que foram vinculadas e aguardam serem recarregadas.
+	 */
+	private final Queue<TextureRoot> pending;
+
+	/**
+	 * Cria um novo orçamento de memória de texturas, inicialmente ilimitado.
+	 */
+
+	TextureBudget()
+	{
+		this.idleFrames = DEFAULT_IDLE_FRAMES;
+		this.roots = new DynamicList<TextureRoot>();
+		this.pending = new DynamicQueue<TextureRoot>();
+	}
+
+	/**
+	 * O orçamento é a quantidade de bytes que as texturas podem ocupar na memória de vídeo.
+	 * @return aquisição do limite de bytes na memória de vídeo ou 0 se for ilimitado.
+	 */
+
+	public long getBudget()
+	{
+		return budget;
+	}
+
+	/**
+	 * Permite definir quantos bytes as texturas podem ocupar na memória de vídeo.
+	 * @param budget limite de bytes na memória de vídeo ou 0 para ilimitado.
+	 */
+
+	public void setBudget(long budget)
+	{
+		this.budget = Math.max(0, budget);
+	}
+
+	/**
+	 * Texturas vinculadas dentro dessa quantidade de quadros nunca são reduzidas.
+	 * @return aquisição da quantidade de quadros sem vínculo para que uma textura possa ser reduzida.
+	 */
+
+	public int getIdleFrames()
+	{
+		return idleFrames;
+	}
+
+	/**
+	 * Permite definir por quantos quadros uma textura deve ficar sem vínculo para poder ser reduzida.
+	 * @param idleFrames quantidade de quadros sem vínculo para que uma textura possa ser reduzida.
+	 */
+
+	public void setIdleFrames(int idleFrames)
+	{
+		this.idleFrames = Math.max(1, idleFrames);
+	}
+
+	/**
+	 * O quadro é incrementado a cada atualização do carregador de texturas.
+	 * @return aquisição do número do quadro atual.
+	 */
+
+	public long getFrame()
+	{
+		return frame;
+	}
+
+	/**
+	 * Soma da estimativa de bytes de todas as texturas que estão sendo acompanhadas.
+	 * Mantida a cada envio, redução ou liberação, portanto não percorre as texturas.
+	 * @return aquisição da quantidade de bytes ocupados na memória de vídeo.
+	 */
+
+	public long getUsedMemory()
+	{
+		return used;
+	}
+
+	/**
+	 * Passa a acompanhar uma nova textura raíz, deve ser chamado após a textura ser enviada ao OpenGL.
+	 * @param root referência da textura raíz que será acompanhada.
+	 */
+
+	void register(TextureRoot root)
+	{
+		root.lastFrame = frame;
+		root.fullMemory = root.memory;
+
+		if (!root.budgeted)
+		{
+			roots.add(root);
+			root.budgeted = true;
+			used += root.memory;
+		}
+	}
+
+	/**
+	 * Deixa de acompanhar uma textura raíz, deve ser chamado quando a textura for liberada.
+	 * @param root referência da textura raíz que não será mais acompanhada.
+	 */
+
+	void unregister(TextureRoot root)
+	{
+		if (root.budgeted)
+		{
+			roots.remove(root);
+			root.budgeted = false;
+			used -= root.memory;
+			reclaiming -= root.reclaiming;
+			root.reclaiming = 0;
+		}
+	}
+
+	/**
+	 * Atualiza a estimativa de bytes de uma textura, deve ser usado sempre que os dados forem reenviados.
+	 * Se a textura estiver sendo acompanhada a diferença é aplicada na soma de bytes ocupados.
+	 * @param root referência da textura raíz que teve os dados alterados.
+	 * @param memory nova estimativa de bytes ocupados pela textura na memória de vídeo.
+	 */
+
+	void resize(TextureRoot root, long memory)
+	{
+		if (root.budgeted)
+			used += memory - root.memory;
+
+		root.memory = memory;
+	}
+
+	/**
+	 * Registra que uma textura foi vinculada no quadro atual, chamado por <code>Texture.bind</code>.
+	 * Se a textura estiver reduzida será agendada para ser recarregada em resolução completa.
+	 * @param root referência da textura raíz que foi vinculada.
+	 */
+
+	void touch(TextureRoot root)
+	{
+		root.lastFrame = frame;
+
+		if (!root.pending && root.isReduced() && root.source != null && !root.streaming)
+		{
+			root.pending = true;
+			pending.offer(root);
+		}
+	}
+
+	/**
+	 * Avança o quadro atual e aplica o orçamento, chamado a cada atualização do carregador de texturas.
+	 * Primeiro recarrega as texturas agendadas que couberem no orçamento e em seguida
+	 * reduz as texturas sem vínculo mais antigas enquanto o orçamento estiver excedido.
+	 */
+
+	void update()
+	{
+		frame++;
+
+		for (int i = 0; i < MAX_CHANGES_PER_FRAME && !pending.isEmpty(); i++)
+		{
+			TextureRoot root = pending.peek();
+
+			if (root.budgeted && budget > 0 && used - root.memory + root.fullMemory > budget)
+				break;
+
+			pending.poll();
+			root.pending = false;
+
+			if (root.budgeted)
+				restore(root);
+		}
+
+		if (budget == 0)
+			return;
+
+		for (int i = 0; i < MAX_CHANGES_PER_FRAME && used - reclaiming > budget; i++)
+		{
+			TextureRoot root = selectOldest();
+
+			if (root == null)
+				break;
+
+			if (canDemote(root))
+				demote(root);
+			else
+				evict(root);
+		}
+	}
+
+	/**
+	 * Procura a textura sem vínculo há mais tempo que ainda pode ser reduzida.
+	 * @return aquisição da textura raíz mais antiga ou null se nenhuma puder ser reduzida.
+	 */
+
+	private TextureRoot selectOldest()
+	{
+		TextureRoot oldest = null;
+
+		for (TextureRoot root : roots)
+		{
+			if (frame - root.lastFrame < idleFrames || root.evicted || root.streaming)
+				continue;
+
+			if (!canDemote(root) && root.source == null)
+				continue;
+
+			if (oldest == null || root.lastFrame < oldest.lastFrame)
+				oldest = root;
+		}
+
+		return oldest;
+	}
+
+	/**
+	 * Apenas texturas 2D sem compactação lidas de um arquivo podem ter níveis de mipmap descartados,
+	 * já que a redução decodifica novamente o arquivo em resolução inferior.
+	 * @param root referência da textura raíz que será verificada.
+	 * @return true se puder descartar o maior nível de mipmap ou false caso contrário.
+	 */
+
+	private boolean canDemote(TextureRoot root)
+	{
+		if (root.target != TT_2D || root.compressed || root.evicted || root.source == null)
+			return false;
+
+		int width = root.width >> root.demotion;
+		int height = root.height >> root.demotion;
+
+		return width / 2 >= MIN_DEMOTION_SIZE && height / 2 >= MIN_DEMOTION_SIZE;
+	}
+
+	/**
+	 * Agenda a leitura do arquivo de uma textura com o maior nível de mipmap descartado (metade da resolução).
+	 * A leitura é feita pelo transmissor em segundo plano, sem ler os pixels do OpenGL, e os dados reduzidos
+	 * são enviados para a mesma identificação mantendo o formato em que a textura é normalmente lida.
+	 * @param root referência da textura raíz que terá a resolução reduzida pela metade.
+	 */
+
+	private void demote(TextureRoot root)
+	{
+		int width = Math.max(1, root.width >> (root.demotion + 1));
+		int height = Math.max(1, root.height >> (root.demotion + 1));
+
+		root.streaming = true;
+		root.reclaiming = Math.max(0, root.memory - estimate(width, height, MipmapUtil.countLevels(width, height), 1));
+		reclaiming += root.reclaiming;
+
+		TextureLoader.getInstance().getStreamer().submit(root, root.source, root.demotion + 1);
+	}
+
+	/**
+	 * Chamado quando a leitura de uma textura reduzida termina e os dados já foram enviados ao OpenGL.
+	 * Caso a leitura tenha falhado a textura é liberada, para que não seja lida novamente a cada quadro.
+	 * @param root referência da textura raíz que estava sendo reduzida.
+	 * @param success true se os dados reduzidos foram enviados ou false se houve falha.
+	 */
+
+	void reduced(TextureRoot root, boolean success)
+	{
+		reclaiming -= root.reclaiming;
+		root.reclaiming = 0;
+
+		if (!success && root.budgeted)
+			evict(root);
+	}
+
+	/**
+	 * Libera os dados de uma textura da memória de vídeo substituindo-os por um único pixel.
+	 * O identificador da textura no OpenGL é mantido para que possa ser recarregada depois.
+	 * @param root referência da textura raíz que terá seus dados liberados.
+	 */
+
+	private void evict(TextureRoot root)
+	{
+		int target = root.target.GL_CODE;
+		ByteBuffer pixel = BufferUtils.createByteBuffer(4);
+
+		glBindTexture(target, root.id);
+		glTexImage2D(target, 0, GL_RGBA, 1, 1, 0, GL_RGBA, GL_UNSIGNED_BYTE, pixel);
+		glTexParameteri(target, GL_TEXTURE_MAX_LEVEL, 0);
+
+		root.evicted = true;
+		resize(root, 4);
+
+		logDebug("textura '%s' liberada da memória de vídeo.\n", root.getFileName());
+	}
+
+	/**
+	 * Recarrega uma textura reduzida do seu arquivo enviando-a novamente em resolução completa.
+	 * Caso não seja possível recarregar, a textura deixará de ser liberada pelo orçamento.
+	 * @param root referência da textura raíz que será recarregada.
+	 */
+
+	private void restore(TextureRoot root)
+	{
+		try {
+
+			TextureLoader.getInstance().reload(root);
+
+			root.demotion = 0;
+			root.evicted = false;
+			root.fullMemory = root.memory;
+
+		} catch (TextureException e) {
+
+			root.source = null;
+
+			logWarning("não foi possível recarregar a textura '%s' (%s).\n", root.getFileName(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Calcula quantos bytes uma textura sem compactação ocupa na memória de vídeo.
+	 * O formato interno usado pelo carregador é sempre RGBA, portanto 4 bytes por pixel.
+	 * @param width largura do nível base da textura em pixels.
+	 * @param height altura do nível base da textura em pixels.
+	 * @param levels quantidade de níveis de mipmap incluindo o nível base.
+	 * @param layers quantidade de camadas ou faces da textura.
+	 * @return aquisição da estimativa de bytes ocupados na memória de vídeo.
+	 */
+
+	public static long estimate(int width, int height, int levels, int layers)
+	{
+		long bytes = 0;
+
+		for (int level = 0; level < levels; level++)
+			bytes += (long) Math.max(1, width >> level) * Math.max(1, height >> level) * 4;
+
+		return bytes * layers;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("frame", frame);
+		description.append("textures", roots.size());
+		description.append("used", SizeUtil.toString(getUsedMemory()));
+		description.append("budget", budget == 0 ? "unlimited" : SizeUtil.toString(budget));
+		description.append("pending", pending.size());
+
+		return description.toString();
+	}
+}
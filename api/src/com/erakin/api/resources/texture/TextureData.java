@@ -1,71 +1,104 @@
-package com.erakin.api.resources.texture;
-
-import java.nio.ByteBuffer;
-
-/**
- * <h1>Dados de Textura</h1>
- *
- * <p>Interface que ir implementar as informaes bsicas que todo textura possui.
- * Esses dados iro auxiliar na criao das texturas dos objetos/entidades e afins no jogo.
- * As informaes necessrias  a quantidade de bits por pixel, dimensionamento da textura
- * tanto na largura quanto na altura e o mais importante os bytes dos pixels do mesmo.</p>
- *
- * <p>Outra finalidade dessa interface  permitir a existncia de outras semelhantes.
- * De modo que essas determinem novas funcionalidades de acordo com o seu propsito.</p>
- * 
- * @see ByteBuffer
- *
- * @author Andrew
- */
-
-public interface TextureData
-{
-	/**
-	 * Depth determina a profundidade de cada pixel, ou seja, quantos bits ter cada pixel.
-	 * Por padro utilizamos as seguintes configuraes: Bit Color (8), RGB (24) e RGBA (32).
-	 * @return aquisio do tamanho em bits de cada pixel dessa imagem.
-	 */
-
-	int getDepth();
-
-	/**
-	 * Toda imagem possui um tamanho pr-determinado especificado em seus dados.
-	 * Esses tamanho  definido em largura e altura representado em pixels.
-	 * Onde cada pixel possui uma quantidade de bytes que define sua cor.
-	 * @return aquisio do tamanho da largura da imagem em pixels.
-	 */
-
-	int getWidth();
-
-	/**
-	 * Toda imagem possui um tamanho pr-determinado especificado em seus dados.
-	 * Esses tamanho  definido em largura e altura representado em pixels.
-	 * Onde cada pixel possui uma quantidade de bytes que define sua cor.
-	 * @return aquisio do tamanho da altura da imagem em pixels.
-	 */
-
-	int getHeight();
-
-	/**
-	 * Imagens no OpenGL deve ser aceitos apenas se forem valores 2^n.
-	 * Esse tamanho  respectivo a textura e no a imagem carregada.
-	 * @return aquisio do tamanho da largura 2n da imagem em pixels.
-	 */
-
-	int getTexWidth();
-
-	/**
-	 * Imagens no OpenGL deve ser aceitos apenas se forem valores 2^n.
-	 * Esse tamanho  respectivo a textura e no a imagem carregada.
-	 * @return aquisio do tamanho da altura 2n da imagem em pixels.
-	 */
-
-	int getTexHeight();
-
-	/**
-	 * Os pixels devero ser armazenados em bytes correspondente ao formato da textura.
-	 * @return aquisio de buffer contendo dados das cores de todos os pixels.
-	 */
-
-	ByteBuffer getPixels();
-}
+package com.erakin.api.resources.texture;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <h1>Dados de Textura</h1>
+ *
+ * <p>Interface que irá implementar as informações básicas que todo textura possui.
+ * Esses dados irão auxiliar na criação das texturas dos objetos/entidades e afins no jogo.
+ * As informações necessárias é a quantidade de bits por pixel, dimensionamento da textura
+ * tanto na largura quanto na altura e o mais importante os bytes dos pixels do mesmo.</p>
+ *
+ * <p>Outra finalidade dessa interface é permitir a existência de outras semelhantes.
+ * De modo que essas determinem novas funcionalidades de acordo com o seu propósito.</p>
+ * 
+ * @see ByteBuffer
+ *
+ * @author Andrew
+ */
+
+public interface TextureData
+{
+	/**
+	 * Depth determina a profundidade de cada pixel, ou seja, quantos bits terá cada pixel.
+	 * Por padrão utilizamos as seguintes configurações: Bit Color (8), RGB (24) e RGBA (32).
+	 * @return aquisição do tamanho em bits de cada pixel dessa imagem.
+	 */
+
+	int getDepth();
+
+	/**
+	 * Toda imagem possui um tamanho pré-determinado especificado em seus dados.
+	 * Esses tamanho é definido em largura e altura representado em pixels.
+	 * Onde cada pixel possui uma quantidade de bytes que define sua cor.
+	 * @return aquisição do tamanho da largura da imagem em pixels.
+	 */
+
+	int getWidth();
+
+	/**
+	 * Toda imagem possui um tamanho pré-determinado especificado em seus dados.
+	 * Esses tamanho é definido em largura e altura representado em pixels.
+	 * Onde cada pixel possui uma quantidade de bytes que define sua cor.
+	 * @return aquisição do tamanho da altura da imagem em pixels.
+	 */
+
+	int getHeight();
+
+	/**
+	 * Menor potência de 2 que comporta a imagem, usada apenas quando o carregador for solicitado
+	 * a preencher ou redimensionar as texturas, por padrão são enviadas nas dimensões exatas.
+	 * @return aquisição do tamanho da largura 2n da imagem em pixels.
+	 */
+
+	int getTexWidth();
+
+	/**
+	 * Menor potência de 2 que comporta a imagem, usada apenas quando o carregador for solicitado
+	 * a preencher ou redimensionar as texturas, por padrão são enviadas nas dimensões exatas.
+	 * @return aquisição do tamanho da altura 2n da imagem em pixels.
+	 */
+
+	int getTexHeight();
+
+	/**
+	 * Os pixels deverão ser armazenados em bytes correspondente ao formato da textura.
+	 * @return aquisição de buffer contendo dados das cores de todos os pixels.
+	 */
+
+	ByteBuffer getPixels();
+
+	/**
+	 * Texturas podem trazer consigo uma sequência de mipmaps já prontos para serem enviados.
+	 * Quando houver apenas um nível o carregador irá gerar os demais níveis por conta própria.
+	 * @return aquisição da quantidade de níveis de mipmap disponíveis, incluindo o nível base.
+	 */
+
+	int getMipmapCount();
+
+	/**
+	 * Cada nível de mipmap possui a metade das dimensões do nível anterior (mínimo de 1 pixel).
+	 * O nível zero corresponde sempre aos mesmos dados obtidos através de <code>getPixels()</code>.
+	 * @param level número do nível de mipmap do qual deseja obter os bytes.
+	 * @return aquisição do buffer contendo os dados do nível ou null se não houver.
+	 */
+
+	ByteBuffer getMipmap(int level);
+
+	/**
+	 * Texturas pré-compactadas (DXT, BC, ETC) possuem seus dados em blocos que não são pixels.
+	 * Nesse caso os dados são repassados ao OpenGL sem qualquer decodificação pelo carregador.
+	 * @return aquisição do código do formato interno compactado do OpenGL ou 0 se não compactado.
+	 */
+
+	int getCompressedFormat();
+
+	/**
+	 * Formato em que os pixels foram entregues pelo leitor, usado para determinar o formato enviado ao OpenGL
+	 * sem depender da quantidade de bytes de cada pixel, já que formatos diferentes podem ter o mesmo tamanho.
+	 * @return aquisição do formato dos pixels ou null se os dados forem pré-compactados.
+	 */
+
+	PixelFormat getFormat();
+}
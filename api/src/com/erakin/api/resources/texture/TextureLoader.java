@@ -1,387 +1,1021 @@
-package com.erakin.api.resources.texture;
-
-import static com.erakin.api.lwjgl.GLUtil.glMaxTextureSize;
-import static com.erakin.api.lwjgl.math.Maths.fold;
-import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
-import static com.erakin.api.resources.texture.TextureTarget.TT_2D;
-import static com.erakin.api.resources.texture.TextureTarget.TT_CUBE_MAP;
-import static org.diverproject.log.LogSystem.logDebug;
-import static org.diverproject.log.LogSystem.logWarning;
-import static org.diverproject.util.Util.format;
-import static org.lwjgl.opengl.GL11.GL_LINEAR;
-import static org.lwjgl.opengl.GL11.GL_LINEAR_MIPMAP_LINEAR;
-import static org.lwjgl.opengl.GL11.GL_LINEAR_MIPMAP_NEAREST;
-import static org.lwjgl.opengl.GL11.GL_RGB;
-import static org.lwjgl.opengl.GL11.GL_RGBA;
-import static org.lwjgl.opengl.GL11.GL_TEXTURE_MAG_FILTER;
-import static org.lwjgl.opengl.GL11.GL_TEXTURE_MIN_FILTER;
-import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
-import static org.lwjgl.opengl.GL11.glBindTexture;
-import static org.lwjgl.opengl.GL11.glGenTextures;
-import static org.lwjgl.opengl.GL11.glTexImage2D;
-import static org.lwjgl.opengl.GL11.glTexParameterf;
-import static org.lwjgl.opengl.GL11.glTexParameteri;
-import static org.lwjgl.opengl.GL13.GL_TEXTURE0;
-import static org.lwjgl.opengl.GL13.GL_TEXTURE_CUBE_MAP_POSITIVE_X;
-import static org.lwjgl.opengl.GL13.glActiveTexture;
-import static org.lwjgl.opengl.GL14.GL_TEXTURE_LOD_BIAS;
-import static org.lwjgl.opengl.GL30.glGenerateMipmap;
-
-import java.io.FileInputStream;
-
-import org.diverproject.util.FileUtil;
-import org.diverproject.util.lang.IntUtil;
-
-import com.erakin.api.resources.ResourceLoaderDefault;
-import com.erakin.api.resources.ResourceMap;
-import com.erakin.api.resources.ResourceRoot;
-
-/**
- * <h1>Carregador de Texturas</h1>
- *
- * <p>Usada para fazer um gerenciamento avanado das texturas/imagens carregadas a partir de arquivos.
- * Alm de carregar, salva as informaes em uma pasta virtual em memria para que no seja carregada duas vezes.</p>
- *
- * <p>Por exemplo, uma textura chamado <b>casa.png</b> ir verificar se este objeto j foi carregado no sistema,
- * caso ele j tenha sido carregado, ir usar as informaes deste objeto ao invs de ler os dados do arquivo.
- * Esse sistema permite alm de economizar tempo de processamento evitar consumo de memria desnecessrio.</p>
- *
- * <p>Por padro os objetos sero considerados no formato <b>png</b> que  o utilizado pela biblioteca Erakin.
- * Porm  possvel tambm utilizar outras formataes como <b>bmp</b> e <b>jpg</b> ou ainda adicionar a sua  lista.
- * Sendo possvel aumentar a diversidade de formas para trabalhar com os dados de imagens texturas.</p>
- *
- * @see ResourceMap
- * @see TextureReader
- * @see TextureReaderFactory
- *
- * @author Andrew Mello
- */
-
-public final class TextureLoader extends ResourceLoaderDefault<Texture>
-{
-	/**
-	 * Tamanho mnimo que uma textura ter.
-	 */
-	private static final int MIN_TEXTURE_SIZE = 16;
-
-	/**
-	 * Tamanho mximo que uma textura ter.
-	 */
-	private static final int MAX_TEXTURE_SIZE = glMaxTextureSize();
-
-	/**
-	 * Nome padro para mapeamento de mundos.
-	 */
-	public static final String DEFAULT_PATH = "textures";
-
-	/**
-	 * ndice da imagem para a face esquerda do cubo.
-	 */
-	public static final int CUBE_LEFT_FACE = 0;
-
-	/**
-	 * ndice da imagem para a face direita do cubo.
-	 */
-	public static final int CUBE_RIGHT_FACE = 1;
-	/**
-	 * ndice da imagem para a face superior do cubo.
-	 */
-	public static final int CUBE_TOP_FACE = 2;
-
-	/**
-	 * ndice da imagem para a face inferior do cubo.
-	 */
-	public static final int CUBE_BOTTOM_FACE = 3;
-
-	/**
-	 * ndice da imagem para a face frontal do cubo.
-	 */
-	public static final int CUBE_BACK_FACE = 4;
-
-	/**
-	 * ndice da imagem para a face posterior do cubo.
-	 */
-	public static final int CUBE_FRONT_FACE = 5;
-
-	/**
-	 * Quantidade de imagens necessrias para as faces de um cubo.
-	 */
-	public static final int CUBE_FACE_COUNT = 6;
-
-	/**
-	 * Instncia para carregador de texturas no padro de projetos Singleton.
-	 */
-	private static final TextureLoader instance = new TextureLoader();
-
-	/**
-	 * Construtor privado para evitar mltiplas instncias para o carregador de texturas.
-	 * Inicializa o mapeador de recursos definindo o seu nome por padro <code>DEFAULT_PATH</code>.
-	 */
-
-	private TextureLoader()
-	{
-		super(DEFAULT_PATH);
-	}
-
-	/**
-	 * Permite obter uma determinada textura j carregada ou ento forar o carregamento desta.
-	 * Se a textura existir ir retornar uma textura temporria dessa raz caso contrrio ir
-	 * criar uma nova raz carregando as informaes do arquivo de acordo com o nome da textura.
-	 * @param name nome do qual foi dado a textura, em outras palavras o nome do arquivo,
-	 * caso no seja definido nenhuma extenso para esse, ser considerado <b>png</b> por padro.
-	 * @return aquisio do objeto de textura temporria gerado da raz de acordo com o nome.
-	 * @throws TextureException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
-	 */
-
-	public Texture getTexture(String name) throws TextureException
-	{
-		if (!name.contains("."))
-			name += ".png";
-
-		ResourceRoot<Texture> resourceRoot = selectResource(name);
-
-		if (resourceRoot != null)
-		{
-			TextureRoot textureRoot = (TextureRoot) resourceRoot;
-
-			if (textureRoot.target == TT_2D)
-				return textureRoot.genResource();
-
-			return textureRoot.genResource();
-		}
-
-		String path = getPathname() + name;
-		TextureReaderFactory factory = TextureReaderFactory.getInstance();
-		TextureReader reader = factory.getTextureReaderOf(path);
-
-		try {
-
-			TextureData data = reader.readTexture(new FileInputStream(path), FORMAT_RGBA);
-			Texture texture = createTexture(path, data);
-
-			return texture;
-
-		} catch (Exception e) {
-			throw new TextureException(e);
-		}
-	}
-
-	/**
-	 * Permite construir uma nova textura a partir das informaes abaixo.
-	 * Caso o caminho de alocao j esteja sendo usado por outra no ser possvel criar.
-	 * Se for possvel criar, a textura raz ser armazenada e gerada uma temporria.
-	 * @param path caminho onde foi localizado a textura, onde deve ser alocada.
-	 * @param data objeto contendo os dados da textura para armazenamento.
-	 * @return aquisio de uma textura de uso temporrio.
-	 */
-
-	public Texture createTexture(String path, TextureData data)
-	{
-		if (path == null)
-			throw new TextureRuntimeException("caminho no definido");
-
-		if (data == null)
-			throw new TextureRuntimeException("dados da textura no definido");
-
-		if (!path.startsWith(getResourceName()))
-		{
-			if (path.contains(getResourceName()+ "/"))
-				path = path.substring(path.indexOf(getResourceName()), path.length());
-			else
-				path = String.format("%s/%s", getResourceName(), path);
-		}
-
-		if (containResource(path))
-			throw new TextureRuntimeException("textura j existente (%s)", path);
-
-		TextureRoot root = new TextureRoot(path);
-		root.id = glGenTextures();
-		root.alpha = data.getDepth() == 32;
-		root.depth = data.getDepth();
-		root.width = data.getWidth();
-		root.height = data.getHeight();
-		root.target = TT_2D;
-
-		validateLimits(root);
-
-		int format = data.getDepth() == 32 ? GL_RGBA : GL_RGB;
-		int width = fold(data.getTexWidth());
-		int height = fold(data.getTexHeight());
-
-		glBindTexture(root.target.GL_CODE, root.id);
-		glTexImage2D(root.target.GL_CODE, 0, GL_RGBA, width, height, 0, format, GL_UNSIGNED_BYTE, data.getPixels());
-
-		glGenerateMipmap(root.target.GL_CODE);
-		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
-		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAG_FILTER, GL_LINEAR_MIPMAP_NEAREST);
-		glTexParameterf(root.target.GL_CODE, GL_TEXTURE_LOD_BIAS, -0.4f);
-
-		logDebug("textura '%s' lida com xito (width: %d, height: %d, depth: %d, alpha: %s).\n",
-				root.getFileName(), root.width, root.height, root.depth, root.alpha);
-
-		if (!insertResource(root))
-			logWarning("no foi possvel salvar a textura '%s'.\n", root.getFileName());
-
-		return root.genResource();
-	}
-
-	/**
-	 * <p>Permite obter uma determinada textura cbica j carregada ou ento forar o carregamento desta.
-	 * Se a textura existir ir retornar uma textura temporria dessa raz caso contrrio ir
-	 * criar uma nova raz carregando as informaes do arquivo de acordo com o nome da textura.</p>
-	 * Uma textura cbica  formado por 6 texturas, portanto para a textura "cubo.png" por exemplo deve existir:
-	 * "cubo_<b>right</b>.png", "cubo_<b>left</b>.png", "cubo_<b>top</b>.png", "cubo_<b>bottom</b>.png", "cubo_<b>back</b>.png", "cubo_<b>front</b>.png".
-	 * @param name nome do qual foi dado a textura, em outras palavras o nome do arquivo,
-	 * caso no seja definido nenhuma extenso para esse, ser considerado <b>png</b> por padro.
-	 * @return aquisio do objeto de textura temporria gerado da raz de acordo com o nome.
-	 * @throws TextureException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
-	 */
-
-	public Texture getCubeTexture(String name) throws TextureException
-	{
-		if (!name.contains("."))
-			name += ".png";
-
-		ResourceRoot<Texture> resourceRoot = selectResource(name);
-
-		if (resourceRoot != null)
-		{
-			TextureRoot textureRoot = (TextureRoot) resourceRoot;
-
-			if (textureRoot.target == TT_CUBE_MAP)
-				return textureRoot.genResource();
-
-			throw new TextureException("textura '%s' no  CUBE_MAP", name);
-		}
-
-		String path = getPathname() + name;
-		TextureReaderFactory factory = TextureReaderFactory.getInstance();
-		TextureReader reader = factory.getTextureReaderOf(path);
-
-		try {
-
-			String filepath = format("%s/%s", FileUtil.getParentPath(path), FileUtil.getFileName(path));
-			String extension = FileUtil.getExtension(path);
-
-			TextureData data[] = new TextureData[CUBE_FACE_COUNT];
-			data[CUBE_RIGHT_FACE] = reader.readTexture(new FileInputStream(format("%s_right.%s", filepath, extension)), FORMAT_RGBA);
-			data[CUBE_LEFT_FACE] = reader.readTexture(new FileInputStream(format("%s_left.%s", filepath, extension)), FORMAT_RGBA);
-			data[CUBE_TOP_FACE] = reader.readTexture(new FileInputStream(format("%s_top.%s", filepath, extension)), FORMAT_RGBA);
-			data[CUBE_BOTTOM_FACE] = reader.readTexture(new FileInputStream(format("%s_bottom.%s", filepath, extension)), FORMAT_RGBA);
-			data[CUBE_BACK_FACE] = reader.readTexture(new FileInputStream(format("%s_back.%s", filepath, extension)), FORMAT_RGBA);
-			data[CUBE_FRONT_FACE] = reader.readTexture(new FileInputStream(format("%s_front.%s", filepath, extension)), FORMAT_RGBA);
-
-			Texture texture = createCubeTexture(path, data);
-
-			return texture;
-
-		} catch (Exception e) {
-			throw new TextureException(e);
-		}
-	}
-
-	/**
-	 * <p>Permite construir uma nova textura cbica a partir das informaes abaixo.
-	 * Caso o caminho de alocao j esteja sendo usado por outra no ser possvel criar.
-	 * Se for possvel criar, a textura raz ser armazenada e gerada uma temporria.</p>
-	 * @param path caminho onde foi localizado a textura, onde deve ser alocada.
-	 * @param data vetor contendo os dados da textura de cada face do cubo para armazenamento,
-	 * deve possuir <code>CUBE_FACE_COUNT</code> faces e seguir a orgem de <code>CUBE_{i}_FACE</code>,
-	 * onde i deve ser substituido pelo nome face (RIGTH, LEFT, TOP, BOTTOM, FRONT ou BACK).
-	 * @return aquisio de uma textura cbica de uso temporrio.
-	 */
-
-	public Texture createCubeTexture(String path, TextureData[] data)
-	{
-		if (path == null)
-			throw new TextureRuntimeException("caminho no definido");
-
-		if (data == null)
-			throw new TextureRuntimeException("dados da textura no definido");
-
-		if (data.length != CUBE_FACE_COUNT)
-			throw new TextureRuntimeException("texturas cbicas precisam de %d (imagens) faces", CUBE_FACE_COUNT);
-
-		for (TextureData tData : data)
-			if (tData == null)
-				throw new TextureRuntimeException("uma das faces da textura cbida no foi definida");
-
-		if (!path.startsWith(getResourceName()))
-		{
-			if (path.contains(getResourceName()+ "/"))
-				path = path.substring(path.indexOf(getResourceName()), path.length());
-			else
-				path = String.format("%s/%s", getResourceName(), path);
-		}
-
-		if (containResource(path))
-			throw new TextureRuntimeException("textura j existente (%s)", path);
-
-		TextureData textureData = data[0];
-
-		TextureRoot root = new TextureRoot(path);
-		root.id = glGenTextures();
-		root.alpha = textureData.getDepth() == 32;
-		root.depth = textureData.getDepth();
-		root.width = textureData.getWidth();
-		root.height = textureData.getHeight();
-		root.target = TT_CUBE_MAP;
-
-		validateLimits(root);
-
-		glActiveTexture(GL_TEXTURE0);
-		glBindTexture(root.target.GL_CODE, root.id);
-		{
-			for (int i = 0; i < data.length; i++)
-			{
-				int format = data[i].getDepth() == 32 ? GL_RGBA : GL_RGB;
-				int width = fold(data[i].getTexWidth());
-				int height = fold(data[i].getTexHeight());
-
-				glTexImage2D(GL_TEXTURE_CUBE_MAP_POSITIVE_X + i, 0, GL_RGBA, width, height, 0, format, GL_UNSIGNED_BYTE, data[i].getPixels());
-			}
-		}
-		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
-		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
-
-		logDebug("textura '%s' lida com xito (width: %d, height: %d, depth: %d, alpha: %s).\n",
-				root.getFileName(), root.width, root.height, root.depth, root.alpha);
-
-		if (!insertResource(root))
-			logWarning("no foi possvel salvar a textura '%s'.\n", root.getFileName());
-
-		return root.genResource();
-	}
-
-	/**
-	 * Procedimento que ir fazer a verificao da validade dos dados de uma raz para textura.
-	 * As verificaes consistem em verificar se o tamanho da imagem est dentro dos limites.
-	 * Como tambm averiguar se o depth da imagem possui um valor aceitvel.
-	 * @param root referncia da raz de textura do qual ser validada.
-	 */
-
-	private void validateLimits(TextureRoot root)
-	{
-		if (!IntUtil.interval(root.width, MIN_TEXTURE_SIZE, MAX_TEXTURE_SIZE))
-			throw new TextureRuntimeException("falha ao alocar textura (width: %d, min: %d, max: %d)",
-					root.width, MIN_TEXTURE_SIZE, MAX_TEXTURE_SIZE);
-
-		if (!IntUtil.interval(root.height, MIN_TEXTURE_SIZE, MAX_TEXTURE_SIZE))
-			throw new TextureRuntimeException("falha ao alocar textura (height: %d, min: %d, max: %d)",
-					root.height, MIN_TEXTURE_SIZE, MAX_TEXTURE_SIZE);
-
-		if (root.depth != 24 && root.depth != 32)
-			throw new TextureRuntimeException("depth invlido (depth: %d)", root.depth);
-	}
-
-	/**
-	 * Procedimento que permite obter a nica instncia do carregador de texturas.
-	 * Utiliza o padro Singleton para evitar a existncia de mais instncias.
-	 * @return aquisio da instncia para utilizao do carregador de texturas.
-	 */
-
-	public static TextureLoader getInstance()
-	{
-		return instance;
-	}
-}
+package com.erakin.api.resources.texture;
+
+import static com.erakin.api.lwjgl.GLUtil.glMaxTextureSize;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_ABGR;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_ALPHA;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_BGRA;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE16;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_LUMINANCE_ALPHA;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGB;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
+import static com.erakin.api.resources.texture.TextureTarget.TT_2D;
+import static com.erakin.api.resources.texture.TextureTarget.TT_2D_ARRAY;
+import static com.erakin.api.resources.texture.TextureSizing.TS_EXACT;
+import static com.erakin.api.resources.texture.TextureSizing.TS_PAD;
+import static com.erakin.api.resources.texture.TextureTarget.TT_CUBE_MAP;
+import static org.diverproject.log.LogSystem.logDebug;
+import static org.diverproject.log.LogSystem.logWarning;
+import static org.diverproject.util.Util.format;
+import static org.lwjgl.opengl.GL11.GL_LINEAR;
+import static org.lwjgl.opengl.GL11.GL_LINEAR_MIPMAP_LINEAR;
+import static org.lwjgl.opengl.GL11.GL_LINEAR_MIPMAP_NEAREST;
+import static org.lwjgl.opengl.GL11.GL_RED;
+import static org.lwjgl.opengl.GL11.GL_RGB;
+import static org.lwjgl.opengl.GL11.GL_RGBA;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_MAG_FILTER;
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_MIN_FILTER;
+import static org.lwjgl.opengl.GL11.GL_UNPACK_ALIGNMENT;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL11.glBindTexture;
+import static org.lwjgl.opengl.GL11.glGenTextures;
+import static org.lwjgl.opengl.GL11.glPixelStorei;
+import static org.lwjgl.opengl.GL11.glTexImage2D;
+import static org.lwjgl.opengl.GL11.glTexParameterf;
+import static org.lwjgl.opengl.GL11.glTexParameteri;
+import static org.lwjgl.opengl.GL12.GL_BGRA;
+import static org.lwjgl.opengl.GL12.GL_TEXTURE_MAX_LEVEL;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_INT_8_8_8_8;
+import static org.lwjgl.opengl.GL12.GL_UNSIGNED_INT_8_8_8_8_REV;
+import static org.lwjgl.opengl.GL12.glTexImage3D;
+import static org.lwjgl.opengl.GL12.glTexSubImage3D;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE0;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE_CUBE_MAP_POSITIVE_X;
+import static org.lwjgl.opengl.GL13.glActiveTexture;
+import static org.lwjgl.opengl.GL13.glCompressedTexImage2D;
+import static org.lwjgl.opengl.GL14.GL_TEXTURE_LOD_BIAS;
+import static org.lwjgl.opengl.GL30.GL_R16;
+import static org.lwjgl.opengl.GL30.GL_RG;
+import static org.lwjgl.opengl.GL30.glGenerateMipmap;
+
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.diverproject.util.FileUtil;
+import org.diverproject.util.SizeUtil;
+import org.diverproject.util.lang.IntUtil;
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.resources.ResourceLoaderDefault;
+import com.erakin.api.resources.ResourceMap;
+import com.erakin.api.resources.ResourceRoot;
+
+/**
+ * <h1>Carregador de Texturas</h1>
+ *
+ * <p>Usada para fazer um gerenciamento avançado das texturas/imagens carregadas a partir de arquivos.
+ * Além de carregar, salva as informações em uma pasta virtual em memória para que não seja carregada duas vezes.</p>
+ *
+ * <p>Por exemplo, uma textura chamado <b>casa.png</b> irá verificar se este objeto já foi carregado no sistema,
+ * caso ele já tenha sido carregado, irá usar as informações deste objeto ao invés de ler os dados do arquivo.
+ * Esse sistema permite além de economizar tempo de processamento evitar consumo de memória desnecessário.</p>
+ *
+ * <p>Por padrão os objetos serão considerados no formato <b>png</b> que é o utilizado pela biblioteca Erakin.
+ * Porém é possível também utilizar outras formatações como <b>bmp</b> e <b>jpg</b> ou ainda adicionar a sua à lista.
+ * Sendo possível aumentar a diversidade de formas para trabalhar com os dados de imagens texturas.</p>
+ *
+ * @see ResourceMap
+ * @see TextureReader
+ * @see TextureReaderFactory
+ *
+ * @author Andrew Mello
+ */
+
+public final class TextureLoader extends ResourceLoaderDefault<Texture>
+{
+	/**
+	 * Tamanho mínimo que uma textura terá.
+	 */
+	private static final int MIN_TEXTURE_SIZE = 16;
+
+	/**
+	 * Tamanho máximo que uma textura terá.
+	 */
+	private static final int MAX_TEXTURE_SIZE = glMaxTextureSize();
+
+	/**
+	 * Nome padrão para mapeamento de mundos.
+	 */
+	public static final String DEFAULT_PATH = "textures";
+
+	/**
+	 * Índice da imagem para a face esquerda do cubo.
+	 */
+	public static final int CUBE_LEFT_FACE = 0;
+
+	/**
+	 * Índice da imagem para a face direita do cubo.
+	 */
+	public static final int CUBE_RIGHT_FACE = 1;
+	/**
+	 * Índice da imagem para a face superior do cubo.
+	 */
+	public static final int CUBE_TOP_FACE = 2;
+
+	/**
+	 * Índice da imagem para a face inferior do cubo.
+	 */
+	public static final int CUBE_BOTTOM_FACE = 3;
+
+	/**
+	 * Índice da imagem para a face frontal do cubo.
+	 */
+	public static final int CUBE_BACK_FACE = 4;
+
+	/**
+	 * Índice da imagem para a face posterior do cubo.
+	 */
+	public static final int CUBE_FRONT_FACE = 5;
+
+	/**
+	 * Quantidade de imagens necessárias para as faces de um cubo.
+	 */
+	public static final int CUBE_FACE_COUNT = 6;
+
+	/**
+	 * Cor usada pelas texturas transmitidas que ainda não possuem miniatura (RGBA).
+	 */
+	private static final byte PLACEHOLDER_COLOR[] = new byte[] { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0xFF };
+
+	/**
+	 * Instância para carregador de texturas no padrão de projetos Singleton.
+	 */
+	private static final TextureLoader instance = new TextureLoader();
+
+	/**
+	 * Orçamento de memória de vídeo das texturas carregadas.
+	 */
+	private final TextureBudget budget;
+
+	/**
+	 * Transmissor das texturas lidas em segundo plano.
+	 */
+	private final TextureStreamer streamer;
+
+	/**
+	 * Tratamento das texturas com dimensões que não são potências de 2.
+	 */
+	private TextureSizing sizing;
+
+	/**
+	 * Construtor privado para evitar múltiplas instâncias para o carregador de texturas.
+	 * Inicializa o mapeador de recursos definindo o seu nome por padrão <code>DEFAULT_PATH</code>.
+	 */
+
+	private TextureLoader()
+	{
+		super(DEFAULT_PATH);
+
+		budget = new TextureBudget();
+		streamer = new TextureStreamer();
+		sizing = TS_EXACT;
+	}
+
+	/**
+	 * O orçamento acompanha a memória de vídeo usada pelas texturas e reduz as menos usadas quando excedido.
+	 * @return aquisição do orçamento de memória de vídeo das texturas carregadas.
+	 */
+
+	public TextureBudget getBudget()
+	{
+		return budget;
+	}
+
+	/**
+	 * O transmissor lê em segundo plano as texturas solicitadas por <code>streamTexture</code>.
+	 * @return aquisição do transmissor das texturas lidas em segundo plano.
+	 */
+
+	public TextureStreamer getStreamer()
+	{
+		return streamer;
+	}
+
+	/**
+	 * Por padrão as texturas são enviadas com as dimensões exatas da imagem (OpenGL 3.2 aceita NPOT).
+	 * @return aquisição do tratamento das texturas com dimensões que não são potências de 2.
+	 */
+
+	public TextureSizing getSizing()
+	{
+		return sizing;
+	}
+
+	/**
+	 * Permite definir se as texturas NPOT serão enviadas no tamanho exato, preenchidas ou redimensionadas.
+	 * Aplicado apenas às texturas sem compactação e sem níveis de mipmap prontos criadas em seguida.
+	 * @param sizing tratamento das texturas com dimensões que não são potências de 2.
+	 */
+
+	public void setSizing(TextureSizing sizing)
+	{
+		this.sizing = sizing == null ? TS_EXACT : sizing;
+	}
+
+	@Override
+	public void update(long delay)
+	{
+		super.update(delay);
+
+		streamer.update();
+		budget.update();
+	}
+
+	/**
+	 * Permite obter uma determinada textura já carregada ou então forçar o carregamento desta.
+	 * Se a textura existir irá retornar uma textura temporária dessa raíz caso contrário irá
+	 * criar uma nova raíz carregando as informações do arquivo de acordo com o nome da textura.
+	 * @param name nome do qual foi dado a textura, em outras palavras o nome do arquivo,
+	 * caso não seja definido nenhuma extensão para esse, será considerado <b>png</b> por padrão.
+	 * @return aquisição do objeto de textura temporária gerado da raíz de acordo com o nome.
+	 * @throws TextureException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
+	 */
+
+	public Texture getTexture(String name) throws TextureException
+	{
+		if (!name.contains("."))
+			name += ".png";
+
+		ResourceRoot<Texture> resourceRoot = selectResource(name);
+
+		if (resourceRoot != null)
+		{
+			TextureRoot textureRoot = (TextureRoot) resourceRoot;
+
+			if (textureRoot.target == TT_2D)
+				return textureRoot.genResource();
+
+			return textureRoot.genResource();
+		}
+
+		String path = getPathname() + name;
+		TextureReaderFactory factory = TextureReaderFactory.getInstance();
+		TextureReader reader = factory.getTextureReaderOf(path);
+
+		try {
+
+			TextureData data = reader.readTexture(new FileInputStream(path), FORMAT_RGBA);
+			Texture texture = createTexture(path, data);
+
+			if ((resourceRoot = selectResource(name)) != null)
+				((TextureRoot) resourceRoot).source = path;
+
+			return texture;
+
+		} catch (Exception e) {
+			throw new TextureException(e);
+		}
+	}
+
+	/**
+	 * <p>Permite obter uma determinada textura sem que seja necessário aguardar a sua leitura.
+	 * Se a textura já existir irá retornar uma textura temporária dessa raíz, caso contrário a textura
+	 * retornada irá usar a miniatura salva da textura (ou um único pixel) até que a leitura em resolução
+	 * completa, feita em segundo plano, termine e seja enviada para a mesma identificação no OpenGL.</p>
+	 * @param name nome do qual foi dado a textura, em outras palavras o nome do arquivo,
+	 * caso não seja definido nenhuma extensão para esse, será considerado <b>png</b> por padrão.
+	 * @return aquisição do objeto de textura temporária gerado da raíz de acordo com o nome.
+	 */
+
+	public Texture streamTexture(String name)
+	{
+		if (!name.contains("."))
+			name += ".png";
+
+		ResourceRoot<Texture> resourceRoot = selectResource(name);
+
+		if (resourceRoot != null)
+			return resourceRoot.genResource();
+
+		String path = getPathname() + name;
+		String resourcePath = String.format("%s/%s", getResourceName(), name);
+
+		TextureRoot root = new TextureRoot(resourcePath);
+		root.id = glGenTextures();
+		root.target = TT_2D;
+		root.source = path;
+		root.streaming = true;
+
+		TextureData thumbnail = streamer.loadThumbnail(path, root);
+
+		if (thumbnail == null)
+		{
+			TextureDataDefault placeholder = new TextureDataDefault();
+			placeholder.width = 1;
+			placeholder.height = 1;
+			placeholder.depth = 32;
+			placeholder.format = FORMAT_RGBA;
+			placeholder.pixels = BufferUtils.createByteBuffer(4);
+			placeholder.pixels.put(PLACEHOLDER_COLOR).flip();
+
+			thumbnail = placeholder;
+			root.width = 1;
+			root.height = 1;
+			root.depth = 32;
+			root.alpha = true;
+		}
+
+		glBindTexture(root.target.GL_CODE, root.id);
+		upload(root, thumbnail);
+
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+
+		if (!insertResource(root))
+			logWarning("não foi possível salvar a textura '%s'.\n", root.getFileName());
+
+		budget.register(root);
+		streamer.submit(root, path);
+
+		return root.genResource();
+	}
+
+	/**
+	 * Substitui os dados de uma textura que estava usando uma miniatura pelos dados em resolução completa.
+	 * Chamado pelo transmissor na thread principal, mantém a mesma identificação da textura no OpenGL.
+	 * Texturas liberadas durante a leitura são ignoradas e as fora dos limites permanecem na miniatura.
+	 * @param root referência da textura raíz que estava usando uma miniatura.
+	 * @param data objeto contendo os dados da textura lidos em segundo plano.
+	 */
+
+	void swap(TextureRoot root, TextureData data)
+	{
+		if (!root.streaming)
+			return;
+
+		root.streaming = false;
+
+		try {
+			validateLimits(data.getWidth(), data.getHeight(), data.getDepth());
+		} catch (TextureRuntimeException e) {
+			logWarning("textura '%s' mantida em miniatura (%s).\n", root.getFileName(), e.getMessage());
+			return;
+		}
+
+		root.alpha = data.getDepth() == 32;
+		root.depth = data.getDepth();
+		root.width = data.getWidth();
+		root.height = data.getHeight();
+		root.compressed = data.getCompressedFormat() != 0;
+
+		glBindTexture(root.target.GL_CODE, root.id);
+		upload(root, data);
+
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+		glTexParameterf(root.target.GL_CODE, GL_TEXTURE_LOD_BIAS, -0.4f);
+
+		root.fullMemory = root.memory;
+
+		logDebug("textura '%s' transmitida com êxito (width: %d, height: %d, depth: %d, alpha: %s).\n",
+				root.getFileName(), root.width, root.height, root.depth, root.alpha);
+	}
+
+	/**
+	 * Substitui os dados de uma textura pelos dados lidos do arquivo em resolução inferior.
+	 * Chamado pelo transmissor na thread principal quando o orçamento reduz uma textura,
+	 * mantém a mesma identificação da textura no OpenGL e as dimensões da textura carregada.
+	 * Texturas liberadas durante a leitura são ignoradas e falhas fazem a textura ser liberada pelo orçamento.
+	 * @param root referência da textura raíz que está sendo reduzida.
+	 * @param data objeto contendo os dados reduzidos ou null se houve falha na leitura.
+	 */
+
+	void reduce(TextureRoot root, TextureData data)
+	{
+		if (!root.streaming)
+			return;
+
+		root.streaming = false;
+
+		int demotion = 0;
+
+		if (data != null)
+			while (Math.max(1, root.width >> demotion) > data.getWidth())
+				demotion++;
+
+		if (demotion <= root.demotion)
+		{
+			budget.reduced(root, false);
+			return;
+		}
+
+		glBindTexture(root.target.GL_CODE, root.id);
+		upload(root, data);
+
+		root.demotion = demotion;
+		budget.reduced(root, true);
+
+		logDebug("textura '%s' reduzida para %dx%d (memória: %s).\n", root.getFileName(), data.getWidth(), data.getHeight(), SizeUtil.toString(root.memory));
+	}
+
+	/**
+	 * Permite construir uma nova textura a partir das informações abaixo.
+	 * Caso o caminho de alocação já esteja sendo usado por outra não será possível criar.
+	 * Se for possível criar, a textura raíz será armazenada e gerada uma temporária.
+	 * @param path caminho onde foi localizado a textura, onde deve ser alocada.
+	 * @param data objeto contendo os dados da textura para armazenamento.
+	 * @return aquisição de uma textura de uso temporário.
+	 */
+
+	public Texture createTexture(String path, TextureData data)
+	{
+		if (path == null)
+			throw new TextureRuntimeException("caminho não definido");
+
+		if (data == null)
+			throw new TextureRuntimeException("dados da textura não definido");
+
+		if (!path.startsWith(getResourceName()))
+		{
+			if (path.contains(getResourceName()+ "/"))
+				path = path.substring(path.indexOf(getResourceName()), path.length());
+			else
+				path = String.format("%s/%s", getResourceName(), path);
+		}
+
+		if (containResource(path))
+			throw new TextureRuntimeException("textura já existente (%s)", path);
+
+		TextureRoot root = new TextureRoot(path);
+		root.id = glGenTextures();
+		root.alpha = data.getDepth() == 32;
+		root.depth = data.getDepth();
+		root.width = data.getWidth();
+		root.height = data.getHeight();
+		root.target = TT_2D;
+		root.compressed = data.getCompressedFormat() != 0;
+
+		validateLimits(root);
+
+		glBindTexture(root.target.GL_CODE, root.id);
+		upload(root, data);
+
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAG_FILTER, GL_LINEAR_MIPMAP_NEAREST);
+		glTexParameterf(root.target.GL_CODE, GL_TEXTURE_LOD_BIAS, -0.4f);
+
+		logDebug("textura '%s' lida com êxito (width: %d, height: %d, depth: %d, alpha: %s).\n",
+				root.getFileName(), root.width, root.height, root.depth, root.alpha);
+
+		if (!insertResource(root))
+			logWarning("não foi possível salvar a textura '%s'.\n", root.getFileName());
+
+		budget.register(root);
+
+		return root.genResource();
+	}
+
+	/**
+	 * Envia ao OpenGL os dados de uma textura 2D já vinculada e atualiza a estimativa de memória da raíz.
+	 * Se os dados possuírem níveis de mipmap prontos estes serão usados, caso contrário serão gerados.
+	 * As dimensões enviadas são as da imagem, exceto quando solicitado outro tratamento em <code>setSizing</code>.
+	 * @param root referência da textura raíz que receberá os dados.
+	 * @param data objeto contendo os dados da textura que serão enviados.
+	 */
+
+	private void upload(TextureRoot root, TextureData data)
+	{
+		if (data.getCompressedFormat() != 0 || data.getMipmapCount() > 1)
+		{
+			uploadMipmaps(root.target.GL_CODE, data);
+
+			if (data.getCompressedFormat() != 0)
+			{
+				long memory = 0;
+
+				for (int level = 0; level < data.getMipmapCount(); level++)
+					memory += data.getMipmap(level).remaining();
+
+				budget.resize(root, memory);
+			}
+			else
+				budget.resize(root, TextureBudget.estimate(data.getWidth(), data.getHeight(), data.getMipmapCount(), 1));
+
+			root.texWidth = data.getWidth();
+			root.texHeight = data.getHeight();
+		}
+		else
+		{
+			TextureData fitted = fitSize(data);
+			int width = fitted.getWidth();
+			int height = fitted.getHeight();
+			int format = getPixelFormat(fitted);
+
+			glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+			glTexImage2D(root.target.GL_CODE, 0, getInternalFormat(fitted), width, height, 0, format, getPixelType(fitted), fitted.getPixels());
+			glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAX_LEVEL, MipmapUtil.countLevels(width, height) - 1);
+			glGenerateMipmap(root.target.GL_CODE);
+
+			root.texWidth = width;
+			root.texHeight = height;
+			budget.resize(root, TextureBudget.estimate(width, height, MipmapUtil.countLevels(width, height), 1));
+		}
+	}
+
+	/**
+	 * Ajusta as dimensões de uma textura de acordo com o tratamento definido em <code>setSizing</code>.
+	 * Texturas cujas dimensões já são potências de 2 ou enviadas no tamanho exato não são alteradas.
+	 * Pixels em <code>FORMAT_LUMINANCE16</code> são sempre preenchidos, pois o redimensionamento considera bytes de 8 bits.
+	 * @param data objeto contendo os dados da textura sem compactação e com um único nível.
+	 * @return aquisição dos dados que deverão ser enviados ao OpenGL.
+	 */
+
+	private TextureData fitSize(TextureData data)
+	{
+		int width = data.getWidth();
+		int height = data.getHeight();
+
+		if (sizing == TS_EXACT || ((width & (width - 1)) == 0 && (height & (height - 1)) == 0))
+			return data;
+
+		int bpp = data.getFormat().BYTES;
+
+		TextureDataDefault fitted = new TextureDataDefault();
+		fitted.depth = data.getDepth();
+		fitted.format = data.getFormat();
+		fitted.width = data.getTexWidth();
+		fitted.height = data.getTexHeight();
+
+		if (sizing == TS_PAD || fitted.format == FORMAT_LUMINANCE16)
+			fitted.pixels = TextureSizeUtil.pad(data.getPixels(), width, height, bpp, fitted.width, fitted.height);
+		else
+			fitted.pixels = TextureSizeUtil.resample(data.getPixels(), width, height, bpp, fitted.width, fitted.height);
+
+		return fitted;
+	}
+
+	/**
+	 * Determina o formato dos pixels enviados ao OpenGL de acordo com o formato entregue pelo leitor,
+	 * já que os leitores podem entregar RGBA mesmo para imagens de 24 bits (<code>FORMAT_RGBA</code>).
+	 * Formatos que não são constantes de <code>PixelFormat</code> são considerados pela quantidade de bytes.
+	 * @param data objeto contendo os dados da textura sem compactação.
+	 * @return aquisição do código do formato dos pixels no OpenGL.
+	 */
+
+	private int getPixelFormat(TextureData data)
+	{
+		PixelFormat format = getFormat(data);
+
+		if (format == FORMAT_ALPHA || format == FORMAT_LUMINANCE || format == FORMAT_LUMINANCE16)
+			return GL_RED;
+
+		if (format == FORMAT_LUMINANCE_ALPHA)
+			return GL_RG;
+
+		if (format == FORMAT_RGB)
+			return GL_RGB;
+
+		if (format == FORMAT_RGBA || format == FORMAT_ABGR)
+			return GL_RGBA;
+
+		if (format == FORMAT_BGRA)
+			return GL_BGRA;
+
+		switch (format.BYTES)
+		{
+			case 1: return GL_RED;
+			case 2: return GL_RG;
+			case 3: return GL_RGB;
+		}
+
+		return GL_RGBA;
+	}
+
+	/**
+	 * Determina o tipo de dado dos pixels enviados ao OpenGL de acordo com o formato entregue pelo leitor.
+	 * Pixels em <code>FORMAT_ABGR</code> são enviados como inteiros de 32 bits com os componentes na ordem inversa
+	 * e pixels em <code>FORMAT_LUMINANCE16</code> como inteiros de 16 bits sem sinal.
+	 * @param data objeto contendo os dados da textura sem compactação.
+	 * @return aquisição do código do tipo de dado dos pixels no OpenGL.
+	 */
+
+	private int getPixelType(TextureData data)
+	{
+		if (getFormat(data) == FORMAT_LUMINANCE16)
+			return GL_UNSIGNED_SHORT;
+
+		if (getFormat(data) == FORMAT_ABGR)
+			return ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? GL_UNSIGNED_INT_8_8_8_8 : GL_UNSIGNED_INT_8_8_8_8_REV;
+
+		return GL_UNSIGNED_BYTE;
+	}
+
+	/**
+	 * Determina o formato interno usado pelo OpenGL para armazenar os pixels de uma textura sem compactação.
+	 * Pixels em <code>FORMAT_LUMINANCE16</code> mantém a precisão completa em um único canal (<code>GL_R16</code>).
+	 * @param data objeto contendo os dados da textura sem compactação.
+	 * @return aquisição do código do formato interno no OpenGL.
+	 */
+
+	private int getInternalFormat(TextureData data)
+	{
+		return getFormat(data) == FORMAT_LUMINANCE16 ? GL_R16 : GL_RGBA;
+	}
+
+	/**
+	 * Obtém o formato dos pixels de uma textura sem compactação, que deve ser definido pelo leitor.
+	 * @param data objeto contendo os dados da textura sem compactação.
+	 * @return aquisição do formato dos pixels entregue pelo leitor.
+	 */
+
+	private PixelFormat getFormat(TextureData data)
+	{
+		if (data.getFormat() == null)
+			throw new TextureRuntimeException("formato dos pixels não definido (data: %s)", data);
+
+		return data.getFormat();
+	}
+
+	/**
+	 * Recarrega os dados de uma textura a partir do seu arquivo mantendo a mesma identificação no OpenGL.
+	 * Usado pelo orçamento de memória para restaurar texturas que foram reduzidas ou liberadas.
+	 * @param root referência da textura raíz que será recarregada, deve possuir um arquivo de origem.
+	 * @throws TextureException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
+	 */
+
+	void reload(TextureRoot root) throws TextureException
+	{
+		if (root.source == null)
+			throw new TextureException("textura '%s' sem arquivo de origem", root.getFileName());
+
+		try (FileInputStream input = new FileInputStream(root.source)) {
+
+			TextureReader reader = TextureReaderFactory.getInstance().getTextureReaderOf(root.source);
+			TextureData data = reader.readTexture(input, FORMAT_RGBA);
+
+			glBindTexture(root.target.GL_CODE, root.id);
+			upload(root, data);
+
+		} catch (TextureException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new TextureException(e);
+		}
+	}
+
+	/**
+	 * Envia ao OpenGL todos os níveis de mipmap que já vieram prontos nos dados da textura.
+	 * Dados compactados são repassados sem qualquer decodificação e nenhum nível é gerado,
+	 * o mesmo vale para níveis gerados na CPU durante a leitura (<code>MipmapUtil</code>).
+	 * Ao final limita o nível máximo da textura para que ela seja considerada completa.
+	 * @param target código do tipo de textura do OpenGL que se encontra vinculado.
+	 * @param data objeto contendo os dados da textura e seus níveis de mipmap.
+	 */
+
+	private void uploadMipmaps(int target, TextureData data)
+	{
+		int compressedFormat = data.getCompressedFormat();
+
+		glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+
+		for (int level = 0; level < data.getMipmapCount(); level++)
+		{
+			int width = Math.max(1, data.getWidth() >> level);
+			int height = Math.max(1, data.getHeight() >> level);
+
+			if (compressedFormat != 0)
+				glCompressedTexImage2D(target, level, compressedFormat, width, height, 0, data.getMipmap(level));
+			else
+				glTexImage2D(target, level, getInternalFormat(data), width, height, 0, getPixelFormat(data), getPixelType(data), data.getMipmap(level));
+		}
+
+		glTexParameteri(target, GL_TEXTURE_MAX_LEVEL, data.getMipmapCount() - 1);
+	}
+
+	/**
+	 * <p>Permite obter uma determinada textura cúbica já carregada ou então forçar o carregamento desta.
+	 * Se a textura existir irá retornar uma textura temporária dessa raíz caso contrário irá
+	 * criar uma nova raíz carregando as informações do arquivo de acordo com o nome da textura.</p>
+	 * Uma textura cúbica é formado por 6 texturas, portanto para a textura "cubo.png" por exemplo deve existir:
+	 * "cubo_<b>right</b>.png", "cubo_<b>left</b>.png", "cubo_<b>top</b>.png", "cubo_<b>bottom</b>.png", "cubo_<b>back</b>.png", "cubo_<b>front</b>.png".
+	 * @param name nome do qual foi dado a textura, em outras palavras o nome do arquivo,
+	 * caso não seja definido nenhuma extensão para esse, será considerado <b>png</b> por padrão.
+	 * @return aquisição do objeto de textura temporária gerado da raíz de acordo com o nome.
+	 * @throws TextureException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
+	 */
+
+	public Texture getCubeTexture(String name) throws TextureException
+	{
+		if (!name.contains("."))
+			name += ".png";
+
+		ResourceRoot<Texture> resourceRoot = selectResource(name);
+
+		if (resourceRoot != null)
+		{
+			TextureRoot textureRoot = (TextureRoot) resourceRoot;
+
+			if (textureRoot.target == TT_CUBE_MAP)
+				return textureRoot.genResource();
+
+			throw new TextureException("textura '%s' não é CUBE_MAP", name);
+		}
+
+		String path = getPathname() + name;
+		TextureReaderFactory factory = TextureReaderFactory.getInstance();
+		TextureReader reader = factory.getTextureReaderOf(path);
+
+		try {
+
+			String filepath = format("%s/%s", FileUtil.getParentPath(path), FileUtil.getFileName(path));
+			String extension = FileUtil.getExtension(path);
+
+			TextureData data[] = new TextureData[CUBE_FACE_COUNT];
+			data[CUBE_RIGHT_FACE] = reader.readTexture(new FileInputStream(format("%s_right.%s", filepath, extension)), FORMAT_RGBA);
+			data[CUBE_LEFT_FACE] = reader.readTexture(new FileInputStream(format("%s_left.%s", filepath, extension)), FORMAT_RGBA);
+			data[CUBE_TOP_FACE] = reader.readTexture(new FileInputStream(format("%s_top.%s", filepath, extension)), FORMAT_RGBA);
+			data[CUBE_BOTTOM_FACE] = reader.readTexture(new FileInputStream(format("%s_bottom.%s", filepath, extension)), FORMAT_RGBA);
+			data[CUBE_BACK_FACE] = reader.readTexture(new FileInputStream(format("%s_back.%s", filepath, extension)), FORMAT_RGBA);
+			data[CUBE_FRONT_FACE] = reader.readTexture(new FileInputStream(format("%s_front.%s", filepath, extension)), FORMAT_RGBA);
+
+			Texture texture = createCubeTexture(path, data);
+
+			return texture;
+
+		} catch (Exception e) {
+			throw new TextureException(e);
+		}
+	}
+
+	/**
+	 * <p>Permite construir uma nova textura cúbica a partir das informações abaixo.
+	 * Caso o caminho de alocação já esteja sendo usado por outra não será possível criar.
+	 * Se for possível criar, a textura raíz será armazenada e gerada uma temporária.</p>
+	 * @param path caminho onde foi localizado a textura, onde deve ser alocada.
+	 * @param data vetor contendo os dados da textura de cada face do cubo para armazenamento,
+	 * deve possuir <code>CUBE_FACE_COUNT</code> faces e seguir a orgem de <code>CUBE_{i}_FACE</code>,
+	 * onde i deve ser substituido pelo nome face (RIGTH, LEFT, TOP, BOTTOM, FRONT ou BACK).
+	 * @return aquisição de uma textura cúbica de uso temporário.
+	 */
+
+	public Texture createCubeTexture(String path, TextureData[] data)
+	{
+		if (path == null)
+			throw new TextureRuntimeException("caminho não definido");
+
+		if (data == null)
+			throw new TextureRuntimeException("dados da textura não definido");
+
+		if (data.length != CUBE_FACE_COUNT)
+			throw new TextureRuntimeException("texturas cúbicas precisam de %d (imagens) faces", CUBE_FACE_COUNT);
+
+		for (TextureData tData : data)
+			if (tData == null)
+				throw new TextureRuntimeException("uma das faces da textura cúbida não foi definida");
+
+		if (!path.startsWith(getResourceName()))
+		{
+			if (path.contains(getResourceName()+ "/"))
+				path = path.substring(path.indexOf(getResourceName()), path.length());
+			else
+				path = String.format("%s/%s", getResourceName(), path);
+		}
+
+		if (containResource(path))
+			throw new TextureRuntimeException("textura já existente (%s)", path);
+
+		TextureData textureData = data[0];
+
+		TextureRoot root = new TextureRoot(path);
+		root.id = glGenTextures();
+		root.alpha = textureData.getDepth() == 32;
+		root.depth = textureData.getDepth();
+		root.width = textureData.getWidth();
+		root.height = textureData.getHeight();
+		root.target = TT_CUBE_MAP;
+
+		validateLimits(root);
+
+		glActiveTexture(GL_TEXTURE0);
+		glBindTexture(root.target.GL_CODE, root.id);
+		glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+		{
+			for (int i = 0; i < data.length; i++)
+			{
+				TextureData face = fitSize(data[i]);
+				int width = face.getWidth();
+				int height = face.getHeight();
+
+				glTexImage2D(GL_TEXTURE_CUBE_MAP_POSITIVE_X + i, 0, getInternalFormat(face), width, height, 0, getPixelFormat(face), getPixelType(face), face.getPixels());
+
+				root.texWidth = width;
+				root.texHeight = height;
+				root.memory += TextureBudget.estimate(width, height, 1, 1);
+			}
+		}
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+
+		logDebug("textura '%s' lida com êxito (width: %d, height: %d, depth: %d, alpha: %s).\n",
+				root.getFileName(), root.width, root.height, root.depth, root.alpha);
+
+		if (!insertResource(root))
+			logWarning("não foi possível salvar a textura '%s'.\n", root.getFileName());
+
+		budget.register(root);
+
+		return root.genResource();
+	}
+
+	/**
+	 * <p>Permite obter um determinado vetor de texturas já carregado ou então forçar o carregamento deste.
+	 * Se o vetor existir irá retornar uma textura temporária dessa raíz caso contrário irá criar uma
+	 * nova raíz carregando cada uma das camadas a partir dos arquivos de acordo com o nome delas.</p>
+	 * Todas as camadas precisam ter o mesmo tamanho, como as texturas de um terreno (terra, grama, rocha).
+	 * @param name nome do qual será dado ao vetor de texturas para identificá-lo no carregador.
+	 * @param layers nome das texturas que irão compor cada camada do vetor na ordem desejada,
+	 * caso não seja definido nenhuma extensão para esses, será considerado <b>png</b> por padrão.
+	 * @return aquisição do objeto de textura temporária gerado da raíz de acordo com o nome.
+	 * @throws TextureException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
+	 */
+
+	public Texture getTextureArray(String name, String layers[]) throws TextureException
+	{
+		ResourceRoot<Texture> resourceRoot = selectResource(name);
+
+		if (resourceRoot != null)
+		{
+			TextureRoot textureRoot = (TextureRoot) resourceRoot;
+
+			if (textureRoot.target == TT_2D_ARRAY)
+				return textureRoot.genResource();
+
+			throw new TextureException("textura '%s' não é 2D_ARRAY", name);
+		}
+
+		try {
+
+			TextureData data[] = new TextureData[layers.length];
+			TextureReaderFactory factory = TextureReaderFactory.getInstance();
+
+			for (int i = 0; i < layers.length; i++)
+			{
+				String layer = layers[i].contains(".") ? layers[i] : layers[i] + ".png";
+				String path = getPathname() + layer;
+				TextureReader reader = factory.getTextureReaderOf(path);
+
+				try (FileInputStream input = new FileInputStream(path)) {
+					data[i] = reader.readTexture(input, FORMAT_RGBA);
+				}
+			}
+
+			Texture texture = createTextureArray(getPathname() + name, data);
+
+			return texture;
+
+		} catch (Exception e) {
+			throw new TextureException(e);
+		}
+	}
+
+	/**
+	 * <p>Permite construir um novo vetor de texturas (GL_TEXTURE_2D_ARRAY) a partir das informações abaixo.
+	 * Caso o caminho de alocação já esteja sendo usado por outra não será possível criar.
+	 * Se for possível criar, a textura raíz será armazenada e gerada uma temporária.</p>
+	 * Todas as camadas devem possuir o mesmo tamanho e profundidade e não podem ser compactadas.
+	 * Os mipmaps das camadas são usados se todas possuírem a mesma quantidade de níveis.
+	 * @param path caminho onde foi localizado a textura, onde deve ser alocada.
+	 * @param layers vetor contendo os dados de cada camada na ordem em que serão indexadas.
+	 * @return aquisição de um vetor de texturas de uso temporário.
+	 */
+
+	public Texture createTextureArray(String path, TextureData layers[])
+	{
+		if (path == null)
+			throw new TextureRuntimeException("caminho não definido");
+
+		if (layers == null || layers.length == 0)
+			throw new TextureRuntimeException("dados da textura não definido");
+
+		TextureData first = layers[0];
+
+		for (TextureData layer : layers)
+		{
+			if (layer == null)
+				throw new TextureRuntimeException("uma das camadas do vetor de texturas não foi definida");
+
+			if (layer.getWidth() != first.getWidth() || layer.getHeight() != first.getHeight() || layer.getDepth() != first.getDepth())
+				throw new TextureRuntimeException("camadas com tamanhos diferentes (%dx%d, %dx%d)",
+						first.getWidth(), first.getHeight(), layer.getWidth(), layer.getHeight());
+
+			if (layer.getCompressedFormat() != 0)
+				throw new TextureRuntimeException("camadas compactadas não suportadas");
+		}
+
+		if (!path.startsWith(getResourceName()))
+		{
+			if (path.contains(getResourceName()+ "/"))
+				path = path.substring(path.indexOf(getResourceName()), path.length());
+			else
+				path = String.format("%s/%s", getResourceName(), path);
+		}
+
+		if (containResource(path))
+			throw new TextureRuntimeException("textura já existente (%s)", path);
+
+		TextureRoot root = new TextureRoot(path);
+		root.id = glGenTextures();
+		root.alpha = first.getDepth() == 32;
+		root.depth = first.getDepth();
+		root.width = first.getWidth();
+		root.height = first.getHeight();
+		root.texWidth = first.getWidth();
+		root.texHeight = first.getHeight();
+		root.layers = layers.length;
+		root.target = TT_2D_ARRAY;
+
+		validateLimits(root);
+
+		int format = getPixelFormat(first);
+		int type = getPixelType(first);
+		int internalFormat = getInternalFormat(first);
+		int levels = first.getMipmapCount();
+
+		for (TextureData layer : layers)
+			if (layer.getMipmapCount() != levels)
+				levels = 1;
+
+		glBindTexture(root.target.GL_CODE, root.id);
+		glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+
+		for (int level = 0; level < levels; level++)
+		{
+			int width = Math.max(1, root.width >> level);
+			int height = Math.max(1, root.height >> level);
+
+			glTexImage3D(root.target.GL_CODE, level, internalFormat, width, height, layers.length, 0, format, type, (ByteBuffer) null);
+
+			for (int i = 0; i < layers.length; i++)
+				glTexSubImage3D(root.target.GL_CODE, level, 0, 0, i, width, height, 1, format, type, layers[i].getMipmap(level));
+		}
+
+		if (levels > 1)
+			glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAX_LEVEL, levels - 1);
+		else
+		{
+			glGenerateMipmap(root.target.GL_CODE);
+			levels = MipmapUtil.countLevels(root.width, root.height);
+		}
+
+		root.memory = TextureBudget.estimate(root.width, root.height, levels, root.layers);
+
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
+		glTexParameteri(root.target.GL_CODE, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+
+		logDebug("vetor de texturas '%s' lido com êxito (width: %d, height: %d, depth: %d, layers: %d).\n",
+				root.getFileName(), root.width, root.height, root.depth, root.layers);
+
+		if (!insertResource(root))
+			logWarning("não foi possível salvar a textura '%s'.\n", root.getFileName());
+
+		budget.register(root);
+
+		return root.genResource();
+	}
+
+	/**
+	 * Procedimento que irá fazer a verificação da validade dos dados de uma raíz para textura.
+	 * As verificações consistem em verificar se o tamanho da imagem está dentro dos limites.
+	 * Como também averiguar se o depth da imagem possui um valor aceitável.
+	 * @param root referência da raíz de textura do qual será validada.
+	 */
+
+	private void validateLimits(TextureRoot root)
+	{
+		validateLimits(root.width, root.height, root.depth);
+	}
+
+	/**
+	 * Procedimento que irá fazer a verificação da validade das dimensões e depth de uma textura.
+	 * Usado diretamente quando os dados ainda não foram atribuídos a raíz, como na transmissão.
+	 * @param width largura da imagem em pixels.
+	 * @param height altura da imagem em pixels.
+	 * @param depth quantidade de bits por pixel da imagem.
+	 */
+
+	private void validateLimits(int width, int height, int depth)
+	{
+		if (!IntUtil.interval(width, MIN_TEXTURE_SIZE, MAX_TEXTURE_SIZE))
+			throw new TextureRuntimeException("falha ao alocar textura (width: %d, min: %d, max: %d)",
+					width, MIN_TEXTURE_SIZE, MAX_TEXTURE_SIZE);
+
+		if (!IntUtil.interval(height, MIN_TEXTURE_SIZE, MAX_TEXTURE_SIZE))
+			throw new TextureRuntimeException("falha ao alocar textura (height: %d, min: %d, max: %d)",
+					height, MIN_TEXTURE_SIZE, MAX_TEXTURE_SIZE);
+
+		if (depth != 24 && depth != 32)
+			throw new TextureRuntimeException("depth inválido (depth: %d)", depth);
+	}
+
+	/**
+	 * Procedimento que permite obter a única instância do carregador de texturas.
+	 * Utiliza o padrão Singleton para evitar a existência de mais instâncias.
+	 * @return aquisição da instância para utilização do carregador de texturas.
+	 */
+
+	public static TextureLoader getInstance()
+	{
+		return instance;
+	}
+}
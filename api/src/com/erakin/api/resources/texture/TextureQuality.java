@@ -0,0 +1,65 @@
+package com.erakin.api.resources.texture;
+
+/**
+ * <h1>Qualidade de Textura</h1>
+ *
+ * <p>Define em qual resolução as texturas serão lidas dos arquivos. Qualidades inferiores descartam
+ * os maiores níveis de mipmap ainda durante a leitura, ou seja, a textura já é armazenada com metade
+ * ou um quarto da resolução original, reduzindo o consumo de memória e o tempo de leitura.</p>
+ *
+ * <p>Usado através das preferências de vídeo com a opção <b>textureQuality</b> (0, 1 ou 2).</p>
+ *
+ * @see TextureReaderFactory
+ * @see TextureReducer
+ *
+ * @author Andrew
+ */
+
+public enum TextureQuality
+{
+	/**
+	 * Texturas em resolução original.
+	 */
+	TQ_HIGH(0),
+
+	/**
+	 * Texturas com metade da resolução original.
+	 */
+	TQ_MEDIUM(1),
+
+	/**
+	 * Texturas com um quarto da resolução original.
+	 */
+	TQ_LOW(2);
+
+	/**
+	 * Quantidade de níveis de mipmap descartados durante a leitura.
+	 */
+	public final int SKIP_LEVELS;
+
+	/**
+	 * Cria uma nova qualidade de textura definindo quantos níveis de mipmap serão descartados.
+	 * @param skipLevels quantidade de níveis de mipmap descartados durante a leitura.
+	 */
+
+	private TextureQuality(int skipLevels)
+	{
+		SKIP_LEVELS = skipLevels;
+	}
+
+	/**
+	 * Converte um valor numérico das preferências de vídeo em uma qualidade de textura.
+	 * Valores fora do intervalo são limitados à qualidade mais próxima.
+	 * @param value quantidade de níveis de mipmap que deverão ser descartados.
+	 * @return aquisição da qualidade de textura correspondente ao valor.
+	 */
+
+	public static TextureQuality parse(int value)
+	{
+		for (TextureQuality quality : values())
+			if (quality.SKIP_LEVELS == value)
+				return quality;
+
+		return value < 0 ? TQ_HIGH : TQ_LOW;
+	}
+}
@@ -0,0 +1,223 @@
+package com.erakin.api.resources.texture;
+
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGB;
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
+
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.buffer.BufferInput;
+
+/**
+ * <h1>Leitor de Textura Pré-Compactada</h1>
+ *
+ * <p>Leitor especializado em formatos de arquivo que funcionam apenas como recipientes (DDS, KTX).
+ * Nesses formatos os dados já se encontram no formato final em que serão enviados ao OpenGL,
+ * incluindo blocos compactados (DXT, BC, ETC) e todos os níveis de mipmap já gerados.</p>
+ *
+ * <p>Ao contrário de <code>TextureReaderDefault</code> aqui não há decodificação dos pixels.
+ * A implementação precisa apenas analisar o cabeçalho e informar onde cada nível se encontra,
+ * os bytes são copiados para um único buffer direto e cada nível é uma fatia deste.</p>
+ *
+ * @see TextureReader
+ * @see TextureDataDefault
+ *
+ * @author Andrew
+ */
+
+public abstract class TextureReaderCompressed implements TextureReader
+{
+	/**
+	 * Formato de saída solicitado (não se aplica a dados compactados).
+	 */
+	private PixelFormat outputFormat;
+
+	@Override
+	public PixelFormat getOutputFormat()
+	{
+		return outputFormat;
+	}
+
+	@Override
+	public void setOutputFormat(PixelFormat format)
+	{
+		if (format != null)
+			this.outputFormat = format;
+	}
+
+	@Override
+	public TextureData readTexture(FileInputStream fileInputStream) throws TextureException
+	{
+		return readTexture(fileInputStream, outputFormat);
+	}
+
+	@Override
+	public TextureData readTexture(FileInputStream fileInputStream, PixelFormat output) throws TextureException
+	{
+		setOutputFormat(output);
+
+		Buffer buffer = new BufferInput(fileInputStream);
+
+		if (buffer.length() == 0)
+			throw new TextureException("falha na leitura");
+
+		parseBuffer(buffer);
+
+		int levels = getMipmapCount();
+
+		if (levels < 1)
+			throw new TextureException("nenhum nível de mipmap encontrado");
+
+		int start = getMipmapOffset(0);
+		int end = getMipmapOffset(levels - 1) + getMipmapLength(levels - 1);
+
+		if (start < 0 || end > buffer.length() || start >= end)
+			throw new TextureException("dados da textura incompletos (esperado: %d, lido: %d)", end, buffer.length());
+
+		ByteBuffer payload = BufferUtils.createByteBuffer(end - start);
+		payload.put(buffer.getDate(), start, end - start);
+		payload.flip();
+
+		TextureDataDefault data = new TextureDataDefault();
+		data.depth = getDepth();
+		data.width = getWidth();
+		data.height = getHeight();
+		data.compressedFormat = getCompressedFormat();
+		data.format = data.compressedFormat != 0 ? null : data.depth == 32 ? FORMAT_RGBA : FORMAT_RGB;
+		data.mipmaps = new ByteBuffer[levels];
+
+		for (int level = 0; level < levels; level++)
+		{
+			int offset = getMipmapOffset(level) - start;
+			int length = getMipmapLength(level);
+
+			if (offset < 0 || offset + length > payload.capacity())
+				throw new TextureException("nível de mipmap fora dos limites (level: %d)", level);
+
+			payload.limit(offset + length);
+			payload.position(offset);
+			data.mipmaps[level] = payload.slice();
+			payload.clear();
+
+			if (data.compressedFormat == 0 && getRowAlignment() > 1)
+				data.mipmaps[level] = removeRowPadding(data.mipmaps[level], level, data);
+		}
+
+		data.pixels = data.mipmaps[0];
+
+		return data;
+	}
+
+	/**
+	 * Remove o preenchimento ao final de cada linha de um nível sem compactação, já que o carregador
+	 * envia os pixels ao OpenGL com alinhamento de 1 byte. Níveis sem preenchimento não são copiados.
+	 * @param pixels fatia do buffer contendo os bytes do nível como se encontram no arquivo.
+	 * @param level número do nível de mipmap, usado para obter as suas dimensões.
+	 * @param data objeto contendo as informações do nível base da textura.
+	 * @return aquisição dos pixels do nível com as linhas contínuas.
+	 * @throws TextureException se o nível não possuir bytes suficientes para todas as linhas.
+	 */
+
+	private ByteBuffer removeRowPadding(ByteBuffer pixels, int level, TextureData data) throws TextureException
+	{
+		int width = Math.max(1, data.getWidth() >> level);
+		int height = Math.max(1, data.getHeight() >> level);
+		int alignment = getRowAlignment();
+		int rowSize = width * (data.getDepth() / 8);
+		int rowStride = (rowSize + alignment - 1) / alignment * alignment;
+
+		if (rowStride == rowSize)
+			return pixels;
+
+		if (pixels.remaining() < rowStride * (height - 1) + rowSize)
+			throw new TextureException("nível de mipmap incompleto (level: %d)", level);
+
+		ByteBuffer tight = BufferUtils.createByteBuffer(rowSize * height);
+
+		for (int y = 0; y < height; y++)
+		{
+			pixels.limit(y * rowStride + rowSize);
+			pixels.position(y * rowStride);
+			tight.put(pixels);
+		}
+
+		tight.flip();
+
+		return tight;
+	}
+
+	/**
+	 * Alinhamento em bytes de cada linha de pixels dos níveis sem compactação no arquivo.
+	 * Formatos que preenchem o final das linhas devem sobrescrever, o padrão é sem preenchimento.
+	 * @return aquisição do alinhamento das linhas em bytes.
+	 */
+
+	protected int getRowAlignment()
+	{
+		return 1;
+	}
+
+	/**
+	 * Chamado internamente para indicar a profundidade da imagem após ser descompactada pelo OpenGL.
+	 * Para formatos compactados deve ser 32 se houver canal alpha ou 24 caso contrário.
+	 * @return aquisição de quantos bits são necessários para formar um único pixel da imagem.
+	 */
+
+	protected abstract int getDepth();
+
+	/**
+	 * Chamado internamente para obter a largura do nível base da textura em pixels.
+	 * @return aquisição do tamanho da imagem no eixo da largura em pixels.
+	 */
+
+	protected abstract int getWidth();
+
+	/**
+	 * Chamado internamente para obter a altura do nível base da textura em pixels.
+	 * @return aquisição do tamanho da imagem no eixo da altura em pixels.
+	 */
+
+	protected abstract int getHeight();
+
+	/**
+	 * Formato interno do OpenGL em que os blocos compactados se encontram armazenados.
+	 * @return aquisição do código do formato compactado ou 0 se os dados forem pixels RGBA/RGB.
+	 */
+
+	protected abstract int getCompressedFormat();
+
+	/**
+	 * Quantidade de níveis de mipmap encontrados no arquivo, incluindo o nível base.
+	 * @return aquisição do número de níveis que deverão ser enviados ao OpenGL.
+	 */
+
+	protected abstract int getMipmapCount();
+
+	/**
+	 * Posição em que se iniciam os bytes de um determinado nível de mipmap no arquivo.
+	 * Os níveis devem estar em ordem crescente de posição, do nível base ao menor.
+	 * @param level número do nível de mipmap do qual deseja a posição.
+	 * @return aquisição da posição em bytes a partir do início do arquivo.
+	 */
+
+	protected abstract int getMipmapOffset(int level);
+
+	/**
+	 * Quantidade de bytes ocupados por um determinado nível de mipmap no arquivo.
+	 * @param level número do nível de mipmap do qual deseja o tamanho.
+	 * @return aquisição do tamanho em bytes dos dados do nível.
+	 */
+
+	protected abstract int getMipmapLength(int level);
+
+	/**
+	 * Será chamado após fazer a criação do buffer que irá conter todos os bytes da textura.
+	 * Deverá analisar o cabeçalho e determinar a posição e o tamanho de cada nível de mipmap.
+	 * @param buffer referência do buffer do qual vai conter todos os bytes da textura.
+	 */
+
+	protected abstract void parseBuffer(Buffer buffer);
+}
@@ -1,159 +1,337 @@
-package com.erakin.api.resources.texture;
-
-import java.io.FileInputStream;
-import java.nio.ByteBuffer;
-
-import org.lwjgl.BufferUtils;
-
-import com.erakin.api.buffer.Buffer;
-import com.erakin.api.buffer.BufferInput;
-
-/**
- * <h1>Carregador de Textura Padro</h1>
- *
- * <p>Carregador de modelo  a implementao de um carregador de dados para modelo.
- * Implementando todos os getters e definindo os atributos que so em comum.
- * Assim, todos os tipos de carregadores de modelos sero implementados facilmente.</p>
- *
- * @see TextureReader
- *
- * @author Andrew
- */
-
-public abstract class TextureReaderDefault implements TextureReader
-{
-	/**
-	 * Em qual formato os dados sero carregados.
-	 */
-	private PixelFormat inputFormat;
-
-	/**
-	 * Em qual formato os dados devero ser armazenados.
-	 */
-	private PixelFormat outputFormat;
-
-	/**
-	 * Cria um novo leitor para texturas sendo necessrio definir o formato dos pixels padro.
-	 * Cada tipo de imagem possui um formato de pixels padro para o mesmo, como RGB ou RGBA.
-	 * @param defaultFormat qual ser o formato padro que ser assumido se nenhum for definido.
-	 */
-
-	public TextureReaderDefault(PixelFormat defaultFormat)
-	{
-		outputFormat = defaultFormat;
-		inputFormat = defaultFormat;
-	}
-
-	/**
-	 * Formato de entrada ir indicar qual o formato de pixels que ser aceito como entrada.
-	 * Isso  usado ainda pra prevenir que formatos inadequados ou inexistentes sejam usados.
-	 * @return aquisio do formato de pixels que ser aceito durante a entrada de dados.
-	 */
-
-	public PixelFormat getInputFormat()
-	{
-		return inputFormat;
-	}
-
-	/**
-	 * Permite definir qual ser o formato em que os pixels estaro armazenados em sua leitura.
-	 * Isso permite a um leitor de textura ampliar seu leque de imagens disponveis para leitura.
-	 * @param format referncia do formato de pixels que ser aceito durante a entrada de dados.
-	 */
-
-	public void setInputFormat(PixelFormat format)
-	{
-		if (format != null)
-			this.inputFormat = format;
-	}
-
-	@Override
-	public PixelFormat getOutputFormat()
-	{
-		return outputFormat;
-	}
-
-	@Override
-	public void setOutputFormat(PixelFormat format)
-	{
-		if (format != null)
-			this.outputFormat = format;
-	}
-
-	@Override
-	public TextureData readTexture(FileInputStream fileInputStream) throws TextureException
-	{
-		return readTexture(fileInputStream, outputFormat);
-	}
-
-	@Override
-	public TextureData readTexture(FileInputStream fileInputStream, PixelFormat output) throws TextureException
-	{
-		setOutputFormat(output);
-
-		Buffer buffer = new BufferInput(fileInputStream);
-
-		if (buffer.length() == 0)
-			throw new TextureException("falha na leitura");
-
-		parseBuffer(buffer);
-
-		int size = getWidth() * getHeight() * output.BYTES;
-
-		ByteBuffer pixels = BufferUtils.createByteBuffer(size);
-		parsePixels(pixels, output);
-
-		TextureDataDefault data = new TextureDataDefault();
-		data.depth = getDepth();
-		data.width = getWidth();
-		data.height = getHeight();
-		data.pixels = pixels;
-		pixels.flip();
-
-		return data;
-	}
-
-	/**
-	 * Chamado internamente para indicar a profundidade da imagem afim de guardar como dado da textura.
-	 * O mais comum de se encontrar so depth de 24bits e 32bits representados normalmente por RGB ou RGBA.
-	 * @return aquisio de quantos bits so necessrios para formar um nico pixel da imagem.
-	 */
-
-	protected abstract int getDepth();
-
-	/**
-	 * Chamado internamente para indicar o tamanho da imagem em pixels e calcular o tamanho do buffer.
-	 * O buffer em questo  para armazenamento exclusivo para dados dos pixels puros.
-	 * @return aquisio do tamanho da imagem no eixo da largura em pixels.
-	 */
-
-	protected abstract int getWidth();
-
-	/**
-	 * Chamado internamente para indicar o tamanho da imagem em pixels e calcular o tamanho do buffer.
-	 * O buffer em questo  para armazenamento exclusivo para dados dos pixels em seu formato cru.
-	 * @return aquisio do tamanho da imagem no eixo da altura em pixels.
-	 */
-
-	protected abstract int getHeight();
-
-	/**
-	 * Ser chamado aps fazer a criao do buffer que ir conter todos os bytes da textura.
-	 * Esses bytes devero ser analisados e convertidos de forma adequada para TextureData.
-	 * @param buffer referncia do buffer do qual vai conter todos os bytes da textura.
-	 * @return objeto contendo as informaes necessrias para se criar uma textura.
-	 */
-
-	protected abstract void parseBuffer(Buffer buffer);
-
-	/**
-	 * Chamado internamente somente aps fazer a leitura dos dados bsicos necessrios da imagem.
-	 * Dever garantir que os dados carregas da imagem sejam convertidos em pixels puros.
-	 * No caso, pixels em formato puro significa que no deve ter regras ou compactao.
-	 * O tamanho do buffer criado ser de acordo com a largura, altura e formato de anlise.
-	 * @param buffer referncia do buffer criado com o tamanho limite que poder possuir.
-	 * @param output formato em que os pixels devero ser armazenados na anlise da textura.
-	 */
-
-	protected abstract void parsePixels(ByteBuffer buffer, PixelFormat output);
-}
+package com.erakin.api.resources.texture;
+
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.buffer.BufferInput;
+
+/**
+ * <h1>Carregador de Textura Padrão</h1>
+ *
+ * <p>Carregador de modelo é a implementação de um carregador de dados para modelo.
+ * Implementando todos os getters e definindo os atributos que são em comum.
+ * Assim, todos os tipos de carregadores de modelos serão implementados facilmente.</p>
+ *
+ * @see TextureReader
+ *
+ * @author Andrew
+ */
+
+public abstract class TextureReaderDefault implements TextureReader
+{
+	/**
+	 * Menor tamanho em pixels que uma textura pode ter ao ser reduzida pela qualidade.
+	 */
+	public static final int MIN_REDUCED_SIZE = 16;
+
+	/**
+	 * Em qual formato os dados serão carregados.
+	 */
+	private PixelFormat inputFormat;
+
+	/**
+	 * Em qual formato os dados deverão ser armazenados.
+	 */
+	private PixelFormat outputFormat;
+
+	/**
+	 * Gerar a cadeia de mipmaps durante a leitura.
+	 */
+	private boolean mipmaps;
+
+	/**
+	 * Considerar os canais de cor em sRGB ao gerar mipmaps.
+	 */
+	private boolean srgb;
+
+	/**
+	 * Arquivo de origem confiável, dispensa verificações não essenciais.
+	 */
+	private boolean trusted;
+
+	/**
+	 * Níveis de mipmap descartados além dos definidos pela qualidade.
+	 */
+	private int reduction;
+
+	/**
+	 * Cria um novo leitor para texturas sendo necessário definir o formato dos pixels padrão.
+	 * Cada tipo de imagem possui um formato de pixels padrão para o mesmo, como RGB ou RGBA.
+	 * @param defaultFormat qual será o formato padrão que será assumido se nenhum for definido.
+	 */
+
+	public TextureReaderDefault(PixelFormat defaultFormat)
+	{
+		outputFormat = defaultFormat;
+		inputFormat = defaultFormat;
+		srgb = true;
+	}
+
+	/**
+	 * Formato de entrada irá indicar qual o formato de pixels que será aceito como entrada.
+	 * Isso é usado ainda pra prevenir que formatos inadequados ou inexistentes sejam usados.
+	 * @return aquisição do formato de pixels que será aceito durante a entrada de dados.
+	 */
+
+	public PixelFormat getInputFormat()
+	{
+		return inputFormat;
+	}
+
+	/**
+	 * Permite definir qual será o formato em que os pixels estarão armazenados em sua leitura.
+	 * Isso permite a um leitor de textura ampliar seu leque de imagens disponíveis para leitura.
+	 * @param format referência do formato de pixels que será aceito durante a entrada de dados.
+	 */
+
+	public void setInputFormat(PixelFormat format)
+	{
+		if (format != null)
+			this.inputFormat = format;
+	}
+
+	@Override
+	public PixelFormat getOutputFormat()
+	{
+		return outputFormat;
+	}
+
+	@Override
+	public void setOutputFormat(PixelFormat format)
+	{
+		if (format != null)
+			this.outputFormat = format;
+	}
+
+	/**
+	 * Quando habilitado a cadeia de mipmaps será gerada na CPU logo após a leitura dos pixels.
+	 * Como a leitura não depende do OpenGL, isso pode ser feito fora da thread de renderização.
+	 * @return true se deve gerar os mipmaps durante a leitura ou false caso contrário.
+	 */
+
+	public boolean isMipmaps()
+	{
+		return mipmaps;
+	}
+
+	/**
+	 * Permite definir se a cadeia de mipmaps deverá ser gerada na CPU durante a leitura.
+	 * Caso não seja gerada, o carregador irá gerar os níveis através do próprio OpenGL.
+	 * @param mipmaps true para gerar os mipmaps durante a leitura ou false caso contrário.
+	 */
+
+	public void setMipmaps(boolean mipmaps)
+	{
+		this.mipmaps = mipmaps;
+	}
+
+	/**
+	 * Texturas de cores normalmente são armazenadas em sRGB e devem ser filtradas no espaço linear.
+	 * Texturas de dados como mapas de normais ou alturas não devem ser tratadas como sRGB.
+	 * @return true se os canais de cor forem considerados sRGB ao gerar mipmaps.
+	 */
+
+	public boolean isSRGB()
+	{
+		return srgb;
+	}
+
+	/**
+	 * Permite definir se os canais de cor serão considerados sRGB ao gerar os mipmaps.
+	 * @param srgb true para considerar em sRGB ou false para considerar linear.
+	 */
+
+	public void setSRGB(boolean srgb)
+	{
+		this.srgb = srgb;
+	}
+
+	/**
+	 * Arquivos confiáveis (pacotes assinados do próprio jogo) dispensam verificações de integridade
+	 * como CRC e a revalidação de campos do cabeçalho, mantendo apenas as verificações de limites
+	 * que impedem a leitura fora dos dados quando um arquivo estiver corrompido.
+	 * @return true se o arquivo lido for considerado confiável ou false caso contrário.
+	 */
+
+	public boolean isTrusted()
+	{
+		return trusted;
+	}
+
+	/**
+	 * Definido pela fábrica de leitores apenas nas instâncias criadas para arquivos confiáveis,
+	 * o leitor registrado só é alterado se for definido diretamente por quem o registrou.
+	 * @param trusted true para considerar o arquivo confiável ou false para verificar tudo.
+	 */
+
+	public void setTrusted(boolean trusted)
+	{
+		this.trusted = trusted;
+	}
+
+	/**
+	 * A redução é somada aos níveis descartados pela qualidade, usada para ler uma textura em
+	 * resolução inferior a que foi carregada, por exemplo ao reduzir texturas pelo orçamento.
+	 * @return aquisição da quantidade de níveis de mipmap descartados além da qualidade.
+	 */
+
+	public int getReduction()
+	{
+		return reduction;
+	}
+
+	/**
+	 * Permite definir quantos níveis de mipmap devem ser descartados além dos definidos pela qualidade.
+	 * Não é copiado para novas instâncias do leitor, deve ser definido em cada leitura que precisar.
+	 * @param reduction quantidade de níveis de mipmap descartados além da qualidade.
+	 */
+
+	public void setReduction(int reduction)
+	{
+		this.reduction = Math.max(0, reduction);
+	}
+
+	@Override
+	public TextureData readTexture(FileInputStream fileInputStream) throws TextureException
+	{
+		return readTexture(fileInputStream, outputFormat);
+	}
+
+	@Override
+	public TextureData readTexture(FileInputStream fileInputStream, PixelFormat output) throws TextureException
+	{
+		setOutputFormat(output);
+
+		Buffer buffer = new BufferInput(fileInputStream);
+
+		if (buffer.length() == 0)
+			throw new TextureException("falha na leitura");
+
+		parseBuffer(buffer);
+
+		TextureDataDefault data = new TextureDataDefault();
+		data.depth = getDepth();
+		data.width = getWidth();
+		data.height = getHeight();
+		data.format = output;
+
+		int levels = getSkipLevels(data.width, data.height);
+
+		if (levels > 0)
+		{
+			TextureReducer reducer = new TextureReducer(data.width, data.height, output.BYTES, levels);
+
+			if (!parsePixels(reducer, output))
+			{
+				ByteBuffer pixels = BufferUtils.createByteBuffer(data.width * data.height * output.BYTES);
+				parsePixels(pixels, output);
+				pixels.flip();
+
+				for (int y = 0; y < data.height; y++)
+				{
+					pixels.limit((y + 1) * data.width * output.BYTES);
+					reducer.getRow().put(pixels);
+					reducer.pushRow();
+				}
+			}
+
+			data.width = reducer.getWidth();
+			data.height = reducer.getHeight();
+			data.pixels = reducer.getPixels();
+		}
+
+		else
+		{
+			ByteBuffer pixels = BufferUtils.createByteBuffer(data.width * data.height * output.BYTES);
+			parsePixels(pixels, output);
+			pixels.flip();
+
+			data.pixels = pixels;
+		}
+
+		if (mipmaps)
+			data.mipmaps = MipmapUtil.generate(data.pixels, data.width, data.height, output, srgb);
+
+		return data;
+	}
+
+	/**
+	 * Determina quantos níveis de mipmap serão descartados de acordo com a qualidade e a redução.
+	 * A redução nunca deixa a textura com menos de <code>MIN_REDUCED_SIZE</code> pixels em algum eixo.
+	 * @param width largura da imagem original em pixels.
+	 * @param height altura da imagem original em pixels.
+	 * @return aquisição da quantidade de níveis de mipmap que serão descartados.
+	 */
+
+	protected int getSkipLevels(int width, int height)
+	{
+		int levels = TextureReaderFactory.getInstance().getQuality().SKIP_LEVELS + reduction;
+
+		while (levels > 0 && ((width >> levels) < MIN_REDUCED_SIZE || (height >> levels) < MIN_REDUCED_SIZE))
+			levels--;
+
+		return levels;
+	}
+
+	/**
+	 * Chamado internamente para indicar a profundidade da imagem afim de guardar como dado da textura.
+	 * O mais comum de se encontrar são depth de 24bits e 32bits representados normalmente por RGB ou RGBA.
+	 * @return aquisição de quantos bits são necessários para formar um único pixel da imagem.
+	 */
+
+	protected abstract int getDepth();
+
+	/**
+	 * Chamado internamente para indicar o tamanho da imagem em pixels e calcular o tamanho do buffer.
+	 * O buffer em questão é para armazenamento exclusivo para dados dos pixels puros.
+	 * @return aquisição do tamanho da imagem no eixo da largura em pixels.
+	 */
+
+	protected abstract int getWidth();
+
+	/**
+	 * Chamado internamente para indicar o tamanho da imagem em pixels e calcular o tamanho do buffer.
+	 * O buffer em questão é para armazenamento exclusivo para dados dos pixels em seu formato cru.
+	 * @return aquisição do tamanho da imagem no eixo da altura em pixels.
+	 */
+
+	protected abstract int getHeight();
+
+	/**
+	 * Será chamado após fazer a criação do buffer que irá conter todos os bytes da textura.
+	 * Esses bytes deverão ser analisados e convertidos de forma adequada para TextureData.
+	 * @param buffer referência do buffer do qual vai conter todos os bytes da textura.
+	 * @return objeto contendo as informações necessárias para se criar uma textura.
+	 */
+
+	protected abstract void parseBuffer(Buffer buffer);
+
+	/**
+	 * Chamado internamente somente após fazer a leitura dos dados básicos necessários da imagem.
+	 * Deverá garantir que os dados carregas da imagem sejam convertidos em pixels puros.
+	 * No caso, pixels em formato puro significa que não deve ter regras ou compactação.
+	 * O tamanho do buffer criado será de acordo com a largura, altura e formato de análise.
+	 * @param buffer referência do buffer criado com o tamanho limite que poderá possuir.
+	 * @param output formato em que os pixels deverão ser armazenados na análise da textura.
+	 */
+
+	protected abstract void parsePixels(ByteBuffer buffer, PixelFormat output);
+
+	/**
+	 * Chamado internamente quando a textura for lida em qualidade inferior, para que a imagem em resolução
+	 * completa não precise ser armazenada. Deverá decodificar cada linha em <code>reducer.getRow()</code> e
+	 * chamar <code>reducer.pushRow()</code> na sequência. Por padrão não é suportado e a imagem será
+	 * decodificada por <code>parsePixels(ByteBuffer, PixelFormat)</code> e só então reduzida.
+	 * @param reducer referência do redutor que irá receber as linhas da imagem original.
+	 * @param output formato em que os pixels deverão ser armazenados na análise da textura.
+	 * @return true se as linhas foram decodificadas no redutor ou false se não for suportado.
+	 */
+
+	protected boolean parsePixels(TextureReducer reducer, PixelFormat output)
+	{
+		return false;
+	}
+}
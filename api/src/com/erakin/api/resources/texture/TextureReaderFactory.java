@@ -1,91 +1,275 @@
-package com.erakin.api.resources.texture;
-
-import org.diverproject.util.FileUtil;
-import org.diverproject.util.collection.Map;
-import org.diverproject.util.collection.abstraction.StringSimpleMap;
-
-/**
- * <h1>Fbrica para Leitor de Texturas</h1>
- *
- * <p>Essa classe dever conter mtodos que permitem a criao de objetos contendo
- * os dados das texturas passadas de acordo com o caminho do arquivo especificado
- * em disco, para assim carreg-lo e trat-lo da maneira mais apropriada.</p>
- *
- * <p>Tratamento tal que dever verificar a extenso do arquivo para adequar a forma
- * em que os dados sero lidos afim de entender como o modelo funciona e onde e
- * como as suas informaes esto armazenados dentro do arquivo em questo.</p>
- *
- * @see Map
- * @see TextureReader
- *
- * @author Andrew
- */
-
-public class TextureReaderFactory
-{
-	/**
-	 * Referncia do objeto TextureReaderFactory para adaptar ao padro de projetos Singleton.
-	 */
-	private static final TextureReaderFactory INSTANCE = new TextureReaderFactory();
-
-	/**
-	 * Lista contendo todas os leitores das extenses de texturas.
-	 */
-	private Map<String, TextureReader> readers;
-
-	/**
-	 * Construtor privado para respeitar o padro de projetos Singleton.
-	 * Inicializa o mapeamento de leitores disponveis adicionando os padres.
-	 */
-
-	private TextureReaderFactory()
-	{
-		readers = new StringSimpleMap<TextureReader>();
-	}
-
-	/**
-	 * Atravs do caminho do arquivo carregado, identifica a extenso do mesmo.
-	 * Aps identificar a extenso ir procurar se existe um leitor para tal.
-	 * @param path caminho contendo a extenso do arquivo a ser lido.
-	 * @return aquisio do leitor de textura a partir da extenso.
-	 */
-
-	public TextureReader getTextureReaderOf(String path)
-	{
-		String extension = FileUtil.getExtension(path).toLowerCase();
-		TextureReader reader = readers.get(extension);
-
-		if (reader == null)
-			throw new TextureRuntimeException("extenso '%s' no suportada", extension);
-
-		return reader;
-	}
-
-	/**
-	 * Adiciona um novo leitor para carregamento de texturas como opo de leitura.
-	 * Caso um leitor para a extenso passada j exista ele ser substitudo pela nova.
-	 * @param extension tipo de extenso de arquivo do qual ser suportado a leitura.
-	 * @param reader referncia do leitor que ser usado para a extenso acima.
-	 */
-
-	public void addTextureReader(String extension, TextureReader reader)
-	{
-		if (readers.containsKey(extension))
-			readers.update(extension, reader);
-		else
-			readers.add(extension, reader);
-	}
-
-	/**
-	 * TextureReaderFactory utiliza o padro de projetos Singleton que permite a criao de apenas um objeto do tipo.
-	 * Esse padro  usado para que no seja possvel criar mais do que uma fbrica para dados de texturas.
-	 * No h necessidade na existncia de dois objetos deste, procedimentos no estticos pois no deve
-	 * funcionar como um utilitrio, mas sim com uma espcie de gerenciador, gerenciado texturas em disco.
-	 * @return aquisio da referncia do objeto fbrica para leitores de texturas em disco.
-	 */
-
-	public static TextureReaderFactory getInstance()
-	{
-		return INSTANCE;
-	}
-}
+package com.erakin.api.resources.texture;
+
+import static org.diverproject.util.Util.nameOf;
+
+import org.diverproject.util.FileUtil;
+import org.diverproject.util.collection.List;
+import org.diverproject.util.collection.Map;
+import org.diverproject.util.collection.abstraction.DynamicList;
+import org.diverproject.util.collection.abstraction.StringSimpleMap;
+
+/**
+ * <h1>Fábrica para Leitor de Texturas</h1>
+ *
+ * <p>Essa classe deverá conter métodos que permitem a criação de objetos contendo
+ * os dados das texturas passadas de acordo com o caminho do arquivo especificado
+ * em disco, para assim carregá-lo e tratá-lo da maneira mais apropriada.</p>
+ *
+ * <p>Tratamento tal que deverá verificar a extensão do arquivo para adequar a forma
+ * em que os dados serão lidos afim de entender como o modelo funciona e onde e
+ * como as suas informações estão armazenados dentro do arquivo em questão.</p>
+ *
+ * <p>Arquivos confiáveis, seja por todos serem confiáveis ou por estarem em uma pasta de pacote confiável,
+ * são lidos sem verificações não essenciais (CRC, revalidação de cabeçalhos), o que é informado ao leitor.</p>
+ *
+ * @see Map
+ * @see TextureReader
+ *
+ * @author Andrew
+ */
+
+public class TextureReaderFactory
+{
+	/**
+	 * Referência do objeto TextureReaderFactory para adaptar ao padrão de projetos Singleton.
+	 */
+	private static final TextureReaderFactory INSTANCE = new TextureReaderFactory();
+
+	/**
+	 * Lista contendo todas os leitores das extensões de texturas.
+	 */
+	private Map<String, TextureReader> readers;
+
+	/**
+	 * Qualidade em que as texturas serão lidas.
+	 */
+	private TextureQuality quality;
+
+	/**
+	 * Considerar todos os arquivos como confiáveis.
+	 */
+	private boolean trusted;
+
+	/**
+	 * Pastas dos pacotes cujos arquivos são considerados confiáveis.
+	 */
+	private List<String> trustedPaths;
+
+	/**
+	 * Construtor privado para respeitar o padrão de projetos Singleton.
+	 * Inicializa o mapeamento de leitores disponíveis adicionando os padrões.
+	 */
+
+	private TextureReaderFactory()
+	{
+		readers = new StringSimpleMap<TextureReader>();
+		quality = TextureQuality.TQ_HIGH;
+		trustedPaths = new DynamicList<String>();
+	}
+
+	/**
+	 * Através do caminho do arquivo carregado, identifica a extensão do mesmo.
+	 * Após identificar a extensão irá procurar se existe um leitor para tal.
+	 * Arquivos confiáveis recebem uma nova instância marcada como confiável,
+	 * assim o leitor registrado nunca tem a sua configuração alterada.
+	 * @param path caminho contendo a extensão do arquivo a ser lido.
+	 * @return aquisição do leitor de textura a partir da extensão.
+	 */
+
+	public TextureReader getTextureReaderOf(String path)
+	{
+		TextureReader reader = selectTextureReader(path);
+
+		if (reader instanceof TextureReaderDefault && !((TextureReaderDefault) reader).isTrusted() && isTrusted(path))
+			return newTextureReaderOf(path);
+
+		return reader;
+	}
+
+	/**
+	 * Procura o leitor registrado para a extensão de um determinado arquivo.
+	 * @param path caminho contendo a extensão do arquivo a ser lido.
+	 * @return aquisição do leitor de textura registrado para a extensão.
+	 */
+
+	private TextureReader selectTextureReader(String path)
+	{
+		String extension = FileUtil.getExtension(path).toLowerCase();
+		TextureReader reader = readers.get(extension);
+
+		if (reader == null)
+			throw new TextureRuntimeException("extensão '%s' não suportada", extension);
+
+		return reader;
+	}
+
+	/**
+	 * Adiciona um novo leitor para carregamento de texturas como opção de leitura.
+	 * Caso um leitor para a extensão passada já exista ele será substituído pela nova.
+	 * @param extension tipo de extensão de arquivo do qual será suportado a leitura.
+	 * @param reader referência do leitor que será usado para a extensão acima.
+	 */
+
+	public void addTextureReader(String extension, TextureReader reader)
+	{
+		if (readers.containsKey(extension))
+			readers.update(extension, reader);
+		else
+			readers.add(extension, reader);
+	}
+
+	/**
+	 * Cria uma nova instância do leitor responsável pela extensão do arquivo, com as mesmas configurações.
+	 * Os leitores guardam o estado da leitura em andamento, portanto leituras feitas em outras threads
+	 * devem usar uma instância exclusiva ao invés de compartilhar a instância registrada.
+	 * A nova instância é considerada confiável se o leitor registrado ou o caminho do arquivo forem.
+	 * @param path caminho contendo a extensão do arquivo a ser lido.
+	 * @return aquisição de uma nova instância do leitor de textura a partir da extensão.
+	 */
+
+	public TextureReader newTextureReaderOf(String path)
+	{
+		TextureReader reader = selectTextureReader(path);
+
+		try {
+
+			TextureReader instance = reader.getClass().newInstance();
+			instance.setOutputFormat(reader.getOutputFormat());
+
+			if (reader instanceof TextureReaderDefault && instance instanceof TextureReaderDefault)
+			{
+				TextureReaderDefault source = (TextureReaderDefault) reader;
+				TextureReaderDefault target = (TextureReaderDefault) instance;
+
+				target.setInputFormat(source.getInputFormat());
+				target.setMipmaps(source.isMipmaps());
+				target.setSRGB(source.isSRGB());
+				target.setTrusted(source.isTrusted() || isTrusted(path));
+			}
+
+			return instance;
+
+		} catch (InstantiationException | IllegalAccessException e) {
+			throw new TextureRuntimeException("não foi possível criar o leitor '%s'", nameOf(reader));
+		}
+	}
+
+	/**
+	 * A qualidade é aplicada pelos leitores de texturas durante a decodificação dos pixels.
+	 * @return aquisição da qualidade em que as texturas serão lidas.
+	 */
+
+	public TextureQuality getQuality()
+	{
+		return quality;
+	}
+
+	/**
+	 * Permite definir a qualidade em que as próximas texturas serão lidas dos arquivos.
+	 * Texturas já carregadas não são afetadas, apenas as que forem lidas a partir de então.
+	 * @param quality qualidade em que as texturas serão lidas.
+	 */
+
+	public void setQuality(TextureQuality quality)
+	{
+		if (quality != null)
+			this.quality = quality;
+	}
+
+	/**
+	 * Quando habilitado todos os arquivos são lidos sem as verificações não essenciais.
+	 * @return true se todos os arquivos forem considerados confiáveis ou false caso contrário.
+	 */
+
+	public boolean isTrusted()
+	{
+		return trusted;
+	}
+
+	/**
+	 * Permite definir se todos os arquivos lidos serão considerados confiáveis, por exemplo,
+	 * quando o jogo carrega apenas os seus próprios pacotes já verificados na instalação.
+	 * @param trusted true para considerar todos os arquivos confiáveis ou false caso contrário.
+	 */
+
+	public void setTrusted(boolean trusted)
+	{
+		this.trusted = trusted;
+	}
+
+	/**
+	 * Adiciona a pasta de um pacote confiável, todos os arquivos dentro dela (e subpastas) serão
+	 * lidos sem as verificações não essenciais mesmo que os demais arquivos continuem verificados.
+	 * @param path caminho da pasta do pacote confiável.
+	 */
+
+	public void addTrustedPath(String path)
+	{
+		path = normalizePath(path);
+
+		if (!path.endsWith("/"))
+			path += "/";
+
+		if (!trustedPaths.contains(path))
+			trustedPaths.add(path);
+	}
+
+	/**
+	 * Remove a pasta de um pacote da lista de pacotes confiáveis.
+	 * @param path caminho da pasta do pacote que deixará de ser confiável.
+	 */
+
+	public void removeTrustedPath(String path)
+	{
+		path = normalizePath(path);
+
+		trustedPaths.remove(path.endsWith("/") ? path : path + "/");
+	}
+
+	/**
+	 * Verifica se um arquivo deve ser lido sem as verificações não essenciais.
+	 * @param path caminho do arquivo que será lido.
+	 * @return true se todos os arquivos forem confiáveis ou se estiver em um pacote confiável.
+	 */
+
+	public boolean isTrusted(String path)
+	{
+		if (trusted)
+			return true;
+
+		if (path == null || trustedPaths.isEmpty())
+			return false;
+
+		path = normalizePath(path);
+
+		for (String trustedPath : trustedPaths)
+			if (path.startsWith(trustedPath))
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * Padroniza os separadores de um caminho para que possam ser comparados.
+	 * @param path caminho do arquivo ou pasta.
+	 * @return aquisição do caminho usando apenas barras normais.
+	 */
+
+	private String normalizePath(String path)
+	{
+		return path.replace('\\', '/');
+	}
+
+	/**
+	 * TextureReaderFactory utiliza o padrão de projetos Singleton que permite a criação de apenas um objeto do tipo.
+	 * Esse padrão é usado para que não seja possível criar mais do que uma fábrica para dados de texturas.
+	 * Não há necessidade na existência de dois objetos deste, procedimentos não estáticos pois não deve
+	 * funcionar como um utilitário, mas sim com uma espécie de gerenciador, gerenciado texturas em disco.
+	 * @return aquisição da referência do objeto fábrica para leitores de texturas em disco.
+	 */
+
+	public static TextureReaderFactory getInstance()
+	{
+		return INSTANCE;
+	}
+}
@@ -0,0 +1,221 @@
+package com.erakin.api.resources.texture;
+
+import java.nio.ByteBuffer;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.BufferUtils;
+
+/**
+ * <h1>Redutor de Textura</h1>
+ *
+ * <p>Reduz a resolução de uma imagem enquanto esta é decodificada, linha por linha, de modo que
+ * a imagem em resolução completa nunca precise ser armazenada. Cada linha decodificada é somada
+ * em acumuladores e a cada 2^n linhas a média dos blocos de 2^n x 2^n pixels é escrita no resultado.</p>
+ *
+ * <p>O leitor deve decodificar cada linha em <code>getRow()</code> e em seguida chamar <code>pushRow()</code>.
+ * Dimensões que não forem múltiplas do fator têm as últimas linhas e colunas somadas ao último bloco.</p>
+ *
+ * @see TextureQuality
+ * @see TextureReaderDefault
+ *
+ * @author Andrew
+ */
+
+public class TextureReducer
+{
+	/**
+	 * Largura da imagem original em pixels.
+	 */
+	private final int sourceWidth;
+
+	/**
+	 * Altura da imagem original em pixels.
+	 */
+	private final int sourceHeight;
+
+	/**
+	 * Quantidade de bytes por pixel.
+	 */
+	private final int bpp;
+
+	/**
+	 * Quantidade de níveis de mipmap descartados.
+	 */
+	private final int levels;
+
+	/**
+	 * Largura da imagem reduzida em pixels.
+	 */
+	private final int width;
+
+	/**
+	 * Altura da imagem reduzida em pixels.
+	 */
+	private final int height;
+
+	/**
+	 * Linha onde o leitor deve decodificar os pixels originais.
+	 */
+	private final ByteBuffer row;
+
+	/**
+	 * Vetor usado para copiar os bytes da linha decodificada.
+	 */
+	private final byte rowBytes[];
+
+	/**
+	 * Soma dos canais de cada pixel da linha reduzida em construção.
+	 */
+	private final int sums[];
+
+	/**
+	 * Quantidade de pixels originais somados em cada pixel da linha reduzida.
+	 */
+	private final int counts[];
+
+	/**
+	 * Pixels da imagem reduzida.
+	 */
+	private final ByteBuffer pixels;
+
+	/**
+	 * Quantidade de linhas originais já recebidas.
+	 */
+	private int sourceY;
+
+	/**
+	 * Cria um novo redutor para uma imagem de tamanho e formato conhecidos.
+	 * @param sourceWidth largura da imagem original em pixels.
+	 * @param sourceHeight altura da imagem original em pixels.
+	 * @param bpp quantidade de bytes por pixel da imagem decodificada.
+	 * @param levels quantidade de níveis de mipmap que serão descartados.
+	 */
+
+	public TextureReducer(int sourceWidth, int sourceHeight, int bpp, int levels)
+	{
+		this.sourceWidth = sourceWidth;
+		this.sourceHeight = sourceHeight;
+		this.bpp = bpp;
+		this.levels = levels;
+		this.width = Math.max(1, sourceWidth >> levels);
+		this.height = Math.max(1, sourceHeight >> levels);
+		this.row = BufferUtils.createByteBuffer(sourceWidth * bpp);
+		this.rowBytes = new byte[sourceWidth * bpp];
+		this.sums = new int[width * bpp];
+		this.counts = new int[width];
+		this.pixels = BufferUtils.createByteBuffer(width * height * bpp);
+	}
+
+	/**
+	 * A linha é limpa a cada chamada e deve receber exatamente uma linha da imagem original.
+	 * @return aquisição do buffer onde o leitor deve decodificar a próxima linha original.
+	 */
+
+	public ByteBuffer getRow()
+	{
+		row.clear();
+
+		return row;
+	}
+
+	/**
+	 * Soma a linha decodificada em <code>getRow()</code> nos acumuladores da linha reduzida.
+	 * Ao completar um bloco de linhas (ou a última linha) a média é escrita no resultado.
+	 */
+
+	public void pushRow()
+	{
+		if (sourceY >= sourceHeight)
+			throw new TextureRuntimeException("linhas além da altura da imagem (height: %d)", sourceHeight);
+
+		row.flip();
+		row.get(rowBytes, 0, Math.min(row.remaining(), rowBytes.length));
+
+		for (int x = 0, offset = 0; x < sourceWidth; x++)
+		{
+			int target = Math.min(x >> levels, width - 1);
+			int sum = target * bpp;
+
+			for (int channel = 0; channel < bpp; channel++)
+				sums[sum + channel] += rowBytes[offset++] & 0xFF;
+
+			counts[target]++;
+		}
+
+		sourceY++;
+
+		int targetY = (sourceY - 1) >> levels;
+		boolean blockEnd = (sourceY & ((1 << levels) - 1)) == 0 && targetY < height - 1;
+
+		if (blockEnd || sourceY == sourceHeight)
+			flush();
+	}
+
+	/**
+	 * Escreve a média dos acumuladores como uma linha da imagem reduzida e os reinicia.
+	 */
+
+	private void flush()
+	{
+		for (int x = 0, sum = 0; x < width; x++)
+		{
+			int count = counts[x];
+
+			for (int channel = 0; channel < bpp; channel++, sum++)
+			{
+				pixels.put((byte) ((sums[sum] + count / 2) / count));
+				sums[sum] = 0;
+			}
+
+			counts[x] = 0;
+		}
+	}
+
+	/**
+	 * Deve ser chamado somente após todas as linhas da imagem original terem sido recebidas.
+	 * @return aquisição do buffer com os pixels da imagem reduzida, pronto para leitura.
+	 */
+
+	public ByteBuffer getPixels()
+	{
+		if (sourceY != sourceHeight)
+			throw new TextureRuntimeException("imagem incompleta (%d de %d linhas)", sourceY, sourceHeight);
+
+		pixels.flip();
+
+		return pixels;
+	}
+
+	/**
+	 * A redução nunca resulta em dimensões menores que um pixel.
+	 * @return aquisição da largura da imagem reduzida em pixels.
+	 */
+
+	public int getWidth()
+	{
+		return width;
+	}
+
+	/**
+	 * A redução nunca resulta em dimensões menores que um pixel.
+	 * @return aquisição da altura da imagem reduzida em pixels.
+	 */
+
+	public int getHeight()
+	{
+		return height;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("source", sourceWidth + "x" + sourceHeight);
+		description.append("reduced", width + "x" + height);
+		description.append("levels", levels);
+		description.append("row", sourceY);
+
+		return description.toString();
+	}
+}
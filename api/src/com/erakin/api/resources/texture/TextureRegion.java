@@ -0,0 +1,216 @@
+package com.erakin.api.resources.texture;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * <h1>Região de Textura</h1>
+ *
+ * <p>Representa a área ocupada por uma textura menor dentro de um atlas de texturas.
+ * Além da posição e tamanho em pixels, informa a transformação que deve ser aplicada
+ * nas coordenadas UV do modelo para que estas passem a apontar para a região no atlas.</p>
+ *
+ * <p>A transformação é apenas uma escala seguida de um deslocamento em cada eixo:
+ * <code>u' = offsetU + u * scaleU</code> e <code>v' = offsetV + v * scaleV</code>.</p>
+ *
+ * @see TextureAtlas
+ *
+ * @author Andrew
+ */
+
+public class TextureRegion
+{
+	/**
+	 * Nome usado para identificar a região no atlas.
+	 */
+	private final String name;
+
+	/**
+	 * Posição no eixo X da região dentro do atlas em pixels.
+	 */
+	int x;
+
+	/**
+	 * Posição no eixo Y da região dentro do atlas em pixels.
+	 */
+	int y;
+
+	/**
+	 * Largura da região em pixels (sem margens).
+	 */
+	final int width;
+
+	/**
+	 * Altura da região em pixels (sem margens).
+	 */
+	final int height;
+
+	/**
+	 * Largura do atlas em que a região foi alocada.
+	 */
+	int atlasWidth;
+
+	/**
+	 * Altura do atlas em que a região foi alocada.
+	 */
+	int atlasHeight;
+
+	/**
+	 * Cria uma nova região para uma textura que ainda será alocada em um atlas.
+	 * @param name nome usado para identificar a região no atlas.
+	 * @param width largura da textura em pixels.
+	 * @param height altura da textura em pixels.
+	 */
+
+	TextureRegion(String name, int width, int height)
+	{
+		this.name = name;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * O nome da região é o mesmo usado ao adicionar a textura no atlas.
+	 * @return aquisição do nome usado para identificar a região no atlas.
+	 */
+
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * A posição é definida apenas após o atlas ter sido construído.
+	 * @return aquisição da posição no eixo X da região dentro do atlas em pixels.
+	 */
+
+	public int getX()
+	{
+		return x;
+	}
+
+	/**
+	 * A posição é definida apenas após o atlas ter sido construído.
+	 * @return aquisição da posição no eixo Y da região dentro do atlas em pixels.
+	 */
+
+	public int getY()
+	{
+		return y;
+	}
+
+	/**
+	 * O tamanho da região não inclui o espaçamento nem as bordas replicadas.
+	 * @return aquisição da largura da região em pixels.
+	 */
+
+	public int getWidth()
+	{
+		return width;
+	}
+
+	/**
+	 * O tamanho da região não inclui o espaçamento nem as bordas replicadas.
+	 * @return aquisição da altura da região em pixels.
+	 */
+
+	public int getHeight()
+	{
+		return height;
+	}
+
+	/**
+	 * O deslocamento é relativo ao tamanho do atlas (entre 0 e 1).
+	 * @return aquisição do deslocamento que deve ser somado a coordenada U.
+	 */
+
+	public float getOffsetU()
+	{
+		return (float) x / atlasWidth;
+	}
+
+	/**
+	 * O deslocamento é relativo ao tamanho do atlas (entre 0 e 1).
+	 * @return aquisição do deslocamento que deve ser somado a coordenada V.
+	 */
+
+	public float getOffsetV()
+	{
+		return (float) y / atlasHeight;
+	}
+
+	/**
+	 * A escala é a proporção entre o tamanho da região e do atlas.
+	 * @return aquisição da escala que deve ser multiplicada na coordenada U.
+	 */
+
+	public float getScaleU()
+	{
+		return (float) width / atlasWidth;
+	}
+
+	/**
+	 * A escala é a proporção entre o tamanho da região e do atlas.
+	 * @return aquisição da escala que deve ser multiplicada na coordenada V.
+	 */
+
+	public float getScaleV()
+	{
+		return (float) height / atlasHeight;
+	}
+
+	/**
+	 * Converte uma coordenada U da textura original para a coordenada correspondente no atlas.
+	 * @param u coordenada U entre 0 e 1 referente a textura original.
+	 * @return aquisição da coordenada U referente ao atlas.
+	 */
+
+	public float mapU(float u)
+	{
+		return getOffsetU() + u * getScaleU();
+	}
+
+	/**
+	 * Converte uma coordenada V da textura original para a coordenada correspondente no atlas.
+	 * @param v coordenada V entre 0 e 1 referente a textura original.
+	 * @return aquisição da coordenada V referente ao atlas.
+	 */
+
+	public float mapV(float v)
+	{
+		return getOffsetV() + v * getScaleV();
+	}
+
+	/**
+	 * Aplica a transformação da região em um vetor de coordenadas UV intercaladas (u, v, u, v...).
+	 * Usado para converter as coordenadas de textura de um modelo antes de armazená-las.
+	 * @param uvs vetor contendo as coordenadas UV que serão convertidas no próprio vetor.
+	 */
+
+	public void transform(float uvs[])
+	{
+		float offsetU = getOffsetU();
+		float offsetV = getOffsetV();
+		float scaleU = getScaleU();
+		float scaleV = getScaleV();
+
+		for (int i = 0; i + 1 < uvs.length; i += 2)
+		{
+			uvs[i] = offsetU + uvs[i] * scaleU;
+			uvs[i + 1] = offsetV + uvs[i + 1] * scaleV;
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("name", name);
+		description.append("x", x);
+		description.append("y", y);
+		description.append("width", width);
+		description.append("height", height);
+
+		return description.toString();
+	}
+}
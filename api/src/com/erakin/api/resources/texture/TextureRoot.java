@@ -1,103 +1,229 @@
-package com.erakin.api.resources.texture;
-
-import static org.lwjgl.opengl.GL11.glDeleteTextures;
-
-import org.diverproject.util.ObjectDescription;
-
-import com.erakin.api.resources.ResourceRoot;
-
-/**
- * <h1>Textura Raz</h1>
- *
- * <p>Essa raz  permite a construo de novos recursos do tipo textura (imagens).
- * Nele ser armazenado as informaes para identificao da textura no OpenGL,
- * qual o tamanho da textura como tambm se usa propriedade alpha e depth.</p>
- *
- * @see ResourceRoot
- *
- * @author Andrew
- */
-
-public class TextureRoot extends ResourceRoot<Texture>
-{
-	/**
-	 * Cdigo para identificao da textura no OpenGL.
-	 */
-	int id;
-
-	/**
-	 * Quantos bits cada pixel dever possuir.
-	 */
-	int depth;
-
-	/**
-	 * Tamanho da largura da imagem em pixels.
-	 */
-	int width;
-
-	/**
-	 * Tamanho da altura da imagem em pixels.
-	 */
-	int height;
-
-	/**
-	 * Imagem contendo cores transparentes.
-	 */
-	boolean alpha;
-
-	/**
-	 * Qual o tipo de textura que est sendo usado:
-	 * 
-	 */
-	TextureTarget target;
-
-	/**
-	 * Construtor em package para permitir apenas que TextureLoader construa um.
-	 * Isso ir garantir que uma Textura Raz invlida possa ser criada na engine.
-	 * @param filepath caminho do arquivo em disco com os dados da textura carregado.
-	 */
-
-	TextureRoot(String filepath)
-	{
-		super(filepath);
-	}
-
-	/**
-	 * Essa identificao  importante para que o OpenGL possa localizar os dados da
-	 * textura para quando esta for utilizada poder ser chamada adequadamente.
-	 * @return aquisio do cdigo da textura no sistema de textura do OpenGL.
-	 */
-
-	public int getGLTextureID()
-	{
-		return id;
-	}
-
-	@Override
-	public void release()
-	{
-		super.release();
-
-		glDeleteTextures(id);
-	}
-
-	@Override
-	public Texture genResource()
-	{
-		Texture texture = new Texture(this);
-		addReference(texture);
-
-		return texture;
-	}
-
-	@Override
-	public void toString(ObjectDescription description)
-	{
-		description.append("glID", id);
-		description.append("width", width);
-		description.append("height", height);
-		description.append("depth", depth);
-		description.append("alpha", alpha);
-		description.append("target", target);
-	}
-}
+package com.erakin.api.resources.texture;
+
+import static org.lwjgl.opengl.GL11.glDeleteTextures;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.SizeUtil;
+
+import com.erakin.api.resources.ResourceRoot;
+
+/**
+ * <h1>Textura Raíz</h1>
+ *
+ * <p>Essa raíz é permite a construção de novos recursos do tipo textura (imagens).
+ * Nele será armazenado as informações para identificação da textura no OpenGL,
+ * qual o tamanho da textura como também se usa propriedade alpha e depth.</p>
+ *
+ * @see ResourceRoot
+ *
+ * @author Andrew
+ */
+
+public class TextureRoot extends ResourceRoot<Texture>
+{
+	/**
+	 * Código para identificação da textura no OpenGL.
+	 */
+	int id;
+
+	/**
+	 * Quantos bits cada pixel deverá possuir.
+	 */
+	int depth;
+
+	/**
+	 * Tamanho da largura da imagem em pixels.
+	 */
+	int width;
+
+	/**
+	 * Tamanho da altura da imagem em pixels.
+	 */
+	int height;
+
+	/**
+	 * Largura da textura alocada no OpenGL em pixels.
+	 */
+	int texWidth;
+
+	/**
+	 * Altura da textura alocada no OpenGL em pixels.
+	 */
+	int texHeight;
+
+	/**
+	 * Imagem contendo cores transparentes.
+	 */
+	boolean alpha;
+
+	/**
+	 * Qual o tipo de textura que está sendo usado:
+	 * 
+	 */
+	TextureTarget target;
+
+	/**
+	 * Quantidade de camadas (apenas para vetores de textura).
+	 */
+	int layers = 1;
+
+	/**
+	 * Textura com dados compactados (DXT, BC, ETC).
+	 */
+	boolean compressed;
+
+	/**
+	 * Estimativa de bytes ocupados atualmente na memória de vídeo.
+	 */
+	long memory;
+
+	/**
+	 * Estimativa de bytes ocupados na memória de vídeo em resolução completa.
+	 */
+	long fullMemory;
+
+	/**
+	 * Número do último quadro em que a textura foi vinculada.
+	 */
+	long lastFrame;
+
+	/**
+	 * Sendo acompanhada pelo orçamento de memória de texturas.
+	 */
+	boolean budgeted;
+
+	/**
+	 * Agendada pelo orçamento para ser recarregada em resolução completa.
+	 */
+	boolean pending;
+
+	/**
+	 * Bytes que serão liberados quando a redução em andamento terminar.
+	 */
+	long reclaiming;
+
+	/**
+	 * Quantidade de níveis de mipmap descartados para economizar memória.
+	 */
+	int demotion;
+
+	/**
+	 * Dados liberados da memória de vídeo, restando apenas um pixel.
+	 */
+	boolean evicted;
+
+	/**
+	 * Caminho do arquivo para recarregar a textura ou null se não puder.
+	 */
+	String source;
+
+	/**
+	 * Usando uma miniatura enquanto a leitura completa não termina.
+	 */
+	volatile boolean streaming;
+
+	/**
+	 * Construtor em package para permitir apenas que TextureLoader construa um.
+	 * Isso irá garantir que uma Textura Raíz inválida possa ser criada na engine.
+	 * @param filepath caminho do arquivo em disco com os dados da textura carregado.
+	 */
+
+	TextureRoot(String filepath)
+	{
+		super(filepath);
+	}
+
+	/**
+	 * Essa identificação é importante para que o OpenGL possa localizar os dados da
+	 * textura para quando esta for utilizada poder ser chamada adequadamente.
+	 * @return aquisição do código da textura no sistema de textura do OpenGL.
+	 */
+
+	public int getGLTextureID()
+	{
+		return id;
+	}
+
+	/**
+	 * A estimativa considera o formato interno, os níveis de mipmap e as camadas da textura.
+	 * @return aquisição da quantidade de bytes ocupados atualmente na memória de vídeo.
+	 */
+
+	public long getMemory()
+	{
+		return memory;
+	}
+
+	/**
+	 * O quadro é atualizado sempre que uma textura gerada por essa raíz for vinculada.
+	 * @return aquisição do número do último quadro em que a textura foi vinculada.
+	 */
+
+	public long getLastFrame()
+	{
+		return lastFrame;
+	}
+
+	/**
+	 * Texturas transmitidas usam uma miniatura até que a leitura em segundo plano termine.
+	 * @return true se ainda estiver usando a miniatura ou false se estiver completa.
+	 */
+
+	public boolean isStreaming()
+	{
+		return streaming;
+	}
+
+	/**
+	 * Uma textura reduzida teve níveis de mipmap descartados ou foi liberada por falta de memória.
+	 * @return true se estiver reduzida ou false se estiver em resolução completa.
+	 */
+
+	public boolean isReduced()
+	{
+		return demotion > 0 || evicted;
+	}
+
+	@Override
+	public void release()
+	{
+		super.release();
+
+		glDeleteTextures(id);
+		streaming = false;
+
+		TextureLoader.getInstance().getBudget().unregister(this);
+	}
+
+	@Override
+	public Texture genResource()
+	{
+		Texture texture = new Texture(this);
+		addReference(texture);
+
+		return texture;
+	}
+
+	@Override
+	public void toString(ObjectDescription description)
+	{
+		description.append("glID", id);
+		description.append("width", width);
+		description.append("height", height);
+
+		if (texWidth != width || texHeight != height)
+			description.append("texSize", texWidth + "x" + texHeight);
+
+		description.append("depth", depth);
+		description.append("alpha", alpha);
+		description.append("target", target);
+
+		if (layers > 1)
+			description.append("layers", layers);
+
+		description.append("memory", SizeUtil.toString(memory));
+
+		if (isReduced())
+			description.append("reduced", evicted ? "evicted" : demotion);
+	}
+}
@@ -0,0 +1,182 @@
+package com.erakin.api.resources.texture;
+
+import java.nio.ByteBuffer;
+
+import org.lwjgl.BufferUtils;
+
+/**
+ * <h1>Utilitário para Dimensões de Textura</h1>
+ *
+ * <p>Classe utilitária composta apenas de procedimentos estáticos para ajustar as dimensões dos pixels
+ * de uma textura na CPU, usada pelo carregador apenas quando solicitado através de <code>TextureSizing</code>.
+ * Os pixels de origem devem estar compactados, ou seja, sem bytes de alinhamento ao final de cada linha.</p>
+ *
+ * @see TextureSizing
+ * @see TextureLoader
+ *
+ * @author Andrew
+ */
+
+public class TextureSizeUtil
+{
+	/**
+	 * Quantidade de bits usados na parte fracionária das coordenadas de amostragem.
+	 */
+	private static final int FRACTION_BITS = 16;
+
+	/**
+	 * Construtor privado, classe composta apenas de procedimentos estáticos.
+	 */
+
+	private TextureSizeUtil()
+	{
+
+	}
+
+	/**
+	 * Determina quantos bytes cada pixel ocupa de acordo com o tamanho real do buffer, já que os leitores
+	 * podem converter os pixels para um formato de saída diferente da profundidade original da imagem.
+	 * Caso o buffer não corresponda ao tamanho da imagem a profundidade será considerada.
+	 * @param pixels buffer contendo os pixels da imagem a partir da posição atual.
+	 * @param width largura da imagem em pixels.
+	 * @param height altura da imagem em pixels.
+	 * @param depth quantidade de bits por pixel informada pela imagem.
+	 * @return aquisição da quantidade de bytes por pixel.
+	 */
+
+	public static int getBytesPerPixel(ByteBuffer pixels, int width, int height, int depth)
+	{
+		long area = (long) width * height;
+
+		if (pixels != null && area > 0 && pixels.remaining() % area == 0)
+		{
+			int bpp = (int) (pixels.remaining() / area);
+
+			if (bpp >= 1 && bpp <= 4)
+				return bpp;
+		}
+
+		return Math.max(1, depth / 8);
+	}
+
+	/**
+	 * Copia os pixels de uma imagem no canto superior esquerdo de uma imagem maior.
+	 * O espaço restante recebe a última coluna e a última linha repetidas, evitando que
+	 * a filtragem linear e os níveis de mipmap misturem as bordas com uma cor qualquer.
+	 * @param pixels buffer contendo os pixels da imagem original a partir da posição atual.
+	 * @param width largura da imagem original em pixels.
+	 * @param height altura da imagem original em pixels.
+	 * @param bpp quantidade de bytes por pixel.
+	 * @param texWidth largura da nova imagem em pixels, não pode ser menor que a original.
+	 * @param texHeight altura da nova imagem em pixels, não pode ser menor que a original.
+	 * @return aquisição de um novo buffer com os pixels da nova imagem, pronto para leitura.
+	 */
+
+	public static ByteBuffer pad(ByteBuffer pixels, int width, int height, int bpp, int texWidth, int texHeight)
+	{
+		if (texWidth < width || texHeight < height)
+			throw new TextureRuntimeException("dimensões menores que a imagem (%dx%d, %dx%d)", width, height, texWidth, texHeight);
+
+		int rowSize = width * bpp;
+		int texRowSize = texWidth * bpp;
+		byte source[] = new byte[rowSize];
+		byte target[] = new byte[texRowSize];
+		ByteBuffer output = BufferUtils.createByteBuffer(texRowSize * texHeight);
+		ByteBuffer input = pixels.duplicate();
+
+		for (int y = 0; y < texHeight; y++)
+		{
+			if (y < height)
+			{
+				input.get(source);
+				System.arraycopy(source, 0, target, 0, rowSize);
+
+				for (int offset = rowSize; offset < texRowSize; offset++)
+					target[offset] = source[rowSize - bpp + (offset - rowSize) % bpp];
+			}
+
+			output.put(target);
+		}
+
+		output.flip();
+
+		return output;
+	}
+
+	/**
+	 * Redimensiona os pixels de uma imagem através de interpolação bilinear com aritmética de inteiros.
+	 * Os centros dos pixels são alinhados entre as duas imagens, de modo que as bordas se mantém.
+	 * @param pixels buffer contendo os pixels da imagem original a partir da posição atual.
+	 * @param width largura da imagem original em pixels.
+	 * @param height altura da imagem original em pixels.
+	 * @param bpp quantidade de bytes por pixel.
+	 * @param texWidth largura da nova imagem em pixels.
+	 * @param texHeight altura da nova imagem em pixels.
+	 * @return aquisição de um novo buffer com os pixels da nova imagem, pronto para leitura.
+	 */
+
+	public static ByteBuffer resample(ByteBuffer pixels, int width, int height, int bpp, int texWidth, int texHeight)
+	{
+		int rowSize = width * bpp;
+		byte source[] = new byte[rowSize * height];
+		pixels.duplicate().get(source);
+
+		int columns[] = new int[texWidth];
+		int weights[] = new int[texWidth];
+
+		for (int x = 0; x < texWidth; x++)
+		{
+			int position = sample(x, width, texWidth);
+			columns[x] = position >> FRACTION_BITS;
+			weights[x] = position & ((1 << FRACTION_BITS) - 1);
+		}
+
+		byte target[] = new byte[texWidth * bpp];
+		ByteBuffer output = BufferUtils.createByteBuffer(target.length * texHeight);
+
+		for (int y = 0; y < texHeight; y++)
+		{
+			int position = sample(y, height, texHeight);
+			int top = (position >> FRACTION_BITS) * rowSize;
+			int bottom = Math.min((position >> FRACTION_BITS) + 1, height - 1) * rowSize;
+			long weightY = position & ((1 << FRACTION_BITS) - 1);
+
+			for (int x = 0, offset = 0; x < texWidth; x++)
+			{
+				int left = columns[x] * bpp;
+				int right = Math.min(columns[x] + 1, width - 1) * bpp;
+				long weightX = weights[x];
+
+				for (int channel = 0; channel < bpp; channel++)
+				{
+					long upper = ((source[top + left + channel] & 0xFF) << FRACTION_BITS) + ((source[top + right + channel] & 0xFF) - (source[top + left + channel] & 0xFF)) * weightX;
+					long lower = ((source[bottom + left + channel] & 0xFF) << FRACTION_BITS) + ((source[bottom + right + channel] & 0xFF) - (source[bottom + left + channel] & 0xFF)) * weightX;
+					long value = (upper << FRACTION_BITS) + (lower - upper) * weightY;
+
+					target[offset++] = (byte) ((value + (1L << (2 * FRACTION_BITS - 1))) >> (2 * FRACTION_BITS));
+				}
+			}
+
+			output.put(target);
+		}
+
+		output.flip();
+
+		return output;
+	}
+
+	/**
+	 * Calcula a posição na imagem original correspondente ao centro de um pixel da nova imagem.
+	 * @param index posição do pixel na nova imagem.
+	 * @param size tamanho da imagem original no mesmo eixo.
+	 * @param texSize tamanho da nova imagem no mesmo eixo.
+	 * @return aquisição da posição em ponto fixo, limitada ao intervalo da imagem original.
+	 */
+
+	private static int sample(int index, int size, int texSize)
+	{
+		long position = (((2L * index + 1) * size << FRACTION_BITS) / (2L * texSize)) - (1L << (FRACTION_BITS - 1));
+
+		return (int) Math.max(0, Math.min(position, (long) (size - 1) << FRACTION_BITS));
+	}
+}
@@ -0,0 +1,35 @@
+package com.erakin.api.resources.texture;
+
+/**
+ * <h1>Dimensionamento de Textura</h1>
+ *
+ * <p>Define como o carregador de texturas trata imagens cujas dimensões não são potências de 2 (NPOT).
+ * O OpenGL 3.2 aceita qualquer dimensão, portanto por padrão as texturas são enviadas no seu tamanho exato,
+ * ocupando na memória de vídeo apenas os bytes dos seus pixels.</p>
+ *
+ * <p>As demais opções existem para quem precisar de dimensões 2^n (repetição em hardware antigo ou
+ * compatibilidade com ferramentas), e convertem os pixels na CPU antes de enviá-los ao OpenGL.</p>
+ *
+ * @see TextureLoader
+ * @see TextureSizeUtil
+ *
+ * @author Andrew
+ */
+
+public enum TextureSizing
+{
+	/**
+	 * Textura enviada com as dimensões exatas da imagem.
+	 */
+	TS_EXACT,
+
+	/**
+	 * Imagem copiada no canto superior esquerdo de uma textura 2^n, bordas repetidas no espaço restante.
+	 */
+	TS_PAD,
+
+	/**
+	 * Imagem redimensionada (bilinear) para a próxima potência de 2 em cada eixo.
+	 */
+	TS_RESAMPLE;
+}
@@ -0,0 +1,458 @@
+package com.erakin.api.resources.texture;
+
+import static com.erakin.api.resources.texture.PixelFormat.FORMAT_RGBA;
+import static org.diverproject.log.LogSystem.logDebug;
+import static org.diverproject.log.LogSystem.logWarning;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Queue;
+import org.diverproject.util.collection.abstraction.DynamicQueue;
+import org.lwjgl.BufferUtils;
+
+import com.erakin.api.buffer.Buffer;
+import com.erakin.api.buffer.BufferInput;
+
+/**
+ * <h1>Transmissor de Texturas</h1>
+ *
+ * <p>Permite que texturas sejam usadas antes de terem sido lidas por completo. Ao solicitar uma textura
+ * é enviada imediatamente uma miniatura (ou um único pixel se ainda não houver miniatura) e a leitura
+ * em resolução completa é feita por threads em segundo plano. Quando terminada, os dados são enviados
+ * na próxima atualização do carregador para a mesma identificação da textura no OpenGL.</p>
+ *
+ * <p>As miniaturas são salvas em disco na pasta <code>THUMBNAIL_FOLDER</code> ao lado da textura após a
+ * primeira leitura completa, e possuem no máximo <code>THUMBNAIL_SIZE</code> pixels em cada eixo.
+ * Cada miniatura guarda a data de modificação e o tamanho do arquivo da textura, sendo descartada quando
+ * estes não corresponderem mais ao arquivo, até que uma nova seja salva na próxima leitura completa.
+ * Apenas a leitura dos arquivos ocorre fora da thread principal, nenhum comando OpenGL é chamado nela.</p>
+ *
+ * @see TextureLoader
+ * @see TextureReducer
+ *
+ * @author Andrew
+ */
+
+public class TextureStreamer
+{
+	/**
+	 * Quantidade padrão de threads usadas para ler as texturas.
+	 */
+	public static final int DEFAULT_WORKERS = 2;
+
+	/**
+	 * Tamanho máximo das miniaturas em pixels.
+	 */
+	public static final int THUMBNAIL_SIZE = 32;
+
+	/**
+	 * Nome da pasta onde as miniaturas são salvas.
+	 */
+	public static final String THUMBNAIL_FOLDER = ".thumbnails";
+
+	/**
+	 * Código de identificação dos arquivos de miniatura.
+	 */
+	private static final int THUMBNAIL_MAGIC = 0x4554484E;
+
+	/**
+	 * Quantidade de bytes do cabeçalho dos arquivos de miniatura.
+	 */
+	private static final int THUMBNAIL_HEADER = 40;
+
+	/**
+	 * Quantidade máxima de texturas enviadas ao OpenGL por atualização.
+	 */
+	public static final int MAX_UPLOADS_PER_FRAME = 2;
+
+	/**
+	 * Threads responsáveis pela leitura das texturas.
+	 */
+	private ExecutorService workers;
+
+	/**
+	 * Quantidade de threads usadas para ler as texturas.
+	 */
+	private int workerCount;
+
+	/**
+	 * Texturas já lidas aguardando serem enviadas ao OpenGL.
+	 */
+	private final Queue<TextureStream> completed;
+
+	/**
+	 * Quantidade de texturas sendo lidas no momento.
+	 */
+	private int loading;
+
+	/**
+	 * Cria um novo transmissor de texturas, as threads são criadas apenas quando necessárias.
+	 */
+
+	TextureStreamer()
+	{
+		this.workerCount = DEFAULT_WORKERS;
+		this.completed = new DynamicQueue<TextureStream>();
+	}
+
+	/**
+	 * As threads são criadas na primeira textura transmitida.
+	 * @return aquisição da quantidade de threads usadas para ler as texturas.
+	 */
+
+	public int getWorkerCount()
+	{
+		return workerCount;
+	}
+
+	/**
+	 * Permite definir quantas threads serão usadas para ler as texturas, antes da primeira transmissão.
+	 * @param workerCount quantidade de threads usadas para ler as texturas.
+	 */
+
+	public void setWorkerCount(int workerCount)
+	{
+		if (workers != null)
+			throw new TextureRuntimeException("transmissor já iniciado");
+
+		this.workerCount = Math.max(1, workerCount);
+	}
+
+	/**
+	 * Texturas em leitura são as que ainda não foram lidas ou ainda não foram enviadas ao OpenGL.
+	 * @return aquisição da quantidade de texturas que ainda estão usando a miniatura.
+	 */
+
+	public synchronized int getLoading()
+	{
+		return loading;
+	}
+
+	/**
+	 * Carrega a miniatura salva de uma textura para ser usada enquanto a leitura completa não termina.
+	 * O tamanho e a profundidade da textura em resolução completa são definidos na textura raíz.
+	 * @param path caminho do arquivo da textura em resolução completa.
+	 * @param root referência da textura raíz que irá usar a miniatura.
+	 * @return aquisição dos dados da miniatura ou null se não houver uma salva ou estiver desatualizada.
+	 */
+
+	TextureData loadThumbnail(String path, TextureRoot root)
+	{
+		File file = getThumbnailFile(path);
+		File source = new File(path);
+
+		if (!file.exists())
+			return null;
+
+		try {
+
+			Buffer buffer = new BufferInput(file);
+
+			if (buffer.length() < THUMBNAIL_HEADER || buffer.getInt() != THUMBNAIL_MAGIC)
+				return null;
+
+			long lastModified = buffer.getLong();
+			long length = buffer.getLong();
+
+			if (lastModified != source.lastModified() || length != source.length())
+			{
+				logDebug("miniatura '%s' desatualizada.\n", file.getPath());
+				return null;
+			}
+
+			int sourceWidth = buffer.getInt();
+			int sourceHeight = buffer.getInt();
+			int sourceDepth = buffer.getInt();
+			int width = buffer.getInt();
+			int height = buffer.getInt();
+
+			if (width <= 0 || height <= 0 || width > THUMBNAIL_SIZE || height > THUMBNAIL_SIZE || buffer.length() < THUMBNAIL_HEADER + width * height * 4)
+				return null;
+
+			root.width = sourceWidth;
+			root.height = sourceHeight;
+			root.depth = sourceDepth;
+			root.alpha = sourceDepth == 32;
+
+			TextureDataDefault data = new TextureDataDefault();
+			data.width = width;
+			data.height = height;
+			data.depth = 32;
+			data.format = FORMAT_RGBA;
+
+			byte pixels[] = new byte[width * height * 4];
+			buffer.read(pixels, 0, pixels.length);
+
+			data.pixels = BufferUtils.createByteBuffer(pixels.length);
+			data.pixels.put(pixels);
+			data.pixels.flip();
+
+			return data;
+
+		} catch (Exception e) {
+
+			logWarning("miniatura inválida '%s' (%s).\n", file.getPath(), e.getMessage());
+
+			return null;
+		}
+	}
+
+	/**
+	 * Agenda a leitura em resolução completa de uma textura que está usando uma miniatura.
+	 * @param root referência da textura raíz que irá receber os dados em resolução completa.
+	 * @param path caminho do arquivo da textura que será lido.
+	 */
+
+	synchronized void submit(TextureRoot root, String path)
+	{
+		submit(root, path, 0);
+	}
+
+	/**
+	 * Agenda a leitura de uma textura em resolução inferior a que foi carregada, usado pelo orçamento
+	 * para reduzir uma textura decodificando novamente o arquivo ao invés de ler os pixels do OpenGL.
+	 * @param root referência da textura raíz que irá receber os dados reduzidos.
+	 * @param path caminho do arquivo da textura que será lido.
+	 * @param reduction quantidade de níveis de mipmap descartados em relação a textura carregada.
+	 */
+
+	synchronized void submit(final TextureRoot root, final String path, final int reduction)
+	{
+		if (workers == null)
+			workers = Executors.newFixedThreadPool(workerCount, new ThreadFactory()
+			{
+				@Override
+				public Thread newThread(Runnable runnable)
+				{
+					Thread thread = new Thread(runnable, "TextureStreamer");
+					thread.setDaemon(true);
+
+					return thread;
+				}
+			});
+
+		loading++;
+
+		workers.execute(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				read(root, path, reduction);
+			}
+		});
+	}
+
+	/**
+	 * Procedimento executado pelas threads de leitura, lê a textura e salva a miniatura se necessário.
+	 * @param root referência da textura raíz que irá receber os dados.
+	 * @param path caminho do arquivo da textura que será lido.
+	 * @param reduction quantidade de níveis de mipmap descartados ou 0 para resolução completa.
+	 */
+
+	private void read(TextureRoot root, String path, int reduction)
+	{
+		TextureStream stream = new TextureStream(root, reduction);
+
+		try (FileInputStream input = new FileInputStream(path)) {
+
+			TextureReader reader = TextureReaderFactory.getInstance().newTextureReaderOf(path);
+
+			if (reduction > 0)
+			{
+				if (!(reader instanceof TextureReaderDefault))
+					throw new TextureException("leitor não suporta redução");
+
+				((TextureReaderDefault) reader).setReduction(reduction);
+			}
+
+			stream.data = reader.readTexture(input, FORMAT_RGBA);
+
+			TextureData data = stream.data;
+
+			if (reduction == 0 && data.getCompressedFormat() == 0 && data.getPixels().remaining() == data.getWidth() * data.getHeight() * 4 && !getThumbnailFile(path).exists())
+				saveThumbnail(path, data);
+
+		} catch (Exception e) {
+
+			stream.data = null;
+
+			logWarning("falha ao transmitir a textura '%s' (%s).\n", path, e.getMessage());
+
+		} finally {
+
+			synchronized (this)
+			{
+				completed.offer(stream);
+			}
+		}
+	}
+
+	/**
+	 * Chamado a cada atualização do carregador de texturas (thread principal) para enviar ao OpenGL
+	 * as texturas que já foram lidas, respeitando o limite de <code>MAX_UPLOADS_PER_FRAME</code>.
+	 */
+
+	void update()
+	{
+		for (int i = 0; i < MAX_UPLOADS_PER_FRAME; i++)
+		{
+			TextureStream stream;
+
+			synchronized (this)
+			{
+				if (completed.isEmpty())
+					return;
+
+				stream = completed.poll();
+				loading--;
+			}
+
+			TextureLoader loader = TextureLoader.getInstance();
+
+			if (stream.reduction > 0)
+				loader.reduce(stream.root, stream.data);
+
+			else if (stream.data == null)
+				stream.root.streaming = false;
+			else
+				loader.swap(stream.root, stream.data);
+		}
+	}
+
+	/**
+	 * Reduz os pixels de uma textura lida em RGBA até caber em uma miniatura e salva em disco.
+	 * Falhas ao salvar são apenas registradas, a miniatura será gerada na próxima leitura.
+	 * @param path caminho do arquivo da textura em resolução completa.
+	 * @param data objeto contendo os dados da textura em RGBA.
+	 */
+
+	private void saveThumbnail(String path, TextureData data)
+	{
+		int levels = 0;
+
+		while ((data.getWidth() >> levels) > THUMBNAIL_SIZE || (data.getHeight() >> levels) > THUMBNAIL_SIZE)
+			levels++;
+
+		int rowSize = data.getWidth() * 4;
+		ByteBuffer pixels = data.getPixels().duplicate();
+		TextureReducer reducer = new TextureReducer(data.getWidth(), data.getHeight(), 4, levels);
+
+		for (int y = 0; y < data.getHeight(); y++)
+		{
+			pixels.limit((y + 1) * rowSize);
+			pixels.position(y * rowSize);
+			reducer.getRow().put(pixels);
+			reducer.pushRow();
+		}
+
+		ByteBuffer thumbnail = reducer.getPixels();
+		File source = new File(path);
+		File file = getThumbnailFile(path);
+		file.getParentFile().mkdirs();
+
+		byte bytes[] = new byte[thumbnail.remaining()];
+		thumbnail.get(bytes);
+
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+
+			output.writeInt(THUMBNAIL_MAGIC);
+			output.writeLong(source.lastModified());
+			output.writeLong(source.length());
+			output.writeInt(data.getWidth());
+			output.writeInt(data.getHeight());
+			output.writeInt(data.getDepth());
+			output.writeInt(reducer.getWidth());
+			output.writeInt(reducer.getHeight());
+			output.write(bytes);
+
+			logDebug("miniatura '%s' salva (%dx%d).\n", file.getPath(), reducer.getWidth(), reducer.getHeight());
+
+		} catch (IOException e) {
+			logWarning("falha ao salvar miniatura '%s' (%s).\n", file.getPath(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Determina onde a miniatura de uma textura é salva, na pasta de miniaturas ao lado da textura.
+	 * @param path caminho do arquivo da textura em resolução completa.
+	 * @return aquisição do arquivo da miniatura da textura.
+	 */
+
+	private File getThumbnailFile(String path)
+	{
+		File file = new File(path);
+
+		return new File(new File(file.getParentFile(), THUMBNAIL_FOLDER), file.getName() + ".thumb");
+	}
+
+	/**
+	 * Encerra as threads de leitura, texturas que ainda não foram lidas continuarão com a miniatura.
+	 */
+
+	public synchronized void shutdown()
+	{
+		if (workers != null)
+		{
+			workers.shutdownNow();
+			workers = null;
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("workers", workerCount);
+		description.append("loading", getLoading());
+
+		return description.toString();
+	}
+
+	/**
+	 * <h1>Textura em Transmissão</h1>
+	 *
+	 * <p>Associa a textura raíz que está usando uma miniatura aos dados lidos em segundo plano.</p>
+	 */
+
+	private static class TextureStream
+	{
+		/**
+		 * Textura raíz que irá receber os dados.
+		 */
+		private final TextureRoot root;
+
+		/**
+		 * Níveis de mipmap descartados ou 0 para resolução completa.
+		 */
+		private final int reduction;
+
+		/**
+		 * Dados lidos ou null se houve falha na leitura.
+		 */
+		private TextureData data;
+
+		/**
+		 * Cria uma nova textura em transmissão para uma textura raíz.
+		 * @param root textura raíz que irá receber os dados.
+		 * @param reduction níveis de mipmap descartados ou 0 para resolução completa.
+		 */
+
+		public TextureStream(TextureRoot root, int reduction)
+		{
+			this.root = root;
+			this.reduction = reduction;
+		}
+	}
+}
@@ -1,89 +1,89 @@
-package com.erakin.api.resources.world;
-
-/**
- * <h1>Dados de Terreno</h1>
- *
- * <p>Interface usada internamente pelo carregador de mundos para tornar o carregamento dinmico.
- * Os leitores de mundos devero sempre retornar um objeto do qual possua essa interface em sua classe.
- * Assim, todas as informaes bsicas para se criar um novo mundo podero ser obtidas por completo.</p>
- *
- * <p>As informaes vo desde as descritivas como nome e pr-fixo de reconhecimento do mundo.
- * Como algumas mais de configurao: tamanho que cada terreno dever ter e quantos terrenos ter.
- * E por ltimas as que iro definir o terreno de fato, como unidade de cada clula e carregador.</p>
- *
- * @see TerrainLoader
- *
- * @author Andrew
- */
-
-public interface TerrainData
-{
-	/**
-	 * Mundos so formados por terrenos de um nico tamanho, para isso  necessrio um definido.
-	 * Todos os terrenos carregados devem possuir esse tamanho para evitar problemas de renderizao.
-	 * @return aquisio de quantas clulas um terreno ter no eixo da longitude.
-	 */
-
-	int getWidth();
-
-	/**
-	 * Mundos so formados por terrenos de um nico tamanho, para isso  necessrio um definido.
-	 * Todos os terrenos carregados devem possuir esse tamanho para evitar problemas de renderizao.
-	 * @return aquisio de quantas clulas um terreno ter no eixo da latitude.
-	 */
-
-	int getLength();
-
-	/**
-	 * Unidade ir definir qual o tamanho que um terreno ir possuir para cada clula.
-	 * O padro a ser usado deve ser 1.0f que representa 100% do tamanho normal.
-	 * @return aquisio do tamanho de cada unidade (clula) do terreno.
-	 */
-
-	float getUnit();
-
-	/**
-	 * Vetor de posio ir guardar informaes da localizao de cada vrtice no espao.
-	 * Essa localizao concite em determinar todos os trs pontos no espao, X, Y e Z.
-	 * @return aquisio do vetor contendo as posies de cada vrtice do modelo.
-	 */
-
-	float[] getVertices();
-
-	/**
-	 * Vetor de coordenada das texturas ir indicar qual a parte da textura que ser usada
-	 * para preencher cada face do modelo, informando as coordenadas em relao a X e Y.
-	 * As informaes nesse contida  feito atravs de valores flutuantes que variam entre
-	 * 0.0 at 1.0, assim sendo, as coordenadas so em porcentagem e no em pixels.
-	 * @return aquisio do vetor contendo as coordenadas da textura para as faces.
-	 */
-
-	float[] getTextureCoords();
-
-	/**
-	 * Normalizao  indica uma falsa iluminao para simular colises e cavidades.
-	 * Isso ser usado um vetor contendo os valores flutuantes em relao a X, Y e Z.
-	 * Para cada relao dessa ser aplicado a um nico vrtice que forma o terreno.
-	 * @return aquisio do vetor contendo a normalizao das faces formadas.
-	 */
-
-	float[] getNormals();
-
-	/**
-	 * Vetor de ndices permite identificar quais as conexes entre os vrtices.
-	 * Cada face do modelo  conectada por trs vrtices, que sero identificados
-	 * atravs desses ndices, assim sendo, cada trs posies se refere a uma face.
-	 * @return aquisio do vetor contendo a conexo dos vrtices.
-	 */
-
-	int[] getIndices();
-
-	/**
-	 * A matriz de altura do terreno indica o nvel de altura ou profundidade do mesmo.
-	 * O valor da altura ir depender de como foi especificado para o mundo consider-los.
-	 * Cada ndice da matriz ser considerado em relao aos eixos X e Y de cada clula.
-	 * @return aquisio da matriz contendo o valor de nivelamento do terreno (altura).
-	 */
-
-	float[][] getHeights();
-}
+package com.erakin.api.resources.world;
+
+/**
+ * <h1>Dados de Terreno</h1>
+ *
+ * <p>Interface usada internamente pelo carregador de mundos para tornar o carregamento dinâmico.
+ * Os leitores de mundos deverão sempre retornar um objeto do qual possua essa interface em sua classe.
+ * Assim, todas as informações básicas para se criar um novo mundo poderão ser obtidas por completo.</p>
+ *
+ * <p>As informações vão desde as descritivas como nome e pré-fixo de reconhecimento do mundo.
+ * Como algumas mais de configuração: tamanho que cada terreno deverá ter e quantos terrenos terá.
+ * E por últimas as que irão definir o terreno de fato, como unidade de cada célula e carregador.</p>
+ *
+ * @see TerrainLoader
+ *
+ * @author Andrew
+ */
+
+public interface TerrainData
+{
+	/**
+	 * Mundos são formados por terrenos de um único tamanho, para isso é necessário um definido.
+	 * Todos os terrenos carregados devem possuir esse tamanho para evitar problemas de renderização.
+	 * @return aquisição de quantas células um terreno terá no eixo da longitude.
+	 */
+
+	int getWidth();
+
+	/**
+	 * Mundos são formados por terrenos de um único tamanho, para isso é necessário um definido.
+	 * Todos os terrenos carregados devem possuir esse tamanho para evitar problemas de renderização.
+	 * @return aquisição de quantas células um terreno terá no eixo da latitude.
+	 */
+
+	int getLength();
+
+	/**
+	 * Unidade irá definir qual o tamanho que um terreno irá possuir para cada célula.
+	 * O padrão a ser usado deve ser 1.0f que representa 100% do tamanho normal.
+	 * @return aquisição do tamanho de cada unidade (célula) do terreno.
+	 */
+
+	float getUnit();
+
+	/**
+	 * Vetor de posição irá guardar informações da localização de cada vértice no espaço.
+	 * Essa localização concite em determinar todos os três pontos no espaço, X, Y e Z.
+	 * @return aquisição do vetor contendo as posições de cada vértice do modelo.
+	 */
+
+	float[] getVertices();
+
+	/**
+	 * Vetor de coordenada das texturas irá indicar qual a parte da textura que será usada
+	 * para preencher cada face do modelo, informando as coordenadas em relação a X e Y.
+	 * As informações nesse contida é feito através de valores flutuantes que variam entre
+	 * 0.0 até 1.0, assim sendo, as coordenadas são em porcentagem e não em pixels.
+	 * @return aquisição do vetor contendo as coordenadas da textura para as faces.
+	 */
+
+	float[] getTextureCoords();
+
+	/**
+	 * Normalização é indica uma falsa iluminação para simular colisões e cavidades.
+	 * Isso será usado um vetor contendo os valores flutuantes em relação a X, Y e Z.
+	 * Para cada relação dessa será aplicado a um único vértice que forma o terreno.
+	 * @return aquisição do vetor contendo a normalização das faces formadas.
+	 */
+
+	float[] getNormals();
+
+	/**
+	 * Vetor de índices permite identificar quais as conexões entre os vértices.
+	 * Cada face do modelo é conectada por três vértices, que serão identificados
+	 * através desses índices, assim sendo, cada três posições se refere a uma face.
+	 * @return aquisição do vetor contendo a conexão dos vértices.
+	 */
+
+	int[] getIndices();
+
+	/**
+	 * A matriz de altura do terreno indica o nível de altura ou profundidade do mesmo.
+	 * O valor da altura irá depender de como foi especificado para o mundo considerá-los.
+	 * Cada índice da matriz será considerado em relação aos eixos X e Y de cada célula.
+	 * @return aquisição da matriz contendo o valor de nivelamento do terreno (altura).
+	 */
+
+	float[][] getHeights();
+}
@@ -0,0 +1,44 @@
+package com.erakin.api.resources.world;
+
+/**
+ * <h1>Carregador de Terreno Transmitido</h1>
+ *
+ * <p>Carregador de terrenos que separa o carregamento em duas etapas, permitindo que a leitura dos dados seja
+ * feita em segundo plano pelo {@link TerrainStreamer}. A leitura não pode chamar nenhum comando OpenGL e
+ * a criação, onde a modelagem e as texturas são enviadas ao OpenGL, sempre ocorre na thread principal.</p>
+ *
+ * <p>Carregadores que implementam apenas {@link TerrainLoader} continuam podendo ser transmitidos,
+ * porém todo o carregamento é feito na thread principal, limitado a um terreno por atualização.</p>
+ *
+ * @see TerrainLoader
+ * @see TerrainStreamer
+ *
+ * @author Andrew
+ *
+ * @param <D> tipo dos dados lidos em segundo plano.
+ */
+
+public interface TerrainStreamLoader<D> extends TerrainLoader
+{
+	/**
+	 * Procedimento chamado pelas threads de leitura, deve apenas ler os dados do terreno sem acessar o OpenGL.
+	 * @param world referência do mundo do qual está solicitando o carregamento do terreno.
+	 * @param xTerrain coordenada do terreno na grade de terrenos do mundo no eixo da longitude.
+	 * @param zTerrain coordenada do terreno na grade de terrenos do mundo no eixo da latitude.
+	 * @return aquisição dos dados lidos do terreno que serão usados na sua criação.
+	 * @throws TerrainException apenas se houver falha na leitura dos dados do terreno.
+	 */
+
+	D read(World world, int xTerrain, int zTerrain) throws TerrainException;
+
+	/**
+	 * Procedimento chamado na thread principal para criar o terreno a partir dos dados já lidos.
+	 * @param world referência do mundo do qual está solicitando o carregamento do terreno.
+	 * @param xTerrain coordenada do terreno na grade de terrenos do mundo no eixo da longitude.
+	 * @param zTerrain coordenada do terreno na grade de terrenos do mundo no eixo da latitude.
+	 * @param data dados do terreno obtidos através da leitura em segundo plano.
+	 * @return aquisição do terreno criado de acordo com o mundo e coordenadas.
+	 */
+
+	Terrain create(World world, int xTerrain, int zTerrain, D data);
+}
@@ -0,0 +1,607 @@
+package com.erakin.api.resources.world;
+
+import static org.diverproject.log.LogSystem.logDebug;
+import static org.diverproject.log.LogSystem.logWarning;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Queue;
+import org.diverproject.util.collection.abstraction.DynamicQueue;
+
+/**
+ * <h1>Transmissor de Terrenos</h1>
+ *
+ * <p>Mantém carregados apenas os terrenos de um mundo que estão ao redor da posição de renderização,
+ * permitindo percorrer mundos grandes sem carregar todos os seus terrenos. São carregados os terrenos
+ * até <code>loadRadius</code> terrenos de distância da posição, sempre o mais próximo primeiro, e são
+ * liberados (modelagem e relevo) os que estiverem além de <code>unloadRadius</code>. A diferença entre os
+ * dois raios evita que terrenos na borda sejam carregados e liberados repetidamente.</p>
+ *
+ * <p>Se o carregador do mundo for um {@link TerrainStreamLoader} a leitura dos terrenos é feita por threads
+ * em segundo plano e apenas a criação ocorre na thread principal, caso contrário o carregamento completo é
+ * feito na thread principal. Em ambos os casos são criados no máximo <code>MAX_CREATES_PER_UPDATE</code>
+ * terrenos por atualização, evitando que a renderização seja interrompida por vários carregamentos.</p>
+ *
+ * @see TerrainStreamLoader
+ * @see World
+ *
+ * @author Andrew
+ */
+
+public class TerrainStreamer
+{
+	/**
+	 * Quantidade padrão de threads usadas para ler os terrenos.
+	 */
+	public static final int DEFAULT_WORKERS = 2;
+
+	/**
+	 * Distância padrão em terrenos até onde os terrenos são carregados.
+	 */
+	public static final int DEFAULT_LOAD_RADIUS = 2;
+
+	/**
+	 * Quantidade máxima de terrenos criados na thread principal por atualização.
+	 */
+	public static final int MAX_CREATES_PER_UPDATE = 1;
+
+	/**
+	 * Terreno que ainda não foi solicitado ou já foi liberado.
+	 */
+	private static final byte STATE_NONE = 0;
+
+	/**
+	 * Terreno sendo lido por uma das threads.
+	 */
+	private static final byte STATE_READING = 1;
+
+	/**
+	 * Terreno que não pôde ser carregado, só é solicitado novamente após sair do raio de liberação.
+	 */
+	private static final byte STATE_FAILED = 2;
+
+	/**
+	 * Mundo do qual os terrenos serão carregados.
+	 */
+	private final World world;
+
+	/**
+	 * Situação da transmissão de cada terreno do mundo.
+	 */
+	private final byte states[][];
+
+	/**
+	 * Terrenos já lidos aguardando serem criados na thread principal.
+	 */
+	private final Queue<TerrainStream> completed;
+
+	/**
+	 * Threads responsáveis pela leitura dos terrenos.
+	 */
+	private ExecutorService workers;
+
+	/**
+	 * Quantidade de threads usadas para ler os terrenos.
+	 */
+	private int workerCount;
+
+	/**
+	 * Quantidade de terrenos sendo lidos ou aguardando serem criados.
+	 */
+	private int reading;
+
+	/**
+	 * Distância em terrenos até onde os terrenos são carregados.
+	 */
+	private int loadRadius;
+
+	/**
+	 * Distância em terrenos a partir de onde os terrenos são liberados.
+	 */
+	private int unloadRadius;
+
+	/**
+	 * Coordenada do terreno central no eixo da latitude.
+	 */
+	private int xCenter;
+
+	/**
+	 * Coordenada do terreno central no eixo da longitude.
+	 */
+	private int zCenter;
+
+	/**
+	 * Terreno central foi alterado desde a última liberação de terrenos.
+	 */
+	private boolean moved;
+
+	/**
+	 * Cria um novo transmissor de terrenos para um mundo, as threads são criadas apenas quando necessárias.
+	 * @param world referência do mundo do qual os terrenos serão carregados.
+	 */
+
+	public TerrainStreamer(World world)
+	{
+		if (world == null || !world.valid())
+			throw new WorldRuntimeException("mundo inválido para transmissão");
+
+		this.world = world;
+		this.states = new byte[world.getWidth()][world.getLength()];
+		this.completed = new DynamicQueue<TerrainStream>();
+		this.workerCount = DEFAULT_WORKERS;
+
+		setLoadRadius(DEFAULT_LOAD_RADIUS);
+	}
+
+	/**
+	 * @return aquisição do mundo do qual os terrenos são carregados.
+	 */
+
+	public World getWorld()
+	{
+		return world;
+	}
+
+	/**
+	 * @return aquisição da quantidade de threads usadas para ler os terrenos.
+	 */
+
+	public int getWorkerCount()
+	{
+		return workerCount;
+	}
+
+	/**
+	 * Permite definir quantas threads serão usadas para ler os terrenos, antes da primeira leitura.
+	 * @param workerCount quantidade de threads usadas para ler os terrenos.
+	 */
+
+	public void setWorkerCount(int workerCount)
+	{
+		if (workers != null)
+			throw new WorldRuntimeException("transmissor já iniciado");
+
+		this.workerCount = Math.max(1, workerCount);
+	}
+
+	/**
+	 * @return aquisição da distância em terrenos até onde os terrenos são carregados.
+	 */
+
+	public int getLoadRadius()
+	{
+		return loadRadius;
+	}
+
+	/**
+	 * Define a distância de carregamento, o raio de liberação será ajustado se não for maior que ela.
+	 * @param loadRadius distância em terrenos até onde os terrenos são carregados, no mínimo zero.
+	 */
+
+	public void setLoadRadius(int loadRadius)
+	{
+		this.loadRadius = Math.max(0, loadRadius);
+		this.unloadRadius = Math.max(unloadRadius, this.loadRadius + 1);
+		this.moved = true;
+	}
+
+	/**
+	 * @return aquisição da distância em terrenos a partir de onde os terrenos são liberados.
+	 */
+
+	public int getUnloadRadius()
+	{
+		return unloadRadius;
+	}
+
+	/**
+	 * Define a distância de liberação, deve ser maior que a de carregamento para evitar recarregamentos.
+	 * @param unloadRadius distância em terrenos a partir de onde os terrenos são liberados.
+	 */
+
+	public void setUnloadRadius(int unloadRadius)
+	{
+		this.unloadRadius = Math.max(loadRadius + 1, unloadRadius);
+		this.moved = true;
+	}
+
+	/**
+	 * Define a posição de renderização que será usada como centro dos terrenos carregados.
+	 * @param x coordenada da posição no eixo X do espaço do mundo.
+	 * @param z coordenada da posição no eixo Z do espaço do mundo.
+	 */
+
+	public void setRenderPosition(float x, float z)
+	{
+		float terrainWidth = world.getTerrainWidth() * world.getUnitSize();
+		float terrainLength = world.getTerrainLength() * world.getUnitSize();
+
+		setCenter((int) Math.floor(x / terrainWidth), (int) Math.floor(z / terrainLength));
+	}
+
+	/**
+	 * Define diretamente o terreno que será usado como centro dos terrenos carregados.
+	 * @param xTerrain coordenada do terreno central no eixo da latitude.
+	 * @param zTerrain coordenada do terreno central no eixo da longitude.
+	 */
+
+	public void setCenter(int xTerrain, int zTerrain)
+	{
+		if (xTerrain != xCenter || zTerrain != zCenter)
+		{
+			xCenter = xTerrain;
+			zCenter = zTerrain;
+			moved = true;
+		}
+	}
+
+	/**
+	 * Obtém um terreno apenas se já estiver carregado, nunca bloqueando a thread para carregá-lo.
+	 * @param xTerrain coordenada do terreno em relação ao eixo da latitude.
+	 * @param zTerrain coordenada do terreno em relação ao eixo da longitude.
+	 * @return aquisição do terreno carregado na coordenada ou null se ainda não estiver carregado.
+	 */
+
+	public Terrain getTerrain(int xTerrain, int zTerrain)
+	{
+		return world.getLoadedTerrain(xTerrain, zTerrain);
+	}
+
+	/**
+	 * @return aquisição da quantidade de terrenos sendo lidos ou aguardando serem criados.
+	 */
+
+	public synchronized int getReading()
+	{
+		return reading;
+	}
+
+	/**
+	 * Deve ser chamado a cada atualização na thread principal: cria os terrenos já lidos, libera os terrenos
+	 * além do raio de liberação e solicita a leitura dos terrenos mais próximos que ainda não foram carregados.
+	 */
+
+	public void update()
+	{
+		if (!world.valid())
+			return;
+
+		TerrainLoader loader = world.getTerrainLoader();
+
+		if (moved)
+		{
+			unloadDistant();
+			moved = false;
+		}
+
+		if (loader instanceof TerrainStreamLoader)
+		{
+			createCompleted((TerrainStreamLoader<?>) loader);
+
+			while (getReading() < workerCount && submitNearest((TerrainStreamLoader<?>) loader));
+		}
+
+		else if (loader != null)
+			for (int i = 0; i < MAX_CREATES_PER_UPDATE; i++)
+				if (!loadNearest(loader))
+					break;
+	}
+
+	/**
+	 * Libera todos os terrenos carregados que estão além do raio de liberação, e permite que os terrenos
+	 * que falharam ao carregar e estão além do raio de liberação sejam solicitados novamente.
+	 */
+
+	private void unloadDistant()
+	{
+		int released = 0;
+
+		for (int xTerrain = 0; xTerrain < states.length; xTerrain++)
+			for (int zTerrain = 0; zTerrain < states[xTerrain].length; zTerrain++)
+				if (getDistance(xTerrain, zTerrain) > unloadRadius)
+				{
+					if (states[xTerrain][zTerrain] == STATE_FAILED)
+						states[xTerrain][zTerrain] = STATE_NONE;
+
+					if (world.releaseTerrain(xTerrain, zTerrain))
+						released++;
+				}
+
+		if (released > 0)
+			logDebug("%d terrenos liberados (world: %s, center: %d,%d).\n", released, world.getPrefix(), xCenter, zCenter);
+	}
+
+	/**
+	 * Procura o terreno mais próximo do centro que está dentro do raio de carregamento e ainda não foi solicitado.
+	 * @return aquisição de um vetor com as coordenadas do terreno ou null se todos já foram solicitados.
+	 */
+
+	private int[] findNearest()
+	{
+		int nearest[] = null;
+		int nearestDistance = Integer.MAX_VALUE;
+
+		for (int xTerrain = xCenter - loadRadius; xTerrain <= xCenter + loadRadius; xTerrain++)
+			for (int zTerrain = zCenter - loadRadius; zTerrain <= zCenter + loadRadius; zTerrain++)
+			{
+				if (!world.isTerrainCoordinate(xTerrain, zTerrain) || states[xTerrain][zTerrain] != STATE_NONE || world.getLoadedTerrain(xTerrain, zTerrain) != null)
+					continue;
+
+				int x = xTerrain - xCenter;
+				int z = zTerrain - zCenter;
+				int distance = x * x + z * z;
+
+				if (distance < nearestDistance)
+				{
+					nearest = new int[] { xTerrain, zTerrain };
+					nearestDistance = distance;
+				}
+			}
+
+		return nearest;
+	}
+
+	/**
+	 * Carrega por completo na thread principal o terreno mais próximo que ainda não foi carregado.
+	 * @param loader carregador de terrenos do mundo.
+	 * @return true se algum terreno foi carregado ou false se todos já estão carregados.
+	 */
+
+	private boolean loadNearest(TerrainLoader loader)
+	{
+		int nearest[] = findNearest();
+
+		if (nearest == null)
+			return false;
+
+		try {
+			install(loader.load(world, nearest[0], nearest[1]), nearest[0], nearest[1]);
+		} catch (Exception e) {
+			fail(nearest[0], nearest[1], e);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Agenda a leitura em segundo plano do terreno mais próximo que ainda não foi solicitado.
+	 * @param loader carregador de terrenos do mundo que permite a leitura em segundo plano.
+	 * @return true se algum terreno foi agendado ou false se todos já foram solicitados.
+	 */
+
+	private synchronized boolean submitNearest(final TerrainStreamLoader<?> loader)
+	{
+		int nearest[] = findNearest();
+
+		if (nearest == null)
+			return false;
+
+		if (workers == null)
+			workers = Executors.newFixedThreadPool(workerCount, new ThreadFactory()
+			{
+				@Override
+				public Thread newThread(Runnable runnable)
+				{
+					Thread thread = new Thread(runnable, "TerrainStreamer");
+					thread.setDaemon(true);
+
+					return thread;
+				}
+			});
+
+		final TerrainStream stream = new TerrainStream(nearest[0], nearest[1]);
+
+		states[stream.x][stream.z] = STATE_READING;
+		reading++;
+
+		workers.execute(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				read(loader, stream);
+			}
+		});
+
+		return true;
+	}
+
+	/**
+	 * Procedimento executado pelas threads de leitura, lê os dados do terreno sem acessar o OpenGL.
+	 * @param loader carregador de terrenos do mundo que permite a leitura em segundo plano.
+	 * @param stream terreno em transmissão que irá receber os dados lidos.
+	 */
+
+	private void read(TerrainStreamLoader<?> loader, TerrainStream stream)
+	{
+		try {
+			stream.data = loader.read(world, stream.x, stream.z);
+		} catch (Exception e) {
+			stream.error = e;
+		} finally {
+
+			synchronized (this)
+			{
+				completed.offer(stream);
+			}
+		}
+	}
+
+	/**
+	 * Cria na thread principal os terrenos já lidos, respeitando o limite de <code>MAX_CREATES_PER_UPDATE</code>.
+	 * Terrenos que saíram do raio de liberação enquanto eram lidos são descartados sem serem criados.
+	 * @param loader carregador de terrenos do mundo que permite a leitura em segundo plano.
+	 */
+
+	private void createCompleted(TerrainStreamLoader<?> loader)
+	{
+		for (int created = 0; created < MAX_CREATES_PER_UPDATE; )
+		{
+			TerrainStream stream;
+
+			synchronized (this)
+			{
+				if (completed.isEmpty())
+					return;
+
+				stream = completed.poll();
+				reading--;
+			}
+
+			states[stream.x][stream.z] = STATE_NONE;
+
+			if (stream.error != null)
+				fail(stream.x, stream.z, stream.error);
+
+			else if (getDistance(stream.x, stream.z) <= unloadRadius)
+			{
+				try {
+					install(create(loader, stream), stream.x, stream.z);
+				} catch (Exception e) {
+					fail(stream.x, stream.z, e);
+				}
+
+				created++;
+			}
+		}
+	}
+
+	/**
+	 * Cria o terreno a partir dos dados lidos, usado apenas para preservar o tipo dos dados do carregador.
+	 * @param loader carregador de terrenos do mundo que permite a leitura em segundo plano.
+	 * @param stream terreno em transmissão contendo os dados lidos.
+	 * @return aquisição do terreno criado pelo carregador.
+	 */
+
+	@SuppressWarnings("unchecked")
+	private <D> Terrain create(TerrainStreamLoader<D> loader, TerrainStream stream)
+	{
+		return loader.create(world, stream.x, stream.z, (D) stream.data);
+	}
+
+	/**
+	 * Vincula um terreno carregado ao mundo, liberando-o se não puder ser vinculado ou se outro
+	 * terreno já tiver sido carregado na mesma coordenada por fora do transmissor.
+	 * @param terrain referência do terreno que foi carregado.
+	 * @param xTerrain coordenada do terreno em relação ao eixo da latitude.
+	 * @param zTerrain coordenada do terreno em relação ao eixo da longitude.
+	 */
+
+	private void install(Terrain terrain, int xTerrain, int zTerrain)
+	{
+		if (terrain == null)
+			throw new WorldRuntimeException("carregador não retornou um terreno");
+
+		terrain.worldID = world.getID();
+
+		if (world.getLoadedTerrain(xTerrain, zTerrain) != null)
+		{
+			World.unloadModel(terrain);
+		}
+
+		else if (!world.setTerrain(terrain, xTerrain, zTerrain))
+		{
+			World.unloadModel(terrain);
+
+			states[xTerrain][zTerrain] = STATE_FAILED;
+		}
+	}
+
+	/**
+	 * Registra a falha no carregamento de um terreno para que não seja solicitado a cada atualização.
+	 * @param xTerrain coordenada do terreno em relação ao eixo da latitude.
+	 * @param zTerrain coordenada do terreno em relação ao eixo da longitude.
+	 * @param e exceção que ocasionou a falha no carregamento.
+	 */
+
+	private void fail(int xTerrain, int zTerrain, Exception e)
+	{
+		states[xTerrain][zTerrain] = STATE_FAILED;
+
+		logWarning("falha ao transmitir terreno (world: %s, terreno: %d,%d): %s\n", world.getPrefix(), xTerrain, zTerrain, e.getMessage());
+	}
+
+	/**
+	 * Calcula a distância em terrenos até o terreno central, considerando o maior eixo (anel quadrado).
+	 * @param xTerrain coordenada do terreno em relação ao eixo da latitude.
+	 * @param zTerrain coordenada do terreno em relação ao eixo da longitude.
+	 * @return aquisição da distância em terrenos até o terreno central.
+	 */
+
+	private int getDistance(int xTerrain, int zTerrain)
+	{
+		return Math.max(Math.abs(xTerrain - xCenter), Math.abs(zTerrain - zCenter));
+	}
+
+	/**
+	 * Encerra as threads de leitura, terrenos já carregados continuam no mundo até serem liberados.
+	 */
+
+	public synchronized void shutdown()
+	{
+		if (workers != null)
+		{
+			workers.shutdownNow();
+			workers = null;
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("world", world.getPrefix());
+		description.append("center", String.format("%d,%d", xCenter, zCenter));
+		description.append("loadRadius", loadRadius);
+		description.append("unloadRadius", unloadRadius);
+		description.append("workers", workerCount);
+		description.append("reading", getReading());
+
+		return description.toString();
+	}
+
+	/**
+	 * <h1>Terreno em Transmissão</h1>
+	 *
+	 * <p>Associa as coordenadas de um terreno aos dados lidos em segundo plano.</p>
+	 */
+
+	private static class TerrainStream
+	{
+		/**
+		 * Coordenada do terreno no eixo da latitude.
+		 */
+		private final int x;
+
+		/**
+		 * Coordenada do terreno no eixo da longitude.
+		 */
+		private final int z;
+
+		/**
+		 * Dados lidos pelo carregador ou null se houve falha na leitura.
+		 */
+		private Object data;
+
+		/**
+		 * Exceção ocorrida durante a leitura ou null se foi lido com sucesso.
+		 */
+		private Exception error;
+
+		/**
+		 * Cria um novo terreno em transmissão para as coordenadas de um terreno.
+		 * @param x coordenada do terreno no eixo da latitude.
+		 * @param z coordenada do terreno no eixo da longitude.
+		 */
+
+		public TerrainStream(int x, int z)
+		{
+			this.x = x;
+			this.z = z;
+		}
+	}
+}
@@ -1,208 +1,208 @@
-package com.erakin.api.resources.world;
-
-/**
- * <h1>Dados do Mundo Padro</h1>
- *
- * <p>Classe que implementa a interface para representao de dados de um mondo afim de carreg-lo.
- * Essa implementao  simples apenas especificados os dados necessrios para que os getters funcionem.
- * Esse atributos consistem em especificar o nome do mundo, pr-fixo, pasta dos terrenos, qual ser o
- * carregador de terrenos usado, quantos terrenos ir possuir e qual o tamanho dos terrenos e da unidade.</p>
- *
- * @see WorldData
- * @see TerrainLoader
- *
- * @author Andrew
- */
-
-public class WorldDataDefault implements WorldData
-{
-	/**
-	 * Nome para que os usurios identifiquem o mundo.
-	 */
-	private String name;
-
-	/**
-	 * Pr-fixo usado mais para o desenvolvedor identificar o mundo.
-	 */
-	private String prefix;
-
-	/**
-	 * Pasta onde ser encontrado os arquivos referentes aos terrenos.
-	 */
-	private String folder;
-
-	/**
-	 * Carregador de terrenos que ser usado quando o mundo solicitar terrenos.
-	 */
-	private TerrainLoader loader;
-
-	/**
-	 * Quantos terrenos o mundo poder alocar na vertical, o eixo da longitude.
-	 */
-	private int width;
-
-	/**
-	 * Quantos terrenos o mundo poder alocar na horizontal, o eixo da latitude.
-	 */
-	private int length;
-
-	/**
-	 * Tamanho da largura do terreno em clulas, o tamanho varia conforme a unidade.
-	 */
-	private int terrainWidth;
-
-	/**
-	 * Tamanho do comprimento do terreno em clulas, o tamanho varia conforme a unidade.
-	 */
-	private int terrainLength;
-
-	/**
-	 * Tamanho da unidade de cada clula dos terrenos desse mundo.
-	 */
-	private float unit;
-
-	/**
-	 * Cria um novo objeto para armazenar os dados temporrios de um mundo carregado.
-	 * Dever verificar se os valores de tamanho do mundo e unidade so vlidos.
-	 * @param width quantidade de terrenos que podem ser alocados no eixo da longitude.
-	 * @param length quantidade de terrenos que podem ser alocados no eixo da latitude.
-	 * @param unit tamanho de ocupao de cada clula dos terrenos desse mundo.
-	 */
-
-	public WorldDataDefault(int width, int length, float unit)
-	{
-		init(width, length, unit);
-	}
-
-	/**
-	 * Inicializa os atributos desse objeto representando os dados de um mundo.
-	 * Garante que os valores passados por parmetro no construtor sejam vlidos.
-	 * @param width largura do mundo em quantidade de terrenos tendo mnimo de 2.
-	 * @param length comprimento do mundo em quantidade de terrenos tendo mnimo de 2.
-	 * @param unit tamanho de ocupao de cada clula tendo mnimo de 0.1f.
-	 * @throw 
-	 */
-
-	private void init(int width, int length, float unit)
-	{
-		if (width < 1 || length < 1)
-			throw new WorldRuntimeException("tamanho do mundo muito pequeno");
-
-		if (unit < 0.1f)
-			throw new WorldRuntimeException("unidade de espao muito pequena");
-
-		this.width = width;
-		this.length = length;
-		this.unit = unit;
-	}
-
-	@Override
-	public String getName()
-	{
-		return name;
-	}
-
-	/**
-	 * Permite definir um nome para o mundo usado como identificao ao jogador.
-	 * @param name novo nome a ser especificado para os dados desse mundo.
-	 */
-
-	public void setName(String name)
-	{
-		this.name = name;
-	}
-
-	@Override
-	public String getPrefix()
-	{
-		return prefix;
-	}
-
-	/**
-	 * Permite definir o pr-fixo do mundo usado como identificao ao desenvolvedor.
-	 * @param prefix novo pr-fixo a ser especificado para os dados desse mundo.
-	 */
-
-	public void setPrefix(String prefix)
-	{
-		this.prefix = prefix;
-	}
-
-	@Override
-	public String getFolder()
-	{
-		return folder;
-	}
-
-	/**
-	 * Permite definir o diretrio da pasta que ir conter os arquivos de terreno.
-	 * @param folder novo caminho completo ou parcial do diretrio dos terrenos.
-	 */
-
-	public void setFolder(String folder)
-	{
-		this.folder = folder;
-	}
-
-	@Override
-	public TerrainLoader getTerrainLoader()
-	{
-		return loader;
-	}
-
-	/**
-	 * Permite definir qual ser o carregador de terrenos usado quando o mundo for criado.
-	 * @param loader referncia do novo carregador de terrenos que ser considerado.
-	 */
-
-	public void setLoader(TerrainLoader loader)
-	{
-		this.loader = loader;
-	}
-
-	@Override
-	public int getWidth()
-	{
-		return width;
-	}
-
-	@Override
-	public int getLength()
-	{
-		return length;
-	}
-
-	@Override
-	public int getTerrainWidth()
-	{
-		return terrainWidth;
-	}
-
-	@Override
-	public int getTerrainLength()
-	{
-		return terrainLength;
-	}
-
-	/**
-	 * Permite definir qual ser o tamanho em clulas de cada terreno.
-	 * O mnimo permitido  de 2 clulas de largura e comprimento.
-	 * @param terrainWidth quantidade de clulas no eixo da longitude (vertical).
-	 * @param terrainLength quantidade de clulas no eixo da latitude (horizontal).
-	 */
-
-	public void setTerrainSize(int terrainWidth, int terrainLength)
-	{
-		if (terrainWidth > 0 && terrainLength > 0)
-		{
-			this.terrainWidth = terrainWidth;
-			this.terrainLength = terrainLength;
-		}
-	}
-
-	@Override
-	public float getUnit()
-	{
-		return unit;
-	}
-}
+package com.erakin.api.resources.world;
+
+/**
+ * <h1>Dados do Mundo Padrão</h1>
+ *
+ * <p>Classe que implementa a interface para representação de dados de um mondo afim de carregá-lo.
+ * Essa implementação é simples apenas especificados os dados necessários para que os getters funcionem.
+ * Esse atributos consistem em especificar o nome do mundo, pré-fixo, pasta dos terrenos, qual será o
+ * carregador de terrenos usado, quantos terrenos irá possuir e qual o tamanho dos terrenos e da unidade.</p>
+ *
+ * @see WorldData
+ * @see TerrainLoader
+ *
+ * @author Andrew
+ */
+
+public class WorldDataDefault implements WorldData
+{
+	/**
+	 * Nome para que os usuários identifiquem o mundo.
+	 */
+	private String name;
+
+	/**
+	 * Pré-fixo usado mais para o desenvolvedor identificar o mundo.
+	 */
+	private String prefix;
+
+	/**
+	 * Pasta onde será encontrado os arquivos referentes aos terrenos.
+	 */
+	private String folder;
+
+	/**
+	 * Carregador de terrenos que será usado quando o mundo solicitar terrenos.
+	 */
+	private TerrainLoader loader;
+
+	/**
+	 * Quantos terrenos o mundo poderá alocar na vertical, o eixo da longitude.
+	 */
+	private int width;
+
+	/**
+	 * Quantos terrenos o mundo poderá alocar na horizontal, o eixo da latitude.
+	 */
+	private int length;
+
+	/**
+	 * Tamanho da largura do terreno em células, o tamanho varia conforme a unidade.
+	 */
+	private int terrainWidth;
+
+	/**
+	 * Tamanho do comprimento do terreno em células, o tamanho varia conforme a unidade.
+	 */
+	private int terrainLength;
+
+	/**
+	 * Tamanho da unidade de cada célula dos terrenos desse mundo.
+	 */
+	private float unit;
+
+	/**
+	 * Cria um novo objeto para armazenar os dados temporários de um mundo carregado.
+	 * Deverá verificar se os valores de tamanho do mundo e unidade são válidos.
+	 * @param width quantidade de terrenos que podem ser alocados no eixo da longitude.
+	 * @param length quantidade de terrenos que podem ser alocados no eixo da latitude.
+	 * @param unit tamanho de ocupação de cada célula dos terrenos desse mundo.
+	 */
+
+	public WorldDataDefault(int width, int length, float unit)
+	{
+		init(width, length, unit);
+	}
+
+	/**
+	 * Inicializa os atributos desse objeto representando os dados de um mundo.
+	 * Garante que os valores passados por parâmetro no construtor sejam válidos.
+	 * @param width largura do mundo em quantidade de terrenos tendo mínimo de 2.
+	 * @param length comprimento do mundo em quantidade de terrenos tendo mínimo de 2.
+	 * @param unit tamanho de ocupação de cada célula tendo mínimo de 0.1f.
+	 * @throw 
+	 */
+
+	private void init(int width, int length, float unit)
+	{
+		if (width < 1 || length < 1)
+			throw new WorldRuntimeException("tamanho do mundo muito pequeno");
+
+		if (unit < 0.1f)
+			throw new WorldRuntimeException("unidade de espaço muito pequena");
+
+		this.width = width;
+		this.length = length;
+		this.unit = unit;
+	}
+
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Permite definir um nome para o mundo usado como identificação ao jogador.
+	 * @param name novo nome a ser especificado para os dados desse mundo.
+	 */
+
+	public void setName(String name)
+	{
+		this.name = name;
+	}
+
+	@Override
+	public String getPrefix()
+	{
+		return prefix;
+	}
+
+	/**
+	 * Permite definir o pré-fixo do mundo usado como identificação ao desenvolvedor.
+	 * @param prefix novo pré-fixo a ser especificado para os dados desse mundo.
+	 */
+
+	public void setPrefix(String prefix)
+	{
+		this.prefix = prefix;
+	}
+
+	@Override
+	public String getFolder()
+	{
+		return folder;
+	}
+
+	/**
+	 * Permite definir o diretório da pasta que irá conter os arquivos de terreno.
+	 * @param folder novo caminho completo ou parcial do diretório dos terrenos.
+	 */
+
+	public void setFolder(String folder)
+	{
+		this.folder = folder;
+	}
+
+	@Override
+	public TerrainLoader getTerrainLoader()
+	{
+		return loader;
+	}
+
+	/**
+	 * Permite definir qual será o carregador de terrenos usado quando o mundo for criado.
+	 * @param loader referência do novo carregador de terrenos que será considerado.
+	 */
+
+	public void setLoader(TerrainLoader loader)
+	{
+		this.loader = loader;
+	}
+
+	@Override
+	public int getWidth()
+	{
+		return width;
+	}
+
+	@Override
+	public int getLength()
+	{
+		return length;
+	}
+
+	@Override
+	public int getTerrainWidth()
+	{
+		return terrainWidth;
+	}
+
+	@Override
+	public int getTerrainLength()
+	{
+		return terrainLength;
+	}
+
+	/**
+	 * Permite definir qual será o tamanho em células de cada terreno.
+	 * O mínimo permitido é de 2 células de largura e comprimento.
+	 * @param terrainWidth quantidade de células no eixo da longitude (vertical).
+	 * @param terrainLength quantidade de células no eixo da latitude (horizontal).
+	 */
+
+	public void setTerrainSize(int terrainWidth, int terrainLength)
+	{
+		if (terrainWidth > 0 && terrainLength > 0)
+		{
+			this.terrainWidth = terrainWidth;
+			this.terrainLength = terrainLength;
+		}
+	}
+
+	@Override
+	public float getUnit()
+	{
+		return unit;
+	}
+}
@@ -1,208 +1,208 @@
-package com.erakin.api.resources.world;
-
-import static org.diverproject.log.LogSystem.logDebug;
-import static org.diverproject.log.LogSystem.logWarning;
-
-import java.io.File;
-
-import org.diverproject.util.FileUtil;
-import org.diverproject.util.ObjectDescription;
-
-import com.erakin.api.resources.ResourceLoaderDefault;
-import com.erakin.api.resources.ResourceMap;
-import com.erakin.api.resources.ResourceRoot;
-
-/**
- * <h1>Carregador de Mundos</h1>
- *
- * <p>Usada para fazer um gerenciamento avanado dos mundos/terrenos carregadas a partir de arquivos.
- * Alm de carregar, salva as informaes em uma pasta virtual em memria para que no seja carregada duas vezes.</p>
- *
- * <p>Por exemplo, um mundo chamado <b>terra</b> ir verificar se o mundo j foi carregado no sistema,
- * caso ele j tenha sido carregado, ir usar as informaes do mesmo ao invs de carregar novamente.
- * Esse sistema permite alm de economizar tempo de processamento evitar consumo de memria desnecessrio.</p>
- *
- * <p>Por padro o formato dos dados bsicos de um mundo so armazenados em um arquivo <b>wdd</b>.
- * Esse arquivo deve conter o nome do mundo, quantidade de terrenos e a forma como ser feita a leitura.
- * Podendo variar de acordo com a preferncia ou necessidade do usurio em relao a informaes do mundo.</p>
- *
- * @see ResourceMap
- * @see WorldReader
- * @see WorldReaderFactory
- *
- * @author Andrew Mello
- */
-
-public class WorldLoader extends ResourceLoaderDefault<World>
-{
-	/**
-	 * Instncia para carregador de mundos no padro de projetos Singleton.
-	 */
-	private static final WorldLoader INSTANCE = new WorldLoader();
-
-	/**
-	 * Nome padro para mapeamento de mundos.
-	 */
-	public static final String DEFAULT_PATH = "worlds";
-
-	/**
-	 * Dimenso mnima para definir o tamanho de latitude ou longitude em terrenos de um mundo.
-	 */
-	public static final int MIN_MAP_SIZE = 1;
-
-	/**
-	 * Dimenso mxima para definir o tamanho de latitude ou longitude em terrenos de um mundo.
-	 */
-	public static final int MAX_MAP_SIZE = 1024;
-
-
-	/**
-	 * Quantidade de mundos j carregados.
-	 */
-	private int count;
-
-	/**
-	 * Construtor privado para evitar mltiplas instncias para o carregador de mapas.
-	 * Inicializa o mapeador de recursos definindo o seu nome por padro <code>DEFAULT_PATH</code>.
-	 */
-
-	private WorldLoader()
-	{
-		super(DEFAULT_PATH);
-	}
-
-	/**
-	 * Permite obter um determinado mapa j carregado ou ento forar o carregamento deste.
-	 * Se o mapa existir ir retornar um mapa temporria dessa raz caso contrrio ir
-	 * criar uma nova raz carregando as informaes do arquivo de acordo com o nome do mapa.
-	 * Utiliza as propriedades de preferncias que definem o caminho para arquivos de mapas.
-	 * @param name nome do qual foi dado ao mapa, em outras palavras o nome do arquivo,
-	 * caso no seja definido nenhuma extenso para esse, ser considerado <b>map</b> por padro.
-	 * @return aquisio do objeto de mapa temporrio gerado da raz de acordo com o nome.
-	 * @throws WorldException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
-	 */
-
-	public World getMap(String name) throws WorldException
-	{
-		if (!name.contains("."))
-			name += ".xml";
-
-		ResourceRoot<World> resourceRoot = selectResource(name);
-
-		if (resourceRoot != null)
-		{
-			WorldRoot mapRoot = (WorldRoot) resourceRoot;
-			return mapRoot.genResource();
-		}
-
-		String path = getPathname() + name;
-		WorldReaderFactory factory = WorldReaderFactory.getInstance();
-		WorldReader reader = factory.getMapReaderOf(path);
-
-		try {
-
-			WorldData data = reader.readWorld(new File(path));
-			World map = createWorld(path, data);
-
-			return map;
-
-		} catch (Exception e) {
-			throw new WorldException(e);
-		}
-	}
-
-	/**
-	 * Permite construir um novo mapa a partir das informaes abaixo.
-	 * Caso o caminho de alocao j esteja sendo usado por outra no ser possvel criar.
-	 * Se for possvel criar, o mapa raz ser armazenada e gerada uma temporria.
-	 * @param path caminho onde foi localizado o mapa, onde deve ser alocada.
-	 * @param data objeto contendo os dados do mapa para armazenamento.
-	 * @return aquisio de um mapa de uso temporrio.
-	 */
-
-	public World createWorld(String path, WorldData data)
-	{
-		if (path == null)
-			throw new WorldRuntimeException("caminho no definido");
-
-		if (data == null)
-			throw new WorldRuntimeException("dados do mapa no definido");
-
-		String folderPathname = FileUtil.getParentPath(path);
-		String folder = data.getFolder();
-
-		if (folder.contains(":"))
-			folderPathname = folder;
-		else
-			folderPathname = FileUtil.adaptPath(String.format("%s/%s", folderPathname, folder));
-
-		if (!path.startsWith(getResourceName()))
-		{
-			if (path.contains(getResourceName()+ "/"))
-				path = path.substring(path.indexOf(getResourceName()), path.length());
-			else
-				path = String.format("%s/%s", getResourceName(), path);
-		}
-
-		if (containResource(path))
-			throw new WorldRuntimeException("mundo j existente (%s)", path);
-
-		WorldRoot root = new WorldRoot(path);
-		root.id = ++count;
-		root.prefix = data.getPrefix();
-		root.width = data.getWidth();
-		root.length = data.getLength();
-		root.terrainDimension = new TerrainDimension(data.getTerrainWidth(), data.getTerrainLength());
-		root.terrainLoader = data.getTerrainLoader();
-		root.folder = new File(folderPathname);
-		root.unit = data.getUnit();
-
-		validateLimits(root);
-
-		logDebug("mapa '%s' lido com xito (id: %d, width: %d, length: %d).\n",
-				root.getFileName(), root.id, root.width, root.length);
-
-		if (!insertResource(root))
-			logWarning("no foi possvel salvar o mapa '%s'.\n", root.getFileName());
-
-		return root.genResource();
-	}
-
-	/**
-	 * Procedimento que ir fazer a verificao da validade dos dados de uma raz para mapa.
-	 * As verificaes consistem em verificar se o tamanho do mapa est dentro dos limites.
-	 * @param root referncia da raz do mapa do qual ser validada.
-	 */
-
-	private void validateLimits(WorldRoot root)
-	{
-		if (root.width < MIN_MAP_SIZE)
-			throw new WorldRuntimeException("falha ao alocar mapa (width: %d, min: %d)", root.width, MIN_MAP_SIZE);
-
-		if (root.width > MAX_MAP_SIZE)
-			throw new WorldRuntimeException("falha ao alocar mapa (width: %d, max: %d)", root.width, MAX_MAP_SIZE);
-
-		if (root.length < MIN_MAP_SIZE)
-			throw new WorldRuntimeException("falha ao alocar mapa (length: %d, min: %d)", root.length, MIN_MAP_SIZE);
-
-		if (root.length > MAX_MAP_SIZE)
-			throw new WorldRuntimeException("falha ao alocar mapa (length: %d, max: %d)", root.length, MAX_MAP_SIZE);
-	}
-
-	@Override
-	protected void toString(ObjectDescription description)
-	{
-		description.append("count", count);
-	}
-
-	/**
-	 * Procedimento que permite obter a nica instncia do carregador de mundos.
-	 * Utiliza o padro Singleton para evitar a existncia de mais instncias.
-	 * @return aquisio da instncia para utilizao do carregador de mundos.
-	 */
-
-	public static WorldLoader getInstance()
-	{
-		return INSTANCE;
-	}
-}
+package com.erakin.api.resources.world;
+
+import static org.diverproject.log.LogSystem.logDebug;
+import static org.diverproject.log.LogSystem.logWarning;
+
+import java.io.File;
+
+import org.diverproject.util.FileUtil;
+import org.diverproject.util.ObjectDescription;
+
+import com.erakin.api.resources.ResourceLoaderDefault;
+import com.erakin.api.resources.ResourceMap;
+import com.erakin.api.resources.ResourceRoot;
+
+/**
+ * <h1>Carregador de Mundos</h1>
+ *
+ * <p>Usada para fazer um gerenciamento avançado dos mundos/terrenos carregadas a partir de arquivos.
+ * Além de carregar, salva as informações em uma pasta virtual em memória para que não seja carregada duas vezes.</p>
+ *
+ * <p>Por exemplo, um mundo chamado <b>terra</b> irá verificar se o mundo já foi carregado no sistema,
+ * caso ele já tenha sido carregado, irá usar as informações do mesmo ao invés de carregar novamente.
+ * Esse sistema permite além de economizar tempo de processamento evitar consumo de memória desnecessário.</p>
+ *
+ * <p>Por padrão o formato dos dados básicos de um mundo são armazenados em um arquivo <b>wdd</b>.
+ * Esse arquivo deve conter o nome do mundo, quantidade de terrenos e a forma como será feita a leitura.
+ * Podendo variar de acordo com a preferência ou necessidade do usuário em relação a informações do mundo.</p>
+ *
+ * @see ResourceMap
+ * @see WorldReader
+ * @see WorldReaderFactory
+ *
+ * @author Andrew Mello
+ */
+
+public class WorldLoader extends ResourceLoaderDefault<World>
+{
+	/**
+	 * Instância para carregador de mundos no padrão de projetos Singleton.
+	 */
+	private static final WorldLoader INSTANCE = new WorldLoader();
+
+	/**
+	 * Nome padrão para mapeamento de mundos.
+	 */
+	public static final String DEFAULT_PATH = "worlds";
+
+	/**
+	 * Dimensão mínima para definir o tamanho de latitude ou longitude em terrenos de um mundo.
+	 */
+	public static final int MIN_MAP_SIZE = 1;
+
+	/**
+	 * Dimensão máxima para definir o tamanho de latitude ou longitude em terrenos de um mundo.
+	 */
+	public static final int MAX_MAP_SIZE = 1024;
+
+
+	/**
+	 * Quantidade de mundos já carregados.
+	 */
+	private int count;
+
+	/**
+	 * Construtor privado para evitar múltiplas instâncias para o carregador de mapas.
+	 * Inicializa o mapeador de recursos definindo o seu nome por padrão <code>DEFAULT_PATH</code>.
+	 */
+
+	private WorldLoader()
+	{
+		super(DEFAULT_PATH);
+	}
+
+	/**
+	 * Permite obter um determinado mapa já carregado ou então forçar o carregamento deste.
+	 * Se o mapa existir irá retornar um mapa temporária dessa raíz caso contrário irá
+	 * criar uma nova raíz carregando as informações do arquivo de acordo com o nome do mapa.
+	 * Utiliza as propriedades de preferências que definem o caminho para arquivos de mapas.
+	 * @param name nome do qual foi dado ao mapa, em outras palavras o nome do arquivo,
+	 * caso não seja definido nenhuma extensão para esse, será considerado <b>map</b> por padrão.
+	 * @return aquisição do objeto de mapa temporário gerado da raíz de acordo com o nome.
+	 * @throws WorldException falha durante a leitura do arquivo ou arquivo com dados corrompidos.
+	 */
+
+	public World getMap(String name) throws WorldException
+	{
+		if (!name.contains("."))
+			name += ".xml";
+
+		ResourceRoot<World> resourceRoot = selectResource(name);
+
+		if (resourceRoot != null)
+		{
+			WorldRoot mapRoot = (WorldRoot) resourceRoot;
+			return mapRoot.genResource();
+		}
+
+		String path = getPathname() + name;
+		WorldReaderFactory factory = WorldReaderFactory.getInstance();
+		WorldReader reader = factory.getMapReaderOf(path);
+
+		try {
+
+			WorldData data = reader.readWorld(new File(path));
+			World map = createWorld(path, data);
+
+			return map;
+
+		} catch (Exception e) {
+			throw new WorldException(e);
+		}
+	}
+
+	/**
+	 * Permite construir um novo mapa a partir das informações abaixo.
+	 * Caso o caminho de alocação já esteja sendo usado por outra não será possível criar.
+	 * Se for possível criar, o mapa raíz será armazenada e gerada uma temporária.
+	 * @param path caminho onde foi localizado o mapa, onde deve ser alocada.
+	 * @param data objeto contendo os dados do mapa para armazenamento.
+	 * @return aquisição de um mapa de uso temporário.
+	 */
+
+	public World createWorld(String path, WorldData data)
+	{
+		if (path == null)
+			throw new WorldRuntimeException("caminho não definido");
+
+		if (data == null)
+			throw new WorldRuntimeException("dados do mapa não definido");
+
+		String folderPathname = FileUtil.getParentPath(path);
+		String folder = data.getFolder();
+
+		if (folder.contains(":"))
+			folderPathname = folder;
+		else
+			folderPathname = FileUtil.adaptPath(String.format("%s/%s", folderPathname, folder));
+
+		if (!path.startsWith(getResourceName()))
+		{
+			if (path.contains(getResourceName()+ "/"))
+				path = path.substring(path.indexOf(getResourceName()), path.length());
+			else
+				path = String.format("%s/%s", getResourceName(), path);
+		}
+
+		if (containResource(path))
+			throw new WorldRuntimeException("mundo já existente (%s)", path);
+
+		WorldRoot root = new WorldRoot(path);
+		root.id = ++count;
+		root.prefix = data.getPrefix();
+		root.width = data.getWidth();
+		root.length = data.getLength();
+		root.terrainDimension = new TerrainDimension(data.getTerrainWidth(), data.getTerrainLength());
+		root.terrainLoader = data.getTerrainLoader();
+		root.folder = new File(folderPathname);
+		root.unit = data.getUnit();
+
+		validateLimits(root);
+
+		logDebug("mapa '%s' lido com êxito (id: %d, width: %d, length: %d).\n",
+				root.getFileName(), root.id, root.width, root.length);
+
+		if (!insertResource(root))
+			logWarning("não foi possível salvar o mapa '%s'.\n", root.getFileName());
+
+		return root.genResource();
+	}
+
+	/**
+	 * Procedimento que irá fazer a verificação da validade dos dados de uma raíz para mapa.
+	 * As verificações consistem em verificar se o tamanho do mapa está dentro dos limites.
+	 * @param root referência da raíz do mapa do qual será validada.
+	 */
+
+	private void validateLimits(WorldRoot root)
+	{
+		if (root.width < MIN_MAP_SIZE)
+			throw new WorldRuntimeException("falha ao alocar mapa (width: %d, min: %d)", root.width, MIN_MAP_SIZE);
+
+		if (root.width > MAX_MAP_SIZE)
+			throw new WorldRuntimeException("falha ao alocar mapa (width: %d, max: %d)", root.width, MAX_MAP_SIZE);
+
+		if (root.length < MIN_MAP_SIZE)
+			throw new WorldRuntimeException("falha ao alocar mapa (length: %d, min: %d)", root.length, MIN_MAP_SIZE);
+
+		if (root.length > MAX_MAP_SIZE)
+			throw new WorldRuntimeException("falha ao alocar mapa (length: %d, max: %d)", root.length, MAX_MAP_SIZE);
+	}
+
+	@Override
+	protected void toString(ObjectDescription description)
+	{
+		description.append("count", count);
+	}
+
+	/**
+	 * Procedimento que permite obter a única instância do carregador de mundos.
+	 * Utiliza o padrão Singleton para evitar a existência de mais instâncias.
+	 * @return aquisição da instância para utilização do carregador de mundos.
+	 */
+
+	public static WorldLoader getInstance()
+	{
+		return INSTANCE;
+	}
+}
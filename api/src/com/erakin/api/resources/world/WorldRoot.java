@@ -1,93 +1,93 @@
-package com.erakin.api.resources.world;
-
-import java.io.File;
-
-import org.diverproject.util.ObjectDescription;
-
-import com.erakin.api.resources.ResourceRoot;
-
-/**
- * <h1>Mundo Raz</h1>
- *
- * <p>Essa raz  permite a construo de novos recursos do tipo mundos (terrenos).
- * Como outra raz qualquer  necessrio o conhecimento de algumas informaes bsicas.
- * Para tal uma identificao, tamanho de acordo com a unidade de medida usada.
- * E o mais importante de tudo a referncia em File da pasta contendo seus arquivos.</p>
- *
- * @see ResourceRoot
- *
- * @author Andrew
- */
-
-public class WorldRoot extends ResourceRoot<World>
-{
-	/**
-	 * Pr-fixo para facilitar a identificao do mundo.
-	 */
-	String prefix;
-
-	/**
-	 * Cdigo de identificao do mundo no sistema da engine.
-	 */
-	int id;
-
-	/**
-	 * Quantidade de terrenos que podem ser alocados no eixo da longitude.
-	 */
-	int width;
-
-	/**
-	 * Quantidade de terrenos que podem ser alocados no eixo da latitude.
-	 */
-	int length;
-
-	/**
-	 * Tamanho de cada unidade (clula) do terreno.
-	 */
-	float unit;
-
-	/**
-	 * Pasta da onde se encontra os arquivos dos terrenos.
-	 */
-	File folder;
-
-	/**
-	 * Carregador de terrenos a ser usado quando necessrio.
-	 */
-	TerrainLoader terrainLoader;
-
-	/**
-	 * Dimenso em que todos os terrenos devem seguir para estar nesse mundo.
-	 */
-	TerrainDimension terrainDimension;
-
-	/**
-	 * Construtor em package para permitir apenas que WorldLoader construa um.
-	 * Isso ir garantir que um Mundo Raz invlido possa ser criado na engine.
-	 * @param filepath caminho do arquivo em disco com os dados do modelo carregado.
-	 */
-
-	WorldRoot(String filepath)
-	{
-		super(filepath);
-	}
-
-	@Override
-	public World genResource()
-	{
-		World map = new World(this);
-		map.setWorldTerrainLoader(terrainLoader);
-		addReference(map);
-
-		return map;
-	}
-
-	@Override
-	public void toString(ObjectDescription description)
-	{
-		description.append("id", id);
-		description.append("width", width);
-		description.append("height", length);
-		description.append("folder", folder == null ? null : folder.getPath());
-	}
-}
+package com.erakin.api.resources.world;
+
+import java.io.File;
+
+import org.diverproject.util.ObjectDescription;
+
+import com.erakin.api.resources.ResourceRoot;
+
+/**
+ * <h1>Mundo Raíz</h1>
+ *
+ * <p>Essa raíz é permite a construção de novos recursos do tipo mundos (terrenos).
+ * Como outra raíz qualquer é necessário o conhecimento de algumas informações básicas.
+ * Para tal uma identificação, tamanho de acordo com a unidade de medida usada.
+ * E o mais importante de tudo a referência em File da pasta contendo seus arquivos.</p>
+ *
+ * @see ResourceRoot
+ *
+ * @author Andrew
+ */
+
+public class WorldRoot extends ResourceRoot<World>
+{
+	/**
+	 * Pré-fixo para facilitar a identificação do mundo.
+	 */
+	String prefix;
+
+	/**
+	 * Código de identificação do mundo no sistema da engine.
+	 */
+	int id;
+
+	/**
+	 * Quantidade de terrenos que podem ser alocados no eixo da longitude.
+	 */
+	int width;
+
+	/**
+	 * Quantidade de terrenos que podem ser alocados no eixo da latitude.
+	 */
+	int length;
+
+	/**
+	 * Tamanho de cada unidade (célula) do terreno.
+	 */
+	float unit;
+
+	/**
+	 * Pasta da onde se encontra os arquivos dos terrenos.
+	 */
+	File folder;
+
+	/**
+	 * Carregador de terrenos a ser usado quando necessário.
+	 */
+	TerrainLoader terrainLoader;
+
+	/**
+	 * Dimensão em que todos os terrenos devem seguir para estar nesse mundo.
+	 */
+	TerrainDimension terrainDimension;
+
+	/**
+	 * Construtor em package para permitir apenas que WorldLoader construa um.
+	 * Isso irá garantir que um Mundo Raíz inválido possa ser criado na engine.
+	 * @param filepath caminho do arquivo em disco com os dados do modelo carregado.
+	 */
+
+	WorldRoot(String filepath)
+	{
+		super(filepath);
+	}
+
+	@Override
+	public World genResource()
+	{
+		World map = new World(this);
+		map.setWorldTerrainLoader(terrainLoader);
+		addReference(map);
+
+		return map;
+	}
+
+	@Override
+	public void toString(ObjectDescription description)
+	{
+		description.append("id", id);
+		description.append("width", width);
+		description.append("height", length);
+		description.append("folder", folder == null ? null : folder.getPath());
+	}
+}
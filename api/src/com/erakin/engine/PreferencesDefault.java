@@ -1,429 +1,429 @@
-package com.erakin.engine;
-
-import static org.diverproject.log.LogSystem.logException;
-import static org.diverproject.log.LogSystem.logWarning;
-
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Iterator;
-
-import org.diverproject.ini.JIni;
-import org.diverproject.ini.JIniException;
-import org.diverproject.util.FileUtil;
-import org.diverproject.util.collection.Map;
-import org.diverproject.util.collection.Map.MapItem;
-import org.diverproject.util.collection.abstraction.DynamicMap;
-import org.diverproject.util.stream.Input;
-import org.diverproject.util.stream.Output;
-import org.diverproject.util.stream.StreamRuntimeException;
-import org.diverproject.util.stream.implementation.input.InputByteArray;
-import org.diverproject.util.stream.implementation.output.OutputStream;
-
-import com.alibaba.fastjson.JSONObject;
-import com.alibaba.fastjson.serializer.SerializerFeature;
-
-/**
- * <h1>Padro de Preferncias</h1>
- *
- * <p>Implementao bsica para o funcionamento de construes de objetos contendo preferncias.
- * Utiliza uma mapeamento dinmico para facilitar a busca das preferncias armazenadas.
- * Garante que os setters definam um valor novo ou atualize se j existir a preferncia.</p>
- *
- * @see Preferences
- *
- * @author Andrew Mello
- */
-
-public class PreferencesDefault implements Preferences
-{
-	/**
-	 * Mapeamento das preferncias que j foram definidas.
-	 */
-	protected final Map<String, Object> options;
-
-	/**
-	 * Inicialize um mapeamento por caracteres dinmico para armazenamento das preferncias.
-	 * Tambm utiliza <code>getOptions</code> para determinar algumas opes iniciais.
-	 */
-
-	public PreferencesDefault()
-	{
-		options = new DynamicMap<String, Object>();
-
-		for (Option option : getOptions())
-			if (option != null)
-				if (!options.add(option.getKey(), option.getValue()))
-					logWarning("falha ao carregar opao (key: %s, value: %s)", option.getKey(), option.getValue());
-	}
-
-	/**
-	 * Garante a inicializao das preferncias a partir da leitura do arquivo.
-	 * Deve fazer a leitura do arquivo que contm as definies de preferncias,
-	 * a forma como o armazenamento/leitura deve ser especificado pelo tipo.
-	 */
-
-	public void initiate()
-	{
-		File file = new File(getPreferencesFilePath());
-
-		if (file.exists())
-		{
-			switch (FileUtil.getExtension(file.getAbsolutePath()))
-			{
-				case "ini":
-					try {
-
-						JIni ini = new JIni(file);
-						ini.load();
-						load(ini);
-
-					} catch (JIniException e) {
-						logWarning("falha ao inicializar preferncias (arquivo: %s)", file.getPath());
-						logException(e);
-					}
-					break;
-
-				case "json":
-					try {
-
-						Input input = new InputByteArray(file);
-						{
-							byte buffer[] = input.getBytes(input.space());
-							String text = new String(buffer);
-							JSONObject jsonObject = JSONObject.parseObject(text);
-							{
-								load(jsonObject);
-							}
-							text = null;
-							buffer = null;
-						}
-						input.close();
-
-					} catch (StreamRuntimeException e) {
-						logWarning("falha ao inicializar preferncias (arquivo: %s)", file.getPath());
-						logException(e);
-					}
-					break;
-			}
-		}
-	}
-
-	/**
-	 * Garante a terminao das preferncias a partir do salvamento do arquivo.
-	 * Deve fazer a escrita do arquivo contendo o valor das preferncias de forma
-	 * que seja possvel ser lida de acordo com o modo de inicializao.
-	 */
-
-	public void termiante()
-	{
-		File temp = new File(getPreferencesFilePath()+ ".temp");
-		File file = new File(getPreferencesFilePath());
-		FileUtil.makeDirs(file);
-
-		switch (FileUtil.getExtension(file.getAbsolutePath()))
-		{
-			case "ini":
-				try {
-
-					JIni ini = new JIni(temp);
-					save(ini);
-					ini.save();
-
-				} catch (JIniException e) {
-					temp.delete();
-					logWarning("falha ao finalizar preferncias (arquivo: %s)", file.getPath());
-					logException(e);
-				}
-				break;
-
-			case "json":
-				try {
-
-					JSONObject jsonObject = new JSONObject();
-					save(jsonObject);
-
-					Output output = new OutputStream(file);
-					output.putBytes(JSONObject.toJSONString(jsonObject, SerializerFeature.PrettyFormat).getBytes());
-					output.flush();
-					output.close();
-
-				} catch (FileNotFoundException | StreamRuntimeException e) {
-					temp.delete();
-					logWarning("falha ao finalizar preferncias (arquivo: %s)", file.getPath());
-					logException(e);
-				}
-				break;
-		}
-
-		temp.renameTo(file);
-	}
-
-	/**
-	 * Carrega as preferncias existentes lidas de um arquivo em formato INI.
-	 * Ir iterar todas as preferncias existentes e atualizar seu valor se carregado.
-	 * Caso o a preferncia no exista ir manter o valor anterior a leitura do INI.
-	 * @param ini referncia do objecto que carrega as configuraes INI carregadas.
-	 */
-
-	protected void load(JIni ini)
-	{
-		Iterator<MapItem<String, Object>> iterator = options.iteratorItems();
-
-		while (iterator.hasNext())
-		{
-			MapItem<String, Object> item = iterator.next();
-
-			if (item.getValue() instanceof Integer && ini.contains(item.getKey()))
-				options.update(item.getKey(), ini.getInt(item.getKey()));
-
-			else if (item.getValue() instanceof Float && ini.contains(item.getKey()))
-				options.update(item.getKey(), ini.getFloat(item.getKey()));
-
-			else if (item.getValue() instanceof Boolean && ini.contains(item.getKey()))
-				options.update(item.getKey(), ini.getBoolean(item.getKey()));
-
-			else if (item.getValue() instanceof String && ini.contains(item.getKey()))
-				options.update(item.getKey(), ini.getString(item.getKey()));
-		}
-	}
-
-	/**
-	 * Carrega as preferncias existentes lidas de um arquivo em formato JSON.
-	 * Ir iterar todas as preferncias existentes e atualizar seu valor se carregado.
-	 * Caso o a preferncia no exista ir manter o valor anterior a leitura do JSON.
-	 * @param json referncia do objecto que carrega as configuraes JSON carregadas.
-	 */
-
-	protected void load(JSONObject json)
-	{
-		Iterator<MapItem<String, Object>> iterator = options.iteratorItems();
-
-		while (iterator.hasNext())
-		{
-			MapItem<String, Object> item = iterator.next();
-
-			if (item.getValue() instanceof Integer && json.containsKey(item.getKey()))
-				options.update(item.getKey(), json.getIntValue(item.getKey()));
-
-			else if (item.getValue() instanceof Float && json.containsKey(item.getKey()))
-				options.update(item.getKey(), json.getFloatValue(item.getKey()));
-
-			else if (item.getValue() instanceof Boolean && json.containsKey(item.getKey()))
-				options.update(item.getKey(), json.getBooleanValue(item.getKey()));
-
-			else if (item.getValue() instanceof String && json.containsKey(item.getKey()))
-				options.update(item.getKey(), json.getString(item.getKey()));
-		}
-	}
-
-	/**
-	 * Salva as preferncias aqui existentes em um arquivo INI atravs do seguinte objeto:
-	 * @param ini referncia do objeto que permite escrever em formato de arquivo INI.
-	 */
-
-	protected void save(JIni ini)
-	{
-		int i = 0;
-		int size = options.size();
-		String keys[] = new String[size];
-		Object values[] = new Object[size];
-
-		for (Object object : options)
-			values[i++] = object;
-
-		Iterator<String> iterator = options.iteratorKey();
-
-		for (i = 0; iterator.hasNext(); i++)
-			keys[i] = iterator.next();
-
-		for (i = 0; i < size; i++)
-		{
-			String key = keys[i];
-			Object value = values[i];
-
-			if (value instanceof Integer)
-				ini.putInt(key, (Integer) value);
-
-			else if (value instanceof Float)
-				ini.putFloat(key, (Float) value);
-
-			else if (value instanceof Boolean)
-				ini.putBoolean(key, (Boolean) value);
-
-			else if (value instanceof String)
-				ini.putString(key, (String) value);
-		}
-	}
-
-	/**
-	 * Salva as preferncias aqui existentes em um arquivo JSON atravs do seguinte objeto:
-	 * @param json referncia do objeto que permite escrever em formato de arquivo JSON.
-	 */
-
-	protected void save(JSONObject json)
-	{
-		int i = 0;
-		int size = options.size();
-		String keys[] = new String[size];
-		Object values[] = new Object[size];
-
-		for (Object object : options)
-			values[i++] = object;
-
-		Iterator<String> iterator = options.iteratorKey();
-
-		for (i = 0; iterator.hasNext(); i++)
-			keys[i] = iterator.next();
-
-		for (i = 0; i < size; i++)
-		{
-			String key = keys[i];
-			Object value = values[i];
-
-			if (value instanceof Integer)
-				json.put(key, (Integer) value);
-
-			else if (value instanceof Float)
-				json.put(key, (Float) value);
-
-			else if (value instanceof Boolean)
-				json.put(key, (Boolean) value);
-
-			else if (value instanceof String)
-				json.put(key, (String) value);
-		}
-	}
-
-	@Override
-	public int getOptionInt(String key)
-	{
-		Object object = options.get(key);
-
-		return object instanceof Integer ? (Integer) object : 0;
-	}
-
-	@Override
-	public void setOptionInt(String key, int value)
-	{
-		if (options.containsKey(key))
-			options.update(key, value);
-		else
-			options.add(key, value);
-	}
-
-	@Override
-	public float getOptionFloat(String key)
-	{
-		Object object = options.get(key);
-
-		return object instanceof Float ? (Float) object : 0f;
-	}
-
-	@Override
-	public void setOptionFloat(String key, float value)
-	{
-		if (options.containsKey(key))
-			options.update(key, value);
-		else
-			options.add(key, value);		
-	}
-
-	@Override
-	public boolean getOptionBoolean(String key)
-	{
-		Object object = options.get(key);
-
-		return object instanceof Boolean ? (Boolean) object : false;
-	}
-
-	@Override
-	public void setOptionBoolean(String key, boolean value)
-	{
-		if (options.containsKey(key))
-			options.update(key, value);
-		else
-			options.add(key, value);		
-	}
-
-	@Override
-	public String getOptionString(String key)
-	{
-		Object object = options.get(key);
-
-		return object instanceof String ? (String) object : "";
-	}
-
-	@Override
-	public void setOptionString(String key, String value)
-	{
-		if (options.containsKey(key))
-			options.update(key, value);
-		else
-			options.add(key, value);		
-	}
-
-	/**
-	 * Usado internamente para determinar o arquivo que ser lido contendo as preferncias salvas.
-	 * @return aquisio do caminho do arquivo contendo as preferncias.
-	 */
-
-	protected String getPreferencesFilePath()
-	{
-		return "preferences.ini";
-	}
-
-	/**
-	 * Para permitir que mesmo se no encontrar um arquivo com preferncias,
-	 * as preferncias padres utilizam esse vetor para garantir que estas vo
-	 * existir, assumindo valores padres pr-definidos durante a construo.
-	 * @return vetor contendo as opes do qual sero usadas como iniciais.
-	 */
-
-	public Option[] getOptions()
-	{
-		return new Option[] {};
-	}
-
-	/**
-	 * @return aquisio da quantidade de opes de preferncias definidas.
-	 */
-
-	public int count()
-	{
-		return options.size();
-	}
-
-	@Override
-	public String toString()
-	{
-		String options = this.options.toString();
-		options = options.substring(11, options.length() - 1);
-
-		return String.format("%s[%s]", getClass().getSimpleName(), options);
-	}
-
-	/**
-	 * <h1>Opo</h1>
-	 *
-	 * <p>As opes nada mais so do que items de mapeamento utilizados nas tabelas espalhadas.
-	 * No possuem nada de diferente, apenas utilizado para melhor identificao da codificao.</p>
-	 *
-	 * @see MapItem
-	 *
-	 * @author Andrew Mello
-	 */
-
-	public class Option extends MapItem<String, Object>
-	{
-		/**
-		 * Constri uma nova opo sendo necessrio determinar o seu valor e chave.
-		 * @param key chave usada para identificar o elemento no mapeador.
-		 * @param value valor armazenado na respectiva chave acima.
-		 */
-
-		public Option(String key, Object value)
-		{
-			super(key, value);
-		}
-	}
-}
+package com.erakin.engine;
+
+import static org.diverproject.log.LogSystem.logException;
+import static org.diverproject.log.LogSystem.logWarning;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Iterator;
+
+import org.diverproject.ini.JIni;
+import org.diverproject.ini.JIniException;
+import org.diverproject.util.FileUtil;
+import org.diverproject.util.collection.Map;
+import org.diverproject.util.collection.Map.MapItem;
+import org.diverproject.util.collection.abstraction.DynamicMap;
+import org.diverproject.util.stream.Input;
+import org.diverproject.util.stream.Output;
+import org.diverproject.util.stream.StreamRuntimeException;
+import org.diverproject.util.stream.implementation.input.InputByteArray;
+import org.diverproject.util.stream.implementation.output.OutputStream;
+
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+
+/**
+ * <h1>Padrão de Preferências</h1>
+ *
+ * <p>Implementação básica para o funcionamento de construções de objetos contendo preferências.
+ * Utiliza uma mapeamento dinâmico para facilitar a busca das preferências armazenadas.
+ * Garante que os setters definam um valor novo ou atualize se já existir a preferência.</p>
+ *
+ * @see Preferences
+ *
+ * @author Andrew Mello
+ */
+
+public class PreferencesDefault implements Preferences
+{
+	/**
+	 * Mapeamento das preferências que já foram definidas.
+	 */
+	protected final Map<String, Object> options;
+
+	/**
+	 * Inicialize um mapeamento por caracteres dinâmico para armazenamento das preferências.
+	 * Também utiliza <code>getOptions</code> para determinar algumas opções iniciais.
+	 */
+
+	public PreferencesDefault()
+	{
+		options = new DynamicMap<String, Object>();
+
+		for (Option option : getOptions())
+			if (option != null)
+				if (!options.add(option.getKey(), option.getValue()))
+					logWarning("falha ao carregar opação (key: %s, value: %s)", option.getKey(), option.getValue());
+	}
+
+	/**
+	 * Garante a inicialização das preferências a partir da leitura do arquivo.
+	 * Deve fazer a leitura do arquivo que contém as definições de preferências,
+	 * a forma como o armazenamento/leitura deve ser especificado pelo tipo.
+	 */
+
+	public void initiate()
+	{
+		File file = new File(getPreferencesFilePath());
+
+		if (file.exists())
+		{
+			switch (FileUtil.getExtension(file.getAbsolutePath()))
+			{
+				case "ini":
+					try {
+
+						JIni ini = new JIni(file);
+						ini.load();
+						load(ini);
+
+					} catch (JIniException e) {
+						logWarning("falha ao inicializar preferências (arquivo: %s)", file.getPath());
+						logException(e);
+					}
+					break;
+
+				case "json":
+					try {
+
+						Input input = new InputByteArray(file);
+						{
+							byte buffer[] = input.getBytes(input.space());
+							String text = new String(buffer);
+							JSONObject jsonObject = JSONObject.parseObject(text);
+							{
+								load(jsonObject);
+							}
+							text = null;
+							buffer = null;
+						}
+						input.close();
+
+					} catch (StreamRuntimeException e) {
+						logWarning("falha ao inicializar preferências (arquivo: %s)", file.getPath());
+						logException(e);
+					}
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Garante a terminação das preferências a partir do salvamento do arquivo.
+	 * Deve fazer a escrita do arquivo contendo o valor das preferências de forma
+	 * que seja possível ser lida de acordo com o modo de inicialização.
+	 */
+
+	public void termiante()
+	{
+		File temp = new File(getPreferencesFilePath()+ ".temp");
+		File file = new File(getPreferencesFilePath());
+		FileUtil.makeDirs(file);
+
+		switch (FileUtil.getExtension(file.getAbsolutePath()))
+		{
+			case "ini":
+				try {
+
+					JIni ini = new JIni(temp);
+					save(ini);
+					ini.save();
+
+				} catch (JIniException e) {
+					temp.delete();
+					logWarning("falha ao finalizar preferências (arquivo: %s)", file.getPath());
+					logException(e);
+				}
+				break;
+
+			case "json":
+				try {
+
+					JSONObject jsonObject = new JSONObject();
+					save(jsonObject);
+
+					Output output = new OutputStream(file);
+					output.putBytes(JSONObject.toJSONString(jsonObject, SerializerFeature.PrettyFormat).getBytes());
+					output.flush();
+					output.close();
+
+				} catch (FileNotFoundException | StreamRuntimeException e) {
+					temp.delete();
+					logWarning("falha ao finalizar preferências (arquivo: %s)", file.getPath());
+					logException(e);
+				}
+				break;
+		}
+
+		temp.renameTo(file);
+	}
+
+	/**
+	 * Carrega as preferências existentes lidas de um arquivo em formato INI.
+	 * Irá iterar todas as preferências existentes e atualizar seu valor se carregado.
+	 * Caso o a preferência não exista irá manter o valor anterior a leitura do INI.
+	 * @param ini referência do objecto que carrega as configurações INI carregadas.
+	 */
+
+	protected void load(JIni ini)
+	{
+		Iterator<MapItem<String, Object>> iterator = options.iteratorItems();
+
+		while (iterator.hasNext())
+		{
+			MapItem<String, Object> item = iterator.next();
+
+			if (item.getValue() instanceof Integer && ini.contains(item.getKey()))
+				options.update(item.getKey(), ini.getInt(item.getKey()));
+
+			else if (item.getValue() instanceof Float && ini.contains(item.getKey()))
+				options.update(item.getKey(), ini.getFloat(item.getKey()));
+
+			else if (item.getValue() instanceof Boolean && ini.contains(item.getKey()))
+				options.update(item.getKey(), ini.getBoolean(item.getKey()));
+
+			else if (item.getValue() instanceof String && ini.contains(item.getKey()))
+				options.update(item.getKey(), ini.getString(item.getKey()));
+		}
+	}
+
+	/**
+	 * Carrega as preferências existentes lidas de um arquivo em formato JSON.
+	 * Irá iterar todas as preferências existentes e atualizar seu valor se carregado.
+	 * Caso o a preferência não exista irá manter o valor anterior a leitura do JSON.
+	 * @param json referência do objecto que carrega as configurações JSON carregadas.
+	 */
+
+	protected void load(JSONObject json)
+	{
+		Iterator<MapItem<String, Object>> iterator = options.iteratorItems();
+
+		while (iterator.hasNext())
+		{
+			MapItem<String, Object> item = iterator.next();
+
+			if (item.getValue() instanceof Integer && json.containsKey(item.getKey()))
+				options.update(item.getKey(), json.getIntValue(item.getKey()));
+
+			else if (item.getValue() instanceof Float && json.containsKey(item.getKey()))
+				options.update(item.getKey(), json.getFloatValue(item.getKey()));
+
+			else if (item.getValue() instanceof Boolean && json.containsKey(item.getKey()))
+				options.update(item.getKey(), json.getBooleanValue(item.getKey()));
+
+			else if (item.getValue() instanceof String && json.containsKey(item.getKey()))
+				options.update(item.getKey(), json.getString(item.getKey()));
+		}
+	}
+
+	/**
+	 * Salva as preferências aqui existentes em um arquivo INI através do seguinte objeto:
+	 * @param ini referência do objeto que permite escrever em formato de arquivo INI.
+	 */
+
+	protected void save(JIni ini)
+	{
+		int i = 0;
+		int size = options.size();
+		String keys[] = new String[size];
+		Object values[] = new Object[size];
+
+		for (Object object : options)
+			values[i++] = object;
+
+		Iterator<String> iterator = options.iteratorKey();
+
+		for (i = 0; iterator.hasNext(); i++)
+			keys[i] = iterator.next();
+
+		for (i = 0; i < size; i++)
+		{
+			String key = keys[i];
+			Object value = values[i];
+
+			if (value instanceof Integer)
+				ini.putInt(key, (Integer) value);
+
+			else if (value instanceof Float)
+				ini.putFloat(key, (Float) value);
+
+			else if (value instanceof Boolean)
+				ini.putBoolean(key, (Boolean) value);
+
+			else if (value instanceof String)
+				ini.putString(key, (String) value);
+		}
+	}
+
+	/**
+	 * Salva as preferências aqui existentes em um arquivo JSON através do seguinte objeto:
+	 * @param json referência do objeto que permite escrever em formato de arquivo JSON.
+	 */
+
+	protected void save(JSONObject json)
+	{
+		int i = 0;
+		int size = options.size();
+		String keys[] = new String[size];
+		Object values[] = new Object[size];
+
+		for (Object object : options)
+			values[i++] = object;
+
+		Iterator<String> iterator = options.iteratorKey();
+
+		for (i = 0; iterator.hasNext(); i++)
+			keys[i] = iterator.next();
+
+		for (i = 0; i < size; i++)
+		{
+			String key = keys[i];
+			Object value = values[i];
+
+			if (value instanceof Integer)
+				json.put(key, (Integer) value);
+
+			else if (value instanceof Float)
+				json.put(key, (Float) value);
+
+			else if (value instanceof Boolean)
+				json.put(key, (Boolean) value);
+
+			else if (value instanceof String)
+				json.put(key, (String) value);
+		}
+	}
+
+	@Override
+	public int getOptionInt(String key)
+	{
+		Object object = options.get(key);
+
+		return object instanceof Integer ? (Integer) object : 0;
+	}
+
+	@Override
+	public void setOptionInt(String key, int value)
+	{
+		if (options.containsKey(key))
+			options.update(key, value);
+		else
+			options.add(key, value);
+	}
+
+	@Override
+	public float getOptionFloat(String key)
+	{
+		Object object = options.get(key);
+
+		return object instanceof Float ? (Float) object : 0f;
+	}
+
+	@Override
+	public void setOptionFloat(String key, float value)
+	{
+		if (options.containsKey(key))
+			options.update(key, value);
+		else
+			options.add(key, value);		
+	}
+
+	@Override
+	public boolean getOptionBoolean(String key)
+	{
+		Object object = options.get(key);
+
+		return object instanceof Boolean ? (Boolean) object : false;
+	}
+
+	@Override
+	public void setOptionBoolean(String key, boolean value)
+	{
+		if (options.containsKey(key))
+			options.update(key, value);
+		else
+			options.add(key, value);		
+	}
+
+	@Override
+	public String getOptionString(String key)
+	{
+		Object object = options.get(key);
+
+		return object instanceof String ? (String) object : "";
+	}
+
+	@Override
+	public void setOptionString(String key, String value)
+	{
+		if (options.containsKey(key))
+			options.update(key, value);
+		else
+			options.add(key, value);		
+	}
+
+	/**
+	 * Usado internamente para determinar o arquivo que será lido contendo as preferências salvas.
+	 * @return aquisição do caminho do arquivo contendo as preferências.
+	 */
+
+	protected String getPreferencesFilePath()
+	{
+		return "preferences.ini";
+	}
+
+	/**
+	 * Para permitir que mesmo se não encontrar um arquivo com preferências,
+	 * as preferências padrões utilizam esse vetor para garantir que estas vão
+	 * existir, assumindo valores padrões pré-definidos durante a construção.
+	 * @return vetor contendo as opções do qual serão usadas como iniciais.
+	 */
+
+	public Option[] getOptions()
+	{
+		return new Option[] {};
+	}
+
+	/**
+	 * @return aquisição da quantidade de opções de preferências definidas.
+	 */
+
+	public int count()
+	{
+		return options.size();
+	}
+
+	@Override
+	public String toString()
+	{
+		String options = this.options.toString();
+		options = options.substring(11, options.length() - 1);
+
+		return String.format("%s[%s]", getClass().getSimpleName(), options);
+	}
+
+	/**
+	 * <h1>Opção</h1>
+	 *
+	 * <p>As opções nada mais são do que items de mapeamento utilizados nas tabelas espalhadas.
+	 * Não possuem nada de diferente, apenas utilizado para melhor identificação da codificação.</p>
+	 *
+	 * @see MapItem
+	 *
+	 * @author Andrew Mello
+	 */
+
+	public class Option extends MapItem<String, Object>
+	{
+		/**
+		 * Constrói uma nova opção sendo necessário determinar o seu valor e chave.
+		 * @param key chave usada para identificar o elemento no mapeador.
+		 * @param value valor armazenado na respectiva chave acima.
+		 */
+
+		public Option(String key, Object value)
+		{
+			super(key, value);
+		}
+	}
+}
@@ -1,104 +1,104 @@
-package com.erakin.engine;
-
-import com.erakin.api.ErakinException;
-
-/**
- * <h1>Configuraes para Preferncias</h1>
- *
- * <p>Classe usada apenas para determinar os objetos contendo os tipos de preferncias que podem ser usados.
- * Sua finalidade  permitir que o desenvolvimento da aplicao permita determinar como funcionar as
- * preferncias do seu jeito, e a partir disso, definir essas aqui para que o engine possa utilizar.</p>
- *
- * <p>Para garantir o seu funcionamento adequadamente, o engine verifica se todos os tipos de preferncias
- * foram definidos, e de modo a garantir que nenhuma delas sejam perdidas no meio da execuo no ir
- * permitir que valores nulos sejam passados para essas preferncias, de modo que no parem de funcionar.</p>
- *
- * @author Andrew Mello
- */
-
-public class PreferencesSettings
-{
-	/**
-	 * Preferncias de vdeo usadas.
-	 */
-	private static Preferences videoPreferences = new PreferencesDefault();
-
-	/**
-	 * Preferncias de diretrios para arquivos.
-	 */
-	private static Preferences folderPreferences = new PreferencesDefault();
-
-	/**
-	 * Construtor privado para evitar instncias desnecessrias dessa classe.
-	 */
-
-	private PreferencesSettings()
-	{
-		
-	}
-
-	/**
-	 * Preferncias de vdeo so usadas para determinar algumas funcionalidades relacionadas ao vdeo.
-	 * Como tamanho da tela, taxa de fps, sincronizao vertical, qualidade de renderizao e outros.
-	 * @return aquisio do objeto contendo as preferncias de vdeo usadas.
-	 */
-
-	public static Preferences getVideoPreferences()
-	{
-		return videoPreferences;
-	}
-
-	/**
-	 * Permite definir qual ser o objeto contendo as preferncias de vdeo a ser usada.
-	 * Caso uma preferncia nula seja definida ser mantida a antiga preferncia.
-	 * @param videoPreferences novas preferncias de vdeo que sero utilizadas.
-	 */
-
-	public static void setVideoPreferences(Preferences videoPreferences)
-	{
-		if (videoPreferences == null)
-			return;
-
-		PreferencesSettings.videoPreferences = videoPreferences;
-	}
-
-	/**
-	 * Preferncia de pastas so usadas para possuir uma padro e melhorar a forma de como ler os arquivos.
-	 * Assim  possvel alterar o diretrio sem a necessidade de modificar linhas de cdigo do programa.
-	 * @return aquisio do objeto contendo as preferncias de pastas usadas.
-	 */
-
-	public static Preferences getFolderPreferences()
-	{
-		return folderPreferences;
-	}
-
-	/**
-	 * Permite definir qual ser o objeto contendo as preferncias de pasta a ser usado.
-	 * Caso uma preferncia nula seja definida ser mantida a antiga preferncia.
-	 * @param folderPreferences novas preferncias de pasta que sero utilizadas.
-	 */
-
-	public static void setFolderPreferences(Preferences folderPreferences)
-	{
-		if (folderPreferences == null)
-			return;
-
-		PreferencesSettings.folderPreferences = folderPreferences;
-	}
-
-	/**
-	 * Usado internamente pelo Engine para garantir que todas as preferncias foram definidas na aplicao.
-	 * Essas preferncias so utilizadas internamente no engine e devem estar definidas para funcionarem.
-	 * @throws ErakinException apenas se alguma das preferncias no tiverem sido definidas.
-	 */
-
-	public static void initiate() throws ErakinException
-	{
-		if (folderPreferences == null)
-			throw new ErakinException("nenhuma preferncia de diretrios foi definida");
-
-		if (videoPreferences == null)
-			throw new ErakinException("nenhuma preferncia de vdeo foi definida");
-	}
-}
+package com.erakin.engine;
+
+import com.erakin.api.ErakinException;
+
+/**
+ * <h1>Configurações para Preferências</h1>
+ *
+ * <p>Classe usada apenas para determinar os objetos contendo os tipos de preferências que podem ser usados.
+ * Sua finalidade é permitir que o desenvolvimento da aplicação permita determinar como funcionará as
+ * preferências do seu jeito, e a partir disso, definir essas aqui para que o engine possa utilizar.</p>
+ *
+ * <p>Para garantir o seu funcionamento adequadamente, o engine verifica se todos os tipos de preferências
+ * foram definidos, e de modo a garantir que nenhuma delas sejam perdidas no meio da execução não irá
+ * permitir que valores nulos sejam passados para essas preferências, de modo que não parem de funcionar.</p>
+ *
+ * @author Andrew Mello
+ */
+
+public class PreferencesSettings
+{
+	/**
+	 * Preferências de vídeo usadas.
+	 */
+	private static Preferences videoPreferences = new PreferencesDefault();
+
+	/**
+	 * Preferências de diretórios para arquivos.
+	 */
+	private static Preferences folderPreferences = new PreferencesDefault();
+
+	/**
+	 * Construtor privado para evitar instâncias desnecessárias dessa classe.
+	 */
+
+	private PreferencesSettings()
+	{
+		
+	}
+
+	/**
+	 * Preferências de vídeo são usadas para determinar algumas funcionalidades relacionadas ao vídeo.
+	 * Como tamanho da tela, taxa de fps, sincronização vertical, qualidade de renderização e outros.
+	 * @return aquisição do objeto contendo as preferências de vídeo usadas.
+	 */
+
+	public static Preferences getVideoPreferences()
+	{
+		return videoPreferences;
+	}
+
+	/**
+	 * Permite definir qual será o objeto contendo as preferências de vídeo a ser usada.
+	 * Caso uma preferência nula seja definida será mantida a antiga preferência.
+	 * @param videoPreferences novas preferências de vídeo que serão utilizadas.
+	 */
+
+	public static void setVideoPreferences(Preferences videoPreferences)
+	{
+		if (videoPreferences == null)
+			return;
+
+		PreferencesSettings.videoPreferences = videoPreferences;
+	}
+
+	/**
+	 * Preferência de pastas são usadas para possuir uma padrão e melhorar a forma de como ler os arquivos.
+	 * Assim é possível alterar o diretório sem a necessidade de modificar linhas de código do programa.
+	 * @return aquisição do objeto contendo as preferências de pastas usadas.
+	 */
+
+	public static Preferences getFolderPreferences()
+	{
+		return folderPreferences;
+	}
+
+	/**
+	 * Permite definir qual será o objeto contendo as preferências de pasta a ser usado.
+	 * Caso uma preferência nula seja definida será mantida a antiga preferência.
+	 * @param folderPreferences novas preferências de pasta que serão utilizadas.
+	 */
+
+	public static void setFolderPreferences(Preferences folderPreferences)
+	{
+		if (folderPreferences == null)
+			return;
+
+		PreferencesSettings.folderPreferences = folderPreferences;
+	}
+
+	/**
+	 * Usado internamente pelo Engine para garantir que todas as preferências foram definidas na aplicação.
+	 * Essas preferências são utilizadas internamente no engine e devem estar definidas para funcionarem.
+	 * @throws ErakinException apenas se alguma das preferências não tiverem sido definidas.
+	 */
+
+	public static void initiate() throws ErakinException
+	{
+		if (folderPreferences == null)
+			throw new ErakinException("nenhuma preferência de diretórios foi definida");
+
+		if (videoPreferences == null)
+			throw new ErakinException("nenhuma preferência de vídeo foi definida");
+	}
+}
@@ -1,25 +1,25 @@
-package com.erakin.engine;
-
-/**
- * <h1>Atualizvel</h1>
- *
- * <p>Quando uma classe implementa essa interface, significa que ela poder ser atualizada no engine.
- *  usado por diversas classes para facilitar a codificao e documentao dessas classes.
- * Possui apenas um mtodo, que  chamado sempre que um novo tick ocorrer no loop do engine.</p>
- *
- * <p>Um grande ponto que ser muito utilizado  a questo do intervalo entre os loops, <b>delay</b>.
- * Esse intervalo  definido em milissegundos e pode ser obtido atravs de cada loop pelo mtodo
- * <code>update</code> do qual ser implementado por essa interface, e tem como objeto atualizar o objeto.</p>
- *
- * @author Andrew Mello
- */
-
-public interface Updatable
-{
-	/**
-	 * Deve possui operaes que atualize todas as funcionalidades necessrias do objeto em questo.
-	 * @param delay quantos milissegundos se passaram desde a ltima atualizao feita.
-	 */
-
-	void update(long delay);
-}
+package com.erakin.engine;
+
+/**
+ * <h1>Atualizável</h1>
+ *
+ * <p>Quando uma classe implementa essa interface, significa que ela poderá ser atualizada no engine.
+ * É usado por diversas classes para facilitar a codificação e documentação dessas classes.
+ * Possui apenas um método, que é chamado sempre que um novo tick ocorrer no loop do engine.</p>
+ *
+ * <p>Um grande ponto que será muito utilizado é a questão do intervalo entre os loops, <b>delay</b>.
+ * Esse intervalo é definido em milissegundos e pode ser obtido através de cada loop pelo método
+ * <code>update</code> do qual será implementado por essa interface, e tem como objeto atualizar o objeto.</p>
+ *
+ * @author Andrew Mello
+ */
+
+public interface Updatable
+{
+	/**
+	 * Deve possui operações que atualize todas as funcionalidades necessárias do objeto em questão.
+	 * @param delay quantos milissegundos se passaram desde a última atualização feita.
+	 */
+
+	void update(long delay);
+}
@@ -1,58 +1,58 @@
-package com.erakin.engine.entity;
-
-import org.lwjgl.util.vector.Vector3f;
-
-import com.erakin.api.resources.model.Model;
-import com.erakin.engine.Updatable;
-
-/**
- * <h1>Entidade</h1>
- *
- * <p>As entidades representam diversos tipos de coisas como objetos de decorao, construes, jogadores, monstros e npcs.
- * Sendo uma interface, ir possuir alguns mtodos bsicos que todas as entidades devero possuir na sua implementao.
- * Esses mtodos so usados principalmente pelos renderizadores para que possam obter dados dessas entidades.</p>
- *
- * <p>Os dados obtidos so referentes a propriedades/atributos que causam interferncia durante a sua renderizao.
- * Como por exemplo os atributos de posicionamento no espao, sua rotao se houver ou o seu tamanho atravs da escala.
- * Outro ponto importante  o modelo usado pela entidade, para determinar como ser sua aparncia ao ser renderizado.</p>
- *
- * @see Updatable
- * @see Model
- *
- * @author Andrew Mello
- */
-
-public interface Entity extends Updatable
-{
-	/**
-	 * Modelagem tri-dimensional  usada para determinar como ser a aparncia da entidade ao ser vista.
-	 * Todas as entidades devem possuir uma modelagem definida, caso contrrio ir comprometer o sistema.
-	 * @return aquisio da modelagem tri-dimensional para visualizao da entidade na tela.
-	 */
-
-	Model getModel();
-
-	/**
-	 * Posio indica em que lugar no espao tri-dimensional estar sendo posicionado a entidade.
-	 * Para a posio ser considerado latitude, longitude e altura respectivos a X, Y e Z.
-	 * @return aquisio do vetor contendo as posies respectivas aos eixos X, Y e Z.
-	 */
-
-	Vector3f getPosition();
-
-	/**
-	 * Rotao pode determinar uma inclinao como tambm indicar que foi girado para um lado.
-	 * A rotao ser trabalhada em float e deve corresponder sempre a valores de 0 a 360.
-	 * @return aquisio do vetor contendo as rotaes respectivas aos eixos X, Y e Z.
-	 */
-
-	Vector3f getRotation();
-
-	/**
-	 * Escala  usada para determinar o quanto ser dimensionado em relao ao tamanho original.
-	 * Todas escalas so definidas em float e tem como tamanho original sempre os <b>1.0f</b>.
-	 * @return aquisio do vetor contendo as escalas respectivas aos eixos X, Y e Z.
-	 */
-
-	Vector3f getScale();
-}
+package com.erakin.engine.entity;
+
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.resources.model.Model;
+import com.erakin.engine.Updatable;
+
+/**
+ * <h1>Entidade</h1>
+ *
+ * <p>As entidades representam diversos tipos de coisas como objetos de decoração, construções, jogadores, monstros e npcs.
+ * Sendo uma interface, irá possuir alguns métodos básicos que todas as entidades deverão possuir na sua implementação.
+ * Esses métodos são usados principalmente pelos renderizadores para que possam obter dados dessas entidades.</p>
+ *
+ * <p>Os dados obtidos são referentes a propriedades/atributos que causam interferência durante a sua renderização.
+ * Como por exemplo os atributos de posicionamento no espaço, sua rotação se houver ou o seu tamanho através da escala.
+ * Outro ponto importante é o modelo usado pela entidade, para determinar como será sua aparência ao ser renderizado.</p>
+ *
+ * @see Updatable
+ * @see Model
+ *
+ * @author Andrew Mello
+ */
+
+public interface Entity extends Updatable
+{
+	/**
+	 * Modelagem tri-dimensional é usada para determinar como será a aparência da entidade ao ser vista.
+	 * Todas as entidades devem possuir uma modelagem definida, caso contrário irá comprometer o sistema.
+	 * @return aquisição da modelagem tri-dimensional para visualização da entidade na tela.
+	 */
+
+	Model getModel();
+
+	/**
+	 * Posição indica em que lugar no espaço tri-dimensional estará sendo posicionado a entidade.
+	 * Para a posição será considerado latitude, longitude e altura respectivos a X, Y e Z.
+	 * @return aquisição do vetor contendo as posições respectivas aos eixos X, Y e Z.
+	 */
+
+	Vector3f getPosition();
+
+	/**
+	 * Rotação pode determinar uma inclinação como também indicar que foi girado para um lado.
+	 * A rotação será trabalhada em float e deve corresponder sempre a valores de 0 a 360.
+	 * @return aquisição do vetor contendo as rotações respectivas aos eixos X, Y e Z.
+	 */
+
+	Vector3f getRotation();
+
+	/**
+	 * Escala é usada para determinar o quanto será dimensionado em relação ao tamanho original.
+	 * Todas escalas são definidas em float e tem como tamanho original sempre os <b>1.0f</b>.
+	 * @return aquisição do vetor contendo as escalas respectivas aos eixos X, Y e Z.
+	 */
+
+	Vector3f getScale();
+}
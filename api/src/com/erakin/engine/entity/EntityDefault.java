@@ -1,191 +1,191 @@
-package com.erakin.engine.entity;
-
-import static com.erakin.api.ErakinAPIUtil.objectString;
-
-import org.diverproject.util.ObjectDescription;
-import org.lwjgl.util.vector.Vector3f;
-
-import com.erakin.api.resources.model.Model;
-
-/**
- * <h1>Entidade Padro</h1>
- *
- * <p>A entidade padro  uma implementao bsica para uma entidade, guardado atributos bsicos do mesmo.
- * Esses atributos so referentes as propriedades posicionamento, rotacionamento e escalamento da entidade.
- * Os atributos podero ser trabalhados atravs de algumas operaes teis e dinmicas.</p>
- *
- * @see Entity
- * @see Model
- *
- * @author Andrew Mello
- */
-
-public abstract class EntityDefault implements Entity
-{
-	/**
-	 * Modelagem tri-dimensional usada para visualizar a entidade.
-	 */
-	private Model model;
-
-	/**
-	 * Vetor contendo os dados de posicionamento no espao.
-	 */
-	private Vector3f position;
-
-	/**
-	 * Vetor contendo as propriedades de rotao.
-	 */
-	private Vector3f rotation;
-
-	/**
-	 * Vetor contendo as propriedades de escalas.
-	 */
-	private Vector3f scale;
-
-	/**
-	 * Constri uma nova entidade padro inicializando alguns atributos para que possam trabalhar.
-	 * Esses atributos so os vetores que armazenam os dados do posicionamento, rotao e escala.
-	 * Para esse caso ser considerado que a escala tenha como valor padro sempre 1.0f (todos eixos).
-	 */
-
-	public EntityDefault()
-	{
-		position = new Vector3f();
-		rotation = new Vector3f();
-		scale = new Vector3f(1.0f, 1.0f, 1.0f);
-	}
-
-	/**
-	 * Define os valores dos quais o posicionamento dever assumir como seus novos valores.
-	 * @param x distncia do ponto central em relao ao eixo da latitude.
-	 * @param y distncia do ponto central em relao ao eixo da altura.
-	 * @param z distncia do ponto central em relao ao eixo da longitude.
-	 */
-
-	public void setPosition(float x, float y, float z)
-	{
-		position.x = x;
-		position.y = y;
-		position.z = z;
-	}
-
-	/**
-	 * Aumenta os valores do posicionamento que esto atualmente definidos de acordo com:
-	 * @param x quanto dever aumentar o eixo da latitude ao ser visualizada.
-	 * @param y quanto dever aumentar o eixo da altura ao ser visualizada.
-	 * @param z quanto dever aumentar o eixo da longitude ao ser visualizada.
-	 */
-
-	public void increasePosition(float x, float y, float z)
-	{
-		position.x += x;
-		position.y += y;
-		position.z += z;
-	}
-
-	/**
-	 * Define valores dos quais a rotao dever assumir como seus novos valores.
-	 * @param pitch ngulo que ir assumir a rotao no eixo da inclinao.
-	 * @param yaw ngulo que ir assumir a rotao no eixo do rolamento.
-	 * @param roll ngulo que ir assumir a rotao no eixo da guinada.
-	 */
-
-	public void setRotation(float pitch, float yaw, float roll)
-	{
-		rotation.x = yaw % 360;
-		rotation.y = pitch % 360;
-		rotation.z = roll % 360;
-	}
-
-	/**
-	 * Aumenta os valores das rotaes que esto atualmente definidas de acordo com:
-	 * @param yaw quanto dever aumentar o eixo da guinada ao ser visualizada.
-	 * @param pitch quanto dever aumentar o eixo de rolamento ao ser visualizada.
-	 * @param roll quanto dever aumentar o eixo da inclinao ao ser visualizada.
-	 */
-
-	public void increaseRotation(float pitch, float yaw, float roll)
-	{
-		rotation.x = (rotation.x + yaw) % 360;
-		rotation.y = (rotation.y + pitch) % 360;
-		rotation.z = (rotation.z + roll) % 360;
-	}
-
-	/**
-	 * Define valores dos quais a escala dever assumir como seus novos valores.
-	 * @param x quanto ter a largura da entidade ao ser visualizada.
-	 * @param y quanto ter o comprimento da entidade ao ser visualizada.
-	 * @param z quanto ter a altura da entidade ao ser visualizada.
-	 */
-
-	public void setScale(float x, float y, float z)
-	{
-		scale.x = x;
-		scale.y = y;
-		scale.z = z;
-	}
-
-	/**
-	 * Aumenta os valores das escalas que esto atualmente definidas de acordo com:
-	 * @param x quanto dever aumentar a largura da entidade ao ser visualizada.
-	 * @param y quanto dever aumentar o comprimento da entidade ao ser visualizada.
-	 * @param z quanto dever aumentar a altura da entidade ao ser visualizada.
-	 */
-
-	public void increaseScale(float x, float y, float z)
-	{
-		scale.x += x;
-		scale.y += y;
-		scale.z += z;
-	}
-
-	/**
-	 * A modelagem tri-dimensional  usada para indicar como ser a sua forma ao ser visualizada.
-	 * Devendo ainda possuir uma textura para ser usada durante a sua renderizao e outros afins.
-	 * @param model referncia do novo modelo tri-dimensional para visualizao da entidade.
-	 */
-
-	public void setModel(Model model)
-	{
-		this.model = model;
-	}
-
-	@Override
-	public Model getModel()
-	{
-		return model;
-	}
-
-	@Override
-	public Vector3f getPosition()
-	{
-		return position;
-	}
-
-	@Override
-	public Vector3f getRotation()
-	{
-		return rotation;
-	}
-
-	@Override
-	public Vector3f getScale()
-	{
-		return scale;
-	}
-
-	@Override
-	public String toString()
-	{
-		ObjectDescription description = new ObjectDescription(getClass());
-
-		if (model != null)
-			description.append("model", model.getID());
-
-		description.append("position", objectString(position));
-		description.append("rotation", objectString(rotation));
-		description.append("scale", objectString(scale));
-
-		return description.toString();
-	}
-}
+package com.erakin.engine.entity;
+
+import static com.erakin.api.ErakinAPIUtil.objectString;
+
+import org.diverproject.util.ObjectDescription;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.resources.model.Model;
+
+/**
+ * <h1>Entidade Padrão</h1>
+ *
+ * <p>A entidade padrão é uma implementação básica para uma entidade, guardado atributos básicos do mesmo.
+ * Esses atributos são referentes as propriedades posicionamento, rotacionamento e escalamento da entidade.
+ * Os atributos poderão ser trabalhados através de algumas operações úteis e dinâmicas.</p>
+ *
+ * @see Entity
+ * @see Model
+ *
+ * @author Andrew Mello
+ */
+
+public abstract class EntityDefault implements Entity
+{
+	/**
+	 * Modelagem tri-dimensional usada para visualizar a entidade.
+	 */
+	private Model model;
+
+	/**
+	 * Vetor contendo os dados de posicionamento no espaço.
+	 */
+	private Vector3f position;
+
+	/**
+	 * Vetor contendo as propriedades de rotação.
+	 */
+	private Vector3f rotation;
+
+	/**
+	 * Vetor contendo as propriedades de escalas.
+	 */
+	private Vector3f scale;
+
+	/**
+	 * Constrói uma nova entidade padrão inicializando alguns atributos para que possam trabalhar.
+	 * Esses atributos são os vetores que armazenam os dados do posicionamento, rotação e escala.
+	 * Para esse caso será considerado que a escala tenha como valor padrão sempre 1.0f (todos eixos).
+	 */
+
+	public EntityDefault()
+	{
+		position = new Vector3f();
+		rotation = new Vector3f();
+		scale = new Vector3f(1.0f, 1.0f, 1.0f);
+	}
+
+	/**
+	 * Define os valores dos quais o posicionamento deverá assumir como seus novos valores.
+	 * @param x distância do ponto central em relação ao eixo da latitude.
+	 * @param y distância do ponto central em relação ao eixo da altura.
+	 * @param z distância do ponto central em relação ao eixo da longitude.
+	 */
+
+	public void setPosition(float x, float y, float z)
+	{
+		position.x = x;
+		position.y = y;
+		position.z = z;
+	}
+
+	/**
+	 * Aumenta os valores do posicionamento que estão atualmente definidos de acordo com:
+	 * @param x quanto deverá aumentar o eixo da latitude ao ser visualizada.
+	 * @param y quanto deverá aumentar o eixo da altura ao ser visualizada.
+	 * @param z quanto deverá aumentar o eixo da longitude ao ser visualizada.
+	 */
+
+	public void increasePosition(float x, float y, float z)
+	{
+		position.x += x;
+		position.y += y;
+		position.z += z;
+	}
+
+	/**
+	 * Define valores dos quais a rotação deverá assumir como seus novos valores.
+	 * @param pitch ângulo que irá assumir a rotação no eixo da inclinação.
+	 * @param yaw ângulo que irá assumir a rotação no eixo do rolamento.
+	 * @param roll ângulo que irá assumir a rotação no eixo da guinada.
+	 */
+
+	public void setRotation(float pitch, float yaw, float roll)
+	{
+		rotation.x = yaw % 360;
+		rotation.y = pitch % 360;
+		rotation.z = roll % 360;
+	}
+
+	/**
+	 * Aumenta os valores das rotações que estão atualmente definidas de acordo com:
+	 * @param yaw quanto deverá aumentar o eixo da guinada ao ser visualizada.
+	 * @param pitch quanto deverá aumentar o eixo de rolamento ao ser visualizada.
+	 * @param roll quanto deverá aumentar o eixo da inclinação ao ser visualizada.
+	 */
+
+	public void increaseRotation(float pitch, float yaw, float roll)
+	{
+		rotation.x = (rotation.x + yaw) % 360;
+		rotation.y = (rotation.y + pitch) % 360;
+		rotation.z = (rotation.z + roll) % 360;
+	}
+
+	/**
+	 * Define valores dos quais a escala deverá assumir como seus novos valores.
+	 * @param x quanto terá a largura da entidade ao ser visualizada.
+	 * @param y quanto terá o comprimento da entidade ao ser visualizada.
+	 * @param z quanto terá a altura da entidade ao ser visualizada.
+	 */
+
+	public void setScale(float x, float y, float z)
+	{
+		scale.x = x;
+		scale.y = y;
+		scale.z = z;
+	}
+
+	/**
+	 * Aumenta os valores das escalas que estão atualmente definidas de acordo com:
+	 * @param x quanto deverá aumentar a largura da entidade ao ser visualizada.
+	 * @param y quanto deverá aumentar o comprimento da entidade ao ser visualizada.
+	 * @param z quanto deverá aumentar a altura da entidade ao ser visualizada.
+	 */
+
+	public void increaseScale(float x, float y, float z)
+	{
+		scale.x += x;
+		scale.y += y;
+		scale.z += z;
+	}
+
+	/**
+	 * A modelagem tri-dimensional é usada para indicar como será a sua forma ao ser visualizada.
+	 * Devendo ainda possuir uma textura para ser usada durante a sua renderização e outros afins.
+	 * @param model referência do novo modelo tri-dimensional para visualização da entidade.
+	 */
+
+	public void setModel(Model model)
+	{
+		this.model = model;
+	}
+
+	@Override
+	public Model getModel()
+	{
+		return model;
+	}
+
+	@Override
+	public Vector3f getPosition()
+	{
+		return position;
+	}
+
+	@Override
+	public Vector3f getRotation()
+	{
+		return rotation;
+	}
+
+	@Override
+	public Vector3f getScale()
+	{
+		return scale;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		if (model != null)
+			description.append("model", model.getID());
+
+		description.append("position", objectString(position));
+		description.append("rotation", objectString(rotation));
+		description.append("scale", objectString(scale));
+
+		return description.toString();
+	}
+}
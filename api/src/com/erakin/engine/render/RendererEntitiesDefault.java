@@ -1,217 +1,422 @@
-package com.erakin.engine.render;
-
-import static org.diverproject.util.Util.nameOf;
-
-import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.collection.Map;
-import org.diverproject.util.collection.Map.MapItem;
-import org.diverproject.util.collection.Queue;
-import org.diverproject.util.collection.abstraction.DynamicMap;
-import org.diverproject.util.collection.abstraction.DynamicQueue;
-
-import com.erakin.api.resources.model.Model;
-import com.erakin.engine.camera.Camera;
-import com.erakin.engine.entity.Entity;
-import com.erakin.engine.world.light.Light;
-
-/**
- * <h1>Renderizador de Entidades Padro</h1>
- *
- * <p>Esse renderizador  uma implementao bsica para gerenciador de entidades que pode ser usado.
- * Implementa a inicializao automtica no mesmo sendo necessrio apenas determinar o que ser iniciado.</p>
- * 
- * <p>Utiliza uma coleo do tipo fila como armazenamento das entidades e usa a fila dinmica para tal.
- * Nesse caso a fila  usada ao final de toda renderizao as entidades sero removidas do mesmo.
- * A forma que essa estrutura trabalha,  o melhor para ser alocado como armazenador das entidades.</p>
- *
- * @see RendererEntities
- * @see Queue
- *
- * @author Andrew Mello
- */
-
-public abstract class RendererEntitiesDefault extends RendererDefault implements RendererEntities
-{
-	/**
-	 * Fila para armazenar as entidades a serem renderizadas.
-	 */
-	private Map<Model, Queue<Entity>> entities;
-
-	/**
-	 * Constri um novo renderizador de entidades padres iniciado a fila para armazenar entidades.
-	 * A fila aqui utilizada  a fila dinmica, que ir usar ns duplos para facilitar a insero.
-	 * @see DynamicQueue
-	 */
-
-	public RendererEntitiesDefault()
-	{
-		entities = new DynamicMap<Model, Queue<Entity>>();
-	}
-
-	@Override
-	public void cleanup()
-	{
-		entities.clear();
-	}
-
-	@Override
-	public final void update(long delay)
-	{
-		for (MapItem<Model, Queue<Entity>> item : entities.iterateItems())
-			for (Entity entity : item.getValue())
-				entity.update(delay);
-	}
-
-	@Override
-	public final void render(long delay)
-	{
-		if (getCamera() == null || getLight() == null)
-			return;
-
-		beforeRender(delay);
-		renderEntities(getMapEntities());
-		afterRender(delay);
-	}
-
-	@Override
-	public final void insert(Entity entity)
-	{
-		Model model = entity.getModel();
-		Queue<Entity> queue;
-
-		if (!entities.containsKey(model))
-		{
-			queue = new DynamicQueue<Entity>();
-			entities.add(model, queue);
-		}
-
-		else
-			queue = entities.get(model);
-
-		queue.offer(entity);
-	}
-
-	/**
-	 * Quando  chamado para fazer a renderizao faz o preparamento (beforeRender) em seguida desenha.
-	 * As entidades so organizadas no mapa atravs da sua modelagem para melhorar a performance.
-	 * Essa melhora de performance  de renderizar todas entidades com o mesmo modelo,
-	 * assim o OpenGL no ter de trocar de VAO sempre que uma nova entidade for renderizada.
-	 * @param entities mapa contendo todas as entidades do qual deve ser renderizada.
-	 */
-
-	private void renderEntities(Map<Model, Queue<Entity>> entities)
-	{
-		for (MapItem<Model, Queue<Entity>> item : entities.iterateItems())
-		{
-			Model model = item.getKey();
-			Queue<Entity> queue = item.getValue();
-
-			beforeRenderEntity(model);
-
-			while (queue.size() > 0)
-				renderEnity(queue.poll());
-
-			afterRenderEntity(model);
-		}
-	}
-
-	/**
-	 * Chamado internamente quando for dito ao renderizador de entidades para ser iniciado.
-	 * Aps definir um atributo como inicializado de modo a facilitar a implementao do mesmo.
-	 */
-
-	protected abstract void subInitiate();
-
-	/**
-	 * Durante a renderizao de entidades, o grupo de entidades com o mesmo modelo so chamados para renderizar.
-	 * Aps fazer a ativao (habilitar uso) da modelagem esse mtodo ser chamado uma nica vez por cada entidade.
-	 * Dever garantir que as entidades sejam renderizadas na tela utilizando sua textura e shader adequados.
-	 * @param entity referncia da entidade do qual est sendo chamada para renderizar.
-	 */
-
-	protected abstract void renderEnity(Entity entity);
-
-	/**
-	 * Antes de fazer a renderizao das entidades,  necessrio habilitar no OpenGL uma modelagem para ser usada.
-	 * Assim que essa for habilitada, as entidades que usam esse modelo sero chamadas para serem renderizadas.
-	 * Esse procedimento pode ainda usar o shader adequadamente de acordo com as informaes da modelagem.
-	 * @param model referncia da modelagem do prximo conjunto de entidades a ser renderizada.
-	 */
-
-	protected abstract void beforeRenderEntity(Model model);
-
-	/**
-	 * Aps fazer a renderizao de um conjunto de entidades especificados, esse procedimento ser chamado.
-	 * Esse conjunto de entidades tem em comum a sua modelagem tri-dimensional usada, <b>model</b>.
-	 * Deve dizer ao OpenGL para desabilitar o uso dessa modelagem ou informaes do shader se necessrio.
-	 * @param model referncia da modelagem do conjunto de entidades que foram renderizada.
-	 */
-
-	protected abstract void afterRenderEntity(Model model);
-
-	/**
-	 * Procedimento chamado assim que for solicitado ao renderizador para renderizar.
-	 * Espera-se que seja feito todo o preparamento necessrio para iniciar a renderizao.
-	 * Por exemplo iniciar a programao shader para realizar os efeitos grficos.
-	 * @param delay quantos milissegundos se passaram desde a ltima renderizao.
-	 */
-
-	protected abstract void beforeRender(long delay);
-
-	/**
-	 * Procedimento chamado somente aps o renderizador ter renderizado todas as entidades.
-	 * Espera-se que seja feito toda a finalizao necessria para concluir a renderizao.
-	 * Por exemplo parar a programao shader evitando uso desnecessrio ou incorreto.
-	 * @param delay quantos milissegundos se passaram desde a ltima renderizao.
-	 */
-
-	protected abstract void afterRender(long delay);
-
-	/**
-	 * Por padro esse renderizador de entidades utiliza a estrutura de fila para armazenar as entidades.
-	 * A maioria das implementaes das filas utilizao de ideia de inserir no final e retirar do comeo.
-	 * Durante a atualizao das entidades  feito uma iterao para no remover as entidades.
-	 * Porm quando  feito a renderizao utiliza da remoo da primeira entidade na fila.
-	 * @return aquisio da fila que ir armazenar as entidades a ser renderizadas.
-	 */
-
-	public Map<Model, Queue<Entity>> getMapEntities()
-	{
-		return entities;
-	}
-
-	/**
-	 * Permite definir uma nova estrutura do tipo file para armazenamento das entidades a ser renderizadas.
-	 * Caso seja definido uma estrutura nula no ser substituda a antiga para prevenir erros no sistema.
-	 * @param entities referncia da nova fila para armazenar as entidades a ser renderizadas.
-	 */
-
-	public void setMapEntities(Map<Model, Queue<Entity>> entities)
-	{
-		if (entities != null)
-			this.entities = entities;
-	}
-
-	/**
-	 * Cmera na renderizao ser usada para que seja possvel criar a matriz de viso.
-	 * Essa matriz de viso  que ir guardar informaes do quanto ser visto na tela.
-	 * @return aquisio da cmera atualmente usada durante a renderizao.
-	 */
-
-	public abstract Camera getCamera();
-
-	/**
-	 * Essa luz deve ser a luz ambiente, como por exemplo a iluminao do sol em campos abertos.
-	 * Ser aplicada a toda e qualquer entidade que for chamada para ser renderizada.
-	 * @return aquisio da iluminao ambiente usada por esse renderizador.
-	 */
-
-	public abstract Light getLight();
-
-	@Override
-	public void toString(ObjectDescription description)
-	{
-		description.append("camera", nameOf(getCamera()));
-		description.append("light", nameOf(getLight()));
-	}
-}
+package com.erakin.engine.render;
+
+import static com.erakin.api.lwjgl.math.Maths.createPositionMatrix;
+import static com.erakin.api.lwjgl.math.Maths.updateTransformationMatrix;
+import static com.erakin.engine.ErakinMaths.createViewMatrix;
+import static org.diverproject.util.Util.nameOf;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Map;
+import org.diverproject.util.collection.Map.MapItem;
+import org.diverproject.util.collection.Queue;
+import org.diverproject.util.collection.abstraction.DynamicMap;
+import org.diverproject.util.collection.abstraction.DynamicQueue;
+import org.lwjgl.util.vector.Matrix4f;
+import org.lwjgl.util.vector.Vector3f;
+import org.lwjgl.util.vector.Vector4f;
+
+import com.erakin.api.lwjgl.math.Frustum;
+import com.erakin.api.resources.model.Model;
+import com.erakin.api.resources.model.ModelLoader;
+import com.erakin.engine.ProjectionMatrix;
+import com.erakin.engine.camera.Camera;
+import com.erakin.engine.entity.Entity;
+import com.erakin.engine.world.light.Light;
+
+/**
+ * <h1>Renderizador de Entidades Padrão</h1>
+ *
+ * <p>Esse renderizador é uma implementação básica para gerenciador de entidades que pode ser usado.
+ * Implementa a inicialização automática no mesmo sendo necessário apenas determinar o que será iniciado.</p>
+ * 
+ * <p>Utiliza uma coleção do tipo fila como armazenamento das entidades e usa a fila dinâmica para tal.
+ * Nesse caso a fila é usada ao final de toda renderização as entidades serão removidas do mesmo.
+ * A forma que essa estrutura trabalha, é o melhor para ser alocado como armazenador das entidades.</p>
+ *
+ * @see RendererEntities
+ * @see Queue
+ *
+ * @author Andrew Mello
+ */
+
+public abstract class RendererEntitiesDefault extends RendererDefault implements RendererEntities
+{
+	/**
+	 * Fila para armazenar as entidades a serem renderizadas.
+	 */
+	private Map<Model, Queue<Entity>> entities;
+
+	/**
+	 * Seleciona o nível de detalhe da modelagem de cada entidade conforme a distância da câmera.
+	 */
+	private boolean levelOfDetail;
+
+	/**
+	 * Descarta os agrupamentos de triângulos fora da visão ou de costas para a câmera.
+	 */
+	private boolean meshletCulling;
+
+	/**
+	 * Matriz de projeção * visão da renderização atual, usada para descartar agrupamentos.
+	 */
+	private final Matrix4f viewProjection;
+
+	/**
+	 * Matriz de transformação da entidade que está sendo renderizada.
+	 */
+	private final Matrix4f transformation;
+
+	/**
+	 * Matriz de transformação enviada ao shader.
+	 */
+	private final Matrix4f renderTransformation;
+
+	/**
+	 * Matriz de conversão das posições quantizadas enviada ao shader.
+	 */
+	private final Matrix4f positionMatrix;
+
+	/**
+	 * Matriz de recorte da entidade (projeção * visão * transformação).
+	 */
+	private final Matrix4f clip;
+
+	/**
+	 * Volume de visão no espaço da modelagem da entidade que está sendo renderizada.
+	 */
+	private final Frustum frustum;
+
+	/**
+	 * Posição da câmera no espaço da modelagem da entidade que está sendo renderizada.
+	 */
+	private final Vector4f cameraPoint;
+
+	/**
+	 * Constrói um novo renderizador de entidades padrões iniciado a fila para armazenar entidades.
+	 * A fila aqui utilizada é a fila dinâmica, que irá usar nós duplos para facilitar a inserção.
+	 * @see DynamicQueue
+	 */
+
+	public RendererEntitiesDefault()
+	{
+		entities = new DynamicMap<Model, Queue<Entity>>();
+		levelOfDetail = true;
+		meshletCulling = true;
+		viewProjection = new Matrix4f();
+		transformation = new Matrix4f();
+		renderTransformation = new Matrix4f();
+		positionMatrix = new Matrix4f();
+		clip = new Matrix4f();
+		frustum = new Frustum();
+		cameraPoint = new Vector4f();
+	}
+
+	@Override
+	public void cleanup()
+	{
+		entities.clear();
+	}
+
+	@Override
+	public final void update(long delay)
+	{
+		for (MapItem<Model, Queue<Entity>> item : entities.iterateItems())
+			for (Entity entity : item.getValue())
+				entity.update(delay);
+	}
+
+	@Override
+	public final void render(long delay)
+	{
+		if (getCamera() == null || getLight() == null)
+			return;
+
+		if (meshletCulling)
+			Matrix4f.mul(ProjectionMatrix.getInstance().getMatrix(), createViewMatrix(getCamera()), viewProjection);
+
+		beforeRender(delay);
+		renderEntities(getMapEntities());
+		afterRender(delay);
+	}
+
+	@Override
+	public final void insert(Entity entity)
+	{
+		Model model = entity.getModel();
+		Queue<Entity> queue;
+
+		if (!entities.containsKey(model))
+		{
+			queue = new DynamicQueue<Entity>();
+			entities.add(model, queue);
+		}
+
+		else
+			queue = entities.get(model);
+
+		queue.offer(entity);
+	}
+
+	/**
+	 * Quando é chamado para fazer a renderização faz o preparamento (beforeRender) em seguida desenha.
+	 * As entidades são organizadas no mapa através da sua modelagem para melhorar a performance.
+	 * Essa melhora de performance é de renderizar todas entidades com o mesmo modelo,
+	 * assim o OpenGL não terá de trocar de VAO sempre que uma nova entidade for renderizada.
+	 * @param entities mapa contendo todas as entidades do qual deve ser renderizada.
+	 */
+
+	private void renderEntities(Map<Model, Queue<Entity>> entities)
+	{
+		for (MapItem<Model, Queue<Entity>> item : entities.iterateItems())
+		{
+			Model model = item.getKey();
+			Queue<Entity> queue = item.getValue();
+
+			beforeRenderEntity(model);
+
+			while (queue.size() > 0)
+			{
+				Entity entity = queue.poll();
+
+				if (levelOfDetail)
+					entity.getModel().selectLevelOfDetail(getCameraDistance(entity));
+
+				if (meshletCulling && entity.getModel().getMeshlets().length > 0)
+					selectMeshlets(entity);
+				else
+					entity.getModel().resetMeshlets();
+
+				renderEnity(entity);
+			}
+
+			afterRenderEntity(model);
+		}
+	}
+
+	/**
+	 * Calcula a distância entre a câmera do renderizador e uma entidade, usada para selecionar o nível de detalhe.
+	 * @param entity referência da entidade do qual será calculada a distância.
+	 * @return aquisição da distância entre a posição da câmera e a posição da entidade.
+	 */
+
+	protected float getCameraDistance(Entity entity)
+	{
+		Camera camera = getCamera();
+		Vector3f position = entity.getPosition();
+
+		float x = position.x - camera.getPositionX();
+		float y = position.y - camera.getPositionY();
+		float z = position.z - camera.getPositionZ();
+
+		return (float) Math.sqrt(x * x + y * y + z * z);
+	}
+
+	/**
+	 * Seleciona os agrupamentos de triângulos visíveis da modelagem de uma entidade. O volume de visão e a câmera
+	 * são levados para o espaço da modelagem através da transformação da entidade, evitando transformar os limites
+	 * de cada agrupamento.
+	 * @param entity referência da entidade do qual serão selecionados os agrupamentos visíveis.
+	 */
+
+	protected void selectMeshlets(Entity entity)
+	{
+		Model model = entity.getModel();
+		Camera camera = getCamera();
+
+		transformation.setIdentity();
+		updateTransformationMatrix(transformation, entity.getPosition(), entity.getRotation(), entity.getScale());
+
+		Matrix4f.mul(viewProjection, transformation, clip);
+		frustum.update(clip);
+
+		if (Matrix4f.invert(transformation, transformation) == null)
+		{
+			model.resetMeshlets();
+			return;
+		}
+
+		cameraPoint.set(camera.getPositionX(), camera.getPositionY(), camera.getPositionZ(), 1f);
+		Matrix4f.transform(transformation, cameraPoint, cameraPoint);
+
+		model.selectMeshlets(frustum, cameraPoint.x, cameraPoint.y, cameraPoint.z);
+	}
+
+	/**
+	 * Obtém a matriz de transformação que deve ser enviada ao shader para renderizar uma entidade,
+	 * formada pela posição, rotação e escala da entidade e aplicada tanto às posições quanto às normais.
+	 * A matriz retornada é reutilizada, sendo válida apenas até a próxima chamada.
+	 * @param entity referência da entidade que será renderizada.
+	 * @return aquisição da matriz de transformação da entidade.
+	 */
+
+	protected Matrix4f getTransformationMatrix(Entity entity)
+	{
+		renderTransformation.setIdentity();
+		updateTransformationMatrix(renderTransformation, entity.getPosition(), entity.getRotation(), entity.getScale());
+
+		return renderTransformation;
+	}
+
+	/**
+	 * Obtém a matriz que converte as posições quantizadas de uma modelagem compactada, identidade para as demais.
+	 * Deve ser enviada ao shader separada da transformação e aplicada somente às posições antes desta,
+	 * já que a sua escala não uniforme distorceria as normais. Pode ser enviada uma vez por modelagem.
+	 * A matriz retornada é reutilizada, sendo válida apenas até a próxima chamada.
+	 * @param model referência da modelagem que será renderizada.
+	 * @return aquisição da matriz de conversão das posições da modelagem.
+	 */
+
+	protected Matrix4f getPositionMatrix(Model model)
+	{
+		return createPositionMatrix(positionMatrix, model.getPositionOffset(), model.getPositionScale());
+	}
+
+	/**
+	 * Quando habilitado, antes de renderizar cada entidade é selecionado o nível de detalhe da sua modelagem
+	 * de acordo com a distância da câmera, desenhando menos triângulos para entidades distantes.
+	 * @return true se o nível de detalhe for selecionado pela distância ou false caso contrário.
+	 */
+
+	public boolean isLevelOfDetail()
+	{
+		return levelOfDetail;
+	}
+
+	/**
+	 * Quando habilitado, antes de renderizar cada entidade é selecionado o nível de detalhe da sua modelagem
+	 * de acordo com a distância da câmera, desenhando menos triângulos para entidades distantes.
+	 * Modelagens sem níveis de detalhe gerados não são afetadas.
+	 * @param levelOfDetail true para selecionar o nível de detalhe pela distância ou false caso contrário.
+	 */
+
+	public void setLevelOfDetail(boolean levelOfDetail)
+	{
+		this.levelOfDetail = levelOfDetail;
+	}
+
+	/**
+	 * Quando habilitado, antes de renderizar cada entidade são selecionados os agrupamentos de triângulos da sua
+	 * modelagem que estão dentro da visão e de frente para a câmera, desenhando apenas as faixas de índices visíveis.
+	 * @return true se os agrupamentos forem descartados ou false caso contrário.
+	 */
+
+	public boolean isMeshletCulling()
+	{
+		return meshletCulling;
+	}
+
+	/**
+	 * Quando habilitado, antes de renderizar cada entidade são selecionados os agrupamentos de triângulos da sua
+	 * modelagem que estão dentro da visão e de frente para a câmera, desenhando apenas as faixas de índices visíveis.
+	 * Modelagens sem agrupamentos gerados não são afetadas.
+	 * @param meshletCulling true para descartar os agrupamentos ou false caso contrário.
+	 * @see ModelLoader#setMeshlets(boolean)
+	 */
+
+	public void setMeshletCulling(boolean meshletCulling)
+	{
+		this.meshletCulling = meshletCulling;
+	}
+
+	/**
+	 * Chamado internamente quando for dito ao renderizador de entidades para ser iniciado.
+	 * Após definir um atributo como inicializado de modo a facilitar a implementação do mesmo.
+	 */
+
+	protected abstract void subInitiate();
+
+	/**
+	 * Durante a renderização de entidades, o grupo de entidades com o mesmo modelo são chamados para renderizar.
+	 * Após fazer a ativação (habilitar uso) da modelagem esse método será chamado uma única vez por cada entidade.
+	 * Deverá garantir que as entidades sejam renderizadas na tela utilizando sua textura e shader adequados.
+	 * A matriz de transformação enviada ao shader pode ser obtida por {@link #getTransformationMatrix(Entity)}.
+	 * @param entity referência da entidade do qual está sendo chamada para renderizar.
+	 */
+
+	protected abstract void renderEnity(Entity entity);
+
+	/**
+	 * Antes de fazer a renderização das entidades, é necessário habilitar no OpenGL uma modelagem para ser usada.
+	 * Assim que essa for habilitada, as entidades que usam esse modelo serão chamadas para serem renderizadas.
+	 * Esse procedimento pode ainda usar o shader adequadamente de acordo com as informações da modelagem,
+	 * como a conversão das posições quantizadas obtida por {@link #getPositionMatrix(Model)}.
+	 * @param model referência da modelagem do próximo conjunto de entidades a ser renderizada.
+	 */
+
+	protected abstract void beforeRenderEntity(Model model);
+
+	/**
+	 * Após fazer a renderização de um conjunto de entidades especificados, esse procedimento será chamado.
+	 * Esse conjunto de entidades tem em comum a sua modelagem tri-dimensional usada, <b>model</b>.
+	 * Deve dizer ao OpenGL para desabilitar o uso dessa modelagem ou informações do shader se necessário.
+	 * @param model referência da modelagem do conjunto de entidades que foram renderizada.
+	 */
+
+	protected abstract void afterRenderEntity(Model model);
+
+	/**
+	 * Procedimento chamado assim que for solicitado ao renderizador para renderizar.
+	 * Espera-se que seja feito todo o preparamento necessário para iniciar a renderização.
+	 * Por exemplo iniciar a programação shader para realizar os efeitos gráficos.
+	 * @param delay quantos milissegundos se passaram desde a última renderização.
+	 */
+
+	protected abstract void beforeRender(long delay);
+
+	/**
+	 * Procedimento chamado somente após o renderizador ter renderizado todas as entidades.
+	 * Espera-se que seja feito toda a finalização necessária para concluir a renderização.
+	 * Por exemplo parar a programação shader evitando uso desnecessário ou incorreto.
+	 * @param delay quantos milissegundos se passaram desde a última renderização.
+	 */
+
+	protected abstract void afterRender(long delay);
+
+	/**
+	 * Por padrão esse renderizador de entidades utiliza a estrutura de fila para armazenar as entidades.
+	 * A maioria das implementações das filas utilização de ideia de inserir no final e retirar do começo.
+	 * Durante a atualização das entidades é feito uma iteração para não remover as entidades.
+	 * Porém quando é feito a renderização utiliza da remoção da primeira entidade na fila.
+	 * @return aquisição da fila que irá armazenar as entidades a ser renderizadas.
+	 */
+
+	public Map<Model, Queue<Entity>> getMapEntities()
+	{
+		return entities;
+	}
+
+	/**
+	 * Permite definir uma nova estrutura do tipo file para armazenamento das entidades a ser renderizadas.
+	 * Caso seja definido uma estrutura nula não será substituída a antiga para prevenir erros no sistema.
+	 * @param entities referência da nova fila para armazenar as entidades a ser renderizadas.
+	 */
+
+	public void setMapEntities(Map<Model, Queue<Entity>> entities)
+	{
+		if (entities != null)
+			this.entities = entities;
+	}
+
+	/**
+	 * Câmera na renderização será usada para que seja possível criar a matriz de visão.
+	 * Essa matriz de visão é que irá guardar informações do quanto será visto na tela.
+	 * @return aquisição da câmera atualmente usada durante a renderização.
+	 */
+
+	public abstract Camera getCamera();
+
+	/**
+	 * Essa luz deve ser a luz ambiente, como por exemplo a iluminação do sol em campos abertos.
+	 * Será aplicada a toda e qualquer entidade que for chamada para ser renderizada.
+	 * @return aquisição da iluminação ambiente usada por esse renderizador.
+	 */
+
+	public abstract Light getLight();
+
+	@Override
+	public void toString(ObjectDescription description)
+	{
+		description.append("camera", nameOf(getCamera()));
+		description.append("light", nameOf(getLight()));
+	}
+}
@@ -1,67 +1,67 @@
-package com.erakin.engine.render;
-
-import com.erakin.engine.Engine;
-import com.erakin.engine.Tickable;
-
-/**
- * <h1>Gerenciador de Renderizao</h1>
- *
- * <p>Toda e qualquer renderizao que for feita durante a execuo dever estar exclusivamente ligada a partir daqui.
- * Dentro do engine ou gerenciador de exibio no se  feito nenhuma renderizao de qualquer objeto existente.
- * As classes que necessitam de uma renderizao podero conter, mas no sero renderizados se no definidos para tal.</p>
- *
- * <p>Suas finalidades como um gerenciador  primeiramente determinar como as renderizaes devem ser feitas.
- * Em seguida garantir um gerenciamento dos objetos como entidades, terrenos, iluminaes dentre outros ativos ou no.
- * Garantir que esses elementos sejam usados apenas quando necessrios e removidos tambm apenas quando necessrio.</p>
- *
- * <p>Possui uma relao bem semelhante as tarefas do engine, onde h um procedimento para inicializao e verificao.
- * Isso  feito para garantir que no haver problemas durante a inicializao do renderizador devido ao uso do OpenGL.</p>
- *
- * @see Tickable
- *
- * @author Andrew Mello
- */
-
-public interface RendererManager extends Tickable
-{
-	/**
-	 * Chamado somente quando o cliente for finalizado ou ainda ento quando for feito uma troca de gerenciador.
-	 * Dever liberar toda e qualquer informao referente a computao grfica (shader) e outros objetos usados.
-	 */
-
-	void cleanup();
-
-	/**
-	 * Para prevenir problemas de instncias por utilizao do OpenGL durante a criao dos renderizadores,
-	 * esse mtodo  usado para conter todo o contedo do construtor que use OpenGL ou tudo preferencialmente.
-	 * Ser chamado somente quando o loop do engine comear a funcionar, assim o OpenGL j ter sido iniciado.
-	 */
-
-	void initiate();
-
-	/**
-	 * Verifica se o renderizador j foi iniciado, uma vez que ele tenha sido iniciado o engine ir ignorar a operao.
-	 * @return true somente se j tiver sido iniciado ou false caso ainda no tenha sido.
-	 */
-
-	boolean isInitiate();
-
-	/**
-	 * Quando o renderizador estiver parado ele no ser chamado para renderizar pela {@link Engine}.
-	 * @return true se estiver parado e no deve renderizar ou false caso contrrio e deve renderizar.
-	 */
-
-	boolean isStoped();
-
-	/**
-	 * Ao parar o renderizador, no ser chamado pela {@link Engine} para efetuar a sua renderizao.
-	 */
-
-	void pause();
-
-	/**
-	 * Ao resumir o renderizador, volta a ser chamado pela {@link Engine} para efetuar sua renderizao.
-	 */
-
-	void resume();
-}
+package com.erakin.engine.render;
+
+import com.erakin.engine.Engine;
+import com.erakin.engine.Tickable;
+
+/**
+ * <h1>Gerenciador de Renderização</h1>
+ *
+ * <p>Toda e qualquer renderização que for feita durante a execução deverá estar exclusivamente ligada a partir daqui.
+ * Dentro do engine ou gerenciador de exibição não se é feito nenhuma renderização de qualquer objeto existente.
+ * As classes que necessitam de uma renderização poderão conter, mas não serão renderizados se não definidos para tal.</p>
+ *
+ * <p>Suas finalidades como um gerenciador é primeiramente determinar como as renderizações devem ser feitas.
+ * Em seguida garantir um gerenciamento dos objetos como entidades, terrenos, iluminações dentre outros ativos ou não.
+ * Garantir que esses elementos sejam usados apenas quando necessários e removidos também apenas quando necessário.</p>
+ *
+ * <p>Possui uma relação bem semelhante as tarefas do engine, onde há um procedimento para inicialização e verificação.
+ * Isso é feito para garantir que não haverá problemas durante a inicialização do renderizador devido ao uso do OpenGL.</p>
+ *
+ * @see Tickable
+ *
+ * @author Andrew Mello
+ */
+
+public interface RendererManager extends Tickable
+{
+	/**
+	 * Chamado somente quando o cliente for finalizado ou ainda então quando for feito uma troca de gerenciador.
+	 * Deverá liberar toda e qualquer informação referente a computação gráfica (shader) e outros objetos usados.
+	 */
+
+	void cleanup();
+
+	/**
+	 * Para prevenir problemas de instâncias por utilização do OpenGL durante a criação dos renderizadores,
+	 * esse método é usado para conter todo o conteúdo do construtor que use OpenGL ou tudo preferencialmente.
+	 * Será chamado somente quando o loop do engine começar a funcionar, assim o OpenGL já terá sido iniciado.
+	 */
+
+	void initiate();
+
+	/**
+	 * Verifica se o renderizador já foi iniciado, uma vez que ele tenha sido iniciado o engine irá ignorar a operação.
+	 * @return true somente se já tiver sido iniciado ou false caso ainda não tenha sido.
+	 */
+
+	boolean isInitiate();
+
+	/**
+	 * Quando o renderizador estiver parado ele não será chamado para renderizar pela {@link Engine}.
+	 * @return true se estiver parado e não deve renderizar ou false caso contrário e deve renderizar.
+	 */
+
+	boolean isStoped();
+
+	/**
+	 * Ao parar o renderizador, não será chamado pela {@link Engine} para efetuar a sua renderização.
+	 */
+
+	void pause();
+
+	/**
+	 * Ao resumir o renderizador, volta a ser chamado pela {@link Engine} para efetuar sua renderização.
+	 */
+
+	void resume();
+}
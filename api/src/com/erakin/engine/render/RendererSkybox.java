@@ -1,26 +1,26 @@
-package com.erakin.engine.render;
-
-import com.erakin.api.render.SkyboxRender;
-
-/**
- * <h1>Renderizador de Cus</h1>
- *
- * <p>Essa interface  usada no gerenciador de renderizao com as funcionalidades padres que deve possuir.
- * Assim  possvel fazer com que as renderizaes possam atuar de formas diferentes para cada aplicao.
- * Podendo ainda melhorar a performance conforme o desenvolvedor deseja ou conforme a aplicao funcione.</p>
- *
- * <p>Possui funcionalidades bsicas relacionadas sempre a cus, somente cus sero trabalhos.
- * Permite definir um nico cu por vez para que possa ser renderizado na tela e sua distncia.</p>
- *
- * @see RendererManager
- * @see SkyboxRender
- *
- * @author Andrew
- */
-
-public interface RendererSkybox extends RendererManager
-{
-	void setSkybox(SkyboxRender skybox);
-
-	void setDistance(float distance);
-}
+package com.erakin.engine.render;
+
+import com.erakin.api.render.SkyboxRender;
+
+/**
+ * <h1>Renderizador de Céus</h1>
+ *
+ * <p>Essa interface é usada no gerenciador de renderização com as funcionalidades padrões que deve possuir.
+ * Assim é possível fazer com que as renderizações possam atuar de formas diferentes para cada aplicação.
+ * Podendo ainda melhorar a performance conforme o desenvolvedor deseja ou conforme a aplicação funcione.</p>
+ *
+ * <p>Possui funcionalidades básicas relacionadas sempre a céus, somente céus serão trabalhos.
+ * Permite definir um único céu por vez para que possa ser renderizado na tela e sua distância.</p>
+ *
+ * @see RendererManager
+ * @see SkyboxRender
+ *
+ * @author Andrew
+ */
+
+public interface RendererSkybox extends RendererManager
+{
+	void setSkybox(SkyboxRender skybox);
+
+	void setDistance(float distance);
+}
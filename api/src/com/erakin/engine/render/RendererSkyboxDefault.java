@@ -1,117 +1,117 @@
-package com.erakin.engine.render;
-
-import static org.diverproject.util.Util.nameOf;
-
-import org.diverproject.util.ObjectDescription;
-
-import com.erakin.api.render.SkyboxRender;
-import com.erakin.engine.camera.Camera;
-
-public abstract class RendererSkyboxDefault extends RendererDefault implements RendererSkybox
-{
-	public static final float DEFAULT_DISTANCE = 500f;
-
-	private SkyboxRender skybox;
-	private float distance;
-
-	/**
-	 * 
-	 */
-
-	public RendererSkyboxDefault()
-	{
-		setDistance(DEFAULT_DISTANCE);
-	}
-
-	@Override
-	public void cleanup()
-	{
-		if (skybox != null)
-		{
-			skybox.getTexture().release();
-			skybox.getModel().release();
-		}
-	}
-
-	@Override
-	public void update(long delay)
-	{
-		
-	}
-
-	@Override
-	public void render(long delay)
-	{
-		if (getCamera() == null || getSkybox() == null)
-			return;
-
-		beforeRender(delay);
-		renderSkybox(getSkybox());
-		afterRender(delay);
-	}
-
-	public SkyboxRender getSkybox()
-	{
-		return skybox;
-	}
-
-	@Override
-	public void setSkybox(SkyboxRender skybox)
-	{
-		this.skybox = skybox;
-	}
-
-	public float getDistance()
-	{
-		return distance;
-	}
-
-	@Override
-	public void setDistance(float distance)
-	{
-		if (distance > 0)
-			this.distance = distance;
-	}
-
-	/**
-	 * Procedimento chamado assim que for solicitado ao renderizador para renderizar.
-	 * Espera-se que seja feito todo o preparamento necessrio para iniciar a renderizao.
-	 * Por exemplo iniciar a programao shader para realizar os efeitos grficos.
-	 * @param delay quantos milissegundos se passaram desde a ltima renderizao.
-	 */
-
-	protected abstract void beforeRender(long delay);
-
-	/**
-	 * Chamado internamente para fazer a renderizao de um determinado cu especificado.
-	 * A renderizao do cu  feita atravs de uma caixa gigante que aps texturizada
-	 * da a impresso da existncia de um cu quando visto os horizontes.
-	 * @param skybox referncia do cu renderizvel do qual ser utilizado.
-	 */
-
-	protected abstract void renderSkybox(SkyboxRender skybox);
-
-	/**
-	 * Procedimento chamado somente aps o renderizador ter renderizado o cu.
-	 * Espera-se que seja feito toda a finalizao necessria para concluir a renderizao.
-	 * Por exemplo parar a programao shader evitando uso desnecessrio ou incorreto.
-	 * @param delay quantos milissegundos se passaram desde a ltima renderizao.
-	 */
-
-	protected abstract void afterRender(long delay);
-
-	/**
-	 * Cmera na renderizao ser usada para que seja possvel criar a matriz de viso.
-	 * Essa matriz de viso  que ir guardar informaes do quanto ser visto na tela.
-	 * @return aquisio da cmera atualmente usada durante a renderizao.
-	 */
-
-	public abstract Camera getCamera();
-
-	@Override
-	public void toString(ObjectDescription description)
-	{
-		description.append("camera", nameOf(getCamera()));
-		description.append("skybox", nameOf(getSkybox()));
-	}
-}
+package com.erakin.engine.render;
+
+import static org.diverproject.util.Util.nameOf;
+
+import org.diverproject.util.ObjectDescription;
+
+import com.erakin.api.render.SkyboxRender;
+import com.erakin.engine.camera.Camera;
+
+public abstract class RendererSkyboxDefault extends RendererDefault implements RendererSkybox
+{
+	public static final float DEFAULT_DISTANCE = 500f;
+
+	private SkyboxRender skybox;
+	private float distance;
+
+	/**
+	 * 
+	 */
+
+	public RendererSkyboxDefault()
+	{
+		setDistance(DEFAULT_DISTANCE);
+	}
+
+	@Override
+	public void cleanup()
+	{
+		if (skybox != null)
+		{
+			skybox.getTexture().release();
+			skybox.getModel().release();
+		}
+	}
+
+	@Override
+	public void update(long delay)
+	{
+		
+	}
+
+	@Override
+	public void render(long delay)
+	{
+		if (getCamera() == null || getSkybox() == null)
+			return;
+
+		beforeRender(delay);
+		renderSkybox(getSkybox());
+		afterRender(delay);
+	}
+
+	public SkyboxRender getSkybox()
+	{
+		return skybox;
+	}
+
+	@Override
+	public void setSkybox(SkyboxRender skybox)
+	{
+		this.skybox = skybox;
+	}
+
+	public float getDistance()
+	{
+		return distance;
+	}
+
+	@Override
+	public void setDistance(float distance)
+	{
+		if (distance > 0)
+			this.distance = distance;
+	}
+
+	/**
+	 * Procedimento chamado assim que for solicitado ao renderizador para renderizar.
+	 * Espera-se que seja feito todo o preparamento necessário para iniciar a renderização.
+	 * Por exemplo iniciar a programação shader para realizar os efeitos gráficos.
+	 * @param delay quantos milissegundos se passaram desde a última renderização.
+	 */
+
+	protected abstract void beforeRender(long delay);
+
+	/**
+	 * Chamado internamente para fazer a renderização de um determinado céu especificado.
+	 * A renderização do céu é feita através de uma caixa gigante que após texturizada
+	 * da a impressão da existência de um céu quando visto os horizontes.
+	 * @param skybox referência do céu renderizável do qual será utilizado.
+	 */
+
+	protected abstract void renderSkybox(SkyboxRender skybox);
+
+	/**
+	 * Procedimento chamado somente após o renderizador ter renderizado o céu.
+	 * Espera-se que seja feito toda a finalização necessária para concluir a renderização.
+	 * Por exemplo parar a programação shader evitando uso desnecessário ou incorreto.
+	 * @param delay quantos milissegundos se passaram desde a última renderização.
+	 */
+
+	protected abstract void afterRender(long delay);
+
+	/**
+	 * Câmera na renderização será usada para que seja possível criar a matriz de visão.
+	 * Essa matriz de visão é que irá guardar informações do quanto será visto na tela.
+	 * @return aquisição da câmera atualmente usada durante a renderização.
+	 */
+
+	public abstract Camera getCamera();
+
+	@Override
+	public void toString(ObjectDescription description)
+	{
+		description.append("camera", nameOf(getCamera()));
+		description.append("skybox", nameOf(getSkybox()));
+	}
+}
@@ -1,48 +1,48 @@
-package com.erakin.engine.render;
-
-import com.erakin.api.lwjgl.math.Vector3i;
-import com.erakin.api.render.WorldRender;
-
-/**
- * <h1>Renderizador para Mundos</h1>
- *
- * <p>Essa interface  usada no gerenciador de renderizao com as funcionalidades padres que deve possuir.
- * Assim  possvel fazer com que as renderizaes possam atuar de formas diferentes para cada aplicao.
- * Podendo ainda melhorar a performance conforme o desenvolvedor deseja ou conforme a aplicao funcione.</p>
- *
- * <p>Possui funcionalidades bem bsicas relacionadas sempre a mundos, somente mundos sero trabalhados.
- * Permite definir um nico mundo por vez para que possa ser renderizado na tela como tambm a posio central
- * em relao ao espao do mundo e a distncia de viso que vai determinar quais terrenos podero ser vistos.</p>
- *
- * @see RendererManager
- * @see WorldRender
- *
- * @author Andrew Mello
- */
-
-public interface RendererWorlds extends RendererManager
-{
-	/**
-	 * Ir indicar qual o mundo que ser usado pelo renderizador para ser renderizado na tela.
-	 * Para que o renderizador funcione,  necessrio definir um novo mundo para se renderizar.
-	 * @param world referncia do mundo renderizvel do qual ser renderizado pelo renderizador de mundos.
-	 */
-
-	void setWorld(WorldRender world);
-
-	/**
-	 * Ao definir a posio de renderizao ser indicado a partir de que ponto ser feito a renderizao.
-	 * A nova posio ser o centro da renderizao, tenho <b>n</b> de distncia do seu ponto renderizado.
-	 * @param position vetor contendo as coordenadas para renderizao do novo mundo nos eixos X, Y e Z.
-	 */
-
-	void setRenderPosition(Vector3i position);
-
-	/**
-	 * Permite definir qual ser o alcance de viso durante a renderizao do mundo.
-	 * Isso ir implicar no qual distante o jogador poder ver ao seu redor.
-	 * @param distance distncia do qual poder ser visualizada na tela.
-	 */
-
-	void setRenderRange(int distance);
-}
+package com.erakin.engine.render;
+
+import com.erakin.api.lwjgl.math.Vector3i;
+import com.erakin.api.render.WorldRender;
+
+/**
+ * <h1>Renderizador para Mundos</h1>
+ *
+ * <p>Essa interface é usada no gerenciador de renderização com as funcionalidades padrões que deve possuir.
+ * Assim é possível fazer com que as renderizações possam atuar de formas diferentes para cada aplicação.
+ * Podendo ainda melhorar a performance conforme o desenvolvedor deseja ou conforme a aplicação funcione.</p>
+ *
+ * <p>Possui funcionalidades bem básicas relacionadas sempre a mundos, somente mundos serão trabalhados.
+ * Permite definir um único mundo por vez para que possa ser renderizado na tela como também a posição central
+ * em relação ao espaço do mundo e a distância de visão que vai determinar quais terrenos poderão ser vistos.</p>
+ *
+ * @see RendererManager
+ * @see WorldRender
+ *
+ * @author Andrew Mello
+ */
+
+public interface RendererWorlds extends RendererManager
+{
+	/**
+	 * Irá indicar qual o mundo que será usado pelo renderizador para ser renderizado na tela.
+	 * Para que o renderizador funcione, é necessário definir um novo mundo para se renderizar.
+	 * @param world referência do mundo renderizável do qual será renderizado pelo renderizador de mundos.
+	 */
+
+	void setWorld(WorldRender world);
+
+	/**
+	 * Ao definir a posição de renderização será indicado a partir de que ponto será feito a renderização.
+	 * A nova posição será o centro da renderização, tenho <b>n</b> de distância do seu ponto renderizado.
+	 * @param position vetor contendo as coordenadas para renderização do novo mundo nos eixos X, Y e Z.
+	 */
+
+	void setRenderPosition(Vector3i position);
+
+	/**
+	 * Permite definir qual será o alcance de visão durante a renderização do mundo.
+	 * Isso irá implicar no qual distante o jogador poderá ver ao seu redor.
+	 * @param distance distância do qual poderá ser visualizada na tela.
+	 */
+
+	void setRenderRange(int distance);
+}
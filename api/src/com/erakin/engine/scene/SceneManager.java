@@ -1,24 +1,24 @@
-package com.erakin.engine.scene;
-
-import com.erakin.engine.Tickable;
-
-/**
- * <h1>Gerenciador de Cenrios</h1>
- *
- * <p>So usados para garantir que a utilizao dos cenrios seja feita adequadamente de acordo com suas especificaes.
- * Devem permitir determinar qual cenrio dever ser usado, podendo ainda se desejvel usar mltiplos cenrios.
- * Utiliza de ticks para manter a atualizao e tambm da renderizao do contedo dos cenrios ativos.</p>
- *
- * <p>O gerenciador poder trabalhar com um ou mais cenrios ativos ao mesmo tempo desde que seja programado para tal.
- * Podendo ainda armazenar da forma que desejar, caso mltiplos cenrios ativos recomenda-se usar colees.
- * Para cada tipo de gerenciamento uma coleo ser requisitada, <b>podendo ser</b> indexada por prioridade ou pilha.</p>
- *
- * @see Tickable
- *
- * @author Andrew Mello
- */
-
-public interface SceneManager extends Tickable
-{
-	
-}
+package com.erakin.engine.scene;
+
+import com.erakin.engine.Tickable;
+
+/**
+ * <h1>Gerenciador de Cenários</h1>
+ *
+ * <p>São usados para garantir que a utilização dos cenários seja feita adequadamente de acordo com suas especificações.
+ * Devem permitir determinar qual cenário deverá ser usado, podendo ainda se desejável usar múltiplos cenários.
+ * Utiliza de ticks para manter a atualização e também da renderização do conteúdo dos cenários ativos.</p>
+ *
+ * <p>O gerenciador poderá trabalhar com um ou mais cenários ativos ao mesmo tempo desde que seja programado para tal.
+ * Podendo ainda armazenar da forma que desejar, caso múltiplos cenários ativos recomenda-se usar coleções.
+ * Para cada tipo de gerenciamento uma coleção será requisitada, <b>podendo ser</b> indexada por prioridade ou pilha.</p>
+ *
+ * @see Tickable
+ *
+ * @author Andrew Mello
+ */
+
+public interface SceneManager extends Tickable
+{
+	
+}
@@ -0,0 +1,131 @@
+package com.erakin.api.lwjgl;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.erakin.api.ErakinRuntimeException;
+
+/**
+ * <h1>Teste do Alocador de Buffer</h1>
+ *
+ * <p>Verifica as alocações e liberações usadas pelos lotes de modelagens sem precisar de um contexto OpenGL:
+ * posições das alocações, junção dos blocos livres vizinhos, liberação dupla e fragmentação.</p>
+ *
+ * @see BufferAllocator
+ *
+ * @author Andrew
+ */
+
+public class BufferAllocatorTest
+{
+	@Test
+	public void testAllocate()
+	{
+		BufferAllocator allocator = new BufferAllocator(100);
+
+		assertEquals(0, allocator.allocate(30));
+		assertEquals(30, allocator.allocate(50));
+		assertEquals(80, allocator.allocate(20));
+		assertEquals(BufferAllocator.NO_SPACE, allocator.allocate(1));
+
+		assertEquals(100, allocator.getUsed());
+		assertEquals(0, allocator.getFree());
+		assertEquals(0, allocator.getFreeBlocks());
+	}
+
+	@Test
+	public void testFreeReusesFirstFit()
+	{
+		BufferAllocator allocator = new BufferAllocator(100);
+
+		int first = allocator.allocate(40);
+		allocator.allocate(40);
+		allocator.free(first, 40);
+
+		assertEquals(0, allocator.allocate(10));
+		assertEquals(10, allocator.allocate(30));
+		assertEquals(80, allocator.allocate(20));
+	}
+
+	@Test
+	public void testMerge()
+	{
+		BufferAllocator allocator = new BufferAllocator(100);
+
+		int a = allocator.allocate(25);
+		int b = allocator.allocate(25);
+		int c = allocator.allocate(25);
+
+		allocator.free(a, 25);
+		allocator.free(c, 25);
+		assertEquals(2, allocator.getFreeBlocks());
+
+		allocator.free(b, 25);
+		assertEquals(1, allocator.getFreeBlocks());
+		assertEquals(100, allocator.getLargestFree());
+		assertEquals(0, allocator.getUsed());
+		assertEquals(0, allocator.allocate(100));
+	}
+
+	@Test(expected = ErakinRuntimeException.class)
+	public void testDoubleFree()
+	{
+		BufferAllocator allocator = new BufferAllocator(100);
+
+		int offset = allocator.allocate(10);
+		allocator.allocate(10);
+
+		allocator.free(offset, 10);
+		allocator.free(offset, 10);
+	}
+
+	@Test(expected = ErakinRuntimeException.class)
+	public void testOverlappingFree()
+	{
+		BufferAllocator allocator = new BufferAllocator(100);
+
+		allocator.allocate(50);
+		allocator.free(40, 20);
+	}
+
+	@Test
+	public void testFragmentation()
+	{
+		BufferAllocator allocator = new BufferAllocator(100);
+		int offsets[] = new int[10];
+
+		for (int i = 0; i < offsets.length; i++)
+			offsets[i] = allocator.allocate(10);
+
+		for (int i = 0; i < offsets.length; i += 2)
+			allocator.free(offsets[i], 10);
+
+		assertEquals(50, allocator.getFree());
+		assertEquals(5, allocator.getFreeBlocks());
+		assertEquals(10, allocator.getLargestFree());
+		assertEquals(BufferAllocator.NO_SPACE, allocator.allocate(20));
+
+		for (int i = 1; i < offsets.length; i += 2)
+			allocator.free(offsets[i], 10);
+
+		assertEquals(1, allocator.getFreeBlocks());
+		assertEquals(100, allocator.getLargestFree());
+	}
+
+	@Test
+	public void testGrowsFreeList()
+	{
+		BufferAllocator allocator = new BufferAllocator(1000);
+		int offsets[] = new int[100];
+
+		for (int i = 0; i < offsets.length; i++)
+			offsets[i] = allocator.allocate(10);
+
+		for (int i = 0; i < offsets.length; i += 2)
+			allocator.free(offsets[i], 10);
+
+		assertEquals(50, allocator.getFreeBlocks());
+		assertEquals(500, allocator.getUsed());
+	}
+}
@@ -0,0 +1,208 @@
+package com.erakin.api.resources.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.lwjgl.util.vector.Matrix4f;
+import org.lwjgl.util.vector.Vector3f;
+
+import com.erakin.api.lwjgl.math.Frustum;
+
+/**
+ * <h1>Teste do Construtor de Agrupamentos</h1>
+ *
+ * <p>Verifica sobre uma grade plana voltada para cima que os agrupamentos respeitam os limites de vértices
+ * e triângulos, que cada triângulo aparece exatamente uma vez nos índices reordenados e que o cone
+ * das normais e o volume de visão descartam apenas os agrupamentos que não podem ser vistos.</p>
+ *
+ * @see ModelMeshletBuilder
+ * @see ModelMeshlet
+ *
+ * @author Andrew
+ */
+
+public class ModelMeshletBuilderTest
+{
+	/**
+	 * Quantidade de vértices em cada eixo da grade.
+	 */
+	private static final int GRID_SIZE = 33;
+
+	@Test
+	public void testDefaultLimits()
+	{
+		checkLimits(ModelMeshletBuilder.DEFAULT_MAX_VERTICES, ModelMeshletBuilder.DEFAULT_MAX_TRIANGLES);
+	}
+
+	@Test
+	public void testSmallLimits()
+	{
+		checkLimits(16, 8);
+		checkLimits(3, 1);
+	}
+
+	@Test
+	public void testBackFacingCone()
+	{
+		float positions[] = createPositions(GRID_SIZE);
+		int indices[] = createGrid(GRID_SIZE);
+
+		for (ModelMeshlet meshlet : ModelMeshletBuilder.build(positions, indices))
+		{
+			Vector3f center = meshlet.getCenter();
+
+			assertTrue(meshlet.getConeCutoff() < 1f);
+			assertFalse("visto de cima", meshlet.isBackFacing(center.x, center.y + 10f, center.z));
+			assertTrue("visto de baixo", meshlet.isBackFacing(center.x, center.y - 10f, center.z));
+		}
+	}
+
+	@Test
+	public void testNoCone()
+	{
+		ModelMeshlet meshlet = new ModelMeshlet(0, 3, new Vector3f(), 1f, new Vector3f(0, 1, 0), ModelMeshlet.NO_CONE);
+
+		assertFalse(meshlet.isBackFacing(0, -10f, 0));
+		assertFalse(meshlet.isBackFacing(0, 10f, 0));
+	}
+
+	@Test
+	public void testFrustumRejection()
+	{
+		Matrix4f clip = new Matrix4f();
+		clip.setIdentity();
+
+		Frustum frustum = new Frustum(clip);
+		ModelMeshlet inside = new ModelMeshlet(0, 3, new Vector3f(0, 0, 0), 0.5f, new Vector3f(0, 1, 0), ModelMeshlet.NO_CONE);
+		ModelMeshlet crossing = new ModelMeshlet(0, 3, new Vector3f(1.5f, 0, 0), 0.6f, new Vector3f(0, 1, 0), ModelMeshlet.NO_CONE);
+		ModelMeshlet outside = new ModelMeshlet(0, 3, new Vector3f(3f, 0, 0), 0.5f, new Vector3f(0, 1, 0), ModelMeshlet.NO_CONE);
+
+		assertTrue(inside.isVisible(frustum, 0, 0, 0));
+		assertTrue(crossing.isVisible(frustum, 0, 0, 0));
+		assertFalse(outside.isVisible(frustum, 0, 0, 0));
+		assertTrue(outside.isVisible(null, 0, 0, 0));
+		assertTrue(outside.isVisible(new Frustum(), 0, 0, 0));
+	}
+
+	/**
+	 * Constrói os agrupamentos de uma grade e verifica os limites e a cobertura dos triângulos.
+	 * @param maxVertices quantidade máxima de vértices em cada agrupamento.
+	 * @param maxTriangles quantidade máxima de triângulos em cada agrupamento.
+	 */
+
+	private void checkLimits(int maxVertices, int maxTriangles)
+	{
+		float positions[] = createPositions(GRID_SIZE);
+		int original[] = createGrid(GRID_SIZE);
+		int indices[] = Arrays.copyOf(original, original.length);
+
+		ModelMeshlet meshlets[] = ModelMeshletBuilder.build(positions, indices, maxVertices, maxTriangles);
+		int next = 0;
+
+		for (ModelMeshlet meshlet : meshlets)
+		{
+			assertEquals("agrupamentos fora de sequência", next, meshlet.getFirstIndex());
+			assertEquals(0, meshlet.getIndexCount() % 3);
+			assertTrue("triângulos: " + meshlet.getIndexCount() / 3, meshlet.getIndexCount() / 3 <= maxTriangles);
+			assertTrue(meshlet.getIndexCount() > 0);
+
+			int vertices[] = Arrays.copyOfRange(indices, meshlet.getFirstIndex(), meshlet.getFirstIndex() + meshlet.getIndexCount());
+			long distinct = Arrays.stream(vertices).distinct().count();
+
+			assertTrue("vértices: " + distinct, distinct <= maxVertices);
+
+			for (int vertex : vertices)
+			{
+				Vector3f center = meshlet.getCenter();
+				float x = positions[vertex * 3] - center.x;
+				float y = positions[vertex * 3 + 1] - center.y;
+				float z = positions[vertex * 3 + 2] - center.z;
+
+				assertTrue("vértice fora da esfera", Math.sqrt(x * x + y * y + z * z) <= meshlet.getRadius() + 1e-4f);
+			}
+
+			next += meshlet.getIndexCount();
+		}
+
+		assertEquals(original.length, next);
+		assertArrayEquals("triângulos perdidos ou repetidos", sortTriangles(original), sortTriangles(indices));
+	}
+
+	/**
+	 * Cria as posições de uma grade plana no plano XZ com uma unidade entre os vértices.
+	 * @param size quantidade de vértices em cada eixo da grade.
+	 * @return aquisição das posições dos vértices (x, y, z) em sequência.
+	 */
+
+	private static float[] createPositions(int size)
+	{
+		float positions[] = new float[size * size * 3];
+
+		for (int vertex = 0; vertex < size * size; vertex++)
+		{
+			positions[vertex * 3] = vertex % size;
+			positions[vertex * 3 + 2] = vertex / size;
+		}
+
+		return positions;
+	}
+
+	/**
+	 * Cria os índices de uma grade com os triângulos voltados para cima (eixo Y positivo).
+	 * @param size quantidade de vértices em cada eixo da grade.
+	 * @return aquisição dos índices dos triângulos da grade.
+	 */
+
+	private static int[] createGrid(int size)
+	{
+		int indices[] = new int[(size - 1) * (size - 1) * 6];
+		int offset = 0;
+
+		for (int z = 0; z < size - 1; z++)
+			for (int x = 0; x < size - 1; x++)
+			{
+				int vertex = z * size + x;
+
+				indices[offset++] = vertex;
+				indices[offset++] = vertex + size;
+				indices[offset++] = vertex + 1;
+				indices[offset++] = vertex + 1;
+				indices[offset++] = vertex + size;
+				indices[offset++] = vertex + size + 1;
+			}
+
+		return indices;
+	}
+
+	/**
+	 * Ordena os triângulos mantendo os índices de cada triângulo, para comparar conjuntos de triângulos.
+	 * @param indices índices dos triângulos, três por triângulo.
+	 * @return aquisição dos índices com os triângulos ordenados.
+	 */
+
+	private static int[] sortTriangles(int indices[])
+	{
+		long triangles[] = new long[indices.length / 3];
+
+		for (int i = 0; i < triangles.length; i++)
+			triangles[i] = ((long) indices[i * 3] << 42) | ((long) indices[i * 3 + 1] << 21) | indices[i * 3 + 2];
+
+		Arrays.sort(triangles);
+
+		int sorted[] = new int[indices.length];
+
+		for (int i = 0; i < triangles.length; i++)
+		{
+			sorted[i * 3] = (int) (triangles[i] >>> 42);
+			sorted[i * 3 + 1] = (int) ((triangles[i] >>> 21) & 0x1FFFFF);
+			sorted[i * 3 + 2] = (int) (triangles[i] & 0x1FFFFF);
+		}
+
+		return sorted;
+	}
+}
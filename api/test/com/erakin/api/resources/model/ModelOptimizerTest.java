@@ -0,0 +1,187 @@
+package com.erakin.api.resources.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * <h1>Teste do Otimizador de Modelagens</h1>
+ *
+ * <p>Verifica sobre uma malha em grade que a reordenação dos triângulos reduz o ACMR e que
+ * a renumeração dos vértices para a ordem de uso mantém exatamente os mesmos triângulos.</p>
+ *
+ * @see ModelOptimizer
+ *
+ * @author Andrew
+ */
+
+public class ModelOptimizerTest
+{
+	/**
+	 * Quantidade de vértices em cada eixo da grade, maior que o cache para que a ordem por linhas seja ruim.
+	 */
+	private static final int GRID_SIZE = 48;
+
+	@Test
+	public void testACMRImproves()
+	{
+		int indices[] = createGrid(GRID_SIZE);
+		int vertexCount = GRID_SIZE * GRID_SIZE;
+
+		float before = ModelOptimizer.getACMR(indices, vertexCount, ModelOptimizer.DEFAULT_ACMR_CACHE_SIZE);
+		int optimized[] = ModelOptimizer.optimizeTriangles(indices, vertexCount);
+		float after = ModelOptimizer.getACMR(optimized, vertexCount, ModelOptimizer.DEFAULT_ACMR_CACHE_SIZE);
+
+		assertTrue("ACMR antes: " + before, before > 0.9f);
+		assertTrue("ACMR depois: " + after, after < 0.8f);
+		assertTrue("ACMR não melhorou", after < before);
+	}
+
+	@Test
+	public void testOptimizeTrianglesKeepsTriangles()
+	{
+		int indices[] = createGrid(GRID_SIZE);
+		int optimized[] = ModelOptimizer.optimizeTriangles(indices, GRID_SIZE * GRID_SIZE);
+
+		assertEquals(indices.length, optimized.length);
+		assertArrayEquals(sortTriangles(indices), sortTriangles(optimized));
+	}
+
+	@Test
+	public void testVertexFetchPreservesTriangles()
+	{
+		int vertexCount = GRID_SIZE * GRID_SIZE + 3;
+		int original[] = ModelOptimizer.optimizeTriangles(createGrid(GRID_SIZE), vertexCount);
+		int indices[] = Arrays.copyOf(original, original.length);
+		int order[] = ModelOptimizer.optimizeVertexFetch(indices, vertexCount);
+
+		assertEquals(vertexCount, order.length);
+
+		for (int i = 0; i < indices.length; i++)
+			assertEquals("índice " + i, original[i], order[indices[i]]);
+
+		int next = 0;
+
+		for (int i = 0; i < indices.length; i++)
+		{
+			assertTrue("vértice fora da ordem de uso", indices[i] <= next);
+
+			if (indices[i] == next)
+				next++;
+		}
+
+		boolean used[] = new boolean[vertexCount];
+
+		for (int vertex : order)
+		{
+			assertTrue("vértice repetido no remapeamento", !used[vertex]);
+			used[vertex] = true;
+		}
+
+		assertEquals(vertexCount - 3, next);
+	}
+
+	@Test
+	public void testOptimizeUpdatesAttributes()
+	{
+		int indices[] = createGrid(GRID_SIZE);
+		int vertexCount = GRID_SIZE * GRID_SIZE;
+
+		ModelIndiceAttribute indiceAttribute = new ModelIndiceAttribute(indices.length);
+		ModelFloatAttribute positions = new ModelFloatAttribute(ModelAttribute.ATTRIB_VERTEX, 3, vertexCount);
+
+		for (int i = 0; i < indices.length; i++)
+			indiceAttribute.setValue(i, indices[i]);
+
+		for (int vertex = 0; vertex < vertexCount; vertex++)
+			positions.setValue3(vertex, vertex % GRID_SIZE, 0, vertex / GRID_SIZE);
+
+		ModelOptimizer optimizer = new ModelOptimizer();
+		optimizer.optimize(indiceAttribute, new ModelAttribute[] { positions });
+
+		assertTrue(optimizer.getACMRAfter() < optimizer.getACMRBefore());
+
+		int restored[] = new int[indices.length];
+
+		for (int i = 0; i < indices.length; i++)
+		{
+			int vertex = indiceAttribute.getValue(i);
+			float x = positions.getBuffer().get(vertex * 3);
+			float z = positions.getBuffer().get(vertex * 3 + 2);
+
+			restored[i] = (int) z * GRID_SIZE + (int) x;
+		}
+
+		assertArrayEquals(sortTriangles(indices), sortTriangles(restored));
+	}
+
+	/**
+	 * Cria os índices de uma grade de vértices com os triângulos ordenados linha por linha.
+	 * @param size quantidade de vértices em cada eixo da grade.
+	 * @return aquisição dos índices dos triângulos da grade.
+	 */
+
+	private static int[] createGrid(int size)
+	{
+		int indices[] = new int[(size - 1) * (size - 1) * 6];
+		int offset = 0;
+
+		for (int y = 0; y < size - 1; y++)
+			for (int x = 0; x < size - 1; x++)
+			{
+				int vertex = y * size + x;
+
+				indices[offset++] = vertex;
+				indices[offset++] = vertex + size;
+				indices[offset++] = vertex + 1;
+				indices[offset++] = vertex + 1;
+				indices[offset++] = vertex + size;
+				indices[offset++] = vertex + size + 1;
+			}
+
+		return indices;
+	}
+
+	/**
+	 * Rotaciona cada triângulo para começar pelo menor índice, mantendo o sentido, e ordena os triângulos.
+	 * @param indices índices dos triângulos, três por triângulo.
+	 * @return aquisição de um vetor que identifica o conjunto de triângulos independente da ordem.
+	 */
+
+	private static int[] sortTriangles(int indices[])
+	{
+		long triangles[] = new long[indices.length / 3];
+
+		for (int i = 0; i < triangles.length; i++)
+		{
+			int a = indices[i * 3], b = indices[i * 3 + 1], c = indices[i * 3 + 2];
+
+			while (a > b || a > c)
+			{
+				int first = a;
+				a = b;
+				b = c;
+				c = first;
+			}
+
+			triangles[i] = ((long) a << 42) | ((long) b << 21) | c;
+		}
+
+		Arrays.sort(triangles);
+
+		int sorted[] = new int[indices.length];
+
+		for (int i = 0; i < triangles.length; i++)
+		{
+			sorted[i * 3] = (int) (triangles[i] >>> 42);
+			sorted[i * 3 + 1] = (int) ((triangles[i] >>> 21) & 0x1FFFFF);
+			sorted[i * 3 + 2] = (int) (triangles[i] & 0x1FFFFF);
+		}
+
+		return sorted;
+	}
+}
@@ -0,0 +1,132 @@
+package com.erakin.api.resources.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * <h1>Teste do Simplificador de Modelagens</h1>
+ *
+ * <p>Verifica sobre uma grade plana que cada nível de detalhe reduz os triângulos do nível anterior
+ * na proporção esperada e que os vértices da borda da grade nunca são colapsados.</p>
+ *
+ * @see ModelSimplifier
+ *
+ * @author Andrew
+ */
+
+public class ModelSimplifierTest
+{
+	/**
+	 * Quantidade de vértices em cada eixo da grade.
+	 */
+	private static final int GRID_SIZE = 33;
+
+	@Test
+	public void testLevelTriangleCount()
+	{
+		float positions[] = createPositions(GRID_SIZE);
+		int indices[] = createGrid(GRID_SIZE);
+		int levels[][] = ModelSimplifier.generateLevels(positions, indices, 3, 0.5f);
+
+		assertEquals(3, levels.length);
+
+		int previous = indices.length / 3;
+
+		for (int level[] : levels)
+		{
+			int triangles = level.length / 3;
+
+			assertEquals(0, level.length % 3);
+			assertTrue("triângulos: " + previous + " -> " + triangles, triangles <= previous * 0.75f);
+			assertTrue("triângulos: " + previous + " -> " + triangles, triangles >= previous * 0.5f - 2);
+
+			previous = triangles;
+		}
+	}
+
+	@Test
+	public void testSimplifyReachesTarget()
+	{
+		float positions[] = createPositions(GRID_SIZE);
+		int indices[] = createGrid(GRID_SIZE);
+		int target = indices.length / 4 / 3 * 3;
+		int simplified[] = ModelSimplifier.simplify(positions, indices, target);
+
+		assertTrue("índices: " + simplified.length, simplified.length <= target + 6);
+
+		for (int i = 0; i < simplified.length; i += 3)
+		{
+			int a = simplified[i], b = simplified[i + 1], c = simplified[i + 2];
+
+			assertTrue("triângulo degenerado", a != b && b != c && a != c);
+		}
+	}
+
+	@Test
+	public void testBorderVerticesLocked()
+	{
+		float positions[] = createPositions(GRID_SIZE);
+		int indices[] = createGrid(GRID_SIZE);
+		int simplified[] = ModelSimplifier.simplify(positions, indices, indices.length / 8 / 3 * 3);
+		boolean used[] = new boolean[GRID_SIZE * GRID_SIZE];
+
+		for (int index : simplified)
+			used[index] = true;
+
+		for (int i = 0; i < GRID_SIZE; i++)
+		{
+			assertTrue("borda inferior " + i, used[i]);
+			assertTrue("borda superior " + i, used[(GRID_SIZE - 1) * GRID_SIZE + i]);
+			assertTrue("borda esquerda " + i, used[i * GRID_SIZE]);
+			assertTrue("borda direita " + i, used[i * GRID_SIZE + GRID_SIZE - 1]);
+		}
+	}
+
+	/**
+	 * Cria as posições de uma grade plana no plano XZ com uma unidade entre os vértices.
+	 * @param size quantidade de vértices em cada eixo da grade.
+	 * @return aquisição das posições dos vértices (x, y, z) em sequência.
+	 */
+
+	private static float[] createPositions(int size)
+	{
+		float positions[] = new float[size * size * 3];
+
+		for (int vertex = 0; vertex < size * size; vertex++)
+		{
+			positions[vertex * 3] = vertex % size;
+			positions[vertex * 3 + 2] = vertex / size;
+		}
+
+		return positions;
+	}
+
+	/**
+	 * Cria os índices de uma grade com os triângulos voltados para cima (eixo Y positivo).
+	 * @param size quantidade de vértices em cada eixo da grade.
+	 * @return aquisição dos índices dos triângulos da grade.
+	 */
+
+	private static int[] createGrid(int size)
+	{
+		int indices[] = new int[(size - 1) * (size - 1) * 6];
+		int offset = 0;
+
+		for (int z = 0; z < size - 1; z++)
+			for (int x = 0; x < size - 1; x++)
+			{
+				int vertex = z * size + x;
+
+				indices[offset++] = vertex;
+				indices[offset++] = vertex + size;
+				indices[offset++] = vertex + 1;
+				indices[offset++] = vertex + 1;
+				indices[offset++] = vertex + size;
+				indices[offset++] = vertex + size + 1;
+			}
+
+		return indices;
+	}
+}